@@ -0,0 +1,104 @@
+package com.autotest.platform.benchmark;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 基准结果门禁
+ * <p>
+ * 对比两份 JMH {@code -rf json} 结果，按 基准名+参数 配对。耗时类模式越小越好，吞吐量模式越大越好；
+ * 劣化超过阈值且差值超出两侧误差之和才判定为回退，避免噪声误报。存在回退时以退出码1结束，供发布流水线拦截。
+ * <pre>
+ * java -cp benchmarks.jar com.autotest.platform.benchmark.BenchmarkGate baseline.json current.json [阈值百分比]
+ * </pre>
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public final class BenchmarkGate {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10.0;
+
+    private BenchmarkGate() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("用法: BenchmarkGate <baseline.json> <current.json> [阈值百分比，默认10]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, JSONObject> baseline = load(args[0]);
+        Map<String, JSONObject> current = load(args[1]);
+
+        int regressions = 0;
+        System.out.println("status\tchange%\tbaseline\tcurrent\tunit\tbenchmark");
+        for (Map.Entry<String, JSONObject> entry : current.entrySet()) {
+            JSONObject now = entry.getValue();
+            JSONObject metric = now.getJSONObject("primaryMetric");
+            JSONObject before = baseline.get(entry.getKey());
+            if (before == null) {
+                System.out.printf("NEW\t-\t-\t%.3f\t%s\t%s%n", metric.getDoubleValue("score"),
+                        metric.getString("scoreUnit"), entry.getKey());
+                continue;
+            }
+            JSONObject baseMetric = before.getJSONObject("primaryMetric");
+            double base = baseMetric.getDoubleValue("score");
+            double score = metric.getDoubleValue("score");
+            double noise = error(baseMetric) + error(metric);
+            boolean higherIsBetter = "thrpt".equals(now.getString("mode"));
+            double worse = higherIsBetter ? base - score : score - base;
+            double change = base == 0 ? 0 : worse / base * 100;
+            String status = "OK";
+            if (change > threshold && worse > noise) {
+                status = "REGRESSION";
+                regressions++;
+            } else if (change < -threshold && -worse > noise) {
+                status = "IMPROVED";
+            }
+            System.out.printf("%s\t%+.1f\t%.3f\t%.3f\t%s\t%s%n", status, change, base, score,
+                    metric.getString("scoreUnit"), entry.getKey());
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                System.out.printf("MISSING\t-\t-\t-\t-\t%s%n", key);
+            }
+        }
+        if (regressions > 0) {
+            System.err.println(regressions + " 项基准劣化超过 " + threshold + "%");
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JSONObject> load(String file) throws IOException {
+        JSONArray results = JSON.parseArray(new String(Files.readAllBytes(Paths.get(file)), StandardCharsets.UTF_8));
+        Map<String, JSONObject> byKey = new TreeMap<>();
+        for (int i = 0; i < results.size(); i++) {
+            JSONObject result = results.getJSONObject(i);
+            StringBuilder key = new StringBuilder(result.getString("benchmark"))
+                    .append(':').append(result.getString("mode"));
+            JSONObject params = result.getJSONObject("params");
+            if (params != null) {
+                for (Map.Entry<String, Object> param : new TreeMap<>(params).entrySet()) {
+                    key.append(',').append(param.getKey()).append('=').append(param.getValue());
+                }
+            }
+            byKey.put(key.toString(), result);
+        }
+        return byKey;
+    }
+
+    private static double error(JSONObject metric) {
+        double error = metric.getDoubleValue("scoreError");
+        // 单次迭代时JMH输出NaN
+        return Double.isNaN(error) ? 0 : error;
+    }
+}
@@ -0,0 +1,97 @@
+package com.autotest.platform.benchmark;
+
+import java.util.Random;
+
+/**
+ * 基准测试数据生成，固定随机种子保证每次运行的输入一致，结果才可对比
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+final class BenchmarkPayloads {
+
+    private static final String[] ACTIONS = {"open", "click", "input", "assert", "wait", "request", "sql"};
+
+    private BenchmarkPayloads() {
+    }
+
+    /**
+     * test_case.test_steps 字段
+     *
+     * @param steps 步骤数
+     * @return JSON数组
+     */
+    static String testSteps(int steps) {
+        Random random = new Random(steps);
+        StringBuilder sb = new StringBuilder(steps * 220).append('[');
+        for (int i = 0; i < steps; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            String action = ACTIONS[random.nextInt(ACTIONS.length)];
+            sb.append("{\"stepNo\":").append(i + 1)
+                    .append(",\"action\":\"").append(action).append('"')
+                    .append(",\"name\":\"步骤").append(i + 1).append('-').append(action).append('"')
+                    .append(",\"locator\":{\"by\":\"xpath\",\"value\":\"//div[@id='node-").append(random.nextInt(10000))
+                    .append("']/span\"}")
+                    .append(",\"value\":\"${var_").append(random.nextInt(50)).append("}\"")
+                    .append(",\"timeout\":").append(1000 + random.nextInt(9000))
+                    .append(",\"continueOnFailure\":").append(random.nextBoolean())
+                    .append(",\"assertions\":[{\"type\":\"equals\",\"expected\":\"ok\"},{\"type\":\"contains\",\"expected\":\"成功\"}]}");
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * test_execution_case.step_results 字段
+     *
+     * @param steps 步骤数
+     * @return JSON数组
+     */
+    static String stepResults(int steps) {
+        Random random = new Random(steps * 31L);
+        StringBuilder sb = new StringBuilder(steps * 260).append('[');
+        long start = 1760000000000L;
+        for (int i = 0; i < steps; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            int duration = random.nextInt(3000);
+            boolean passed = random.nextInt(20) != 0;
+            sb.append("{\"stepNo\":").append(i + 1)
+                    .append(",\"status\":\"").append(passed ? "passed" : "failed").append('"')
+                    .append(",\"startTime\":").append(start)
+                    .append(",\"duration\":").append(duration)
+                    .append(",\"actual\":\"").append(passed ? "ok" : "element not found").append('"')
+                    .append(",\"screenshot\":").append(passed ? "null" : "\"/upload/screenshot/" + i + ".png\"")
+                    .append(",\"logs\":[\"执行步骤").append(i + 1).append("\",\"耗时").append(duration).append("ms\"]}");
+            start += duration;
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * pipeline.pipeline_config 字段
+     *
+     * @param stages 阶段数
+     * @return JSON对象
+     */
+    static String pipelineConfig(int stages) {
+        Random random = new Random(stages * 17L);
+        StringBuilder sb = new StringBuilder(stages * 300).append("{\"name\":\"benchmark\",\"parallel\":true,\"stages\":[");
+        for (int i = 0; i < stages; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"stageNo\":").append(i + 1)
+                    .append(",\"name\":\"阶段").append(i + 1).append('"')
+                    .append(",\"type\":\"").append(i % 3 == 0 ? "suite" : "case").append('"')
+                    .append(",\"suiteIds\":[").append(random.nextInt(500)).append(',').append(random.nextInt(500)).append(']')
+                    .append(",\"environment\":{\"envId\":").append(random.nextInt(20))
+                    .append(",\"variables\":{\"baseUrl\":\"http://test-").append(i).append(".example.com\",\"retry\":")
+                    .append(random.nextInt(3)).append("}}")
+                    .append(",\"condition\":\"${stage").append(Math.max(1, i)).append(".status} == 'passed'\"}");
+        }
+        return sb.append("],\"notify\":{\"email\":[\"qa@example.com\"],\"dingtalk\":true}}").toString();
+    }
+}
@@ -0,0 +1,96 @@
+package com.autotest.platform.benchmark;
+
+import com.autotest.platform.engine.sharding.LptShardPlanner;
+import com.autotest.platform.engine.sharding.ShardCase;
+import com.autotest.platform.engine.sharding.ShardPlan;
+import com.autotest.platform.engine.sharding.WorkStealingDispatcher;
+import com.autotest.platform.engine.sharding.WorkerSlot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 执行引擎用例分发基准
+ * <p>
+ * plan 只测分片规划；dispatch 在规划后模拟节点按虚拟时钟取用例直到取空，实际耗时按预估值随机偏离，
+ * 会触发窃取路径。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CaseDispatchBenchmark {
+
+    @Param({"1000", "10000"})
+    private int cases;
+
+    @Param({"4", "32"})
+    private int workers;
+
+    private List<ShardCase> shardCases;
+
+    private List<WorkerSlot> slots;
+
+    private long[] actualMillis;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(cases * 31L + workers);
+        shardCases = new ArrayList<>(cases);
+        actualMillis = new long[cases + 1];
+        for (int i = 1; i <= cases; i++) {
+            long estimated = 500L + random.nextInt(60000);
+            shardCases.add(new ShardCase((long) i, (long) i, i % 3 == 0 ? "ui" : "api", estimated));
+            actualMillis[i] = Math.max(1L, (long) (estimated * (0.5 + random.nextDouble())));
+        }
+        slots = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            slots.add(new WorkerSlot("worker-" + i, i % 4 == 0 ? 1.5 : 1.0));
+        }
+    }
+
+    @Benchmark
+    public ShardPlan plan() {
+        return new LptShardPlanner().plan(shardCases, slots);
+    }
+
+    @Benchmark
+    public long dispatch() {
+        WorkStealingDispatcher dispatcher = new WorkStealingDispatcher(new LptShardPlanner().plan(shardCases, slots));
+        PriorityQueue<long[]> clock = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+        for (int i = 0; i < workers; i++) {
+            clock.add(new long[]{0L, i});
+        }
+        long makespan = 0L;
+        while (!clock.isEmpty()) {
+            long[] worker = clock.poll();
+            ShardCase next = dispatcher.next(slots.get((int) worker[1]).getWorkerId());
+            if (next == null) {
+                makespan = Math.max(makespan, worker[0]);
+                continue;
+            }
+            worker[0] += actualMillis[next.getExecutionCaseId().intValue()];
+            clock.add(worker);
+        }
+        return makespan;
+    }
+}
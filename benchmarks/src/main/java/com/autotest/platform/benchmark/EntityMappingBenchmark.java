@@ -0,0 +1,143 @@
+package com.autotest.platform.benchmark;
+
+import com.autotest.platform.domain.project.TestProject;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestProject/BaseEntity 结果集映射基准
+ * <p>
+ * 同一张H2内存表分别用 MyBatis 自动映射(下划线转驼峰)和手写JDBC映射读取，两者差值即映射开销。
+ * 每次调用新开会话，避免命中一级缓存。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityMappingBenchmark {
+
+    private static final String SELECT_SQL = "select project_id, project_name, project_desc, status, tenant_id, id,"
+            + " create_by, create_time, update_by, update_time, del_flag from test_project where del_flag = 0";
+
+    @Param({"100", "1000"})
+    private int rows;
+
+    private PooledDataSource dataSource;
+
+    private SqlSessionFactory sessionFactory;
+
+    /**
+     * 与 selectTestProjectList 等价的查询
+     */
+    public interface ProjectMapper {
+
+        @Select(SELECT_SQL)
+        List<TestProject> selectAll();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = new PooledDataSource("org.h2.Driver", "jdbc:h2:mem:mapping" + rows + ";DB_CLOSE_DELAY=-1",
+                "sa", "");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists test_project");
+            statement.execute("create table test_project (project_id bigint primary key, project_name varchar(200),"
+                    + " project_desc varchar(500), status char(1), tenant_id bigint, id bigint, create_by varchar(64),"
+                    + " create_time timestamp, update_by varchar(64), update_time timestamp, del_flag int)");
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "insert into test_project values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)")) {
+                Timestamp now = new Timestamp(System.currentTimeMillis());
+                for (int i = 1; i <= rows; i++) {
+                    insert.setLong(1, i);
+                    insert.setString(2, "项目-" + i);
+                    insert.setString(3, "用于基准测试的项目描述 " + i);
+                    insert.setString(4, i % 10 == 0 ? "1" : "0");
+                    insert.setLong(5, i % 8);
+                    insert.setLong(6, i);
+                    insert.setString(7, "admin");
+                    insert.setTimestamp(8, now);
+                    insert.setString(9, "admin");
+                    insert.setTimestamp(10, now);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+        Configuration configuration = new Configuration(
+                new Environment("benchmark", new JdbcTransactionFactory(), dataSource));
+        configuration.setMapUnderscoreToCamelCase(true);
+        configuration.addMapper(ProjectMapper.class);
+        sessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.forceCloseAll();
+    }
+
+    @Benchmark
+    public List<TestProject> mybatisAutoMapping() {
+        try (SqlSession session = sessionFactory.openSession()) {
+            return session.getMapper(ProjectMapper.class).selectAll();
+        }
+    }
+
+    @Benchmark
+    public List<TestProject> jdbcHandMapping() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(SELECT_SQL);
+             ResultSet rs = statement.executeQuery()) {
+            List<TestProject> projects = new ArrayList<>(rows);
+            while (rs.next()) {
+                TestProject project = new TestProject();
+                project.setProjectId(rs.getLong(1));
+                project.setProjectName(rs.getString(2));
+                project.setProjectDesc(rs.getString(3));
+                project.setStatus(rs.getString(4));
+                project.setTenantId(rs.getLong(5));
+                project.setId(rs.getLong(6));
+                project.setCreateBy(rs.getString(7));
+                project.setCreateTime(rs.getTimestamp(8).toLocalDateTime());
+                project.setUpdateBy(rs.getString(9));
+                project.setUpdateTime(rs.getTimestamp(10).toLocalDateTime());
+                project.setDelFlag(rs.getInt(11));
+                projects.add(project);
+            }
+            return projects;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.autotest.platform.benchmark;
+
+import com.autotest.platform.common.annotation.Excel;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Excel} 注解驱动的导出行写入基准
+ * <p>
+ * perRowReflection 每行重新扫描注解、解析转换表达式和日期格式；cachedAccessors 在导出开始时解析一次，
+ * 两者差值即逐行反射的开销。写入 SXSSF 流式工作簿，不落地文件。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExcelExportBenchmark {
+
+    @Param({"1000", "10000"})
+    private int rows;
+
+    private List<CaseExportRow> data;
+
+    /**
+     * 导出行，字段与用例列表导出一致
+     */
+    public static class CaseExportRow {
+
+        @Excel(name = "用例编号")
+        private String caseCode;
+
+        @Excel(name = "用例名称")
+        private String caseName;
+
+        @Excel(name = "用例类型", readConverterExp = "1=接口,2=UI,3=数据库")
+        private String caseType;
+
+        @Excel(name = "优先级", readConverterExp = "1=高,2=中,3=低")
+        private String priority;
+
+        @Excel(name = "步骤数", cellType = Excel.CellType.NUMERIC)
+        private Integer stepCount;
+
+        @Excel(name = "创建时间", dateFormat = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime createTime;
+
+        /** 不导出 */
+        private String testSteps;
+    }
+
+    @Setup
+    public void setUp() {
+        data = new ArrayList<>(rows);
+        LocalDateTime base = LocalDateTime.of(2026, 1, 1, 0, 0);
+        for (int i = 0; i < rows; i++) {
+            CaseExportRow row = new CaseExportRow();
+            row.caseCode = "TC" + (100000 + i);
+            row.caseName = "用例-" + i + "-登录后下单并支付";
+            row.caseType = String.valueOf(i % 3 + 1);
+            row.priority = String.valueOf(i % 3 + 1);
+            row.stepCount = i % 40;
+            row.createTime = base.plusMinutes(i);
+            row.testSteps = "[]";
+            data.add(row);
+        }
+    }
+
+    @Benchmark
+    public int perRowReflection() throws IllegalAccessException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(500);
+        try {
+            Sheet sheet = workbook.createSheet();
+            int rowNum = 0;
+            for (CaseExportRow item : data) {
+                Row row = sheet.createRow(rowNum++);
+                int col = 0;
+                for (Field field : CaseExportRow.class.getDeclaredFields()) {
+                    Excel excel = field.getAnnotation(Excel.class);
+                    if (excel == null) {
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    Object value = field.get(item);
+                    String converter = excel.readConverterExp();
+                    if (!converter.isEmpty() && value != null) {
+                        value = parseConverter(converter).getOrDefault(value.toString(), value.toString());
+                    }
+                    if (!excel.dateFormat().isEmpty() && value instanceof LocalDateTime) {
+                        value = DateTimeFormatter.ofPattern(excel.dateFormat()).format((LocalDateTime) value);
+                    }
+                    writeCell(row.createCell(col++), value, excel.cellType());
+                }
+            }
+            return rowNum;
+        } finally {
+            workbook.dispose();
+        }
+    }
+
+    @Benchmark
+    public int cachedAccessors() throws IllegalAccessException {
+        List<ColumnAccessor> columns = ColumnAccessor.resolve(CaseExportRow.class);
+        SXSSFWorkbook workbook = new SXSSFWorkbook(500);
+        try {
+            Sheet sheet = workbook.createSheet();
+            int rowNum = 0;
+            for (CaseExportRow item : data) {
+                Row row = sheet.createRow(rowNum++);
+                for (int col = 0; col < columns.size(); col++) {
+                    ColumnAccessor column = columns.get(col);
+                    writeCell(row.createCell(col), column.read(item), column.cellType);
+                }
+            }
+            return rowNum;
+        } finally {
+            workbook.dispose();
+        }
+    }
+
+    private static void writeCell(Cell cell, Object value, Excel.CellType cellType) {
+        if (value == null) {
+            cell.setCellValue("");
+        } else if (cellType == Excel.CellType.NUMERIC && value instanceof Number) {
+            cell.setCellValue(((Number) value).doubleValue());
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+
+    private static Map<String, String> parseConverter(String expression) {
+        Map<String, String> mapping = new HashMap<>();
+        for (String item : expression.split(",")) {
+            String[] pair = item.split("=", 2);
+            if (pair.length == 2) {
+                mapping.put(pair[0], pair[1]);
+            }
+        }
+        return mapping;
+    }
+
+    /**
+     * 导出开始时解析好的列：字段、转换表、日期格式
+     */
+    private static final class ColumnAccessor {
+
+        private final Field field;
+
+        private final Map<String, String> converter;
+
+        private final DateTimeFormatter formatter;
+
+        private final Excel.CellType cellType;
+
+        private ColumnAccessor(Field field, Excel excel) {
+            field.setAccessible(true);
+            this.field = field;
+            this.converter = excel.readConverterExp().isEmpty() ? null : parseConverter(excel.readConverterExp());
+            this.formatter = excel.dateFormat().isEmpty() ? null : DateTimeFormatter.ofPattern(excel.dateFormat());
+            this.cellType = excel.cellType();
+        }
+
+        static List<ColumnAccessor> resolve(Class<?> type) {
+            List<ColumnAccessor> columns = new ArrayList<>();
+            for (Field field : type.getDeclaredFields()) {
+                Excel excel = field.getAnnotation(Excel.class);
+                if (excel != null) {
+                    columns.add(new ColumnAccessor(field, excel));
+                }
+            }
+            return columns;
+        }
+
+        Object read(Object row) throws IllegalAccessException {
+            Object value = field.get(row);
+            if (value == null) {
+                return null;
+            }
+            if (converter != null) {
+                return converter.getOrDefault(value.toString(), value.toString());
+            }
+            if (formatter != null && value instanceof LocalDateTime) {
+                return formatter.format((LocalDateTime) value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.autotest.platform.benchmark;
+
+import com.alibaba.fastjson.JSON;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 大JSON字段解析/序列化基准：fastjson 与 Jackson 对比
+ * <p>
+ * 覆盖 test_steps、step_results、pipeline_config 三个字段，size 为步骤数或阶段数。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonColumnBenchmark {
+
+    @Param({"test_steps", "step_results", "pipeline_config"})
+    private String column;
+
+    @Param({"50", "500"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String text;
+
+    private Object fastjsonValue;
+
+    private JsonNode jacksonValue;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        switch (column) {
+            case "test_steps":
+                text = BenchmarkPayloads.testSteps(size);
+                break;
+            case "step_results":
+                text = BenchmarkPayloads.stepResults(size);
+                break;
+            case "pipeline_config":
+                text = BenchmarkPayloads.pipelineConfig(size);
+                break;
+            default:
+                throw new IllegalArgumentException("未知字段: " + column);
+        }
+        fastjsonValue = JSON.parse(text);
+        jacksonValue = objectMapper.readTree(text);
+    }
+
+    @Benchmark
+    public Object fastjsonParse() {
+        return JSON.parse(text);
+    }
+
+    @Benchmark
+    public JsonNode jacksonParse() throws JsonProcessingException {
+        return objectMapper.readTree(text);
+    }
+
+    @Benchmark
+    public String fastjsonWrite() {
+        return JSON.toJSONString(fastjsonValue);
+    }
+
+    @Benchmark
+    public String jacksonWrite() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(jacksonValue);
+    }
+}
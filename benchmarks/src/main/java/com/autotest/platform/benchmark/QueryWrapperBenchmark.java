@@ -0,0 +1,67 @@
+package com.autotest.platform.benchmark;
+
+import com.autotest.platform.domain.project.TestProject;
+import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * selectTestProjectList 查询条件构造基准
+ * <p>
+ * 构造与 TestProjectServiceImpl 相同的 QueryWrapper 并生成SQL片段，filters 控制带入的查询条件。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryWrapperBenchmark {
+
+    @Param({"none", "all"})
+    private String filters;
+
+    private TestProject query;
+
+    @Setup
+    public void setUp() {
+        query = new TestProject();
+        if ("all".equals(filters)) {
+            query.setProjectName("支付");
+            query.setStatus("0");
+            query.setTenantId(1L);
+        }
+    }
+
+    @Benchmark
+    public void buildWrapper(Blackhole blackhole) {
+        QueryWrapper<TestProject> wrapper = new QueryWrapper<>();
+        if (query.getProjectName() != null) {
+            wrapper.like("project_name", query.getProjectName());
+        }
+        if (query.getStatus() != null) {
+            wrapper.eq("status", query.getStatus());
+        }
+        if (query.getTenantId() != null) {
+            wrapper.eq("tenant_id", query.getTenantId());
+        }
+        wrapper.eq("del_flag", 0);
+        blackhole.consume(wrapper.getCustomSqlSegment());
+        blackhole.consume(wrapper.getParamNameValuePairs());
+    }
+}
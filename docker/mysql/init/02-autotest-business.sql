@@ -17,6 +17,7 @@ CREATE TABLE `test_project`  (
   `git_branch` varchar(100) DEFAULT 'main' COMMENT 'Git分支',
   `git_access_token` varchar(500) DEFAULT NULL COMMENT 'Git访问Token(加密)',
   `owner_id` bigint(20) NOT NULL COMMENT '项目负责人ID',
+  `tenant_id` bigint(20) DEFAULT NULL COMMENT '租户ID',
   `create_by` varchar(64) DEFAULT '' COMMENT '创建者',
   `create_time` datetime DEFAULT NULL COMMENT '创建时间',
   `update_by` varchar(64) DEFAULT '' COMMENT '更新者',
@@ -26,6 +27,7 @@ CREATE TABLE `test_project`  (
   PRIMARY KEY (`project_id`) USING BTREE,
   UNIQUE INDEX `uk_project_code`(`project_code`) USING BTREE,
   INDEX `idx_owner_id`(`owner_id`) USING BTREE,
+  INDEX `idx_project_tenant`(`tenant_id`) USING BTREE,
   INDEX `idx_create_time`(`create_time`) USING BTREE
 ) ENGINE = InnoDB AUTO_INCREMENT = 1 CHARACTER SET = utf8mb4 COLLATE = utf8mb4_general_ci COMMENT = '测试项目表' ROW_FORMAT = DYNAMIC;
 
@@ -122,11 +124,12 @@ CREATE TABLE `test_case`  (
   `create_by` varchar(64) DEFAULT '' COMMENT '创建者',
   `create_time` datetime DEFAULT NULL COMMENT '创建时间',
   `update_by` varchar(64) DEFAULT '' COMMENT '更新者',
-  `update_time` datetime DEFAULT NULL COMMENT '更新时间',
+  `update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
   `del_flag` char(1) DEFAULT '0' COMMENT '删除标志',
   PRIMARY KEY (`case_id`) USING BTREE,
   UNIQUE INDEX `uk_case_code`(`project_id`, `case_code`) USING BTREE,
   INDEX `idx_project_id`(`project_id`) USING BTREE,
+  INDEX `idx_case_sync`(`project_id`, `update_time`, `case_id`) USING BTREE,
   INDEX `idx_category_id`(`category_id`) USING BTREE,
   INDEX `idx_author_id`(`author_id`) USING BTREE,
   INDEX `idx_status`(`status`) USING BTREE,
@@ -146,11 +149,14 @@ CREATE TABLE `test_case_version`  (
   `test_steps` longtext COMMENT '测试步骤(JSON)',
   `expected_result` text COMMENT '期望结果',
   `change_log` varchar(500) DEFAULT NULL COMMENT '变更日志',
+  `storage_type` char(1) NOT NULL DEFAULT 'F' COMMENT '存储类型(F全量 D差异)',
+  `snapshot_version` int(11) NOT NULL COMMENT '所属快照版本号',
   `create_by` varchar(64) DEFAULT '' COMMENT '创建者',
   `create_time` datetime DEFAULT NULL COMMENT '创建时间',
   PRIMARY KEY (`version_id`) USING BTREE,
   UNIQUE INDEX `uk_case_version`(`case_id`, `version_number`) USING BTREE,
   INDEX `idx_case_id`(`case_id`) USING BTREE,
+  INDEX `idx_case_snapshot`(`case_id`, `snapshot_version`) USING BTREE,
   CONSTRAINT `fk_version_case` FOREIGN KEY (`case_id`) REFERENCES `test_case` (`case_id`) ON DELETE CASCADE
 ) ENGINE = InnoDB AUTO_INCREMENT = 1 CHARACTER SET = utf8mb4 COLLATE = utf8mb4_general_ci COMMENT = '测试用例版本历史表' ROW_FORMAT = DYNAMIC;
 
@@ -290,6 +296,65 @@ CREATE TABLE `test_report`  (
   CONSTRAINT `fk_report_execution` FOREIGN KEY (`execution_id`) REFERENCES `test_execution` (`execution_id`) ON DELETE CASCADE
 ) ENGINE = InnoDB AUTO_INCREMENT = 1 CHARACTER SET = utf8mb4 COLLATE = utf8mb4_general_ci COMMENT = '测试报告表' ROW_FORMAT = DYNAMIC;
 
+-- ----------------------------
+-- 业务编码序列表
+-- ----------------------------
+DROP TABLE IF EXISTS `sys_sequence`;
+CREATE TABLE `sys_sequence`  (
+  `seq_key` varchar(128) NOT NULL COMMENT '序列键(如 case:项目ID、execution、report:类型)',
+  `next_value` bigint(20) NOT NULL DEFAULT 1 COMMENT '下一个未分配的值',
+  `update_time` datetime DEFAULT NULL COMMENT '最后预留时间',
+  PRIMARY KEY (`seq_key`) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_general_ci COMMENT = '业务编码序列表' ROW_FORMAT = DYNAMIC;
+
+-- ----------------------------
+-- 历史数据归档断点表
+-- ----------------------------
+DROP TABLE IF EXISTS `sys_archive_checkpoint`;
+CREATE TABLE `sys_archive_checkpoint`  (
+  `task_key` varchar(64) NOT NULL COMMENT '任务键(归档表名)',
+  `last_id` bigint(20) NOT NULL DEFAULT 0 COMMENT '已处理到的主键',
+  `processed_rows` bigint(20) NOT NULL DEFAULT 0 COMMENT '本轮累计处理行数',
+  `update_time` datetime DEFAULT NULL COMMENT '更新时间',
+  PRIMARY KEY (`task_key`) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_general_ci COMMENT = '历史数据归档断点表' ROW_FORMAT = DYNAMIC;
+
+-- ----------------------------
+-- 用例不稳定统计表
+-- ----------------------------
+DROP TABLE IF EXISTS `test_case_flake_stats`;
+CREATE TABLE `test_case_flake_stats`  (
+  `case_id` bigint(20) NOT NULL COMMENT '用例ID',
+  `project_id` bigint(20) NOT NULL COMMENT '项目ID',
+  `retry_runs` int(11) NOT NULL DEFAULT 0 COMMENT '失败后重跑次数',
+  `retry_passes` int(11) NOT NULL DEFAULT 0 COMMENT '重跑通过次数',
+  `flake_score` decimal(6, 4) NOT NULL DEFAULT 0.0000 COMMENT '不稳定分数(重跑通过率的指数加权平均)',
+  `last_flake_time` datetime DEFAULT NULL COMMENT '最近一次重跑通过时间',
+  `update_time` datetime DEFAULT NULL COMMENT '更新时间',
+  PRIMARY KEY (`case_id`) USING BTREE,
+  KEY `idx_flake_project_score` (`project_id`, `flake_score`) USING BTREE
+) ENGINE = InnoDB CHARACTER SET = utf8mb4 COLLATE = utf8mb4_general_ci COMMENT = '用例不稳定统计表' ROW_FORMAT = DYNAMIC;
+
+-- ----------------------------
+-- 触发器配置表，与 sql/cicd/02_webhook_tables.sql 一致
+-- ----------------------------
+DROP TABLE IF EXISTS `trigger_config`;
+CREATE TABLE `trigger_config`  (
+  `config_id` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '配置主键',
+  `project_id` bigint(20) NOT NULL COMMENT '项目ID',
+  `trigger_type` varchar(50) NOT NULL COMMENT '触发器类型',
+  `config_name` varchar(100) NOT NULL COMMENT '配置名称',
+  `config_json` longtext NOT NULL COMMENT '配置内容(JSON格式)',
+  `is_enabled` tinyint(1) NOT NULL DEFAULT 1 COMMENT '是否启用：0-禁用，1-启用',
+  `create_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  `update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  PRIMARY KEY (`config_id`) USING BTREE,
+  UNIQUE INDEX `uk_trigger_config`(`project_id`, `trigger_type`, `config_name`) USING BTREE,
+  INDEX `idx_trigger_project_id`(`project_id`) USING BTREE,
+  INDEX `idx_trigger_type`(`trigger_type`) USING BTREE,
+  INDEX `idx_trigger_enabled`(`is_enabled`) USING BTREE
+) ENGINE = InnoDB AUTO_INCREMENT = 1 CHARACTER SET = utf8mb4 COLLATE = utf8mb4_unicode_ci COMMENT = '触发器配置表' ROW_FORMAT = DYNAMIC;
+
 -- ----------------------------
 -- 创建索引优化
 -- ----------------------------
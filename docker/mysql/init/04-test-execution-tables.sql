@@ -34,12 +34,14 @@ CREATE TABLE `test_execution` (
   `update_by` varchar(64) DEFAULT '' COMMENT '更新者',
   `update_time` datetime DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
   `remark` varchar(500) DEFAULT NULL COMMENT '备注',
+  `restored_time` datetime DEFAULT NULL COMMENT '从冷存储恢复的时间',
   PRIMARY KEY (`execution_id`),
   UNIQUE KEY `uk_execution_code` (`execution_code`),
   KEY `idx_project_id` (`project_id`),
   KEY `idx_status` (`status`),
   KEY `idx_executor_id` (`executor_id`),
   KEY `idx_create_time` (`create_time`),
+  KEY `idx_actual_start_time` (`actual_start_time`),
   KEY `idx_execution_type` (`execution_type`)
 ) ENGINE=InnoDB AUTO_INCREMENT=1 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='测试执行表';
 
@@ -137,6 +139,8 @@ CREATE INDEX `idx_execution_executor_status` ON `test_execution` (`executor_id`,
 -- 执行用例表索引
 CREATE INDEX `idx_execution_case_status_time` ON `test_execution_case` (`execution_id`, `status`, `start_time`);
 CREATE INDEX `idx_execution_case_case_status` ON `test_execution_case` (`case_id`, `status`);
+-- 执行对比按case_id顺序读取，覆盖索引无需回表和排序
+CREATE INDEX `idx_execution_case_diff` ON `test_execution_case` (`execution_id`, `case_id`, `status`, `duration`);
 
 -- 调度表索引
 CREATE INDEX `idx_schedule_status_next_time` ON `test_schedule` (`status`, `next_execute_time`);
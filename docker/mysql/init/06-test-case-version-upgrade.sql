@@ -0,0 +1,35 @@
+-- ----------------------------
+-- 测试用例版本历史表升级：全量快照+差异链
+-- 已有库中的版本均为全量存储，补充 storage_type='F'，所属快照为版本自身；
+-- 新建库中字段已存在时不做任何修改，可重复执行
+-- ----------------------------
+
+SET NAMES utf8mb4;
+
+SET @has_storage_type = (SELECT COUNT(*) FROM information_schema.COLUMNS
+  WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'test_case_version' AND COLUMN_NAME = 'storage_type');
+
+SET @ddl = IF(@has_storage_type = 0,
+  'ALTER TABLE `test_case_version`
+     ADD COLUMN `storage_type` char(1) NOT NULL DEFAULT ''F'' COMMENT ''存储类型(F全量 D差异)'' AFTER `change_log`,
+     ADD COLUMN `snapshot_version` int(11) NULL COMMENT ''所属快照版本号'' AFTER `storage_type`',
+  'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@has_storage_type = 0,
+  'UPDATE `test_case_version` SET `snapshot_version` = `version_number` WHERE `snapshot_version` IS NULL',
+  'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = IF(@has_storage_type = 0,
+  'ALTER TABLE `test_case_version`
+     MODIFY COLUMN `snapshot_version` int(11) NOT NULL COMMENT ''所属快照版本号'',
+     ADD INDEX `idx_case_snapshot`(`case_id`, `snapshot_version`) USING BTREE',
+  'SELECT 1');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
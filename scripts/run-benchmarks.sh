@@ -0,0 +1,55 @@
+#!/bin/bash
+
+echo "===================================="
+echo "AutoTest Platform 基准测试脚本"
+echo "===================================="
+
+# 用法: scripts/run-benchmarks.sh [基线结果json] [JMH参数...]
+# 指定基线时对比本次结果，劣化超过 BENCHMARK_THRESHOLD(默认10)% 返回非0
+
+PROJECT_ROOT="$(cd "$(dirname "${BASH_SOURCE[0]}")/.." && pwd)"
+cd "$PROJECT_ROOT"
+
+BASELINE=""
+if [ $# -gt 0 ] && [ -f "$1" ]; then
+    BASELINE="$(cd "$(dirname "$1")" && pwd)/$(basename "$1")"
+    shift
+fi
+THRESHOLD="${BENCHMARK_THRESHOLD:-10}"
+
+echo "[1/3] 安装平台构件..."
+mvn install -DskipTests -q
+if [ $? -ne 0 ]; then
+    echo "❌ 平台构件安装失败"
+    exit 1
+fi
+echo "✅ 平台构件安装完成"
+
+echo
+echo "[2/3] 构建并运行基准..."
+cd benchmarks
+mvn clean package -q
+if [ $? -ne 0 ]; then
+    echo "❌ 基准模块构建失败"
+    exit 1
+fi
+java -jar target/benchmarks.jar -rf json -rff target/jmh-result.json "$@"
+if [ $? -ne 0 ]; then
+    echo "❌ 基准运行失败"
+    exit 1
+fi
+echo "✅ 结果已输出到 benchmarks/target/jmh-result.json"
+
+echo
+if [ -z "$BASELINE" ]; then
+    echo "[3/3] 未指定基线，跳过对比"
+    exit 0
+fi
+echo "[3/3] 与基线对比 (阈值 ${THRESHOLD}%)..."
+java -cp target/benchmarks.jar com.autotest.platform.benchmark.BenchmarkGate \
+    "$BASELINE" target/jmh-result.json "$THRESHOLD"
+if [ $? -ne 0 ]; then
+    echo "❌ 存在性能回退"
+    exit 1
+fi
+echo "🎉 未发现性能回退"
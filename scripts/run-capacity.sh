@@ -0,0 +1,29 @@
+#!/bin/bash
+
+echo "===================================="
+echo "AutoTest Platform 容量测试脚本"
+echo "===================================="
+
+# 用法: scripts/run-capacity.sh [-Dcapacity.xxx=值...]
+# 以内嵌H2启动应用，写入合成数据后回放各场景，报告输出到 target/capacity/capacity-report.json
+# 传入 -Dcapacity.enforce=true 时按执行引擎规格校验目标，不达标返回非0
+
+PROJECT_ROOT="$(cd "$(dirname "${BASH_SOURCE[0]}")/.." && pwd)"
+cd "$PROJECT_ROOT"
+
+echo "[1/2] 运行容量测试套件..."
+mvn test -Dtest=CapacitySuite -DfailIfNoTests=false "$@"
+if [ $? -ne 0 ]; then
+    echo "❌ 容量测试未通过"
+    exit 1
+fi
+
+echo
+echo "[2/2] 输出容量报告..."
+if [ -f target/capacity/capacity-report.json ]; then
+    echo "✅ 报告已输出到 target/capacity/capacity-report.json"
+else
+    echo "⚠️ 未找到容量报告"
+    exit 1
+fi
+echo "🎉 容量测试完成"
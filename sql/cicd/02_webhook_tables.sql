@@ -87,6 +87,23 @@ CREATE TABLE `trigger_config` (
   KEY `idx_trigger_enabled` (`is_enabled`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='触发器配置表';
 
+-- 测试影响映射表
+DROP TABLE IF EXISTS `test_impact_mapping`;
+CREATE TABLE `test_impact_mapping` (
+  `mapping_id` bigint NOT NULL AUTO_INCREMENT COMMENT '映射主键',
+  `project_id` bigint NOT NULL COMMENT '项目ID',
+  `source_key` varchar(500) NOT NULL COMMENT '源码键：path:目录或文件路径，module:模块名，name:文件名',
+  `source_key_hash` char(32) GENERATED ALWAYS AS (MD5(`source_key`)) STORED COMMENT '源码键MD5，用于唯一约束',
+  `case_id` bigint NOT NULL COMMENT '用例ID',
+  `hit_count` int NOT NULL DEFAULT 1 COMMENT '变更后失败的共现次数',
+  `last_event_id` bigint COMMENT '最近一次关联的Webhook事件ID',
+  `create_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  `update_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+  PRIMARY KEY (`mapping_id`),
+  UNIQUE KEY `uk_impact_mapping` (`project_id`, `source_key_hash`, `case_id`),
+  KEY `idx_impact_case_id` (`case_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='测试影响映射表';
+
 -- ----------------------------
 -- 初始化触发器配置数据
 -- ----------------------------
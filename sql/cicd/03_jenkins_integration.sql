@@ -85,6 +85,9 @@ CREATE TABLE `jenkins_build` (
   `test_results` text COMMENT '测试结果(JSON格式)',
   `artifacts` text COMMENT '构建产物(JSON格式)',
   `console_output` longtext COMMENT '控制台输出',
+  `log_offset` bigint NOT NULL DEFAULT 0 COMMENT '控制台日志已拉取字节偏移量',
+  `log_segment_count` int NOT NULL DEFAULT 0 COMMENT '控制台日志分段数',
+  `log_complete` tinyint(1) NOT NULL DEFAULT 0 COMMENT '控制台日志是否拉取完成：0-否，1-是',
   `error_message` text COMMENT '错误信息',
   `triggered_by` varchar(100) COMMENT '触发者',
   `trigger_source` varchar(50) COMMENT '触发来源：MANUAL-手动，WEBHOOK-Webhook，SCHEDULE-定时，UPSTREAM-上游',
@@ -120,6 +123,21 @@ CREATE TABLE `jenkins_build_test` (
   KEY `idx_test_status` (`test_status`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Jenkins构建测试结果表';
 
+-- Jenkins构建日志分段表
+DROP TABLE IF EXISTS `jenkins_build_log_segment`;
+CREATE TABLE `jenkins_build_log_segment` (
+  `segment_id` bigint NOT NULL AUTO_INCREMENT COMMENT '分段主键',
+  `build_id` bigint NOT NULL COMMENT '构建ID',
+  `segment_no` int NOT NULL COMMENT '分段序号(从0开始)',
+  `start_offset` bigint NOT NULL COMMENT '起始字节偏移量(含)',
+  `end_offset` bigint NOT NULL COMMENT '结束字节偏移量(不含)',
+  `content` mediumtext NOT NULL COMMENT '分段日志内容',
+  `create_time` datetime NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+  PRIMARY KEY (`segment_id`),
+  UNIQUE KEY `uk_log_segment_build_no` (`build_id`, `segment_no`),
+  KEY `idx_log_segment_build_offset` (`build_id`, `start_offset`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='Jenkins构建日志分段表';
+
 -- Jenkins构建产物表
 DROP TABLE IF EXISTS `jenkins_build_artifact`;
 CREATE TABLE `jenkins_build_artifact` (
@@ -3,6 +3,7 @@ package com.autotest.platform;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
@@ -16,8 +17,14 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @EnableScheduling
 @MapperScan("com.autotest.platform.mapper")
 public class AutoTestPlatformApplication {
+
+    /** 启动时间线缓冲的步骤数，供 /actuator/startup 和启动耗时汇总使用 */
+    private static final int STARTUP_BUFFER_SIZE = 10000;
+
     public static void main(String[] args) {
-        SpringApplication.run(AutoTestPlatformApplication.class, args);
+        SpringApplication application = new SpringApplication(AutoTestPlatformApplication.class);
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_BUFFER_SIZE));
+        application.run(args);
         System.out.println("(♥◠‿◠)ﾉﾞ  自动化测试平台启动成功   ლ(´ڡ`ლ)ﾞ  ");
     }
 }
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.autotest.platform.config;
+
+import com.alibaba.fastjson.JSON;
+import com.autotest.platform.common.constant.HttpStatus;
+import com.autotest.platform.engine.admission.AdmissionDecision;
+import com.autotest.platform.service.IAdmissionService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 接口限流配置
+ * <p>
+ * 对 /api/* 请求按 X-API-Key 和 X-Tenant-Id(由网关在认证后写入，只采信来自网关地址的请求)限流，超限时按接口规范返回429。
+ *
+ * @author autotest
+ */
+@Configuration
+@ConditionalOnProperty(name = "autotest-platform.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    public static final String TENANT_HEADER = "X-Tenant-Id";
+
+    public static final String API_KEY_HEADER = "X-API-Key";
+
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> rateLimitFilter(IAdmissionService admissionService) {
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain chain) throws ServletException, IOException {
+                AdmissionDecision decision = admissionService.checkRequest(parseTenant(request.getHeader(TENANT_HEADER)),
+                        request.getHeader(API_KEY_HEADER), request.getRemoteAddr());
+                if (decision.getLimit() >= 0) {
+                    response.setHeader("X-RateLimit-Limit", String.valueOf(decision.getLimit()));
+                    response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.getRemaining()));
+                }
+                if (decision.isAllowed()) {
+                    chain.doFilter(request, response);
+                    return;
+                }
+                reject(response, decision);
+            }
+        });
+        registration.addUrlPatterns("/api/*");
+        registration.setName("rateLimitFilter");
+        // 在SQL画像等业务过滤器之前拒绝，被拒请求不产生任何开销
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+        return registration;
+    }
+
+    /**
+     * 写出限流响应
+     *
+     * @param response 响应
+     * @param decision 被拒绝的判定结果
+     */
+    public static void reject(HttpServletResponse response, AdmissionDecision decision) throws IOException {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("retryAfter", decision.getRetryAfterSeconds());
+        data.put("limit", decision.getLimit());
+        data.put("remaining", decision.getRemaining());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("code", HttpStatus.TOO_MANY_REQUESTS);
+        body.put("msg", "请求过于频繁，请稍后重试");
+        body.put("data", data);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS);
+        response.setHeader("Retry-After", String.valueOf(decision.getRetryAfterSeconds()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(JSON.toJSONString(body));
+    }
+
+    private static Long parseTenant(String value) {
+        if (value == null || value.isEmpty()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.autotest.platform.config;
+
+import com.autotest.platform.engine.profiler.StatementProfiler;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL语句画像端点
+ * <p>
+ * GET /actuator/sqlprofile?sort=calls&amp;top=20 查看语句排行和最近的N+1、无界结果集发现，
+ * DELETE /actuator/sqlprofile 清空统计。
+ *
+ * @author autotest
+ */
+@Endpoint(id = "sqlprofile")
+public class SqlProfileEndpoint {
+
+    private static final int DEFAULT_TOP = 50;
+
+    private final StatementProfiler profiler;
+
+    public SqlProfileEndpoint(StatementProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @ReadOperation
+    public Map<String, Object> profile(@Nullable String sort, @Nullable Integer top) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("summary", profiler.summary());
+        result.put("statements", profiler.topStatements(sort, top == null || top <= 0 ? DEFAULT_TOP : top));
+        result.put("findings", profiler.recentFindings());
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        profiler.reset();
+    }
+}
@@ -0,0 +1,86 @@
+package com.autotest.platform.config;
+
+import com.autotest.platform.engine.profiler.ProfilerSettings;
+import com.autotest.platform.engine.profiler.ProfilingInterceptor;
+import com.autotest.platform.engine.profiler.StatementProfiler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * SQL语句画像配置，统计通过 /actuator/sqlprofile 查看
+ *
+ * @author autotest
+ */
+@Configuration
+@ConditionalOnProperty(name = "autotest-platform.profiler.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlProfilerConfig {
+
+    @Bean
+    public StatementProfiler statementProfiler(
+            @Value("${autotest-platform.profiler.sample-rate:0.05}") double sampleRate,
+            @Value("${autotest-platform.profiler.n-plus-one-threshold:20}") int nPlusOneThreshold,
+            @Value("${autotest-platform.profiler.unbounded-rows:1000}") int unboundedRows,
+            @Value("${autotest-platform.profiler.large-text-chars:1024}") int largeTextChars,
+            @Value("${autotest-platform.profiler.max-findings:200}") int maxFindings) {
+        ProfilerSettings settings = new ProfilerSettings();
+        settings.setSampleRate(sampleRate);
+        settings.setNPlusOneThreshold(nPlusOneThreshold);
+        settings.setUnboundedRows(unboundedRows);
+        settings.setLargeTextChars(largeTextChars);
+        settings.setMaxFindings(maxFindings);
+        return new StatementProfiler(settings);
+    }
+
+    /**
+     * 语句画像拦截器，由 MyBatis 自动配置加入拦截器链
+     */
+    @Bean
+    public ProfilingInterceptor profilingInterceptor(StatementProfiler statementProfiler) {
+        return new ProfilingInterceptor(statementProfiler);
+    }
+
+    /**
+     * 按请求划定N+1检测范围
+     */
+    @Bean
+    public FilterRegistrationBean<OncePerRequestFilter> sqlProfilerFilter(StatementProfiler statementProfiler) {
+        FilterRegistrationBean<OncePerRequestFilter> registration = new FilterRegistrationBean<>();
+        registration.setFilter(new OncePerRequestFilter() {
+            @Override
+            protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                            FilterChain chain) throws ServletException, IOException {
+                // 未采样的请求同样要结束，清除线程上的标记，避免影响复用该线程的后续请求
+                statementProfiler.beginRequest();
+                try {
+                    chain.doFilter(request, response);
+                } finally {
+                    // 优先用路由模板，避免路径参数把同一接口拆成多条
+                    Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    statementProfiler.endRequest(request.getMethod() + " "
+                            + (pattern != null ? pattern : request.getRequestURI()));
+                }
+            }
+        });
+        registration.addUrlPatterns("/*");
+        registration.setName("sqlProfilerFilter");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public SqlProfileEndpoint sqlProfileEndpoint(StatementProfiler statementProfiler) {
+        return new SqlProfileEndpoint(statementProfiler);
+    }
+}
@@ -0,0 +1,124 @@
+package com.autotest.platform.config;
+
+import com.autotest.platform.engine.startup.StartupReport;
+import com.autotest.platform.engine.startup.StartupStep;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.stereotype.Controller;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 启动配置
+ * <p>
+ * 按角色启动时，角色profile开启全局懒加载，由 {@code autotest-platform.startup.eager-beans} 指定启动即创建的Bean，
+ * 其余Bean(含重量级组件)在首次使用时才初始化。就绪后汇总启动时间线，输出到日志并记录为
+ * {@code autotest.startup.*} 指标，完整时间线见 /actuator/startup。
+ *
+ * @author autotest
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupConfig.class);
+
+    /**
+     * 懒加载排除规则，静态方法避免配置类在BeanFactory后处理阶段被提前创建
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter roleEagerBeanFilter(Environment environment) {
+        Binder binder = Binder.get(environment);
+        Set<String> eagerBeans = new HashSet<>(binder.bind("autotest-platform.startup.eager-beans",
+                Bindable.listOf(String.class)).orElse(Collections.emptyList()));
+        boolean eagerControllers = binder.bind("autotest-platform.startup.eager-controllers", Boolean.class)
+                .orElse(false);
+        return (beanName, beanDefinition, beanType) -> eagerBeans.contains(beanName)
+                || (eagerControllers && beanType != null
+                && AnnotatedElementUtils.hasAnnotation(beanType, Controller.class));
+    }
+
+    /**
+     * 就绪后汇总启动耗时
+     */
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> startupReportListener(
+            @Value("${autotest-platform.startup.role:all}") String role,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return event -> {
+            long readyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+            StartupReport report = new StartupReport(role,
+                    timeline(event.getApplicationContext().getApplicationStartup()), readyMillis);
+            log.info("{}", report);
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return;
+            }
+            Gauge.builder("autotest.startup.ready", report::getReadyMillis)
+                    .description("从JVM启动到应用就绪的耗时")
+                    .baseUnit(BaseUnits.MILLISECONDS)
+                    .tag("role", role)
+                    .register(registry);
+            for (Map.Entry<String, Long> phase : report.getPhaseMillis().entrySet()) {
+                long millis = phase.getValue();
+                Gauge.builder("autotest.startup.phase", () -> millis)
+                        .description("启动阶段耗时")
+                        .baseUnit(BaseUnits.MILLISECONDS)
+                        .tags("role", role, "phase", phase.getKey())
+                        .register(registry);
+            }
+        };
+    }
+
+    private static List<StartupStep> timeline(ApplicationStartup startup) {
+        List<StartupStep> steps = new ArrayList<>();
+        if (!(startup instanceof BufferingApplicationStartup)) {
+            return steps;
+        }
+        for (StartupTimeline.TimelineEvent event : ((BufferingApplicationStartup) startup).getBufferedTimeline()
+                .getEvents()) {
+            org.springframework.core.metrics.StartupStep step = event.getStartupStep();
+            steps.add(new StartupStep(step.getId(), step.getParentId(), step.getName(), detail(step),
+                    event.getDuration().toMillis()));
+        }
+        return steps;
+    }
+
+    private static String detail(org.springframework.core.metrics.StartupStep step) {
+        Iterator<org.springframework.core.metrics.StartupStep.Tag> tags = step.getTags().iterator();
+        String first = null;
+        while (tags.hasNext()) {
+            org.springframework.core.metrics.StartupStep.Tag tag = tags.next();
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+            if (first == null) {
+                first = tag.getValue();
+            }
+        }
+        return first;
+    }
+}
@@ -0,0 +1,41 @@
+package com.autotest.platform.controller;
+
+import com.autotest.platform.service.IExecutionDiffService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 执行对比控制器
+ * <p>
+ * 例如以昨晚的执行为基准查看本次新增的失败：{@code GET /api/v1/executions/{本次}/diff?base={昨晚}}。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class ExecutionDiffController {
+
+    @Autowired
+    private IExecutionDiffService executionDiffService;
+
+    /**
+     * 对比两次执行
+     */
+    @GetMapping("/executions/{executionId}/diff")
+    public ResponseEntity<Map<String, Object>> diff(@PathVariable("executionId") Long executionId,
+            @RequestParam("base") Long baseExecutionId) {
+        try {
+            return ResponseEntity.ok(executionDiffService.diff(baseExecutionId, executionId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Collections.singletonMap("msg", e.getMessage()));
+        }
+    }
+}
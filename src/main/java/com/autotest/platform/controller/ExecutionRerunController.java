@@ -0,0 +1,82 @@
+package com.autotest.platform.controller;
+
+import com.autotest.platform.config.RateLimitConfig;
+import com.autotest.platform.engine.rerun.RerunPlan;
+import com.autotest.platform.engine.rerun.RerunResult;
+import com.autotest.platform.service.IRerunService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 失败用例重跑控制器
+ * <p>
+ * 重跑只包含上次执行失败且未达到重跑上限的用例，进入低优先级重跑通道，排队已满时返回429。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class ExecutionRerunController {
+
+    @Autowired
+    private IRerunService rerunService;
+
+    /**
+     * 重跑执行中失败的用例
+     */
+    @PostMapping("/executions/{executionId}/rerun")
+    public ResponseEntity<Map<String, Object>> rerun(@PathVariable("executionId") Long executionId,
+            @RequestParam(value = "operator", required = false) String operator,
+            HttpServletResponse response) throws IOException {
+        RerunResult result;
+        try {
+            result = rerunService.rerunFailed(executionId, operator);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(body(e.getMessage(), null));
+        }
+        RerunPlan plan = result.getPlan();
+        if (plan.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(body("没有可重跑的失败用例", plan));
+        }
+        if (!result.isAccepted()) {
+            RateLimitConfig.reject(response, result.getDecision());
+            return null;
+        }
+        Map<String, Object> body = body("重跑已提交", plan);
+        body.put("executionId", result.getExecutionId());
+        body.put("executionCode", result.getExecutionCode());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(body);
+    }
+
+    /**
+     * 查询项目内不稳定用例
+     */
+    @GetMapping("/projects/{projectId}/flaky-cases")
+    public List<Map<String, Object>> flakyCases(@PathVariable("projectId") Long projectId,
+            @RequestParam(value = "minScore", required = false) Double minScore,
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        return rerunService.selectFlakyCases(projectId, minScore, limit);
+    }
+
+    private static Map<String, Object> body(String msg, RerunPlan plan) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("msg", msg);
+        if (plan != null) {
+            body.put("attempt", plan.getAttempt());
+            body.put("rerunCases", plan.getCases().size());
+            body.put("exhaustedCaseIds", plan.getExhaustedCaseIds());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,114 @@
+package com.autotest.platform.controller;
+
+import com.autotest.platform.engine.status.ExecutionKind;
+import com.autotest.platform.engine.status.ExecutionStatus;
+import com.autotest.platform.service.IExecutionStatusService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 执行状态控制器(供CI/CD系统轮询)
+ * <p>
+ * 响应头 ETag 为状态版本号。客户端通过 {@code version} 参数或 If-None-Match 头携带已知版本时，
+ * 状态未变化的请求被挂起而不占用Servlet线程，状态变化时立即返回，等待 {@code wait} 毫秒仍无变化返回304。
+ * 不携带版本时直接返回当前状态。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@RestController
+@RequestMapping("/api/v1")
+public class ExecutionStatusController {
+
+    @Autowired
+    private IExecutionStatusService executionStatusService;
+
+    @Value("${autotest-platform.execution.status.poll-timeout-millis:30000}")
+    private long defaultWaitMillis;
+
+    @Value("${autotest-platform.execution.status.max-poll-timeout-millis:60000}")
+    private long maxWaitMillis;
+
+    /**
+     * 查询测试执行状态
+     */
+    @GetMapping("/executions/{executionId}/status")
+    public DeferredResult<ResponseEntity<ExecutionStatus>> status(@PathVariable("executionId") Long executionId,
+            @RequestParam(value = "version", required = false) Long version,
+            @RequestParam(value = "wait", required = false) Long wait,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        return poll(ExecutionKind.TEST, executionId, version, wait, ifNoneMatch);
+    }
+
+    /**
+     * 查询流水线执行状态
+     */
+    @GetMapping("/pipeline-executions/{executionId}/status")
+    public DeferredResult<ResponseEntity<ExecutionStatus>> pipelineStatus(@PathVariable("executionId") Long executionId,
+            @RequestParam(value = "version", required = false) Long version,
+            @RequestParam(value = "wait", required = false) Long wait,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        return poll(ExecutionKind.PIPELINE, executionId, version, wait, ifNoneMatch);
+    }
+
+    private DeferredResult<ResponseEntity<ExecutionStatus>> poll(ExecutionKind kind, Long executionId, Long version,
+                                                                 Long wait, String ifNoneMatch) {
+        Long knownVersion = version != null ? version : parseETag(ifNoneMatch);
+        long waitMillis = Math.min(wait != null ? wait : defaultWaitMillis, maxWaitMillis);
+        if (knownVersion == null || waitMillis <= 0) {
+            DeferredResult<ResponseEntity<ExecutionStatus>> result = new DeferredResult<>();
+            result.setResult(respond(executionStatusService.getStatus(kind, executionId), knownVersion));
+            return result;
+        }
+        CompletableFuture<ExecutionStatus> future = executionStatusService.awaitChange(kind, executionId, knownVersion);
+        DeferredResult<ResponseEntity<ExecutionStatus>> result = new DeferredResult<>(waitMillis,
+                notModified(knownVersion));
+        if (future == null) {
+            result.setResult(ResponseEntity.notFound().build());
+            return result;
+        }
+        // 超时时回读一次，其他节点或直接改库的变更不会唤醒本节点的挂起请求
+        result.onTimeout(() -> result.setResult(
+                respond(executionStatusService.reloadStatus(kind, executionId), knownVersion)));
+        // 超时、客户端断开或出错时取消登记，释放挂起名额
+        result.onCompletion(() -> future.cancel(false));
+        future.thenAccept(status -> result.setResult(respond(status, knownVersion)));
+        return result;
+    }
+
+    private static ResponseEntity<ExecutionStatus> respond(ExecutionStatus status, Long knownVersion) {
+        if (status == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (knownVersion != null && status.getVersion() == knownVersion) {
+            return notModified(knownVersion);
+        }
+        return ResponseEntity.ok().eTag(String.valueOf(status.getVersion())).body(status);
+    }
+
+    private static ResponseEntity<ExecutionStatus> notModified(long version) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(String.valueOf(version)).build();
+    }
+
+    private static Long parseETag(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        String value = ifNoneMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
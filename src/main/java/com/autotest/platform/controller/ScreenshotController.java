@@ -0,0 +1,61 @@
+package com.autotest.platform.controller;
+
+import com.autotest.platform.service.IScreenshotService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 截图控制器
+ * <p>
+ * 截图按内容哈希寻址，内容不会变化，响应允许客户端长期缓存。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@RestController
+@RequestMapping("/api/v1/screenshots")
+public class ScreenshotController {
+
+    @Autowired
+    private IScreenshotService screenshotService;
+
+    /**
+     * 查看截图原图
+     */
+    @GetMapping("/{hash:[0-9a-f]{64}}")
+    public ResponseEntity<Resource> screenshot(@PathVariable("hash") String hash) {
+        return respond(screenshotService.getScreenshot(hash));
+    }
+
+    /**
+     * 查看截图缩略图
+     */
+    @GetMapping("/{hash:[0-9a-f]{64}}/thumbnail")
+    public ResponseEntity<Resource> thumbnail(@PathVariable("hash") String hash,
+            @RequestParam(value = "width", defaultValue = "320") int width) throws IOException {
+        return respond(screenshotService.getThumbnail(hash, width));
+    }
+
+    private static ResponseEntity<Resource> respond(Path file) {
+        if (file == null) {
+            return ResponseEntity.notFound().build();
+        }
+        MediaType type = file.getFileName().toString().endsWith(".png") ? MediaType.IMAGE_PNG : MediaType.IMAGE_JPEG;
+        return ResponseEntity.ok().contentType(type)
+                .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic())
+                .body(new FileSystemResource(file));
+    }
+}
@@ -0,0 +1,101 @@
+package com.autotest.platform.domain.cicd;
+
+import java.time.LocalDateTime;
+
+/**
+ * Jenkins构建日志分段对象 jenkins_build_log_segment
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class JenkinsBuildLogSegment {
+
+    /** 分段主键 */
+    private Long segmentId;
+
+    /** 构建ID */
+    private Long buildId;
+
+    /** 分段序号(从0开始) */
+    private Integer segmentNo;
+
+    /** 起始字节偏移量(含) */
+    private Long startOffset;
+
+    /** 结束字节偏移量(不含) */
+    private Long endOffset;
+
+    /** 分段日志内容 */
+    private String content;
+
+    /** 创建时间 */
+    private LocalDateTime createTime;
+
+    public JenkinsBuildLogSegment() {
+    }
+
+    public JenkinsBuildLogSegment(Long buildId, Integer segmentNo, Long startOffset, Long endOffset, String content) {
+        this.buildId = buildId;
+        this.segmentNo = segmentNo;
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
+        this.content = content;
+    }
+
+    // Getters and Setters
+    public Long getSegmentId() {
+        return segmentId;
+    }
+
+    public void setSegmentId(Long segmentId) {
+        this.segmentId = segmentId;
+    }
+
+    public Long getBuildId() {
+        return buildId;
+    }
+
+    public void setBuildId(Long buildId) {
+        this.buildId = buildId;
+    }
+
+    public Integer getSegmentNo() {
+        return segmentNo;
+    }
+
+    public void setSegmentNo(Integer segmentNo) {
+        this.segmentNo = segmentNo;
+    }
+
+    public Long getStartOffset() {
+        return startOffset;
+    }
+
+    public void setStartOffset(Long startOffset) {
+        this.startOffset = startOffset;
+    }
+
+    public Long getEndOffset() {
+        return endOffset;
+    }
+
+    public void setEndOffset(Long endOffset) {
+        this.endOffset = endOffset;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public LocalDateTime getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(LocalDateTime createTime) {
+        this.createTime = createTime;
+    }
+}
@@ -0,0 +1,124 @@
+package com.autotest.platform.domain.cicd;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Jenkins构建测试结果对象 jenkins_build_test
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class JenkinsBuildTest {
+
+    /** 测试主键 */
+    private Long testId;
+
+    /** 构建ID */
+    private Long buildId;
+
+    /** 测试套件 */
+    private String testSuite;
+
+    /** 测试类 */
+    private String testClass;
+
+    /** 测试名称 */
+    private String testName;
+
+    /** 测试状态：PASSED-通过，FAILED-失败，SKIPPED-跳过，ERROR-错误 */
+    private String testStatus;
+
+    /** 测试耗时(秒) */
+    private BigDecimal testDuration;
+
+    /** 错误信息 */
+    private String errorMessage;
+
+    /** 错误堆栈 */
+    private String stackTrace;
+
+    /** 创建时间 */
+    private LocalDateTime createTime;
+
+    // Getters and Setters
+    public Long getTestId() {
+        return testId;
+    }
+
+    public void setTestId(Long testId) {
+        this.testId = testId;
+    }
+
+    public Long getBuildId() {
+        return buildId;
+    }
+
+    public void setBuildId(Long buildId) {
+        this.buildId = buildId;
+    }
+
+    public String getTestSuite() {
+        return testSuite;
+    }
+
+    public void setTestSuite(String testSuite) {
+        this.testSuite = testSuite;
+    }
+
+    public String getTestClass() {
+        return testClass;
+    }
+
+    public void setTestClass(String testClass) {
+        this.testClass = testClass;
+    }
+
+    public String getTestName() {
+        return testName;
+    }
+
+    public void setTestName(String testName) {
+        this.testName = testName;
+    }
+
+    public String getTestStatus() {
+        return testStatus;
+    }
+
+    public void setTestStatus(String testStatus) {
+        this.testStatus = testStatus;
+    }
+
+    public BigDecimal getTestDuration() {
+        return testDuration;
+    }
+
+    public void setTestDuration(BigDecimal testDuration) {
+        this.testDuration = testDuration;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public String getStackTrace() {
+        return stackTrace;
+    }
+
+    public void setStackTrace(String stackTrace) {
+        this.stackTrace = stackTrace;
+    }
+
+    public LocalDateTime getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(LocalDateTime createTime) {
+        this.createTime = createTime;
+    }
+}
@@ -0,0 +1,133 @@
+package com.autotest.platform.domain.testcase;
+
+import com.autotest.platform.domain.BaseEntity;
+
+/**
+ * 测试数据源对象 test_data_source
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class DataSource extends BaseEntity {
+    private static final long serialVersionUID = 1L;
+
+    /** 数据类型：文件 */
+    public static final String TYPE_FILE = "FILE";
+
+    /** 数据类型：数据库 */
+    public static final String TYPE_DATABASE = "DATABASE";
+
+    /** 数据类型：接口 */
+    public static final String TYPE_API = "API";
+
+    /** 数据ID */
+    private Long dataId;
+
+    /** 项目ID */
+    private Long projectId;
+
+    /** 数据源名称 */
+    private String dataName;
+
+    /** 数据类型(FILE,DATABASE,API) */
+    private String dataType;
+
+    /** 文件路径 */
+    private String filePath;
+
+    /** 文件名 */
+    private String fileName;
+
+    /** 数据库配置(JSON) */
+    private String dbConfig;
+
+    /** API配置(JSON) */
+    private String apiConfig;
+
+    /** 数据结构(JSON) */
+    private String dataSchema;
+
+    /** 记录数 */
+    private Integer recordCount;
+
+    // Getters and Setters
+    public Long getDataId() {
+        return dataId;
+    }
+
+    public void setDataId(Long dataId) {
+        this.dataId = dataId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getDataName() {
+        return dataName;
+    }
+
+    public void setDataName(String dataName) {
+        this.dataName = dataName;
+    }
+
+    public String getDataType() {
+        return dataType;
+    }
+
+    public void setDataType(String dataType) {
+        this.dataType = dataType;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getDbConfig() {
+        return dbConfig;
+    }
+
+    public void setDbConfig(String dbConfig) {
+        this.dbConfig = dbConfig;
+    }
+
+    public String getApiConfig() {
+        return apiConfig;
+    }
+
+    public void setApiConfig(String apiConfig) {
+        this.apiConfig = apiConfig;
+    }
+
+    public String getDataSchema() {
+        return dataSchema;
+    }
+
+    public void setDataSchema(String dataSchema) {
+        this.dataSchema = dataSchema;
+    }
+
+    public Integer getRecordCount() {
+        return recordCount;
+    }
+
+    public void setRecordCount(Integer recordCount) {
+        this.recordCount = recordCount;
+    }
+}
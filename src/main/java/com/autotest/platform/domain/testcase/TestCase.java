@@ -0,0 +1,269 @@
+package com.autotest.platform.domain.testcase;
+
+import com.autotest.platform.domain.BaseEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 测试用例对象 test_case
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class TestCase extends BaseEntity {
+    private static final long serialVersionUID = 1L;
+
+    /** 用例ID */
+    private Long caseId;
+
+    /** 项目ID */
+    private Long projectId;
+
+    /** 分类ID */
+    private Long categoryId;
+
+    /** 分类名称 */
+    private String categoryName;
+
+    /** 用例标题 */
+    private String caseTitle;
+
+    /** 用例编码 */
+    private String caseCode;
+
+    /** 用例类型(WEB_UI,API,UNIT,PERFORMANCE) */
+    private String caseType;
+
+    /** 优先级(HIGH,MEDIUM,LOW) */
+    private String priority;
+
+    /** 前置条件 */
+    private String preconditions;
+
+    /** 测试步骤(JSON) */
+    private String testSteps;
+
+    /** 期望结果 */
+    private String expectedResult;
+
+    /** 测试数据源 */
+    private String testDataSource;
+
+    /** 标签(逗号分隔) */
+    private String tags;
+
+    /** 状态(DRAFT,ACTIVE,DEPRECATED) */
+    private String status;
+
+    /** 版本号 */
+    private Integer version;
+
+    /** 作者ID */
+    private Long authorId;
+
+    /** 作者名称 */
+    private String authorName;
+
+    /** 审核人ID */
+    private Long reviewerId;
+
+    /** 审核人名称 */
+    private String reviewerName;
+
+    /** 审核时间 */
+    private LocalDateTime reviewTime;
+
+    /** 备注 */
+    private String remark;
+
+    /** 最近执行结果 */
+    private String lastExecutionResult;
+
+    /** 最近执行时间 */
+    private LocalDateTime lastExecutionTime;
+
+    // Getters and Setters
+    public Long getCaseId() {
+        return caseId;
+    }
+
+    public void setCaseId(Long caseId) {
+        this.caseId = caseId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(Long categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public void setCategoryName(String categoryName) {
+        this.categoryName = categoryName;
+    }
+
+    public String getCaseTitle() {
+        return caseTitle;
+    }
+
+    public void setCaseTitle(String caseTitle) {
+        this.caseTitle = caseTitle;
+    }
+
+    public String getCaseCode() {
+        return caseCode;
+    }
+
+    public void setCaseCode(String caseCode) {
+        this.caseCode = caseCode;
+    }
+
+    public String getCaseType() {
+        return caseType;
+    }
+
+    public void setCaseType(String caseType) {
+        this.caseType = caseType;
+    }
+
+    public String getPriority() {
+        return priority;
+    }
+
+    public void setPriority(String priority) {
+        this.priority = priority;
+    }
+
+    public String getPreconditions() {
+        return preconditions;
+    }
+
+    public void setPreconditions(String preconditions) {
+        this.preconditions = preconditions;
+    }
+
+    public String getTestSteps() {
+        return testSteps;
+    }
+
+    public void setTestSteps(String testSteps) {
+        this.testSteps = testSteps;
+    }
+
+    public String getExpectedResult() {
+        return expectedResult;
+    }
+
+    public void setExpectedResult(String expectedResult) {
+        this.expectedResult = expectedResult;
+    }
+
+    public String getTestDataSource() {
+        return testDataSource;
+    }
+
+    public void setTestDataSource(String testDataSource) {
+        this.testDataSource = testDataSource;
+    }
+
+    public String getTags() {
+        return tags;
+    }
+
+    public void setTags(String tags) {
+        this.tags = tags;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public void setAuthorName(String authorName) {
+        this.authorName = authorName;
+    }
+
+    public Long getReviewerId() {
+        return reviewerId;
+    }
+
+    public void setReviewerId(Long reviewerId) {
+        this.reviewerId = reviewerId;
+    }
+
+    public String getReviewerName() {
+        return reviewerName;
+    }
+
+    public void setReviewerName(String reviewerName) {
+        this.reviewerName = reviewerName;
+    }
+
+    public LocalDateTime getReviewTime() {
+        return reviewTime;
+    }
+
+    public void setReviewTime(LocalDateTime reviewTime) {
+        this.reviewTime = reviewTime;
+    }
+
+    public String getRemark() {
+        return remark;
+    }
+
+    public void setRemark(String remark) {
+        this.remark = remark;
+    }
+
+    public String getLastExecutionResult() {
+        return lastExecutionResult;
+    }
+
+    public void setLastExecutionResult(String lastExecutionResult) {
+        this.lastExecutionResult = lastExecutionResult;
+    }
+
+    public LocalDateTime getLastExecutionTime() {
+        return lastExecutionTime;
+    }
+
+    public void setLastExecutionTime(LocalDateTime lastExecutionTime) {
+        this.lastExecutionTime = lastExecutionTime;
+    }
+}
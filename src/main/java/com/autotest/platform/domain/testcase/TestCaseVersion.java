@@ -0,0 +1,134 @@
+package com.autotest.platform.domain.testcase;
+
+import com.autotest.platform.domain.BaseEntity;
+
+/**
+ * 测试用例版本对象 test_case_version
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class TestCaseVersion extends BaseEntity {
+    private static final long serialVersionUID = 1L;
+
+    /** 存储类型：全量快照 */
+    public static final String STORAGE_FULL = "F";
+
+    /** 存储类型：相对上一版本的差异 */
+    public static final String STORAGE_DELTA = "D";
+
+    /** 版本ID */
+    private Long versionId;
+
+    /** 用例ID */
+    private Long caseId;
+
+    /** 版本号 */
+    private Integer versionNumber;
+
+    /** 用例标题 */
+    private String caseTitle;
+
+    /** 测试步骤(JSON)，差异版本存储为差异编码 */
+    private String testSteps;
+
+    /** 期望结果，差异版本存储为差异编码 */
+    private String expectedResult;
+
+    /** 变更日志 */
+    private String changeLog;
+
+    /** 存储类型(F全量 D差异) */
+    private String storageType;
+
+    /** 所属快照版本号，同一差异链共用 */
+    private Integer snapshotVersion;
+
+    /** 作者名称 */
+    private String authorName;
+
+    public boolean isDelta() {
+        return STORAGE_DELTA.equals(storageType);
+    }
+
+    // Getters and Setters
+    public Long getVersionId() {
+        return versionId;
+    }
+
+    public void setVersionId(Long versionId) {
+        this.versionId = versionId;
+    }
+
+    public Long getCaseId() {
+        return caseId;
+    }
+
+    public void setCaseId(Long caseId) {
+        this.caseId = caseId;
+    }
+
+    public Integer getVersionNumber() {
+        return versionNumber;
+    }
+
+    public void setVersionNumber(Integer versionNumber) {
+        this.versionNumber = versionNumber;
+    }
+
+    public String getCaseTitle() {
+        return caseTitle;
+    }
+
+    public void setCaseTitle(String caseTitle) {
+        this.caseTitle = caseTitle;
+    }
+
+    public String getTestSteps() {
+        return testSteps;
+    }
+
+    public void setTestSteps(String testSteps) {
+        this.testSteps = testSteps;
+    }
+
+    public String getExpectedResult() {
+        return expectedResult;
+    }
+
+    public void setExpectedResult(String expectedResult) {
+        this.expectedResult = expectedResult;
+    }
+
+    public String getChangeLog() {
+        return changeLog;
+    }
+
+    public void setChangeLog(String changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    public String getStorageType() {
+        return storageType;
+    }
+
+    public void setStorageType(String storageType) {
+        this.storageType = storageType;
+    }
+
+    public Integer getSnapshotVersion() {
+        return snapshotVersion;
+    }
+
+    public void setSnapshotVersion(Integer snapshotVersion) {
+        this.snapshotVersion = snapshotVersion;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public void setAuthorName(String authorName) {
+        this.authorName = authorName;
+    }
+}
@@ -0,0 +1,67 @@
+package com.autotest.platform.engine.admission;
+
+/**
+ * 准入判定结果
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public final class AdmissionDecision {
+
+    /** 未配置限流时的放行结果 */
+    public static final AdmissionDecision UNLIMITED = new AdmissionDecision(true, -1, -1, 0L);
+
+    private final boolean allowed;
+
+    /** 每分钟许可数，未限流时为-1 */
+    private final int limit;
+
+    /** 剩余可立即放行的请求数，未限流时为-1 */
+    private final int remaining;
+
+    /** 被拒绝时建议的重试等待时间(毫秒) */
+    private final long retryAfterMillis;
+
+    public AdmissionDecision(boolean allowed, int limit, int remaining, long retryAfterMillis) {
+        this.allowed = allowed;
+        this.limit = limit;
+        this.remaining = remaining;
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public static AdmissionDecision allow(int limit, int remaining) {
+        return new AdmissionDecision(true, limit, remaining, 0L);
+    }
+
+    public static AdmissionDecision reject(int limit, long retryAfterMillis) {
+        return new AdmissionDecision(false, limit, 0, Math.max(1L, retryAfterMillis));
+    }
+
+    public boolean isAllowed() {
+        return allowed;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getRemaining() {
+        return remaining;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+
+    /**
+     * 重试等待秒数，向上取整
+     */
+    public long getRetryAfterSeconds() {
+        return (retryAfterMillis + 999L) / 1000L;
+    }
+
+    @Override
+    public String toString() {
+        return allowed ? "allowed(" + remaining + "/" + limit + ")" : "rejected(retry after " + retryAfterMillis + "ms)";
+    }
+}
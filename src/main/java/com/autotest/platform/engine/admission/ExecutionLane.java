@@ -0,0 +1,16 @@
+package com.autotest.platform.engine.admission;
+
+/**
+ * 执行排队通道
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public enum ExecutionLane {
+
+    /** 新提交的执行 */
+    FRESH,
+
+    /** 失败用例重跑，优先级低于新执行 */
+    RETRY
+}
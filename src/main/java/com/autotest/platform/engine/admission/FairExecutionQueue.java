@@ -0,0 +1,131 @@
+package com.autotest.platform.engine.admission;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 按租户加权公平排队的执行队列
+ * <p>
+ * 采用自计时公平排队(SCFQ)：每次提交的完成标签为 max(虚拟时间, 该租户上一个完成标签) + 代价/权重，
+ * 出队取完成标签最小者并把虚拟时间推进到该标签。某个租户一次提交大量执行只会拉长自己的排队，
+ * 其他租户新提交的执行仍按各自权重插队，不必等前面的积压全部跑完。每个租户排队数有上限，超出即拒绝。
+ *
+ * @param <T> 执行项
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class FairExecutionQueue<T> {
+
+    private final int maxQueuedPerTenant;
+
+    private final PriorityQueue<Entry<T>> queue = new PriorityQueue<>();
+
+    private final Map<Long, TenantState> tenants = new HashMap<>();
+
+    private double virtualTime;
+
+    private long sequence;
+
+    public FairExecutionQueue(int maxQueuedPerTenant) {
+        this.maxQueuedPerTenant = Math.max(1, maxQueuedPerTenant);
+    }
+
+    /**
+     * 提交执行
+     *
+     * @param tenantId 租户ID
+     * @param weight 租户权重，越大分到的执行机会越多
+     * @param cost 执行代价(如用例数)，小于1按1计
+     * @param item 执行项
+     * @return 是否入队，租户排队数已满时为false
+     */
+    public synchronized boolean offer(Long tenantId, int weight, int cost, T item) {
+        TenantState state = tenants.get(tenantId);
+        if (state == null) {
+            state = new TenantState();
+            tenants.put(tenantId, state);
+        } else if (state.queued >= maxQueuedPerTenant) {
+            return false;
+        }
+        double start = Math.max(virtualTime, state.lastFinish);
+        double finish = start + (double) Math.max(1, cost) / Math.max(1, weight);
+        state.lastFinish = finish;
+        state.queued++;
+        queue.add(new Entry<>(tenantId, item, finish, sequence++));
+        return true;
+    }
+
+    /**
+     * 取出下一个执行
+     *
+     * @return 执行项，队列为空时为null
+     */
+    public synchronized T poll() {
+        Entry<T> entry = queue.poll();
+        if (entry == null) {
+            return null;
+        }
+        virtualTime = entry.finish;
+        TenantState state = tenants.get(entry.tenantId);
+        // 租户排空后其最后完成标签不超过虚拟时间，状态可以丢弃
+        if (--state.queued == 0) {
+            tenants.remove(entry.tenantId);
+        }
+        return entry.item;
+    }
+
+    public synchronized int size() {
+        return queue.size();
+    }
+
+    /**
+     * 租户排队数
+     *
+     * @param tenantId 租户ID
+     * @return 排队数
+     */
+    public synchronized int size(Long tenantId) {
+        TenantState state = tenants.get(tenantId);
+        return state == null ? 0 : state.queued;
+    }
+
+    public synchronized int getTenantCount() {
+        return tenants.size();
+    }
+
+    public int getMaxQueuedPerTenant() {
+        return maxQueuedPerTenant;
+    }
+
+    private static final class TenantState {
+
+        private double lastFinish;
+
+        private int queued;
+    }
+
+    private static final class Entry<T> implements Comparable<Entry<T>> {
+
+        private final Long tenantId;
+
+        private final T item;
+
+        private final double finish;
+
+        private final long seq;
+
+        private Entry(Long tenantId, T item, double finish, long seq) {
+            this.tenantId = tenantId;
+            this.item = item;
+            this.finish = finish;
+            this.seq = seq;
+        }
+
+        @Override
+        public int compareTo(Entry<T> o) {
+            int c = Double.compare(finish, o.finish);
+            return c != 0 ? c : Long.compare(seq, o.seq);
+        }
+    }
+}
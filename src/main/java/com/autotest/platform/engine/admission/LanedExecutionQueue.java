@@ -0,0 +1,102 @@
+package com.autotest.platform.engine.admission;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 分通道的执行队列
+ * <p>
+ * 每个通道内部按租户加权公平排队。新执行优先出队，重跑通道只在新执行通道为空时出队，
+ * 另外每连续取出 retryEvery 个新执行后让重跑通道出队一次，新执行持续积压时重跑也不会饿死。
+ *
+ * @param <T> 执行项
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class LanedExecutionQueue<T> {
+
+    private final Map<ExecutionLane, FairExecutionQueue<T>> lanes = new EnumMap<>(ExecutionLane.class);
+
+    private final int retryEvery;
+
+    /** 距上次重跑出队后连续取出的新执行数 */
+    private int freshStreak;
+
+    public LanedExecutionQueue(int maxQueuedPerTenant, int retryEvery) {
+        for (ExecutionLane lane : ExecutionLane.values()) {
+            lanes.put(lane, new FairExecutionQueue<>(maxQueuedPerTenant));
+        }
+        this.retryEvery = Math.max(1, retryEvery);
+    }
+
+    /**
+     * 提交执行
+     *
+     * @param lane 通道
+     * @param tenantId 租户ID
+     * @param weight 租户权重
+     * @param cost 执行代价
+     * @param item 执行项
+     * @return 是否入队，租户在该通道的排队数已满时为false
+     */
+    public boolean offer(ExecutionLane lane, Long tenantId, int weight, int cost, T item) {
+        return lanes.get(lane).offer(tenantId, weight, cost, item);
+    }
+
+    /**
+     * 取出下一个执行
+     *
+     * @return 执行项，全部通道为空时为null
+     */
+    public synchronized T poll() {
+        FairExecutionQueue<T> fresh = lanes.get(ExecutionLane.FRESH);
+        FairExecutionQueue<T> retry = lanes.get(ExecutionLane.RETRY);
+        if (freshStreak < retryEvery) {
+            T item = fresh.poll();
+            if (item != null) {
+                freshStreak++;
+                return item;
+            }
+        }
+        T item = retry.poll();
+        if (item != null) {
+            freshStreak = 0;
+            return item;
+        }
+        item = fresh.poll();
+        if (item != null) {
+            freshStreak++;
+        }
+        return item;
+    }
+
+    public int size() {
+        int size = 0;
+        for (FairExecutionQueue<T> lane : lanes.values()) {
+            size += lane.size();
+        }
+        return size;
+    }
+
+    public int size(ExecutionLane lane) {
+        return lanes.get(lane).size();
+    }
+
+    /**
+     * 租户在全部通道的排队数
+     *
+     * @param tenantId 租户ID
+     * @return 排队数
+     */
+    public int size(Long tenantId) {
+        int size = 0;
+        for (FairExecutionQueue<T> lane : lanes.values()) {
+            size += lane.size(tenantId);
+        }
+        return size;
+    }
+
+    public int getMaxQueuedPerTenant() {
+        return lanes.get(ExecutionLane.FRESH).getMaxQueuedPerTenant();
+    }
+}
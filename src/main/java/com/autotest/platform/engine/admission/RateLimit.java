@@ -0,0 +1,70 @@
+package com.autotest.platform.engine.admission;
+
+/**
+ * 限流规格：每分钟许可数和突发容量
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public final class RateLimit {
+
+    private static final long NANOS_PER_MINUTE = 60_000_000_000L;
+
+    /** 每分钟许可数 */
+    private final int permitsPerMinute;
+
+    /** 突发容量，空闲后最多连续放行的请求数 */
+    private final int burst;
+
+    public RateLimit(int permitsPerMinute, int burst) {
+        if (permitsPerMinute <= 0) {
+            throw new IllegalArgumentException("每分钟许可数必须大于0: " + permitsPerMinute);
+        }
+        this.permitsPerMinute = permitsPerMinute;
+        this.burst = Math.max(1, burst);
+    }
+
+    /**
+     * 突发容量等于每分钟许可数，与"每分钟N次"的约定一致
+     */
+    public static RateLimit perMinute(int permitsPerMinute) {
+        return new RateLimit(permitsPerMinute, permitsPerMinute);
+    }
+
+    public int getPermitsPerMinute() {
+        return permitsPerMinute;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    /**
+     * 两个许可之间的间隔(纳秒)
+     */
+    public long getIntervalNanos() {
+        return NANOS_PER_MINUTE / permitsPerMinute;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RateLimit)) {
+            return false;
+        }
+        RateLimit that = (RateLimit) o;
+        return permitsPerMinute == that.permitsPerMinute && burst == that.burst;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * permitsPerMinute + burst;
+    }
+
+    @Override
+    public String toString() {
+        return permitsPerMinute + "/min (burst " + burst + ")";
+    }
+}
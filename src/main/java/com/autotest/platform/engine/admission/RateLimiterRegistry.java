@@ -0,0 +1,79 @@
+package com.autotest.platform.engine.admission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 限流桶注册表
+ * <p>
+ * 每个限流键(租户、API Key等)一个 {@link StripedTokenBucket}，首次请求时创建，限流规格变化时替换。
+ * 已补满的桶与新建的桶等价，由 {@link #evictIdle} 清理，不会随访问过的键无限增长。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class RateLimiterRegistry {
+
+    private final int stripes;
+
+    private final Map<String, StripedTokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiterRegistry(int stripes) {
+        this.stripes = Math.max(1, stripes);
+    }
+
+    /**
+     * 尝试获取一个许可
+     *
+     * @param key 限流键
+     * @param limit 限流规格，为null时不限流
+     * @param now 当前时间(纳秒，System.nanoTime)
+     * @return 判定结果
+     */
+    public AdmissionDecision tryAcquire(String key, RateLimit limit, long now) {
+        if (limit == null) {
+            return AdmissionDecision.UNLIMITED;
+        }
+        StripedTokenBucket bucket = buckets.get(key);
+        if (bucket == null || !bucket.getLimit().equals(limit)) {
+            StripedTokenBucket created = new StripedTokenBucket(limit, stripes);
+            bucket = bucket == null ? buckets.computeIfAbsent(key, k -> created)
+                    : buckets.merge(key, created, (old, fresh) -> old.getLimit().equals(limit) ? old : fresh);
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    /**
+     * 归还 {@link #tryAcquire} 获取的许可，桶已被清理或限流规格已变化时忽略
+     *
+     * @param key 限流键
+     * @param limit 获取时的限流规格
+     * @param now 当前时间(纳秒)
+     */
+    public void release(String key, RateLimit limit, long now) {
+        StripedTokenBucket bucket = limit == null ? null : buckets.get(key);
+        if (bucket != null && bucket.getLimit().equals(limit)) {
+            bucket.release(now);
+        }
+    }
+
+    /**
+     * 清理已补满的桶
+     *
+     * @param now 当前时间(纳秒)
+     * @return 清理数量
+     */
+    public int evictIdle(long now) {
+        int evicted = 0;
+        for (Map.Entry<String, StripedTokenBucket> entry : buckets.entrySet()) {
+            if (entry.getValue().isFull(now) && buckets.remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
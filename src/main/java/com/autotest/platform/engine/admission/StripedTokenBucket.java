@@ -0,0 +1,96 @@
+package com.autotest.platform.engine.admission;
+
+/**
+ * 分段令牌桶
+ * <p>
+ * 同一个限流键的速率和容量平均分到多个 {@link TokenBucket}，并发请求按线程落到不同分段，
+ * 避免热点租户的所有请求争抢同一个CAS。本段令牌不足时依次尝试其他分段，总许可数与单桶一致。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class StripedTokenBucket {
+
+    private final RateLimit limit;
+
+    private final TokenBucket[] stripes;
+
+    public StripedTokenBucket(RateLimit limit, int stripes) {
+        this.limit = limit;
+        // 每段至少容纳一个许可，否则小额度的键会被拆得无法放行
+        int count = Math.max(1, Math.min(stripes, Math.min(limit.getBurst(), limit.getPermitsPerMinute())));
+        this.stripes = new TokenBucket[count];
+        long interval = limit.getIntervalNanos() * count;
+        for (int i = 0; i < count; i++) {
+            int capacity = limit.getBurst() / count + (i < limit.getBurst() % count ? 1 : 0);
+            this.stripes[i] = new TokenBucket(interval, capacity);
+        }
+    }
+
+    /**
+     * 尝试获取一个许可
+     *
+     * @param now 当前时间(纳秒)
+     * @return 判定结果
+     */
+    public AdmissionDecision tryAcquire(long now) {
+        int home = stripes.length == 1 ? 0 : (int) (Thread.currentThread().getId() % stripes.length);
+        long minWait = Long.MAX_VALUE;
+        for (int i = 0; i < stripes.length; i++) {
+            int index = (home + i) % stripes.length;
+            long result = stripes[index].tryAcquire(1, now);
+            if (result >= 0) {
+                return AdmissionDecision.allow(limit.getPermitsPerMinute(), remaining(now, index, result));
+            }
+            minWait = Math.min(minWait, -result);
+        }
+        return AdmissionDecision.reject(limit.getPermitsPerMinute(), (minWait + 999_999L) / 1_000_000L);
+    }
+
+    /**
+     * 归还一个许可，从本线程所在分段起归还到第一个未满的分段
+     *
+     * @param now 当前时间(纳秒)
+     */
+    public void release(long now) {
+        int home = stripes.length == 1 ? 0 : (int) (Thread.currentThread().getId() % stripes.length);
+        for (int i = 0; i < stripes.length; i++) {
+            if (stripes[(home + i) % stripes.length].release(1, now)) {
+                return;
+            }
+        }
+    }
+
+    public RateLimit getLimit() {
+        return limit;
+    }
+
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * 所有分段都已补满
+     *
+     * @param now 当前时间(纳秒)
+     * @return 是否已满
+     */
+    public boolean isFull(long now) {
+        for (TokenBucket stripe : stripes) {
+            if (!stripe.isFull(now)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int remaining(long now, int acquired, long acquiredRemaining) {
+        long total = acquiredRemaining;
+        for (int i = 0; i < stripes.length; i++) {
+            if (i != acquired) {
+                total += stripes[i].available(now);
+            }
+        }
+        return (int) Math.min(Integer.MAX_VALUE, total);
+    }
+}
@@ -0,0 +1,99 @@
+package com.autotest.platform.engine.admission;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 无锁令牌桶
+ * <p>
+ * 按GCRA算法只保存一个"理论到达时间"，令牌按固定间隔匀速补充，一次判定只需一次CAS，不需要后台补充线程。
+ * 理论到达时间不超过当前时间说明桶已满，此时整个桶可以丢弃。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class TokenBucket {
+
+    private final long intervalNanos;
+
+    /** 桶满时可提前消费的时间窗口 */
+    private final long toleranceNanos;
+
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    public TokenBucket(long intervalNanos, int capacity) {
+        this.intervalNanos = Math.max(1L, intervalNanos);
+        this.toleranceNanos = this.intervalNanos * Math.max(1, capacity);
+    }
+
+    /**
+     * 尝试获取许可
+     *
+     * @param permits 许可数
+     * @param now 当前时间(纳秒，System.nanoTime)
+     * @return 获取成功返回剩余可立即获取的许可数，失败返回需要等待的纳秒数的相反数
+     */
+    public long tryAcquire(int permits, long now) {
+        long cost = intervalNanos * permits;
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long start = ahead(tat, now) > 0 ? tat : now;
+            long next = start + cost;
+            long lead = next - now;
+            if (lead > toleranceNanos) {
+                return -Math.max(1L, lead - toleranceNanos);
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return (toleranceNanos - lead) / intervalNanos;
+            }
+        }
+    }
+
+    /**
+     * 归还已获取的许可，用于多个限流键组合判定时后续键拒绝的情况
+     *
+     * @param permits 许可数
+     * @param now 当前时间(纳秒)
+     * @return 是否归还，桶已满时无需归还
+     */
+    public boolean release(int permits, long now) {
+        long cost = intervalNanos * permits;
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long ahead = ahead(tat, now);
+            if (ahead <= 0) {
+                return false;
+            }
+            long next = ahead > cost ? tat - cost : now;
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 当前剩余可立即获取的许可数，只读不消费
+     *
+     * @param now 当前时间(纳秒)
+     * @return 剩余许可数
+     */
+    public long available(long now) {
+        return (toleranceNanos - Math.max(0L, ahead(theoreticalArrival.get(), now))) / intervalNanos;
+    }
+
+    /**
+     * 桶是否已补满，补满的桶与新建的桶等价
+     *
+     * @param now 当前时间(纳秒)
+     * @return 是否已满
+     */
+    public boolean isFull(long now) {
+        return ahead(theoreticalArrival.get(), now) <= 0;
+    }
+
+    /**
+     * 理论到达时间领先当前时间的纳秒数，nanoTime可能为负，按差值比较
+     */
+    private static long ahead(long tat, long now) {
+        return tat == Long.MIN_VALUE ? 0L : tat - now;
+    }
+}
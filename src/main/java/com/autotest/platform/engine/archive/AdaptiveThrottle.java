@@ -0,0 +1,53 @@
+package com.autotest.platform.engine.archive;
+
+/**
+ * 自适应节流
+ * <p>
+ * 按上一批的执行耗时调整批量：超过目标耗时减半，低于一半目标耗时增加四分之一；
+ * 每批之后按耗时比例休眠，复制延迟超限时减半批量并按超出的延迟暂停。
+ * 非线程安全，每次清理任务使用独立实例。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class AdaptiveThrottle {
+
+    private final ThrottleSettings settings;
+
+    private int chunkSize;
+
+    public AdaptiveThrottle(ThrottleSettings settings) {
+        this.settings = settings;
+        this.chunkSize = clamp(settings.getInitialChunkSize());
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * 记录一批的执行情况
+     *
+     * @param elapsedMillis 本批耗时
+     * @param lagSeconds 复制延迟，未知时为null
+     * @return 下一批之前应休眠的毫秒数
+     */
+    public long afterChunk(long elapsedMillis, Long lagSeconds) {
+        if (elapsedMillis > settings.getTargetChunkMillis()) {
+            chunkSize = clamp(chunkSize / 2);
+        } else if (elapsedMillis * 2 < settings.getTargetChunkMillis()) {
+            chunkSize = clamp(chunkSize + Math.max(1, chunkSize / 4));
+        }
+        long sleep = (long) (elapsedMillis * settings.getSleepRatio());
+        if (lagSeconds != null && lagSeconds > settings.getMaxLagSeconds()) {
+            chunkSize = clamp(chunkSize / 2);
+            sleep += (lagSeconds - settings.getMaxLagSeconds()) * 1000L;
+        }
+        return Math.min(Math.max(0L, sleep), settings.getMaxPauseMillis());
+    }
+
+    private int clamp(int size) {
+        int min = Math.max(1, settings.getMinChunkSize());
+        return Math.max(min, Math.min(Math.max(min, settings.getMaxChunkSize()), size));
+    }
+}
@@ -0,0 +1,102 @@
+package com.autotest.platform.engine.archive;
+
+/**
+ * 一次归档清理的结果
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ArchiveResult {
+
+    private final ArchiveTarget target;
+
+    /** 处理的批数 */
+    private int chunks;
+
+    /** 删除的主表行数 */
+    private long rows;
+
+    /** 删除的子表行数 */
+    private long childRows;
+
+    /** 复制到归档表的行数(含子表) */
+    private long archivedRows;
+
+    /** 删除的分区数 */
+    private int droppedPartitions;
+
+    /** 是否处理完成，false 表示到达时间上限或被停止，下次从断点继续 */
+    private boolean completed;
+
+    /** 已处理到的主键 */
+    private long lastId;
+
+    private long elapsedMillis;
+
+    public ArchiveResult(ArchiveTarget target) {
+        this.target = target;
+    }
+
+    void addChunk(long parentRows, long children, long archived, long lastId) {
+        this.chunks++;
+        this.rows += parentRows;
+        this.childRows += children;
+        this.archivedRows += archived;
+        this.lastId = lastId;
+    }
+
+    public ArchiveTarget getTarget() {
+        return target;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getChildRows() {
+        return childRows;
+    }
+
+    public long getArchivedRows() {
+        return archivedRows;
+    }
+
+    public int getDroppedPartitions() {
+        return droppedPartitions;
+    }
+
+    public void setDroppedPartitions(int droppedPartitions) {
+        this.droppedPartitions = droppedPartitions;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    public long getLastId() {
+        return lastId;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return target + "{chunks=" + chunks + ", rows=" + rows + ", childRows=" + childRows
+                + ", archivedRows=" + archivedRows + ", droppedPartitions=" + droppedPartitions
+                + ", completed=" + completed + ", lastId=" + lastId + ", elapsedMillis=" + elapsedMillis + "}";
+    }
+}
@@ -0,0 +1,79 @@
+package com.autotest.platform.engine.archive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 归档清理的数据访问
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface ArchiveStore {
+
+    /**
+     * 按主键顺序查询一批过期且已结束的记录
+     *
+     * @param target 归档表
+     * @param cutoff 截止时间，早于该时间的记录过期
+     * @param afterId 只查询大于该主键的记录
+     * @param limit 最大条数
+     * @return 升序主键集合
+     */
+    List<Long> selectExpiredIds(ArchiveTarget target, LocalDateTime cutoff, long afterId, int limit);
+
+    /**
+     * 按主键顺序查询分区内的一批记录
+     *
+     * @param target 归档表
+     * @param partitionName 分区名
+     * @param afterId 只查询大于该主键的记录
+     * @param limit 最大条数
+     * @return 升序主键集合
+     */
+    List<Long> selectPartitionIds(ArchiveTarget target, String partitionName, long afterId, int limit);
+
+    /**
+     * 将记录复制到归档表 {@code <table>_archive}，已存在的记录忽略，保证中断后重放幂等
+     *
+     * @param table 表名
+     * @param column 关联列
+     * @param ids 关联值
+     * @return 复制的行数
+     */
+    int copyRows(String table, String column, List<Long> ids);
+
+    /**
+     * 删除记录
+     *
+     * @param table 表名
+     * @param column 关联列
+     * @param ids 关联值
+     * @return 删除的行数
+     */
+    int deleteRows(String table, String column, List<Long> ids);
+
+    /**
+     * 读取断点
+     *
+     * @param taskKey 任务键
+     * @return 已处理到的主键，没有断点时为null
+     */
+    Long loadCheckpoint(String taskKey);
+
+    /**
+     * 保存断点
+     *
+     * @param taskKey 任务键
+     * @param lastId 已处理到的主键
+     * @param processedRows 本轮累计处理的主表行数
+     */
+    void saveCheckpoint(String taskKey, long lastId, long processedRows);
+
+    /**
+     * 本轮处理完成后清除断点，下一轮从头扫描以覆盖后来才结束的旧记录
+     *
+     * @param taskKey 任务键
+     */
+    void clearCheckpoint(String taskKey);
+}
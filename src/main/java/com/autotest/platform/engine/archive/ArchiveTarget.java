@@ -0,0 +1,87 @@
+package com.autotest.platform.engine.archive;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 可归档清理的历史表
+ * <p>
+ * 表名和列名只来自这里的常量，Mapper中以 {@code ${}} 拼接时不会引入外部输入。
+ * 子表按外键列(与主表主键同名)先于主表处理。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public enum ArchiveTarget {
+
+    /** 测试执行，连同执行用例和报告 */
+    TEST_EXECUTION("test_execution", "execution_id", "status", true,
+            new String[]{"SUCCESS", "FAILED", "CANCELLED", "TIMEOUT"},
+            "test_report", "test_execution_case"),
+
+    /** 流水线执行，连同步骤、日志、资源、产物和环境变量 */
+    PIPELINE_EXECUTION("pipeline_execution", "execution_id", "status", false,
+            new String[]{"SUCCESS", "FAILED", "STOPPED", "ARCHIVED"},
+            "pipeline_execution_step", "pipeline_execution_log", "pipeline_execution_resource",
+            "pipeline_execution_artifact", "pipeline_execution_env"),
+
+    /** Webhook事件，连同处理历史 */
+    WEBHOOK_EVENT("webhook_event", "event_id", "status", true,
+            new String[]{"COMPLETED", "FAILED", "SKIPPED", "ARCHIVED"},
+            "webhook_event_history");
+
+    /** 主表 */
+    private final String table;
+
+    /** 主键列，也是子表的关联列 */
+    private final String idColumn;
+
+    /** 状态列，只清理已结束的记录 */
+    private final String statusColumn;
+
+    /** 是否可能按月分区(按 create_time) */
+    private final boolean partitioned;
+
+    private final List<String> finishedStatuses;
+
+    private final List<String> childTables;
+
+    ArchiveTarget(String table, String idColumn, String statusColumn, boolean partitioned,
+                  String[] finishedStatuses, String... childTables) {
+        this.table = table;
+        this.idColumn = idColumn;
+        this.statusColumn = statusColumn;
+        this.partitioned = partitioned;
+        this.finishedStatuses = Collections.unmodifiableList(Arrays.asList(finishedStatuses));
+        this.childTables = Collections.unmodifiableList(Arrays.asList(childTables));
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getIdColumn() {
+        return idColumn;
+    }
+
+    public String getTimeColumn() {
+        return "create_time";
+    }
+
+    public String getStatusColumn() {
+        return statusColumn;
+    }
+
+    public boolean isPartitioned() {
+        return partitioned;
+    }
+
+    public List<String> getFinishedStatuses() {
+        return finishedStatuses;
+    }
+
+    public List<String> getChildTables() {
+        return childTables;
+    }
+}
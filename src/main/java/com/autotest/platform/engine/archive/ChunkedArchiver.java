@@ -0,0 +1,143 @@
+package com.autotest.platform.engine.archive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 分批归档清理器
+ * <p>
+ * 按主键顺序每次取一批过期记录，先处理子表再处理主表，每批单独提交，锁持有时间与批量成正比。
+ * 每批完成后写断点，中断或到达时间上限后下次从断点继续；扫描到末尾时清除断点。
+ * 开启归档时先 {@code insert ignore} 复制到 {@code <table>_archive} 再删除，重放同一批不会重复。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ChunkedArchiver {
+
+    private final ArchiveStore store;
+
+    private final ThrottleSettings settings;
+
+    /** 复制延迟(秒)，未知时返回null */
+    private final Supplier<Long> lagProbe;
+
+    private volatile boolean stopped;
+
+    public ChunkedArchiver(ArchiveStore store, ThrottleSettings settings, Supplier<Long> lagProbe) {
+        this.store = store;
+        this.settings = settings;
+        this.lagProbe = lagProbe;
+    }
+
+    /**
+     * 清理一张表的过期记录
+     *
+     * @param target 归档表
+     * @param cutoff 截止时间
+     * @param archive 是否先复制到归档表
+     * @param maxRunMillis 本次最长运行时间，到达后保留断点退出
+     * @return 清理结果
+     */
+    public ArchiveResult run(ArchiveTarget target, LocalDateTime cutoff, boolean archive, long maxRunMillis) {
+        return loop(target, target.name(), (afterId, limit) -> store.selectExpiredIds(target, cutoff, afterId, limit),
+                archive, true, maxRunMillis);
+    }
+
+    /**
+     * 分批删除分区内记录的子表行，完成后调用方即可整区删除主表分区
+     *
+     * @param target 归档表
+     * @param partitionName 分区名
+     * @param maxRunMillis 本次最长运行时间，到达后保留断点退出
+     * @return 清理结果，completed 为true时子表已清理干净
+     */
+    public ArchiveResult purgeChildren(ArchiveTarget target, String partitionName, long maxRunMillis) {
+        return loop(target, target.name() + ":" + partitionName,
+                (afterId, limit) -> store.selectPartitionIds(target, partitionName, afterId, limit),
+                false, false, maxRunMillis);
+    }
+
+    /**
+     * 停止正在运行的清理，当前批完成后退出；停止标记保留到 {@link #reset()}，
+     * 同一轮中尚未开始的表也不再处理
+     */
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * 清除停止标记，新一轮清理开始前调用
+     */
+    public void reset() {
+        stopped = false;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    private ArchiveResult loop(ArchiveTarget target, String taskKey, IdBatch batch, boolean archive,
+                               boolean includeParent, long maxRunMillis) {
+        long start = System.currentTimeMillis();
+        ArchiveResult result = new ArchiveResult(target);
+        AdaptiveThrottle throttle = new AdaptiveThrottle(settings);
+        Long checkpoint = store.loadCheckpoint(taskKey);
+        long afterId = checkpoint == null ? 0L : checkpoint;
+        while (!stopped && System.currentTimeMillis() - start < maxRunMillis) {
+            long chunkStart = System.currentTimeMillis();
+            List<Long> ids = batch.next(afterId, throttle.chunkSize());
+            if (ids.isEmpty()) {
+                store.clearCheckpoint(taskKey);
+                result.setCompleted(true);
+                break;
+            }
+            long archived = 0;
+            long children = 0;
+            for (String child : target.getChildTables()) {
+                if (archive) {
+                    archived += store.copyRows(child, target.getIdColumn(), ids);
+                }
+                children += store.deleteRows(child, target.getIdColumn(), ids);
+            }
+            long rows = 0;
+            if (includeParent) {
+                if (archive) {
+                    archived += store.copyRows(target.getTable(), target.getIdColumn(), ids);
+                }
+                rows = store.deleteRows(target.getTable(), target.getIdColumn(), ids);
+            }
+            afterId = ids.get(ids.size() - 1);
+            result.addChunk(rows, children, archived, afterId);
+            store.saveCheckpoint(taskKey, afterId, includeParent ? result.getRows() : result.getChildRows());
+            long sleep = throttle.afterChunk(System.currentTimeMillis() - chunkStart, lagProbe.get());
+            if (sleep > 0 && !pause(sleep)) {
+                break;
+            }
+        }
+        result.setElapsedMillis(System.currentTimeMillis() - start);
+        return result;
+    }
+
+    /**
+     * 批间休眠
+     *
+     * @return 被中断时返回false
+     */
+    protected boolean pause(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @FunctionalInterface
+    private interface IdBatch {
+
+        List<Long> next(long afterId, int limit);
+    }
+}
@@ -0,0 +1,110 @@
+package com.autotest.platform.engine.archive;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 按月分区规划
+ * <p>
+ * 分区方案见 database-design.md：{@code PARTITION BY RANGE (YEAR(create_time)*100 + MONTH(create_time))}，
+ * 分区名为 {@code pYYYYMM}，上界为下个月，最后是 {@code p_future VALUES LESS THAN MAXVALUE}。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public final class PartitionPlanner {
+
+    /** 兜底分区名 */
+    public static final String FUTURE_PARTITION = "p_future";
+
+    private static final Pattern MONTH_PARTITION = Pattern.compile("p(\\d{4})(\\d{2})");
+
+    private PartitionPlanner() {
+    }
+
+    /**
+     * 整个分区都早于截止月份的分区，可直接删除
+     *
+     * @param partitionNames 现有分区名
+     * @param cutoff 截止月份，该月及之后的分区保留
+     * @return 可删除的分区名，按月份升序
+     */
+    public static List<String> expiredPartitions(List<String> partitionNames, YearMonth cutoff) {
+        List<String> expired = new ArrayList<>();
+        for (String name : partitionNames) {
+            YearMonth month = monthOf(name);
+            if (month != null && month.isBefore(cutoff)) {
+                expired.add(name);
+            }
+        }
+        expired.sort(null);
+        return expired;
+    }
+
+    /**
+     * 需要从 p_future 拆出的月份分区
+     *
+     * @param partitionNames 现有分区名
+     * @param current 当前月份
+     * @param monthsAhead 预建的月份数(含当前月)
+     * @return 缺少的月份，升序；没有 p_future 分区时为空
+     */
+    public static List<YearMonth> missingMonths(List<String> partitionNames, YearMonth current, int monthsAhead) {
+        List<YearMonth> missing = new ArrayList<>();
+        if (!partitionNames.contains(FUTURE_PARTITION)) {
+            return missing;
+        }
+        Set<YearMonth> existing = new HashSet<>();
+        YearMonth latest = null;
+        for (String name : partitionNames) {
+            YearMonth month = monthOf(name);
+            if (month != null) {
+                existing.add(month);
+                latest = latest == null || month.isAfter(latest) ? month : latest;
+            }
+        }
+        for (int i = 0; i < monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            // 只能从 p_future 拆出比已有分区更晚的月份
+            if (!existing.contains(month) && (latest == null || month.isAfter(latest))) {
+                missing.add(month);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * 月份分区名
+     */
+    public static String partitionName(YearMonth month) {
+        return String.format("p%04d%02d", month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * 月份分区的上界值 YEAR*100+MONTH
+     */
+    public static int upperBound(YearMonth month) {
+        YearMonth next = month.plusMonths(1);
+        return next.getYear() * 100 + next.getMonthValue();
+    }
+
+    /**
+     * 解析月份分区名，非 pYYYYMM 格式时返回null
+     */
+    public static YearMonth monthOf(String partitionName) {
+        if (partitionName == null) {
+            return null;
+        }
+        Matcher matcher = MONTH_PARTITION.matcher(partitionName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        int month = Integer.parseInt(matcher.group(2));
+        return month >= 1 && month <= 12 ? YearMonth.of(Integer.parseInt(matcher.group(1)), month) : null;
+    }
+}
@@ -0,0 +1,87 @@
+package com.autotest.platform.engine.archive;
+
+/**
+ * 分批清理的节流配置
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ThrottleSettings {
+
+    /** 初始每批行数 */
+    private int initialChunkSize = 1000;
+
+    /** 最小每批行数 */
+    private int minChunkSize = 100;
+
+    /** 最大每批行数 */
+    private int maxChunkSize = 5000;
+
+    /** 每批目标耗时(毫秒)，超过时减半批量 */
+    private long targetChunkMillis = 500L;
+
+    /** 休眠与执行耗时之比，1 表示数据库最多一半时间在处理清理 */
+    private double sleepRatio = 1.0;
+
+    /** 允许的最大复制延迟(秒)，超过时暂停 */
+    private long maxLagSeconds = 5L;
+
+    /** 单次最长暂停(毫秒) */
+    private long maxPauseMillis = 30000L;
+
+    public int getInitialChunkSize() {
+        return initialChunkSize;
+    }
+
+    public void setInitialChunkSize(int initialChunkSize) {
+        this.initialChunkSize = initialChunkSize;
+    }
+
+    public int getMinChunkSize() {
+        return minChunkSize;
+    }
+
+    public void setMinChunkSize(int minChunkSize) {
+        this.minChunkSize = minChunkSize;
+    }
+
+    public int getMaxChunkSize() {
+        return maxChunkSize;
+    }
+
+    public void setMaxChunkSize(int maxChunkSize) {
+        this.maxChunkSize = maxChunkSize;
+    }
+
+    public long getTargetChunkMillis() {
+        return targetChunkMillis;
+    }
+
+    public void setTargetChunkMillis(long targetChunkMillis) {
+        this.targetChunkMillis = targetChunkMillis;
+    }
+
+    public double getSleepRatio() {
+        return sleepRatio;
+    }
+
+    public void setSleepRatio(double sleepRatio) {
+        this.sleepRatio = sleepRatio;
+    }
+
+    public long getMaxLagSeconds() {
+        return maxLagSeconds;
+    }
+
+    public void setMaxLagSeconds(long maxLagSeconds) {
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public long getMaxPauseMillis() {
+        return maxPauseMillis;
+    }
+
+    public void setMaxPauseMillis(long maxPauseMillis) {
+        this.maxPauseMillis = maxPauseMillis;
+    }
+}
@@ -0,0 +1,129 @@
+package com.autotest.platform.engine.category;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 分类树节点
+ * <p>
+ * 结构字段在构建后不再变化，用例计数由 {@link CategoryTree} 在持锁状态下增量修正。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class CategoryNode {
+
+    /** 分类ID */
+    private final Long categoryId;
+
+    /** 父分类ID，根节点为0 */
+    private final Long parentId;
+
+    /** 分类名称 */
+    private final String categoryName;
+
+    /** 显示顺序 */
+    private final Integer orderNum;
+
+    /** 负责人 */
+    private final String leader;
+
+    /** 层级，根节点为1 */
+    private int level;
+
+    /** 直接挂载的用例数 */
+    private volatile int caseCount;
+
+    /** 含所有子分类的用例数 */
+    private volatile int subtreeCaseCount;
+
+    /** 父节点，不参与序列化 */
+    private CategoryNode parent;
+
+    /** 子节点 */
+    private List<CategoryNode> children = Collections.emptyList();
+
+    public CategoryNode(Long categoryId, Long parentId, String categoryName, Integer orderNum, String leader,
+                        int caseCount) {
+        this.categoryId = categoryId;
+        this.parentId = parentId == null ? 0L : parentId;
+        this.categoryName = categoryName;
+        this.orderNum = orderNum;
+        this.leader = leader;
+        this.caseCount = caseCount;
+    }
+
+    public Long getCategoryId() {
+        return categoryId;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public Integer getOrderNum() {
+        return orderNum;
+    }
+
+    public String getLeader() {
+        return leader;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public int getCaseCount() {
+        return caseCount;
+    }
+
+    public int getSubtreeCaseCount() {
+        return subtreeCaseCount;
+    }
+
+    public List<CategoryNode> getChildren() {
+        return children;
+    }
+
+    public boolean isHasChildren() {
+        return !children.isEmpty();
+    }
+
+    /**
+     * 复制结构与计数字段，不含父子关系
+     */
+    CategoryNode copy() {
+        CategoryNode copy = new CategoryNode(categoryId, parentId, categoryName, orderNum, leader, caseCount);
+        copy.level = level;
+        copy.subtreeCaseCount = subtreeCaseCount;
+        return copy;
+    }
+
+    CategoryNode parent() {
+        return parent;
+    }
+
+    void setParent(CategoryNode parent) {
+        this.parent = parent;
+    }
+
+    void setChildren(List<CategoryNode> children) {
+        this.children = Collections.unmodifiableList(children);
+    }
+
+    void setLevel(int level) {
+        this.level = level;
+    }
+
+    void setCaseCount(int caseCount) {
+        this.caseCount = caseCount;
+    }
+
+    void setSubtreeCaseCount(int subtreeCaseCount) {
+        this.subtreeCaseCount = subtreeCaseCount;
+    }
+}
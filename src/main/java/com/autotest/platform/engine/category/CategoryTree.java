@@ -0,0 +1,241 @@
+package com.autotest.platform.engine.category;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 项目分类树
+ * <p>
+ * 由一次性加载的分类行和按分类聚合的用例数构建，构建时预先计算每个节点的子树用例数，
+ * 展开节点、判断是否有子节点/用例以及整树查询均直接读取内存结构。
+ * 用例增删时沿父链修正计数，分类结构变化时由 {@link CategoryTreeCache} 整体失效重建。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class CategoryTree {
+
+    private static final Comparator<CategoryNode> ORDER = Comparator
+            .comparing((CategoryNode n) -> n.getOrderNum() == null ? Integer.MAX_VALUE : n.getOrderNum())
+            .thenComparing(CategoryNode::getCategoryId);
+
+    private final Long projectId;
+
+    private final Map<Long, CategoryNode> nodes;
+
+    private final List<CategoryNode> roots;
+
+    private final long buildTime;
+
+    private CategoryTree(Long projectId, Map<Long, CategoryNode> nodes, List<CategoryNode> roots) {
+        this.projectId = projectId;
+        this.nodes = nodes;
+        this.roots = Collections.unmodifiableList(roots);
+        this.buildTime = System.currentTimeMillis();
+    }
+
+    /**
+     * 构建分类树
+     *
+     * @param projectId 项目ID
+     * @param categories 项目下全部分类节点
+     * @return 分类树
+     */
+    public static CategoryTree build(Long projectId, Collection<CategoryNode> categories) {
+        Map<Long, CategoryNode> nodes = new HashMap<>(Math.max(16, categories.size() * 2));
+        for (CategoryNode node : categories) {
+            nodes.put(node.getCategoryId(), node);
+        }
+        Map<Long, List<CategoryNode>> children = new HashMap<>();
+        List<CategoryNode> roots = new ArrayList<>();
+        for (CategoryNode node : nodes.values()) {
+            CategoryNode parent = nodes.get(node.getParentId());
+            // 父节点不存在或形成环时挂到根下，避免脏数据导致节点丢失
+            if (parent == null || createsCycle(node, parent, nodes)) {
+                roots.add(node);
+                node.setParent(null);
+            } else {
+                children.computeIfAbsent(parent.getCategoryId(), k -> new ArrayList<>()).add(node);
+                node.setParent(parent);
+            }
+        }
+        for (Map.Entry<Long, List<CategoryNode>> entry : children.entrySet()) {
+            entry.getValue().sort(ORDER);
+            nodes.get(entry.getKey()).setChildren(entry.getValue());
+        }
+        roots.sort(ORDER);
+        computeLevelsAndCounts(roots);
+        return new CategoryTree(projectId, nodes, roots);
+    }
+
+    /**
+     * 根节点列表，节点含完整子树及用例数
+     */
+    public List<CategoryNode> getRoots() {
+        return roots;
+    }
+
+    /**
+     * 获取子分类
+     *
+     * @param parentId 父分类ID，0或null表示根
+     * @return 子分类，父分类不存在时为空
+     */
+    public List<CategoryNode> getChildren(Long parentId) {
+        if (parentId == null || parentId == 0L) {
+            return roots;
+        }
+        CategoryNode node = nodes.get(parentId);
+        return node == null ? Collections.<CategoryNode>emptyList() : node.getChildren();
+    }
+
+    /**
+     * 根节点副本，与缓存节点脱离，用例计数为同一时刻的一致快照
+     */
+    public synchronized List<CategoryNode> copyRoots() {
+        return copyAll(roots, null);
+    }
+
+    /**
+     * 子分类副本(含各自子树)
+     *
+     * @param parentId 父分类ID，0或null表示根
+     * @return 子分类副本，父分类不存在时为空
+     */
+    public synchronized List<CategoryNode> copyChildren(Long parentId) {
+        if (parentId == null || parentId == 0L) {
+            return copyAll(roots, null);
+        }
+        CategoryNode node = nodes.get(parentId);
+        return node == null ? Collections.<CategoryNode>emptyList() : copyAll(node.getChildren(), null);
+    }
+
+    public CategoryNode get(Long categoryId) {
+        return nodes.get(categoryId);
+    }
+
+    public boolean contains(Long categoryId) {
+        return nodes.containsKey(categoryId);
+    }
+
+    public boolean hasChildren(Long categoryId) {
+        CategoryNode node = nodes.get(categoryId);
+        return node != null && node.isHasChildren();
+    }
+
+    public boolean hasTestCases(Long categoryId) {
+        CategoryNode node = nodes.get(categoryId);
+        return node != null && node.getCaseCount() > 0;
+    }
+
+    /**
+     * 分类及其所有子分类ID
+     */
+    public List<Long> getSubtreeCategoryIds(Long categoryId) {
+        CategoryNode node = nodes.get(categoryId);
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        List<Long> ids = new ArrayList<>();
+        Deque<CategoryNode> stack = new ArrayDeque<>();
+        stack.push(node);
+        while (!stack.isEmpty()) {
+            CategoryNode current = stack.pop();
+            ids.add(current.getCategoryId());
+            for (CategoryNode child : current.getChildren()) {
+                stack.push(child);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 修正分类用例数，沿父链同步子树计数
+     *
+     * @param categoryId 分类ID
+     * @param delta 变化量
+     * @return 分类不在树中时返回false
+     */
+    public synchronized boolean adjustCaseCount(Long categoryId, int delta) {
+        CategoryNode node = nodes.get(categoryId);
+        if (node == null) {
+            return false;
+        }
+        // 计数不允许为负，按实际变化量修正父链
+        int applied = Math.max(0, node.getCaseCount() + delta) - node.getCaseCount();
+        node.setCaseCount(node.getCaseCount() + applied);
+        for (CategoryNode current = node; current != null; current = current.parent()) {
+            current.setSubtreeCaseCount(current.getSubtreeCaseCount() + applied);
+        }
+        return true;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public long getBuildTime() {
+        return buildTime;
+    }
+
+    private static boolean createsCycle(CategoryNode node, CategoryNode parent, Map<Long, CategoryNode> nodes) {
+        CategoryNode current = parent;
+        for (int depth = 0; current != null && depth <= nodes.size(); depth++) {
+            if (current == node) {
+                return true;
+            }
+            current = nodes.get(current.getParentId());
+        }
+        return current != null;
+    }
+
+    /**
+     * 迭代后序遍历计算层级和子树用例数，避免深层分类递归栈溢出
+     */
+    private static List<CategoryNode> copyAll(List<CategoryNode> source, CategoryNode parent) {
+        List<CategoryNode> copies = new ArrayList<>(source.size());
+        for (CategoryNode node : source) {
+            CategoryNode copy = node.copy();
+            copy.setParent(parent);
+            copy.setChildren(copyAll(node.getChildren(), copy));
+            copies.add(copy);
+        }
+        return Collections.unmodifiableList(copies);
+    }
+
+    private static void computeLevelsAndCounts(List<CategoryNode> roots) {
+        Deque<CategoryNode> stack = new ArrayDeque<>();
+        List<CategoryNode> order = new ArrayList<>();
+        for (CategoryNode root : roots) {
+            root.setLevel(1);
+            stack.push(root);
+        }
+        while (!stack.isEmpty()) {
+            CategoryNode node = stack.pop();
+            order.add(node);
+            for (CategoryNode child : node.getChildren()) {
+                child.setLevel(node.getLevel() + 1);
+                stack.push(child);
+            }
+        }
+        for (int i = order.size() - 1; i >= 0; i--) {
+            CategoryNode node = order.get(i);
+            int total = node.getCaseCount();
+            for (CategoryNode child : node.getChildren()) {
+                total += child.getSubtreeCaseCount();
+            }
+            node.setSubtreeCaseCount(total);
+        }
+    }
+}
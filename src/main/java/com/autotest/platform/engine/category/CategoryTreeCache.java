@@ -0,0 +1,105 @@
+package com.autotest.platform.engine.category;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 分类树缓存
+ * <p>
+ * 按项目缓存 {@link CategoryTree}，未命中或过期时通过加载函数重建。每个项目维护一个版本号，
+ * 失效和计数修正都会递增版本，加载期间版本发生变化的结果不会写入缓存，避免并发加载覆盖较新的修改。
+ * 全部失效递增全局代数，覆盖正在加载但尚未写入缓存的项目。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class CategoryTreeCache {
+
+    private final Function<Long, CategoryTree> loader;
+
+    /** 缓存有效期(毫秒)，兜底其他节点或直接改库造成的不一致，小于等于0表示不过期 */
+    private final long ttlMillis;
+
+    private final Map<Long, CategoryTree> trees = new ConcurrentHashMap<>();
+
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    /** 全局代数，全部失效时递增 */
+    private final AtomicLong generation = new AtomicLong();
+
+    public CategoryTreeCache(Function<Long, CategoryTree> loader, long ttlMillis) {
+        this.loader = loader;
+        this.ttlMillis = ttlMillis;
+    }
+
+    /**
+     * 获取项目分类树
+     *
+     * @param projectId 项目ID
+     * @return 分类树
+     */
+    public CategoryTree get(Long projectId) {
+        CategoryTree tree = trees.get(projectId);
+        if (tree != null && !isExpired(tree)) {
+            return tree;
+        }
+        AtomicLong version = version(projectId);
+        long expectedGeneration = generation.get();
+        long expected = version.get();
+        CategoryTree loaded = loader.apply(projectId);
+        trees.compute(projectId, (k, current) ->
+                generation.get() == expectedGeneration && version.get() == expected ? loaded : current);
+        return loaded;
+    }
+
+    /**
+     * 获取已缓存的分类树，不触发加载
+     */
+    public CategoryTree getIfPresent(Long projectId) {
+        return trees.get(projectId);
+    }
+
+    /**
+     * 使项目分类树失效，分类新增、修改、删除后调用
+     *
+     * @param projectId 项目ID
+     */
+    public void invalidate(Long projectId) {
+        version(projectId).incrementAndGet();
+        trees.remove(projectId);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        trees.clear();
+    }
+
+    /**
+     * 修正分类用例数，用例新增、删除或移动分类后调用
+     *
+     * @param projectId 项目ID
+     * @param categoryId 分类ID
+     * @param delta 变化量
+     */
+    public void adjustCaseCount(Long projectId, Long categoryId, int delta) {
+        if (projectId == null || categoryId == null || delta == 0) {
+            return;
+        }
+        version(projectId).incrementAndGet();
+        CategoryTree tree = trees.get(projectId);
+        if (tree != null && !tree.adjustCaseCount(categoryId, delta)) {
+            // 分类不在缓存树中，说明树已陈旧
+            trees.remove(projectId);
+        }
+    }
+
+    private boolean isExpired(CategoryTree tree) {
+        return ttlMillis > 0 && System.currentTimeMillis() - tree.getBuildTime() > ttlMillis;
+    }
+
+    private AtomicLong version(Long projectId) {
+        return versions.computeIfAbsent(projectId, k -> new AtomicLong());
+    }
+}
@@ -0,0 +1,237 @@
+package com.autotest.platform.engine.coldstore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 本地冷存储目录
+ * <p>
+ * 目录结构为 {@code <root>/<表名>/<项目ID>/<yyyy-MM>/part-*.atc}，按项目和月份裁剪分区后再扫描文件。
+ * 文件写入后不再修改，恢复数据时整文件重写去掉已恢复的行。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ColdArchiveStore {
+
+    /** 文件扩展名 */
+    public static final String SUFFIX = ".atc";
+
+    private final Path root;
+
+    private final int rowGroupSize;
+
+    private final AtomicLong partSequence = new AtomicLong();
+
+    public ColdArchiveStore(Path root, int rowGroupSize) {
+        this.root = root;
+        this.rowGroupSize = rowGroupSize;
+    }
+
+    /**
+     * 新建一个分区文件
+     *
+     * @param table 表
+     * @param projectId 项目ID
+     * @param month 月份
+     * @return 写入器，按 {@link ColdTable#getColumns()} 顺序写入行
+     */
+    public ColumnarWriter openWriter(ColdTable table, long projectId, YearMonth month) throws IOException {
+        String name = "part-" + System.currentTimeMillis() + "-" + partSequence.incrementAndGet() + SUFFIX;
+        return new ColumnarWriter(partitionDir(table, projectId, month).resolve(name), table.getColumns(),
+                rowGroupSize);
+    }
+
+    /**
+     * 有数据的项目
+     */
+    public List<Long> projects(ColdTable table) throws IOException {
+        List<Long> projects = new ArrayList<>();
+        for (Path dir : children(root.resolve(table.getTable()))) {
+            try {
+                projects.add(Long.parseLong(dir.getFileName().toString()));
+            } catch (NumberFormatException ignored) {
+                // 非分区目录
+            }
+        }
+        Collections.sort(projects);
+        return projects;
+    }
+
+    /**
+     * 项目有数据的月份，升序
+     */
+    public List<YearMonth> months(ColdTable table, long projectId) throws IOException {
+        List<YearMonth> months = new ArrayList<>();
+        for (Path dir : children(root.resolve(table.getTable()).resolve(String.valueOf(projectId)))) {
+            try {
+                months.add(YearMonth.parse(dir.getFileName().toString()));
+            } catch (RuntimeException ignored) {
+                // 非分区目录
+            }
+        }
+        Collections.sort(months);
+        return months;
+    }
+
+    /**
+     * 扫描冷存储
+     *
+     * @param table 表
+     * @param projectId 项目ID，为null时扫描所有项目
+     * @param from 起始月份(含)，为null时不限
+     * @param to 结束月份(含)，为null时不限
+     * @param newestFirst 是否从最近的月份开始扫描，配合 visitor 返回false 实现"最近N条"
+     * @param projection 输出列，为空时输出全部列
+     * @param predicates 过滤条件
+     * @param visitor 行回调
+     */
+    public void scan(ColdTable table, Long projectId, YearMonth from, YearMonth to, boolean newestFirst,
+                     List<String> projection, List<ColdPredicate> predicates, RowVisitor visitor) throws IOException {
+        List<Long> projects = projectId == null ? projects(table) : Collections.singletonList(projectId);
+        List<Partition> partitions = new ArrayList<>();
+        for (Long project : projects) {
+            for (YearMonth month : months(table, project)) {
+                if ((from == null || !month.isBefore(from)) && (to == null || !month.isAfter(to))) {
+                    partitions.add(new Partition(project, month));
+                }
+            }
+        }
+        partitions.sort((a, b) -> newestFirst ? b.month.compareTo(a.month) : a.month.compareTo(b.month));
+        for (Partition partition : partitions) {
+            for (Path file : parts(table, partition.projectId, partition.month)) {
+                try (ColumnarReader reader = ColumnarReader.open(file)) {
+                    if (reader.scan(projection, predicates, visitor)) {
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 分区内已归档的主键
+     */
+    public Set<Long> ids(ColdTable table, long projectId, YearMonth month) throws IOException {
+        Set<Long> ids = new HashSet<>();
+        for (Path file : parts(table, projectId, month)) {
+            try (ColumnarReader reader = ColumnarReader.open(file)) {
+                reader.scan(Collections.singletonList(table.getIdColumn()), Collections.emptyList(), row -> {
+                    ids.add((Long) row[0]);
+                    return true;
+                });
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 从分区中删除指定关联值的行，涉及的文件整体重写
+     *
+     * @param table 表
+     * @param projectId 项目ID
+     * @param month 月份
+     * @param column 匹配列
+     * @param values 要删除的值
+     * @return 删除的行数
+     */
+    public long remove(ColdTable table, long projectId, YearMonth month, String column, Set<Long> values)
+            throws IOException {
+        if (values.isEmpty()) {
+            return 0;
+        }
+        List<ColdPredicate> match = Collections.singletonList(ColdPredicate.in(column, values));
+        long removed = 0;
+        for (Path file : parts(table, projectId, month)) {
+            long hits;
+            long total;
+            try (ColumnarReader reader = ColumnarReader.open(file)) {
+                long[] count = {0};
+                reader.scan(Collections.singletonList(column), match, row -> {
+                    count[0]++;
+                    return true;
+                });
+                hits = count[0];
+                total = reader.getRowCount();
+                if (hits > 0 && hits < total) {
+                    rewriteWithout(reader, file, table, column, values);
+                }
+            }
+            if (hits > 0 && hits == total) {
+                Files.delete(file);
+            }
+            removed += hits;
+        }
+        return removed;
+    }
+
+    private void rewriteWithout(ColumnarReader reader, Path file, ColdTable table, String column, Set<Long> values)
+            throws IOException {
+        int columnIndex = table.getColumnNames().indexOf(column);
+        ColumnarWriter writer = new ColumnarWriter(file, table.getColumns(), rowGroupSize);
+        try {
+            reader.scan(null, Collections.emptyList(), row -> {
+                if (!values.contains(row[columnIndex])) {
+                    try {
+                        writer.write(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return true;
+            });
+        } catch (RuntimeException e) {
+            writer.abort();
+            throw e;
+        }
+        writer.close();
+    }
+
+    private List<Path> parts(ColdTable table, long projectId, YearMonth month) throws IOException {
+        List<Path> parts = new ArrayList<>();
+        for (Path file : children(partitionDir(table, projectId, month))) {
+            if (file.getFileName().toString().endsWith(SUFFIX)) {
+                parts.add(file);
+            }
+        }
+        Collections.sort(parts);
+        return parts;
+    }
+
+    private Path partitionDir(ColdTable table, long projectId, YearMonth month) {
+        return root.resolve(table.getTable()).resolve(String.valueOf(projectId)).resolve(month.toString());
+    }
+
+    private static List<Path> children(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> stream = Files.list(dir)) {
+            List<Path> children = new ArrayList<>();
+            stream.forEach(children::add);
+            return children;
+        }
+    }
+
+    private static final class Partition {
+
+        private final long projectId;
+
+        private final YearMonth month;
+
+        private Partition(long projectId, YearMonth month) {
+            this.projectId = projectId;
+            this.month = month;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.autotest.platform.engine.coldstore;
+
+/**
+ * 冷存储列定义
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ColdColumn {
+
+    /**
+     * 列类型
+     */
+    public enum Kind {
+        /** 整数，增量+变长编码 */
+        LONG,
+        /** 字符串，重复值多时使用字典编码 */
+        STRING,
+        /** 时间，按毫秒存储，读出为 LocalDateTime */
+        TIME
+    }
+
+    private final String name;
+
+    private final Kind kind;
+
+    public ColdColumn(String name, Kind kind) {
+        this.name = name;
+        this.kind = kind;
+    }
+
+    public static ColdColumn longColumn(String name) {
+        return new ColdColumn(name, Kind.LONG);
+    }
+
+    public static ColdColumn stringColumn(String name) {
+        return new ColdColumn(name, Kind.STRING);
+    }
+
+    public static ColdColumn timeColumn(String name) {
+        return new ColdColumn(name, Kind.TIME);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+}
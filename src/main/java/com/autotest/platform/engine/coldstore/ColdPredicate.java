@@ -0,0 +1,147 @@
+package com.autotest.platform.engine.coldstore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 冷存储查询条件，多个条件之间为"且"关系
+ * <p>
+ * 行组的最小/最大值不满足条件时整个行组跳过；空值不满足任何条件。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public final class ColdPredicate {
+
+    /**
+     * 比较方式
+     */
+    public enum Op {
+        EQ, IN, GT, GE, LT, LE
+    }
+
+    private final String column;
+
+    private final Op op;
+
+    private final List<Object> values;
+
+    private ColdPredicate(String column, Op op, List<Object> values) {
+        this.column = column;
+        this.op = op;
+        this.values = values;
+    }
+
+    public static ColdPredicate eq(String column, Object value) {
+        return new ColdPredicate(column, Op.EQ, Collections.singletonList(value));
+    }
+
+    public static ColdPredicate in(String column, Collection<?> values) {
+        return new ColdPredicate(column, Op.IN, new ArrayList<>(values));
+    }
+
+    public static ColdPredicate gt(String column, Object value) {
+        return new ColdPredicate(column, Op.GT, Collections.singletonList(value));
+    }
+
+    public static ColdPredicate ge(String column, Object value) {
+        return new ColdPredicate(column, Op.GE, Collections.singletonList(value));
+    }
+
+    public static ColdPredicate lt(String column, Object value) {
+        return new ColdPredicate(column, Op.LT, Collections.singletonList(value));
+    }
+
+    public static ColdPredicate le(String column, Object value) {
+        return new ColdPredicate(column, Op.LE, Collections.singletonList(value));
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * 按列类型转换比较值，如时间转为毫秒
+     */
+    ColdPredicate bind(ColdColumn.Kind kind) {
+        Object[] bound = new Object[values.size()];
+        for (int i = 0; i < bound.length; i++) {
+            bound[i] = ColumnarFormat.toStored(kind, values.get(i));
+        }
+        return new ColdPredicate(column, op, Arrays.asList(bound));
+    }
+
+    /**
+     * 行组是否可能包含满足条件的行
+     *
+     * @param min 行组最小值，没有统计时为null
+     * @param max 行组最大值
+     * @param allNull 行组该列是否全为空
+     */
+    boolean mightMatch(Object min, Object max, boolean allNull) {
+        if (allNull) {
+            return false;
+        }
+        if (min == null || max == null) {
+            return true;
+        }
+        switch (op) {
+            case EQ:
+            case IN:
+                for (Object value : values) {
+                    if (value != null && compare(value, min) >= 0 && compare(value, max) <= 0) {
+                        return true;
+                    }
+                }
+                return false;
+            case GT:
+                return compare(max, values.get(0)) > 0;
+            case GE:
+                return compare(max, values.get(0)) >= 0;
+            case LT:
+                return compare(min, values.get(0)) < 0;
+            default:
+                return compare(min, values.get(0)) <= 0;
+        }
+    }
+
+    /**
+     * 单个存储值是否满足条件
+     */
+    boolean test(Object stored) {
+        if (stored == null) {
+            return false;
+        }
+        switch (op) {
+            case EQ:
+            case IN:
+                for (Object value : values) {
+                    if (value != null && compare(stored, value) == 0) {
+                        return true;
+                    }
+                }
+                return false;
+            case GT:
+                return compare(stored, values.get(0)) > 0;
+            case GE:
+                return compare(stored, values.get(0)) >= 0;
+            case LT:
+                return compare(stored, values.get(0)) < 0;
+            default:
+                return compare(stored, values.get(0)) <= 0;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object left, Object right) {
+        return ((Comparable) left).compareTo(right);
+    }
+
+    @Override
+    public String toString() {
+        return column + " " + op + " " + values;
+    }
+}
@@ -0,0 +1,95 @@
+package com.autotest.platform.engine.coldstore;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.autotest.platform.engine.coldstore.ColdColumn.longColumn;
+import static com.autotest.platform.engine.coldstore.ColdColumn.stringColumn;
+import static com.autotest.platform.engine.coldstore.ColdColumn.timeColumn;
+
+/**
+ * 导出到冷存储的表
+ * <p>
+ * 列与建表语句一一对应，恢复时按这里的列原样写回；表名和列名也用于 Mapper 的 {@code ${}} 拼接。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public enum ColdTable {
+
+    TEST_EXECUTION("test_execution", "execution_id", "project_id",
+            longColumn("execution_id"), stringColumn("execution_code"), longColumn("project_id"),
+            stringColumn("execution_name"), stringColumn("execution_type"), stringColumn("status"),
+            stringColumn("priority"), timeColumn("planned_start_time"), timeColumn("actual_start_time"),
+            timeColumn("planned_end_time"), timeColumn("actual_end_time"), longColumn("environment_id"),
+            stringColumn("execution_config"), longColumn("total_cases"), longColumn("success_cases"),
+            longColumn("failed_cases"), longColumn("skipped_cases"), longColumn("progress"),
+            stringColumn("error_message"), stringColumn("log_path"), stringColumn("report_path"),
+            longColumn("executor_id"), stringColumn("create_by"), timeColumn("create_time"),
+            stringColumn("update_by"), timeColumn("update_time"), stringColumn("remark")),
+
+    /** 随所属执行一起导出，按执行的项目和月份分区 */
+    TEST_EXECUTION_CASE("test_execution_case", "execution_case_id", null,
+            longColumn("execution_case_id"), longColumn("execution_id"), longColumn("case_id"),
+            stringColumn("status"), timeColumn("start_time"), timeColumn("end_time"), longColumn("duration"),
+            stringColumn("result"), stringColumn("error_message"), stringColumn("step_results"),
+            stringColumn("assertion_results"), stringColumn("screenshot_path"), stringColumn("log_path"),
+            longColumn("retry_count"), stringColumn("executor_node"), stringColumn("thread_id"),
+            stringColumn("create_by"), timeColumn("create_time"), stringColumn("update_by"),
+            timeColumn("update_time")),
+
+    WEBHOOK_EVENT("webhook_event", "event_id", "project_id",
+            longColumn("event_id"), stringColumn("event_type"), stringColumn("event_source"),
+            stringColumn("repository_url"), stringColumn("branch"), stringColumn("commit_sha"),
+            stringColumn("commit_message"), stringColumn("author"), stringColumn("tag"), stringColumn("payload"),
+            stringColumn("headers"), stringColumn("signature"), stringColumn("status"),
+            longColumn("processing_time"), stringColumn("error_message"), longColumn("triggered_execution_id"),
+            longColumn("project_id"), timeColumn("create_time"), timeColumn("update_time"),
+            stringColumn("create_by"), stringColumn("update_by"), stringColumn("remark"));
+
+    private final String table;
+
+    private final String idColumn;
+
+    /** 项目列，为null时按父表分区 */
+    private final String projectColumn;
+
+    private final List<ColdColumn> columns;
+
+    ColdTable(String table, String idColumn, String projectColumn, ColdColumn... columns) {
+        this.table = table;
+        this.idColumn = idColumn;
+        this.projectColumn = projectColumn;
+        this.columns = Collections.unmodifiableList(Arrays.asList(columns));
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getIdColumn() {
+        return idColumn;
+    }
+
+    public String getProjectColumn() {
+        return projectColumn;
+    }
+
+    public String getTimeColumn() {
+        return "create_time";
+    }
+
+    public List<ColdColumn> getColumns() {
+        return columns;
+    }
+
+    public List<String> getColumnNames() {
+        List<String> names = new ArrayList<>(columns.size());
+        for (ColdColumn column : columns) {
+            names.add(column.getName());
+        }
+        return names;
+    }
+}
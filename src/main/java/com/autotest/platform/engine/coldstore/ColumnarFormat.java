@@ -0,0 +1,315 @@
+package com.autotest.platform.engine.coldstore;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 列式文件编码
+ * <p>
+ * 文件布局：{@code MAGIC VERSION | 行组1的各列块 | 行组2 ... | footer | footer偏移(8字节) MAGIC}。
+ * 每个列块先写空值位图，整数和时间按差值 zigzag 变长编码，字符串在重复度高时字典编码，最后整体 deflate 压缩。
+ * footer 记录表结构以及每个行组每列的偏移、长度、空值数和最小/最大值，用于跳过行组和只读需要的列。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+final class ColumnarFormat {
+
+    static final int MAGIC = 0x41544346;
+
+    static final short VERSION = 1;
+
+    /** 字符串超过该长度不记录最小/最大值，避免 footer 膨胀 */
+    static final int MAX_STATS_LENGTH = 64;
+
+    static final byte STATS_NONE = 0;
+
+    static final byte STATS_LONG = 1;
+
+    static final byte STATS_STRING = 2;
+
+    private static final byte ENCODING_PLAIN = 0;
+
+    private static final byte ENCODING_DICTIONARY = 1;
+
+    private ColumnarFormat() {
+    }
+
+    /**
+     * 转为存储值：整数和时间为 Long，字符串为 String
+     */
+    static Object toStored(ColdColumn.Kind kind, Object value) {
+        if (value == null) {
+            return null;
+        }
+        switch (kind) {
+            case LONG:
+                return value instanceof Number ? ((Number) value).longValue() : Long.parseLong(value.toString());
+            case TIME:
+                return toEpochMillis(value);
+            default:
+                return value.toString();
+        }
+    }
+
+    /**
+     * 存储值转为读出值，时间转为 LocalDateTime
+     */
+    static Object toValue(ColdColumn.Kind kind, Object stored) {
+        if (stored == null || kind != ColdColumn.Kind.TIME) {
+            return stored;
+        }
+        return new Timestamp((Long) stored).toLocalDateTime();
+    }
+
+    private static long toEpochMillis(Object value) {
+        if (value instanceof Long) {
+            return (Long) value;
+        }
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+        if (value instanceof LocalDate) {
+            return ((LocalDate) value).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        throw new IllegalArgumentException("不支持的时间类型: " + value.getClass().getName());
+    }
+
+    static byte[] encode(ColdColumn.Kind kind, Object[] values, int count) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(32, count * 4));
+        writeNulls(buffer, values, count);
+        if (kind == ColdColumn.Kind.STRING) {
+            encodeStrings(buffer, values, count);
+        } else {
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                if (values[i] != null) {
+                    long value = (Long) values[i];
+                    writeVarLong(buffer, zigzag(value - previous));
+                    previous = value;
+                }
+            }
+        }
+        return deflate(buffer.toByteArray());
+    }
+
+    static Object[] decode(ColdColumn.Kind kind, byte[] chunk, int count) throws IOException {
+        byte[] raw = inflate(chunk);
+        int[] position = {0};
+        boolean[] nulls = readNulls(raw, position, count);
+        Object[] values = new Object[count];
+        if (kind == ColdColumn.Kind.STRING) {
+            decodeStrings(raw, position, nulls, values);
+        } else {
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                if (!nulls[i]) {
+                    previous += unzigzag(readVarLong(raw, position));
+                    values[i] = previous;
+                }
+            }
+        }
+        return values;
+    }
+
+    private static void writeNulls(ByteArrayOutputStream buffer, Object[] values, int count) {
+        byte[] bitmap = new byte[(count + 7) / 8];
+        boolean hasNull = false;
+        for (int i = 0; i < count; i++) {
+            if (values[i] == null) {
+                bitmap[i >> 3] |= (byte) (1 << (i & 7));
+                hasNull = true;
+            }
+        }
+        buffer.write(hasNull ? 1 : 0);
+        if (hasNull) {
+            buffer.write(bitmap, 0, bitmap.length);
+        }
+    }
+
+    private static boolean[] readNulls(byte[] raw, int[] position, int count) {
+        boolean[] nulls = new boolean[count];
+        if (raw[position[0]++] == 1) {
+            for (int i = 0; i < count; i++) {
+                nulls[i] = (raw[position[0] + (i >> 3)] & (1 << (i & 7))) != 0;
+            }
+            position[0] += (count + 7) / 8;
+        }
+        return nulls;
+    }
+
+    private static void encodeStrings(ByteArrayOutputStream buffer, Object[] values, int count) {
+        Map<String, Integer> dictionary = new HashMap<>();
+        int nonNull = 0;
+        for (int i = 0; i < count; i++) {
+            if (values[i] != null) {
+                nonNull++;
+                dictionary.putIfAbsent((String) values[i], dictionary.size());
+            }
+        }
+        if (dictionary.size() * 2 <= nonNull) {
+            buffer.write(ENCODING_DICTIONARY);
+            String[] entries = new String[dictionary.size()];
+            for (Map.Entry<String, Integer> entry : dictionary.entrySet()) {
+                entries[entry.getValue()] = entry.getKey();
+            }
+            writeVarLong(buffer, entries.length);
+            for (String entry : entries) {
+                writeString(buffer, entry);
+            }
+            for (int i = 0; i < count; i++) {
+                if (values[i] != null) {
+                    writeVarLong(buffer, dictionary.get(values[i]));
+                }
+            }
+        } else {
+            buffer.write(ENCODING_PLAIN);
+            for (int i = 0; i < count; i++) {
+                if (values[i] != null) {
+                    writeString(buffer, (String) values[i]);
+                }
+            }
+        }
+    }
+
+    private static void decodeStrings(byte[] raw, int[] position, boolean[] nulls, Object[] values) {
+        byte encoding = raw[position[0]++];
+        if (encoding == ENCODING_DICTIONARY) {
+            String[] entries = new String[(int) readVarLong(raw, position)];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = readString(raw, position);
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (!nulls[i]) {
+                    values[i] = entries[(int) readVarLong(raw, position)];
+                }
+            }
+        } else {
+            for (int i = 0; i < values.length; i++) {
+                if (!nulls[i]) {
+                    values[i] = readString(raw, position);
+                }
+            }
+        }
+    }
+
+    private static void writeString(ByteArrayOutputStream buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(buffer, bytes.length);
+        buffer.write(bytes, 0, bytes.length);
+    }
+
+    private static String readString(byte[] raw, int[] position) {
+        int length = (int) readVarLong(raw, position);
+        String value = new String(raw, position[0], length, StandardCharsets.UTF_8);
+        position[0] += length;
+        return value;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.write((int) value);
+    }
+
+    private static long readVarLong(byte[] raw, int[] position) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = raw[position[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 4));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] chunk) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(chunk);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(chunk.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("列块数据不完整");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("列块解压失败", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    static void writeStats(DataOutput out, ColdColumn.Kind kind, Object min, Object max) throws IOException {
+        if (min == null) {
+            out.writeByte(STATS_NONE);
+        } else if (kind == ColdColumn.Kind.STRING) {
+            out.writeByte(STATS_STRING);
+            out.writeUTF((String) min);
+            out.writeUTF((String) max);
+        } else {
+            out.writeByte(STATS_LONG);
+            out.writeLong((Long) min);
+            out.writeLong((Long) max);
+        }
+    }
+
+    static Object[] readStats(DataInput in) throws IOException {
+        byte type = in.readByte();
+        if (type == STATS_STRING) {
+            return new Object[]{in.readUTF(), in.readUTF()};
+        }
+        if (type == STATS_LONG) {
+            return new Object[]{in.readLong(), in.readLong()};
+        }
+        return new Object[]{null, null};
+    }
+}
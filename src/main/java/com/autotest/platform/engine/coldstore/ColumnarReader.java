@@ -0,0 +1,290 @@
+package com.autotest.platform.engine.coldstore;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 列式文件读取器
+ * <p>
+ * 打开时只读 footer；扫描时先用行组统计跳过不可能命中的行组，
+ * 再只解压条件列，条件全部满足的行才解压并输出查询列。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ColumnarReader implements Closeable {
+
+    private final Path path;
+
+    private final FileChannel channel;
+
+    private final List<ColdColumn> columns;
+
+    private final Map<String, Integer> columnIndex = new HashMap<>();
+
+    private final List<RowGroup> rowGroups;
+
+    /** 最近一次扫描读取的行组数，用于观察条件下推效果 */
+    private int lastScannedGroups;
+
+    private ColumnarReader(Path path, FileChannel channel, List<ColdColumn> columns, List<RowGroup> rowGroups) {
+        this.path = path;
+        this.channel = channel;
+        this.columns = columns;
+        this.rowGroups = rowGroups;
+        for (int i = 0; i < columns.size(); i++) {
+            columnIndex.put(columns.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * 打开列式文件
+     *
+     * @param path 文件路径
+     * @return 读取器
+     */
+    public static ColumnarReader open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            if (size < 18) {
+                throw new IOException("不是列式归档文件: " + path);
+            }
+            ByteBuffer tail = read(channel, size - 12, 12);
+            long footerOffset = tail.getLong();
+            if (tail.getInt() != ColumnarFormat.MAGIC || footerOffset < 6 || footerOffset > size - 12) {
+                throw new IOException("列式归档文件已损坏: " + path);
+            }
+            ByteBuffer footer = read(channel, footerOffset, (int) (size - 12 - footerOffset));
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(footer.array()));
+            int columnCount = in.readInt();
+            List<ColdColumn> columns = new ArrayList<>(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                String name = in.readUTF();
+                columns.add(new ColdColumn(name, ColdColumn.Kind.values()[in.readByte()]));
+            }
+            int groupCount = in.readInt();
+            List<RowGroup> groups = new ArrayList<>(groupCount);
+            for (int g = 0; g < groupCount; g++) {
+                RowGroup group = new RowGroup(in.readInt(), columnCount);
+                for (int c = 0; c < columnCount; c++) {
+                    group.offsets[c] = in.readLong();
+                    group.lengths[c] = in.readInt();
+                    group.nullCounts[c] = in.readInt();
+                    Object[] stats = ColumnarFormat.readStats(in);
+                    group.mins[c] = stats[0];
+                    group.maxs[c] = stats[1];
+                }
+                groups.add(group);
+            }
+            return new ColumnarReader(path, channel, Collections.unmodifiableList(columns), groups);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public List<ColdColumn> getColumns() {
+        return columns;
+    }
+
+    public long getRowCount() {
+        long count = 0;
+        for (RowGroup group : rowGroups) {
+            count += group.rowCount;
+        }
+        return count;
+    }
+
+    public int getRowGroupCount() {
+        return rowGroups.size();
+    }
+
+    public int getLastScannedGroups() {
+        return lastScannedGroups;
+    }
+
+    /**
+     * 指定列在全部行组中的最大值，列不存在或没有统计时返回null
+     */
+    public Object max(String column) {
+        Integer index = columnIndex.get(column);
+        Object max = null;
+        if (index == null) {
+            return null;
+        }
+        for (RowGroup group : rowGroups) {
+            Object value = group.maxs[index];
+            if (value == null) {
+                return null;
+            }
+            if (max == null || compare(value, max) > 0) {
+                max = value;
+            }
+        }
+        return max;
+    }
+
+    /**
+     * 扫描文件
+     *
+     * @param projection 输出列，为空时输出全部列
+     * @param predicates 过滤条件
+     * @param visitor 行回调
+     * @return visitor 是否要求停止
+     */
+    public boolean scan(List<String> projection, List<ColdPredicate> predicates, RowVisitor visitor)
+            throws IOException {
+        int[] output = resolve(projection == null || projection.isEmpty() ? namesOf(columns) : projection);
+        List<ColdPredicate> bound = new ArrayList<>(predicates.size());
+        int[] predicateColumns = new int[predicates.size()];
+        for (int i = 0; i < predicates.size(); i++) {
+            int index = resolve(Collections.singletonList(predicates.get(i).getColumn()))[0];
+            predicateColumns[i] = index;
+            bound.add(predicates.get(i).bind(columns.get(index).getKind()));
+        }
+        lastScannedGroups = 0;
+        for (RowGroup group : rowGroups) {
+            if (!mightMatch(group, bound, predicateColumns)) {
+                continue;
+            }
+            lastScannedGroups++;
+            Object[][] decoded = new Object[columns.size()][];
+            boolean[] matched = new boolean[group.rowCount];
+            Arrays.fill(matched, true);
+            for (int i = 0; i < bound.size(); i++) {
+                Object[] values = column(group, predicateColumns[i], decoded);
+                for (int r = 0; r < group.rowCount; r++) {
+                    matched[r] = matched[r] && bound.get(i).test(values[r]);
+                }
+            }
+            if (!anyMatched(matched)) {
+                continue;
+            }
+            for (int index : output) {
+                column(group, index, decoded);
+            }
+            for (int r = 0; r < group.rowCount; r++) {
+                if (!matched[r]) {
+                    continue;
+                }
+                Object[] row = new Object[output.length];
+                for (int c = 0; c < output.length; c++) {
+                    row[c] = ColumnarFormat.toValue(columns.get(output[c]).getKind(), decoded[output[c]][r]);
+                }
+                if (!visitor.visit(row)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean mightMatch(RowGroup group, List<ColdPredicate> predicates, int[] predicateColumns) {
+        for (int i = 0; i < predicates.size(); i++) {
+            int c = predicateColumns[i];
+            if (!predicates.get(i).mightMatch(group.mins[c], group.maxs[c], group.nullCounts[c] == group.rowCount)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Object[] column(RowGroup group, int index, Object[][] decoded) throws IOException {
+        if (decoded[index] == null) {
+            ByteBuffer chunk = read(channel, group.offsets[index], group.lengths[index]);
+            decoded[index] = ColumnarFormat.decode(columns.get(index).getKind(), chunk.array(), group.rowCount);
+        }
+        return decoded[index];
+    }
+
+    private int[] resolve(List<String> names) {
+        int[] indexes = new int[names.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            Integer index = columnIndex.get(names.get(i));
+            if (index == null) {
+                throw new IllegalArgumentException("归档文件" + path.getFileName() + "不包含列: " + names.get(i));
+            }
+            indexes[i] = index;
+        }
+        return indexes;
+    }
+
+    private static List<String> namesOf(List<ColdColumn> columns) {
+        List<String> names = new ArrayList<>(columns.size());
+        for (ColdColumn column : columns) {
+            names.add(column.getName());
+        }
+        return names;
+    }
+
+    private static boolean anyMatched(boolean[] matched) {
+        for (boolean value : matched) {
+            if (value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object left, Object right) {
+        return ((Comparable) left).compareTo(right);
+    }
+
+    private static ByteBuffer read(FileChannel channel, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("归档文件被截断");
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static final class RowGroup {
+
+        private final int rowCount;
+
+        private final long[] offsets;
+
+        private final int[] lengths;
+
+        private final int[] nullCounts;
+
+        private final Object[] mins;
+
+        private final Object[] maxs;
+
+        private RowGroup(int rowCount, int columnCount) {
+            this.rowCount = rowCount;
+            this.offsets = new long[columnCount];
+            this.lengths = new int[columnCount];
+            this.nullCounts = new int[columnCount];
+            this.mins = new Object[columnCount];
+            this.maxs = new Object[columnCount];
+        }
+    }
+}
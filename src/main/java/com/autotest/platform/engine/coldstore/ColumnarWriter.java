@@ -0,0 +1,182 @@
+package com.autotest.platform.engine.coldstore;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 列式文件写入器
+ * <p>
+ * 行按列缓存，满一个行组后逐列编码写出，内存中只保留一个行组。
+ * 先写到同目录临时文件，{@link #close()} 时写 footer 并原子改名，读者不会看到写了一半的文件。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ColumnarWriter implements Closeable {
+
+    private final Path target;
+
+    private final Path temp;
+
+    private final List<ColdColumn> columns;
+
+    private final int rowGroupSize;
+
+    private final DataOutputStream out;
+
+    private final Object[][] buffer;
+
+    private final ByteArrayOutputStream footer = new ByteArrayOutputStream();
+
+    private final DataOutputStream footerOut = new DataOutputStream(footer);
+
+    private int buffered;
+
+    private int rowGroups;
+
+    private long position;
+
+    private long rowCount;
+
+    private boolean closed;
+
+    public ColumnarWriter(Path target, List<ColdColumn> columns, int rowGroupSize) throws IOException {
+        this.target = target;
+        this.temp = target.resolveSibling(target.getFileName() + ".tmp");
+        this.columns = new ArrayList<>(columns);
+        this.rowGroupSize = Math.max(1, rowGroupSize);
+        this.buffer = new Object[columns.size()][this.rowGroupSize];
+        Files.createDirectories(target.toAbsolutePath().getParent());
+        this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 64 * 1024));
+        out.writeInt(ColumnarFormat.MAGIC);
+        out.writeShort(ColumnarFormat.VERSION);
+        position = 6;
+    }
+
+    /**
+     * 写入一行
+     *
+     * @param row 按列顺序排列的值，整数可为任意 Number，时间可为 LocalDateTime/Date
+     */
+    public void write(Object[] row) throws IOException {
+        if (row.length != columns.size()) {
+            throw new IllegalArgumentException("列数不匹配: " + row.length + " != " + columns.size());
+        }
+        for (int c = 0; c < row.length; c++) {
+            buffer[c][buffered] = ColumnarFormat.toStored(columns.get(c).getKind(), row[c]);
+        }
+        rowCount++;
+        if (++buffered == rowGroupSize) {
+            flushRowGroup();
+        }
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 写 footer 并发布文件
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (buffered > 0) {
+                flushRowGroup();
+            }
+            long footerOffset = position;
+            out.writeInt(columns.size());
+            for (ColdColumn column : columns) {
+                out.writeUTF(column.getName());
+                out.writeByte(column.getKind().ordinal());
+            }
+            out.writeInt(rowGroups);
+            footerOut.flush();
+            footer.writeTo(out);
+            out.writeLong(footerOffset);
+            out.writeInt(ColumnarFormat.MAGIC);
+            out.close();
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            abort();
+            throw e;
+        }
+    }
+
+    /**
+     * 放弃写入并删除临时文件
+     */
+    public void abort() {
+        closed = true;
+        try {
+            out.close();
+        } catch (IOException ignored) {
+            // 删除临时文件即可
+        }
+        try {
+            Files.deleteIfExists(temp);
+        } catch (IOException ignored) {
+            // 临时文件不会被读取
+        }
+    }
+
+    private void flushRowGroup() throws IOException {
+        footerOut.writeInt(buffered);
+        for (int c = 0; c < columns.size(); c++) {
+            ColdColumn.Kind kind = columns.get(c).getKind();
+            Object[] values = buffer[c];
+            byte[] chunk = ColumnarFormat.encode(kind, values, buffered);
+            out.write(chunk);
+            footerOut.writeLong(position);
+            footerOut.writeInt(chunk.length);
+            position += chunk.length;
+            writeColumnStats(kind, values);
+            Arrays.fill(values, 0, buffered, null);
+        }
+        rowGroups++;
+        buffered = 0;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void writeColumnStats(ColdColumn.Kind kind, Object[] values) throws IOException {
+        int nulls = 0;
+        Comparable min = null;
+        Comparable max = null;
+        boolean statsUsable = true;
+        for (int i = 0; i < buffered; i++) {
+            Comparable value = (Comparable) values[i];
+            if (value == null) {
+                nulls++;
+                continue;
+            }
+            if (value instanceof String && ((String) value).length() > ColumnarFormat.MAX_STATS_LENGTH) {
+                statsUsable = false;
+            }
+            if (min == null || value.compareTo(min) < 0) {
+                min = value;
+            }
+            if (max == null || value.compareTo(max) > 0) {
+                max = value;
+            }
+        }
+        footerOut.writeInt(nulls);
+        if (statsUsable) {
+            ColumnarFormat.writeStats(footerOut, kind, min, max);
+        } else {
+            ColumnarFormat.writeStats(footerOut, kind, null, null);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.autotest.platform.engine.coldstore;
+
+/**
+ * 冷存储扫描回调
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@FunctionalInterface
+public interface RowVisitor {
+
+    /**
+     * 处理一行
+     *
+     * @param row 按查询列顺序排列的值
+     * @return 返回false时停止扫描
+     */
+    boolean visit(Object[] row);
+}
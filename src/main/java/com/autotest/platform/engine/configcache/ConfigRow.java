@@ -0,0 +1,61 @@
+package com.autotest.platform.engine.configcache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * 配置字段的文本和版本
+ * <p>
+ * 更新时间只精确到秒，同一秒内的两次修改版本相同，因此同时比较文本校验和。
+ * 校验和为文本UTF-8字节的CRC32，与MySQL对utf8mb4列计算的 {@code crc32()} 一致。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ConfigRow {
+
+    private final String text;
+
+    /** 版本，取记录的更新时间(毫秒) */
+    private final long version;
+
+    /** 文本校验和，文本为空时为0 */
+    private final long checksum;
+
+    public ConfigRow(String text, long version) {
+        this(text, version, checksum(text));
+    }
+
+    public ConfigRow(String text, long version, long checksum) {
+        this.text = text;
+        this.version = version;
+        this.checksum = checksum;
+    }
+
+    /**
+     * 计算文本校验和
+     *
+     * @param text 配置文本
+     * @return CRC32，文本为null时为0
+     */
+    public static long checksum(String text) {
+        if (text == null) {
+            return 0L;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(text.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public long getChecksum() {
+        return checksum;
+    }
+}
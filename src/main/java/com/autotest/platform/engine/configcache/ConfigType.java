@@ -0,0 +1,144 @@
+package com.autotest.platform.engine.configcache;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONArray;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 可缓存的配置字段，定义所在表、主键列、字段列和解析方式
+ * <p>
+ * 表名和列名只来自本类常量，可安全拼入SQL。
+ *
+ * @param <T> 解析结果类型，必须不可变
+ * @author autotest
+ * @date 2026-10-19
+ */
+public final class ConfigType<T> {
+
+    /** 执行配置 */
+    public static final ConfigType<JsonConfig> EXECUTION_CONFIG = new ConfigType<>("execution_config",
+            "test_execution", "execution_id", "execution_config", JsonConfig::parse);
+
+    /** 调度执行配置 */
+    public static final ConfigType<JsonConfig> SCHEDULE_CONFIG = new ConfigType<>("schedule_config",
+            "test_schedule", "schedule_id", "execution_config", JsonConfig::parse);
+
+    /** 调度用例ID列表 */
+    public static final ConfigType<List<Long>> SCHEDULE_CASE_IDS = new ConfigType<>("schedule_case_ids",
+            "test_schedule", "schedule_id", "case_ids", ConfigType::parseIds);
+
+    /** 调度分类ID列表 */
+    public static final ConfigType<List<Long>> SCHEDULE_CATEGORY_IDS = new ConfigType<>("schedule_category_ids",
+            "test_schedule", "schedule_id", "category_ids", ConfigType::parseIds);
+
+    /** 流水线配置 */
+    public static final ConfigType<JsonConfig> PIPELINE_CONFIG = new ConfigType<>("pipeline_config",
+            "pipeline", "pipeline_id", "pipeline_config", JsonConfig::parse);
+
+    /** 流水线模板配置 */
+    public static final ConfigType<JsonConfig> PIPELINE_TEMPLATE_CONFIG = new ConfigType<>("template_config",
+            "pipeline_template", "template_id", "template_config", JsonConfig::parse);
+
+    /** 触发器配置 */
+    public static final ConfigType<JsonConfig> TRIGGER_CONFIG = new ConfigType<>("trigger_config",
+            "trigger_config", "config_id", "config_json", JsonConfig::parse);
+
+    /** 环境API配置 */
+    public static final ConfigType<JsonConfig> ENVIRONMENT_API_CONFIG = new ConfigType<>("environment_api_config",
+            "test_environment", "env_id", "api_config", JsonConfig::parse);
+
+    private static final List<ConfigType<?>> VALUES = Collections.unmodifiableList(Arrays.asList(
+            EXECUTION_CONFIG, SCHEDULE_CONFIG, SCHEDULE_CASE_IDS, SCHEDULE_CATEGORY_IDS, PIPELINE_CONFIG,
+            PIPELINE_TEMPLATE_CONFIG, TRIGGER_CONFIG, ENVIRONMENT_API_CONFIG));
+
+    private final String name;
+
+    private final String table;
+
+    private final String idColumn;
+
+    private final String column;
+
+    private final Function<String, T> parser;
+
+    private ConfigType(String name, String table, String idColumn, String column, Function<String, T> parser) {
+        this.name = name;
+        this.table = table;
+        this.idColumn = idColumn;
+        this.column = column;
+        this.parser = parser;
+    }
+
+    /**
+     * 全部配置字段
+     */
+    public static List<ConfigType<?>> values() {
+        return VALUES;
+    }
+
+    /**
+     * 解析字段文本
+     *
+     * @param text 字段文本
+     * @return 不可变的解析结果
+     */
+    public T parse(String text) {
+        return parser.apply(text);
+    }
+
+    /**
+     * 解析ID列表，支持JSON数组和逗号分隔两种写法
+     *
+     * @param text 字段文本
+     * @return 不可修改的ID列表
+     */
+    public static List<Long> parseIds(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        String trimmed = text.trim();
+        List<Long> ids = new ArrayList<>();
+        if (trimmed.startsWith("[")) {
+            JSONArray array = JSON.parseArray(trimmed);
+            for (int i = 0; i < array.size(); i++) {
+                Long id = array.getLong(i);
+                if (id != null) {
+                    ids.add(id);
+                }
+            }
+        } else {
+            for (String part : trimmed.split(",")) {
+                if (!part.trim().isEmpty()) {
+                    ids.add(Long.valueOf(part.trim()));
+                }
+            }
+        }
+        return Collections.unmodifiableList(ids);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public String getIdColumn() {
+        return idColumn;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
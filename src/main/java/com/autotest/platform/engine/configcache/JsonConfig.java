@@ -0,0 +1,207 @@
+package com.autotest.platform.engine.configcache;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
+import com.alibaba.fastjson.parser.Feature;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 不可变的JSON配置
+ * <p>
+ * 解析后对象和数组全部转为不可修改的 Map/List，可在线程间共享、被缓存复用。
+ * 取值路径以点分隔，如 {@code getString("notify.email.to")}；路径不存在或类型不符时返回null。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public final class JsonConfig {
+
+    public static final JsonConfig EMPTY = new JsonConfig(Collections.emptyMap());
+
+    private final Map<String, Object> values;
+
+    private JsonConfig(Map<String, Object> values) {
+        this.values = values;
+    }
+
+    /**
+     * 解析JSON对象文本
+     *
+     * @param json JSON文本，为空时返回空配置
+     * @return 不可变配置
+     * @throws IllegalArgumentException 文本不是JSON对象
+     */
+    @SuppressWarnings("unchecked")
+    public static JsonConfig parse(String json) {
+        if (json == null || json.trim().isEmpty()) {
+            return EMPTY;
+        }
+        Object parsed;
+        try {
+            parsed = JSON.parse(json, Feature.OrderedField);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("配置不是合法的JSON: " + e.getMessage(), e);
+        }
+        if (!(parsed instanceof JSONObject)) {
+            throw new IllegalArgumentException("配置不是JSON对象");
+        }
+        return new JsonConfig((Map<String, Object>) freeze(parsed));
+    }
+
+    private static Object freeze(Object value) {
+        if (value instanceof JSONObject) {
+            JSONObject object = (JSONObject) value;
+            Map<String, Object> map = new LinkedHashMap<>(Math.max(4, object.size() * 4 / 3 + 1));
+            for (Map.Entry<String, Object> entry : object.entrySet()) {
+                map.put(entry.getKey(), freeze(entry.getValue()));
+            }
+            return Collections.unmodifiableMap(map);
+        }
+        if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            List<Object> list = new ArrayList<>(array.size());
+            for (Object item : array) {
+                list.add(freeze(item));
+            }
+            return Collections.unmodifiableList(list);
+        }
+        return value;
+    }
+
+    /**
+     * 按路径取值
+     *
+     * @param path 点分隔路径
+     * @return 值，对象为不可修改Map，数组为不可修改List
+     */
+    public Object get(String path) {
+        Object current = values;
+        int start = 0;
+        while (current != null) {
+            int dot = path.indexOf('.', start);
+            String key = dot < 0 ? path.substring(start) : path.substring(start, dot);
+            if (!(current instanceof Map)) {
+                return null;
+            }
+            current = ((Map<?, ?>) current).get(key);
+            if (dot < 0) {
+                return current;
+            }
+            start = dot + 1;
+        }
+        return null;
+    }
+
+    public String getString(String path) {
+        Object value = get(path);
+        return value == null || value instanceof Map || value instanceof List ? null : value.toString();
+    }
+
+    public String getString(String path, String defaultValue) {
+        String value = getString(path);
+        return value == null ? defaultValue : value;
+    }
+
+    public Integer getInteger(String path) {
+        Object value = get(path);
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Integer.valueOf(((String) value).trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    public int getIntValue(String path, int defaultValue) {
+        Integer value = getInteger(path);
+        return value == null ? defaultValue : value;
+    }
+
+    public Long getLong(String path) {
+        Object value = get(path);
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String) {
+            try {
+                return Long.valueOf(((String) value).trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    public Boolean getBoolean(String path) {
+        Object value = get(path);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        if (value instanceof String) {
+            return Boolean.valueOf(((String) value).trim());
+        }
+        return null;
+    }
+
+    public boolean getBooleanValue(String path, boolean defaultValue) {
+        Boolean value = getBoolean(path);
+        return value == null ? defaultValue : value;
+    }
+
+    /**
+     * 取子配置
+     *
+     * @param path 点分隔路径
+     * @return 子配置，不存在或不是对象时返回空配置
+     */
+    @SuppressWarnings("unchecked")
+    public JsonConfig getConfig(String path) {
+        Object value = get(path);
+        return value instanceof Map ? new JsonConfig((Map<String, Object>) value) : EMPTY;
+    }
+
+    /**
+     * 取数组
+     *
+     * @param path 点分隔路径
+     * @return 不可修改列表，不存在或不是数组时返回空列表
+     */
+    @SuppressWarnings("unchecked")
+    public List<Object> getList(String path) {
+        Object value = get(path);
+        return value instanceof List ? (List<Object>) value : Collections.emptyList();
+    }
+
+    public boolean containsKey(String key) {
+        return values.containsKey(key);
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * 全部配置项
+     *
+     * @return 不可修改Map
+     */
+    public Map<String, Object> asMap() {
+        return values;
+    }
+
+    @Override
+    public String toString() {
+        return JSON.toJSONString(values);
+    }
+}
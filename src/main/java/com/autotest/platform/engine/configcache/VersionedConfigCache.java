@@ -0,0 +1,287 @@
+package com.autotest.platform.engine.configcache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 按版本缓存的配置解析结果
+ * <p>
+ * 以(字段, 记录ID)为键缓存不可变的解析结果，版本取记录的更新时间加文本校验和：版本不变时直接复用，版本变化才重新解析。
+ * 距上次校验不足 {@code verifyMillis} 的条目直接返回，超过后只查询版本号校验，版本变化时才加载文本。
+ * 按访问顺序淘汰，条目数和总权重(配置文本字符数)任一超限即淘汰最久未用的条目。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class VersionedConfigCache {
+
+    /** 每个条目的固定权重，近似键和包装对象的开销 */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    /**
+     * 配置来源
+     */
+    public interface ConfigSource {
+
+        /**
+         * 查询记录当前版本和校验和，不读取文本
+         *
+         * @return 文本为null的版本行，记录不存在时为null
+         */
+        ConfigRow version(ConfigType<?> type, Long id);
+
+        /**
+         * 加载配置文本和版本
+         *
+         * @return 文本和版本，记录不存在时为null
+         */
+        ConfigRow load(ConfigType<?> type, Long id);
+    }
+
+    private final int maxEntries;
+
+    private final long maxWeight;
+
+    private final long verifyMillis;
+
+    /** 访问顺序，由this锁保护 */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+    private long weight;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder parses = new LongAdder();
+
+    private final LongAdder verifications = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public VersionedConfigCache(int maxEntries, long maxWeight, long verifyMillis) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.verifyMillis = verifyMillis;
+    }
+
+    /**
+     * 调用方已读出记录时使用，版本与缓存一致时不再解析
+     *
+     * @param type 配置字段
+     * @param id 记录ID
+     * @param version 记录版本
+     * @param text 字段文本
+     * @return 解析结果
+     */
+    public <T> T get(ConfigType<T> type, Long id, long version, String text) {
+        Key key = new Key(type, id);
+        Entry cached = lookup(key);
+        long checksum = ConfigRow.checksum(text);
+        if (cached != null && cached.matches(version, checksum)) {
+            cached.verifiedAt = System.currentTimeMillis();
+            hits.increment();
+            return cast(cached.value);
+        }
+        return store(key, type, new ConfigRow(text, version, checksum), System.currentTimeMillis());
+    }
+
+    /**
+     * 按记录ID获取，必要时查询版本或加载文本
+     *
+     * @param type 配置字段
+     * @param id 记录ID
+     * @param source 配置来源
+     * @param now 当前时间(毫秒)
+     * @return 解析结果，记录不存在时为null
+     */
+    public <T> T get(ConfigType<T> type, Long id, ConfigSource source, long now) {
+        Key key = new Key(type, id);
+        Entry cached = lookup(key);
+        if (cached != null) {
+            if (now - cached.verifiedAt < verifyMillis) {
+                hits.increment();
+                return cast(cached.value);
+            }
+            verifications.increment();
+            ConfigRow current = source.version(type, id);
+            if (current == null) {
+                remove(key, cached);
+                return null;
+            }
+            if (cached.matches(current.getVersion(), current.getChecksum())) {
+                cached.verifiedAt = now;
+                hits.increment();
+                return cast(cached.value);
+            }
+        }
+        ConfigRow row = source.load(type, id);
+        if (row == null) {
+            if (cached != null) {
+                remove(key, cached);
+            }
+            return null;
+        }
+        return store(key, type, row, now);
+    }
+
+    /**
+     * 记录变更后使缓存失效
+     *
+     * @param type 配置字段
+     * @param id 记录ID
+     */
+    public synchronized void invalidate(ConfigType<?> type, Long id) {
+        Entry removed = entries.remove(new Key(type, id));
+        if (removed != null) {
+            weight -= removed.weight;
+        }
+    }
+
+    /**
+     * 使同一记录的全部配置字段失效
+     *
+     * @param table 表名
+     * @param id 记录ID
+     */
+    public void invalidateRow(String table, Long id) {
+        for (ConfigType<?> type : ConfigType.values()) {
+            if (type.getTable().equals(table)) {
+                invalidate(type, id);
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getParses() {
+        return parses.sum();
+    }
+
+    public long getVerifications() {
+        return verifications.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private synchronized Entry lookup(Key key) {
+        return entries.get(key);
+    }
+
+    private synchronized void remove(Key key, Entry expected) {
+        if (entries.get(key) == expected) {
+            entries.remove(key);
+            weight -= expected.weight;
+        }
+    }
+
+    /**
+     * 在锁外解析，较旧的版本不覆盖已缓存的新版本
+     */
+    private <T> T store(Key key, ConfigType<T> type, ConfigRow row, long now) {
+        String text = row.getText();
+        T value = type.parse(text);
+        parses.increment();
+        Entry entry = new Entry(row.getVersion(), row.getChecksum(), value,
+                (text == null ? 0 : text.length()) + ENTRY_OVERHEAD, now);
+        synchronized (this) {
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                if (existing.version > row.getVersion()) {
+                    return value;
+                }
+                weight -= existing.weight;
+            }
+            entries.put(key, entry);
+            weight += entry.weight;
+            Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            while ((entries.size() > maxEntries || weight > maxWeight) && iterator.hasNext()) {
+                Map.Entry<Key, Entry> eldest = iterator.next();
+                if (eldest.getValue() == entry) {
+                    break;
+                }
+                iterator.remove();
+                weight -= eldest.getValue().weight;
+                evictions.increment();
+            }
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    private static final class Key {
+
+        private final ConfigType<?> type;
+
+        private final Long id;
+
+        private Key(ConfigType<?> type, Long id) {
+            this.type = type;
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return type == other.type && Objects.equals(id, other.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + Objects.hashCode(id);
+        }
+    }
+
+    private static final class Entry {
+
+        private final long version;
+
+        private final long checksum;
+
+        private final Object value;
+
+        private final long weight;
+
+        private volatile long verifiedAt;
+
+        private Entry(long version, long checksum, Object value, long weight, long verifiedAt) {
+            this.version = version;
+            this.checksum = checksum;
+            this.value = value;
+            this.weight = weight;
+            this.verifiedAt = verifiedAt;
+        }
+
+        private boolean matches(long version, long checksum) {
+            return this.version == version && this.checksum == checksum;
+        }
+    }
+}
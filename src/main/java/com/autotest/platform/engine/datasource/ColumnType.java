@@ -0,0 +1,130 @@
+package com.autotest.platform.engine.datasource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 数据列类型
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public enum ColumnType {
+
+    STRING {
+        @Override
+        Object parse(String raw) {
+            return raw;
+        }
+    },
+
+    INT {
+        @Override
+        Object parse(String raw) {
+            return Integer.valueOf(raw.trim());
+        }
+    },
+
+    LONG {
+        @Override
+        Object parse(String raw) {
+            return Long.valueOf(raw.trim());
+        }
+    },
+
+    DOUBLE {
+        @Override
+        Object parse(String raw) {
+            return Double.valueOf(raw.trim());
+        }
+    },
+
+    DECIMAL {
+        @Override
+        Object parse(String raw) {
+            return new BigDecimal(raw.trim());
+        }
+    },
+
+    BOOLEAN {
+        @Override
+        Object parse(String raw) {
+            String value = raw.trim();
+            return "1".equals(value) || "true".equalsIgnoreCase(value) || "Y".equalsIgnoreCase(value);
+        }
+    },
+
+    DATE {
+        @Override
+        Object parse(String raw) {
+            return LocalDate.parse(raw.trim());
+        }
+    },
+
+    DATETIME {
+        @Override
+        Object parse(String raw) {
+            String value = raw.trim();
+            return value.indexOf('T') > 0 ? LocalDateTime.parse(value) : LocalDateTime.parse(value, DATETIME_FORMAT);
+        }
+    };
+
+    private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /**
+     * 转换原始文本，空串视为null
+     *
+     * @param raw 原始文本
+     * @return 类型化的值
+     */
+    public Object convert(String raw) {
+        if (raw == null || (this != STRING && raw.trim().isEmpty())) {
+            return null;
+        }
+        try {
+            return parse(raw);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("无法将[" + raw + "]转换为" + name(), e);
+        }
+    }
+
+    abstract Object parse(String raw);
+
+    /**
+     * 解析类型名，兼容常见别名，未知类型按字符串处理
+     *
+     * @param name 类型名
+     * @return 列类型
+     */
+    public static ColumnType of(String name) {
+        if (name == null) {
+            return STRING;
+        }
+        switch (name.trim().toLowerCase()) {
+            case "int":
+            case "integer":
+                return INT;
+            case "long":
+            case "bigint":
+                return LONG;
+            case "double":
+            case "float":
+            case "number":
+                return DOUBLE;
+            case "decimal":
+                return DECIMAL;
+            case "boolean":
+            case "bool":
+                return BOOLEAN;
+            case "date":
+                return DATE;
+            case "datetime":
+            case "timestamp":
+                return DATETIME;
+            default:
+                return STRING;
+        }
+    }
+}
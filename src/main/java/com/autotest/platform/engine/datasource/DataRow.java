@@ -0,0 +1,116 @@
+package com.autotest.platform.engine.datasource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 数据行，首次取值时才解码和拆分字段，类型转换按列延迟进行
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class DataRow {
+
+    private final MappedCsvFile file;
+
+    private final long rowIndex;
+
+    private String[] raw;
+
+    private Object[] values;
+
+    DataRow(MappedCsvFile file, long rowIndex) {
+        this.file = file;
+        this.rowIndex = rowIndex;
+    }
+
+    /**
+     * 按位置取值
+     *
+     * @param column 列位置
+     * @return 类型化的值，列缺失时为null
+     */
+    public Object get(int column) {
+        String[] fields = fields();
+        if (column < 0 || column >= fields.length) {
+            return null;
+        }
+        if (values[column] == null && fields[column] != null) {
+            DataSchema schema = file.getSchema();
+            ColumnType type = column < schema.size() ? schema.type(column) : ColumnType.STRING;
+            values[column] = type.convert(fields[column]);
+        }
+        return values[column];
+    }
+
+    /**
+     * 按列名取值
+     *
+     * @param name 列名
+     * @return 类型化的值，列不存在时为null
+     */
+    public Object get(String name) {
+        return get(file.getSchema().indexOf(name));
+    }
+
+    /**
+     * 转为参数Map，用于数据驱动用例的参数替换
+     *
+     * @return 列名到值的映射
+     */
+    public Map<String, Object> toMap() {
+        DataSchema schema = file.getSchema();
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < schema.size(); i++) {
+            map.put(schema.name(i), get(i));
+        }
+        return map;
+    }
+
+    public long getRowIndex() {
+        return rowIndex;
+    }
+
+    private String[] fields() {
+        if (raw == null) {
+            raw = split(file.decodeRow(rowIndex), file.getSchema().getDelimiter());
+            values = new Object[raw.length];
+        }
+        return raw;
+    }
+
+    /**
+     * 按RFC 4180拆分字段，支持引号包裹和双引号转义
+     */
+    static String[] split(String line, char delimiter) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields.toArray(new String[0]);
+    }
+}
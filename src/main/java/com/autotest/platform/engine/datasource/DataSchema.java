@@ -0,0 +1,142 @@
+package com.autotest.platform.engine.datasource;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
+import com.alibaba.fastjson.parser.Feature;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 文件数据源结构，由 test_data_source.data_schema 解析
+ * <p>
+ * 支持三种写法：{@code {"columns":[{"name":"user","type":"string"}],"header":true,"delimiter":","}}、
+ * 直接的列数组 {@code [{"name":"user","type":"string"}]}，以及列名到类型的映射 {@code {"user":"string"}}。
+ * 文件有表头时按表头的列顺序取值，声明的类型按列名对应，未声明的列按字符串处理；
+ * 没有表头时按声明顺序对应文件列。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class DataSchema {
+
+    private final List<String> names;
+
+    private final List<ColumnType> types;
+
+    private final Map<String, Integer> positions = new HashMap<>();
+
+    /** 首行是否为表头 */
+    private final boolean header;
+
+    /** 字段分隔符 */
+    private final char delimiter;
+
+    public DataSchema(List<String> names, List<ColumnType> types, boolean header, char delimiter) {
+        this.names = Collections.unmodifiableList(new ArrayList<>(names));
+        this.types = Collections.unmodifiableList(new ArrayList<>(types));
+        this.header = header;
+        this.delimiter = delimiter;
+        for (int i = 0; i < names.size(); i++) {
+            positions.put(names.get(i), i);
+        }
+    }
+
+    /**
+     * 解析数据结构
+     *
+     * @param json data_schema 字段
+     * @return 数据结构，为空时返回无列声明、带表头的逗号分隔结构
+     */
+    public static DataSchema parse(String json) {
+        List<String> names = new ArrayList<>();
+        List<ColumnType> types = new ArrayList<>();
+        boolean header = true;
+        char delimiter = ',';
+        if (json == null || json.trim().isEmpty()) {
+            return new DataSchema(names, types, header, delimiter);
+        }
+        Object parsed = JSON.parse(json, Feature.OrderedField);
+        JSONArray columns = null;
+        if (parsed instanceof JSONArray) {
+            columns = (JSONArray) parsed;
+        } else if (parsed instanceof JSONObject) {
+            JSONObject object = (JSONObject) parsed;
+            if (object.containsKey("columns")) {
+                columns = object.getJSONArray("columns");
+                header = !Boolean.FALSE.equals(object.getBoolean("header"));
+                String sep = object.getString("delimiter");
+                if (sep != null && !sep.isEmpty()) {
+                    delimiter = "\\t".equals(sep) ? '\t' : sep.charAt(0);
+                }
+            } else {
+                for (Map.Entry<String, Object> entry : object.entrySet()) {
+                    names.add(entry.getKey());
+                    types.add(ColumnType.of(String.valueOf(entry.getValue())));
+                }
+            }
+        }
+        if (columns != null) {
+            for (int i = 0; i < columns.size(); i++) {
+                JSONObject column = columns.getJSONObject(i);
+                names.add(column.getString("name"));
+                types.add(ColumnType.of(column.getString("type")));
+            }
+        }
+        return new DataSchema(names, types, header, delimiter);
+    }
+
+    /**
+     * 按文件表头重排列，类型按列名取声明值
+     *
+     * @param headerNames 文件表头
+     * @return 与文件列一一对应的数据结构
+     */
+    public DataSchema withHeader(List<String> headerNames) {
+        List<ColumnType> headerTypes = new ArrayList<>(headerNames.size());
+        for (String name : headerNames) {
+            int position = indexOf(name);
+            headerTypes.add(position < 0 ? ColumnType.STRING : types.get(position));
+        }
+        return new DataSchema(headerNames, headerTypes, header, delimiter);
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public String name(int index) {
+        return names.get(index);
+    }
+
+    public ColumnType type(int index) {
+        return types.get(index);
+    }
+
+    /**
+     * 列位置
+     *
+     * @param name 列名
+     * @return 位置，不存在时为-1
+     */
+    public int indexOf(String name) {
+        Integer position = positions.get(name);
+        return position == null ? -1 : position;
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    public boolean hasHeader() {
+        return header;
+    }
+
+    public char getDelimiter() {
+        return delimiter;
+    }
+}
@@ -0,0 +1,235 @@
+package com.autotest.platform.engine.datasource;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 内存映射的CSV数据文件
+ * <p>
+ * 文件按 1GB 分段只读映射，打开时顺序扫描一次记录每行的起始偏移(引号内的换行不算行尾)，
+ * 之后按行号随机访问：只复制该行字节并解码，多个执行节点共享同一份映射，按 {@link RowRange} 切分。
+ * 偏移索引每行占 8 字节，行内容不常驻堆内存。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class MappedCsvFile implements Closeable {
+
+    private static final long REGION_SIZE = 1L << 30;
+
+    private final Path path;
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer[] regions;
+
+    private final long length;
+
+    private final Charset charset;
+
+    /** 数据行起始偏移，最后一项为文件末尾 */
+    private final long[] offsets;
+
+    private final long rowCount;
+
+    private final DataSchema schema;
+
+    private MappedCsvFile(Path path, FileChannel channel, MappedByteBuffer[] regions, long length, Charset charset,
+                          long[] offsets, long rowCount, DataSchema schema) {
+        this.path = path;
+        this.channel = channel;
+        this.regions = regions;
+        this.length = length;
+        this.charset = charset;
+        this.offsets = offsets;
+        this.rowCount = rowCount;
+        this.schema = schema;
+    }
+
+    /**
+     * 映射文件并建立行偏移索引
+     *
+     * @param path 文件路径
+     * @param schema 数据结构
+     * @return 数据文件
+     */
+    public static MappedCsvFile open(Path path, DataSchema schema) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long length = channel.size();
+            int regionCount = (int) ((length + REGION_SIZE - 1) / REGION_SIZE);
+            MappedByteBuffer[] regions = new MappedByteBuffer[regionCount];
+            for (int i = 0; i < regionCount; i++) {
+                long position = i * REGION_SIZE;
+                regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(REGION_SIZE, length - position));
+            }
+            MappedCsvFile probe = new MappedCsvFile(path, channel, regions, length, StandardCharsets.UTF_8,
+                    new long[0], 0, schema);
+            long[] lines = probe.indexLines();
+            long rowCount = lines.length - 1;
+            DataSchema resolved = schema;
+            long[] offsets = lines;
+            if (schema.hasHeader() && rowCount > 0) {
+                resolved = schema.withHeader(Arrays.asList(DataRow.split(probe.decode(lines[0], lines[1]),
+                        schema.getDelimiter())));
+                offsets = Arrays.copyOfRange(lines, 1, lines.length);
+                rowCount--;
+            }
+            return new MappedCsvFile(path, channel, regions, length, StandardCharsets.UTF_8, offsets, rowCount,
+                    resolved);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 数据行数(不含表头)
+     */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * 随机访问数据行
+     *
+     * @param rowIndex 行号，从0开始
+     * @return 延迟解码的数据行
+     */
+    public DataRow row(long rowIndex) {
+        if (rowIndex < 0 || rowIndex >= rowCount) {
+            throw new IndexOutOfBoundsException("行号" + rowIndex + "超出范围[0, " + rowCount + ")");
+        }
+        return new DataRow(this, rowIndex);
+    }
+
+    /**
+     * 遍历区间内的数据行，可从区间内任意行恢复
+     *
+     * @param range 行区间
+     * @param resumeRow 起始行号，小于区间起点时从区间起点开始
+     * @return 行迭代器
+     */
+    public Iterator<DataRow> iterator(RowRange range, long resumeRow) {
+        long start = Math.max(range.getStartRow(), resumeRow);
+        long end = Math.min(range.getEndRow(), rowCount);
+        return new Iterator<DataRow>() {
+
+            private long next = start;
+
+            @Override
+            public boolean hasNext() {
+                return next < end;
+            }
+
+            @Override
+            public DataRow next() {
+                if (next >= end) {
+                    throw new NoSuchElementException();
+                }
+                return row(next++);
+            }
+        };
+    }
+
+    public DataSchema getSchema() {
+        return schema;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * 释放文件句柄，映射内存由GC回收
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    String decodeRow(long rowIndex) {
+        return decode(offsets[(int) rowIndex], offsets[(int) rowIndex + 1]);
+    }
+
+    private String decode(long start, long end) {
+        while (end > start && (byteAt(end - 1) == '\n' || byteAt(end - 1) == '\r')) {
+            end--;
+        }
+        byte[] bytes = new byte[(int) (end - start)];
+        long position = start;
+        int filled = 0;
+        while (filled < bytes.length) {
+            int region = (int) (position / REGION_SIZE);
+            int offset = (int) (position % REGION_SIZE);
+            int count = Math.min(bytes.length - filled, regions[region].limit() - offset);
+            // duplicate 出独立游标，多线程并发读取同一映射时互不影响
+            ByteBuffer view = regions[region].duplicate();
+            view.position(offset);
+            view.get(bytes, filled, count);
+            filled += count;
+            position += count;
+        }
+        return new String(bytes, charset);
+    }
+
+    private byte byteAt(long position) {
+        return regions[(int) (position / REGION_SIZE)].get((int) (position % REGION_SIZE));
+    }
+
+    /**
+     * 逐段顺序扫描行尾，返回各行起始偏移，末项为文件长度；跳过UTF-8 BOM和空行
+     */
+    private long[] indexLines() {
+        long[] lines = new long[1024];
+        int count = 0;
+        long start = length >= 3 && byteAt(0) == (byte) 0xEF && byteAt(1) == (byte) 0xBB && byteAt(2) == (byte) 0xBF
+                ? 3 : 0;
+        boolean quoted = false;
+        boolean blank = true;
+        long lineStart = start;
+        for (int r = 0; r < regions.length; r++) {
+            MappedByteBuffer region = regions[r];
+            long base = r * REGION_SIZE;
+            int limit = region.limit();
+            for (int i = (int) Math.max(0, start - base); i < limit; i++) {
+                byte b = region.get(i);
+                if (b == '"') {
+                    quoted = !quoted;
+                    blank = false;
+                } else if (b == '\n' && !quoted) {
+                    if (!blank) {
+                        if (count + 1 >= lines.length) {
+                            lines = Arrays.copyOf(lines, lines.length * 2);
+                        }
+                        lines[count++] = lineStart;
+                    }
+                    lineStart = base + i + 1;
+                    blank = true;
+                } else if (b != '\r') {
+                    blank = false;
+                }
+            }
+        }
+        if (!blank) {
+            if (count + 1 >= lines.length) {
+                lines = Arrays.copyOf(lines, lines.length * 2);
+            }
+            lines[count++] = lineStart;
+        }
+        // 每行以下一行起点为结束位置，空行和换行符在解码时去掉
+        lines[count] = length;
+        return Arrays.copyOf(lines, count + 1);
+    }
+}
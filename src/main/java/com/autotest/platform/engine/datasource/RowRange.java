@@ -0,0 +1,67 @@
+package com.autotest.platform.engine.datasource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 数据行区间 [startRow, endRow)，分片只记录区间，不复制数据
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class RowRange {
+
+    private final int shardIndex;
+
+    private final long startRow;
+
+    private final long endRow;
+
+    public RowRange(int shardIndex, long startRow, long endRow) {
+        this.shardIndex = shardIndex;
+        this.startRow = startRow;
+        this.endRow = endRow;
+    }
+
+    /**
+     * 将行均分为连续区间，前 total % parts 个区间多分一行
+     *
+     * @param total 总行数
+     * @param parts 分片数
+     * @return 区间集合，行数少于分片数时只返回非空区间
+     */
+    public static List<RowRange> split(long total, int parts) {
+        int count = (int) Math.max(1, Math.min(parts, total));
+        List<RowRange> ranges = new ArrayList<>(count);
+        long base = total / count;
+        long extra = total % count;
+        long start = 0;
+        for (int i = 0; i < count; i++) {
+            long end = start + base + (i < extra ? 1 : 0);
+            ranges.add(new RowRange(i, start, end));
+            start = end;
+        }
+        return ranges;
+    }
+
+    public int getShardIndex() {
+        return shardIndex;
+    }
+
+    public long getStartRow() {
+        return startRow;
+    }
+
+    public long getEndRow() {
+        return endRow;
+    }
+
+    public long size() {
+        return endRow - startRow;
+    }
+
+    @Override
+    public String toString() {
+        return "shard" + shardIndex + "[" + startRow + ", " + endRow + ")";
+    }
+}
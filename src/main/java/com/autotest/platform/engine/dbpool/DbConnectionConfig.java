@@ -0,0 +1,114 @@
+package com.autotest.platform.engine.dbpool;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+
+import java.util.Objects;
+
+/**
+ * 目标数据库连接配置，由 db_config 字段解析
+ * <p>
+ * 可直接给出 {@code url}，也可给出 {@code type/host/port/database} 由此拼出JDBC地址；
+ * {@code maxActive}、{@code minIdle} 可覆盖全局连接池大小。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class DbConnectionConfig {
+
+    private final String url;
+
+    private final String username;
+
+    private final String password;
+
+    private final String driverClassName;
+
+    /** 最大连接数，为空时使用全局配置 */
+    private final Integer maxActive;
+
+    /** 最小空闲连接数，为空时使用全局配置 */
+    private final Integer minIdle;
+
+    public DbConnectionConfig(String url, String username, String password, String driverClassName,
+                              Integer maxActive, Integer minIdle) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.driverClassName = driverClassName;
+        this.maxActive = maxActive;
+        this.minIdle = minIdle;
+    }
+
+    /**
+     * 解析连接配置
+     *
+     * @param json db_config 字段
+     * @return 连接配置
+     */
+    public static DbConnectionConfig parse(String json) {
+        if (json == null || json.trim().isEmpty()) {
+            throw new IllegalArgumentException("未配置数据库连接");
+        }
+        JSONObject object = JSON.parseObject(json);
+        String type = object.getString("type") == null ? "mysql" : object.getString("type").toLowerCase();
+        String url = object.getString("url");
+        if (url == null || url.isEmpty()) {
+            String host = object.getString("host");
+            if (host == null || host.isEmpty()) {
+                throw new IllegalArgumentException("数据库连接缺少url或host");
+            }
+            url = buildUrl(type, host, object.getInteger("port"), object.getString("database"));
+        }
+        return new DbConnectionConfig(url, object.getString("username"), object.getString("password"),
+                object.getString("driverClassName"), object.getInteger("maxActive"), object.getInteger("minIdle"));
+    }
+
+    private static String buildUrl(String type, String host, Integer port, String database) {
+        String db = database == null ? "" : database;
+        switch (type) {
+            case "oracle":
+                return "jdbc:oracle:thin:@" + host + ":" + (port == null ? 1521 : port) + "/" + db;
+            case "postgresql":
+                return "jdbc:postgresql://" + host + ":" + (port == null ? 5432 : port) + "/" + db;
+            case "sqlserver":
+                return "jdbc:sqlserver://" + host + ":" + (port == null ? 1433 : port) + ";databaseName=" + db;
+            default:
+                return "jdbc:mysql://" + host + ":" + (port == null ? 3306 : port) + "/" + db
+                        + "?useUnicode=true&characterEncoding=utf8&serverTimezone=GMT%2B8";
+        }
+    }
+
+    /**
+     * 配置是否等价，不等价时需要重建连接池
+     */
+    public boolean sameAs(DbConnectionConfig other) {
+        return other != null && Objects.equals(url, other.url) && Objects.equals(username, other.username)
+                && Objects.equals(password, other.password) && Objects.equals(driverClassName, other.driverClassName)
+                && Objects.equals(maxActive, other.maxActive) && Objects.equals(minIdle, other.minIdle);
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getDriverClassName() {
+        return driverClassName;
+    }
+
+    public Integer getMaxActive() {
+        return maxActive;
+    }
+
+    public Integer getMinIdle() {
+        return minIdle;
+    }
+}
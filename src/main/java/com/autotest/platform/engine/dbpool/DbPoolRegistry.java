@@ -0,0 +1,198 @@
+package com.autotest.platform.engine.dbpool;
+
+import com.alibaba.druid.pool.DruidDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 目标库连接池注册表
+ * <p>
+ * 每个数据源/环境一个 Druid 连接池，首次使用时按配置创建，物理连接在首次借出时才建立。
+ * 配置变化时通过 {@link #refresh} 关闭旧池，下次使用重建；整池空闲超过
+ * {@link PoolSettings#getIdleCloseMillis()} 且没有借出中的连接时由 {@link #evictIdle} 关闭。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class DbPoolRegistry implements Closeable {
+
+    private final PoolSettings settings;
+
+    private final Map<String, PoolEntry> pools = new ConcurrentHashMap<>();
+
+    public DbPoolRegistry(PoolSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * 借出连接，池不存在时通过配置加载函数创建；连接池恰好被空闲回收时自动重建一次。
+     * 没有借出中的连接却建连失败(目标库不可达)时关闭并移除连接池，下次调用重建，目标库恢复后即可使用
+     *
+     * @param key 连接池键
+     * @param configLoader 配置加载函数，仅在创建连接池时调用
+     * @return 连接，使用后必须关闭以归还连接池
+     */
+    public Connection getConnection(String key, Supplier<DbConnectionConfig> configLoader) throws SQLException {
+        for (int attempt = 0; ; attempt++) {
+            PoolEntry entry = acquire(key, configLoader);
+            try {
+                return entry.dataSource.getConnection();
+            } catch (SQLException e) {
+                if (attempt > 0 || !entry.dataSource.isClosed()) {
+                    if (!entry.dataSource.isClosed() && entry.dataSource.getActiveCount() == 0
+                            && pools.remove(key, entry)) {
+                        entry.dataSource.close();
+                    }
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * 获取连接池，供需要 DataSource 的组件(如JdbcTemplate)使用
+     *
+     * @param key 连接池键
+     * @param configLoader 配置加载函数，仅在创建连接池时调用
+     * @return 连接池
+     */
+    public DataSource getDataSource(String key, Supplier<DbConnectionConfig> configLoader) {
+        return acquire(key, configLoader).dataSource;
+    }
+
+    /**
+     * 配置变化时关闭旧连接池，配置相同时保留
+     *
+     * @param key 连接池键
+     * @param config 新配置，为null时直接关闭
+     * @return 是否关闭了旧连接池
+     */
+    public boolean refresh(String key, DbConnectionConfig config) {
+        PoolEntry entry = pools.get(key);
+        if (entry == null || (config != null && entry.config.sameAs(config))) {
+            return false;
+        }
+        if (pools.remove(key, entry)) {
+            entry.dataSource.close();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 关闭并移除连接池
+     *
+     * @param key 连接池键
+     */
+    public void invalidate(String key) {
+        PoolEntry entry = pools.remove(key);
+        if (entry != null) {
+            entry.dataSource.close();
+        }
+    }
+
+    /**
+     * 关闭空闲超时的连接池
+     *
+     * @return 关闭的连接池数
+     */
+    public int evictIdle() {
+        long now = System.currentTimeMillis();
+        int closed = 0;
+        for (Map.Entry<String, PoolEntry> item : pools.entrySet()) {
+            PoolEntry entry = item.getValue();
+            if (now - entry.lastUsedTime > settings.getIdleCloseMillis() && entry.dataSource.getActiveCount() == 0
+                    && pools.remove(item.getKey(), entry)) {
+                entry.dataSource.close();
+                closed++;
+            }
+        }
+        return closed;
+    }
+
+    /**
+     * 连接池指标
+     *
+     * @return 各连接池指标快照
+     */
+    public List<PoolMetrics> metrics() {
+        List<PoolMetrics> metrics = new ArrayList<>(pools.size());
+        for (Map.Entry<String, PoolEntry> item : pools.entrySet()) {
+            DruidDataSource ds = item.getValue().dataSource;
+            metrics.add(new PoolMetrics(item.getKey(), ds.getActiveCount(), ds.getPoolingCount(), ds.getMaxActive(),
+                    ds.getWaitThreadCount(), ds.getConnectCount(), ds.getCreateCount(), ds.getConnectErrorCount(),
+                    item.getValue().lastUsedTime));
+        }
+        return metrics;
+    }
+
+    public int size() {
+        return pools.size();
+    }
+
+    @Override
+    public void close() {
+        for (String key : new ArrayList<>(pools.keySet())) {
+            invalidate(key);
+        }
+    }
+
+    private PoolEntry acquire(String key, Supplier<DbConnectionConfig> configLoader) {
+        PoolEntry entry = pools.get(key);
+        if (entry == null) {
+            entry = pools.computeIfAbsent(key, k -> {
+                DbConnectionConfig config = configLoader.get();
+                return new PoolEntry(config, createDataSource(k, config));
+            });
+        }
+        entry.lastUsedTime = System.currentTimeMillis();
+        return entry;
+    }
+
+    private DruidDataSource createDataSource(String key, DbConnectionConfig config) {
+        DruidDataSource ds = new DruidDataSource();
+        ds.setName("target-" + key);
+        ds.setUrl(config.getUrl());
+        ds.setUsername(config.getUsername());
+        ds.setPassword(config.getPassword());
+        if (config.getDriverClassName() != null) {
+            ds.setDriverClassName(config.getDriverClassName());
+        }
+        int maxActive = Math.max(1, config.getMaxActive() != null ? config.getMaxActive() : settings.getMaxActive());
+        ds.setMaxActive(maxActive);
+        ds.setMinIdle(Math.min(maxActive, config.getMinIdle() != null ? config.getMinIdle() : settings.getMinIdle()));
+        ds.setInitialSize(Math.min(maxActive, settings.getInitialSize()));
+        ds.setMaxWait(settings.getMaxWaitMillis());
+        if (settings.getValidationQuery() != null && !settings.getValidationQuery().isEmpty()) {
+            ds.setValidationQuery(settings.getValidationQuery());
+        }
+        ds.setTestWhileIdle(true);
+        ds.setTestOnBorrow(false);
+        // 目标库不可达时快速失败；不设置breakAfterAcquireFailure，否则一次中断后建连线程永久退出
+        ds.setFailFast(true);
+        ds.setConnectionErrorRetryAttempts(1);
+        return ds;
+    }
+
+    private static final class PoolEntry {
+
+        private final DbConnectionConfig config;
+
+        private final DruidDataSource dataSource;
+
+        private volatile long lastUsedTime = System.currentTimeMillis();
+
+        private PoolEntry(DbConnectionConfig config, DruidDataSource dataSource) {
+            this.config = config;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.autotest.platform.engine.dbpool;
+
+/**
+ * 连接池指标快照
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class PoolMetrics {
+
+    /** 连接池键 */
+    private final String key;
+
+    /** 使用中连接数 */
+    private final int activeCount;
+
+    /** 池内空闲连接数 */
+    private final int idleCount;
+
+    /** 最大连接数 */
+    private final int maxActive;
+
+    /** 等待获取连接的线程数 */
+    private final int waitThreadCount;
+
+    /** 累计借出次数 */
+    private final long borrowCount;
+
+    /** 累计创建物理连接数 */
+    private final long createCount;
+
+    /** 累计获取连接失败次数 */
+    private final long errorCount;
+
+    /** 最后使用时间 */
+    private final long lastUsedTime;
+
+    public PoolMetrics(String key, int activeCount, int idleCount, int maxActive, int waitThreadCount,
+                       long borrowCount, long createCount, long errorCount, long lastUsedTime) {
+        this.key = key;
+        this.activeCount = activeCount;
+        this.idleCount = idleCount;
+        this.maxActive = maxActive;
+        this.waitThreadCount = waitThreadCount;
+        this.borrowCount = borrowCount;
+        this.createCount = createCount;
+        this.errorCount = errorCount;
+        this.lastUsedTime = lastUsedTime;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    public int getIdleCount() {
+        return idleCount;
+    }
+
+    public int getMaxActive() {
+        return maxActive;
+    }
+
+    public int getWaitThreadCount() {
+        return waitThreadCount;
+    }
+
+    public long getBorrowCount() {
+        return borrowCount;
+    }
+
+    public long getCreateCount() {
+        return createCount;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public long getLastUsedTime() {
+        return lastUsedTime;
+    }
+}
@@ -0,0 +1,76 @@
+package com.autotest.platform.engine.dbpool;
+
+/**
+ * 目标库连接池全局配置
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class PoolSettings {
+
+    /** 初始连接数 */
+    private int initialSize = 0;
+
+    /** 最小空闲连接数 */
+    private int minIdle = 0;
+
+    /** 最大连接数，防止用例并发打满目标库 */
+    private int maxActive = 8;
+
+    /** 获取连接等待超时(毫秒) */
+    private long maxWaitMillis = 10000L;
+
+    /** 整个连接池空闲多久后关闭(毫秒) */
+    private long idleCloseMillis = 600000L;
+
+    /** 连接有效性检测SQL，为空时使用驱动的isValid */
+    private String validationQuery;
+
+    public int getInitialSize() {
+        return initialSize;
+    }
+
+    public void setInitialSize(int initialSize) {
+        this.initialSize = initialSize;
+    }
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    public void setMinIdle(int minIdle) {
+        this.minIdle = minIdle;
+    }
+
+    public int getMaxActive() {
+        return maxActive;
+    }
+
+    public void setMaxActive(int maxActive) {
+        this.maxActive = maxActive;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis;
+    }
+
+    public void setMaxWaitMillis(long maxWaitMillis) {
+        this.maxWaitMillis = maxWaitMillis;
+    }
+
+    public long getIdleCloseMillis() {
+        return idleCloseMillis;
+    }
+
+    public void setIdleCloseMillis(long idleCloseMillis) {
+        this.idleCloseMillis = idleCloseMillis;
+    }
+
+    public String getValidationQuery() {
+        return validationQuery;
+    }
+
+    public void setValidationQuery(String validationQuery) {
+        this.validationQuery = validationQuery;
+    }
+}
@@ -0,0 +1,55 @@
+package com.autotest.platform.engine.diff;
+
+/**
+ * 单个用例的差异
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class CaseDiff {
+
+    private final long caseId;
+
+    private final DiffCategory category;
+
+    private final String baseStatus;
+
+    private final String targetStatus;
+
+    private final Long baseDuration;
+
+    private final Long targetDuration;
+
+    public CaseDiff(long caseId, DiffCategory category, CaseOutcome base, CaseOutcome target) {
+        this.caseId = caseId;
+        this.category = category;
+        this.baseStatus = base == null ? null : base.getStatus();
+        this.targetStatus = target == null ? null : target.getStatus();
+        this.baseDuration = base == null ? null : base.getDuration();
+        this.targetDuration = target == null ? null : target.getDuration();
+    }
+
+    public long getCaseId() {
+        return caseId;
+    }
+
+    public DiffCategory getCategory() {
+        return category;
+    }
+
+    public String getBaseStatus() {
+        return baseStatus;
+    }
+
+    public String getTargetStatus() {
+        return targetStatus;
+    }
+
+    public Long getBaseDuration() {
+        return baseDuration;
+    }
+
+    public Long getTargetDuration() {
+        return targetDuration;
+    }
+}
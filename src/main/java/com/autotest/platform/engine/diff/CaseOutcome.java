@@ -0,0 +1,35 @@
+package com.autotest.platform.engine.diff;
+
+/**
+ * 用例在一次执行中的结果
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class CaseOutcome {
+
+    private final long caseId;
+
+    private final String status;
+
+    /** 执行时长(毫秒)，未执行完时为null */
+    private final Long duration;
+
+    public CaseOutcome(long caseId, String status, Long duration) {
+        this.caseId = caseId;
+        this.status = status;
+        this.duration = duration;
+    }
+
+    public long getCaseId() {
+        return caseId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Long getDuration() {
+        return duration;
+    }
+}
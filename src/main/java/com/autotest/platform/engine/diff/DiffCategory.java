@@ -0,0 +1,28 @@
+package com.autotest.platform.engine.diff;
+
+/**
+ * 两次执行对比的差异类型
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public enum DiffCategory {
+
+    /** 基准执行未失败，目标执行失败 */
+    NEWLY_FAILING,
+
+    /** 基准执行失败，目标执行通过 */
+    FIXED,
+
+    /** 两次执行都失败 */
+    STILL_FAILING,
+
+    /** 只在目标执行中 */
+    ADDED,
+
+    /** 只在基准执行中 */
+    REMOVED,
+
+    /** 两次都通过，目标执行明显变慢 */
+    SLOWER
+}
@@ -0,0 +1,79 @@
+package com.autotest.platform.engine.diff;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 两次执行的对比结果
+ * <p>
+ * 各差异类型的数量是精确值，明细每类最多保留 maxItems 条，超出时 truncated 为true。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ExecutionDiff {
+
+    private final Long baseExecutionId;
+
+    private final Long targetExecutionId;
+
+    private final int baseCases;
+
+    private final int targetCases;
+
+    private final Map<DiffCategory, Integer> counts;
+
+    private final Map<DiffCategory, List<CaseDiff>> items;
+
+    private final boolean truncated;
+
+    public ExecutionDiff(Long baseExecutionId, Long targetExecutionId, int baseCases, int targetCases,
+                         Map<DiffCategory, Integer> counts, Map<DiffCategory, List<CaseDiff>> items, boolean truncated) {
+        this.baseExecutionId = baseExecutionId;
+        this.targetExecutionId = targetExecutionId;
+        this.baseCases = baseCases;
+        this.targetCases = targetCases;
+        this.counts = Collections.unmodifiableMap(counts);
+        this.items = Collections.unmodifiableMap(items);
+        this.truncated = truncated;
+    }
+
+    public int count(DiffCategory category) {
+        Integer count = counts.get(category);
+        return count == null ? 0 : count;
+    }
+
+    public List<CaseDiff> items(DiffCategory category) {
+        List<CaseDiff> list = items.get(category);
+        return list == null ? Collections.emptyList() : list;
+    }
+
+    public Long getBaseExecutionId() {
+        return baseExecutionId;
+    }
+
+    public Long getTargetExecutionId() {
+        return targetExecutionId;
+    }
+
+    public int getBaseCases() {
+        return baseCases;
+    }
+
+    public int getTargetCases() {
+        return targetCases;
+    }
+
+    public Map<DiffCategory, Integer> getCounts() {
+        return counts;
+    }
+
+    public Map<DiffCategory, List<CaseDiff>> getItems() {
+        return items;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
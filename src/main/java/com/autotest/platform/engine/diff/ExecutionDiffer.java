@@ -0,0 +1,210 @@
+package com.autotest.platform.engine.diff;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 执行结果对比
+ * <p>
+ * 两次执行的用例结果都按 case_id 升序分页读取，归并比较，内存占用只与页大小和明细上限有关，与用例数无关。
+ * 分页按 {@code case_id > 上一页最后的case_id} 续读，每页都是索引范围扫描。同一执行中同一用例只应出现一次，
+ * 相邻的重复记录以最后一条为准。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ExecutionDiffer {
+
+    private static final String SUCCESS = "SUCCESS";
+
+    /**
+     * 用例结果分页来源
+     */
+    public interface OutcomePager {
+
+        /**
+         * 读取一页用例结果
+         *
+         * @param executionId 执行ID
+         * @param afterCaseId 只返回大于该ID的用例，首页为null
+         * @param limit 页大小
+         * @return 按 case_id 升序的用例结果
+         */
+        List<CaseOutcome> page(Long executionId, Long afterCaseId, int limit);
+    }
+
+    private final int pageSize;
+
+    private final double slowerRatio;
+
+    private final long slowerMinDeltaMillis;
+
+    private final int maxItems;
+
+    /**
+     * @param pageSize 每次读取的用例数
+     * @param slowerRatio 目标耗时达到基准耗时的该倍数才算变慢
+     * @param slowerMinDeltaMillis 耗时增加不少于该值才算变慢，避免毫秒级用例的抖动
+     * @param maxItems 每类差异最多保留的明细数
+     */
+    public ExecutionDiffer(int pageSize, double slowerRatio, long slowerMinDeltaMillis, int maxItems) {
+        this.pageSize = Math.max(1, pageSize);
+        this.slowerRatio = slowerRatio;
+        this.slowerMinDeltaMillis = slowerMinDeltaMillis;
+        this.maxItems = Math.max(0, maxItems);
+    }
+
+    /**
+     * 对比两次执行
+     *
+     * @param baseExecutionId 基准执行
+     * @param targetExecutionId 目标执行
+     * @param pager 用例结果来源
+     * @return 对比结果
+     */
+    public ExecutionDiff diff(Long baseExecutionId, Long targetExecutionId, OutcomePager pager) {
+        Stream base = new Stream(pager, baseExecutionId);
+        Stream target = new Stream(pager, targetExecutionId);
+        Map<DiffCategory, Integer> counts = new EnumMap<>(DiffCategory.class);
+        Map<DiffCategory, List<CaseDiff>> items = new EnumMap<>(DiffCategory.class);
+        for (DiffCategory category : DiffCategory.values()) {
+            counts.put(category, 0);
+            items.put(category, new ArrayList<>());
+        }
+        boolean truncated = false;
+        CaseOutcome b = base.next();
+        CaseOutcome t = target.next();
+        while (b != null || t != null) {
+            CaseOutcome left;
+            CaseOutcome right;
+            if (t == null || (b != null && b.getCaseId() < t.getCaseId())) {
+                left = b;
+                right = null;
+                b = base.next();
+            } else if (b == null || t.getCaseId() < b.getCaseId()) {
+                left = null;
+                right = t;
+                t = target.next();
+            } else {
+                left = b;
+                right = t;
+                b = base.next();
+                t = target.next();
+            }
+            DiffCategory category = classify(left, right);
+            if (category == null) {
+                continue;
+            }
+            counts.put(category, counts.get(category) + 1);
+            List<CaseDiff> list = items.get(category);
+            if (list.size() < maxItems) {
+                list.add(new CaseDiff(left != null ? left.getCaseId() : right.getCaseId(), category, left, right));
+            } else {
+                truncated = true;
+            }
+        }
+        for (DiffCategory category : DiffCategory.values()) {
+            items.put(category, Collections.unmodifiableList(items.get(category)));
+        }
+        return new ExecutionDiff(baseExecutionId, targetExecutionId, base.count, target.count, counts, items, truncated);
+    }
+
+    /**
+     * 判定单个用例的差异类型
+     *
+     * @param base 基准执行中的结果，不存在时为null
+     * @param target 目标执行中的结果，不存在时为null
+     * @return 差异类型，无差异时为null
+     */
+    DiffCategory classify(CaseOutcome base, CaseOutcome target) {
+        if (base == null) {
+            return DiffCategory.ADDED;
+        }
+        if (target == null) {
+            return DiffCategory.REMOVED;
+        }
+        boolean baseFailing = isFailing(base.getStatus());
+        boolean targetFailing = isFailing(target.getStatus());
+        if (targetFailing) {
+            return baseFailing ? DiffCategory.STILL_FAILING : DiffCategory.NEWLY_FAILING;
+        }
+        if (SUCCESS.equals(target.getStatus())) {
+            if (baseFailing) {
+                return DiffCategory.FIXED;
+            }
+            if (SUCCESS.equals(base.getStatus()) && isSlower(base.getDuration(), target.getDuration())) {
+                return DiffCategory.SLOWER;
+            }
+        }
+        return null;
+    }
+
+    private boolean isSlower(Long base, Long target) {
+        return base != null && target != null && target - base >= slowerMinDeltaMillis
+                && target >= base * slowerRatio;
+    }
+
+    private static boolean isFailing(String status) {
+        return "FAILED".equals(status) || "TIMEOUT".equals(status) || "ERROR".equals(status);
+    }
+
+    /**
+     * 单次执行的用例结果流，逐页读取并合并相邻的重复用例
+     */
+    private final class Stream {
+
+        private final OutcomePager pager;
+
+        private final Long executionId;
+
+        private List<CaseOutcome> page = Collections.emptyList();
+
+        private int index;
+
+        private boolean exhausted;
+
+        private CaseOutcome pending;
+
+        private int count;
+
+        private Stream(OutcomePager pager, Long executionId) {
+            this.pager = pager;
+            this.executionId = executionId;
+        }
+
+        private CaseOutcome next() {
+            CaseOutcome current = pending != null ? pending : read();
+            pending = null;
+            if (current == null) {
+                return null;
+            }
+            CaseOutcome following = read();
+            while (following != null && following.getCaseId() == current.getCaseId()) {
+                current = following;
+                following = read();
+            }
+            pending = following;
+            count++;
+            return current;
+        }
+
+        private CaseOutcome read() {
+            if (index >= page.size()) {
+                if (exhausted) {
+                    return null;
+                }
+                Long after = page.isEmpty() ? null : page.get(page.size() - 1).getCaseId();
+                page = pager.page(executionId, after, pageSize);
+                index = 0;
+                exhausted = page.size() < pageSize;
+                if (page.isEmpty()) {
+                    return null;
+                }
+            }
+            return page.get(index++);
+        }
+    }
+}
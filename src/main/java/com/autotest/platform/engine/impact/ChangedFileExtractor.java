@@ -0,0 +1,73 @@
+package com.autotest.platform.engine.impact;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONException;
+import com.alibaba.fastjson.JSONObject;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 从Webhook推送负载中提取变更文件
+ * <p>
+ * GitHub、GitLab、Gitee 的 push 事件均在 commits[] 中携带 added/modified/removed 文件列表。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public final class ChangedFileExtractor {
+
+    private static final String[] FILE_FIELDS = {"added", "modified", "removed"};
+
+    private ChangedFileExtractor() {
+    }
+
+    /**
+     * 提取变更文件
+     *
+     * @param payload 事件负载(JSON格式)
+     * @return 变更文件集合，负载无法解析时返回空集合
+     */
+    public static Set<String> extract(String payload) {
+        Set<String> files = new LinkedHashSet<>();
+        if (payload == null || payload.isEmpty()) {
+            return files;
+        }
+        JSONObject root;
+        try {
+            root = JSON.parseObject(payload);
+        } catch (JSONException e) {
+            return files;
+        }
+        if (root == null) {
+            return files;
+        }
+        JSONArray commits = root.getJSONArray("commits");
+        if (commits != null) {
+            for (int i = 0; i < commits.size(); i++) {
+                collect(commits.getJSONObject(i), files);
+            }
+        }
+        collect(root.getJSONObject("head_commit"), files);
+        return files;
+    }
+
+    private static void collect(JSONObject commit, Set<String> files) {
+        if (commit == null) {
+            return;
+        }
+        for (String field : FILE_FIELDS) {
+            JSONArray array = commit.getJSONArray(field);
+            if (array == null) {
+                continue;
+            }
+            for (int i = 0; i < array.size(); i++) {
+                String file = array.getString(i);
+                if (file != null && !file.isEmpty()) {
+                    files.add(file);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.autotest.platform.engine.impact;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 源码键到用例的影响索引
+ * <p>
+ * 由用例标签和历史失败关联构建，构建完成后只读，可被多个选择线程共享；
+ * 刷新时整体替换为新实例。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ImpactIndex {
+
+    /** 项目内全部有效用例 */
+    private final Set<Long> allCaseIds = new TreeSet<>();
+
+    /** 标签映射：源码键 -> 用例 */
+    private final Map<String, Set<Long>> tagMappings = new HashMap<>();
+
+    /** 失败关联映射：源码键 -> 用例 */
+    private final Map<String, Set<Long>> failureMappings = new HashMap<>();
+
+    /** 每次都执行的用例 */
+    private final Set<Long> alwaysRunCaseIds = new TreeSet<>();
+
+    private final long buildTime = System.currentTimeMillis();
+
+    /**
+     * 登记用例及其标签
+     *
+     * @param caseId 用例ID
+     * @param tags 标签(逗号分隔)
+     * @param alwaysRunTags 每次都执行的标签
+     */
+    public void addCase(Long caseId, String tags, Set<String> alwaysRunTags) {
+        allCaseIds.add(caseId);
+        if (tags == null || tags.isEmpty()) {
+            return;
+        }
+        for (String tag : tags.split("[,，]")) {
+            String trimmed = tag.trim().toLowerCase(Locale.ROOT);
+            if (alwaysRunTags.contains(trimmed)) {
+                alwaysRunCaseIds.add(caseId);
+                continue;
+            }
+            String key = SourceKeys.fromTag(trimmed);
+            if (key != null) {
+                tagMappings.computeIfAbsent(key, k -> new HashSet<>()).add(caseId);
+            }
+        }
+    }
+
+    /**
+     * 登记失败关联，共现次数不足时忽略
+     *
+     * @param sourceKey 源码键
+     * @param caseId 用例ID
+     * @param hitCount 共现次数
+     * @param minHits 最少共现次数
+     */
+    public void addFailureMapping(String sourceKey, Long caseId, int hitCount, int minHits) {
+        if (hitCount < minHits || !allCaseIds.contains(caseId)) {
+            return;
+        }
+        failureMappings.computeIfAbsent(sourceKey, k -> new HashSet<>()).add(caseId);
+    }
+
+    /**
+     * 剔除覆盖面过大的失败关联键，此类键通常是公共文件与偶发失败的巧合
+     *
+     * @param maxFanoutRatio 最大覆盖比例
+     */
+    public void pruneNoisyFailureMappings(double maxFanoutRatio) {
+        int limit = Math.max(1, (int) Math.ceil(allCaseIds.size() * maxFanoutRatio));
+        Iterator<Map.Entry<String, Set<Long>>> iterator = failureMappings.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().size() > limit) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * 查询源码键关联的用例
+     *
+     * @param keys 源码键
+     * @return 关联用例，未命中时返回空集合
+     */
+    public Set<Long> lookup(Set<String> keys) {
+        Set<Long> result = new LinkedHashSet<>();
+        for (String key : keys) {
+            Set<Long> tagged = tagMappings.get(key);
+            if (tagged != null) {
+                result.addAll(tagged);
+            }
+            Set<Long> learned = failureMappings.get(key);
+            if (learned != null) {
+                result.addAll(learned);
+            }
+        }
+        return result;
+    }
+
+    public Set<Long> getAllCaseIds() {
+        return Collections.unmodifiableSet(allCaseIds);
+    }
+
+    public Set<Long> getAlwaysRunCaseIds() {
+        return Collections.unmodifiableSet(alwaysRunCaseIds);
+    }
+
+    public int getTagKeyCount() {
+        return tagMappings.size();
+    }
+
+    public int getFailureKeyCount() {
+        return failureMappings.size();
+    }
+
+    public long getBuildTime() {
+        return buildTime;
+    }
+}
@@ -0,0 +1,122 @@
+package com.autotest.platform.engine.impact;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 测试影响选择结果
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ImpactSelection {
+
+    /** 是否执行全量 */
+    private boolean fullRun;
+
+    /** 选择原因 */
+    private String reason;
+
+    /** 项目用例总数 */
+    private int totalCases;
+
+    /** 变更文件数 */
+    private int changedFiles;
+
+    /** 受影响用例 */
+    private Set<Long> impactedCaseIds = new TreeSet<>();
+
+    /** 每次都执行的用例 */
+    private Set<Long> alwaysRunCaseIds = new TreeSet<>();
+
+    /** 安全抽样用例 */
+    private Set<Long> sampledCaseIds = new TreeSet<>();
+
+    /** 未命中索引的变更文件 */
+    private List<String> unmappedFiles = new ArrayList<>();
+
+    /**
+     * 需要执行的全部用例
+     */
+    public Set<Long> getSelectedCaseIds() {
+        Set<Long> selected = new TreeSet<>(impactedCaseIds);
+        selected.addAll(alwaysRunCaseIds);
+        selected.addAll(sampledCaseIds);
+        return Collections.unmodifiableSet(selected);
+    }
+
+    /**
+     * 选择比例
+     */
+    public double getSelectionRatio() {
+        return totalCases == 0 ? 0D : getSelectedCaseIds().size() / (double) totalCases;
+    }
+
+    // Getters and Setters
+    public boolean isFullRun() {
+        return fullRun;
+    }
+
+    public void setFullRun(boolean fullRun) {
+        this.fullRun = fullRun;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public int getTotalCases() {
+        return totalCases;
+    }
+
+    public void setTotalCases(int totalCases) {
+        this.totalCases = totalCases;
+    }
+
+    public int getChangedFiles() {
+        return changedFiles;
+    }
+
+    public void setChangedFiles(int changedFiles) {
+        this.changedFiles = changedFiles;
+    }
+
+    public Set<Long> getImpactedCaseIds() {
+        return impactedCaseIds;
+    }
+
+    public void setImpactedCaseIds(Set<Long> impactedCaseIds) {
+        this.impactedCaseIds = impactedCaseIds;
+    }
+
+    public Set<Long> getAlwaysRunCaseIds() {
+        return alwaysRunCaseIds;
+    }
+
+    public void setAlwaysRunCaseIds(Set<Long> alwaysRunCaseIds) {
+        this.alwaysRunCaseIds = alwaysRunCaseIds;
+    }
+
+    public Set<Long> getSampledCaseIds() {
+        return sampledCaseIds;
+    }
+
+    public void setSampledCaseIds(Set<Long> sampledCaseIds) {
+        this.sampledCaseIds = sampledCaseIds;
+    }
+
+    public List<String> getUnmappedFiles() {
+        return unmappedFiles;
+    }
+
+    public void setUnmappedFiles(List<String> unmappedFiles) {
+        this.unmappedFiles = unmappedFiles;
+    }
+}
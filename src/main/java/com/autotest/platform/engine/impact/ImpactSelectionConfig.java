@@ -0,0 +1,113 @@
+package com.autotest.platform.engine.impact;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 测试影响选择配置
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ImpactSelectionConfig {
+
+    /** 安全抽样比例(未命中用例中随机抽取) */
+    private double safetySampleRatio = 0.05D;
+
+    /** 安全抽样最小用例数 */
+    private int minSafetySample = 5;
+
+    /** 失败关联生效所需的最少共现次数 */
+    private int minFailureHits = 2;
+
+    /** 失败关联源码键最多覆盖的用例比例，超过视为噪声 */
+    private double maxKeyFanoutRatio = 0.3D;
+
+    /** 变更文件数超过该值时执行全量 */
+    private int maxChangedFiles = 200;
+
+    /** 未命中索引的源码文件比例超过该值时执行全量 */
+    private double maxUnmappedRatio = 0.5D;
+
+    /** 命中即执行全量的文件(构建脚本、公共配置等) */
+    private List<String> fullRunPatterns = Arrays.asList("pom.xml", "build.gradle", "settings.gradle", "package.json");
+
+    /** 不参与影响分析的文件 */
+    private List<String> ignorePatterns = Arrays.asList("*.md", "*.txt", "docs/", "LICENSE");
+
+    /** 每次都执行的用例标签 */
+    private List<String> alwaysRunTags = Arrays.asList("smoke");
+
+    // Getters and Setters
+    public double getSafetySampleRatio() {
+        return safetySampleRatio;
+    }
+
+    public void setSafetySampleRatio(double safetySampleRatio) {
+        this.safetySampleRatio = safetySampleRatio;
+    }
+
+    public int getMinSafetySample() {
+        return minSafetySample;
+    }
+
+    public void setMinSafetySample(int minSafetySample) {
+        this.minSafetySample = minSafetySample;
+    }
+
+    public int getMinFailureHits() {
+        return minFailureHits;
+    }
+
+    public void setMinFailureHits(int minFailureHits) {
+        this.minFailureHits = minFailureHits;
+    }
+
+    public double getMaxKeyFanoutRatio() {
+        return maxKeyFanoutRatio;
+    }
+
+    public void setMaxKeyFanoutRatio(double maxKeyFanoutRatio) {
+        this.maxKeyFanoutRatio = maxKeyFanoutRatio;
+    }
+
+    public int getMaxChangedFiles() {
+        return maxChangedFiles;
+    }
+
+    public void setMaxChangedFiles(int maxChangedFiles) {
+        this.maxChangedFiles = maxChangedFiles;
+    }
+
+    public double getMaxUnmappedRatio() {
+        return maxUnmappedRatio;
+    }
+
+    public void setMaxUnmappedRatio(double maxUnmappedRatio) {
+        this.maxUnmappedRatio = maxUnmappedRatio;
+    }
+
+    public List<String> getFullRunPatterns() {
+        return fullRunPatterns;
+    }
+
+    public void setFullRunPatterns(List<String> fullRunPatterns) {
+        this.fullRunPatterns = fullRunPatterns;
+    }
+
+    public List<String> getIgnorePatterns() {
+        return ignorePatterns;
+    }
+
+    public void setIgnorePatterns(List<String> ignorePatterns) {
+        this.ignorePatterns = ignorePatterns;
+    }
+
+    public List<String> getAlwaysRunTags() {
+        return alwaysRunTags;
+    }
+
+    public void setAlwaysRunTags(List<String> alwaysRunTags) {
+        this.alwaysRunTags = alwaysRunTags;
+    }
+}
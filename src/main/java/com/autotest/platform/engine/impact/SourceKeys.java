@@ -0,0 +1,134 @@
+package com.autotest.platform.engine.impact;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 源码键工具
+ * <p>
+ * 变更文件与用例之间通过统一的源码键关联：
+ * path:目录或文件路径前缀，module:任意一级非通用目录名，name:不含扩展名的文件名。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public final class SourceKeys {
+
+    public static final String PATH_PREFIX = "path:";
+
+    public static final String MODULE_PREFIX = "module:";
+
+    public static final String NAME_PREFIX = "name:";
+
+    /**
+     * 通用目录名：几乎所有文件都会经过，作为module:键只会命中大量无关用例
+     */
+    private static final Set<String> GENERIC_SEGMENTS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "src", "main", "test", "tests", "java", "kotlin", "scala", "groovy", "resources",
+            "com", "org", "net", "io", "cn", "lib", "libs", "target", "build")));
+
+    private SourceKeys() {
+    }
+
+    /**
+     * 规范化文件路径
+     */
+    public static String normalizePath(String path) {
+        if (path == null) {
+            return "";
+        }
+        String normalized = path.trim().replace('\\', '/').toLowerCase(Locale.ROOT);
+        while (normalized.startsWith("/") || normalized.startsWith("./")) {
+            normalized = normalized.startsWith("/") ? normalized.substring(1) : normalized.substring(2);
+        }
+        while (normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized;
+    }
+
+    /**
+     * 变更文件可命中的全部源码键
+     *
+     * @param path 文件路径
+     * @return 源码键集合
+     */
+    public static Set<String> forChangedFile(String path) {
+        Set<String> keys = new LinkedHashSet<>();
+        String normalized = normalizePath(path);
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        String[] segments = normalized.split("/");
+        StringBuilder prefix = new StringBuilder();
+        for (int i = 0; i < segments.length; i++) {
+            if (i > 0) {
+                prefix.append('/');
+            }
+            prefix.append(segments[i]);
+            keys.add(PATH_PREFIX + prefix);
+            if (i < segments.length - 1 && !GENERIC_SEGMENTS.contains(segments[i])) {
+                keys.add(MODULE_PREFIX + segments[i]);
+            }
+        }
+        keys.add(NAME_PREFIX + baseName(segments[segments.length - 1]));
+        return keys;
+    }
+
+    /**
+     * 失败关联学习时记录的源码键：文件本身及其所在目录
+     *
+     * @param path 文件路径
+     * @return 源码键集合
+     */
+    public static Set<String> forLearning(String path) {
+        Set<String> keys = new LinkedHashSet<>();
+        String normalized = normalizePath(path);
+        if (normalized.isEmpty()) {
+            return keys;
+        }
+        keys.add(PATH_PREFIX + normalized);
+        int index = normalized.lastIndexOf('/');
+        if (index > 0) {
+            keys.add(PATH_PREFIX + normalized.substring(0, index));
+        }
+        return keys;
+    }
+
+    /**
+     * 用例标签转换为源码键，path:/module:/name: 前缀按原义处理，其余标签视为模块名
+     *
+     * @param tag 标签
+     * @return 源码键，空标签返回null
+     */
+    public static String fromTag(String tag) {
+        if (tag == null) {
+            return null;
+        }
+        String value = tag.trim();
+        if (value.isEmpty()) {
+            return null;
+        }
+        String lower = value.toLowerCase(Locale.ROOT);
+        if (lower.startsWith(PATH_PREFIX)) {
+            String path = normalizePath(value.substring(PATH_PREFIX.length()));
+            return path.isEmpty() ? null : PATH_PREFIX + path;
+        }
+        if (lower.startsWith(NAME_PREFIX)) {
+            return NAME_PREFIX + baseName(lower.substring(NAME_PREFIX.length()).trim());
+        }
+        if (lower.startsWith(MODULE_PREFIX)) {
+            return MODULE_PREFIX + lower.substring(MODULE_PREFIX.length()).trim();
+        }
+        return MODULE_PREFIX + lower;
+    }
+
+    private static String baseName(String fileName) {
+        int index = fileName.lastIndexOf('.');
+        return index > 0 ? fileName.substring(0, index) : fileName;
+    }
+}
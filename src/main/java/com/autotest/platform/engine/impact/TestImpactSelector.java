@@ -0,0 +1,143 @@
+package com.autotest.platform.engine.impact;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 基于变更文件的测试影响选择器
+ * <p>
+ * 按变更文件命中索引得到受影响用例，再从其余用例中按提交SHA确定性抽样作为安全网；
+ * 构建脚本变更、变更文件过多或大部分文件未命中索引时退回全量执行。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class TestImpactSelector {
+
+    private final ImpactSelectionConfig config;
+
+    public TestImpactSelector(ImpactSelectionConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * 选择需要执行的用例
+     *
+     * @param index 影响索引
+     * @param changedFiles 变更文件
+     * @param seed 抽样种子(通常为提交SHA)，相同提交重复触发时结果一致
+     * @return 选择结果
+     */
+    public ImpactSelection select(ImpactIndex index, Collection<String> changedFiles, String seed) {
+        ImpactSelection selection = new ImpactSelection();
+        selection.setTotalCases(index.getAllCaseIds().size());
+        selection.setChangedFiles(changedFiles == null ? 0 : changedFiles.size());
+        if (changedFiles == null || changedFiles.isEmpty()) {
+            return fullRun(selection, index, "未获取到变更文件");
+        }
+        if (changedFiles.size() > config.getMaxChangedFiles()) {
+            return fullRun(selection, index, "变更文件数" + changedFiles.size() + "超过上限" + config.getMaxChangedFiles());
+        }
+        List<String> relevantFiles = new ArrayList<>();
+        for (String file : changedFiles) {
+            String path = SourceKeys.normalizePath(file);
+            if (matchesAny(config.getFullRunPatterns(), path)) {
+                return fullRun(selection, index, "变更包含全量触发文件: " + file);
+            }
+            if (!matchesAny(config.getIgnorePatterns(), path)) {
+                relevantFiles.add(file);
+            }
+        }
+
+        Set<Long> impacted = new TreeSet<>();
+        for (String file : relevantFiles) {
+            Set<Long> hits = index.lookup(SourceKeys.forChangedFile(file));
+            if (hits.isEmpty()) {
+                selection.getUnmappedFiles().add(file);
+            } else {
+                impacted.addAll(hits);
+            }
+        }
+        if (!relevantFiles.isEmpty()
+                && selection.getUnmappedFiles().size() > relevantFiles.size() * config.getMaxUnmappedRatio()) {
+            return fullRun(selection, index, "未命中索引的变更文件过多(" + selection.getUnmappedFiles().size()
+                    + "/" + relevantFiles.size() + ")");
+        }
+
+        selection.setImpactedCaseIds(impacted);
+        selection.getAlwaysRunCaseIds().addAll(index.getAlwaysRunCaseIds());
+        selection.setSampledCaseIds(sample(index, impacted, seed));
+        selection.setReason(relevantFiles.isEmpty() ? "变更文件均不影响测试" : "命中" + impacted.size() + "个受影响用例");
+        return selection;
+    }
+
+    /**
+     * 从未选中的用例中确定性抽样
+     */
+    private Set<Long> sample(ImpactIndex index, Set<Long> impacted, String seed) {
+        List<Long> remaining = new ArrayList<>();
+        for (Long caseId : index.getAllCaseIds()) {
+            if (!impacted.contains(caseId) && !index.getAlwaysRunCaseIds().contains(caseId)) {
+                remaining.add(caseId);
+            }
+        }
+        int size = (int) Math.ceil(remaining.size() * config.getSafetySampleRatio());
+        size = Math.min(remaining.size(), Math.max(size, config.getMinSafetySample()));
+        Random random = new Random(seed == null ? 0L : seed.hashCode());
+        Set<Long> sampled = new TreeSet<>();
+        // 部分洗牌，只打乱前size个位置
+        for (int i = 0; i < size; i++) {
+            int j = i + random.nextInt(remaining.size() - i);
+            Long picked = remaining.get(j);
+            remaining.set(j, remaining.get(i));
+            remaining.set(i, picked);
+            sampled.add(picked);
+        }
+        return sampled;
+    }
+
+    private static ImpactSelection fullRun(ImpactSelection selection, ImpactIndex index, String reason) {
+        selection.setFullRun(true);
+        selection.setReason(reason);
+        selection.setImpactedCaseIds(new TreeSet<>(index.getAllCaseIds()));
+        selection.getSampledCaseIds().clear();
+        return selection;
+    }
+
+    /**
+     * 路径匹配：*.ext 匹配扩展名，dir/ 匹配任意层级目录，含/的模式匹配路径前缀，否则匹配文件名
+     */
+    static boolean matchesAny(List<String> patterns, String path) {
+        if (patterns == null) {
+            return false;
+        }
+        String fileName = path.substring(path.lastIndexOf('/') + 1);
+        for (String raw : patterns) {
+            String pattern = raw.trim().toLowerCase(Locale.ROOT);
+            if (pattern.isEmpty()) {
+                continue;
+            }
+            if (pattern.startsWith("*.")) {
+                if (path.endsWith(pattern.substring(1))) {
+                    return true;
+                }
+            } else if (pattern.endsWith("/")) {
+                if (path.startsWith(pattern) || path.contains("/" + pattern)) {
+                    return true;
+                }
+            } else if (pattern.contains("/")) {
+                if (path.equals(pattern) || path.startsWith(pattern + "/")) {
+                    return true;
+                }
+            } else if (fileName.equals(pattern)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,22 @@
+package com.autotest.platform.engine.jenkins;
+
+import com.autotest.platform.domain.cicd.JenkinsBuildTest;
+
+import java.util.List;
+
+/**
+ * 构建测试结果批量写入接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface BuildTestSink {
+
+    /**
+     * 批量写入测试结果，只在调用导入的线程中按顺序调用
+     *
+     * @param buildId 构建ID
+     * @param batch 测试结果批次
+     */
+    void writeBatch(Long buildId, List<JenkinsBuildTest> batch);
+}
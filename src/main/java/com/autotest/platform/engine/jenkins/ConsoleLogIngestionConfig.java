@@ -0,0 +1,77 @@
+package com.autotest.platform.engine.jenkins;
+
+/**
+ * 构建控制台日志增量拉取配置
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ConsoleLogIngestionConfig {
+
+    /** 拉取线程数 */
+    private int poolSize = 4;
+
+    /** 最小轮询间隔(毫秒)，构建持续输出日志时使用 */
+    private long minPollInterval = 1000L;
+
+    /** 最大轮询间隔(毫秒)，无新日志时逐步退避至该值 */
+    private long maxPollInterval = 15000L;
+
+    /** 最大同时跟踪构建数 */
+    private int maxFollowedBuilds = 500;
+
+    /** 单个日志分段最大字节数 */
+    private int segmentMaxBytes = 256 * 1024;
+
+    /** 连续失败次数上限，超过后放弃跟踪 */
+    private int maxFailures = 10;
+
+    // Getters and Setters
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public long getMinPollInterval() {
+        return minPollInterval;
+    }
+
+    public void setMinPollInterval(long minPollInterval) {
+        this.minPollInterval = minPollInterval;
+    }
+
+    public long getMaxPollInterval() {
+        return maxPollInterval;
+    }
+
+    public void setMaxPollInterval(long maxPollInterval) {
+        this.maxPollInterval = maxPollInterval;
+    }
+
+    public int getMaxFollowedBuilds() {
+        return maxFollowedBuilds;
+    }
+
+    public void setMaxFollowedBuilds(int maxFollowedBuilds) {
+        this.maxFollowedBuilds = maxFollowedBuilds;
+    }
+
+    public int getSegmentMaxBytes() {
+        return segmentMaxBytes;
+    }
+
+    public void setSegmentMaxBytes(int segmentMaxBytes) {
+        this.segmentMaxBytes = segmentMaxBytes;
+    }
+
+    public int getMaxFailures() {
+        return maxFailures;
+    }
+
+    public void setMaxFailures(int maxFailures) {
+        this.maxFailures = maxFailures;
+    }
+}
@@ -0,0 +1,314 @@
+package com.autotest.platform.engine.jenkins;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 构建控制台日志增量拉取引擎
+ * <p>
+ * 每个构建对应一个自调度的轮询任务，共享固定大小的调度线程池，因此跟踪数百个构建也只占用有限线程。
+ * 每次按已保存的原始日志偏移量拉取新增内容，按字节上限切分为分段后写入 {@link ConsoleLogSink}，
+ * 有新日志时保持最小轮询间隔，无新日志时间隔翻倍直至最大值，构建结束(X-More-Data=false)后停止。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ConsoleLogIngestionEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(ConsoleLogIngestionEngine.class);
+
+    private final ProgressiveLogClient client;
+
+    private final ConsoleLogSink sink;
+
+    private final ConsoleLogIngestionConfig config;
+
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /** 正在跟踪的构建 */
+    private final Map<Long, BuildFollower> followers = new ConcurrentHashMap<>();
+
+    public ConsoleLogIngestionEngine(ProgressiveLogClient client, ConsoleLogSink sink, ConsoleLogIngestionConfig config) {
+        this.client = client;
+        this.sink = sink;
+        this.config = config;
+        this.scheduler = new ScheduledThreadPoolExecutor(Math.max(1, config.getPoolSize()), new LogThreadFactory());
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        this.scheduler.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+    }
+
+    /**
+     * 开始跟踪构建日志
+     *
+     * @param buildId 构建ID
+     * @param buildUrl 构建URL
+     * @param offset 已拉取字节偏移量
+     * @param segmentCount 已写入分段数
+     * @return 是否接受跟踪(已在跟踪时返回true，超过跟踪上限或引擎已关闭时返回false)
+     */
+    public boolean follow(Long buildId, String buildUrl, long offset, int segmentCount) {
+        if (scheduler.isShutdown()) {
+            return false;
+        }
+        if (followers.containsKey(buildId)) {
+            return true;
+        }
+        if (followers.size() >= config.getMaxFollowedBuilds()) {
+            log.warn("构建日志跟踪数已达上限{}，忽略构建{}", config.getMaxFollowedBuilds(), buildId);
+            return false;
+        }
+        BuildFollower follower = new BuildFollower(buildId, buildUrl, offset, segmentCount);
+        if (followers.putIfAbsent(buildId, follower) != null) {
+            return true;
+        }
+        follower.schedule(0L);
+        return true;
+    }
+
+    /**
+     * 停止跟踪构建日志
+     *
+     * @param buildId 构建ID
+     */
+    public void stop(Long buildId) {
+        BuildFollower follower = followers.remove(buildId);
+        if (follower != null) {
+            follower.cancel();
+        }
+    }
+
+    /**
+     * 是否正在跟踪构建
+     */
+    public boolean isFollowing(Long buildId) {
+        return followers.containsKey(buildId);
+    }
+
+    /**
+     * 当前跟踪的构建数
+     */
+    public int getFollowedBuildCount() {
+        return followers.size();
+    }
+
+    /**
+     * 关闭引擎
+     */
+    public void shutdown() {
+        for (BuildFollower follower : followers.values()) {
+            follower.cancel();
+        }
+        followers.clear();
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(5, TimeUnit.SECONDS)) {
+                scheduler.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 计算不截断UTF-8多字节字符的有效长度，末尾不完整的字符留待下次拉取
+     *
+     * @param data 字节数组
+     * @param length 原始长度
+     * @return 有效长度
+     */
+    static int completeUtf8Length(byte[] data, int length) {
+        int lead = length - 1;
+        // 向前最多回溯3个字节寻找字符首字节
+        while (lead >= 0 && length - lead <= 4 && isContinuation(data[lead])) {
+            lead--;
+        }
+        if (lead < 0 || length - lead > 4) {
+            return length;
+        }
+        int expected = utf8SequenceLength(data[lead]);
+        return lead + expected > length ? lead : length;
+    }
+
+    /**
+     * 计算不超过上限且不落在UTF-8字符中间的切分位置
+     *
+     * @param data 字节数组
+     * @param from 起始位置
+     * @param limit 切分上限
+     * @return 切分位置
+     */
+    static int splitPoint(byte[] data, int from, int limit) {
+        int point = limit;
+        while (point > from && point < data.length && isContinuation(data[point])) {
+            point--;
+        }
+        // 分段上限小于单个字符时按上限切分，避免死循环
+        return point == from ? limit : point;
+    }
+
+    private static boolean isContinuation(byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    private static int utf8SequenceLength(byte b) {
+        if ((b & 0x80) == 0) {
+            return 1;
+        } else if ((b & 0xE0) == 0xC0) {
+            return 2;
+        } else if ((b & 0xF0) == 0xE0) {
+            return 3;
+        } else if ((b & 0xF8) == 0xF0) {
+            return 4;
+        }
+        return 1;
+    }
+
+    /**
+     * 单个构建的轮询任务，同一时刻只在一个线程中运行
+     */
+    private class BuildFollower implements Runnable {
+
+        private final Long buildId;
+
+        private final String buildUrl;
+
+        private long offset;
+
+        private int segmentCount;
+
+        private long delay;
+
+        private int failures;
+
+        private volatile boolean cancelled;
+
+        private volatile ScheduledFuture<?> future;
+
+        BuildFollower(Long buildId, String buildUrl, long offset, int segmentCount) {
+            this.buildId = buildId;
+            this.buildUrl = buildUrl;
+            this.offset = offset;
+            this.segmentCount = segmentCount;
+            this.delay = config.getMinPollInterval();
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            try {
+                ProgressiveLogChunk chunk = client.fetch(buildUrl, offset);
+                int consumed = ingest(chunk);
+                failures = 0;
+                if (!chunk.isMoreData()) {
+                    // 先移除再标记完成，完成标记失败时由未完成构建恢复流程重新跟踪
+                    followers.remove(buildId, this);
+                    sink.complete(buildId, offset, segmentCount);
+                    log.debug("构建{}日志拉取完成，共{}字节，{}个分段", buildId, offset, segmentCount);
+                    return;
+                }
+                delay = consumed > 0 ? config.getMinPollInterval() : backoff(delay);
+            } catch (Exception e) {
+                if (!followers.containsKey(buildId)) {
+                    log.warn("构建{}日志完成状态更新失败: {}", buildId, e.getMessage());
+                    return;
+                }
+                failures++;
+                if (failures >= config.getMaxFailures()) {
+                    log.warn("构建{}日志连续拉取失败{}次，停止跟踪: {}", buildId, failures, e.getMessage());
+                    followers.remove(buildId, this);
+                    return;
+                }
+                log.debug("构建{}日志拉取失败(第{}次): {}", buildId, failures, e.getMessage());
+                delay = backoff(delay);
+            }
+            schedule(delay);
+        }
+
+        /**
+         * 写入新增日志，返回本次收到的字节数
+         * <p>
+         * progressiveText 会去掉控制台注解，返回的字节数小于原始日志的增量，因此偏移量只能推进到服务端给出的
+         * X-Text-Size，分段的起止偏移量也按原始日志位置记录。整段写完后才提交进度，中途失败时从本次起始位置
+         * 重新拉取，并按原分段序号覆盖已写入的分段。
+         * <p>
+         * 构建仍在输出时末尾不完整的多字节字符不写入，偏移量停在该字符首字节之前，下次连同后续字节重新拉取。
+         * 注解只出现在完整的行之后，原始日志末尾的不完整字符与返回内容末尾的字节一一对应，因此回退的字节数
+         * 在原始日志中同样成立；内存与库中保存的偏移量一致，重启后也不会丢失这几个字节。
+         */
+        private int ingest(ProgressiveLogChunk chunk) {
+            byte[] data = chunk.getData();
+            int length = data.length;
+            if (chunk.isMoreData()) {
+                length = completeUtf8Length(data, length);
+            }
+            long rawStart = chunk.getStartOffset();
+            long rawEnd = Math.max(rawStart, chunk.getNextOffset() - (data.length - length));
+            int maxBytes = Math.max(4, config.getSegmentMaxBytes());
+            int segment = segmentCount;
+            int from = 0;
+            while (from < length) {
+                int to = from + maxBytes >= length ? length : splitPoint(data, from, from + maxBytes);
+                String content = new String(data, from, to - from, StandardCharsets.UTF_8);
+                long start = Math.min(rawStart + from, rawEnd);
+                long end = to == length ? rawEnd : Math.min(rawStart + to, rawEnd);
+                sink.append(buildId, segment, start, end, content);
+                segment++;
+                from = to;
+            }
+            if (rawEnd != offset || segment != segmentCount) {
+                sink.progress(buildId, rawEnd, segment);
+            }
+            segmentCount = segment;
+            offset = rawEnd;
+            return length;
+        }
+
+        private long backoff(long current) {
+            return Math.min(Math.max(current, 1L) * 2, config.getMaxPollInterval());
+        }
+
+        void schedule(long delayMillis) {
+            if (cancelled) {
+                return;
+            }
+            try {
+                future = scheduler.schedule(this, delayMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                followers.remove(buildId, this);
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            ScheduledFuture<?> current = future;
+            if (current != null) {
+                current.cancel(false);
+            }
+        }
+    }
+
+    private static class LogThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "jenkins-log-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
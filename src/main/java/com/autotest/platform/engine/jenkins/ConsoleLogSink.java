@@ -0,0 +1,39 @@
+package com.autotest.platform.engine.jenkins;
+
+/**
+ * 构建控制台日志写入接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface ConsoleLogSink {
+
+    /**
+     * 写入日志分段，同一构建的分段按序写入且不重叠；拉取失败重试时会以相同序号重写，实现需按序号覆盖
+     *
+     * @param buildId 构建ID
+     * @param segmentNo 分段序号
+     * @param startOffset 原始日志起始字节偏移量(含)
+     * @param endOffset 原始日志结束字节偏移量(不含)，控制台注解已去掉，可能大于内容字节数
+     * @param content 分段内容
+     */
+    void append(Long buildId, int segmentNo, long startOffset, long endOffset, String content);
+
+    /**
+     * 一次拉取的内容全部写入后提交进度
+     *
+     * @param buildId 构建ID
+     * @param offset 下次拉取的原始日志偏移量(X-Text-Size)
+     * @param segmentCount 已写入分段数
+     */
+    void progress(Long buildId, long offset, int segmentCount);
+
+    /**
+     * 日志拉取完成
+     *
+     * @param buildId 构建ID
+     * @param finalOffset 最终字节偏移量
+     * @param segmentCount 分段总数
+     */
+    void complete(Long buildId, long finalOffset, int segmentCount);
+}
@@ -0,0 +1,187 @@
+package com.autotest.platform.engine.jenkins;
+
+import com.autotest.platform.domain.cicd.JenkinsBuildTest;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * JUnit XML 报告流式解析器
+ * <p>
+ * 基于 StAX 逐个读取 testcase，不构建整棵 DOM，内存占用与报告大小无关；
+ * failure/error 文本读取时即按上限截断，system-out/system-err 直接跳过。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class JUnitReportParser {
+
+    public static final String STATUS_PASSED = "PASSED";
+
+    public static final String STATUS_FAILED = "FAILED";
+
+    public static final String STATUS_SKIPPED = "SKIPPED";
+
+    public static final String STATUS_ERROR = "ERROR";
+
+    /** 名称字段长度(与表结构一致) */
+    private static final int MAX_NAME_LENGTH = 200;
+
+    /** 错误信息最大长度 */
+    private static final int MAX_MESSAGE_LENGTH = 2000;
+
+    /** decimal(10,3) 上限 */
+    private static final BigDecimal MAX_DURATION = new BigDecimal("9999999.999");
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    private final StackTraceCompactor compactor;
+
+    /** 读取堆栈文本的最大字符数，超出部分不进入内存 */
+    private final int maxCaptureChars;
+
+    public JUnitReportParser(StackTraceCompactor compactor, int maxCaptureChars) {
+        this.compactor = compactor;
+        this.maxCaptureChars = maxCaptureChars;
+    }
+
+    /**
+     * 解析报告，每读完一个 testcase 回调一次
+     *
+     * @param in 报告输入流
+     * @param buildId 构建ID
+     * @param consumer 测试结果回调
+     * @param summary 汇总结果
+     * @throws XMLStreamException 报告格式错误
+     */
+    public void parse(InputStream in, Long buildId, Consumer<JenkinsBuildTest> consumer, TestResultSummary summary)
+            throws XMLStreamException {
+        XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+        Deque<String> suites = new ArrayDeque<>();
+        JenkinsBuildTest current = null;
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String element = reader.getLocalName();
+                    if ("testsuite".equals(element)) {
+                        suites.push(nullToEmpty(reader.getAttributeValue(null, "name")));
+                        summary.recordSuite();
+                    } else if ("testcase".equals(element)) {
+                        current = new JenkinsBuildTest();
+                        current.setBuildId(buildId);
+                        current.setTestClass(truncate(nullToEmpty(reader.getAttributeValue(null, "classname")), MAX_NAME_LENGTH));
+                        current.setTestName(truncate(nullToEmpty(reader.getAttributeValue(null, "name")), MAX_NAME_LENGTH));
+                        current.setTestDuration(parseDuration(reader.getAttributeValue(null, "time")));
+                        current.setTestStatus(STATUS_PASSED);
+                    } else if (current != null && ("failure".equals(element) || "error".equals(element))) {
+                        // 同一用例同时有 failure 和 error 时以首个为准
+                        if (STATUS_PASSED.equals(current.getTestStatus())) {
+                            current.setTestStatus("failure".equals(element) ? STATUS_FAILED : STATUS_ERROR);
+                            current.setErrorMessage(truncate(reader.getAttributeValue(null, "message"), MAX_MESSAGE_LENGTH));
+                            String owner = current.getTestClass() + "." + current.getTestName();
+                            current.setStackTrace(compactor.compact(readText(reader), owner));
+                        } else {
+                            skipElement(reader);
+                        }
+                    } else if (current != null && "skipped".equals(element)) {
+                        current.setTestStatus(STATUS_SKIPPED);
+                        current.setErrorMessage(truncate(reader.getAttributeValue(null, "message"), MAX_MESSAGE_LENGTH));
+                        skipElement(reader);
+                    } else if ("system-out".equals(element) || "system-err".equals(element) || "properties".equals(element)) {
+                        skipElement(reader);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String element = reader.getLocalName();
+                    if ("testcase".equals(element) && current != null) {
+                        String suite = suites.isEmpty() || suites.peek().isEmpty() ? current.getTestClass() : suites.peek();
+                        current.setTestSuite(truncate(suite, MAX_NAME_LENGTH));
+                        summary.record(current);
+                        consumer.accept(current);
+                        current = null;
+                    } else if ("testsuite".equals(element) && !suites.isEmpty()) {
+                        suites.pop();
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * 读取当前元素文本，超过上限的部分丢弃
+     */
+    private String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder sb = new StringBuilder();
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            } else if (depth == 1 && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA)
+                    && sb.length() < maxCaptureChars) {
+                int length = Math.min(reader.getTextLength(), maxCaptureChars - sb.length());
+                sb.append(reader.getTextCharacters(), reader.getTextStart(), length);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static BigDecimal parseDuration(String time) {
+        if (time == null || time.isEmpty()) {
+            return null;
+        }
+        try {
+            BigDecimal duration = new BigDecimal(time.replace(",", "").trim()).setScale(3, RoundingMode.HALF_UP);
+            if (duration.signum() < 0) {
+                return BigDecimal.ZERO.setScale(3);
+            }
+            return duration.compareTo(MAX_DURATION) > 0 ? MAX_DURATION : duration;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, maxLength);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        // 禁用DTD和外部实体，防止XXE
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.FALSE);
+        return factory;
+    }
+}
@@ -0,0 +1,55 @@
+package com.autotest.platform.engine.jenkins;
+
+/**
+ * JUnit 测试报告导入配置
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class JUnitResultIngestionConfig {
+
+    /** 并行解析线程数 */
+    private int parserThreads = 4;
+
+    /** 批量写入条数 */
+    private int batchSize = 500;
+
+    /** 堆栈最大保留行数 */
+    private int maxStackTraceLines = 60;
+
+    /** 堆栈最大保留字符数 */
+    private int maxStackTraceChars = 8000;
+
+    // Getters and Setters
+    public int getParserThreads() {
+        return parserThreads;
+    }
+
+    public void setParserThreads(int parserThreads) {
+        this.parserThreads = parserThreads;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxStackTraceLines() {
+        return maxStackTraceLines;
+    }
+
+    public void setMaxStackTraceLines(int maxStackTraceLines) {
+        this.maxStackTraceLines = maxStackTraceLines;
+    }
+
+    public int getMaxStackTraceChars() {
+        return maxStackTraceChars;
+    }
+
+    public void setMaxStackTraceChars(int maxStackTraceChars) {
+        this.maxStackTraceChars = maxStackTraceChars;
+    }
+}
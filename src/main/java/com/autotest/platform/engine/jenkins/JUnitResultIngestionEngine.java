@@ -0,0 +1,200 @@
+package com.autotest.platform.engine.jenkins;
+
+import com.autotest.platform.domain.cicd.JenkinsBuildTest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * JUnit 测试报告导入引擎
+ * <p>
+ * 报告文件在固定大小的线程池中并行流式解析，每个线程攒满一批后交给调用线程写入 {@link BuildTestSink}，
+ * 汇总数据在解析过程中同步累加，导入结束即可得到构建级统计，无需再回查明细。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class JUnitResultIngestionEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(JUnitResultIngestionEngine.class);
+
+    private final BuildTestSink sink;
+
+    private final JUnitResultIngestionConfig config;
+
+    private final ExecutorService executor;
+
+    /** 单个报告文件解析结束的标记 */
+    private static final List<JenkinsBuildTest> END_OF_FILE = Collections.emptyList();
+
+    public JUnitResultIngestionEngine(BuildTestSink sink, JUnitResultIngestionConfig config) {
+        this.sink = sink;
+        this.config = config;
+        int threads = Math.max(1, config.getParserThreads());
+        this.executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new ParserThreadFactory());
+        ((ThreadPoolExecutor) this.executor).allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 导入目录下的全部 XML 报告
+     *
+     * @param buildId 构建ID
+     * @param reportDir 报告目录
+     * @return 汇总结果
+     * @throws IOException 目录读取失败
+     */
+    public TestResultSummary ingestDirectory(Long buildId, Path reportDir) throws IOException {
+        return ingest(buildId, findReportFiles(reportDir));
+    }
+
+    /**
+     * 并行导入报告文件
+     *
+     * @param buildId 构建ID
+     * @param reportFiles 报告文件
+     * @return 汇总结果
+     */
+    public TestResultSummary ingest(Long buildId, List<Path> reportFiles) {
+        TestResultSummary summary = new TestResultSummary();
+        // 去重范围为单次构建
+        StackTraceCompactor compactor = new StackTraceCompactor(config.getMaxStackTraceLines(), config.getMaxStackTraceChars());
+        // 有界队列限制已解析未写入的批次数，解析快于写入时解析线程等待
+        BlockingQueue<List<JenkinsBuildTest>> batches =
+                new ArrayBlockingQueue<>(Math.max(2, config.getParserThreads() * 2));
+        List<Future<?>> futures = new ArrayList<>(reportFiles.size());
+        for (Path file : reportFiles) {
+            futures.add(executor.submit(() -> parseFile(buildId, file, compactor, summary, batches)));
+        }
+        try {
+            int finished = 0;
+            while (finished < reportFiles.size()) {
+                List<JenkinsBuildTest> batch = batches.take();
+                if (batch == END_OF_FILE) {
+                    finished++;
+                } else {
+                    sink.writeBatch(buildId, batch);
+                }
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            cancelAll(futures);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("测试报告导入被中断", e);
+        } catch (ExecutionException e) {
+            cancelAll(futures);
+            throw new IllegalStateException("测试报告解析失败: " + e.getCause().getMessage(), e.getCause());
+        } catch (RuntimeException e) {
+            cancelAll(futures);
+            throw e;
+        }
+        return summary;
+    }
+
+    /**
+     * 关闭引擎
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 查找目录下的 XML 报告
+     */
+    public static List<Path> findReportFiles(Path reportDir) throws IOException {
+        try (Stream<Path> stream = Files.walk(reportDir)) {
+            return stream.filter(Files::isRegularFile)
+                    .filter(path -> path.getFileName().toString().toLowerCase().endsWith(".xml"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private void parseFile(Long buildId, Path file, StackTraceCompactor compactor, TestResultSummary summary,
+                           BlockingQueue<List<JenkinsBuildTest>> batches) {
+        int batchSize = Math.max(1, config.getBatchSize());
+        List<JenkinsBuildTest> batch = new ArrayList<>(batchSize);
+        JUnitReportParser parser = new JUnitReportParser(compactor, config.getMaxStackTraceChars() * 2);
+        boolean success = true;
+        try {
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(file), 64 * 1024)) {
+                parser.parse(in, buildId, test -> {
+                    batch.add(test);
+                    if (batch.size() >= batchSize) {
+                        handOver(batch, batches);
+                    }
+                }, summary);
+            } catch (IOException | XMLStreamException e) {
+                // 单个报告损坏不影响其他报告，已解析的用例照常写入
+                success = false;
+                log.warn("解析测试报告失败: {}, {}", file, e.getMessage());
+            }
+            handOver(batch, batches);
+            summary.recordReportFile(success);
+        } finally {
+            // 无论成功与否都通知调用线程该文件已结束，避免调用线程一直等待
+            try {
+                batches.put(END_OF_FILE);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 把批次交给调用线程写入，写入都在调用线程中进行，可与调用方的其他写操作处于同一事务
+     */
+    private static void handOver(List<JenkinsBuildTest> batch, BlockingQueue<List<JenkinsBuildTest>> batches) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            batches.put(new ArrayList<>(batch));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("测试报告导入被取消", e);
+        }
+        batch.clear();
+    }
+
+    private static void cancelAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            future.cancel(true);
+        }
+    }
+
+    private static class ParserThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "junit-parser-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.autotest.platform.engine.jenkins;
+
+/**
+ * Jenkins渐进式日志拉取结果
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ProgressiveLogChunk {
+
+    /** 本次请求的起始字节偏移量 */
+    private final long startOffset;
+
+    /** 下次请求的字节偏移量(X-Text-Size) */
+    private final long nextOffset;
+
+    /** 是否还有后续日志(X-More-Data) */
+    private final boolean moreData;
+
+    /** 新增日志字节 */
+    private final byte[] data;
+
+    public ProgressiveLogChunk(long startOffset, long nextOffset, boolean moreData, byte[] data) {
+        this.startOffset = startOffset;
+        this.nextOffset = nextOffset;
+        this.moreData = moreData;
+        this.data = data == null ? new byte[0] : data;
+    }
+
+    public long getStartOffset() {
+        return startOffset;
+    }
+
+    public long getNextOffset() {
+        return nextOffset;
+    }
+
+    public boolean isMoreData() {
+        return moreData;
+    }
+
+    public byte[] getData() {
+        return data;
+    }
+}
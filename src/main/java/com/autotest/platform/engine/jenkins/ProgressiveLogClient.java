@@ -0,0 +1,100 @@
+package com.autotest.platform.engine.jenkins;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Jenkins渐进式日志客户端
+ * <p>
+ * 调用 {buildUrl}/logText/progressiveText?start=N 只拉取偏移量之后的新字节，
+ * 响应头 X-Text-Size 为下次请求的偏移量，X-More-Data 为 true 表示构建仍在输出日志。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ProgressiveLogClient {
+
+    private static final String PROGRESSIVE_PATH = "logText/progressiveText";
+
+    /** 连接超时时间(毫秒) */
+    private final int connectTimeout;
+
+    /** 读取超时时间(毫秒) */
+    private final int readTimeout;
+
+    /** Basic认证头，为空时不认证 */
+    private final String authorization;
+
+    public ProgressiveLogClient(int connectTimeout, int readTimeout) {
+        this(connectTimeout, readTimeout, null, null);
+    }
+
+    public ProgressiveLogClient(int connectTimeout, int readTimeout, String username, String apiToken) {
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+        if (username != null && !username.isEmpty() && apiToken != null) {
+            String credential = username + ":" + apiToken;
+            this.authorization = "Basic " + Base64.getEncoder().encodeToString(credential.getBytes(StandardCharsets.UTF_8));
+        } else {
+            this.authorization = null;
+        }
+    }
+
+    /**
+     * 拉取指定偏移量之后的日志
+     *
+     * @param buildUrl 构建URL
+     * @param start 起始字节偏移量
+     * @return 拉取结果
+     * @throws IOException 请求失败
+     */
+    public ProgressiveLogChunk fetch(String buildUrl, long start) throws IOException {
+        String base = buildUrl.endsWith("/") ? buildUrl : buildUrl + "/";
+        URL url = new URL(base + PROGRESSIVE_PATH + "?start=" + start);
+        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+        try {
+            conn.setRequestMethod("GET");
+            conn.setConnectTimeout(connectTimeout);
+            conn.setReadTimeout(readTimeout);
+            conn.setUseCaches(false);
+            if (authorization != null) {
+                conn.setRequestProperty("Authorization", authorization);
+            }
+            int status = conn.getResponseCode();
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("Jenkins progressive log request failed, status=" + status + ", url=" + url);
+            }
+            byte[] data = readFully(conn.getInputStream());
+            long nextOffset = start + data.length;
+            String textSize = conn.getHeaderField("X-Text-Size");
+            if (textSize != null) {
+                try {
+                    nextOffset = Long.parseLong(textSize.trim());
+                } catch (NumberFormatException e) {
+                    // 响应头异常时按实际读取字节数推进
+                }
+            }
+            boolean moreData = "true".equalsIgnoreCase(conn.getHeaderField("X-More-Data"));
+            return new ProgressiveLogChunk(start, nextOffset, moreData, data);
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        try (InputStream input = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int n;
+            while ((n = input.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+}
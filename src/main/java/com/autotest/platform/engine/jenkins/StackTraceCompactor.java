@@ -0,0 +1,110 @@
+package com.autotest.platform.engine.jenkins;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 错误堆栈压缩器
+ * <p>
+ * 按行数和字符数截断超长堆栈；同一次导入中重复出现的堆栈只保留首次完整内容，
+ * 后续仅记录首行和首次出现的测试，避免大量相同失败撑大 jenkins_build_test。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class StackTraceCompactor {
+
+    /** 最多记录的不同堆栈数，超过后只截断不去重 */
+    private static final int MAX_DISTINCT_TRACES = 10000;
+
+    private final int maxLines;
+
+    private final int maxChars;
+
+    /** 堆栈摘要 -> 首次出现的测试 */
+    private final Map<String, String> seenTraces = new ConcurrentHashMap<>();
+
+    public StackTraceCompactor(int maxLines, int maxChars) {
+        this.maxLines = maxLines;
+        this.maxChars = maxChars;
+    }
+
+    /**
+     * 压缩堆栈
+     *
+     * @param stackTrace 原始堆栈
+     * @param owner 所属测试(类名.方法名)
+     * @return 压缩后的堆栈
+     */
+    public String compact(String stackTrace, String owner) {
+        if (stackTrace == null) {
+            return null;
+        }
+        String trace = stackTrace.trim();
+        if (trace.isEmpty()) {
+            return null;
+        }
+        String truncated = truncate(trace);
+        String key = digest(truncated);
+        String first = seenTraces.size() < MAX_DISTINCT_TRACES ? seenTraces.putIfAbsent(key, owner) : seenTraces.get(key);
+        if (first != null && !first.equals(owner)) {
+            return "[重复堆栈，同 " + first + "]\n" + firstLine(truncated);
+        }
+        return truncated;
+    }
+
+    /**
+     * 已记录的不同堆栈数
+     */
+    public int getDistinctCount() {
+        return seenTraces.size();
+    }
+
+    private String truncate(String trace) {
+        int lines = 0;
+        int end = 0;
+        int length = trace.length();
+        while (end < length && lines < maxLines) {
+            int next = trace.indexOf('\n', end);
+            end = next < 0 ? length : next + 1;
+            lines++;
+        }
+        boolean cut = end < length;
+        if (end > maxChars) {
+            end = maxChars;
+            cut = true;
+        }
+        if (!cut) {
+            return trace;
+        }
+        int omittedLines = 0;
+        for (int i = end; i < length; i++) {
+            if (trace.charAt(i) == '\n') {
+                omittedLines++;
+            }
+        }
+        return trace.substring(0, end).trim() + "\n\t... 已截断 " + (omittedLines + 1) + " 行";
+    }
+
+    private static String firstLine(String trace) {
+        int index = trace.indexOf('\n');
+        return index < 0 ? trace : trace.substring(0, index).trim();
+    }
+
+    private static String digest(String trace) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("MD5");
+            byte[] hash = md.digest(trace.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return trace.length() + ":" + trace.hashCode();
+        }
+    }
+}
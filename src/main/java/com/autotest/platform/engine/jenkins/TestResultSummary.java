@@ -0,0 +1,123 @@
+package com.autotest.platform.engine.jenkins;
+
+import com.autotest.platform.domain.cicd.JenkinsBuildTest;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 构建测试结果汇总，解析过程中并发累加
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class TestResultSummary {
+
+    private final LongAdder total = new LongAdder();
+
+    private final LongAdder passed = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder skipped = new LongAdder();
+
+    /** 累计耗时(毫秒) */
+    private final LongAdder durationMillis = new LongAdder();
+
+    private final LongAdder suites = new LongAdder();
+
+    private final LongAdder reportFiles = new LongAdder();
+
+    private final LongAdder failedReportFiles = new LongAdder();
+
+    /**
+     * 累加单条测试结果
+     */
+    public void record(JenkinsBuildTest test) {
+        total.increment();
+        String status = test.getTestStatus();
+        if (JUnitReportParser.STATUS_FAILED.equals(status)) {
+            failed.increment();
+        } else if (JUnitReportParser.STATUS_ERROR.equals(status)) {
+            errors.increment();
+        } else if (JUnitReportParser.STATUS_SKIPPED.equals(status)) {
+            skipped.increment();
+        } else {
+            passed.increment();
+        }
+        if (test.getTestDuration() != null) {
+            durationMillis.add(test.getTestDuration().movePointRight(3).longValue());
+        }
+    }
+
+    public void recordSuite() {
+        suites.increment();
+    }
+
+    public void recordReportFile(boolean success) {
+        reportFiles.increment();
+        if (!success) {
+            failedReportFiles.increment();
+        }
+    }
+
+    public long getTotal() {
+        return total.sum();
+    }
+
+    public long getPassed() {
+        return passed.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    public long getSuites() {
+        return suites.sum();
+    }
+
+    public long getReportFiles() {
+        return reportFiles.sum();
+    }
+
+    public long getFailedReportFiles() {
+        return failedReportFiles.sum();
+    }
+
+    public BigDecimal getDuration() {
+        return BigDecimal.valueOf(durationMillis.sum(), 3);
+    }
+
+    /**
+     * 转换为 jenkins_build.test_results 汇总结构
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        long totalCount = getTotal();
+        long passedCount = getPassed();
+        map.put("total", totalCount);
+        map.put("passed", passedCount);
+        map.put("failed", getFailed());
+        map.put("errors", getErrors());
+        map.put("skipped", getSkipped());
+        map.put("passRate", totalCount == 0 ? 0D : Math.round(passedCount * 10000D / totalCount) / 100D);
+        map.put("duration", getDuration());
+        map.put("suites", getSuites());
+        map.put("reportFiles", getReportFiles());
+        map.put("failedReportFiles", getFailedReportFiles());
+        return map;
+    }
+}
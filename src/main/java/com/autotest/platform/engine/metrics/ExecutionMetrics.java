@@ -0,0 +1,236 @@
+package com.autotest.platform.engine.metrics;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 执行引擎指标
+ * <p>
+ * 覆盖排队(执行排队等待、分发队列深度与等待)、执行(按用例类型的耗时直方图、各节点忙闲)、
+ * 调度(触发时间相对 next_execute_time 的延迟)和Webhook(接收到触发执行的延迟)。
+ * 计时器和节点状态首次使用时注册并缓存，热路径上只做Map查找和原子操作，不再构造Meter。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ExecutionMetrics {
+
+    static final String UNKNOWN = "UNKNOWN";
+
+    private final MeterRegistry registry;
+
+    /** 单个用例耗时直方图上限 */
+    private final Duration maxCaseDuration;
+
+    private final Timer executionQueueWait;
+
+    private final Timer dispatchWait;
+
+    private final Timer scheduleFireLag;
+
+    private final Timer webhookTriggerLatency;
+
+    /** 用例类型 -> 执行结果 -> 耗时 */
+    private final Map<String, Map<String, Timer>> caseTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, NodeState> nodes = new ConcurrentHashMap<>();
+
+    private final AtomicLong pendingExecutions = new AtomicLong();
+
+    private final AtomicLong oldestPendingSeconds = new AtomicLong();
+
+    private final AtomicLong overdueSchedules = new AtomicLong();
+
+    private final AtomicLong maxScheduleLagSeconds = new AtomicLong();
+
+    private final AtomicLong pendingWebhooks = new AtomicLong();
+
+    private final AtomicLong oldestWebhookSeconds = new AtomicLong();
+
+    public ExecutionMetrics(MeterRegistry registry, Duration maxCaseDuration) {
+        this.registry = registry;
+        this.maxCaseDuration = maxCaseDuration;
+        this.executionQueueWait = histogram("autotest.execution.queue.wait", "执行从创建到开始的等待时间",
+                Duration.ofHours(2)).register(registry);
+        this.dispatchWait = histogram("autotest.dispatch.wait", "用例从开始分发到被节点领取的等待时间",
+                Duration.ofHours(2)).register(registry);
+        this.scheduleFireLag = histogram("autotest.schedule.fire.lag", "调度实际触发时间相对计划时间的延迟",
+                Duration.ofMinutes(30)).register(registry);
+        this.webhookTriggerLatency = histogram("autotest.webhook.trigger.latency", "Webhook事件接收到创建执行的延迟",
+                Duration.ofMinutes(30)).register(registry);
+
+        Gauge.builder("autotest.execution.pending", pendingExecutions, AtomicLong::get)
+                .description("待执行的执行数").register(registry);
+        Gauge.builder("autotest.execution.pending.oldest", oldestPendingSeconds, AtomicLong::get)
+                .description("最早一条待执行记录已等待的时间").baseUnit("seconds").register(registry);
+        Gauge.builder("autotest.schedule.overdue", overdueSchedules, AtomicLong::get)
+                .description("已过 next_execute_time 仍未触发的调度数").register(registry);
+        Gauge.builder("autotest.schedule.overdue.lag", maxScheduleLagSeconds, AtomicLong::get)
+                .description("未触发调度中最大的延迟").baseUnit("seconds").register(registry);
+        Gauge.builder("autotest.webhook.pending", pendingWebhooks, AtomicLong::get)
+                .description("待处理的Webhook事件数").register(registry);
+        Gauge.builder("autotest.webhook.pending.oldest", oldestWebhookSeconds, AtomicLong::get)
+                .description("最早一条待处理Webhook事件已等待的时间").baseUnit("seconds").register(registry);
+    }
+
+    /**
+     * 绑定分发队列深度，抓取指标时才调用
+     *
+     * @param depth 尚未分发的用例数
+     */
+    public void bindDispatchQueue(Supplier<Number> depth) {
+        Gauge.builder("autotest.dispatch.queue.depth", depth).description("已开始分发但尚未被领取的用例数")
+                .register(registry);
+    }
+
+    public void recordExecutionQueueWait(long millis) {
+        record(executionQueueWait, millis);
+    }
+
+    public void recordDispatchWait(long millis) {
+        record(dispatchWait, millis);
+    }
+
+    public void recordScheduleFireLag(long millis) {
+        record(scheduleFireLag, millis);
+    }
+
+    public void recordWebhookTriggerLatency(long millis) {
+        record(webhookTriggerLatency, millis);
+    }
+
+    /**
+     * 节点新增一个执行槽位
+     *
+     * @param node 节点标识
+     */
+    public void workerAttached(String node) {
+        node(node).workers.incrementAndGet();
+    }
+
+    /**
+     * 节点释放一个执行槽位
+     *
+     * @param node 节点标识
+     */
+    public void workerDetached(String node) {
+        decrement(node(node).workers);
+    }
+
+    /**
+     * 节点开始执行一个用例
+     *
+     * @param node 节点标识
+     */
+    public void caseStarted(String node) {
+        node(node).active.incrementAndGet();
+    }
+
+    /**
+     * 节点结束一个用例
+     *
+     * @param node 节点标识
+     * @param caseType 用例类型
+     * @param status 执行结果
+     * @param durationMillis 耗时，小于0表示未知，只释放节点不记录耗时
+     */
+    public void caseFinished(String node, String caseType, String status, long durationMillis) {
+        decrement(node(node).active);
+        if (durationMillis >= 0) {
+            record(caseTimer(caseType == null ? UNKNOWN : caseType, status == null ? UNKNOWN : status), durationMillis);
+        }
+    }
+
+    public void updateExecutionBacklog(long pending, long oldestSeconds) {
+        pendingExecutions.set(pending);
+        oldestPendingSeconds.set(oldestSeconds);
+    }
+
+    public void updateScheduleBacklog(long overdue, long maxLagSeconds) {
+        overdueSchedules.set(overdue);
+        maxScheduleLagSeconds.set(maxLagSeconds);
+    }
+
+    public void updateWebhookBacklog(long pending, long oldestSeconds) {
+        pendingWebhooks.set(pending);
+        oldestWebhookSeconds.set(oldestSeconds);
+    }
+
+    /**
+     * 节点执行中的用例数
+     */
+    public int activeWorkers(String node) {
+        NodeState state = nodes.get(node);
+        return state == null ? 0 : state.active.get();
+    }
+
+    /**
+     * 节点空闲槽位数
+     */
+    public int idleWorkers(String node) {
+        NodeState state = nodes.get(node);
+        return state == null ? 0 : state.idle();
+    }
+
+    private Timer caseTimer(String caseType, String status) {
+        Map<String, Timer> byStatus = caseTimers.get(caseType);
+        if (byStatus == null) {
+            byStatus = caseTimers.computeIfAbsent(caseType, k -> new ConcurrentHashMap<>());
+        }
+        Timer timer = byStatus.get(status);
+        if (timer == null) {
+            timer = byStatus.computeIfAbsent(status, s -> histogram("autotest.case.duration", "用例执行耗时",
+                    maxCaseDuration).tag("case_type", caseType).tag("status", s).register(registry));
+        }
+        return timer;
+    }
+
+    private NodeState node(String node) {
+        String key = node == null ? UNKNOWN : node;
+        NodeState state = nodes.get(key);
+        if (state == null) {
+            state = nodes.computeIfAbsent(key, k -> {
+                NodeState created = new NodeState();
+                Gauge.builder("autotest.executor.workers", created, s -> s.active.get())
+                        .tag("node", k).tag("state", "active").description("节点执行槽位数").register(registry);
+                Gauge.builder("autotest.executor.workers", created, NodeState::idle)
+                        .tag("node", k).tag("state", "idle").description("节点执行槽位数").register(registry);
+                return created;
+            });
+        }
+        return state;
+    }
+
+    private static Timer.Builder histogram(String name, String description, Duration max) {
+        return Timer.builder(name).description(description).publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1)).maximumExpectedValue(max);
+    }
+
+    private static void record(Timer timer, long millis) {
+        timer.record(Math.max(0L, millis), TimeUnit.MILLISECONDS);
+    }
+
+    private static void decrement(AtomicInteger counter) {
+        counter.getAndUpdate(v -> v > 0 ? v - 1 : 0);
+    }
+
+    private static final class NodeState {
+
+        private final AtomicInteger workers = new AtomicInteger();
+
+        private final AtomicInteger active = new AtomicInteger();
+
+        private int idle() {
+            return Math.max(0, workers.get() - active.get());
+        }
+    }
+}
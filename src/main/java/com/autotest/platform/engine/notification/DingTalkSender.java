@@ -0,0 +1,117 @@
+package com.autotest.platform.engine.notification;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 钉钉机器人发送
+ * <p>
+ * 以markdown消息POST到机器人Webhook，配置了加签密钥时在URL上附加 timestamp 和 sign。
+ * 钉钉限流或其他错误时响应 errcode 不为0，按发送失败处理。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class DingTalkSender implements NotificationSender {
+
+    /** 加签密钥，为空时不加签 */
+    private final String secret;
+
+    /** 连接超时时间(毫秒) */
+    private final int connectTimeout;
+
+    /** 读取超时时间(毫秒) */
+    private final int readTimeout;
+
+    public DingTalkSender(String secret, int connectTimeout, int readTimeout) {
+        this.secret = secret;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    @Override
+    public void send(NotificationDigest digest) throws IOException {
+        Map<String, Object> markdown = new LinkedHashMap<>();
+        markdown.put("title", digest.getSubject());
+        markdown.put("text", "#### " + digest.getSubject() + "\n\n" + toMarkdown(digest));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("msgtype", "markdown");
+        body.put("markdown", markdown);
+        byte[] payload = JSON.toJSONString(body).getBytes(StandardCharsets.UTF_8);
+
+        HttpURLConnection conn = (HttpURLConnection) new URL(signedUrl(digest.getRecipient())).openConnection();
+        try {
+            conn.setRequestMethod("POST");
+            conn.setConnectTimeout(connectTimeout);
+            conn.setReadTimeout(readTimeout);
+            conn.setDoOutput(true);
+            conn.setRequestProperty("Content-Type", "application/json;charset=UTF-8");
+            try (OutputStream out = conn.getOutputStream()) {
+                out.write(payload);
+            }
+            int status = conn.getResponseCode();
+            if (status != HttpURLConnection.HTTP_OK) {
+                throw new IOException("钉钉消息发送失败, status=" + status);
+            }
+            String response = new String(readFully(conn.getInputStream()), StandardCharsets.UTF_8);
+            JSONObject result = JSON.parseObject(response);
+            Integer errcode = result == null ? null : result.getInteger("errcode");
+            if (errcode == null || errcode != 0) {
+                throw new IOException("钉钉消息发送失败: " + response);
+            }
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    private String signedUrl(String webhookUrl) throws IOException {
+        if (secret == null || secret.isEmpty()) {
+            return webhookUrl;
+        }
+        long timestamp = System.currentTimeMillis();
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] sign = mac.doFinal((timestamp + "\n" + secret).getBytes(StandardCharsets.UTF_8));
+            return webhookUrl + (webhookUrl.contains("?") ? "&" : "?") + "timestamp=" + timestamp + "&sign="
+                    + URLEncoder.encode(Base64.getEncoder().encodeToString(sign), StandardCharsets.UTF_8.name());
+        } catch (GeneralSecurityException e) {
+            throw new IOException("钉钉加签失败", e);
+        }
+    }
+
+    /**
+     * markdown中单个换行不生效，正文换行转为段落
+     */
+    private static String toMarkdown(NotificationDigest digest) {
+        String content = digest.getContent() == null ? "" : digest.getContent();
+        return content.replace("\n", "\n\n");
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        try (InputStream input = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int n;
+            while ((n = input.read(buffer)) != -1) {
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.autotest.platform.engine.notification;
+
+/**
+ * 单条通知
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class Notification {
+
+    private final NotificationChannel channel;
+
+    private final String recipient;
+
+    /** 项目ID，同一接收方的通知按项目分别合并，可为null */
+    private final Long projectId;
+
+    private final String subject;
+
+    private final String content;
+
+    private final long createTime;
+
+    public Notification(NotificationChannel channel, String recipient, Long projectId, String subject, String content) {
+        this.channel = channel;
+        this.recipient = recipient;
+        this.projectId = projectId;
+        this.subject = subject;
+        this.content = content;
+        this.createTime = System.currentTimeMillis();
+    }
+
+    public NotificationChannel getChannel() {
+        return channel;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public long getCreateTime() {
+        return createTime;
+    }
+}
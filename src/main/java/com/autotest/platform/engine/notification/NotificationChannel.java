@@ -0,0 +1,16 @@
+package com.autotest.platform.engine.notification;
+
+/**
+ * 通知渠道
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public enum NotificationChannel {
+
+    /** 邮件，接收方为邮箱地址 */
+    EMAIL,
+
+    /** 钉钉机器人，接收方为机器人Webhook地址 */
+    DINGTALK
+}
@@ -0,0 +1,94 @@
+package com.autotest.platform.engine.notification;
+
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 合并后的通知，同一渠道、接收方、项目在合并窗口内的通知合为一条发送
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class NotificationDigest {
+
+    private final NotificationChannel channel;
+
+    private final String recipient;
+
+    private final Long projectId;
+
+    private final List<Notification> messages;
+
+    /** 超出单条合并上限、未展示的通知数 */
+    private final int omitted;
+
+    public NotificationDigest(NotificationChannel channel, String recipient, Long projectId,
+                              List<Notification> messages, int omitted) {
+        this.channel = channel;
+        this.recipient = recipient;
+        this.projectId = projectId;
+        this.messages = Collections.unmodifiableList(messages);
+        this.omitted = omitted;
+    }
+
+    /**
+     * 合并通知数，包括未展示的
+     */
+    public int getTotal() {
+        return messages.size() + omitted;
+    }
+
+    /**
+     * 标题：只有一条时沿用原标题，否则注明合并条数
+     */
+    public String getSubject() {
+        String first = messages.get(0).getSubject();
+        return getTotal() == 1 ? first : "[" + getTotal() + "条通知] " + first;
+    }
+
+    /**
+     * 正文：只有一条时沿用原正文，否则按时间顺序列出每条的时间、标题和正文
+     */
+    public String getContent() {
+        if (getTotal() == 1) {
+            return messages.get(0).getContent();
+        }
+        SimpleDateFormat format = new SimpleDateFormat("HH:mm:ss");
+        StringBuilder text = new StringBuilder();
+        for (Notification message : messages) {
+            if (text.length() > 0) {
+                text.append("\n\n");
+            }
+            text.append(format.format(new Date(message.getCreateTime()))).append(' ').append(message.getSubject());
+            if (message.getContent() != null && !message.getContent().isEmpty()) {
+                text.append('\n').append(message.getContent());
+            }
+        }
+        if (omitted > 0) {
+            text.append("\n\n另有").append(omitted).append("条通知未展示");
+        }
+        return text.toString();
+    }
+
+    public NotificationChannel getChannel() {
+        return channel;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public List<Notification> getMessages() {
+        return messages;
+    }
+
+    public int getOmitted() {
+        return omitted;
+    }
+}
@@ -0,0 +1,311 @@
+package com.autotest.platform.engine.notification;
+
+import com.autotest.platform.engine.admission.AdmissionDecision;
+import com.autotest.platform.engine.admission.RateLimit;
+import com.autotest.platform.engine.admission.RateLimiterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 通知异步分发
+ * <p>
+ * 提交方只把通知放入内存即返回，不在执行线程中发送。同一渠道、接收方、项目的通知自第一条起在
+ * {@link NotificationSettings#getWindowMillis()} 内合并为一条，窗口结束后由发送线程发出；
+ * 异常集中爆发时每个接收方每个窗口只收到一条汇总。待发送通知数达到上限后丢弃新通知。
+ * 发送按渠道限流，超出限额的延后发送；发送失败按指数退避重试，达到最大次数后放弃。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class NotificationDispatcher implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private final NotificationSettings settings;
+
+    private final Map<NotificationChannel, NotificationSender> senders;
+
+    private final Map<NotificationChannel, RateLimit> limits = new EnumMap<>(NotificationChannel.class);
+
+    private final RateLimiterRegistry limiter = new RateLimiterRegistry(1);
+
+    private final ScheduledThreadPoolExecutor executor;
+
+    /** 合并中的通知，由自身锁保护 */
+    private final Map<DigestKey, Batch> batches = new HashMap<>();
+
+    /** 待发送通知数：合并中、等待发送和等待重试的 */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final AtomicLong submitted = new AtomicLong();
+
+    private final AtomicLong coalesced = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final AtomicLong sent = new AtomicLong();
+
+    private final AtomicLong retries = new AtomicLong();
+
+    private final AtomicLong failures = new AtomicLong();
+
+    public NotificationDispatcher(NotificationSettings settings, Map<NotificationChannel, NotificationSender> senders) {
+        this.settings = settings;
+        this.senders = new EnumMap<>(NotificationChannel.class);
+        this.senders.putAll(senders);
+        limits.put(NotificationChannel.EMAIL, limit(settings.getEmailPerMinute()));
+        limits.put(NotificationChannel.DINGTALK, limit(settings.getDingtalkPerMinute()));
+        executor = new ScheduledThreadPoolExecutor(Math.max(1, settings.getSenderThreads()), new SenderThreadFactory());
+        executor.setRemoveOnCancelPolicy(true);
+        long tick = Math.max(50L, Math.min(1000L, settings.getWindowMillis() / 4));
+        executor.scheduleWithFixedDelay(this::flushExpired, tick, tick, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 提交通知
+     *
+     * @param notification 通知
+     * @return 是否接收，渠道未配置、邮件地址非法或待发送通知已满时为false
+     */
+    public boolean submit(Notification notification) {
+        if (!senders.containsKey(notification.getChannel()) || notification.getRecipient() == null
+                || notification.getRecipient().isEmpty()) {
+            return false;
+        }
+        if (notification.getChannel() == NotificationChannel.EMAIL && !SmtpSender.isSafeAddress(notification.getRecipient())) {
+            log.warn("邮件接收方地址非法，丢弃通知: {}", notification.getRecipient().replaceAll("[\\r\\n]", "_"));
+            dropped.incrementAndGet();
+            return false;
+        }
+        if (pending.incrementAndGet() > settings.getQueueCapacity()) {
+            pending.decrementAndGet();
+            dropped.incrementAndGet();
+            return false;
+        }
+        submitted.incrementAndGet();
+        DigestKey key = new DigestKey(notification.getChannel(), notification.getRecipient(), notification.getProjectId());
+        synchronized (batches) {
+            Batch batch = batches.get(key);
+            if (batch == null) {
+                batches.put(key, batch = new Batch(System.currentTimeMillis()));
+            } else {
+                coalesced.incrementAndGet();
+            }
+            if (batch.messages.size() < Math.max(1, settings.getMaxPerDigest())) {
+                batch.messages.add(notification);
+            } else {
+                batch.omitted++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 立即发出全部合并中的通知，并等待发送完成
+     *
+     * @param timeoutMillis 最长等待时间(毫秒)
+     * @return 是否全部处理完(发送成功或放弃)
+     */
+    public boolean flush(long timeoutMillis) {
+        for (NotificationDigest digest : drain(Long.MAX_VALUE)) {
+            executor.execute(() -> deliver(digest, 1));
+        }
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        while (pending.get() > 0) {
+            if (System.currentTimeMillis() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(10L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int getPending() {
+        return pending.get();
+    }
+
+    public long getSubmitted() {
+        return submitted.get();
+    }
+
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+
+    public long getRetries() {
+        return retries.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void flushExpired() {
+        try {
+            for (NotificationDigest digest : drain(settings.getWindowMillis())) {
+                executor.execute(() -> deliver(digest, 1));
+            }
+        } catch (RuntimeException e) {
+            log.warn("通知分发异常", e);
+        }
+    }
+
+    /**
+     * 取出合并时间已达到窗口的批次
+     */
+    private List<NotificationDigest> drain(long windowMillis) {
+        long now = System.currentTimeMillis();
+        List<NotificationDigest> ready = new ArrayList<>();
+        synchronized (batches) {
+            Iterator<Map.Entry<DigestKey, Batch>> it = batches.entrySet().iterator();
+            while (it.hasNext()) {
+                Map.Entry<DigestKey, Batch> entry = it.next();
+                Batch batch = entry.getValue();
+                if (windowMillis == Long.MAX_VALUE || now - batch.firstTime >= windowMillis) {
+                    DigestKey key = entry.getKey();
+                    ready.add(new NotificationDigest(key.channel, key.recipient, key.projectId, batch.messages,
+                            batch.omitted));
+                    it.remove();
+                }
+            }
+        }
+        return ready;
+    }
+
+    private void deliver(NotificationDigest digest, int attempt) {
+        AdmissionDecision decision = limiter.tryAcquire(digest.getChannel().name(), limits.get(digest.getChannel()),
+                System.nanoTime());
+        if (!decision.isAllowed()) {
+            // 限流不计入发送次数
+            schedule(digest, attempt, Math.max(1L, decision.getRetryAfterMillis()));
+            return;
+        }
+        try {
+            senders.get(digest.getChannel()).send(digest);
+            sent.incrementAndGet();
+            done(digest);
+        } catch (Exception e) {
+            if (attempt >= settings.getMaxAttempts()) {
+                failures.incrementAndGet();
+                done(digest);
+                log.warn("{}通知发送失败，已重试{}次，放弃{}条通知: {} {}", digest.getChannel(), attempt - 1,
+                        digest.getTotal(), digest.getRecipient(), e.getMessage());
+                return;
+            }
+            retries.incrementAndGet();
+            long backoff = Math.min(settings.getRetryMaxMillis(),
+                    settings.getRetryBaseMillis() << Math.min(20, attempt - 1));
+            // 加入随机抖动，避免同一时刻失败的通知同时重试
+            long delay = backoff + ThreadLocalRandom.current().nextLong(backoff / 4 + 1);
+            log.debug("{}通知发送失败，{}ms后第{}次重试: {}", digest.getChannel(), delay, attempt, e.getMessage());
+            schedule(digest, attempt + 1, delay);
+        }
+    }
+
+    private void schedule(NotificationDigest digest, int attempt, long delayMillis) {
+        if (executor.isShutdown()) {
+            done(digest);
+            return;
+        }
+        executor.schedule(() -> deliver(digest, attempt), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void done(NotificationDigest digest) {
+        pending.addAndGet(-digest.getTotal());
+    }
+
+    private static RateLimit limit(int perMinute) {
+        return perMinute > 0 ? RateLimit.perMinute(perMinute) : null;
+    }
+
+    private static final class DigestKey {
+
+        private final NotificationChannel channel;
+
+        private final String recipient;
+
+        private final Long projectId;
+
+        private DigestKey(NotificationChannel channel, String recipient, Long projectId) {
+            this.channel = channel;
+            this.recipient = recipient;
+            this.projectId = projectId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof DigestKey)) {
+                return false;
+            }
+            DigestKey other = (DigestKey) o;
+            return channel == other.channel && recipient.equals(other.recipient)
+                    && Objects.equals(projectId, other.projectId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(channel, recipient, projectId);
+        }
+    }
+
+    private static final class Batch {
+
+        private final long firstTime;
+
+        private final List<Notification> messages = new ArrayList<>();
+
+        private int omitted;
+
+        private Batch(long firstTime) {
+            this.firstTime = firstTime;
+        }
+    }
+
+    private static class SenderThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "notification-sender-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.autotest.platform.engine.notification;
+
+import java.io.IOException;
+
+/**
+ * 通知发送器，由分发线程调用，实现无需考虑并发合并和重试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface NotificationSender {
+
+    /**
+     * 发送合并后的通知
+     *
+     * @param digest 合并通知
+     * @throws IOException 发送失败，由分发器退避重试
+     */
+    void send(NotificationDigest digest) throws IOException;
+}
@@ -0,0 +1,109 @@
+package com.autotest.platform.engine.notification;
+
+/**
+ * 通知分发配置
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class NotificationSettings {
+
+    /** 合并窗口(毫秒)，同一接收方和项目的通知自第一条起等待该时间后合并发送 */
+    private long windowMillis = 60000L;
+
+    /** 待发送通知数上限，超过后丢弃新通知 */
+    private int queueCapacity = 10000;
+
+    /** 单条合并通知最多展示的通知数 */
+    private int maxPerDigest = 50;
+
+    /** 发送线程数 */
+    private int senderThreads = 2;
+
+    /** 最多发送次数，包括首次 */
+    private int maxAttempts = 5;
+
+    /** 首次重试间隔(毫秒)，之后每次翻倍 */
+    private long retryBaseMillis = 2000L;
+
+    /** 最大重试间隔(毫秒) */
+    private long retryMaxMillis = 300000L;
+
+    /** 邮件每分钟最多发送数，0不限 */
+    private int emailPerMinute = 30;
+
+    /** 钉钉每分钟最多发送数，钉钉机器人限制为20条/分钟 */
+    private int dingtalkPerMinute = 20;
+
+    public long getWindowMillis() {
+        return windowMillis;
+    }
+
+    public void setWindowMillis(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getMaxPerDigest() {
+        return maxPerDigest;
+    }
+
+    public void setMaxPerDigest(int maxPerDigest) {
+        this.maxPerDigest = maxPerDigest;
+    }
+
+    public int getSenderThreads() {
+        return senderThreads;
+    }
+
+    public void setSenderThreads(int senderThreads) {
+        this.senderThreads = senderThreads;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getRetryBaseMillis() {
+        return retryBaseMillis;
+    }
+
+    public void setRetryBaseMillis(long retryBaseMillis) {
+        this.retryBaseMillis = retryBaseMillis;
+    }
+
+    public long getRetryMaxMillis() {
+        return retryMaxMillis;
+    }
+
+    public void setRetryMaxMillis(long retryMaxMillis) {
+        this.retryMaxMillis = retryMaxMillis;
+    }
+
+    public int getEmailPerMinute() {
+        return emailPerMinute;
+    }
+
+    public void setEmailPerMinute(int emailPerMinute) {
+        this.emailPerMinute = emailPerMinute;
+    }
+
+    public int getDingtalkPerMinute() {
+        return dingtalkPerMinute;
+    }
+
+    public void setDingtalkPerMinute(int dingtalkPerMinute) {
+        this.dingtalkPerMinute = dingtalkPerMinute;
+    }
+}
@@ -0,0 +1,169 @@
+package com.autotest.platform.engine.notification;
+
+import javax.net.ssl.SSLSocketFactory;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * SMTP邮件发送
+ * <p>
+ * 直接按SMTP协议发送纯文本邮件，支持 AUTH LOGIN 认证和SSL端口(如465)，不支持STARTTLS。
+ * AUTH LOGIN 的凭据只做Base64编码，未启用SSL时拒绝认证，避免明文发送密码。
+ * 每次发送建立一个连接，合并后的发送频率很低，不复用连接。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class SmtpSender implements NotificationSender {
+
+    private static final String CRLF = "\r\n";
+
+    private final String host;
+
+    private final int port;
+
+    private final boolean ssl;
+
+    private final String username;
+
+    private final String password;
+
+    /** 发件人地址，为空时使用用户名 */
+    private final String from;
+
+    /** 连接超时时间(毫秒) */
+    private final int connectTimeout;
+
+    /** 读取超时时间(毫秒) */
+    private final int readTimeout;
+
+    public SmtpSender(String host, int port, boolean ssl, String username, String password, String from,
+                      int connectTimeout, int readTimeout) {
+        this.host = host;
+        this.port = port;
+        this.ssl = ssl;
+        this.username = username;
+        this.password = password;
+        this.from = from != null && !from.isEmpty() ? from : username;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    @Override
+    public void send(NotificationDigest digest) throws IOException {
+        if (from == null || from.isEmpty()) {
+            throw new IOException("未配置发件人地址");
+        }
+        boolean auth = username != null && !username.isEmpty();
+        if (auth && !ssl) {
+            throw new IOException("未启用SSL，拒绝以明文发送SMTP认证信息");
+        }
+        if (!isSafeAddress(from) || !isSafeAddress(digest.getRecipient())) {
+            throw new IOException("邮件地址包含非法字符: " + digest.getRecipient());
+        }
+        try (Socket socket = ssl ? SSLSocketFactory.getDefault().createSocket() : new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), connectTimeout);
+            socket.setSoTimeout(readTimeout);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            OutputStream out = socket.getOutputStream();
+            expect(in, 220);
+            command(out, in, "EHLO autotest-platform", 250);
+            if (auth) {
+                command(out, in, "AUTH LOGIN", 334);
+                command(out, in, base64(username), 334);
+                command(out, in, base64(password == null ? "" : password), 235);
+            }
+            command(out, in, "MAIL FROM:<" + from + ">", 250);
+            command(out, in, "RCPT TO:<" + digest.getRecipient() + ">", 250, 251);
+            command(out, in, "DATA", 354);
+            write(out, message(digest));
+            command(out, in, ".", 250);
+            write(out, "QUIT" + CRLF);
+        }
+    }
+
+    /**
+     * 邮件地址是否可以直接写入SMTP命令和邮件头，包含换行或尖括号的地址可注入命令或邮件头
+     *
+     * @param address 邮件地址
+     * @return 是否安全
+     */
+    public static boolean isSafeAddress(String address) {
+        if (address == null || address.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if (c == '\r' || c == '\n' || c == '<' || c == '>' || Character.isISOControl(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String message(NotificationDigest digest) {
+        SimpleDateFormat date = new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss Z", Locale.US);
+        StringBuilder message = new StringBuilder();
+        message.append("From: ").append(from).append(CRLF);
+        message.append("To: ").append(digest.getRecipient()).append(CRLF);
+        message.append("Subject: =?UTF-8?B?").append(base64(digest.getSubject())).append("?=").append(CRLF);
+        message.append("Date: ").append(date.format(new Date())).append(CRLF);
+        message.append("MIME-Version: 1.0").append(CRLF);
+        message.append("Content-Type: text/plain; charset=UTF-8").append(CRLF);
+        message.append("Content-Transfer-Encoding: base64").append(CRLF);
+        message.append(CRLF);
+        // Base64正文不会出现以"."开头的行，无需点转义
+        String body = Base64.getMimeEncoder().encodeToString(
+                (digest.getContent() == null ? "" : digest.getContent()).getBytes(StandardCharsets.UTF_8));
+        message.append(body).append(CRLF);
+        return message.toString();
+    }
+
+    private static void command(OutputStream out, BufferedReader in, String line, int... expected) throws IOException {
+        write(out, line + CRLF);
+        expect(in, expected);
+    }
+
+    private static void write(OutputStream out, String text) throws IOException {
+        out.write(text.getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    /**
+     * 读取一个响应(多行响应读到最后一行)并校验响应码
+     */
+    private static void expect(BufferedReader in, int... expected) throws IOException {
+        String line;
+        do {
+            line = in.readLine();
+            if (line == null) {
+                throw new IOException("SMTP连接被关闭");
+            }
+        } while (line.length() > 3 && line.charAt(3) == '-');
+        int code;
+        try {
+            code = Integer.parseInt(line.substring(0, Math.min(3, line.length())));
+        } catch (NumberFormatException e) {
+            throw new IOException("SMTP响应无法识别: " + line);
+        }
+        for (int value : expected) {
+            if (code == value) {
+                return;
+            }
+        }
+        throw new IOException("SMTP响应异常: " + line);
+    }
+
+    private static String base64(String text) {
+        return Base64.getEncoder().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,77 @@
+package com.autotest.platform.engine.profiler;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 耗时直方图，按2的幂次划分微秒区间，记录时只做一次原子自增
+ * <p>
+ * 第 i 个桶覆盖 [2^(i-1), 2^i) 微秒，第0个桶为1微秒以内，最后一个桶收纳超长耗时。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class LatencyHistogram {
+
+    /** 最后一个有上界的桶约为 2^25 微秒(33秒) */
+    private static final int BUCKETS = 27;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    public void record(long nanos) {
+        long micros = nanos / 1000L;
+        int bucket = micros <= 0 ? 0 : 64 - Long.numberOfLeadingZeros(micros);
+        counts.incrementAndGet(Math.min(bucket, BUCKETS - 1));
+    }
+
+    /**
+     * 百分位耗时，取所在桶的上界
+     *
+     * @param percentile 百分位(0~1)
+     * @return 耗时(毫秒)
+     */
+    public double percentileMillis(double percentile) {
+        long total = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * percentile);
+        long seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= Math.max(1L, rank)) {
+                return upperBoundMicros(i) / 1000.0;
+            }
+        }
+        return upperBoundMicros(BUCKETS - 1) / 1000.0;
+    }
+
+    /**
+     * 非空桶的计数
+     *
+     * @return 每项为 {桶上界(微秒), 调用次数}
+     */
+    public long[][] buckets() {
+        int nonEmpty = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts.get(i) > 0) {
+                nonEmpty++;
+            }
+        }
+        long[][] result = new long[nonEmpty][];
+        int index = 0;
+        for (int i = 0; i < BUCKETS && index < nonEmpty; i++) {
+            long count = counts.get(i);
+            if (count > 0) {
+                result[index++] = new long[]{upperBoundMicros(i), count};
+            }
+        }
+        return result;
+    }
+
+    private static long upperBoundMicros(int bucket) {
+        return 1L << bucket;
+    }
+}
@@ -0,0 +1,65 @@
+package com.autotest.platform.engine.profiler;
+
+/**
+ * 语句画像发现的问题
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ProfileFinding {
+
+    public enum Type {
+        /** 同一请求内同一语句被循环调用 */
+        N_PLUS_ONE,
+        /** 不带LIMIT的查询返回大量行 */
+        UNBOUNDED_RESULT
+    }
+
+    private final Type type;
+
+    private final String statementId;
+
+    /** 所在请求，非请求线程(定时任务等)为空 */
+    private final String request;
+
+    /** N+1 为请求内调用次数，无界结果集为返回行数 */
+    private final long count;
+
+    /** 请求内该语句的累计耗时(毫秒)，无界结果集为单次耗时 */
+    private final double millis;
+
+    private final long time;
+
+    public ProfileFinding(Type type, String statementId, String request, long count, double millis, long time) {
+        this.type = type;
+        this.statementId = statementId;
+        this.request = request;
+        this.count = count;
+        this.millis = millis;
+        this.time = time;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getStatementId() {
+        return statementId;
+    }
+
+    public String getRequest() {
+        return request;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMillis() {
+        return millis;
+    }
+
+    public long getTime() {
+        return time;
+    }
+}
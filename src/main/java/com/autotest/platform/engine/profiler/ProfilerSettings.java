@@ -0,0 +1,76 @@
+package com.autotest.platform.engine.profiler;
+
+/**
+ * SQL语句画像配置
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ProfilerSettings {
+
+    /** 采样比例(0~1)，采样的请求记录行数、大文本字节数并检测N+1；未采样的调用只计次数和耗时 */
+    private double sampleRate = 0.05;
+
+    /** 同一请求内同一语句调用次数达到该值视为N+1 */
+    private int nPlusOneThreshold = 20;
+
+    /** 不带LIMIT的查询返回行数达到该值视为无界结果集 */
+    private int unboundedRows = 1000;
+
+    /** 字符串字段长度达到该值才计入大文本字节数 */
+    private int largeTextChars = 1024;
+
+    /** 保留的最近发现条数 */
+    private int maxFindings = 200;
+
+    /** 单个请求最多跟踪的语句数，防止批处理请求占用过多内存 */
+    private int maxRequestStatements = 500;
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = sampleRate;
+    }
+
+    public int getNPlusOneThreshold() {
+        return nPlusOneThreshold;
+    }
+
+    public void setNPlusOneThreshold(int nPlusOneThreshold) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    public int getUnboundedRows() {
+        return unboundedRows;
+    }
+
+    public void setUnboundedRows(int unboundedRows) {
+        this.unboundedRows = unboundedRows;
+    }
+
+    public int getLargeTextChars() {
+        return largeTextChars;
+    }
+
+    public void setLargeTextChars(int largeTextChars) {
+        this.largeTextChars = largeTextChars;
+    }
+
+    public int getMaxFindings() {
+        return maxFindings;
+    }
+
+    public void setMaxFindings(int maxFindings) {
+        this.maxFindings = maxFindings;
+    }
+
+    public int getMaxRequestStatements() {
+        return maxRequestStatements;
+    }
+
+    public void setMaxRequestStatements(int maxRequestStatements) {
+        this.maxRequestStatements = maxRequestStatements;
+    }
+}
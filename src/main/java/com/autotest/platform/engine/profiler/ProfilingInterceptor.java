@@ -0,0 +1,179 @@
+package com.autotest.platform.engine.profiler;
+
+import com.baomidou.mybatisplus.core.toolkit.ParameterUtils;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * SQL语句画像拦截器，拦截 Executor 的查询和更新
+ * <p>
+ * 未采样的调用只取两次 nanoTime；采样调用再统计行数和大文本字节数，返回行数达到阈值时才检查SQL是否带LIMIT。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class})
+})
+public class ProfilingInterceptor implements Interceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfilingInterceptor.class);
+
+    private static final Pattern LIMIT = Pattern.compile("\\blimit\\s+[?\\d]", Pattern.CASE_INSENSITIVE);
+
+    /** 各类的字符串字段 */
+    private static final ClassValue<Field[]> STRING_FIELDS = new ClassValue<Field[]>() {
+        @Override
+        protected Field[] computeValue(Class<?> type) {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (field.getType() == String.class && !Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        fields.add(field);
+                    }
+                }
+            }
+            return fields.toArray(new Field[0]);
+        }
+    };
+
+    private final StatementProfiler profiler;
+
+    public ProfilingInterceptor(StatementProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        MappedStatement ms = (MappedStatement) args[0];
+        StatementStats stats = profiler.stats(ms.getId());
+        boolean sampled = profiler.sampling();
+        long start = System.nanoTime();
+        Object result = null;
+        boolean error = true;
+        try {
+            result = invocation.proceed();
+            error = false;
+            return result;
+        } finally {
+            long nanos = System.nanoTime() - start;
+            try {
+                account(ms, args, stats, sampled, nanos, error, result);
+            } catch (Exception e) {
+                // 统计失败不能覆盖语句本身的结果或异常
+                log.warn("SQL画像统计失败 {}: {}", ms.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private void account(MappedStatement ms, Object[] args, StatementStats stats, boolean sampled, long nanos,
+                         boolean error, Object result) throws IllegalAccessException {
+        if (!sampled) {
+            profiler.record(stats, nanos, error);
+            return;
+        }
+        boolean select = ms.getSqlCommandType() == SqlCommandType.SELECT;
+        int rows = rowCount(result);
+        long textBytes = select ? largeTextBytes(result, profiler.getLargeTextChars()) : 0L;
+        boolean bounded = true;
+        if (select && (stats.getLimitless() == null || profiler.needsBoundCheck(rows))) {
+            boolean limited = LIMIT.matcher(sql(ms, args)).find();
+            stats.setLimitless(!limited);
+            bounded = limited || isPaged(args);
+        }
+        profiler.recordSample(stats, nanos, error, rows, textBytes, bounded);
+    }
+
+    private static int rowCount(Object result) {
+        if (result instanceof Collection) {
+            return ((Collection<?>) result).size();
+        }
+        if (result instanceof Integer) {
+            return (Integer) result;
+        }
+        return result == null ? 0 : 1;
+    }
+
+    private static boolean isPaged(Object[] args) {
+        RowBounds rowBounds = (RowBounds) args[2];
+        if (rowBounds != null && rowBounds.getLimit() != RowBounds.NO_ROW_LIMIT) {
+            return true;
+        }
+        return ParameterUtils.findPage(args[1]).isPresent();
+    }
+
+    private static String sql(MappedStatement ms, Object[] args) {
+        BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : ms.getBoundSql(args[1]);
+        return boundSql.getSql().toLowerCase(Locale.ROOT);
+    }
+
+    private static long largeTextBytes(Object result, int minChars) throws IllegalAccessException {
+        if (!(result instanceof Collection)) {
+            return 0L;
+        }
+        long bytes = 0L;
+        for (Object row : (Collection<?>) result) {
+            if (row == null) {
+                continue;
+            }
+            if (row instanceof Map) {
+                for (Object value : ((Map<?, ?>) row).values()) {
+                    bytes += textBytes(value, minChars);
+                }
+            } else if (row instanceof CharSequence) {
+                bytes += textBytes(row, minChars);
+            } else {
+                for (Field field : STRING_FIELDS.get(row.getClass())) {
+                    bytes += textBytes(field.get(row), minChars);
+                }
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 估算UTF-8字节数
+     */
+    private static long textBytes(Object value, int minChars) {
+        if (!(value instanceof CharSequence)) {
+            return 0L;
+        }
+        CharSequence text = (CharSequence) value;
+        int length = text.length();
+        if (length < minChars) {
+            return 0L;
+        }
+        long bytes = 0L;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            bytes += c < 0x80 ? 1 : c < 0x800 ? 2 : Character.isSurrogate(c) ? 2 : 3;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,261 @@
+package com.autotest.platform.engine.profiler;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL语句画像
+ * <p>
+ * 每次调用都累计次数和耗时直方图；按请求采样，采样请求内的调用额外统计返回行数、大文本字节数，
+ * 请求结束时检测N+1。请求之外的调用(定时任务、异步线程)按同一比例逐次采样。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class StatementProfiler {
+
+    private final ProfilerSettings settings;
+
+    private final Map<String, StatementStats> statements = new ConcurrentHashMap<>();
+
+    /** 未被采样的请求，其中的语句调用也不采样 */
+    private static final RequestProfile UNSAMPLED = new RequestProfile();
+
+    private final ThreadLocal<RequestProfile> currentRequest = new ThreadLocal<>();
+
+    private final Deque<ProfileFinding> findings = new ArrayDeque<>();
+
+    private final LongAdder requests = new LongAdder();
+
+    private final LongAdder sampledRequests = new LongAdder();
+
+    private volatile long resetTime = System.currentTimeMillis();
+
+    public StatementProfiler(ProfilerSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * 请求开始，按采样比例决定是否跟踪
+     *
+     * @return 是否采样
+     */
+    public boolean beginRequest() {
+        requests.increment();
+        if (!sample()) {
+            currentRequest.set(UNSAMPLED);
+            return false;
+        }
+        sampledRequests.increment();
+        currentRequest.set(new RequestProfile());
+        return true;
+    }
+
+    /**
+     * 请求结束，检测N+1
+     *
+     * @param request 请求标识，如 "GET /project/list"
+     */
+    public void endRequest(String request) {
+        RequestProfile profile = currentRequest.get();
+        if (profile == null) {
+            return;
+        }
+        currentRequest.remove();
+        if (profile == UNSAMPLED) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (Map.Entry<String, long[]> entry : profile.counters.entrySet()) {
+            long[] counter = entry.getValue();
+            if (counter[0] >= settings.getNPlusOneThreshold()) {
+                stats(entry.getKey()).markNPlusOne();
+                addFinding(new ProfileFinding(ProfileFinding.Type.N_PLUS_ONE, entry.getKey(), request, counter[0],
+                        counter[1] / 1_000_000.0, now));
+            }
+        }
+    }
+
+    /**
+     * 当前调用是否需要采样：请求线程跟随请求的采样结果，请求之外(定时任务等)按调用单独采样
+     */
+    public boolean sampling() {
+        RequestProfile profile = currentRequest.get();
+        if (profile != null) {
+            return profile != UNSAMPLED;
+        }
+        return sample();
+    }
+
+    /**
+     * 获取语句统计，首次调用时创建
+     *
+     * @param statementId MappedStatement ID
+     * @return 语句统计
+     */
+    public StatementStats stats(String statementId) {
+        StatementStats stats = statements.get(statementId);
+        if (stats == null) {
+            stats = statements.computeIfAbsent(statementId, StatementStats::new);
+        }
+        return stats;
+    }
+
+    /**
+     * 记录未采样的调用
+     */
+    public void record(StatementStats stats, long nanos, boolean error) {
+        stats.recordCall(nanos, error);
+    }
+
+    /**
+     * 记录采样的调用
+     *
+     * @param stats 语句统计
+     * @param nanos 耗时(纳秒)
+     * @param error 是否异常
+     * @param rows 查询返回行数，非查询为影响行数
+     * @param textBytes 大文本字段字节数
+     * @param bounded 查询是否带LIMIT或分页，仅在行数达到阈值时才会被调用方计算，其他情况传 true
+     */
+    public void recordSample(StatementStats stats, long nanos, boolean error, int rows, long textBytes,
+                             boolean bounded) {
+        stats.recordCall(nanos, error);
+        stats.recordSample(rows, textBytes);
+        RequestProfile profile = currentRequest.get();
+        if (profile != null && profile != UNSAMPLED) {
+            profile.record(stats.getStatementId(), nanos, settings.getMaxRequestStatements());
+        }
+        if (!bounded && rows >= settings.getUnboundedRows()) {
+            stats.markUnbounded();
+            addFinding(new ProfileFinding(ProfileFinding.Type.UNBOUNDED_RESULT, stats.getStatementId(),
+                    null, rows, nanos / 1_000_000.0, System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * 是否需要判断该行数的查询有没有LIMIT
+     */
+    public boolean needsBoundCheck(int rows) {
+        return rows >= settings.getUnboundedRows();
+    }
+
+    public int getLargeTextChars() {
+        return settings.getLargeTextChars();
+    }
+
+    /**
+     * 语句统计排行
+     *
+     * @param sort 排序字段：totalMillis、calls、p99Millis、maxRows、largeTextBytes、nPlusOne
+     * @param top 条数
+     * @return 统计集合
+     */
+    public List<StatementStats> topStatements(String sort, int top) {
+        List<StatementStats> list = new ArrayList<>(statements.values());
+        list.sort(comparator(sort).reversed());
+        return list.size() > top ? new ArrayList<>(list.subList(0, top)) : list;
+    }
+
+    /**
+     * 最近的发现，新的在前
+     */
+    public List<ProfileFinding> recentFindings() {
+        synchronized (findings) {
+            return new ArrayList<>(findings);
+        }
+    }
+
+    /**
+     * 汇总信息
+     */
+    public Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("since", resetTime);
+        summary.put("sampleRate", settings.getSampleRate());
+        summary.put("requests", requests.sum());
+        summary.put("sampledRequests", sampledRequests.sum());
+        summary.put("statements", statements.size());
+        summary.put("nPlusOneThreshold", settings.getNPlusOneThreshold());
+        summary.put("unboundedRows", settings.getUnboundedRows());
+        return summary;
+    }
+
+    /**
+     * 清空统计
+     */
+    public void reset() {
+        statements.clear();
+        synchronized (findings) {
+            findings.clear();
+        }
+        requests.reset();
+        sampledRequests.reset();
+        resetTime = System.currentTimeMillis();
+    }
+
+    private boolean sample() {
+        double rate = settings.getSampleRate();
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private void addFinding(ProfileFinding finding) {
+        synchronized (findings) {
+            findings.addFirst(finding);
+            while (findings.size() > settings.getMaxFindings()) {
+                findings.removeLast();
+            }
+        }
+    }
+
+    private static Comparator<StatementStats> comparator(String sort) {
+        if (sort == null) {
+            return Comparator.comparingDouble(StatementStats::getTotalMillis);
+        }
+        switch (sort) {
+            case "calls":
+                return Comparator.comparingLong(StatementStats::getCalls);
+            case "p99Millis":
+                return Comparator.comparingDouble(StatementStats::getP99Millis);
+            case "maxRows":
+                return Comparator.comparingLong(StatementStats::getMaxRows);
+            case "largeTextBytes":
+                return Comparator.comparingDouble(StatementStats::getAvgLargeTextBytes);
+            case "nPlusOne":
+                return Comparator.comparingLong(StatementStats::getNPlusOneRequests);
+            default:
+                return Comparator.comparingDouble(StatementStats::getTotalMillis);
+        }
+    }
+
+    /**
+     * 单个请求内各语句的调用次数和耗时，只被请求线程访问
+     */
+    private static final class RequestProfile {
+
+        /** 语句ID -> {调用次数, 累计耗时纳秒} */
+        private final Map<String, long[]> counters = new HashMap<>();
+
+        private void record(String statementId, long nanos, int maxStatements) {
+            long[] counter = counters.get(statementId);
+            if (counter == null) {
+                if (counters.size() >= maxStatements) {
+                    return;
+                }
+                counter = new long[2];
+                counters.put(statementId, counter);
+            }
+            counter[0]++;
+            counter[1] += nanos;
+        }
+    }
+}
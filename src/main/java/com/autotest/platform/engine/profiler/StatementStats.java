@@ -0,0 +1,151 @@
+package com.autotest.platform.engine.profiler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 单条 MappedStatement 的全局统计
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class StatementStats {
+
+    private final String statementId;
+
+    private final LongAdder calls = new LongAdder();
+
+    private final LongAdder errors = new LongAdder();
+
+    private final LongAdder totalNanos = new LongAdder();
+
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    /** 采样调用次数，行数和大文本字节数只在采样调用中统计 */
+    private final LongAdder sampledCalls = new LongAdder();
+
+    private final LongAdder rows = new LongAdder();
+
+    private final AtomicLong maxRows = new AtomicLong();
+
+    private final LongAdder largeTextBytes = new LongAdder();
+
+    private final LongAdder nPlusOneRequests = new LongAdder();
+
+    private final LongAdder unboundedResults = new LongAdder();
+
+    /** 查询SQL是否不带LIMIT，首次采样时确定，null 表示未知或非查询 */
+    private volatile Boolean limitless;
+
+    public StatementStats(String statementId) {
+        this.statementId = statementId;
+    }
+
+    void recordCall(long nanos, boolean error) {
+        calls.increment();
+        totalNanos.add(nanos);
+        histogram.record(nanos);
+        if (error) {
+            errors.increment();
+        }
+        long max = maxNanos.get();
+        while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    void recordSample(int rowCount, long textBytes) {
+        sampledCalls.increment();
+        rows.add(rowCount);
+        largeTextBytes.add(textBytes);
+        long max = maxRows.get();
+        while (rowCount > max && !maxRows.compareAndSet(max, rowCount)) {
+            max = maxRows.get();
+        }
+    }
+
+    void markNPlusOne() {
+        nPlusOneRequests.increment();
+    }
+
+    void markUnbounded() {
+        unboundedResults.increment();
+    }
+
+    void setLimitless(boolean limitless) {
+        this.limitless = limitless;
+    }
+
+    public String getStatementId() {
+        return statementId;
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    public double getTotalMillis() {
+        return totalNanos.sum() / 1_000_000.0;
+    }
+
+    public double getAvgMillis() {
+        long count = calls.sum();
+        return count == 0 ? 0 : totalNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    public double getP50Millis() {
+        return histogram.percentileMillis(0.5);
+    }
+
+    public double getP95Millis() {
+        return histogram.percentileMillis(0.95);
+    }
+
+    public double getP99Millis() {
+        return histogram.percentileMillis(0.99);
+    }
+
+    public long[][] getLatencyBuckets() {
+        return histogram.buckets();
+    }
+
+    public long getSampledCalls() {
+        return sampledCalls.sum();
+    }
+
+    public double getAvgRows() {
+        long count = sampledCalls.sum();
+        return count == 0 ? 0 : (double) rows.sum() / count;
+    }
+
+    public long getMaxRows() {
+        return maxRows.get();
+    }
+
+    public double getAvgLargeTextBytes() {
+        long count = sampledCalls.sum();
+        return count == 0 ? 0 : (double) largeTextBytes.sum() / count;
+    }
+
+    public long getNPlusOneRequests() {
+        return nPlusOneRequests.sum();
+    }
+
+    public long getUnboundedResults() {
+        return unboundedResults.sum();
+    }
+
+    public Boolean getLimitless() {
+        return limitless;
+    }
+}
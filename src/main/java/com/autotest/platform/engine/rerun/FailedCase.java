@@ -0,0 +1,28 @@
+package com.autotest.platform.engine.rerun;
+
+/**
+ * 上次执行中失败的用例
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class FailedCase {
+
+    private final Long caseId;
+
+    /** 该用例已重跑的次数 */
+    private final int retryCount;
+
+    public FailedCase(Long caseId, int retryCount) {
+        this.caseId = caseId;
+        this.retryCount = retryCount;
+    }
+
+    public Long getCaseId() {
+        return caseId;
+    }
+
+    public int getRetryCount() {
+        return retryCount;
+    }
+}
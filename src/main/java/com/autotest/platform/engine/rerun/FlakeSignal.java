@@ -0,0 +1,41 @@
+package com.autotest.platform.engine.rerun;
+
+/**
+ * 重跑结果反映的不稳定信号
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public enum FlakeSignal {
+
+    /** 上次失败、重跑通过，疑似不稳定 */
+    PASS_ON_RETRY,
+
+    /** 重跑仍失败或超时，稳定复现 */
+    CONSISTENT_FAILURE,
+
+    /** 重跑未完成(跳过、取消等)，不计入统计 */
+    NONE;
+
+    private static final String SUCCESS = "SUCCESS";
+
+    private static final String FAILED = "FAILED";
+
+    private static final String TIMEOUT = "TIMEOUT";
+
+    /**
+     * 根据重跑用例状态判定信号，重跑用例在上次执行中一定是失败的
+     *
+     * @param rerunStatus 重跑用例状态
+     * @return 信号
+     */
+    public static FlakeSignal of(String rerunStatus) {
+        if (SUCCESS.equals(rerunStatus)) {
+            return PASS_ON_RETRY;
+        }
+        if (FAILED.equals(rerunStatus) || TIMEOUT.equals(rerunStatus)) {
+            return CONSISTENT_FAILURE;
+        }
+        return NONE;
+    }
+}
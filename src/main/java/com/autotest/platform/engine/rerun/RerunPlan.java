@@ -0,0 +1,60 @@
+package com.autotest.platform.engine.rerun;
+
+import java.util.List;
+
+/**
+ * 失败用例重跑计划
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class RerunPlan {
+
+    /** 被重跑的执行 */
+    private final Long sourceExecutionId;
+
+    /** 最初的执行，多次重跑都指向它 */
+    private final Long rootExecutionId;
+
+    /** 第几次重跑，从1开始 */
+    private final int attempt;
+
+    /** 需要重跑的用例 */
+    private final List<FailedCase> cases;
+
+    /** 已用完重跑次数而跳过的用例 */
+    private final List<Long> exhaustedCaseIds;
+
+    public RerunPlan(Long sourceExecutionId, Long rootExecutionId, int attempt, List<FailedCase> cases,
+                     List<Long> exhaustedCaseIds) {
+        this.sourceExecutionId = sourceExecutionId;
+        this.rootExecutionId = rootExecutionId;
+        this.attempt = attempt;
+        this.cases = cases;
+        this.exhaustedCaseIds = exhaustedCaseIds;
+    }
+
+    public boolean isEmpty() {
+        return cases.isEmpty();
+    }
+
+    public Long getSourceExecutionId() {
+        return sourceExecutionId;
+    }
+
+    public Long getRootExecutionId() {
+        return rootExecutionId;
+    }
+
+    public int getAttempt() {
+        return attempt;
+    }
+
+    public List<FailedCase> getCases() {
+        return cases;
+    }
+
+    public List<Long> getExhaustedCaseIds() {
+        return exhaustedCaseIds;
+    }
+}
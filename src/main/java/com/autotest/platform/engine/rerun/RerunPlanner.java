@@ -0,0 +1,108 @@
+package com.autotest.platform.engine.rerun;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+import com.alibaba.fastjson.parser.Feature;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 失败用例重跑规划
+ * <p>
+ * 只挑出上次执行失败的用例生成新执行，执行配置(环境、数据源、参数等)原样沿用，另在 {@code rerun} 节点记录
+ * 来源执行、最初执行和重跑次数。每个用例最多重跑 maxAttempts 次，超过的用例不再进入新执行。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class RerunPlanner {
+
+    /** execution_config 中记录重跑信息的节点 */
+    public static final String RERUN_KEY = "rerun";
+
+    private final int maxAttempts;
+
+    public RerunPlanner(int maxAttempts) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * 生成重跑计划
+     *
+     * @param sourceExecutionId 被重跑的执行
+     * @param sourceConfig 被重跑执行的 execution_config
+     * @param failedCases 失败用例，同一用例出现多次时取重跑次数最大的记录
+     * @return 重跑计划，没有可重跑用例时为空计划
+     */
+    public RerunPlan plan(Long sourceExecutionId, String sourceConfig, List<FailedCase> failedCases) {
+        JSONObject rerun = rerunInfo(sourceConfig);
+        Long rootExecutionId = rerun == null || rerun.getLong("rootExecutionId") == null ? sourceExecutionId
+                : rerun.getLong("rootExecutionId");
+        int attempt = (rerun == null || rerun.getInteger("attempt") == null ? 0 : rerun.getInteger("attempt")) + 1;
+        Map<Long, FailedCase> unique = new LinkedHashMap<>();
+        for (FailedCase failed : failedCases) {
+            FailedCase existing = unique.get(failed.getCaseId());
+            if (existing == null || existing.getRetryCount() < failed.getRetryCount()) {
+                unique.put(failed.getCaseId(), failed);
+            }
+        }
+        List<FailedCase> cases = new ArrayList<>();
+        List<Long> exhausted = new ArrayList<>();
+        for (FailedCase failed : unique.values()) {
+            if (failed.getRetryCount() >= maxAttempts) {
+                exhausted.add(failed.getCaseId());
+            } else {
+                cases.add(new FailedCase(failed.getCaseId(), failed.getRetryCount() + 1));
+            }
+        }
+        return new RerunPlan(sourceExecutionId, rootExecutionId, attempt, Collections.unmodifiableList(cases),
+                Collections.unmodifiableList(exhausted));
+    }
+
+    /**
+     * 生成重跑执行的 execution_config：沿用原配置，覆盖 rerun 节点
+     *
+     * @param sourceConfig 被重跑执行的 execution_config
+     * @param plan 重跑计划
+     * @return 新的执行配置
+     */
+    public String buildConfig(String sourceConfig, RerunPlan plan) {
+        JSONObject config = parse(sourceConfig);
+        if (config == null) {
+            config = new JSONObject();
+        }
+        JSONObject rerun = new JSONObject();
+        rerun.put("sourceExecutionId", plan.getSourceExecutionId());
+        rerun.put("rootExecutionId", plan.getRootExecutionId());
+        rerun.put("attempt", plan.getAttempt());
+        config.put(RERUN_KEY, rerun);
+        return JSON.toJSONString(config);
+    }
+
+    /**
+     * 读取执行配置中的重跑信息
+     *
+     * @param config execution_config
+     * @return rerun 节点，不是重跑执行时为null
+     */
+    public static JSONObject rerunInfo(String config) {
+        JSONObject object = parse(config);
+        return object == null ? null : object.getJSONObject(RERUN_KEY);
+    }
+
+    private static JSONObject parse(String config) {
+        if (config == null || config.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            Object parsed = JSON.parse(config, Feature.OrderedField);
+            return parsed instanceof JSONObject ? (JSONObject) parsed : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
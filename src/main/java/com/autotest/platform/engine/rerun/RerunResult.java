@@ -0,0 +1,53 @@
+package com.autotest.platform.engine.rerun;
+
+import com.autotest.platform.engine.admission.AdmissionDecision;
+
+/**
+ * 重跑提交结果
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class RerunResult {
+
+    /** 新执行ID，未创建时为null */
+    private final Long executionId;
+
+    private final String executionCode;
+
+    private final RerunPlan plan;
+
+    /** 排队准入结果，事务提交后才提交排队，在此之前为放行 */
+    private volatile AdmissionDecision decision;
+
+    public RerunResult(Long executionId, String executionCode, RerunPlan plan, AdmissionDecision decision) {
+        this.executionId = executionId;
+        this.executionCode = executionCode;
+        this.plan = plan;
+        this.decision = decision;
+    }
+
+    public boolean isAccepted() {
+        return executionId != null && decision.isAllowed();
+    }
+
+    public Long getExecutionId() {
+        return executionId;
+    }
+
+    public String getExecutionCode() {
+        return executionCode;
+    }
+
+    public RerunPlan getPlan() {
+        return plan;
+    }
+
+    public AdmissionDecision getDecision() {
+        return decision;
+    }
+
+    public void setDecision(AdmissionDecision decision) {
+        this.decision = decision;
+    }
+}
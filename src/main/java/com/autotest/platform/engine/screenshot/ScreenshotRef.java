@@ -0,0 +1,54 @@
+package com.autotest.platform.engine.screenshot;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 已提交截图的引用，提交时即确定存储路径，文件由编码线程异步写入
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ScreenshotRef {
+
+    /** 原图SHA-256 */
+    private final String hash;
+
+    /** 相对截图根目录的路径，写入 test_execution_case.screenshot_path */
+    private final String path;
+
+    /** 是否与已有截图重复 */
+    private final boolean duplicate;
+
+    private final CompletableFuture<Void> written;
+
+    public ScreenshotRef(String hash, String path, boolean duplicate, CompletableFuture<Void> written) {
+        this.hash = hash;
+        this.path = path;
+        this.duplicate = duplicate;
+        this.written = written;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public boolean isDuplicate() {
+        return duplicate;
+    }
+
+    /**
+     * 文件写入完成时完成，写入失败时异常完成
+     */
+    public CompletableFuture<Void> getWritten() {
+        return written;
+    }
+
+    @Override
+    public String toString() {
+        return path + (duplicate ? " (duplicate)" : "");
+    }
+}
@@ -0,0 +1,92 @@
+package com.autotest.platform.engine.screenshot;
+
+/**
+ * 截图存储配置
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ScreenshotSettings {
+
+    /** 存储格式：jpg 重新压缩，png 原样写入 */
+    public static final String FORMAT_JPG = "jpg";
+
+    public static final String FORMAT_PNG = "png";
+
+    /** 编码线程数 */
+    private int encoderThreads = 2;
+
+    /** 等待编码的截图数上限，超过后提交方等待 */
+    private int queueCapacity = 64;
+
+    /** 队列满时提交方最多等待时间(毫秒)，超时后在提交线程直接写入原图 */
+    private long offerTimeoutMillis = 200L;
+
+    /** 存储格式 */
+    private String format = FORMAT_JPG;
+
+    /** JPEG压缩质量(0-1) */
+    private float quality = 0.8F;
+
+    /** 缩略图最大宽度 */
+    private int thumbnailMaxWidth = 640;
+
+    /** 内存中记住的已写入截图数，超出后通过文件是否存在判断重复 */
+    private int knownHashes = 100000;
+
+    public int getEncoderThreads() {
+        return encoderThreads;
+    }
+
+    public void setEncoderThreads(int encoderThreads) {
+        this.encoderThreads = encoderThreads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public long getOfferTimeoutMillis() {
+        return offerTimeoutMillis;
+    }
+
+    public void setOfferTimeoutMillis(long offerTimeoutMillis) {
+        this.offerTimeoutMillis = offerTimeoutMillis;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public float getQuality() {
+        return quality;
+    }
+
+    public void setQuality(float quality) {
+        this.quality = quality;
+    }
+
+    public int getThumbnailMaxWidth() {
+        return thumbnailMaxWidth;
+    }
+
+    public void setThumbnailMaxWidth(int thumbnailMaxWidth) {
+        this.thumbnailMaxWidth = thumbnailMaxWidth;
+    }
+
+    public int getKnownHashes() {
+        return knownHashes;
+    }
+
+    public void setKnownHashes(int knownHashes) {
+        this.knownHashes = knownHashes;
+    }
+}
@@ -0,0 +1,442 @@
+package com.autotest.platform.engine.screenshot;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * 截图存储
+ * <p>
+ * 测试线程只计算原图哈希并交出字节，压缩和写盘在固定大小的编码线程池中完成。截图按内容寻址存放在
+ * {@code 根目录/哈希前两位/哈希.扩展名}，相同画面只写一次。等待编码的截图数达到上限时提交方最多等待
+ * {@link ScreenshotSettings#getOfferTimeoutMillis()}，仍无空位则在提交线程原样写入PNG，不丢截图也不无限堆积内存。
+ * 缩略图在首次请求时生成并落盘。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ScreenshotStore implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(ScreenshotStore.class);
+
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private static final String THUMBNAIL_DIR = "thumbs";
+
+    private static final int MIN_THUMBNAIL_WIDTH = 32;
+
+    private final Path root;
+
+    private final ScreenshotSettings settings;
+
+    private final ExecutorService executor;
+
+    /** 编码线程和等待队列的空位 */
+    private final Semaphore slots;
+
+    /** 正在编码写入的截图 */
+    private final Map<String, ScreenshotRef> pending = new ConcurrentHashMap<>();
+
+    /** 最近写入的截图哈希 -> 路径，避免每次查重都访问磁盘 */
+    private final Map<String, String> known;
+
+    private final AtomicLong captured = new AtomicLong();
+
+    private final AtomicLong deduplicated = new AtomicLong();
+
+    private final AtomicLong encoded = new AtomicLong();
+
+    private final AtomicLong inline = new AtomicLong();
+
+    private final AtomicLong failures = new AtomicLong();
+
+    private final AtomicLong bytesIn = new AtomicLong();
+
+    private final AtomicLong bytesWritten = new AtomicLong();
+
+    public ScreenshotStore(Path root, ScreenshotSettings settings) {
+        this.root = root;
+        this.settings = settings;
+        int threads = Math.max(1, settings.getEncoderThreads());
+        this.slots = new Semaphore(threads + Math.max(0, settings.getQueueCapacity()));
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new EncoderThreadFactory());
+        pool.allowCoreThreadTimeOut(true);
+        this.executor = pool;
+        int knownHashes = Math.max(0, settings.getKnownHashes());
+        this.known = Collections.synchronizedMap(new LinkedHashMap<String, String>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > knownHashes;
+            }
+        });
+    }
+
+    /**
+     * 提交截图
+     *
+     * @param png 浏览器返回的PNG原图
+     * @return 截图引用，路径立即可用
+     */
+    public ScreenshotRef submit(byte[] png) {
+        if (png == null || png.length == 0) {
+            throw new IllegalArgumentException("截图内容为空");
+        }
+        captured.incrementAndGet();
+        bytesIn.addAndGet(png.length);
+        String hash = sha256(png);
+        ScreenshotRef existing = pending.get(hash);
+        if (existing != null) {
+            return duplicate(existing);
+        }
+        String stored = storedPath(hash);
+        if (stored != null) {
+            deduplicated.incrementAndGet();
+            return new ScreenshotRef(hash, stored, true, CompletableFuture.completedFuture(null));
+        }
+        boolean reencode = ScreenshotSettings.FORMAT_JPG.equalsIgnoreCase(settings.getFormat());
+        boolean async = reencode && acquireSlot();
+        if (reencode && !async) {
+            inline.incrementAndGet();
+        }
+        ScreenshotRef ref = new ScreenshotRef(hash, relativePath(hash, async ? ScreenshotSettings.FORMAT_JPG
+                : ScreenshotSettings.FORMAT_PNG), false, new CompletableFuture<>());
+        existing = pending.putIfAbsent(hash, ref);
+        if (existing != null) {
+            if (async) {
+                slots.release();
+            }
+            return duplicate(existing);
+        }
+        if (async) {
+            try {
+                executor.execute(() -> {
+                    try {
+                        store(ref, png, true);
+                    } finally {
+                        slots.release();
+                    }
+                });
+                return ref;
+            } catch (RuntimeException e) {
+                // 线程池已关闭
+                slots.release();
+            }
+        }
+        store(ref, png, async);
+        return ref;
+    }
+
+    /**
+     * 按哈希查找截图文件
+     *
+     * @param hash 截图哈希
+     * @return 文件，不存在或尚未写完时为null
+     */
+    public Path resolve(String hash) {
+        checkHash(hash);
+        String stored = storedPath(hash);
+        return stored == null ? null : root.resolve(stored);
+    }
+
+    /**
+     * 获取缩略图，首次请求时生成
+     *
+     * @param hash 截图哈希
+     * @param width 期望宽度，按配置上限截断
+     * @return 缩略图文件，截图不存在时为null
+     * @throws IOException 读取或写入失败
+     */
+    public Path thumbnail(String hash, int width) throws IOException {
+        checkHash(hash);
+        int target = Math.max(MIN_THUMBNAIL_WIDTH, Math.min(width, settings.getThumbnailMaxWidth()));
+        Path thumbnail = root.resolve(THUMBNAIL_DIR).resolve(String.valueOf(target))
+                .resolve(relativePath(hash, ScreenshotSettings.FORMAT_JPG));
+        if (Files.exists(thumbnail)) {
+            return thumbnail;
+        }
+        Path source = resolve(hash);
+        if (source == null) {
+            return null;
+        }
+        BufferedImage image = ImageIO.read(source.toFile());
+        if (image == null) {
+            throw new IOException("无法解码截图: " + source);
+        }
+        if (image.getWidth() > target) {
+            image = scale(image, target, Math.max(1, (int) Math.round((double) image.getHeight() * target / image.getWidth())));
+        }
+        write(thumbnail, encodeJpeg(image, settings.getQuality()));
+        return thumbnail;
+    }
+
+    /**
+     * 等待已提交的截图全部写入，执行结束生成报告前调用
+     *
+     * @param timeoutMillis 最长等待时间(毫秒)
+     * @return 是否全部写入
+     */
+    public boolean flush(long timeoutMillis) {
+        CompletableFuture<?>[] futures = pending.values().stream().map(ScreenshotRef::getWritten)
+                .toArray(CompletableFuture<?>[]::new);
+        try {
+            CompletableFuture.allOf(futures).get(timeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (ExecutionException e) {
+            // 单张截图失败已计入失败数，不影响其余截图
+            return pending.isEmpty();
+        } catch (TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public int getPending() {
+        return pending.size();
+    }
+
+    public long getCaptured() {
+        return captured.get();
+    }
+
+    public long getDeduplicated() {
+        return deduplicated.get();
+    }
+
+    public long getEncoded() {
+        return encoded.get();
+    }
+
+    public long getInline() {
+        return inline.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    public long getBytesIn() {
+        return bytesIn.get();
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("截图编码线程池关闭超时，未写入{}张", pending.size());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    private ScreenshotRef duplicate(ScreenshotRef existing) {
+        deduplicated.incrementAndGet();
+        return new ScreenshotRef(existing.getHash(), existing.getPath(), true, existing.getWritten());
+    }
+
+    private boolean acquireSlot() {
+        try {
+            return slots.tryAcquire(settings.getOfferTimeoutMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void store(ScreenshotRef ref, byte[] png, boolean reencode) {
+        try {
+            byte[] content = png;
+            if (reencode) {
+                BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+                if (image == null) {
+                    throw new IOException("无法解码截图");
+                }
+                content = encodeJpeg(image, settings.getQuality());
+                encoded.incrementAndGet();
+            }
+            write(root.resolve(ref.getPath()), content);
+            bytesWritten.addAndGet(content.length);
+            known.put(ref.getHash(), ref.getPath());
+            ref.getWritten().complete(null);
+        } catch (IOException | RuntimeException e) {
+            failures.incrementAndGet();
+            log.error("截图{}写入失败: {}", ref.getHash(), e.getMessage());
+            ref.getWritten().completeExceptionally(e);
+        } finally {
+            pending.remove(ref.getHash(), ref);
+        }
+    }
+
+    /**
+     * 已写入的截图路径，未写入时为null
+     */
+    private String storedPath(String hash) {
+        String path = known.get(hash);
+        if (path != null) {
+            return path;
+        }
+        for (String extension : new String[]{ScreenshotSettings.FORMAT_JPG, ScreenshotSettings.FORMAT_PNG}) {
+            String candidate = relativePath(hash, extension);
+            if (Files.exists(root.resolve(candidate))) {
+                known.put(hash, candidate);
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static String relativePath(String hash, String extension) {
+        return hash.substring(0, 2) + "/" + hash + "." + extension;
+    }
+
+    private static void checkHash(String hash) {
+        if (hash == null || !HASH.matcher(hash).matches()) {
+            throw new IllegalArgumentException("非法的截图标识: " + hash);
+        }
+    }
+
+    /**
+     * 写入临时文件后原子改名，读取方不会看到写了一半的文件
+     */
+    private static void write(Path target, byte[] content) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static byte[] encodeJpeg(BufferedImage image, float quality) throws IOException {
+        BufferedImage rgb = image;
+        if (image.getType() != BufferedImage.TYPE_INT_RGB) {
+            // JPEG不支持透明通道，透明部分按白色背景合成
+            rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+            Graphics2D g = rgb.createGraphics();
+            try {
+                g.setColor(Color.WHITE);
+                g.fillRect(0, 0, image.getWidth(), image.getHeight());
+                g.drawImage(image, 0, 0, null);
+            } finally {
+                g.dispose();
+            }
+        }
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("缺少JPEG编码器");
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(Math.max(0F, Math.min(1F, quality)));
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static BufferedImage scale(BufferedImage image, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setColor(Color.WHITE);
+            g.fillRect(0, 0, width, height);
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class EncoderThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "screenshot-encoder-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.autotest.platform.engine.search;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONException;
+import com.alibaba.fastjson.JSONObject;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 用例索引文档
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class CaseDocument {
+
+    /** 标签词前缀，与正文词区分以支持精确标签过滤 */
+    public static final String TAG_PREFIX = "tag:";
+
+    private final Long caseId;
+
+    private final Set<String> terms;
+
+    public CaseDocument(Long caseId, Set<String> terms) {
+        this.caseId = caseId;
+        this.terms = terms;
+    }
+
+    /**
+     * 由用例字段构建索引文档
+     *
+     * @param caseId 用例ID
+     * @param caseTitle 用例标题
+     * @param caseCode 用例编码
+     * @param tags 标签(逗号分隔)
+     * @param preconditions 前置条件
+     * @param testSteps 测试步骤(JSON)
+     * @return 索引文档
+     */
+    public static CaseDocument of(Long caseId, String caseTitle, String caseCode, String tags,
+                                  String preconditions, String testSteps) {
+        Set<String> terms = new LinkedHashSet<>();
+        TextTokenizer.indexTokens(caseTitle, terms);
+        TextTokenizer.indexTokens(caseCode, terms);
+        TextTokenizer.indexTokens(preconditions, terms);
+        TextTokenizer.indexTokens(stepText(testSteps), terms);
+        if (tags != null) {
+            for (String tag : tags.split("[,，]")) {
+                String normalized = normalizeTag(tag);
+                if (!normalized.isEmpty()) {
+                    terms.add(TAG_PREFIX + normalized);
+                    TextTokenizer.indexTokens(normalized, terms);
+                }
+            }
+        }
+        return new CaseDocument(caseId, terms);
+    }
+
+    public static String normalizeTag(String tag) {
+        return tag == null ? "" : tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 只索引测试步骤JSON中的字符串值，键名在所有用例中都相同，没有检索价值
+     */
+    static String stepText(String testSteps) {
+        if (testSteps == null || testSteps.isEmpty()) {
+            return testSteps;
+        }
+        Object parsed;
+        try {
+            parsed = JSON.parse(testSteps);
+        } catch (JSONException e) {
+            return testSteps;
+        }
+        StringBuilder sb = new StringBuilder();
+        collectValues(parsed, sb);
+        return sb.toString();
+    }
+
+    private static void collectValues(Object node, StringBuilder sb) {
+        if (node instanceof JSONObject) {
+            for (Map.Entry<String, Object> entry : ((JSONObject) node).entrySet()) {
+                collectValues(entry.getValue(), sb);
+            }
+        } else if (node instanceof JSONArray) {
+            for (Object item : (JSONArray) node) {
+                collectValues(item, sb);
+            }
+        } else if (node instanceof String) {
+            sb.append((String) node).append(' ');
+        }
+    }
+
+    public Long getCaseId() {
+        return caseId;
+    }
+
+    public Set<String> getTerms() {
+        return terms;
+    }
+}
@@ -0,0 +1,48 @@
+package com.autotest.platform.engine.search;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 用例检索结果
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class CaseSearchHits {
+
+    /** 命中总数 */
+    private final int total;
+
+    /** 当前页用例ID，按用例ID倒序 */
+    private final List<Long> caseIds;
+
+    /** 前缀展开超过上限被截断，命中可能不完整 */
+    private final boolean truncated;
+
+    public CaseSearchHits(int total, List<Long> caseIds) {
+        this(total, caseIds, false);
+    }
+
+    public CaseSearchHits(int total, List<Long> caseIds, boolean truncated) {
+        this.total = total;
+        this.caseIds = Collections.unmodifiableList(caseIds);
+        this.truncated = truncated;
+    }
+
+    public static CaseSearchHits empty() {
+        return new CaseSearchHits(0, Collections.<Long>emptyList());
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public List<Long> getCaseIds() {
+        return caseIds;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,162 @@
+package com.autotest.platform.engine.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 用例检索索引注册表
+ * <p>
+ * 按项目维护 {@link ProjectSearchIndex}，并支持将索引快照落盘，重启后加载快照再按水位线增量追赶，
+ * 避免每次启动全量扫描 test_case。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class CaseSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(CaseSearchIndex.class);
+
+    private static final int SNAPSHOT_MAGIC = 0x43534958;
+
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Map<Long, ProjectSearchIndex> projects = new ConcurrentHashMap<>();
+
+    /** 快照目录，为空时不落盘 */
+    private final Path snapshotDir;
+
+    public CaseSearchIndex(Path snapshotDir) {
+        this.snapshotDir = snapshotDir;
+    }
+
+    /**
+     * 获取项目索引，不存在返回null
+     */
+    public ProjectSearchIndex get(Long projectId) {
+        return projects.get(projectId);
+    }
+
+    /**
+     * 获取或创建项目索引
+     */
+    public ProjectSearchIndex getOrCreate(Long projectId) {
+        return projects.computeIfAbsent(projectId, ProjectSearchIndex::new);
+    }
+
+    public void put(ProjectSearchIndex index) {
+        projects.put(index.getProjectId(), index);
+    }
+
+    public void invalidate(Long projectId) {
+        projects.remove(projectId);
+    }
+
+    public Collection<ProjectSearchIndex> all() {
+        return projects.values();
+    }
+
+    /**
+     * 保存项目索引快照，先写临时文件再原子替换
+     */
+    public void saveSnapshot(ProjectSearchIndex index) throws IOException {
+        if (snapshotDir == null) {
+            return;
+        }
+        Files.createDirectories(snapshotDir);
+        Path target = snapshotFile(index.getProjectId());
+        Path temp = snapshotDir.resolve(target.getFileName() + ".tmp");
+        Map<Long, String[]> documents = index.liveDocuments();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temp))))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(index.getProjectId());
+            out.writeLong(index.getWatermark());
+            out.writeInt(documents.size());
+            for (Map.Entry<Long, String[]> entry : documents.entrySet()) {
+                out.writeLong(entry.getKey());
+                out.writeInt(entry.getValue().length);
+                for (String term : entry.getValue()) {
+                    out.writeUTF(term);
+                }
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 保存所有项目索引快照
+     */
+    public void saveAll() {
+        for (ProjectSearchIndex index : projects.values()) {
+            try {
+                saveSnapshot(index);
+            } catch (IOException e) {
+                log.warn("保存用例索引快照失败, projectId={}: {}", index.getProjectId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 加载项目索引快照
+     *
+     * @return 快照不存在或损坏时返回null
+     */
+    public ProjectSearchIndex loadSnapshot(Long projectId) {
+        if (snapshotDir == null) {
+            return null;
+        }
+        Path file = snapshotFile(projectId);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (InputStream raw = Files.newInputStream(file);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(raw)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION || in.readLong() != projectId) {
+                log.warn("用例索引快照格式不匹配，忽略: {}", file);
+                return null;
+            }
+            long watermark = in.readLong();
+            int count = in.readInt();
+            Map<Long, Set<String>> documents = new HashMap<>(Math.max(16, count * 2));
+            for (int i = 0; i < count; i++) {
+                long caseId = in.readLong();
+                int termCount = in.readInt();
+                Set<String> terms = new LinkedHashSet<>(termCount * 2);
+                for (int j = 0; j < termCount; j++) {
+                    terms.add(in.readUTF());
+                }
+                documents.put(caseId, terms);
+            }
+            ProjectSearchIndex index = new ProjectSearchIndex(projectId);
+            index.loadAll(documents);
+            index.advanceWatermark(watermark);
+            return index;
+        } catch (IOException e) {
+            log.warn("加载用例索引快照失败, projectId={}: {}", projectId, e.getMessage());
+            return null;
+        }
+    }
+
+    private Path snapshotFile(Long projectId) {
+        return snapshotDir.resolve("project-" + projectId + ".idx");
+    }
+}
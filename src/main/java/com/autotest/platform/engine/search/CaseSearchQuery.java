@@ -0,0 +1,91 @@
+package com.autotest.platform.engine.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 用例检索条件
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class CaseSearchQuery {
+
+    /** 租户ID */
+    private Long tenantId;
+
+    /** 项目ID */
+    private Long projectId;
+
+    /** 关键字，多个词之间为且关系 */
+    private String keyword;
+
+    /** 最后一个词是否按前缀匹配(关键字以*结尾时也按前缀匹配) */
+    private boolean prefix = true;
+
+    /** 标签过滤，需全部命中 */
+    private List<String> tags = new ArrayList<>();
+
+    /** 跳过条数 */
+    private int offset;
+
+    /** 返回条数 */
+    private int limit = 50;
+
+    // Getters and Setters
+    public Long getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(Long tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    public void setKeyword(String keyword) {
+        this.keyword = keyword;
+    }
+
+    public boolean isPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(boolean prefix) {
+        this.prefix = prefix;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public void setOffset(int offset) {
+        this.offset = offset;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
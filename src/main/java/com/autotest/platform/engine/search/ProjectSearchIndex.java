@@ -0,0 +1,366 @@
+package com.autotest.platform.engine.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 单个项目的用例倒排索引
+ * <p>
+ * 词典使用有序 TreeMap 以支持前缀检索，倒排表存放内部文档号；用例更新时分配新文档号，
+ * 旧文档号作废，作废比例过高时整体重排。读多写少，使用读写锁保护。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ProjectSearchIndex {
+
+    /** 前缀检索最多展开的词数，避免单字母前缀展开整个词典 */
+    private static final int MAX_PREFIX_EXPANSION = 2000;
+
+    private final Long projectId;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** 词 -> 倒排表 */
+    private final TreeMap<String, IntPostings> dictionary = new TreeMap<>();
+
+    /** 用例ID -> 文档号 */
+    private final Map<Long, Integer> docByCase = new HashMap<>();
+
+    /** 文档号 -> 用例ID，作废文档为null */
+    private final List<Long> caseByDoc = new ArrayList<>();
+
+    /** 文档号 -> 词，用于更新和删除时撤销倒排 */
+    private final List<String[]> termsByDoc = new ArrayList<>();
+
+    /** 已同步的最大更新时间(毫秒)，用于增量追赶 */
+    private volatile long watermark;
+
+    public ProjectSearchIndex(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    /**
+     * 新增或更新用例
+     */
+    public void upsert(CaseDocument document) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.getCaseId());
+            int doc = caseByDoc.size();
+            String[] terms = document.getTerms().toArray(new String[0]);
+            caseByDoc.add(document.getCaseId());
+            termsByDoc.add(terms);
+            docByCase.put(document.getCaseId(), doc);
+            for (String term : terms) {
+                dictionary.computeIfAbsent(term, k -> new IntPostings()).add(doc);
+            }
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 删除用例
+     */
+    public void remove(Long caseId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(caseId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 检索用例
+     *
+     * @param query 检索条件
+     * @return 命中结果
+     */
+    public CaseSearchHits search(CaseSearchQuery query) {
+        String keyword = query.getKeyword() == null ? "" : query.getKeyword().trim();
+        boolean prefix = query.isPrefix() || keyword.endsWith("*");
+        List<String> tokens = TextTokenizer.queryTokens(keyword);
+        lock.readLock().lock();
+        try {
+            List<int[]> lists = new ArrayList<>();
+            boolean truncated = false;
+            for (int i = 0; i < tokens.size(); i++) {
+                boolean last = i == tokens.size() - 1;
+                int[] docs;
+                if (last && prefix) {
+                    NavigableMap<String, IntPostings> range = prefixRange(tokens.get(i));
+                    truncated = range.size() > MAX_PREFIX_EXPANSION;
+                    docs = prefixDocs(range);
+                } else {
+                    docs = termDocs(tokens.get(i));
+                }
+                if (docs.length == 0) {
+                    return CaseSearchHits.empty();
+                }
+                lists.add(docs);
+            }
+            if (query.getTags() != null) {
+                for (String tag : query.getTags()) {
+                    String normalized = CaseDocument.normalizeTag(tag);
+                    if (normalized.isEmpty()) {
+                        continue;
+                    }
+                    int[] docs = termDocs(CaseDocument.TAG_PREFIX + normalized);
+                    if (docs.length == 0) {
+                        return CaseSearchHits.empty();
+                    }
+                    lists.add(docs);
+                }
+            }
+            return page(intersectAll(lists), query, truncated);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 当前有效用例
+     */
+    public Map<Long, String[]> liveDocuments() {
+        lock.readLock().lock();
+        try {
+            Map<Long, String[]> documents = new HashMap<>(docByCase.size() * 2);
+            for (Map.Entry<Long, Integer> entry : docByCase.entrySet()) {
+                documents.put(entry.getKey(), termsByDoc.get(entry.getValue()));
+            }
+            return documents;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean contains(Long caseId) {
+        lock.readLock().lock();
+        try {
+            return docByCase.containsKey(caseId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docByCase.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return dictionary.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public long getWatermark() {
+        return watermark;
+    }
+
+    public void advanceWatermark(long updateTime) {
+        if (updateTime > watermark) {
+            watermark = updateTime;
+        }
+    }
+
+    private void removeInternal(Long caseId) {
+        Integer doc = docByCase.remove(caseId);
+        if (doc == null) {
+            return;
+        }
+        for (String term : termsByDoc.get(doc)) {
+            IntPostings postings = dictionary.get(term);
+            if (postings != null) {
+                postings.remove(doc);
+                if (postings.isEmpty()) {
+                    dictionary.remove(term);
+                }
+            }
+        }
+        caseByDoc.set(doc, null);
+        termsByDoc.set(doc, null);
+    }
+
+    /**
+     * 作废文档超过一半时重排文档号，释放空洞
+     */
+    private void compactIfNeeded() {
+        int total = caseByDoc.size();
+        if (total < 1024 || docByCase.size() * 2 >= total) {
+            return;
+        }
+        List<Long> cases = new ArrayList<>(caseByDoc);
+        List<String[]> terms = new ArrayList<>(termsByDoc);
+        dictionary.clear();
+        docByCase.clear();
+        caseByDoc.clear();
+        termsByDoc.clear();
+        for (int i = 0; i < cases.size(); i++) {
+            if (cases.get(i) == null) {
+                continue;
+            }
+            int doc = caseByDoc.size();
+            caseByDoc.add(cases.get(i));
+            termsByDoc.add(terms.get(i));
+            docByCase.put(cases.get(i), doc);
+            for (String term : terms.get(i)) {
+                dictionary.computeIfAbsent(term, k -> new IntPostings()).add(doc);
+            }
+        }
+    }
+
+    private int[] termDocs(String term) {
+        IntPostings postings = dictionary.get(term);
+        return postings == null ? new int[0] : postings.toArray();
+    }
+
+    private NavigableMap<String, IntPostings> prefixRange(String prefix) {
+        return dictionary.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    /**
+     * 合并前缀下各词的倒排表，最多展开 MAX_PREFIX_EXPANSION 个词
+     */
+    private int[] prefixDocs(NavigableMap<String, IntPostings> range) {
+        if (range.isEmpty()) {
+            return new int[0];
+        }
+        if (range.size() == 1) {
+            return range.firstEntry().getValue().toArray();
+        }
+        int total = 0;
+        int expanded = 0;
+        List<IntPostings> lists = new ArrayList<>();
+        for (IntPostings postings : range.values()) {
+            lists.add(postings);
+            total += postings.size();
+            if (++expanded >= MAX_PREFIX_EXPANSION) {
+                break;
+            }
+        }
+        int[] merged = new int[total];
+        int offset = 0;
+        for (IntPostings postings : lists) {
+            int[] docs = postings.toArray();
+            System.arraycopy(docs, 0, merged, offset, docs.length);
+            offset += docs.length;
+        }
+        Arrays.sort(merged);
+        return distinct(merged);
+    }
+
+    private int[] intersectAll(List<int[]> lists) {
+        if (lists.isEmpty()) {
+            int[] all = new int[docByCase.size()];
+            int i = 0;
+            for (Integer doc : docByCase.values()) {
+                all[i++] = doc;
+            }
+            return all;
+        }
+        lists.sort(Comparator.comparingInt(a -> a.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private CaseSearchHits page(int[] docs, CaseSearchQuery query, boolean truncated) {
+        long[] caseIds = new long[docs.length];
+        for (int i = 0; i < docs.length; i++) {
+            caseIds[i] = caseByDoc.get(docs[i]);
+        }
+        Arrays.sort(caseIds);
+        int from = Math.max(0, query.getOffset());
+        int limit = Math.max(0, query.getLimit());
+        if (from >= caseIds.length) {
+            return new CaseSearchHits(caseIds.length, Collections.<Long>emptyList(), truncated);
+        }
+        List<Long> page = new ArrayList<>(Math.min(limit, caseIds.length - from));
+        // 用例ID倒序，新建用例在前
+        for (int i = caseIds.length - 1 - from; i >= 0 && page.size() < limit; i--) {
+            page.add(caseIds[i]);
+        }
+        return new CaseSearchHits(caseIds.length, page, truncated);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                result[count++] = a[i];
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int[] distinct(int[] sorted) {
+        if (sorted.length == 0) {
+            return sorted;
+        }
+        int count = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[count - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, count);
+    }
+
+    /**
+     * 批量加载时使用，避免逐条加锁
+     */
+    void loadAll(Map<Long, Set<String>> documents) {
+        lock.writeLock().lock();
+        try {
+            for (Map.Entry<Long, Set<String>> entry : documents.entrySet()) {
+                removeInternal(entry.getKey());
+                int doc = caseByDoc.size();
+                String[] terms = entry.getValue().toArray(new String[0]);
+                caseByDoc.add(entry.getKey());
+                termsByDoc.add(terms);
+                docByCase.put(entry.getKey(), doc);
+                for (String term : terms) {
+                    dictionary.computeIfAbsent(term, k -> new IntPostings()).add(doc);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.autotest.platform.engine.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 文本分词器
+ * <p>
+ * 字母数字按非字母数字字符切分并转小写；中日韩文字无空格分隔，索引时同时生成单字和相邻双字，
+ * 查询时连续两个以上的汉字只取双字，既能按单字检索，也能避免单字倒排表过长拖慢多字查询。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public final class TextTokenizer {
+
+    /** 单个词最大长度，超长内容(如base64)截断 */
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    private TextTokenizer() {
+    }
+
+    /**
+     * 索引分词
+     *
+     * @param text 文本
+     * @param tokens 输出词集合
+     */
+    public static void indexTokens(String text, Set<String> tokens) {
+        tokenize(text, tokens, true);
+    }
+
+    /**
+     * 查询分词，保持原有顺序
+     *
+     * @param text 查询文本
+     * @return 词列表
+     */
+    public static List<String> queryTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        tokenize(text, tokens, false);
+        return new ArrayList<>(tokens);
+    }
+
+    private static void tokenize(String text, Set<String> tokens, boolean forIndex) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        StringBuilder word = new StringBuilder();
+        StringBuilder cjk = new StringBuilder();
+        int length = text.length();
+        for (int i = 0; i < length; ) {
+            int codePoint = text.codePointAt(i);
+            i += Character.charCount(codePoint);
+            if (isCjk(codePoint)) {
+                flushWord(word, tokens);
+                cjk.appendCodePoint(codePoint);
+            } else if (Character.isLetterOrDigit(codePoint)) {
+                flushCjk(cjk, tokens, forIndex);
+                if (word.length() < MAX_TOKEN_LENGTH) {
+                    word.appendCodePoint(Character.toLowerCase(codePoint));
+                }
+            } else {
+                flushWord(word, tokens);
+                flushCjk(cjk, tokens, forIndex);
+            }
+        }
+        flushWord(word, tokens);
+        flushCjk(cjk, tokens, forIndex);
+    }
+
+    private static void flushWord(StringBuilder word, Set<String> tokens) {
+        if (word.length() > 0) {
+            tokens.add(word.toString());
+            word.setLength(0);
+        }
+    }
+
+    private static void flushCjk(StringBuilder cjk, Set<String> tokens, boolean forIndex) {
+        int count = cjk.codePointCount(0, cjk.length());
+        if (count == 0) {
+            return;
+        }
+        int[] codePoints = cjk.codePoints().toArray();
+        if (forIndex || count == 1) {
+            for (int codePoint : codePoints) {
+                tokens.add(new String(Character.toChars(codePoint)));
+            }
+        }
+        for (int i = 0; i + 1 < codePoints.length; i++) {
+            tokens.add(new String(codePoints, i, 2));
+        }
+        cjk.setLength(0);
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA
+                || script == Character.UnicodeScript.HANGUL;
+    }
+}
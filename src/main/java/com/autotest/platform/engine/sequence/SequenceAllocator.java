@@ -0,0 +1,104 @@
+package com.autotest.platform.engine.sequence;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 号段式序列分配器
+ * <p>
+ * 每个序列键在内存中持有一个从 {@link SequenceStore} 预留的号段，分配时只对号段游标做一次
+ * getAndAdd，不加锁；号段耗尽的线程才进入该键的锁中预留下一段，其余线程在锁外重试。
+ * 不同节点各自预留不重叠的号段，因此序号全局唯一但不保证连续，节点重启时未用完的号段会被跳过。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class SequenceAllocator {
+
+    private final SequenceStore store;
+
+    private final int blockSize;
+
+    private final Map<String, Segment> segments = new ConcurrentHashMap<>();
+
+    public SequenceAllocator(SequenceStore store, int blockSize) {
+        this.store = store;
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    /**
+     * 分配一个序号
+     *
+     * @param key 序列键
+     * @return 序号
+     */
+    public long next(String key) {
+        return next(key, 1)[0];
+    }
+
+    /**
+     * 批量分配序号，批量导入时一次取完，不逐条竞争
+     *
+     * @param key 序列键
+     * @param count 数量
+     * @return 序号，递增但在号段边界处可能不连续
+     */
+    public long[] next(String key, int count) {
+        long[] values = new long[count];
+        Segment segment = segments.computeIfAbsent(key, k -> new Segment());
+        int filled = 0;
+        while (filled < count) {
+            Block block = segment.current;
+            if (block != null) {
+                int want = count - filled;
+                long start = block.cursor.getAndAdd(want);
+                if (start < block.end) {
+                    long end = Math.min(block.end, start + want);
+                    for (long value = start; value < end; value++) {
+                        values[filled++] = value;
+                    }
+                    continue;
+                }
+            }
+            refill(key, segment, block, count - filled);
+        }
+        return values;
+    }
+
+    /**
+     * 丢弃内存中的号段，下次分配时重新预留
+     */
+    public void reset(String key) {
+        segments.remove(key);
+    }
+
+    private void refill(String key, Segment segment, Block exhausted, int demand) {
+        synchronized (segment) {
+            if (segment.current != exhausted) {
+                // 其他线程已换上新号段
+                return;
+            }
+            int size = Math.max(blockSize, demand);
+            long start = store.reserve(key, size);
+            segment.current = new Block(start, start + size);
+        }
+    }
+
+    private static final class Segment {
+
+        private volatile Block current;
+    }
+
+    private static final class Block {
+
+        private final AtomicLong cursor;
+
+        private final long end;
+
+        private Block(long start, long end) {
+            this.cursor = new AtomicLong(start);
+            this.end = end;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.autotest.platform.engine.sequence;
+
+/**
+ * 序列号段存储
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface SequenceStore {
+
+    /**
+     * 原子地预留一段连续序号，多个节点并发预留的号段互不重叠
+     *
+     * @param key 序列键
+     * @param size 号段大小
+     * @return 号段起始值，号段为 [start, start + size)
+     */
+    long reserve(String key, int size);
+}
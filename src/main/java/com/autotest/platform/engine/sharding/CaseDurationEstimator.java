@@ -0,0 +1,113 @@
+package com.autotest.platform.engine.sharding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 用例耗时预估
+ * <p>
+ * 有历史记录的用例按指数衰减加权平均，最近一次权重最高；
+ * 无历史记录时取同类型用例预估值的中位数，类型也无历史时使用配置的类型默认值。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class CaseDurationEstimator {
+
+    /** 衰减系数，越小越偏向最近的执行 */
+    private final double decay;
+
+    /** 用例类型默认耗时(毫秒) */
+    private final Map<String, Long> typeDefaults;
+
+    /** 无类型信息时的默认耗时(毫秒) */
+    private final long globalDefault;
+
+    /** 用例预估值 */
+    private final Map<Long, Long> caseEstimates = new HashMap<>();
+
+    /** 各类型有历史用例的预估值 */
+    private final Map<String, List<Long>> typeSamples = new HashMap<>();
+
+    /** 类型中位数缓存 */
+    private final Map<String, Long> typeMedians = new HashMap<>();
+
+    public CaseDurationEstimator(double decay, Map<String, Long> typeDefaults, long globalDefault) {
+        this.decay = decay > 0 && decay <= 1 ? decay : 0.7D;
+        this.typeDefaults = typeDefaults == null ? Collections.<String, Long>emptyMap() : typeDefaults;
+        this.globalDefault = globalDefault;
+    }
+
+    /**
+     * 登记用例历史耗时
+     *
+     * @param caseId 用例ID
+     * @param caseType 用例类型
+     * @param durationsNewestFirst 历史耗时(毫秒)，最近的在前
+     */
+    public void addHistory(Long caseId, String caseType, List<Long> durationsNewestFirst) {
+        double weightedSum = 0D;
+        double weightSum = 0D;
+        double weight = 1D;
+        for (Long duration : durationsNewestFirst) {
+            if (duration == null || duration <= 0) {
+                continue;
+            }
+            weightedSum += duration * weight;
+            weightSum += weight;
+            weight *= decay;
+        }
+        if (weightSum == 0D) {
+            return;
+        }
+        long estimate = Math.round(weightedSum / weightSum);
+        caseEstimates.put(caseId, estimate);
+        typeSamples.computeIfAbsent(normalizeType(caseType), k -> new ArrayList<>()).add(estimate);
+        typeMedians.remove(normalizeType(caseType));
+    }
+
+    /**
+     * 预估用例耗时
+     *
+     * @param caseId 用例ID
+     * @param caseType 用例类型
+     * @return 预估耗时(毫秒)
+     */
+    public long estimate(Long caseId, String caseType) {
+        Long estimate = caseEstimates.get(caseId);
+        if (estimate != null) {
+            return estimate;
+        }
+        String type = normalizeType(caseType);
+        Long median = typeMedians.get(type);
+        if (median == null) {
+            List<Long> samples = typeSamples.get(type);
+            if (samples != null && !samples.isEmpty()) {
+                List<Long> sorted = new ArrayList<>(samples);
+                Collections.sort(sorted);
+                median = sorted.get(sorted.size() / 2);
+                typeMedians.put(type, median);
+            }
+        }
+        if (median != null) {
+            return median;
+        }
+        Long typeDefault = typeDefaults.get(type);
+        return typeDefault != null ? typeDefault : globalDefault;
+    }
+
+    /**
+     * 是否有该用例的历史记录
+     */
+    public boolean hasHistory(Long caseId) {
+        return caseEstimates.containsKey(caseId);
+    }
+
+    private static String normalizeType(String caseType) {
+        return caseType == null ? "" : caseType.trim().toUpperCase(Locale.ROOT);
+    }
+}
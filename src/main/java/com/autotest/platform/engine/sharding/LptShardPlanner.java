@@ -0,0 +1,54 @@
+package com.autotest.platform.engine.sharding;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 最长处理时间优先(LPT)分片规划
+ * <p>
+ * 用例按预估耗时从长到短依次分配给加入后完成时间最早的节点，
+ * 节点速度不同时按速度折算；LPT 的完成时间不超过最优解的 4/3。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class LptShardPlanner {
+
+    /**
+     * 生成分片计划
+     *
+     * @param cases 待执行用例
+     * @param workers 执行节点
+     * @return 分片计划
+     */
+    public ShardPlan plan(Collection<ShardCase> cases, List<WorkerSlot> workers) {
+        if (workers == null || workers.isEmpty()) {
+            throw new IllegalArgumentException("执行节点不能为空");
+        }
+        List<ShardCase> sorted = new ArrayList<>(cases);
+        // 耗时相同时按执行用例ID排序，保证计划稳定
+        sorted.sort(Comparator.comparingLong(ShardCase::getEstimatedMillis).reversed()
+                .thenComparing(ShardCase::getExecutionCaseId, Comparator.nullsLast(Comparator.naturalOrder())));
+        List<Shard> shards = new ArrayList<>(workers.size());
+        for (WorkerSlot worker : workers) {
+            shards.add(new Shard(worker));
+        }
+        long total = 0L;
+        for (ShardCase shardCase : sorted) {
+            Shard target = shards.get(0);
+            long best = target.loadWith(shardCase);
+            for (int i = 1; i < shards.size(); i++) {
+                long load = shards.get(i).loadWith(shardCase);
+                if (load < best) {
+                    best = load;
+                    target = shards.get(i);
+                }
+            }
+            target.add(shardCase);
+            total += shardCase.getEstimatedMillis();
+        }
+        return new ShardPlan(shards, total);
+    }
+}
@@ -0,0 +1,58 @@
+package com.autotest.platform.engine.sharding;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 单个节点的分片
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class Shard {
+
+    private final WorkerSlot worker;
+
+    /** 分配的用例，按预估耗时从长到短排列 */
+    private final List<ShardCase> cases = new ArrayList<>();
+
+    /** 按节点速度折算后的预估耗时(毫秒) */
+    private long estimatedMillis;
+
+    public Shard(WorkerSlot worker) {
+        this.worker = worker;
+    }
+
+    void add(ShardCase shardCase) {
+        cases.add(shardCase);
+        estimatedMillis += scaled(shardCase.getEstimatedMillis());
+    }
+
+    /**
+     * 加入指定用例后的预估耗时
+     */
+    long loadWith(ShardCase shardCase) {
+        return estimatedMillis + scaled(shardCase.getEstimatedMillis());
+    }
+
+    private long scaled(long millis) {
+        return (long) Math.ceil(millis / worker.getSpeedFactor());
+    }
+
+    public WorkerSlot getWorker() {
+        return worker;
+    }
+
+    public String getWorkerId() {
+        return worker.getWorkerId();
+    }
+
+    public List<ShardCase> getCases() {
+        return Collections.unmodifiableList(cases);
+    }
+
+    public long getEstimatedMillis() {
+        return estimatedMillis;
+    }
+}
@@ -0,0 +1,50 @@
+package com.autotest.platform.engine.sharding;
+
+/**
+ * 待分片的执行用例
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ShardCase {
+
+    /** 执行用例ID */
+    private final Long executionCaseId;
+
+    /** 用例ID */
+    private final Long caseId;
+
+    /** 用例类型 */
+    private final String caseType;
+
+    /** 预估耗时(毫秒) */
+    private final long estimatedMillis;
+
+    public ShardCase(Long executionCaseId, Long caseId, String caseType, long estimatedMillis) {
+        this.executionCaseId = executionCaseId;
+        this.caseId = caseId;
+        this.caseType = caseType;
+        this.estimatedMillis = estimatedMillis;
+    }
+
+    public Long getExecutionCaseId() {
+        return executionCaseId;
+    }
+
+    public Long getCaseId() {
+        return caseId;
+    }
+
+    public String getCaseType() {
+        return caseType;
+    }
+
+    public long getEstimatedMillis() {
+        return estimatedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "ShardCase{executionCaseId=" + executionCaseId + ", caseId=" + caseId + ", estimatedMillis=" + estimatedMillis + "}";
+    }
+}
@@ -0,0 +1,50 @@
+package com.autotest.platform.engine.sharding;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 分片计划
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ShardPlan {
+
+    private final List<Shard> shards;
+
+    /** 全部用例预估耗时之和(毫秒) */
+    private final long totalEstimatedMillis;
+
+    public ShardPlan(List<Shard> shards, long totalEstimatedMillis) {
+        this.shards = Collections.unmodifiableList(shards);
+        this.totalEstimatedMillis = totalEstimatedMillis;
+    }
+
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    public long getTotalEstimatedMillis() {
+        return totalEstimatedMillis;
+    }
+
+    /**
+     * 预估完成时间，即最慢分片的耗时
+     */
+    public long getMakespanMillis() {
+        long makespan = 0L;
+        for (Shard shard : shards) {
+            makespan = Math.max(makespan, shard.getEstimatedMillis());
+        }
+        return makespan;
+    }
+
+    public int getCaseCount() {
+        int count = 0;
+        for (Shard shard : shards) {
+            count += shard.getCases().size();
+        }
+        return count;
+    }
+}
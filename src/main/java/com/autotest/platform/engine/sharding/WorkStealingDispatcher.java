@@ -0,0 +1,152 @@
+package com.autotest.platform.engine.sharding;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 分片执行调度器
+ * <p>
+ * 节点先按计划从自己队列头部取用例(长用例在前)，队列取空后从剩余预估耗时最多的节点队列尾部窃取短用例，
+ * 用于消化预估误差导致的尾部空闲。每个用例只会被分发一次。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class WorkStealingDispatcher {
+
+    private final Map<String, WorkerQueue> queues = new LinkedHashMap<>();
+
+    private final AtomicInteger stolenCount = new AtomicInteger();
+
+    public WorkStealingDispatcher(ShardPlan plan) {
+        for (Shard shard : plan.getShards()) {
+            WorkerQueue queue = new WorkerQueue();
+            for (ShardCase shardCase : shard.getCases()) {
+                queue.offer(shardCase);
+            }
+            queues.put(shard.getWorkerId(), queue);
+        }
+    }
+
+    /**
+     * 获取节点下一个要执行的用例
+     *
+     * @param workerId 节点标识
+     * @return 用例，全部分发完毕时返回null
+     */
+    public ShardCase next(String workerId) {
+        WorkerQueue own = queues.get(workerId);
+        if (own != null) {
+            ShardCase shardCase = own.pollFirst();
+            if (shardCase != null) {
+                return shardCase;
+            }
+        }
+        return steal(workerId);
+    }
+
+    private ShardCase steal(String thiefId) {
+        while (true) {
+            WorkerQueue victim = null;
+            long maxRemaining = 0L;
+            for (Map.Entry<String, WorkerQueue> entry : queues.entrySet()) {
+                if (entry.getKey().equals(thiefId)) {
+                    continue;
+                }
+                long remaining = entry.getValue().remainingMillis();
+                if (remaining > maxRemaining || (victim == null && entry.getValue().size() > 0)) {
+                    maxRemaining = remaining;
+                    victim = entry.getValue();
+                }
+            }
+            if (victim == null) {
+                return null;
+            }
+            ShardCase stolen = victim.pollLast();
+            if (stolen != null) {
+                stolenCount.incrementAndGet();
+                return stolen;
+            }
+            // 选中的队列刚被取空，重新选择
+        }
+    }
+
+    /**
+     * 节点队列中尚未分发用例的预估耗时
+     */
+    public long remainingMillis(String workerId) {
+        WorkerQueue queue = queues.get(workerId);
+        return queue == null ? 0L : queue.remainingMillis();
+    }
+
+    /**
+     * 尚未分发的用例数
+     */
+    public int remainingCases() {
+        int count = 0;
+        for (WorkerQueue queue : queues.values()) {
+            count += queue.size();
+        }
+        return count;
+    }
+
+    /**
+     * 被窃取的用例数
+     */
+    public int getStolenCount() {
+        return stolenCount.get();
+    }
+
+    /**
+     * 各节点剩余用例数
+     */
+    public Map<String, Integer> snapshot() {
+        Map<String, Integer> snapshot = new LinkedHashMap<>();
+        for (Map.Entry<String, WorkerQueue> entry : queues.entrySet()) {
+            snapshot.put(entry.getKey(), entry.getValue().size());
+        }
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * 单节点队列，头部由所属节点消费，尾部供其他节点窃取
+     */
+    private static class WorkerQueue {
+
+        private final Deque<ShardCase> deque = new ArrayDeque<>();
+
+        private volatile long remainingMillis;
+
+        synchronized void offer(ShardCase shardCase) {
+            deque.addLast(shardCase);
+            remainingMillis += shardCase.getEstimatedMillis();
+        }
+
+        synchronized ShardCase pollFirst() {
+            return take(deque.pollFirst());
+        }
+
+        synchronized ShardCase pollLast() {
+            return take(deque.pollLast());
+        }
+
+        private ShardCase take(ShardCase shardCase) {
+            if (shardCase != null) {
+                remainingMillis -= shardCase.getEstimatedMillis();
+            }
+            return shardCase;
+        }
+
+        long remainingMillis() {
+            return remainingMillis;
+        }
+
+        synchronized int size() {
+            return deque.size();
+        }
+    }
+}
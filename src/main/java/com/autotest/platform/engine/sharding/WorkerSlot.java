@@ -0,0 +1,33 @@
+package com.autotest.platform.engine.sharding;
+
+/**
+ * 执行节点
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class WorkerSlot {
+
+    /** 节点标识 */
+    private final String workerId;
+
+    /** 相对速度(1.0为基准，2.0表示同一用例耗时减半) */
+    private final double speedFactor;
+
+    public WorkerSlot(String workerId) {
+        this(workerId, 1.0D);
+    }
+
+    public WorkerSlot(String workerId, double speedFactor) {
+        this.workerId = workerId;
+        this.speedFactor = speedFactor > 0 ? speedFactor : 1.0D;
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    public double getSpeedFactor() {
+        return speedFactor;
+    }
+}
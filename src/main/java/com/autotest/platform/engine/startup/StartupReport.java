@@ -0,0 +1,121 @@
+package com.autotest.platform.engine.startup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 启动耗时报告
+ * <p>
+ * 由启动时间线汇总：顶层步骤按名称汇总为阶段耗时；嵌套步骤(如Bean实例化时触发依赖Bean的实例化)
+ * 扣除子步骤后得到自身耗时，据此找出真正拖慢启动的Bean，避免父Bean把依赖的耗时算在自己头上。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class StartupReport {
+
+    private final String role;
+
+    private final List<StartupStep> steps;
+
+    /** 从JVM启动到应用就绪的耗时(毫秒) */
+    private final long readyMillis;
+
+    public StartupReport(String role, List<StartupStep> steps, long readyMillis) {
+        this.role = role;
+        this.steps = steps;
+        this.readyMillis = readyMillis;
+        Map<Long, Long> childMillis = new HashMap<>();
+        for (StartupStep step : steps) {
+            if (step.getParentId() != null) {
+                childMillis.merge(step.getParentId(), step.getDurationMillis(), Long::sum);
+            }
+        }
+        for (StartupStep step : steps) {
+            Long children = childMillis.get(step.getId());
+            if (children != null) {
+                step.setSelfMillis(Math.max(0L, step.getDurationMillis() - children));
+            }
+        }
+    }
+
+    /**
+     * 各阶段耗时，按顶层步骤首次出现的顺序
+     *
+     * @return 阶段名称 -> 耗时(毫秒)
+     */
+    public Map<String, Long> getPhaseMillis() {
+        Map<String, Long> phases = new LinkedHashMap<>();
+        for (StartupStep step : steps) {
+            if (step.getParentId() == null) {
+                phases.merge(step.getName(), step.getDurationMillis(), Long::sum);
+            }
+        }
+        return phases;
+    }
+
+    /**
+     * 顶层步骤总耗时(毫秒)
+     */
+    public long getTotalMillis() {
+        long total = 0;
+        for (StartupStep step : steps) {
+            if (step.getParentId() == null) {
+                total += step.getDurationMillis();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 按自身耗时倒序的步骤
+     *
+     * @param name 步骤名称，为null时不限
+     * @param top 返回条数
+     * @return 步骤列表
+     */
+    public List<StartupStep> slowest(String name, int top) {
+        List<StartupStep> matched = new ArrayList<>();
+        for (StartupStep step : steps) {
+            if (name == null || name.equals(step.getName())) {
+                matched.add(step);
+            }
+        }
+        matched.sort(Comparator.comparingLong(StartupStep::getSelfMillis).reversed());
+        return matched.size() > top ? new ArrayList<>(matched.subList(0, top)) : matched;
+    }
+
+    public String getRole() {
+        return role;
+    }
+
+    public long getReadyMillis() {
+        return readyMillis;
+    }
+
+    public int getStepCount() {
+        return steps.size();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("启动角色[").append(role).append("] 就绪耗时").append(readyMillis).append("ms");
+        for (Map.Entry<String, Long> phase : getPhaseMillis().entrySet()) {
+            sb.append("\n  ").append(phase.getKey()).append(": ").append(phase.getValue()).append("ms");
+        }
+        List<StartupStep> beans = slowest("spring.beans.instantiate", 10);
+        if (!beans.isEmpty()) {
+            sb.append("\n  最慢Bean(自身/含依赖):");
+            for (StartupStep step : beans) {
+                sb.append("\n    ").append(step.getDetail()).append(" ").append(step.getSelfMillis())
+                        .append("/").append(step.getDurationMillis()).append("ms");
+            }
+        }
+        return sb.toString();
+    }
+}
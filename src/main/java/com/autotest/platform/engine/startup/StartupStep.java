@@ -0,0 +1,69 @@
+package com.autotest.platform.engine.startup;
+
+/**
+ * 启动步骤记录，对应 Spring ApplicationStartup 时间线中的一个步骤
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class StartupStep {
+
+    private final long id;
+
+    /** 父步骤ID，顶层步骤为null */
+    private final Long parentId;
+
+    /** 步骤名称，如 spring.beans.instantiate */
+    private final String name;
+
+    /** 步骤说明，如Bean名称 */
+    private final String detail;
+
+    /** 含子步骤的耗时(毫秒) */
+    private final long durationMillis;
+
+    /** 扣除子步骤后的自身耗时(毫秒)，由 {@link StartupReport} 计算 */
+    private long selfMillis;
+
+    public StartupStep(long id, Long parentId, String name, String detail, long durationMillis) {
+        this.id = id;
+        this.parentId = parentId;
+        this.name = name;
+        this.detail = detail;
+        this.durationMillis = durationMillis;
+        this.selfMillis = durationMillis;
+    }
+
+    void setSelfMillis(long selfMillis) {
+        this.selfMillis = selfMillis;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDetail() {
+        return detail;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public long getSelfMillis() {
+        return selfMillis;
+    }
+
+    @Override
+    public String toString() {
+        return name + (detail == null ? "" : "[" + detail + "]") + " " + selfMillis + "/" + durationMillis + "ms";
+    }
+}
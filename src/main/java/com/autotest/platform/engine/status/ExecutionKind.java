@@ -0,0 +1,16 @@
+package com.autotest.platform.engine.status;
+
+/**
+ * 执行类型，不同类型的执行ID相互独立
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public enum ExecutionKind {
+
+    /** 测试执行(test_execution) */
+    TEST,
+
+    /** 流水线执行(pipeline_execution) */
+    PIPELINE
+}
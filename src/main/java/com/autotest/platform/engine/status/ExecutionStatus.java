@@ -0,0 +1,174 @@
+package com.autotest.platform.engine.status;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 执行状态快照，不可变；每次变化生成新快照并递增版本号
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ExecutionStatus {
+
+    /** 终态，进入终态后不会再有变化 */
+    private static final Set<String> FINISHED_STATUSES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "COMPLETED", "SUCCESS", "FAILED", "CANCELLED", "STOPPED", "TIMEOUT")));
+
+    private final Long executionId;
+
+    private final String status;
+
+    /** 版本号，供客户端长轮询时携带 */
+    private final long version;
+
+    private final int totalCases;
+
+    private final int passedCases;
+
+    private final int failedCases;
+
+    private final int skippedCases;
+
+    private final LocalDateTime startTime;
+
+    private final LocalDateTime endTime;
+
+    private final String errorMessage;
+
+    /** 快照生成时间(毫秒) */
+    private final long updateTime;
+
+    public ExecutionStatus(Long executionId, String status, long version, int totalCases, int passedCases,
+                           int failedCases, int skippedCases, LocalDateTime startTime, LocalDateTime endTime,
+                           String errorMessage, long updateTime) {
+        this.executionId = executionId;
+        this.status = status;
+        this.version = version;
+        this.totalCases = totalCases;
+        this.passedCases = passedCases;
+        this.failedCases = failedCases;
+        this.skippedCases = skippedCases;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.errorMessage = errorMessage;
+        this.updateTime = updateTime;
+    }
+
+    /**
+     * 变更状态，状态和错误信息都未变化时返回自身
+     */
+    public ExecutionStatus withStatus(String newStatus, String newErrorMessage, long now) {
+        String message = newErrorMessage != null ? newErrorMessage : errorMessage;
+        if (Objects.equals(status, newStatus) && Objects.equals(errorMessage, message)) {
+            return this;
+        }
+        LocalDateTime time = LocalDateTime.now();
+        LocalDateTime start = startTime == null && "RUNNING".equals(newStatus) ? time : startTime;
+        LocalDateTime end = endTime == null && isFinished(newStatus) ? time : endTime;
+        return new ExecutionStatus(executionId, newStatus, version + 1, totalCases, passedCases, failedCases,
+                skippedCases, start, end, message, now);
+    }
+
+    /**
+     * 变更进度，计数都未变化时返回自身
+     */
+    public ExecutionStatus withProgress(int total, int passed, int failed, int skipped, long now) {
+        if (total == totalCases && passed == passedCases && failed == failedCases && skipped == skippedCases) {
+            return this;
+        }
+        return new ExecutionStatus(executionId, status, version + 1, total, passed, failed, skipped, startTime,
+                endTime, errorMessage, now);
+    }
+
+    /**
+     * 合并从库里重新读取的快照：状态、计数和错误信息都一致时返回自身，否则以库中内容生成下一版本
+     */
+    public ExecutionStatus reconcile(ExecutionStatus loaded, long now) {
+        if (Objects.equals(status, loaded.status) && totalCases == loaded.totalCases
+                && passedCases == loaded.passedCases && failedCases == loaded.failedCases
+                && skippedCases == loaded.skippedCases && Objects.equals(errorMessage, loaded.errorMessage)) {
+            return this;
+        }
+        return new ExecutionStatus(executionId, loaded.status, version + 1, loaded.totalCases, loaded.passedCases,
+                loaded.failedCases, loaded.skippedCases, loaded.startTime, loaded.endTime, loaded.errorMessage, now);
+    }
+
+    public static boolean isFinished(String status) {
+        return status != null && FINISHED_STATUSES.contains(status);
+    }
+
+    public boolean isFinished() {
+        return isFinished(status);
+    }
+
+    /**
+     * 已完成用例数
+     */
+    public int getCompletedCases() {
+        return passedCases + failedCases + skippedCases;
+    }
+
+    /**
+     * 通过率(%)，无已完成用例时为0
+     */
+    public double getPassRate() {
+        int completed = getCompletedCases();
+        return completed == 0 ? 0D : Math.round(passedCases * 10000D / completed) / 100D;
+    }
+
+    /**
+     * 进度(%)
+     */
+    public double getProgress() {
+        return totalCases == 0 ? 0D : Math.min(100D, Math.round(getCompletedCases() * 10000D / totalCases) / 100D);
+    }
+
+    public Long getExecutionId() {
+        return executionId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getTotalCases() {
+        return totalCases;
+    }
+
+    public int getPassedCases() {
+        return passedCases;
+    }
+
+    public int getFailedCases() {
+        return failedCases;
+    }
+
+    public int getSkippedCases() {
+        return skippedCases;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public long getUpdateTime() {
+        return updateTime;
+    }
+}
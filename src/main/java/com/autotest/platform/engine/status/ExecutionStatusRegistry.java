@@ -0,0 +1,283 @@
+package com.autotest.platform.engine.status;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * 执行状态注册表
+ * <p>
+ * 在内存中保存被查询过的执行的最新状态，轮询直接读取快照而不查库；长轮询请求以 {@link CompletableFuture}
+ * 挂起，状态变化时在变更线程上立即完成，挂起期间不占用任何线程。
+ * 只有被查询过的执行才会登记，未登记的执行变更时直接忽略，下次查询时从库里加载最新状态。
+ * 其他节点或直接改库的变更不会经过本注册表，登记超过 {@code refreshMillis} 未核对的执行在下次查询时回读一次。
+ * 终态执行保留 {@code retainMillis} 后由 {@link #evictExpired} 清理，总数超过 {@code maxEntries} 时
+ * 淘汰最久未变化且无挂起请求的执行。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ExecutionStatusRegistry {
+
+    private final int maxEntries;
+
+    private final long retainMillis;
+
+    private final int maxWaiters;
+
+    /** 登记多久未与库核对后回读 */
+    private final long refreshMillis;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /** 当前挂起的请求数 */
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public ExecutionStatusRegistry(int maxEntries, long retainMillis, int maxWaiters, long refreshMillis) {
+        this.maxEntries = maxEntries;
+        this.retainMillis = retainMillis;
+        this.maxWaiters = maxWaiters;
+        this.refreshMillis = refreshMillis;
+    }
+
+    /**
+     * 获取状态，未登记时通过加载函数加载并登记；登记超过核对间隔时由一个调用方回读，其余调用方直接读快照
+     *
+     * @param executionId 执行ID
+     * @param loader 加载函数，执行不存在时返回null
+     * @return 状态快照，执行不存在时为null
+     */
+    public ExecutionStatus get(Long executionId, Supplier<ExecutionStatus> loader) {
+        Entry entry = entries.get(executionId);
+        if (entry == null) {
+            return register(executionId, loader);
+        }
+        if (entry.claimRefresh(System.currentTimeMillis(), refreshMillis)) {
+            return reload(executionId, loader);
+        }
+        return entry.status;
+    }
+
+    /**
+     * 从库里回读并合并到登记的状态，内容变化时唤醒挂起请求；执行已不存在时移除登记
+     *
+     * @param executionId 执行ID
+     * @param loader 加载函数，执行不存在时返回null
+     * @return 最新状态快照，执行不存在时为null
+     */
+    public ExecutionStatus reload(Long executionId, Supplier<ExecutionStatus> loader) {
+        ExecutionStatus loaded = loader.get();
+        if (loaded == null) {
+            remove(executionId);
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(executionId);
+        if (entry == null) {
+            entry = entries.putIfAbsent(executionId, new Entry(loaded, now));
+            return entry == null ? loaded : entry.status;
+        }
+        entry.verifiedTime = now;
+        ExecutionStatus merged = update(executionId, current -> current.reconcile(loaded, now));
+        return merged != null ? merged : loaded;
+    }
+
+    /**
+     * 获取已登记的状态
+     *
+     * @param executionId 执行ID
+     * @return 状态快照，未登记时为null
+     */
+    public ExecutionStatus peek(Long executionId) {
+        Entry entry = entries.get(executionId);
+        return entry == null ? null : entry.status;
+    }
+
+    /**
+     * 变更已登记执行的状态，有变化时唤醒全部挂起请求
+     *
+     * @param executionId 执行ID
+     * @param change 变更函数，无变化时返回原快照
+     * @return 变更后的快照，未登记时为null
+     */
+    public ExecutionStatus update(Long executionId, UnaryOperator<ExecutionStatus> change) {
+        Entry entry = entries.get(executionId);
+        if (entry == null) {
+            return null;
+        }
+        ExecutionStatus next;
+        List<CompletableFuture<ExecutionStatus>> ready;
+        synchronized (entry) {
+            next = change.apply(entry.status);
+            if (next == entry.status) {
+                return next;
+            }
+            entry.status = next;
+            ready = entry.waiters;
+            entry.waiters = null;
+        }
+        if (ready != null) {
+            for (CompletableFuture<ExecutionStatus> future : ready) {
+                future.complete(next);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * 等待状态版本变化
+     * <p>
+     * 当前版本与客户端已知版本不同、执行已结束或挂起请求数已达上限时返回已完成的结果，
+     * 调用方通过比较版本号判断是否有变化。超时后调用方应取消返回的Future以释放登记。
+     *
+     * @param executionId 执行ID
+     * @param knownVersion 客户端已知版本
+     * @return 变化后的状态，执行未登记时为null
+     */
+    public CompletableFuture<ExecutionStatus> awaitChange(Long executionId, long knownVersion) {
+        Entry entry = entries.get(executionId);
+        if (entry == null) {
+            return null;
+        }
+        CompletableFuture<ExecutionStatus> future;
+        synchronized (entry) {
+            ExecutionStatus current = entry.status;
+            if (current.getVersion() != knownVersion || current.isFinished() || waiting.get() >= maxWaiters) {
+                return CompletableFuture.completedFuture(current);
+            }
+            future = new CompletableFuture<>();
+            if (entry.waiters == null) {
+                entry.waiters = new ArrayList<>(4);
+            }
+            entry.waiters.add(future);
+            waiting.incrementAndGet();
+        }
+        future.whenComplete((status, error) -> {
+            waiting.decrementAndGet();
+            if (future.isCancelled()) {
+                synchronized (entry) {
+                    if (entry.waiters != null) {
+                        entry.waiters.remove(future);
+                    }
+                }
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 清理过期的终态执行，并在超出容量时淘汰最久未变化的执行
+     *
+     * @param now 当前时间(毫秒)
+     * @return 清理的执行数
+     */
+    public int evictExpired(long now) {
+        int evicted = 0;
+        List<Map.Entry<Long, Entry>> idle = new ArrayList<>();
+        for (Map.Entry<Long, Entry> item : entries.entrySet()) {
+            Entry entry = item.getValue();
+            if (entry.hasWaiters()) {
+                continue;
+            }
+            ExecutionStatus status = entry.status;
+            if (status.isFinished() && now - status.getUpdateTime() > retainMillis) {
+                if (entries.remove(item.getKey(), entry)) {
+                    evicted++;
+                }
+            } else {
+                idle.add(item);
+            }
+        }
+        int overflow = entries.size() - maxEntries;
+        if (overflow > 0) {
+            idle.sort(Comparator.comparingLong(item -> item.getValue().status.getUpdateTime()));
+            for (int i = 0; i < idle.size() && overflow > 0; i++) {
+                Map.Entry<Long, Entry> item = idle.get(i);
+                if (!item.getValue().hasWaiters() && entries.remove(item.getKey(), item.getValue())) {
+                    evicted++;
+                    overflow--;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * 移除执行，挂起请求以当前状态返回
+     *
+     * @param executionId 执行ID
+     */
+    public void remove(Long executionId) {
+        Entry entry = entries.remove(executionId);
+        if (entry == null) {
+            return;
+        }
+        List<CompletableFuture<ExecutionStatus>> ready;
+        synchronized (entry) {
+            ready = entry.waiters;
+            entry.waiters = null;
+        }
+        if (ready != null) {
+            for (CompletableFuture<ExecutionStatus> future : ready) {
+                future.complete(entry.status);
+            }
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 在 computeIfAbsent 之外查库，加载期间不占用 ConcurrentHashMap 的桶锁；并发首次加载时先登记者胜出
+     */
+    private ExecutionStatus register(Long executionId, Supplier<ExecutionStatus> loader) {
+        ExecutionStatus loaded = loader.get();
+        if (loaded == null) {
+            return null;
+        }
+        Entry existing = entries.putIfAbsent(executionId, new Entry(loaded, System.currentTimeMillis()));
+        return existing == null ? loaded : existing.status;
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    private static final class Entry {
+
+        private volatile ExecutionStatus status;
+
+        /** 最近一次与库核对(加载或回读)的时间 */
+        private volatile long verifiedTime;
+
+        /** 挂起的请求，由entry锁保护 */
+        private List<CompletableFuture<ExecutionStatus>> waiters;
+
+        private Entry(ExecutionStatus status, long verifiedTime) {
+            this.status = status;
+            this.verifiedTime = verifiedTime;
+        }
+
+        /**
+         * 超过核对间隔时认领本次回读，同一时刻只有一个调用方回读
+         */
+        private synchronized boolean claimRefresh(long now, long refreshMillis) {
+            if (now - verifiedTime <= refreshMillis) {
+                return false;
+            }
+            verifiedTime = now;
+            return true;
+        }
+
+        private synchronized boolean hasWaiters() {
+            return waiters != null && !waiters.isEmpty();
+        }
+    }
+}
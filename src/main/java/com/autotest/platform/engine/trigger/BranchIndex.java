@@ -0,0 +1,126 @@
+package com.autotest.platform.engine.trigger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 一组规则的分支匹配结构，构建后不可变
+ * <p>
+ * 不含通配符的分支走哈希表；{@code release/*}、{@code feature/**} 这类前缀通配编入前缀树，
+ * 沿分支名逐字符走一遍即可取出全部命中规则；其余通配(如 {@code hotfix-*-v?})才逐个用正则匹配。
+ * 未配置分支过滤的规则对任意分支生效。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+final class BranchIndex {
+
+    private final List<TriggerRule> anyBranch = new ArrayList<>();
+
+    private final Map<String, List<TriggerRule>> exact = new HashMap<>();
+
+    private final Node root = new Node();
+
+    private final List<Pattern> patterns = new ArrayList<>();
+
+    private final List<TriggerRule> patternRules = new ArrayList<>();
+
+    private BranchIndex() {
+    }
+
+    static BranchIndex build(Collection<TriggerRule> rules) {
+        BranchIndex index = new BranchIndex();
+        for (TriggerRule rule : rules) {
+            if (rule.getBranchPatterns().isEmpty()) {
+                index.anyBranch.add(rule);
+                continue;
+            }
+            for (String pattern : rule.getBranchPatterns()) {
+                index.add(pattern, rule);
+            }
+        }
+        return index;
+    }
+
+    private void add(String pattern, TriggerRule rule) {
+        int wildcard = firstWildcard(pattern);
+        if (wildcard < 0) {
+            exact.computeIfAbsent(pattern, k -> new ArrayList<>(2)).add(rule);
+            return;
+        }
+        if (pattern.endsWith("**") && wildcard == pattern.length() - 2) {
+            node(pattern.substring(0, wildcard)).anyRest.add(rule);
+        } else if (pattern.endsWith("*") && wildcard == pattern.length() - 1) {
+            node(pattern.substring(0, wildcard)).oneSegment.add(rule);
+        } else {
+            patterns.add(Pattern.compile(PathGlob.toRegex(pattern)));
+            patternRules.add(rule);
+        }
+    }
+
+    private Node node(String prefix) {
+        Node node = root;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = node.children.computeIfAbsent(prefix.charAt(i), k -> new Node());
+        }
+        return node;
+    }
+
+    /**
+     * 收集命中分支的规则
+     *
+     * @param branch 分支，为null时只命中不限分支的规则
+     * @param out 命中的规则
+     */
+    void collect(String branch, Set<TriggerRule> out) {
+        out.addAll(anyBranch);
+        if (branch == null) {
+            return;
+        }
+        List<TriggerRule> exactRules = exact.get(branch);
+        if (exactRules != null) {
+            out.addAll(exactRules);
+        }
+        Node node = root;
+        for (int i = 0; node != null; i++) {
+            if (!node.anyRest.isEmpty()) {
+                out.addAll(node.anyRest);
+            }
+            if (!node.oneSegment.isEmpty() && branch.indexOf('/', i) < 0) {
+                out.addAll(node.oneSegment);
+            }
+            node = i < branch.length() ? node.children.get(branch.charAt(i)) : null;
+        }
+        for (int i = 0; i < patterns.size(); i++) {
+            if (patterns.get(i).matcher(branch).matches()) {
+                out.add(patternRules.get(i));
+            }
+        }
+    }
+
+    private static int firstWildcard(String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == '{') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static final class Node {
+
+        private final Map<Character, Node> children = new HashMap<>(4);
+
+        /** 前缀后接 ** 的规则，剩余部分任意 */
+        private final List<TriggerRule> anyRest = new ArrayList<>(0);
+
+        /** 前缀后接 * 的规则，剩余部分不含 / */
+        private final List<TriggerRule> oneSegment = new ArrayList<>(0);
+    }
+}
@@ -0,0 +1,94 @@
+package com.autotest.platform.engine.trigger;
+
+import java.util.regex.Pattern;
+
+/**
+ * 文件路径通配符
+ * <p>
+ * {@code **} 匹配任意多级目录，{@code *} 匹配一级目录内的任意字符，{@code ?} 匹配单个字符；
+ * 不含 {@code /} 的模式(如 {@code *.md})按文件名匹配任意目录下的文件。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public final class PathGlob {
+
+    private final String pattern;
+
+    private final Pattern regex;
+
+    /** 是否按文件名匹配 */
+    private final boolean nameOnly;
+
+    private PathGlob(String pattern, Pattern regex, boolean nameOnly) {
+        this.pattern = pattern;
+        this.regex = regex;
+        this.nameOnly = nameOnly;
+    }
+
+    public static PathGlob compile(String pattern) {
+        String normalized = pattern.trim().replace('\\', '/');
+        while (normalized.startsWith("/")) {
+            normalized = normalized.substring(1);
+        }
+        if (normalized.endsWith("/")) {
+            normalized = normalized + "**";
+        }
+        boolean nameOnly = normalized.indexOf('/') < 0;
+        return new PathGlob(pattern, Pattern.compile(toRegex(normalized)), nameOnly);
+    }
+
+    /**
+     * 通配符转正则
+     *
+     * @param glob 通配符
+     * @return 正则表达式
+     */
+    static String toRegex(String glob) {
+        StringBuilder sb = new StringBuilder(glob.length() + 8);
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*') {
+                if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                    i++;
+                    // "**/" 也匹配零级目录
+                    if (i + 1 < glob.length() && glob.charAt(i + 1) == '/') {
+                        i++;
+                        sb.append("(?:.*/)?");
+                    } else {
+                        sb.append(".*");
+                    }
+                } else {
+                    sb.append("[^/]*");
+                }
+            } else if (c == '?') {
+                sb.append("[^/]");
+            } else if ("\\.[]{}()+-^$|".indexOf(c) >= 0) {
+                sb.append('\\').append(c);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    public boolean matches(String path) {
+        if (path == null) {
+            return false;
+        }
+        String normalized = path.replace('\\', '/');
+        if (nameOnly) {
+            normalized = normalized.substring(normalized.lastIndexOf('/') + 1);
+        }
+        return regex.matcher(normalized).matches();
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
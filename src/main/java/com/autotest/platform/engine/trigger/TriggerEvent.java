@@ -0,0 +1,72 @@
+package com.autotest.platform.engine.trigger;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * 待匹配的Webhook事件
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class TriggerEvent {
+
+    /** 事件所属项目，未知时为null */
+    private final Long projectId;
+
+    private final String repositoryUrl;
+
+    /** 事件来源：GITHUB/GITLAB/GITEE */
+    private final String eventSource;
+
+    /** 事件类型：push/merge_request/tag_push等 */
+    private final String eventType;
+
+    /** 分支，合并请求为目标分支 */
+    private final String branch;
+
+    /** 动作，如合并请求的 open/update/merge */
+    private final String action;
+
+    /** 变更文件，为空时不做文件过滤 */
+    private final Collection<String> changedFiles;
+
+    public TriggerEvent(Long projectId, String repositoryUrl, String eventSource, String eventType, String branch,
+                        String action, Collection<String> changedFiles) {
+        this.projectId = projectId;
+        this.repositoryUrl = repositoryUrl;
+        this.eventSource = eventSource;
+        this.eventType = eventType;
+        this.branch = branch;
+        this.action = action;
+        this.changedFiles = changedFiles == null ? Collections.emptyList() : changedFiles;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public String getRepositoryUrl() {
+        return repositoryUrl;
+    }
+
+    public String getEventSource() {
+        return eventSource;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getBranch() {
+        return branch;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public Collection<String> getChangedFiles() {
+        return changedFiles;
+    }
+}
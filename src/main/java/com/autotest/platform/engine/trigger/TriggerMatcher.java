@@ -0,0 +1,259 @@
+package com.autotest.platform.engine.trigger;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 触发规则匹配器
+ * <p>
+ * 启用的规则按 范围(仓库或项目) -> 事件来源|事件类型 分桶，每个桶编译为一个 {@link BranchIndex}。
+ * 匹配一个事件只需查找事件仓库、事件项目和全局默认三个范围下至多12个桶，再对命中分支的少量规则校验动作和文件过滤，
+ * 与规则总数无关。规则变更时只重建受影响的桶；匹配无锁，变更串行。
+ * 流水线随时可能在其他节点新增或停用，不在此缓存，每次解析时按命中规则的项目查询。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class TriggerMatcher {
+
+    /** 全局默认规则的项目ID */
+    public static final Long GLOBAL_PROJECT_ID = 0L;
+
+    private final Object lock = new Object();
+
+    /** 全部已索引规则，由lock保护 */
+    private final Map<Long, TriggerRule> rules = new HashMap<>();
+
+    /** 每个桶的规则，由lock保护 */
+    private final Map<String, List<TriggerRule>> bucketRules = new HashMap<>();
+
+    private final Map<String, BranchIndex> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 全量替换规则
+     *
+     * @param allRules 启用的规则
+     */
+    public void replaceAll(Collection<TriggerRule> allRules) {
+        synchronized (lock) {
+            Set<String> oldKeys = new HashSet<>(bucketRules.keySet());
+            rules.clear();
+            bucketRules.clear();
+            for (TriggerRule rule : allRules) {
+                if (rule.isAutoTrigger()) {
+                    rules.put(rule.getConfigId(), rule);
+                    bucketRules.computeIfAbsent(bucketKey(rule), k -> new ArrayList<>()).add(rule);
+                }
+            }
+            for (Map.Entry<String, List<TriggerRule>> bucket : bucketRules.entrySet()) {
+                buckets.put(bucket.getKey(), BranchIndex.build(bucket.getValue()));
+                oldKeys.remove(bucket.getKey());
+            }
+            for (String key : oldKeys) {
+                buckets.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 新增或替换一条规则，未开启自动触发的规则视为删除
+     *
+     * @param rule 规则
+     */
+    public void put(TriggerRule rule) {
+        synchronized (lock) {
+            Set<String> dirty = new HashSet<>();
+            removeLocked(rule.getConfigId(), dirty);
+            if (rule.isAutoTrigger()) {
+                rules.put(rule.getConfigId(), rule);
+                String key = bucketKey(rule);
+                bucketRules.computeIfAbsent(key, k -> new ArrayList<>()).add(rule);
+                dirty.add(key);
+            }
+            rebuild(dirty);
+        }
+    }
+
+    /**
+     * 删除一条规则
+     *
+     * @param configId 配置ID
+     */
+    public void remove(Long configId) {
+        synchronized (lock) {
+            Set<String> dirty = new HashSet<>();
+            removeLocked(configId, dirty);
+            rebuild(dirty);
+        }
+    }
+
+    /**
+     * 替换一个项目的全部规则，供项目触发器配置变更后增量刷新
+     *
+     * @param projectId 项目ID
+     * @param projectRules 项目当前启用的规则
+     */
+    public void replaceProject(Long projectId, Collection<TriggerRule> projectRules) {
+        synchronized (lock) {
+            Set<String> dirty = new HashSet<>();
+            List<Long> existing = new ArrayList<>();
+            for (TriggerRule rule : rules.values()) {
+                if (rule.getProjectId().equals(projectId)) {
+                    existing.add(rule.getConfigId());
+                }
+            }
+            for (Long configId : existing) {
+                removeLocked(configId, dirty);
+            }
+            for (TriggerRule rule : projectRules) {
+                removeLocked(rule.getConfigId(), dirty);
+                if (rule.isAutoTrigger()) {
+                    rules.put(rule.getConfigId(), rule);
+                    String key = bucketKey(rule);
+                    bucketRules.computeIfAbsent(key, k -> new ArrayList<>()).add(rule);
+                    dirty.add(key);
+                }
+            }
+            rebuild(dirty);
+        }
+    }
+
+    /**
+     * 匹配事件命中的规则，项目和仓库规则在前，全局默认规则在后
+     *
+     * @param event 事件
+     * @return 命中的规则
+     */
+    public List<TriggerRule> match(TriggerEvent event) {
+        String source = event.getEventSource() == null ? TriggerRule.ANY
+                : event.getEventSource().toUpperCase(Locale.ROOT);
+        String type = event.getEventType() == null ? TriggerRule.ANY : event.getEventType().toLowerCase(Locale.ROOT);
+        String branch = TriggerRule.normalizeBranch(event.getBranch());
+        Set<TriggerRule> candidates = new LinkedHashSet<>();
+        if (event.getRepositoryUrl() != null) {
+            collect(repositoryScope(TriggerRule.normalizeRepository(event.getRepositoryUrl())), source, type,
+                    branch, candidates);
+        }
+        if (event.getProjectId() != null && !GLOBAL_PROJECT_ID.equals(event.getProjectId())) {
+            collect(projectScope(event.getProjectId()), source, type, branch, candidates);
+        }
+        collect(projectScope(GLOBAL_PROJECT_ID), source, type, branch, candidates);
+        List<TriggerRule> matched = new ArrayList<>(candidates.size());
+        for (TriggerRule rule : candidates) {
+            if (rule.matchesDetails(event)) {
+                matched.add(rule);
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 解析事件需要触发的流水线，同一流水线只触发一次
+     *
+     * @param event 事件
+     * @param pipelineLoader 项目ID -> 可触发的流水线ID(按触发顺序)，每个项目只查询一次
+     * @return 待触发流水线
+     */
+    public List<TriggeredPipeline> resolve(TriggerEvent event, Function<Long, List<Long>> pipelineLoader) {
+        List<TriggeredPipeline> triggered = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        Map<Long, List<Long>> projectPipelines = new HashMap<>();
+        for (TriggerRule rule : match(event)) {
+            Long projectId = GLOBAL_PROJECT_ID.equals(rule.getProjectId()) ? event.getProjectId() : rule.getProjectId();
+            if (projectId == null) {
+                continue;
+            }
+            List<Long> pipelines = projectPipelines.computeIfAbsent(projectId, pipelineLoader);
+            if (pipelines == null) {
+                continue;
+            }
+            for (Long pipelineId : pipelines) {
+                if ((rule.getPipelineIds() == null || rule.getPipelineIds().contains(pipelineId))
+                        && seen.add(pipelineId)) {
+                    triggered.add(new TriggeredPipeline(pipelineId, projectId, rule.getConfigId()));
+                }
+            }
+        }
+        return triggered;
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return rules.size();
+        }
+    }
+
+    public int bucketCount() {
+        return buckets.size();
+    }
+
+    private void collect(String scope, String source, String type, String branch, Set<TriggerRule> out) {
+        lookup(scope, source, type, branch, out);
+        if (!TriggerRule.ANY.equals(type)) {
+            lookup(scope, source, TriggerRule.ANY, branch, out);
+        }
+        if (!TriggerRule.ANY.equals(source)) {
+            lookup(scope, TriggerRule.ANY, type, branch, out);
+            if (!TriggerRule.ANY.equals(type)) {
+                lookup(scope, TriggerRule.ANY, TriggerRule.ANY, branch, out);
+            }
+        }
+    }
+
+    private void lookup(String scope, String source, String type, String branch, Set<TriggerRule> out) {
+        BranchIndex index = buckets.get(scope + '|' + source + '|' + type);
+        if (index != null) {
+            index.collect(branch, out);
+        }
+    }
+
+    private void removeLocked(Long configId, Set<String> dirty) {
+        TriggerRule old = rules.remove(configId);
+        if (old == null) {
+            return;
+        }
+        String key = bucketKey(old);
+        List<TriggerRule> bucket = bucketRules.get(key);
+        if (bucket != null) {
+            bucket.remove(old);
+            if (bucket.isEmpty()) {
+                bucketRules.remove(key);
+            }
+        }
+        dirty.add(key);
+    }
+
+    private void rebuild(Set<String> dirty) {
+        for (String key : dirty) {
+            List<TriggerRule> bucket = bucketRules.get(key);
+            if (bucket == null) {
+                buckets.remove(key);
+            } else {
+                buckets.put(key, BranchIndex.build(bucket));
+            }
+        }
+    }
+
+    private static String bucketKey(TriggerRule rule) {
+        String scope = rule.getRepository() != null ? repositoryScope(rule.getRepository())
+                : projectScope(rule.getProjectId());
+        return scope + '|' + rule.getEventSource() + '|' + rule.getEventType();
+    }
+
+    private static String repositoryScope(String repository) {
+        return "repo:" + repository;
+    }
+
+    private static String projectScope(Long projectId) {
+        return "project:" + projectId;
+    }
+}
@@ -0,0 +1,295 @@
+package com.autotest.platform.engine.trigger;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONException;
+import com.alibaba.fastjson.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 编译后的触发规则，由 trigger_config.config_json 解析
+ * <p>
+ * 支持的字段：{@code eventSource}、{@code eventType}、{@code branchFilter}(合并请求为 {@code targetBranchFilter})、
+ * {@code actionFilter}、{@code fileFilter.includes/excludes}、{@code autoTrigger}；
+ * 可选 {@code repository} 限定仓库，{@code pipelineIds} 限定触发的流水线，未配置时触发项目内全部可触发流水线。
+ * 项目ID为0的规则是全局默认规则，对所有项目生效。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public final class TriggerRule {
+
+    /** 通配，表示不限 */
+    public static final String ANY = "*";
+
+    private final Long configId;
+
+    private final Long projectId;
+
+    private final String configName;
+
+    private final String repository;
+
+    private final String eventSource;
+
+    private final String eventType;
+
+    private final List<String> branchPatterns;
+
+    private final Set<String> actions;
+
+    private final List<PathGlob> includes;
+
+    private final List<PathGlob> excludes;
+
+    private final boolean autoTrigger;
+
+    /** 限定的流水线，为null时不限 */
+    private final Set<Long> pipelineIds;
+
+    private TriggerRule(Long configId, Long projectId, String configName, String repository, String eventSource,
+                        String eventType, List<String> branchPatterns, Set<String> actions, List<PathGlob> includes,
+                        List<PathGlob> excludes, boolean autoTrigger, Set<Long> pipelineIds) {
+        this.configId = configId;
+        this.projectId = projectId;
+        this.configName = configName;
+        this.repository = repository;
+        this.eventSource = eventSource;
+        this.eventType = eventType;
+        this.branchPatterns = branchPatterns;
+        this.actions = actions;
+        this.includes = includes;
+        this.excludes = excludes;
+        this.autoTrigger = autoTrigger;
+        this.pipelineIds = pipelineIds;
+    }
+
+    /**
+     * 解析触发规则
+     *
+     * @param configId 配置ID
+     * @param projectId 项目ID，0为全局默认规则
+     * @param configName 配置名称
+     * @param json config_json 字段
+     * @return 触发规则
+     * @throws IllegalArgumentException 配置无法解析
+     */
+    public static TriggerRule parse(Long configId, Long projectId, String configName, String json) {
+        JSONObject config;
+        try {
+            config = json == null || json.trim().isEmpty() ? new JSONObject() : JSON.parseObject(json);
+        } catch (JSONException e) {
+            throw new IllegalArgumentException("触发器配置" + configId + "不是合法的JSON: " + e.getMessage(), e);
+        }
+        if (config == null) {
+            config = new JSONObject();
+        }
+        String repository = config.getString("repository");
+        if (repository == null) {
+            repository = config.getString("repositoryUrl");
+        }
+        JSONArray branches = config.getJSONArray("branchFilter");
+        if (branches == null) {
+            branches = config.getJSONArray("targetBranchFilter");
+        }
+        List<String> branchPatterns = new ArrayList<>();
+        for (String branch : strings(branches)) {
+            branchPatterns.add(normalizeBranch(branch));
+        }
+        Set<String> actions = new HashSet<>();
+        for (String action : strings(config.getJSONArray("actionFilter"))) {
+            actions.add(action.toLowerCase(Locale.ROOT));
+        }
+        JSONObject fileFilter = config.getJSONObject("fileFilter");
+        List<PathGlob> includes = new ArrayList<>();
+        List<PathGlob> excludes = new ArrayList<>();
+        if (fileFilter != null) {
+            for (String pattern : strings(fileFilter.getJSONArray("includes"))) {
+                includes.add(PathGlob.compile(pattern));
+            }
+            for (String pattern : strings(fileFilter.getJSONArray("excludes"))) {
+                excludes.add(PathGlob.compile(pattern));
+            }
+        }
+        Set<Long> pipelineIds = null;
+        JSONArray pipelines = config.getJSONArray("pipelineIds");
+        if (pipelines != null) {
+            pipelineIds = new LinkedHashSet<>();
+            for (int i = 0; i < pipelines.size(); i++) {
+                Long pipelineId = pipelines.getLong(i);
+                if (pipelineId != null) {
+                    pipelineIds.add(pipelineId);
+                }
+            }
+            pipelineIds = Collections.unmodifiableSet(pipelineIds);
+        }
+        return new TriggerRule(configId, projectId == null ? 0L : projectId, configName,
+                repository == null || repository.trim().isEmpty() ? null : normalizeRepository(repository),
+                upper(config.getString("eventSource")), lower(config.getString("eventType")),
+                Collections.unmodifiableList(branchPatterns), Collections.unmodifiableSet(actions),
+                Collections.unmodifiableList(includes), Collections.unmodifiableList(excludes),
+                !Boolean.FALSE.equals(config.getBoolean("autoTrigger")), pipelineIds);
+    }
+
+    /**
+     * 规范化仓库地址：去掉协议、账号和 .git 后缀，SSH地址的冒号改为斜杠，统一小写
+     */
+    public static String normalizeRepository(String url) {
+        if (url == null) {
+            return null;
+        }
+        String normalized = url.trim().toLowerCase(Locale.ROOT);
+        int scheme = normalized.indexOf("://");
+        if (scheme >= 0) {
+            normalized = normalized.substring(scheme + 3);
+        }
+        int at = normalized.indexOf('@');
+        int slash = normalized.indexOf('/');
+        if (at >= 0 && (slash < 0 || at < slash)) {
+            normalized = normalized.substring(at + 1);
+        }
+        int colon = normalized.indexOf(':');
+        if (colon >= 0 && colon < normalized.indexOf('/') && !isPort(normalized, colon)) {
+            normalized = normalized.substring(0, colon) + "/" + normalized.substring(colon + 1);
+        }
+        if (normalized.endsWith(".git")) {
+            normalized = normalized.substring(0, normalized.length() - 4);
+        }
+        while (normalized.endsWith("/")) {
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return normalized;
+    }
+
+    /**
+     * 规范化分支：去掉 refs/heads/ 前缀
+     */
+    public static String normalizeBranch(String branch) {
+        if (branch == null) {
+            return null;
+        }
+        String normalized = branch.trim();
+        return normalized.startsWith("refs/heads/") ? normalized.substring("refs/heads/".length()) : normalized;
+    }
+
+    private static boolean isPort(String url, int colon) {
+        int end = url.indexOf('/', colon);
+        if (end <= colon + 1) {
+            return false;
+        }
+        for (int i = colon + 1; i < end; i++) {
+            if (!Character.isDigit(url.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 分支以外的条件：动作和变更文件
+     *
+     * @param event 事件
+     * @return 是否命中
+     */
+    boolean matchesDetails(TriggerEvent event) {
+        if (!actions.isEmpty() && (event.getAction() == null
+                || !actions.contains(event.getAction().toLowerCase(Locale.ROOT)))) {
+            return false;
+        }
+        if ((includes.isEmpty() && excludes.isEmpty()) || event.getChangedFiles().isEmpty()) {
+            return true;
+        }
+        for (String file : event.getChangedFiles()) {
+            if (matchesFile(file)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matchesFile(String file) {
+        for (PathGlob exclude : excludes) {
+            if (exclude.matches(file)) {
+                return false;
+            }
+        }
+        if (includes.isEmpty()) {
+            return true;
+        }
+        for (PathGlob include : includes) {
+            if (include.matches(file)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> strings(JSONArray array) {
+        List<String> values = new ArrayList<>();
+        if (array != null) {
+            for (int i = 0; i < array.size(); i++) {
+                String value = array.getString(i);
+                if (value != null && !value.trim().isEmpty()) {
+                    values.add(value.trim());
+                }
+            }
+        }
+        return values;
+    }
+
+    private static String upper(String value) {
+        return value == null || value.trim().isEmpty() ? ANY : value.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static String lower(String value) {
+        return value == null || value.trim().isEmpty() ? ANY : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public Long getConfigId() {
+        return configId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public String getConfigName() {
+        return configName;
+    }
+
+    public String getRepository() {
+        return repository;
+    }
+
+    public String getEventSource() {
+        return eventSource;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public List<String> getBranchPatterns() {
+        return branchPatterns;
+    }
+
+    public boolean isAutoTrigger() {
+        return autoTrigger;
+    }
+
+    public Set<Long> getPipelineIds() {
+        return pipelineIds;
+    }
+
+    @Override
+    public String toString() {
+        return "TriggerRule[" + configId + " " + configName + "]";
+    }
+}
@@ -0,0 +1,40 @@
+package com.autotest.platform.engine.trigger;
+
+/**
+ * 事件匹配出的待触发流水线
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class TriggeredPipeline {
+
+    private final Long pipelineId;
+
+    private final Long projectId;
+
+    /** 命中的触发器配置 */
+    private final Long configId;
+
+    public TriggeredPipeline(Long pipelineId, Long projectId, Long configId) {
+        this.pipelineId = pipelineId;
+        this.projectId = projectId;
+        this.configId = configId;
+    }
+
+    public Long getPipelineId() {
+        return pipelineId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getConfigId() {
+        return configId;
+    }
+
+    @Override
+    public String toString() {
+        return "pipeline " + pipelineId + " (project " + projectId + ", config " + configId + ")";
+    }
+}
@@ -0,0 +1,40 @@
+package com.autotest.platform.engine.version;
+
+/**
+ * 差异操作
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class DeltaOp {
+
+    public static final char EQUAL = '=';
+
+    public static final char DELETE = '-';
+
+    public static final char INSERT = '+';
+
+    /** 操作类型 */
+    private final char type;
+
+    /** 操作文本 */
+    private final String text;
+
+    public DeltaOp(char type, String text) {
+        this.type = type;
+        this.text = text;
+    }
+
+    public char getType() {
+        return type;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public String toString() {
+        return type + text;
+    }
+}
@@ -0,0 +1,298 @@
+package com.autotest.platform.engine.version;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 文本差异编码
+ * <p>
+ * 按换行和JSON结构符切分为片段，用 Myers 算法求最短编辑脚本，编码为紧凑的文本格式：
+ * {@code #基准长度;} 开头，之后为 {@code =n;}(保留n个字符)、{@code -n;}(删除n个字符)、
+ * {@code +n:文本}(插入n个字符)。保留和删除只记录长度，因此增量大小只与改动量相关。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public final class TextDelta {
+
+    private TextDelta() {
+    }
+
+    /**
+     * 计算差异编码
+     *
+     * @param base 基准文本
+     * @param target 目标文本
+     * @param maxEditDistance 最大编辑片段数，超过时返回null，由调用方改存全量
+     * @return 差异编码
+     */
+    public static String encode(String base, String target, int maxEditDistance) {
+        List<DeltaOp> ops = diff(base, target, maxEditDistance);
+        if (ops == null) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append('#').append(nullToEmpty(base).length()).append(';');
+        for (DeltaOp op : ops) {
+            if (op.getType() == DeltaOp.INSERT) {
+                sb.append(DeltaOp.INSERT).append(op.getText().length()).append(':').append(op.getText());
+            } else {
+                sb.append(op.getType()).append(op.getText().length()).append(';');
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 应用差异编码
+     *
+     * @param base 基准文本
+     * @param delta 差异编码
+     * @return 目标文本
+     */
+    public static String apply(String base, String delta) {
+        StringBuilder sb = new StringBuilder();
+        for (DeltaOp op : decode(base, delta)) {
+            if (op.getType() != DeltaOp.DELETE) {
+                sb.append(op.getText());
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 将差异编码还原为带文本的操作列表，用于差异展示
+     *
+     * @param base 基准文本
+     * @param delta 差异编码
+     * @return 操作列表
+     */
+    public static List<DeltaOp> decode(String base, String delta) {
+        String source = nullToEmpty(base);
+        List<DeltaOp> ops = new ArrayList<>();
+        int pos = 0;
+        int cursor = 0;
+        while (pos < delta.length()) {
+            char type = delta.charAt(pos++);
+            int end = pos;
+            while (end < delta.length() && Character.isDigit(delta.charAt(end))) {
+                end++;
+            }
+            if (end == pos || end >= delta.length()) {
+                throw new IllegalStateException("差异编码格式错误，位置: " + pos);
+            }
+            int length = Integer.parseInt(delta.substring(pos, end));
+            pos = end + 1;
+            switch (type) {
+                case '#':
+                    if (length != source.length()) {
+                        throw new IllegalStateException("差异基准不匹配，期望长度" + length + "，实际" + source.length());
+                    }
+                    break;
+                case DeltaOp.EQUAL:
+                case DeltaOp.DELETE:
+                    if (cursor + length > source.length()) {
+                        throw new IllegalStateException("差异编码超出基准文本范围");
+                    }
+                    ops.add(new DeltaOp(type, source.substring(cursor, cursor + length)));
+                    cursor += length;
+                    break;
+                case DeltaOp.INSERT:
+                    ops.add(new DeltaOp(type, delta.substring(pos, pos + length)));
+                    pos += length;
+                    break;
+                default:
+                    throw new IllegalStateException("未知差异操作: " + type);
+            }
+        }
+        return ops;
+    }
+
+    /**
+     * 计算两段文本的差异
+     *
+     * @param base 基准文本
+     * @param target 目标文本
+     * @param maxEditDistance 最大编辑片段数
+     * @return 合并后的操作列表，超过最大编辑数时返回null
+     */
+    public static List<DeltaOp> diff(String base, String target, int maxEditDistance) {
+        List<String> a = tokenize(nullToEmpty(base));
+        List<String> b = tokenize(nullToEmpty(target));
+        int prefix = 0;
+        while (prefix < a.size() && prefix < b.size() && a.get(prefix).equals(b.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < a.size() - prefix && suffix < b.size() - prefix
+                && a.get(a.size() - 1 - suffix).equals(b.get(b.size() - 1 - suffix))) {
+            suffix++;
+        }
+        List<DeltaOp> raw = new ArrayList<>();
+        for (int i = 0; i < prefix; i++) {
+            raw.add(new DeltaOp(DeltaOp.EQUAL, a.get(i)));
+        }
+        List<DeltaOp> middle = myers(a.subList(prefix, a.size() - suffix), b.subList(prefix, b.size() - suffix),
+                maxEditDistance);
+        if (middle == null) {
+            return null;
+        }
+        raw.addAll(middle);
+        for (int i = a.size() - suffix; i < a.size(); i++) {
+            raw.add(new DeltaOp(DeltaOp.EQUAL, a.get(i)));
+        }
+        return merge(raw);
+    }
+
+    /**
+     * 切分片段：换行及 , { } [ ] 之后断开，JSON步骤修改通常只影响少数片段
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == ',' || c == '{' || c == '}' || c == '[' || c == ']') {
+                tokens.add(text.substring(start, i + 1));
+                start = i + 1;
+            }
+        }
+        if (start < text.length()) {
+            tokens.add(text.substring(start));
+        }
+        return tokens;
+    }
+
+    private static List<DeltaOp> myers(List<String> a, List<String> b, int maxEditDistance) {
+        int n = a.size();
+        int m = b.size();
+        if (n == 0 || m == 0) {
+            if (n + m > maxEditDistance) {
+                return null;
+            }
+            List<DeltaOp> ops = new ArrayList<>();
+            for (String token : a) {
+                ops.add(new DeltaOp(DeltaOp.DELETE, token));
+            }
+            for (String token : b) {
+                ops.add(new DeltaOp(DeltaOp.INSERT, token));
+            }
+            return ops;
+        }
+        Map<String, Integer> ids = new HashMap<>();
+        int[] x = symbols(a, ids);
+        int[] y = symbols(b, ids);
+        int max = Math.min(n + m, maxEditDistance);
+        int offset = max + 1;
+        int[] v = new int[2 * max + 3];
+        // 每轮只保存 [-d, d] 范围，内存为 O(D^2)
+        List<int[]> trace = new ArrayList<>();
+        for (int d = 0; d <= max; d++) {
+            for (int k = -d; k <= d; k += 2) {
+                int px;
+                if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+                    px = v[offset + k + 1];
+                } else {
+                    px = v[offset + k - 1] + 1;
+                }
+                int py = px - k;
+                while (px < n && py < m && x[px] == y[py]) {
+                    px++;
+                    py++;
+                }
+                v[offset + k] = px;
+                if (px >= n && py >= m) {
+                    trace.add(slice(v, offset, d));
+                    return backtrack(trace, a, b, d);
+                }
+            }
+            trace.add(slice(v, offset, d));
+        }
+        return null;
+    }
+
+    private static List<DeltaOp> backtrack(List<int[]> trace, List<String> a, List<String> b, int distance) {
+        List<DeltaOp> ops = new ArrayList<>();
+        int px = a.size();
+        int py = b.size();
+        for (int d = distance; d > 0; d--) {
+            int[] prev = trace.get(d - 1);
+            int k = px - py;
+            int prevK;
+            if (k == -d || (k != d && at(prev, d - 1, k - 1) < at(prev, d - 1, k + 1))) {
+                prevK = k + 1;
+            } else {
+                prevK = k - 1;
+            }
+            int prevX = at(prev, d - 1, prevK);
+            int prevY = prevX - prevK;
+            int startX = prevK == k + 1 ? prevX : prevX + 1;
+            while (px > startX) {
+                ops.add(new DeltaOp(DeltaOp.EQUAL, a.get(px - 1)));
+                px--;
+                py--;
+            }
+            if (prevK == k + 1) {
+                ops.add(new DeltaOp(DeltaOp.INSERT, b.get(prevY)));
+            } else {
+                ops.add(new DeltaOp(DeltaOp.DELETE, a.get(prevX)));
+            }
+            px = prevX;
+            py = prevY;
+        }
+        while (px > 0) {
+            ops.add(new DeltaOp(DeltaOp.EQUAL, a.get(px - 1)));
+            px--;
+        }
+        Collections.reverse(ops);
+        return ops;
+    }
+
+    private static int[] slice(int[] v, int offset, int d) {
+        int[] copy = new int[2 * d + 1];
+        System.arraycopy(v, offset - d, copy, 0, copy.length);
+        return copy;
+    }
+
+    private static int at(int[] slice, int d, int k) {
+        return slice[k + d];
+    }
+
+    private static int[] symbols(List<String> tokens, Map<String, Integer> ids) {
+        int[] result = new int[tokens.size()];
+        for (int i = 0; i < result.length; i++) {
+            Integer id = ids.get(tokens.get(i));
+            if (id == null) {
+                id = ids.size();
+                ids.put(tokens.get(i), id);
+            }
+            result[i] = id;
+        }
+        return result;
+    }
+
+    private static List<DeltaOp> merge(List<DeltaOp> raw) {
+        List<DeltaOp> merged = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        char type = 0;
+        for (DeltaOp op : raw) {
+            if (op.getType() != type && text.length() > 0) {
+                merged.add(new DeltaOp(type, text.toString()));
+                text.setLength(0);
+            }
+            type = op.getType();
+            text.append(op.getText());
+        }
+        if (text.length() > 0) {
+            merged.add(new DeltaOp(type, text.toString()));
+        }
+        return merged;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,180 @@
+package com.autotest.platform.engine.version;
+
+import com.autotest.platform.domain.testcase.TestCaseVersion;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 用例版本差异链编解码
+ * <p>
+ * 每隔 {@code snapshotInterval} 个版本保存一次全量快照，其余版本只保存相对上一版本的差异。
+ * 同一快照及其后续差异版本组成一条差异链，链上版本共用 snapshotVersion，
+ * 因此还原任意版本最多应用 snapshotInterval-1 次差异，清理时也可以按整条链删除。
+ * 差异超过全量大小的 {@code maxDeltaRatio} 或编辑片段过多时直接改存全量并开启新链。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class VersionChainCodec {
+
+    private final int snapshotInterval;
+
+    private final double maxDeltaRatio;
+
+    private final int maxEditDistance;
+
+    public VersionChainCodec(int snapshotInterval, double maxDeltaRatio, int maxEditDistance) {
+        this.snapshotInterval = Math.max(1, snapshotInterval);
+        this.maxDeltaRatio = maxDeltaRatio;
+        this.maxEditDistance = Math.max(1, maxEditDistance);
+    }
+
+    /**
+     * 编码待保存的版本
+     *
+     * @param previous 已还原的上一版本，没有时为null
+     * @param next 新版本(全量内容)
+     * @return 待写入的存储行，不修改入参
+     */
+    public TestCaseVersion encode(TestCaseVersion previous, TestCaseVersion next) {
+        TestCaseVersion stored = copy(next);
+        stored.setStorageType(TestCaseVersion.STORAGE_FULL);
+        stored.setSnapshotVersion(next.getVersionNumber());
+        if (previous == null || previous.getSnapshotVersion() == null
+                || next.getVersionNumber() - previous.getSnapshotVersion() >= snapshotInterval) {
+            return stored;
+        }
+        String steps = encodeField(previous.getTestSteps(), next.getTestSteps());
+        String expected = encodeField(previous.getExpectedResult(), next.getExpectedResult());
+        if (steps == null || expected == null) {
+            return stored;
+        }
+        int fullSize = length(next.getTestSteps()) + length(next.getExpectedResult());
+        if (steps.length() + expected.length() > fullSize * maxDeltaRatio) {
+            return stored;
+        }
+        stored.setStorageType(TestCaseVersion.STORAGE_DELTA);
+        stored.setSnapshotVersion(previous.getSnapshotVersion());
+        stored.setTestSteps(next.getTestSteps() == null ? null : steps);
+        stored.setExpectedResult(next.getExpectedResult() == null ? null : expected);
+        return stored;
+    }
+
+    /**
+     * 还原版本内容
+     *
+     * @param rows 按版本号升序的存储行，必须从某条差异链的快照开始
+     * @return 还原后的版本，与入参一一对应
+     */
+    public List<TestCaseVersion> materialize(List<TestCaseVersion> rows) {
+        List<TestCaseVersion> result = new ArrayList<>(rows.size());
+        TestCaseVersion previous = null;
+        for (TestCaseVersion row : rows) {
+            TestCaseVersion version = copy(row);
+            if (row.isDelta()) {
+                if (previous == null || !previous.getSnapshotVersion().equals(row.getSnapshotVersion())) {
+                    throw new IllegalStateException("用例" + row.getCaseId() + "版本" + row.getVersionNumber()
+                            + "的差异链不完整");
+                }
+                version.setTestSteps(applyField(previous.getTestSteps(), row.getTestSteps()));
+                version.setExpectedResult(applyField(previous.getExpectedResult(), row.getExpectedResult()));
+            }
+            result.add(version);
+            previous = version;
+        }
+        return result;
+    }
+
+    /**
+     * 计算两个版本的差异，目标版本以起始版本为基准存储时直接解码其差异
+     *
+     * @param rows 按版本号升序的存储行，覆盖两个版本所在的差异链
+     * @param fromVersion 起始版本号
+     * @param toVersion 目标版本号
+     * @return 版本差异
+     */
+    public VersionDiff diff(List<TestCaseVersion> rows, int fromVersion, int toVersion) {
+        List<TestCaseVersion> versions = materialize(rows);
+        int fromIndex = indexOf(versions, fromVersion);
+        int toIndex = indexOf(versions, toVersion);
+        TestCaseVersion from = versions.get(fromIndex);
+        TestCaseVersion to = versions.get(toIndex);
+        TestCaseVersion stored = rows.get(toIndex);
+        List<DeltaOp> steps;
+        List<DeltaOp> expected;
+        if (stored.isDelta() && toIndex == fromIndex + 1) {
+            steps = decodeField(from.getTestSteps(), stored.getTestSteps());
+            expected = decodeField(from.getExpectedResult(), stored.getExpectedResult());
+        } else {
+            steps = diffField(from.getTestSteps(), to.getTestSteps());
+            expected = diffField(from.getExpectedResult(), to.getExpectedResult());
+        }
+        return new VersionDiff(fromVersion, toVersion, from.getCaseTitle(), to.getCaseTitle(), steps, expected);
+    }
+
+    private String encodeField(String base, String target) {
+        if (base == null && target == null) {
+            return "";
+        }
+        if (base == null || target == null) {
+            // 空值无法用差异表达，改存全量
+            return null;
+        }
+        return TextDelta.encode(base, target, maxEditDistance);
+    }
+
+    private static String applyField(String base, String delta) {
+        return delta == null ? null : TextDelta.apply(base, delta);
+    }
+
+    private static List<DeltaOp> decodeField(String base, String delta) {
+        return delta == null ? Collections.emptyList() : TextDelta.decode(base, delta);
+    }
+
+    private List<DeltaOp> diffField(String base, String target) {
+        List<DeltaOp> ops = TextDelta.diff(base, target, maxEditDistance);
+        if (ops != null) {
+            return ops;
+        }
+        List<DeltaOp> replace = new ArrayList<>();
+        if (base != null && !base.isEmpty()) {
+            replace.add(new DeltaOp(DeltaOp.DELETE, base));
+        }
+        if (target != null && !target.isEmpty()) {
+            replace.add(new DeltaOp(DeltaOp.INSERT, target));
+        }
+        return replace;
+    }
+
+    private static int indexOf(List<TestCaseVersion> versions, int versionNumber) {
+        for (int i = 0; i < versions.size(); i++) {
+            if (versions.get(i).getVersionNumber() == versionNumber) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("版本" + versionNumber + "不存在");
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static TestCaseVersion copy(TestCaseVersion source) {
+        TestCaseVersion target = new TestCaseVersion();
+        target.setVersionId(source.getVersionId());
+        target.setCaseId(source.getCaseId());
+        target.setVersionNumber(source.getVersionNumber());
+        target.setCaseTitle(source.getCaseTitle());
+        target.setTestSteps(source.getTestSteps());
+        target.setExpectedResult(source.getExpectedResult());
+        target.setChangeLog(source.getChangeLog());
+        target.setStorageType(source.getStorageType());
+        target.setSnapshotVersion(source.getSnapshotVersion());
+        target.setAuthorName(source.getAuthorName());
+        target.setCreateBy(source.getCreateBy());
+        target.setCreateTime(source.getCreateTime());
+        return target;
+    }
+}
@@ -0,0 +1,68 @@
+package com.autotest.platform.engine.version;
+
+import java.util.List;
+
+/**
+ * 两个用例版本之间的差异
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class VersionDiff {
+
+    /** 起始版本号 */
+    private final int fromVersion;
+
+    /** 目标版本号 */
+    private final int toVersion;
+
+    /** 起始版本标题 */
+    private final String fromTitle;
+
+    /** 目标版本标题 */
+    private final String toTitle;
+
+    /** 测试步骤差异 */
+    private final List<DeltaOp> testSteps;
+
+    /** 期望结果差异 */
+    private final List<DeltaOp> expectedResult;
+
+    public VersionDiff(int fromVersion, int toVersion, String fromTitle, String toTitle,
+                       List<DeltaOp> testSteps, List<DeltaOp> expectedResult) {
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.fromTitle = fromTitle;
+        this.toTitle = toTitle;
+        this.testSteps = testSteps;
+        this.expectedResult = expectedResult;
+    }
+
+    public boolean isTitleChanged() {
+        return fromTitle == null ? toTitle != null : !fromTitle.equals(toTitle);
+    }
+
+    public int getFromVersion() {
+        return fromVersion;
+    }
+
+    public int getToVersion() {
+        return toVersion;
+    }
+
+    public String getFromTitle() {
+        return fromTitle;
+    }
+
+    public String getToTitle() {
+        return toTitle;
+    }
+
+    public List<DeltaOp> getTestSteps() {
+        return testSteps;
+    }
+
+    public List<DeltaOp> getExpectedResult() {
+        return expectedResult;
+    }
+}
@@ -0,0 +1,79 @@
+package com.autotest.platform.mapper;
+
+import com.autotest.platform.engine.coldstore.ColdTable;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 冷存储导出与恢复Mapper接口
+ * <p>
+ * 表名、列名来自 {@link ColdTable} 常量。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface ColdArchiveMapper {
+
+    /**
+     * 查询有待导出数据的项目和月份
+     *
+     * @param table 表
+     * @param cutoffTime 截止时间
+     * @param statuses 已结束的状态
+     * @return project_id、month(yyyy-MM) 集合
+     */
+    List<Map<String, Object>> selectColdPartitions(@Param("table") ColdTable table,
+                                                   @Param("cutoffTime") LocalDateTime cutoffTime,
+                                                   @Param("statuses") List<String> statuses);
+
+    /**
+     * 按主键顺序查询项目某月一批待导出的记录
+     *
+     * @param table 表
+     * @param projectId 项目ID，0表示项目为空
+     * @param monthStart 月初
+     * @param monthEnd 下月初
+     * @param cutoffTime 截止时间
+     * @param statuses 已结束的状态
+     * @param afterId 只查询大于该主键的记录
+     * @param limit 最大条数
+     * @return 记录，键为列名
+     */
+    List<Map<String, Object>> selectColdRows(@Param("table") ColdTable table, @Param("projectId") long projectId,
+                                             @Param("monthStart") LocalDateTime monthStart,
+                                             @Param("monthEnd") LocalDateTime monthEnd,
+                                             @Param("cutoffTime") LocalDateTime cutoffTime,
+                                             @Param("statuses") List<String> statuses,
+                                             @Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 按关联列查询记录
+     *
+     * @param table 表
+     * @param column 关联列
+     * @param ids 关联值
+     * @return 记录，键为列名
+     */
+    List<Map<String, Object>> selectRowsByColumn(@Param("table") ColdTable table, @Param("column") String column,
+                                                 @Param("ids") List<Long> ids);
+
+    /**
+     * 按列顺序写回一行
+     *
+     * @param table 表
+     * @param values 按 {@link ColdTable#getColumns()} 顺序排列的值
+     * @return 结果
+     */
+    int insertRow(@Param("table") ColdTable table, @Param("values") List<Object> values);
+
+    /**
+     * 标记执行已从冷存储恢复，冷却期内不再导出
+     *
+     * @param executionId 执行ID
+     * @return 结果
+     */
+    int markExecutionRestored(Long executionId);
+}
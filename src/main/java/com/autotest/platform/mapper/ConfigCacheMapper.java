@@ -0,0 +1,38 @@
+package com.autotest.platform.mapper;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Map;
+
+/**
+ * 配置字段缓存Mapper接口，表名和列名只来自 ConfigType 常量
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface ConfigCacheMapper {
+
+    /**
+     * 查询记录版本
+     *
+     * @param table 表名
+     * @param idColumn 主键列
+     * @param column 配置字段列
+     * @param id 记录ID
+     * @return version 更新时间(为空时取创建时间)，checksum 字段文本的CRC32，记录不存在时为null
+     */
+    Map<String, Object> selectConfigVersion(@Param("table") String table, @Param("idColumn") String idColumn,
+                                            @Param("column") String column, @Param("id") Long id);
+
+    /**
+     * 查询配置字段文本和版本
+     *
+     * @param table 表名
+     * @param idColumn 主键列
+     * @param column 配置字段列
+     * @param id 记录ID
+     * @return text 字段文本，version 更新时间(为空时取创建时间)，checksum 字段文本的CRC32，记录不存在时为null
+     */
+    Map<String, Object> selectConfig(@Param("table") String table, @Param("idColumn") String idColumn,
+                                     @Param("column") String column, @Param("id") Long id);
+}
@@ -0,0 +1,44 @@
+package com.autotest.platform.mapper;
+
+import com.autotest.platform.engine.diff.CaseOutcome;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 执行对比Mapper接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface ExecutionDiffMapper {
+
+    /**
+     * 查询参与对比的执行
+     *
+     * @param executionId 执行ID
+     * @return executionId、executionCode、projectId、status，不存在时为null
+     */
+    Map<String, Object> selectExecutionForDiff(@Param("executionId") Long executionId);
+
+    /**
+     * 按 case_id 升序分页读取用例结果，同一用例有多行时只取最新一行，只读覆盖索引 idx_execution_case_diff
+     *
+     * @param executionId 执行ID
+     * @param afterCaseId 只返回大于该ID的用例，首页为null
+     * @param limit 页大小
+     * @return 用例结果
+     */
+    List<CaseOutcome> selectOutcomePage(@Param("executionId") Long executionId, @Param("afterCaseId") Long afterCaseId,
+                                        @Param("limit") int limit);
+
+    /**
+     * 查询用例编号和标题，用于补全差异明细
+     *
+     * @param caseIds 用例ID
+     * @return caseId、caseCode、caseTitle
+     */
+    List<Map<String, Object>> selectCaseTitles(@Param("caseIds") Collection<Long> caseIds);
+}
@@ -0,0 +1,59 @@
+package com.autotest.platform.mapper;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 执行引擎指标采集Mapper接口，时间差均由数据库计算，避免应用与数据库时区不一致
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface ExecutionMetricsMapper {
+
+    /**
+     * 待执行积压
+     *
+     * @return pendingCount 待执行数，oldestSeconds 最早一条已等待秒数
+     */
+    Map<String, Object> selectExecutionBacklog();
+
+    /**
+     * 已到时间仍未触发的调度
+     *
+     * @return overdueCount 调度数，maxLagSeconds 最大延迟秒数
+     */
+    Map<String, Object> selectScheduleBacklog();
+
+    /**
+     * 待处理的Webhook事件积压
+     *
+     * @return pendingCount 待处理数，oldestSeconds 最早一条已等待秒数
+     */
+    Map<String, Object> selectWebhookBacklog();
+
+    /**
+     * 时间窗口内开始执行的记录
+     *
+     * @param since 起始时间(含)
+     * @param until 结束时间(不含)
+     * @param limit 最大条数
+     * @return waitMicros 创建到开始的等待(微秒)，fireLagMicros 调度触发延迟(微秒，非调度执行为空)
+     */
+    List<Map<String, Object>> selectStartedExecutions(@Param("since") LocalDateTime since,
+                                                      @Param("until") LocalDateTime until, @Param("limit") int limit);
+
+    /**
+     * 时间窗口内由Webhook触发创建的执行，事件接收到执行创建的延迟
+     *
+     * @param since 起始时间(含)
+     * @param until 结束时间(不含)
+     * @param limit 最大条数
+     * @return 延迟微秒数集合
+     */
+    List<Long> selectWebhookTriggerLatency(@Param("since") LocalDateTime since, @Param("until") LocalDateTime until,
+                                           @Param("limit") int limit);
+}
@@ -0,0 +1,66 @@
+package com.autotest.platform.mapper;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Map;
+
+/**
+ * 执行状态Mapper接口，供状态查询和状态变更使用
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface ExecutionStatusMapper {
+
+    /**
+     * 查询测试执行状态
+     *
+     * @param executionId 执行ID
+     * @return 状态、用例计数、起止时间和错误信息，执行不存在时为null
+     */
+    Map<String, Object> selectExecutionStatus(@Param("executionId") Long executionId);
+
+    /**
+     * 查询流水线执行状态
+     *
+     * @param executionId 流水线执行ID
+     * @return 状态、起止时间和错误信息，执行不存在时为null
+     */
+    Map<String, Object> selectPipelineExecutionStatus(@Param("executionId") Long executionId);
+
+    /**
+     * 更新测试执行状态，进入运行时记录开始时间，进入终态时记录结束时间
+     *
+     * @param executionId 执行ID
+     * @param status 状态
+     * @param errorMessage 错误信息，为空时不更新
+     * @return 结果
+     */
+    int updateStatus(@Param("executionId") Long executionId, @Param("status") String status,
+                     @Param("errorMessage") String errorMessage);
+
+    /**
+     * 更新测试执行进度
+     *
+     * @param executionId 执行ID
+     * @param successCases 成功用例数
+     * @param failedCases 失败用例数
+     * @param skippedCases 跳过用例数
+     * @param progress 进度(%)
+     * @return 结果
+     */
+    int updateProgress(@Param("executionId") Long executionId, @Param("successCases") int successCases,
+                       @Param("failedCases") int failedCases, @Param("skippedCases") int skippedCases,
+                       @Param("progress") double progress);
+
+    /**
+     * 更新流水线执行状态
+     *
+     * @param executionId 流水线执行ID
+     * @param status 状态
+     * @param errorMessage 错误信息，为空时不更新
+     * @return 结果
+     */
+    int updateExecutionStatus(@Param("executionId") Long executionId, @Param("status") String status,
+                              @Param("errorMessage") String errorMessage);
+}
@@ -0,0 +1,69 @@
+package com.autotest.platform.mapper;
+
+import com.autotest.platform.domain.cicd.JenkinsBuildLogSegment;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jenkins构建日志Mapper接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface JenkinsBuildLogMapper {
+
+    /**
+     * 新增构建日志分段
+     *
+     * @param segment 日志分段
+     * @return 结果
+     */
+    int insertLogSegment(JenkinsBuildLogSegment segment);
+
+    /**
+     * 查询指定偏移量之后的日志分段
+     *
+     * @param buildId 构建ID
+     * @param fromOffset 起始字节偏移量
+     * @return 日志分段集合
+     */
+    List<JenkinsBuildLogSegment> selectLogSegments(@Param("buildId") Long buildId, @Param("fromOffset") Long fromOffset);
+
+    /**
+     * 查询构建日志拉取进度
+     *
+     * @param buildId 构建ID
+     * @return 拉取进度(buildUrl, logOffset, logSegmentCount, logComplete)
+     */
+    Map<String, Object> selectLogProgress(@Param("buildId") Long buildId);
+
+    /**
+     * 查询需要继续拉取日志的构建
+     *
+     * @param limit 最大数量
+     * @return 构建集合(buildId, buildUrl, logOffset, logSegmentCount)
+     */
+    List<Map<String, Object>> selectFollowableBuilds(@Param("limit") Integer limit);
+
+    /**
+     * 更新构建日志拉取进度
+     *
+     * @param buildId 构建ID
+     * @param logOffset 已拉取字节偏移量
+     * @param logSegmentCount 日志分段数
+     * @param logComplete 是否拉取完成
+     * @return 结果
+     */
+    int updateLogProgress(@Param("buildId") Long buildId, @Param("logOffset") Long logOffset,
+                          @Param("logSegmentCount") Integer logSegmentCount, @Param("logComplete") Boolean logComplete);
+
+    /**
+     * 删除构建日志分段
+     *
+     * @param buildId 构建ID
+     * @return 结果
+     */
+    int deleteLogSegmentsByBuildId(@Param("buildId") Long buildId);
+}
@@ -0,0 +1,49 @@
+package com.autotest.platform.mapper;
+
+import com.autotest.platform.domain.cicd.JenkinsBuildTest;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * Jenkins构建测试结果Mapper接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface JenkinsBuildTestMapper {
+
+    /**
+     * 批量新增构建测试结果
+     *
+     * @param tests 测试结果集合
+     * @return 结果
+     */
+    int batchInsertBuildTest(@Param("list") List<JenkinsBuildTest> tests);
+
+    /**
+     * 查询构建测试结果列表
+     *
+     * @param buildId 构建ID
+     * @param testStatus 测试状态，为空时查询全部
+     * @return 测试结果集合
+     */
+    List<JenkinsBuildTest> selectBuildTestList(@Param("buildId") Long buildId, @Param("testStatus") String testStatus);
+
+    /**
+     * 删除构建测试结果
+     *
+     * @param buildId 构建ID
+     * @return 结果
+     */
+    int deleteBuildTestByBuildId(@Param("buildId") Long buildId);
+
+    /**
+     * 更新构建测试结果汇总
+     *
+     * @param buildId 构建ID
+     * @param testResults 测试结果汇总(JSON格式)
+     * @return 结果
+     */
+    int updateBuildTestResults(@Param("buildId") Long buildId, @Param("testResults") String testResults);
+}
@@ -0,0 +1,116 @@
+package com.autotest.platform.mapper;
+
+import com.autotest.platform.engine.rerun.FailedCase;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 失败用例重跑Mapper接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface RerunMapper {
+
+    /**
+     * 查询被重跑执行
+     *
+     * @param executionId 执行ID
+     * @return executionId、executionCode、projectId、tenantId、executionName、executionType、status、
+     *         priority、environmentId、executionConfig，不存在时为null
+     */
+    Map<String, Object> selectExecutionForRerun(@Param("executionId") Long executionId);
+
+    /**
+     * 锁定被重跑执行(select ... for update)，须在事务内调用
+     *
+     * @param executionId 执行ID
+     * @return 执行ID，不存在时为null
+     */
+    Long lockExecution(@Param("executionId") Long executionId);
+
+    /**
+     * 统计由该执行发起、尚未结束的重跑执行数
+     *
+     * @param sourceExecutionId 被重跑的执行ID
+     * @return 进行中的重跑数
+     */
+    int countActiveReruns(@Param("sourceExecutionId") Long sourceExecutionId);
+
+    /**
+     * 查询执行中失败或超时的用例
+     *
+     * @param executionId 执行ID
+     * @return caseId、retryCount
+     */
+    List<Map<String, Object>> selectFailedCases(@Param("executionId") Long executionId);
+
+    /**
+     * 新增重跑执行
+     *
+     * @param execution 执行字段，插入后回填 executionId
+     * @return 影响行数
+     */
+    int insertRerunExecution(Map<String, Object> execution);
+
+    /**
+     * 批量新增重跑用例
+     *
+     * @param executionId 重跑执行ID
+     * @param cases 用例及其重跑次数
+     * @param createBy 创建者
+     * @return 影响行数
+     */
+    int batchInsertRerunCases(@Param("executionId") Long executionId, @Param("list") List<FailedCase> cases,
+                              @Param("createBy") String createBy);
+
+    /**
+     * 删除未能排队的重跑执行及其用例
+     *
+     * @param executionId 重跑执行ID
+     * @return 影响行数
+     */
+    int deleteRerunCases(@Param("executionId") Long executionId);
+
+    int deleteRerunExecution(@Param("executionId") Long executionId);
+
+    /**
+     * 领取重跑结果统计，每个重跑执行只有第一次调用返回1
+     *
+     * @param executionId 执行ID
+     * @return 影响行数，不是已结束的重跑执行或已统计过时为0
+     */
+    int claimFlakeRecording(@Param("executionId") Long executionId);
+
+    /**
+     * 查询重跑执行的用例结果
+     *
+     * @param executionId 重跑执行ID
+     * @return caseId、status
+     */
+    List<Map<String, Object>> selectRerunCaseResults(@Param("executionId") Long executionId);
+
+    /**
+     * 累加用例不稳定统计
+     *
+     * @param projectId 项目ID
+     * @param signals caseId、passed(重跑通过为1)
+     * @param decay 不稳定分数衰减系数
+     * @return 影响行数
+     */
+    int upsertFlakeStats(@Param("projectId") Long projectId, @Param("list") List<Map<String, Object>> signals,
+                         @Param("decay") double decay);
+
+    /**
+     * 查询项目内不稳定用例
+     *
+     * @param projectId 项目ID
+     * @param minScore 最低不稳定分数
+     * @param limit 返回条数
+     * @return caseId、caseCode、caseTitle、retryRuns、retryPasses、flakeScore、lastFlakeTime
+     */
+    List<Map<String, Object>> selectFlakyCases(@Param("projectId") Long projectId, @Param("minScore") double minScore,
+                                               @Param("limit") int limit);
+}
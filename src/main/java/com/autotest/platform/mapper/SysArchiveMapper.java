@@ -0,0 +1,130 @@
+package com.autotest.platform.mapper;
+
+import com.autotest.platform.engine.archive.ArchiveTarget;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 历史数据归档清理Mapper接口
+ * <p>
+ * 表名、列名来自 {@link ArchiveTarget} 常量，分区名由调用方校验格式后传入。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface SysArchiveMapper {
+
+    /**
+     * 按主键顺序查询一批过期且已结束的记录
+     *
+     * @param target 归档表
+     * @param cutoffTime 截止时间
+     * @param afterId 只查询大于该主键的记录
+     * @param limit 最大条数
+     * @return 主键集合
+     */
+    List<Long> selectExpiredIds(@Param("target") ArchiveTarget target, @Param("cutoffTime") LocalDateTime cutoffTime,
+                                @Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 按主键顺序查询分区内的一批记录
+     *
+     * @param target 归档表
+     * @param partitionName 分区名
+     * @param afterId 只查询大于该主键的记录
+     * @param limit 最大条数
+     * @return 主键集合
+     */
+    List<Long> selectPartitionIds(@Param("target") ArchiveTarget target, @Param("partitionName") String partitionName,
+                                  @Param("afterId") long afterId, @Param("limit") int limit);
+
+    /**
+     * 创建归档表 {@code <table>_archive}，已存在时忽略
+     *
+     * @param table 表名
+     */
+    void createArchiveTable(@Param("table") String table);
+
+    /**
+     * 复制记录到归档表
+     *
+     * @param table 表名
+     * @param column 关联列
+     * @param ids 关联值
+     * @return 复制的行数
+     */
+    int copyRows(@Param("table") String table, @Param("column") String column, @Param("ids") List<Long> ids);
+
+    /**
+     * 删除记录
+     *
+     * @param table 表名
+     * @param column 关联列
+     * @param ids 关联值
+     * @return 删除的行数
+     */
+    int deleteRows(@Param("table") String table, @Param("column") String column, @Param("ids") List<Long> ids);
+
+    /**
+     * 查询断点
+     *
+     * @param taskKey 任务键
+     * @return 已处理到的主键
+     */
+    Long selectCheckpoint(String taskKey);
+
+    /**
+     * 保存断点
+     *
+     * @param taskKey 任务键
+     * @param lastId 已处理到的主键
+     * @param processedRows 本轮累计处理行数
+     * @return 结果
+     */
+    int upsertCheckpoint(@Param("taskKey") String taskKey, @Param("lastId") long lastId,
+                         @Param("processedRows") long processedRows);
+
+    /**
+     * 删除断点
+     *
+     * @param taskKey 任务键
+     * @return 结果
+     */
+    int deleteCheckpoint(String taskKey);
+
+    /**
+     * 查询表的分区名，未分区时为空
+     *
+     * @param table 表名
+     * @return 分区名集合
+     */
+    List<String> selectPartitionNames(String table);
+
+    /**
+     * 删除分区
+     *
+     * @param table 表名
+     * @param partitionName 分区名
+     */
+    void dropPartition(@Param("table") String table, @Param("partitionName") String partitionName);
+
+    /**
+     * 从兜底分区拆出一个月份分区
+     *
+     * @param table 表名
+     * @param partitionName 月份分区名
+     * @param upperBound 分区上界
+     */
+    void splitFuturePartition(@Param("table") String table, @Param("partitionName") String partitionName,
+                              @Param("upperBound") int upperBound);
+
+    /**
+     * 查询复制延迟
+     *
+     * @param lagSql 返回延迟秒数的SQL，来自配置
+     * @return 延迟秒数
+     */
+    Long selectLagSeconds(@Param("lagSql") String lagSql);
+}
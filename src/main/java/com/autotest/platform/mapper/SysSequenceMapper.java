@@ -0,0 +1,55 @@
+package com.autotest.platform.mapper;
+
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 业务编码序列Mapper接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface SysSequenceMapper {
+
+    /**
+     * 查询序列下一个未分配的值
+     *
+     * @param seqKey 序列键
+     * @return 下一个值，序列不存在时为null
+     */
+    Long selectNextValue(String seqKey);
+
+    /**
+     * 初始化序列，已存在时忽略
+     *
+     * @param seqKey 序列键
+     * @param nextValue 初始值
+     * @return 结果
+     */
+    int insertSequenceIfAbsent(@Param("seqKey") String seqKey, @Param("nextValue") long nextValue);
+
+    /**
+     * 比较并推进序列值，用于无锁预留号段
+     *
+     * @param seqKey 序列键
+     * @param expectValue 期望的当前值
+     * @param nextValue 新值
+     * @return 结果，0表示已被其他节点推进
+     */
+    int compareAndSetNextValue(@Param("seqKey") String seqKey, @Param("expectValue") long expectValue,
+                               @Param("nextValue") long nextValue);
+
+    /**
+     * 查询已有执行编号的最大序号，用于首次创建序列时续接
+     *
+     * @return 最大序号，无记录时为0
+     */
+    Long selectMaxExecutionCodeNumber();
+
+    /**
+     * 查询某类报告已有编号的最大序号，用于首次创建序列时续接
+     *
+     * @param abbr 报告类型缩写，如 EXEC
+     * @return 最大序号，无记录时为0
+     */
+    Long selectMaxReportCodeNumber(String abbr);
+}
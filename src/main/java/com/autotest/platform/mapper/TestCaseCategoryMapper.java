@@ -0,0 +1,123 @@
+package com.autotest.platform.mapper;
+
+import com.autotest.platform.domain.testcase.TestCaseCategory;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 测试用例分类Mapper接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface TestCaseCategoryMapper {
+
+    /**
+     * 查询测试用例分类列表
+     *
+     * @param testCaseCategory 测试用例分类
+     * @return 测试用例分类集合
+     */
+    List<TestCaseCategory> selectTestCaseCategoryList(TestCaseCategory testCaseCategory);
+
+    /**
+     * 查询测试用例分类
+     *
+     * @param categoryId 测试用例分类主键
+     * @return 测试用例分类
+     */
+    TestCaseCategory selectTestCaseCategoryByCategoryId(Long categoryId);
+
+    /**
+     * 查询项目分类树
+     *
+     * @param projectId 项目ID
+     * @return 测试用例分类集合
+     */
+    List<TestCaseCategory> selectCategoryTreeByProjectId(Long projectId);
+
+    /**
+     * 查询子分类
+     *
+     * @param parentId 父分类ID
+     * @return 测试用例分类集合
+     */
+    List<TestCaseCategory> selectCategoriesByParentId(Long parentId);
+
+    /**
+     * 查询项目全部分类(不含用例数)，用于构建分类树缓存
+     *
+     * @param projectId 项目ID
+     * @return 测试用例分类集合
+     */
+    List<TestCaseCategory> selectCategoryNodesByProjectId(Long projectId);
+
+    /**
+     * 按分类聚合项目用例数
+     *
+     * @param projectId 项目ID
+     * @return 用例数集合(categoryId, caseCount)
+     */
+    List<Map<String, Object>> selectCaseCountsByProjectId(Long projectId);
+
+    /**
+     * 校验分类名称是否存在
+     *
+     * @param categoryName 分类名称
+     * @param parentId 父分类ID
+     * @param projectId 项目ID
+     * @return 数量
+     */
+    int checkCategoryNameExists(@Param("categoryName") String categoryName, @Param("parentId") Long parentId,
+                                @Param("projectId") Long projectId);
+
+    /**
+     * 是否存在子分类
+     *
+     * @param categoryId 分类ID
+     * @return 数量
+     */
+    int hasChildren(Long categoryId);
+
+    /**
+     * 是否存在用例
+     *
+     * @param categoryId 分类ID
+     * @return 数量
+     */
+    int hasTestCases(Long categoryId);
+
+    /**
+     * 新增测试用例分类
+     *
+     * @param testCaseCategory 测试用例分类
+     * @return 结果
+     */
+    int insertTestCaseCategory(TestCaseCategory testCaseCategory);
+
+    /**
+     * 修改测试用例分类
+     *
+     * @param testCaseCategory 测试用例分类
+     * @return 结果
+     */
+    int updateTestCaseCategory(TestCaseCategory testCaseCategory);
+
+    /**
+     * 删除测试用例分类
+     *
+     * @param categoryId 测试用例分类主键
+     * @return 结果
+     */
+    int deleteTestCaseCategoryByCategoryId(Long categoryId);
+
+    /**
+     * 批量删除测试用例分类
+     *
+     * @param categoryIds 需要删除的数据主键集合
+     * @return 结果
+     */
+    int deleteTestCaseCategoryByCategoryIds(Long[] categoryIds);
+}
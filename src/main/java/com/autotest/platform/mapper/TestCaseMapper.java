@@ -0,0 +1,136 @@
+package com.autotest.platform.mapper;
+
+import com.autotest.platform.domain.testcase.TestCase;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 测试用例Mapper接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface TestCaseMapper {
+
+    /**
+     * 查询测试用例列表
+     *
+     * @param testCase 测试用例
+     * @return 测试用例集合
+     */
+    List<TestCase> selectTestCaseList(TestCase testCase);
+
+    /**
+     * 按用例ID批量查询测试用例，供检索索引命中后回表
+     *
+     * @param caseIds 用例ID集合
+     * @param filter 附加过滤条件(用例类型、优先级、状态、分类、作者)，可为空
+     * @return 测试用例集合
+     */
+    List<TestCase> selectTestCaseListByCaseIds(@Param("caseIds") List<Long> caseIds, @Param("filter") TestCase filter);
+
+    /**
+     * 查询测试用例
+     *
+     * @param caseId 测试用例主键
+     * @return 测试用例
+     */
+    TestCase selectTestCaseByCaseId(Long caseId);
+
+    /**
+     * 查询分类下的测试用例
+     *
+     * @param categoryId 分类ID
+     * @return 测试用例集合
+     */
+    List<TestCase> selectCasesByCategoryId(Long categoryId);
+
+    /**
+     * 查询项目下的测试用例
+     *
+     * @param projectId 项目ID
+     * @return 测试用例集合
+     */
+    List<TestCase> selectCasesByProjectId(Long projectId);
+
+    /**
+     * 校验用例编码是否存在
+     *
+     * @param caseCode 用例编码
+     * @param projectId 项目ID
+     * @return 数量
+     */
+    int checkCaseCodeExists(@Param("caseCode") String caseCode, @Param("projectId") Long projectId);
+
+    /**
+     * 查询项目编码
+     *
+     * @param projectId 项目ID
+     * @return 项目编码
+     */
+    String selectProjectCode(Long projectId);
+
+    /**
+     * 查询项目已用的最大用例编码序号(含已删除用例)，仅在初始化用例编码序列时调用
+     *
+     * @param projectId 项目ID
+     * @return 最大序号，没有时为0
+     */
+    Long selectMaxCaseCodeNumber(Long projectId);
+
+    /**
+     * 按更新时间增量查询检索文档(含已删除用例)，按(更新时间, 用例ID)键集分页
+     *
+     * @param projectId 项目ID
+     * @param since 起始更新时间(含)，为空表示全量
+     * @param afterCaseId 同一更新时间下的上一页最后用例ID
+     * @param limit 每页数量
+     * @return 文档集合(caseId, caseTitle, caseCode, tags, preconditions, testSteps, delFlag, changedTime)
+     */
+    List<Map<String, Object>> selectCaseSearchDocuments(@Param("projectId") Long projectId, @Param("since") Date since,
+                                                        @Param("afterCaseId") Long afterCaseId, @Param("limit") Integer limit);
+
+    /**
+     * 新增测试用例
+     *
+     * @param testCase 测试用例
+     * @return 结果
+     */
+    int insertTestCase(TestCase testCase);
+
+    /**
+     * 修改测试用例
+     *
+     * @param testCase 测试用例
+     * @return 结果
+     */
+    int updateTestCase(TestCase testCase);
+
+    /**
+     * 修改用例状态
+     *
+     * @param caseId 用例ID
+     * @param status 状态
+     * @return 结果
+     */
+    int updateCaseStatus(@Param("caseId") Long caseId, @Param("status") String status);
+
+    /**
+     * 删除测试用例
+     *
+     * @param caseId 测试用例主键
+     * @return 结果
+     */
+    int deleteTestCaseByCaseId(Long caseId);
+
+    /**
+     * 批量删除测试用例
+     *
+     * @param caseIds 需要删除的数据主键集合
+     * @return 结果
+     */
+    int deleteTestCaseByCaseIds(Long[] caseIds);
+}
@@ -0,0 +1,118 @@
+package com.autotest.platform.mapper;
+
+import com.autotest.platform.domain.testcase.TestCaseVersion;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 测试用例版本Mapper接口
+ * <p>
+ * 差异版本的 testSteps/expectedResult 为差异编码，需经 VersionChainCodec 还原后使用。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface TestCaseVersionMapper {
+
+    /**
+     * 查询测试用例版本列表(存储形式)
+     *
+     * @param testCaseVersion 测试用例版本
+     * @return 测试用例版本集合
+     */
+    List<TestCaseVersion> selectTestCaseVersionList(TestCaseVersion testCaseVersion);
+
+    /**
+     * 查询测试用例版本(存储形式)
+     *
+     * @param versionId 版本ID
+     * @return 测试用例版本
+     */
+    TestCaseVersion selectTestCaseVersionByVersionId(Long versionId);
+
+    /**
+     * 查询用例全部版本(存储形式)，按版本号倒序
+     *
+     * @param caseId 用例ID
+     * @return 测试用例版本集合
+     */
+    List<TestCaseVersion> selectVersionsByCaseId(Long caseId);
+
+    /**
+     * 查询用例最新版本(存储形式)
+     *
+     * @param caseId 用例ID
+     * @return 测试用例版本
+     */
+    TestCaseVersion selectLatestVersionByCaseId(Long caseId);
+
+    /**
+     * 查询版本所属的快照版本号
+     *
+     * @param caseId 用例ID
+     * @param versionNumber 版本号
+     * @return 快照版本号，版本不存在时为null
+     */
+    Integer selectSnapshotVersion(@Param("caseId") Long caseId, @Param("versionNumber") Integer versionNumber);
+
+    /**
+     * 按版本号区间查询存储行，按版本号升序
+     *
+     * @param caseId 用例ID
+     * @param fromVersion 起始版本号(含)
+     * @param toVersion 结束版本号(含)
+     * @return 测试用例版本集合
+     */
+    List<TestCaseVersion> selectVersionRange(@Param("caseId") Long caseId, @Param("fromVersion") Integer fromVersion,
+                                             @Param("toVersion") Integer toVersion);
+
+    /**
+     * 新增测试用例版本
+     *
+     * @param testCaseVersion 测试用例版本(存储形式)
+     * @return 结果
+     */
+    int insertTestCaseVersion(TestCaseVersion testCaseVersion);
+
+    /**
+     * 修改测试用例版本的变更日志，版本内容写入后不可修改，后续差异版本依赖它还原
+     *
+     * @param testCaseVersion 测试用例版本
+     * @return 结果
+     */
+    int updateTestCaseVersion(TestCaseVersion testCaseVersion);
+
+    /**
+     * 删除测试用例版本
+     *
+     * @param versionId 版本ID
+     * @return 结果
+     */
+    int deleteTestCaseVersionByVersionId(Long versionId);
+
+    /**
+     * 批量删除测试用例版本
+     *
+     * @param versionIds 需要删除的数据主键集合
+     * @return 结果
+     */
+    int deleteTestCaseVersionByVersionIds(Long[] versionIds);
+
+    /**
+     * 删除用例全部版本
+     *
+     * @param caseId 用例ID
+     * @return 结果
+     */
+    int deleteVersionsByCaseId(Long caseId);
+
+    /**
+     * 删除指定快照之前的整条差异链
+     *
+     * @param caseId 用例ID
+     * @param snapshotVersion 保留的最早快照版本号
+     * @return 结果
+     */
+    int deleteChainsBeforeSnapshot(@Param("caseId") Long caseId, @Param("snapshotVersion") Integer snapshotVersion);
+}
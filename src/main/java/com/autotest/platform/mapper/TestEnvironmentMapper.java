@@ -0,0 +1,18 @@
+package com.autotest.platform.mapper;
+
+/**
+ * 测试环境Mapper接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface TestEnvironmentMapper {
+
+    /**
+     * 查询环境数据库配置
+     *
+     * @param envId 环境ID
+     * @return db_config 字段，环境不存在时为null
+     */
+    String selectDbConfigByEnvId(Long envId);
+}
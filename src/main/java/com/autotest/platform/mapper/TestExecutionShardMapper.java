@@ -0,0 +1,43 @@
+package com.autotest.platform.mapper;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 执行用例分片Mapper接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface TestExecutionShardMapper {
+
+    /**
+     * 查询执行中待执行的用例
+     *
+     * @param executionId 执行ID
+     * @return 用例集合(executionCaseId, caseId, caseType)
+     */
+    List<Map<String, Object>> selectPendingExecutionCases(@Param("executionId") Long executionId);
+
+    /**
+     * 查询用例最近的执行耗时，按用例分组、最近的在前
+     *
+     * @param caseIds 用例ID集合
+     * @param historySize 每个用例最多返回的记录数
+     * @return 耗时集合(caseId, duration)
+     */
+    List<Map<String, Object>> selectCaseDurationHistory(@Param("caseIds") List<Long> caseIds,
+                                                        @Param("historySize") Integer historySize);
+
+    /**
+     * 批量设置用例执行节点
+     *
+     * @param executionCaseIds 执行用例ID集合
+     * @param executorNode 执行节点
+     * @return 结果
+     */
+    int updateExecutorNode(@Param("executionCaseIds") List<Long> executionCaseIds,
+                           @Param("executorNode") String executorNode);
+}
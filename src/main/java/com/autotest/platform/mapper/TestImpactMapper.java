@@ -0,0 +1,60 @@
+package com.autotest.platform.mapper;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 测试影响分析Mapper接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface TestImpactMapper {
+
+    /**
+     * 查询项目有效用例及标签
+     *
+     * @param projectId 项目ID
+     * @return 用例集合(caseId, tags)
+     */
+    List<Map<String, Object>> selectCaseTags(@Param("projectId") Long projectId);
+
+    /**
+     * 查询项目失败关联映射
+     *
+     * @param projectId 项目ID
+     * @param minHits 最少共现次数
+     * @return 映射集合(sourceKey, caseId, hitCount)
+     */
+    List<Map<String, Object>> selectFailureMappings(@Param("projectId") Long projectId, @Param("minHits") Integer minHits);
+
+    /**
+     * 累加失败关联共现次数
+     *
+     * @param projectId 项目ID
+     * @param sourceKeys 源码键
+     * @param caseIds 失败用例ID
+     * @param eventId Webhook事件ID
+     * @return 结果
+     */
+    int upsertFailureMappings(@Param("projectId") Long projectId, @Param("sourceKeys") List<String> sourceKeys,
+                              @Param("caseIds") List<Long> caseIds, @Param("eventId") Long eventId);
+
+    /**
+     * 查询用于学习的Webhook事件
+     *
+     * @param eventId 事件ID
+     * @return 事件(projectId, payload, triggeredExecutionId)
+     */
+    Map<String, Object> selectLearningEvent(@Param("eventId") Long eventId);
+
+    /**
+     * 查询执行中失败的用例
+     *
+     * @param executionId 执行ID
+     * @return 失败用例ID集合
+     */
+    List<Long> selectFailedCaseIds(@Param("executionId") Long executionId);
+}
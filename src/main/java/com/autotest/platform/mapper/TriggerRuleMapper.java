@@ -0,0 +1,54 @@
+package com.autotest.platform.mapper;
+
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 触发规则Mapper接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface TriggerRuleMapper {
+
+    /**
+     * 查询全部启用的Webhook触发配置
+     *
+     * @return configId、projectId、configName、configJson
+     */
+    List<Map<String, Object>> selectEnabledTriggerConfigs();
+
+    /**
+     * 查询项目启用的触发配置
+     *
+     * @param projectId 项目ID
+     * @param triggerType 触发类型
+     * @return configId、projectId、configName、configJson
+     */
+    List<Map<String, Object>> selectTriggerConfigsByProject(@Param("projectId") Long projectId,
+                                                            @Param("triggerType") String triggerType);
+
+    /**
+     * 查询项目内可被Webhook触发的流水线
+     *
+     * @param projectId 项目ID
+     * @return projectId、pipelineId
+     */
+    List<Map<String, Object>> selectTriggerablePipelineIdsByProject(@Param("projectId") Long projectId);
+
+    /**
+     * 新增或更新触发配置
+     *
+     * @param projectId 项目ID
+     * @param triggerType 触发类型
+     * @param configName 配置名称
+     * @param configJson 配置JSON
+     * @param isEnabled 是否启用
+     * @return 影响行数
+     */
+    int upsertTriggerConfig(@Param("projectId") Long projectId, @Param("triggerType") String triggerType,
+                            @Param("configName") String configName, @Param("configJson") String configJson,
+                            @Param("isEnabled") Integer isEnabled);
+}
@@ -0,0 +1,66 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.engine.admission.AdmissionDecision;
+import com.autotest.platform.engine.admission.ExecutionLane;
+
+/**
+ * 准入控制Service接口
+ * <p>
+ * 按租户和API Key限制接口调用频率，按租户权重公平排队执行提交，避免单个租户的CI突发挤占其他租户。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IAdmissionService {
+
+    /**
+     * 接口请求准入
+     *
+     * @param tenantId 租户ID，可为空，只在客户端地址为可信网关时采信
+     * @param apiKey API Key，可为空
+     * @param clientAddress 客户端地址，没有已配置的API Key和可信租户时同时按地址限流
+     * @return 判定结果
+     */
+    AdmissionDecision checkRequest(Long tenantId, String apiKey, String clientAddress);
+
+    /**
+     * 提交执行，通过频率限制后进入公平队列
+     *
+     * @param tenantId 租户ID
+     * @param executionId 执行ID
+     * @param caseCount 用例数，作为排队代价
+     * @return 判定结果，租户排队已满时拒绝
+     */
+    AdmissionDecision submitExecution(Long tenantId, Long executionId, int caseCount);
+
+    /**
+     * 提交执行到指定通道，失败用例重跑使用 {@link ExecutionLane#RETRY}，不挤占新执行
+     *
+     * @param tenantId 租户ID
+     * @param executionId 执行ID
+     * @param caseCount 用例数
+     * @param lane 通道
+     * @return 判定结果
+     */
+    AdmissionDecision submitExecution(Long tenantId, Long executionId, int caseCount, ExecutionLane lane);
+
+    /**
+     * 按通道优先级和租户公平顺序取出下一个待执行的执行ID
+     *
+     * @return 执行ID，无排队时为null
+     */
+    Long nextExecution();
+
+    /**
+     * 租户排队中的执行数
+     *
+     * @param tenantId 租户ID
+     * @return 排队数
+     */
+    int getQueuedExecutions(Long tenantId);
+
+    /**
+     * 清理已补满的本地限流桶
+     */
+    void evictIdle();
+}
@@ -0,0 +1,35 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.engine.archive.ArchiveResult;
+import com.autotest.platform.engine.archive.ArchiveTarget;
+
+import java.util.List;
+
+/**
+ * 历史数据归档清理Service接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IArchiveService {
+
+    /**
+     * 清理一张表的过期记录，已有任务运行时返回null
+     *
+     * @param target 归档表
+     * @return 清理结果
+     */
+    ArchiveResult archive(ArchiveTarget target);
+
+    /**
+     * 依次清理所有表
+     *
+     * @return 各表清理结果
+     */
+    List<ArchiveResult> archiveAll();
+
+    /**
+     * 停止正在运行的清理，进度保留在断点中
+     */
+    void stop();
+}
@@ -0,0 +1,68 @@
+package com.autotest.platform.service;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 冷存储Service接口，历史执行和Webhook事件导出为本地列式文件后仍可查询和恢复
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IColdArchiveService {
+
+    /**
+     * 导出过期的执行记录(含执行用例)和Webhook事件，导出成功后从数据库删除
+     *
+     * @return 导出的主表行数
+     */
+    long exportColdData();
+
+    /**
+     * 查询冷存储中的执行记录，按月份从近到远
+     *
+     * @param projectId 项目ID
+     * @param limit 最大条数
+     * @return 执行记录
+     */
+    List<Map<String, Object>> selectArchivedExecutions(Long projectId, int limit);
+
+    /**
+     * 查询冷存储中的Webhook事件，按月份从近到远
+     *
+     * @param projectId 项目ID，0表示无项目的事件
+     * @param limit 最大条数
+     * @return 事件
+     */
+    List<Map<String, Object>> selectArchivedEvents(Long projectId, int limit);
+
+    /**
+     * 按月统计冷存储中的执行趋势
+     *
+     * @param projectId 项目ID
+     * @param from 起始月份(含)
+     * @param to 结束月份(含)
+     * @return 每月执行数、用例数、通过数、失败数、通过率
+     */
+    List<Map<String, Object>> selectExecutionTrend(Long projectId, YearMonth from, YearMonth to);
+
+    /**
+     * 统计冷存储中失败次数最多的用例
+     *
+     * @param projectId 项目ID
+     * @param from 起始月份(含)
+     * @param to 结束月份(含)
+     * @param limit 最大条数
+     * @return 用例ID、失败次数
+     */
+    List<Map<String, Object>> selectTopFailedCases(Long projectId, YearMonth from, YearMonth to, int limit);
+
+    /**
+     * 将执行记录及其执行用例从冷存储恢复到数据库
+     *
+     * @param executionId 执行ID
+     * @return 是否找到并恢复
+     */
+    boolean restoreArchivedExecution(Long executionId);
+}
@@ -0,0 +1,52 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.engine.configcache.ConfigType;
+
+import java.util.Date;
+
+/**
+ * 配置字段缓存Service接口
+ * <p>
+ * 调度、执行引擎和Webhook处理读取JSON配置字段时统一经由本接口，同一版本只解析一次。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IConfigCacheService {
+
+    /**
+     * 按记录ID获取解析后的配置
+     *
+     * @param type 配置字段
+     * @param id 记录ID
+     * @return 不可变的解析结果，记录不存在时为null
+     */
+    <T> T getConfig(ConfigType<T> type, Long id);
+
+    /**
+     * 已读出记录时获取解析后的配置，更新时间与缓存一致时不再解析
+     *
+     * @param type 配置字段
+     * @param id 记录ID
+     * @param updateTime 记录更新时间
+     * @param text 字段文本
+     * @return 不可变的解析结果
+     */
+    <T> T getConfig(ConfigType<T> type, Long id, Date updateTime, String text);
+
+    /**
+     * 修改配置字段后使缓存失效
+     *
+     * @param type 配置字段
+     * @param id 记录ID
+     */
+    void invalidate(ConfigType<?> type, Long id);
+
+    /**
+     * 修改或删除记录后使该记录全部配置字段的缓存失效
+     *
+     * @param table 表名
+     * @param id 记录ID
+     */
+    void invalidateRow(String table, Long id);
+}
@@ -0,0 +1,60 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.engine.datasource.DataRow;
+import com.autotest.platform.engine.datasource.RowRange;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 数据驱动参数Service接口，读取文件类型的 test_data_source
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IDataParameterService {
+
+    /**
+     * 查询数据行数
+     *
+     * @param dataId 数据源ID
+     * @return 行数(不含表头)
+     */
+    long countRows(Long dataId);
+
+    /**
+     * 按执行节点数切分数据行
+     *
+     * @param dataId 数据源ID
+     * @param workerCount 执行节点数
+     * @return 行区间集合
+     */
+    List<RowRange> splitRows(Long dataId, int workerCount);
+
+    /**
+     * 遍历分片数据，重试时传入上次处理到的行号即可续跑
+     *
+     * @param dataId 数据源ID
+     * @param range 行区间
+     * @param resumeRow 起始行号
+     * @return 行迭代器
+     */
+    Iterator<DataRow> iterateRows(Long dataId, RowRange range, long resumeRow);
+
+    /**
+     * 读取单行参数
+     *
+     * @param dataId 数据源ID
+     * @param rowIndex 行号，从0开始
+     * @return 列名到值的映射
+     */
+    Map<String, Object> getRow(Long dataId, long rowIndex);
+
+    /**
+     * 释放数据源文件映射，数据结构修改或数据源删除后调用，文件替换会自动识别
+     *
+     * @param dataId 数据源ID
+     */
+    void release(Long dataId);
+}
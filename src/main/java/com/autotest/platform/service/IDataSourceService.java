@@ -0,0 +1,62 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.domain.testcase.DataSource;
+
+import java.util.List;
+
+/**
+ * 测试数据源Service接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IDataSourceService {
+
+    /**
+     * 查询数据源
+     *
+     * @param dataId 数据源ID
+     * @return 数据源
+     */
+    DataSource selectDataSourceByDataId(Long dataId);
+
+    /**
+     * 查询数据源列表
+     *
+     * @param dataSource 数据源
+     * @return 数据源集合
+     */
+    List<DataSource> selectDataSourceList(DataSource dataSource);
+
+    /**
+     * 新增数据源
+     *
+     * @param dataSource 数据源
+     * @return 结果
+     */
+    int insertDataSource(DataSource dataSource);
+
+    /**
+     * 修改数据源，连接配置或文件变化时释放已打开的连接池和文件映射
+     *
+     * @param dataSource 数据源
+     * @return 结果
+     */
+    int updateDataSource(DataSource dataSource);
+
+    /**
+     * 批量删除数据源
+     *
+     * @param dataIds 需要删除的数据源ID集合
+     * @return 结果
+     */
+    int deleteDataSourceByDataIds(Long[] dataIds);
+
+    /**
+     * 删除数据源
+     *
+     * @param dataId 数据源ID
+     * @return 结果
+     */
+    int deleteDataSourceByDataId(Long dataId);
+}
@@ -0,0 +1,72 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.engine.dbpool.PoolMetrics;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 目标库连接池Service接口，为数据库类型数据源和测试环境提供连接
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IDbPoolService {
+
+    /**
+     * 借出数据源的数据库连接
+     *
+     * @param dataId 数据源ID
+     * @return 连接，使用后必须关闭以归还连接池
+     */
+    Connection getDataSourceConnection(Long dataId) throws SQLException;
+
+    /**
+     * 借出测试环境的数据库连接
+     *
+     * @param envId 环境ID
+     * @return 连接，使用后必须关闭以归还连接池
+     */
+    Connection getEnvironmentConnection(Long envId) throws SQLException;
+
+    /**
+     * 获取数据源的连接池
+     *
+     * @param dataId 数据源ID
+     * @return 连接池
+     */
+    DataSource getDataSourcePool(Long dataId);
+
+    /**
+     * 获取测试环境的连接池
+     *
+     * @param envId 环境ID
+     * @return 连接池
+     */
+    DataSource getEnvironmentPool(Long envId);
+
+    /**
+     * 数据源配置修改后调用，配置有变化时关闭旧连接池
+     *
+     * @param dataId 数据源ID
+     * @param dbConfig 新的 db_config，为空时直接关闭
+     */
+    void refreshDataSource(Long dataId, String dbConfig);
+
+    /**
+     * 环境配置修改后调用，配置有变化时关闭旧连接池
+     *
+     * @param envId 环境ID
+     * @param dbConfig 新的 db_config，为空时直接关闭
+     */
+    void refreshEnvironment(Long envId, String dbConfig);
+
+    /**
+     * 查询连接池指标
+     *
+     * @return 各连接池指标
+     */
+    List<PoolMetrics> selectPoolMetrics();
+}
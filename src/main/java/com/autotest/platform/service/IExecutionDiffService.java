@@ -0,0 +1,23 @@
+package com.autotest.platform.service;
+
+import java.util.Map;
+
+/**
+ * 执行对比Service接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IExecutionDiffService {
+
+    /**
+     * 对比两次执行的用例结果
+     *
+     * @param baseExecutionId 基准执行ID，如昨晚的执行
+     * @param targetExecutionId 目标执行ID
+     * @return 各差异类型的数量和明细
+     * @throws IllegalArgumentException 执行不存在
+     * @throws IllegalStateException 两次执行不属于同一项目
+     */
+    Map<String, Object> diff(Long baseExecutionId, Long targetExecutionId);
+}
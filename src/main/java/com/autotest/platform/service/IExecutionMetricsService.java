@@ -0,0 +1,24 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.engine.metrics.ExecutionMetrics;
+
+/**
+ * 执行引擎指标Service接口，指标通过 Actuator 的 /actuator/metrics 和 /actuator/prometheus 暴露
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IExecutionMetricsService {
+
+    /**
+     * 获取指标记录器，供执行、调度和Webhook处理路径直接记录
+     *
+     * @return 指标记录器
+     */
+    ExecutionMetrics getMetrics();
+
+    /**
+     * 从数据库采集积压和延迟指标
+     */
+    void collect();
+}
@@ -0,0 +1,60 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.engine.sharding.ShardCase;
+import com.autotest.platform.engine.sharding.ShardPlan;
+import com.autotest.platform.engine.sharding.WorkerSlot;
+
+import java.util.List;
+
+/**
+ * 执行用例分片Service接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IExecutionShardingService {
+
+    /**
+     * 按预估耗时为执行生成分片计划，并记录各用例的计划执行节点
+     *
+     * @param executionId 执行ID
+     * @param workers 执行节点
+     * @return 分片计划
+     */
+    ShardPlan planExecution(Long executionId, List<WorkerSlot> workers);
+
+    /**
+     * 生成分片计划并开始分发
+     *
+     * @param executionId 执行ID
+     * @param workers 执行节点
+     * @return 分片计划
+     */
+    ShardPlan startDispatch(Long executionId, List<WorkerSlot> workers);
+
+    /**
+     * 获取节点下一个要执行的用例，自身分片执行完后从其他节点窃取
+     *
+     * @param executionId 执行ID
+     * @param workerId 节点标识
+     * @return 用例，全部分发完毕时返回null
+     */
+    ShardCase nextCase(Long executionId, String workerId);
+
+    /**
+     * 回报用例执行结果，记录用例耗时并释放节点
+     *
+     * @param executionId 执行ID
+     * @param workerId 节点标识
+     * @param status 执行结果
+     * @param durationMillis 执行耗时(毫秒)
+     */
+    void reportCaseResult(Long executionId, String workerId, String status, long durationMillis);
+
+    /**
+     * 结束分发
+     *
+     * @param executionId 执行ID
+     */
+    void finishDispatch(Long executionId);
+}
@@ -0,0 +1,83 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.engine.status.ExecutionKind;
+import com.autotest.platform.engine.status.ExecutionStatus;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 执行状态Service接口
+ * <p>
+ * 状态查询读取内存注册表，首次查询和登记超过核对间隔时访问数据库；状态变更经由本接口才能立即唤醒长轮询请求，
+ * 其他途径的变更在核对或长轮询超时回读时补上。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IExecutionStatusService {
+
+    /**
+     * 查询执行状态
+     *
+     * @param kind 执行类型
+     * @param executionId 执行ID
+     * @return 状态快照，执行不存在时为null
+     */
+    ExecutionStatus getStatus(ExecutionKind kind, Long executionId);
+
+    /**
+     * 从库里回读执行状态，有变化时唤醒挂起请求
+     *
+     * @param kind 执行类型
+     * @param executionId 执行ID
+     * @return 状态快照，执行不存在时为null
+     */
+    ExecutionStatus reloadStatus(ExecutionKind kind, Long executionId);
+
+    /**
+     * 等待执行状态变化
+     *
+     * @param kind 执行类型
+     * @param executionId 执行ID
+     * @param knownVersion 客户端已知版本
+     * @return 状态变化或无需等待时完成的Future，执行不存在时为null；超时后调用方应取消Future
+     */
+    CompletableFuture<ExecutionStatus> awaitChange(ExecutionKind kind, Long executionId, long knownVersion);
+
+    /**
+     * 更新测试执行状态
+     *
+     * @param executionId 执行ID
+     * @param status 状态
+     * @param errorMessage 错误信息，可为空
+     * @return 结果
+     */
+    int updateStatus(Long executionId, String status, String errorMessage);
+
+    /**
+     * 更新测试执行进度
+     *
+     * @param executionId 执行ID
+     * @param totalCases 总用例数
+     * @param passedCases 通过用例数
+     * @param failedCases 失败用例数
+     * @param skippedCases 跳过用例数
+     * @return 结果
+     */
+    int updateProgress(Long executionId, int totalCases, int passedCases, int failedCases, int skippedCases);
+
+    /**
+     * 更新流水线执行状态
+     *
+     * @param executionId 流水线执行ID
+     * @param status 状态
+     * @param errorMessage 错误信息，可为空
+     * @return 结果
+     */
+    int updateExecutionStatus(Long executionId, String status, String errorMessage);
+
+    /**
+     * 清理过期的状态登记
+     */
+    void evictExpired();
+}
@@ -0,0 +1,41 @@
+package com.autotest.platform.service;
+
+/**
+ * Jenkins构建日志Service接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IJenkinsBuildLogService {
+
+    /**
+     * 开始增量拉取构建日志，从已保存的偏移量继续
+     *
+     * @param buildId 构建ID
+     * @return 是否开始跟踪
+     */
+    boolean followBuildLog(Long buildId);
+
+    /**
+     * 停止拉取构建日志
+     *
+     * @param buildId 构建ID
+     */
+    void stopFollowBuildLog(Long buildId);
+
+    /**
+     * 恢复所有未完成构建的日志拉取
+     *
+     * @return 恢复的构建数
+     */
+    int resumeFollowBuildLogs();
+
+    /**
+     * 查询构建日志
+     *
+     * @param buildId 构建ID
+     * @param fromOffset 起始原始日志偏移量，为空时返回完整日志；落在分段中间时从该分段开头返回
+     * @return 日志内容
+     */
+    String selectBuildLog(Long buildId, Long fromOffset);
+}
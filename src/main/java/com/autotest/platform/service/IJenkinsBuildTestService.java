@@ -0,0 +1,33 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.domain.cicd.JenkinsBuildTest;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jenkins构建测试结果Service接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IJenkinsBuildTestService {
+
+    /**
+     * 导入构建的 JUnit XML 测试报告，覆盖该构建已有的测试结果
+     *
+     * @param buildId 构建ID
+     * @param reportDir 报告目录
+     * @return 测试结果汇总
+     */
+    Map<String, Object> importTestReports(Long buildId, String reportDir);
+
+    /**
+     * 查询构建测试结果列表
+     *
+     * @param buildId 构建ID
+     * @param testStatus 测试状态
+     * @return 测试结果集合
+     */
+    List<JenkinsBuildTest> selectBuildTestList(Long buildId, String testStatus);
+}
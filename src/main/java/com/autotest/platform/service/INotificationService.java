@@ -0,0 +1,31 @@
+package com.autotest.platform.service;
+
+import java.util.Collection;
+
+/**
+ * 通知Service接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface INotificationService {
+
+    /**
+     * 异步发送执行结果或异常通知，立即返回；同一接收方和项目的通知在合并窗口内合为一条发送
+     *
+     * @param projectId 项目ID
+     * @param subject 标题
+     * @param content 正文
+     * @param emails 邮件接收人，为空时只发钉钉
+     * @return 是否全部被接收，渠道未启用或待发送通知已满时为false
+     */
+    boolean notify(Long projectId, String subject, String content, Collection<String> emails);
+
+    /**
+     * 立即发出合并中的通知并等待发送完成
+     *
+     * @param timeoutMillis 最长等待时间(毫秒)
+     * @return 是否全部处理完
+     */
+    boolean flush(long timeoutMillis);
+}
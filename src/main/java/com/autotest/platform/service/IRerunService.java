@@ -0,0 +1,44 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.engine.rerun.RerunResult;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 失败用例重跑Service接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IRerunService {
+
+    /**
+     * 只重跑上次执行中失败的用例，新执行沿用原执行的环境和执行配置，进入低优先级的重跑通道
+     *
+     * @param executionId 被重跑的执行ID
+     * @param operator 操作人
+     * @return 重跑结果，排队被拒绝时不保留执行
+     * @throws IllegalArgumentException 执行不存在
+     * @throws IllegalStateException 执行尚未结束，或已有进行中的重跑
+     */
+    RerunResult rerunFailed(Long executionId, String operator);
+
+    /**
+     * 重跑执行结束后统计用例不稳定信号，同一执行只统计一次
+     *
+     * @param executionId 执行ID
+     * @return 重跑通过的用例数，不是重跑执行或已统计过时为0
+     */
+    int recordRerunOutcome(Long executionId);
+
+    /**
+     * 查询项目内不稳定用例
+     *
+     * @param projectId 项目ID
+     * @param minScore 最低不稳定分数，为空时使用配置值
+     * @param limit 返回条数
+     * @return 不稳定用例，按分数降序
+     */
+    List<Map<String, Object>> selectFlakyCases(Long projectId, Double minScore, int limit);
+}
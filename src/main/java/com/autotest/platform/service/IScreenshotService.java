@@ -0,0 +1,51 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.engine.screenshot.ScreenshotRef;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 截图存储Service接口
+ * <p>
+ * Selenium步骤截图经由本接口异步压缩写盘，返回的相对路径写入 test_execution_case.screenshot_path。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface IScreenshotService {
+
+    /**
+     * 提交截图，不等待压缩和写盘
+     *
+     * @param png 浏览器返回的PNG原图
+     * @return 截图引用
+     */
+    ScreenshotRef capture(byte[] png);
+
+    /**
+     * 按哈希查找截图文件
+     *
+     * @param hash 截图哈希
+     * @return 文件，不存在时为null
+     */
+    Path getScreenshot(String hash);
+
+    /**
+     * 获取缩略图，首次请求时生成
+     *
+     * @param hash 截图哈希
+     * @param width 期望宽度
+     * @return 缩略图文件，截图不存在时为null
+     * @throws IOException 读取或写入失败
+     */
+    Path getThumbnail(String hash, int width) throws IOException;
+
+    /**
+     * 等待已提交的截图全部写入
+     *
+     * @param timeoutMillis 最长等待时间(毫秒)
+     * @return 是否全部写入
+     */
+    boolean flush(long timeoutMillis);
+}
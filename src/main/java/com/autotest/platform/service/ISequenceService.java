@@ -0,0 +1,51 @@
+package com.autotest.platform.service;
+
+import java.util.List;
+
+/**
+ * 业务编码序列Service接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface ISequenceService {
+
+    /**
+     * 生成用例编码，项目内唯一
+     *
+     * @param projectId 项目ID
+     * @return 用例编码，如 PRJ-CASE001
+     */
+    String nextCaseCode(Long projectId);
+
+    /**
+     * 批量生成用例编码，用于批量导入
+     *
+     * @param projectId 项目ID
+     * @param count 数量
+     * @return 用例编码集合
+     */
+    List<String> nextCaseCodes(Long projectId, int count);
+
+    /**
+     * 生成执行编号
+     *
+     * @return 执行编号，如 EXEC-20240101-001
+     */
+    String nextExecutionCode();
+
+    /**
+     * 生成报告编号
+     *
+     * @param reportType 报告类型(EXECUTION/TREND/ANALYSIS/SUMMARY)
+     * @return 报告编号，如 RPT-EXEC-20240101-001
+     */
+    String nextReportCode(String reportType);
+
+    /**
+     * 清除缓存的项目编码，项目修改或删除后调用
+     *
+     * @param projectId 项目ID
+     */
+    void evictProjectCode(Long projectId);
+}
@@ -0,0 +1,116 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.domain.testcase.TestCaseCategory;
+import com.autotest.platform.engine.category.CategoryNode;
+
+import java.util.List;
+
+/**
+ * 测试用例分类Service接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface ITestCaseCategoryService {
+
+    /**
+     * 查询测试用例分类
+     *
+     * @param categoryId 测试用例分类主键
+     * @return 测试用例分类
+     */
+    TestCaseCategory selectTestCaseCategoryByCategoryId(Long categoryId);
+
+    /**
+     * 查询测试用例分类列表
+     *
+     * @param testCaseCategory 测试用例分类
+     * @return 测试用例分类集合
+     */
+    List<TestCaseCategory> selectTestCaseCategoryList(TestCaseCategory testCaseCategory);
+
+    /**
+     * 查询项目分类树，节点含直接用例数和子树用例数
+     *
+     * @param projectId 项目ID
+     * @return 根节点集合
+     */
+    List<CategoryNode> selectCategoryTree(Long projectId);
+
+    /**
+     * 查询子分类
+     *
+     * @param projectId 项目ID
+     * @param parentId 父分类ID，0表示根
+     * @return 子分类集合
+     */
+    List<CategoryNode> selectCategoriesByParentId(Long projectId, Long parentId);
+
+    /**
+     * 查询分类及其所有子分类ID
+     *
+     * @param projectId 项目ID
+     * @param categoryId 分类ID
+     * @return 分类ID集合
+     */
+    List<Long> selectSubtreeCategoryIds(Long projectId, Long categoryId);
+
+    /**
+     * 是否存在子分类
+     *
+     * @param projectId 项目ID
+     * @param categoryId 分类ID
+     * @return 结果
+     */
+    boolean hasChildren(Long projectId, Long categoryId);
+
+    /**
+     * 是否存在用例
+     *
+     * @param projectId 项目ID
+     * @param categoryId 分类ID
+     * @return 结果
+     */
+    boolean hasTestCases(Long projectId, Long categoryId);
+
+    /**
+     * 校验同级分类名称是否唯一
+     *
+     * @param testCaseCategory 测试用例分类
+     * @return 结果
+     */
+    boolean checkCategoryNameUnique(TestCaseCategory testCaseCategory);
+
+    /**
+     * 新增测试用例分类
+     *
+     * @param testCaseCategory 测试用例分类
+     * @return 结果
+     */
+    int insertTestCaseCategory(TestCaseCategory testCaseCategory);
+
+    /**
+     * 修改测试用例分类
+     *
+     * @param testCaseCategory 测试用例分类
+     * @return 结果
+     */
+    int updateTestCaseCategory(TestCaseCategory testCaseCategory);
+
+    /**
+     * 删除测试用例分类信息
+     *
+     * @param categoryId 测试用例分类主键
+     * @return 结果
+     */
+    int deleteTestCaseCategoryByCategoryId(Long categoryId);
+
+    /**
+     * 修正分类用例数缓存
+     *
+     * @param projectId 项目ID
+     * @param categoryId 分类ID
+     * @param delta 变化量
+     */
+    void adjustCaseCount(Long projectId, Long categoryId, int delta);
+}
@@ -0,0 +1,86 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.domain.testcase.TestCase;
+import com.autotest.platform.engine.search.CaseSearchQuery;
+
+import java.util.List;
+
+/**
+ * 测试用例Service接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface ITestCaseService {
+
+    /**
+     * 查询测试用例
+     *
+     * @param caseId 测试用例主键
+     * @return 测试用例
+     */
+    TestCase selectTestCaseByCaseId(Long caseId);
+
+    /**
+     * 查询测试用例列表，标题、编码、标签条件走检索索引
+     *
+     * @param testCase 测试用例
+     * @return 测试用例集合
+     */
+    List<TestCase> selectTestCaseList(TestCase testCase);
+
+    /**
+     * 检索测试用例
+     *
+     * @param query 检索条件
+     * @return 测试用例集合，按用例ID倒序
+     */
+    List<TestCase> searchTestCases(CaseSearchQuery query);
+
+    /**
+     * 新增测试用例
+     *
+     * @param testCase 测试用例
+     * @return 结果
+     */
+    int insertTestCase(TestCase testCase);
+
+    /**
+     * 批量新增测试用例
+     *
+     * @param testCases 测试用例集合
+     * @return 结果
+     */
+    int insertTestCases(List<TestCase> testCases);
+
+    /**
+     * 修改测试用例
+     *
+     * @param testCase 测试用例
+     * @return 结果
+     */
+    int updateTestCase(TestCase testCase);
+
+    /**
+     * 批量删除测试用例
+     *
+     * @param caseIds 需要删除的测试用例主键集合
+     * @return 结果
+     */
+    int deleteTestCaseByCaseIds(Long[] caseIds);
+
+    /**
+     * 删除测试用例信息
+     *
+     * @param caseId 测试用例主键
+     * @return 结果
+     */
+    int deleteTestCaseByCaseId(Long caseId);
+
+    /**
+     * 重建项目检索索引
+     *
+     * @param projectId 项目ID
+     */
+    void rebuildSearchIndex(Long projectId);
+}
@@ -0,0 +1,77 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.domain.testcase.TestCaseVersion;
+import com.autotest.platform.engine.version.VersionDiff;
+
+import java.util.List;
+
+/**
+ * 测试用例版本Service接口
+ * <p>
+ * 返回的版本均为还原后的全量内容。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface ITestCaseVersionService {
+
+    /**
+     * 查询用例指定版本
+     *
+     * @param caseId 用例ID
+     * @param versionNumber 版本号
+     * @return 测试用例版本，不存在时为null
+     */
+    TestCaseVersion selectVersion(Long caseId, Integer versionNumber);
+
+    /**
+     * 查询用例最新版本
+     *
+     * @param caseId 用例ID
+     * @return 测试用例版本，不存在时为null
+     */
+    TestCaseVersion selectLatestVersion(Long caseId);
+
+    /**
+     * 查询用例全部版本，按版本号倒序
+     *
+     * @param caseId 用例ID
+     * @return 测试用例版本集合
+     */
+    List<TestCaseVersion> selectVersionsByCaseId(Long caseId);
+
+    /**
+     * 对比两个版本
+     *
+     * @param caseId 用例ID
+     * @param fromVersion 起始版本号
+     * @param toVersion 目标版本号
+     * @return 版本差异
+     */
+    VersionDiff diffVersions(Long caseId, Integer fromVersion, Integer toVersion);
+
+    /**
+     * 新增用例版本，版本号自动递增，按差异链策略存储
+     *
+     * @param testCaseVersion 测试用例版本(全量内容)
+     * @return 结果
+     */
+    int insertTestCaseVersion(TestCaseVersion testCaseVersion);
+
+    /**
+     * 删除用例全部版本
+     *
+     * @param caseId 用例ID
+     * @return 结果
+     */
+    int deleteVersionsByCaseId(Long caseId);
+
+    /**
+     * 清理旧版本，至少保留最近 keepCount 个版本，按整条差异链删除
+     *
+     * @param caseId 用例ID
+     * @param keepCount 保留版本数
+     * @return 删除行数
+     */
+    int cleanOldVersions(Long caseId, int keepCount);
+}
@@ -0,0 +1,49 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.engine.impact.ImpactSelection;
+
+import java.util.Collection;
+
+/**
+ * 测试影响分析Service接口
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface ITestImpactService {
+
+    /**
+     * 根据Webhook推送负载选择需要执行的用例
+     *
+     * @param projectId 项目ID
+     * @param commitSha 提交SHA
+     * @param payload 事件负载(JSON格式)
+     * @return 选择结果
+     */
+    ImpactSelection selectImpactedCases(Long projectId, String commitSha, String payload);
+
+    /**
+     * 根据变更文件选择需要执行的用例
+     *
+     * @param projectId 项目ID
+     * @param commitSha 提交SHA
+     * @param changedFiles 变更文件
+     * @return 选择结果
+     */
+    ImpactSelection selectImpactedCases(Long projectId, String commitSha, Collection<String> changedFiles);
+
+    /**
+     * 根据Webhook事件触发的执行结果学习变更文件与失败用例的关联
+     *
+     * @param eventId Webhook事件ID
+     * @return 更新的映射数
+     */
+    int learnFromWebhookEvent(Long eventId);
+
+    /**
+     * 使项目影响索引失效，下次选择时重建
+     *
+     * @param projectId 项目ID
+     */
+    void refreshIndex(Long projectId);
+}
@@ -0,0 +1,42 @@
+package com.autotest.platform.service;
+
+import com.autotest.platform.engine.trigger.TriggerEvent;
+import com.autotest.platform.engine.trigger.TriggeredPipeline;
+
+import java.util.List;
+
+/**
+ * Webhook触发规则Service接口
+ * <p>
+ * 启用的 trigger_config 规则在内存中编译为索引，Webhook事件经由本接口解析需要触发的流水线。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface ITriggerRuleService {
+
+    /**
+     * 解析事件需要触发的流水线
+     *
+     * @param event 事件
+     * @return 待触发流水线，按命中规则的项目实时查询，未命中时为空列表
+     */
+    List<TriggeredPipeline> resolve(TriggerEvent event);
+
+    /**
+     * 新增或更新触发配置，入库后增量刷新该项目的规则
+     *
+     * @param projectId 项目ID，0为全局默认规则
+     * @param triggerType 触发类型
+     * @param configName 配置名称
+     * @param configJson 配置JSON
+     * @param enabled 是否启用
+     * @return 结果
+     */
+    int updateTriggerConfig(Long projectId, String triggerType, String configName, String configJson, boolean enabled);
+
+    /**
+     * 全量重新加载规则
+     */
+    void reload();
+}
@@ -0,0 +1,392 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.engine.admission.AdmissionDecision;
+import com.autotest.platform.engine.admission.ExecutionLane;
+import com.autotest.platform.engine.admission.LanedExecutionQueue;
+import com.autotest.platform.engine.admission.RateLimit;
+import com.autotest.platform.engine.admission.RateLimiterRegistry;
+import com.autotest.platform.service.IAdmissionService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 准入控制Service业务层处理
+ * <p>
+ * 接口限流键为 {@code key:{apiKey}}、{@code tenant:{tenantId}}、{@code ip:{address}}，执行提交限流键为
+ * {@code exec:{tenantId}}。默认在本节点内存中限流；mode 为 redis 时用Lua脚本在Redis中执行同一算法得到集群级限流，
+ * Redis不可用时退回本地限流。
+ * <p>
+ * 租户ID只在请求来自配置的网关地址时采信；未配置档位的API Key按最低档位限流。既没有已配置的API Key也没有可信租户的请求
+ * 视为未认证，始终同时按客户端地址限流。一个请求需要的各个键依次获取，任一键拒绝时归还已获取的许可。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class AdmissionServiceImpl implements IAdmissionService {
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionServiceImpl.class);
+
+    private static final String PREFIX = "autotest-platform.rate-limit.";
+
+    private static final String REDIS_KEY_PREFIX = "autotest:rate-limit:";
+
+    private static final long REDIS_WARN_INTERVAL_MILLIS = 60000L;
+
+    /**
+     * 与 TokenBucket 相同的GCRA算法，时间取Redis服务器时间(微秒)，各节点时钟不一致也不影响
+     * 返回 {是否放行, 剩余许可数, 重试等待毫秒}
+     */
+    private static final String GCRA_SCRIPT = "if redis.replicate_commands then redis.replicate_commands() end\n"
+            + "local interval = tonumber(ARGV[1])\n"
+            + "local tolerance = interval * tonumber(ARGV[2])\n"
+            + "local t = redis.call('TIME')\n"
+            + "local now = tonumber(t[1]) * 1000000 + tonumber(t[2])\n"
+            + "local tat = tonumber(redis.call('GET', KEYS[1]) or now)\n"
+            + "if tat < now then tat = now end\n"
+            + "local lead = tat + interval - now\n"
+            + "if lead > tolerance then return {0, 0, math.ceil((lead - tolerance) / 1000)} end\n"
+            + "redis.call('SET', KEYS[1], string.format('%.0f', tat + interval), 'PX', math.ceil(lead / 1000) + 1000)\n"
+            + "return {1, math.floor((tolerance - lead) / interval), 0}";
+
+    /**
+     * 归还一个许可，理论到达时间回退一个间隔，不早于当前时间
+     */
+    private static final String GCRA_RELEASE_SCRIPT = "if redis.replicate_commands then redis.replicate_commands() end\n"
+            + "local tat = tonumber(redis.call('GET', KEYS[1]))\n"
+            + "if not tat then return 0 end\n"
+            + "local t = redis.call('TIME')\n"
+            + "local now = tonumber(t[1]) * 1000000 + tonumber(t[2])\n"
+            + "tat = tat - tonumber(ARGV[1])\n"
+            + "if tat <= now then redis.call('DEL', KEYS[1]) return 1 end\n"
+            + "redis.call('SET', KEYS[1], string.format('%.0f', tat), 'PX', math.ceil((tat - now) / 1000) + 1000)\n"
+            + "return 1";
+
+    private enum Scope {
+        KEY, TENANT, ANONYMOUS, EXECUTION
+    }
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectProvider<StringRedisTemplate> redisTemplate;
+
+    @Value("${autotest-platform.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${autotest-platform.rate-limit.mode:local}")
+    private String mode;
+
+    @Value("${autotest-platform.rate-limit.stripes:4}")
+    private int stripes;
+
+    @Value("${autotest-platform.rate-limit.default-tier:normal}")
+    private String defaultTier;
+
+
+    @Value("${autotest-platform.rate-limit.execution.per-minute:30}")
+    private int executionPerMinute;
+
+    @Value("${autotest-platform.rate-limit.execution.max-queued-per-tenant:200}")
+    private int maxQueuedPerTenant;
+
+    @Value("${autotest-platform.rate-limit.execution.retry-every:4}")
+    private int retryEvery;
+
+    private RateLimiterRegistry registry;
+
+    private LanedExecutionQueue<Long> executionQueue;
+
+    private DefaultRedisScript<List> redisScript;
+
+    private DefaultRedisScript<Long> redisReleaseScript;
+
+    private Map<String, RateLimit> tiers;
+
+    private Map<String, String> tenantTiers;
+
+    private Map<String, String> apiKeyTiers;
+
+    private Map<String, Integer> tenantWeights;
+
+    /** 可信网关地址，只有来自这些地址的请求才采信租户请求头 */
+    private Set<String> gatewayAddresses;
+
+    /** 每分钟许可数最少的档位，用于未配置的API Key */
+    private String lowestTier;
+
+    private final Map<Scope, Counter> rejected = new EnumMap<>(Scope.class);
+
+    private volatile long lastRedisWarn;
+
+    @PostConstruct
+    public void init() {
+        Binder binder = Binder.get(environment);
+        Bindable<Map<String, String>> stringMap = Bindable.mapOf(String.class, String.class);
+        Map<String, Integer> tierLimits = binder.bind(PREFIX + "tiers", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Collections.emptyMap());
+        tiers = new HashMap<>();
+        for (Map.Entry<String, Integer> tier : tierLimits.entrySet()) {
+            tiers.put(tier.getKey(), RateLimit.perMinute(tier.getValue()));
+        }
+        tenantTiers = binder.bind(PREFIX + "tenant-tiers", stringMap).orElse(Collections.emptyMap());
+        apiKeyTiers = binder.bind(PREFIX + "api-key-tiers", stringMap).orElse(Collections.emptyMap());
+        tenantWeights = binder.bind(PREFIX + "execution.tenant-weights", Bindable.mapOf(String.class, Integer.class))
+                .orElse(Collections.emptyMap());
+        gatewayAddresses = binder.bind(PREFIX + "gateway-addresses", Bindable.setOf(String.class))
+                .orElse(Collections.emptySet());
+        int lowest = Integer.MAX_VALUE;
+        for (Map.Entry<String, RateLimit> tier : tiers.entrySet()) {
+            if (tier.getValue().getPermitsPerMinute() < lowest) {
+                lowest = tier.getValue().getPermitsPerMinute();
+                lowestTier = tier.getKey();
+            }
+        }
+        registry = new RateLimiterRegistry(stripes);
+        executionQueue = new LanedExecutionQueue<>(maxQueuedPerTenant, retryEvery);
+        redisScript = new DefaultRedisScript<>(GCRA_SCRIPT, List.class);
+        redisReleaseScript = new DefaultRedisScript<>(GCRA_RELEASE_SCRIPT, Long.class);
+        for (Scope scope : Scope.values()) {
+            rejected.put(scope, Counter.builder("autotest.admission.rejected")
+                    .description("被限流拒绝的请求数").tag("scope", scope.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+        for (ExecutionLane lane : ExecutionLane.values()) {
+            Gauge.builder("autotest.admission.execution.queued", executionQueue, queue -> queue.size(lane))
+                    .description("排队中的执行数").tag("lane", lane.name().toLowerCase()).register(meterRegistry);
+        }
+        Gauge.builder("autotest.admission.buckets", registry, RateLimiterRegistry::size)
+                .description("本地限流桶数").register(meterRegistry);
+    }
+
+    /**
+     * 接口请求准入，API Key、租户和(未认证时)客户端地址额度都需满足
+     *
+     * @param tenantId 租户ID
+     * @param apiKey API Key
+     * @param clientAddress 客户端地址
+     * @return 判定结果，放行时取剩余许可最少的键
+     */
+    @Override
+    public AdmissionDecision checkRequest(Long tenantId, String apiKey, String clientAddress) {
+        if (!enabled) {
+            return AdmissionDecision.UNLIMITED;
+        }
+        List<Charge> charges = new ArrayList<>(3);
+        boolean authenticated = false;
+        if (apiKey != null && !apiKey.isEmpty()) {
+            String keyTier = apiKeyTiers.get(apiKey);
+            authenticated = keyTier != null;
+            charges.add(new Charge(Scope.KEY, "key:" + apiKey, tier(keyTier, lowestTier)));
+        }
+        if (tenantId != null && clientAddress != null && gatewayAddresses.contains(clientAddress)) {
+            authenticated = true;
+            charges.add(new Charge(Scope.TENANT, "tenant:" + tenantId,
+                    tier(tenantTiers.get(String.valueOf(tenantId)), defaultTier)));
+        }
+        if (!authenticated && clientAddress != null) {
+            charges.add(new Charge(Scope.ANONYMOUS, "ip:" + clientAddress, tier(null, defaultTier)));
+        }
+        AdmissionDecision decision = AdmissionDecision.UNLIMITED;
+        for (int i = 0; i < charges.size(); i++) {
+            Charge charge = charges.get(i);
+            AdmissionDecision current = acquire(charge);
+            if (!current.isAllowed()) {
+                for (int j = 0; j < i; j++) {
+                    release(charges.get(j));
+                }
+                return current;
+            }
+            if (decision == AdmissionDecision.UNLIMITED
+                    || current != AdmissionDecision.UNLIMITED && current.getRemaining() < decision.getRemaining()) {
+                decision = current;
+            }
+        }
+        return decision;
+    }
+
+    /**
+     * 提交新执行
+     *
+     * @param tenantId 租户ID
+     * @param executionId 执行ID
+     * @param caseCount 用例数
+     * @return 判定结果
+     */
+    @Override
+    public AdmissionDecision submitExecution(Long tenantId, Long executionId, int caseCount) {
+        return submitExecution(tenantId, executionId, caseCount, ExecutionLane.FRESH);
+    }
+
+    /**
+     * 提交执行到指定通道
+     *
+     * @param tenantId 租户ID
+     * @param executionId 执行ID
+     * @param caseCount 用例数
+     * @param lane 通道
+     * @return 判定结果
+     */
+    @Override
+    public AdmissionDecision submitExecution(Long tenantId, Long executionId, int caseCount, ExecutionLane lane) {
+        AdmissionDecision decision = enabled ? acquire(new Charge(Scope.EXECUTION, "exec:" + tenantId,
+                RateLimit.perMinute(executionPerMinute))) : AdmissionDecision.UNLIMITED;
+        if (!decision.isAllowed()) {
+            return decision;
+        }
+        int weight = tenantWeights.getOrDefault(String.valueOf(tenantId), 1);
+        if (!executionQueue.offer(lane, tenantId, weight, caseCount, executionId)) {
+            rejected.get(Scope.EXECUTION).increment();
+            // 排队已满，按执行提交频率给出重试时间
+            return AdmissionDecision.reject(executionQueue.getMaxQueuedPerTenant(), 60000L / Math.max(1, executionPerMinute));
+        }
+        return decision;
+    }
+
+    @Override
+    public Long nextExecution() {
+        return executionQueue.poll();
+    }
+
+    @Override
+    public int getQueuedExecutions(Long tenantId) {
+        return executionQueue.size(tenantId);
+    }
+
+    /**
+     * 定时清理已补满的本地限流桶
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${autotest-platform.rate-limit.evict-interval-millis:60000}")
+    public void evictIdle() {
+        int evicted = registry.evictIdle(System.nanoTime());
+        if (evicted > 0) {
+            log.debug("清理限流桶{}个，剩余{}个", evicted, registry.size());
+        }
+    }
+
+    private RateLimit tier(String tier, String fallback) {
+        RateLimit limit = tier == null ? null : tiers.get(tier);
+        return limit != null ? limit : tiers.get(fallback);
+    }
+
+    private AdmissionDecision acquire(Charge charge) {
+        if (charge.limit == null) {
+            return AdmissionDecision.UNLIMITED;
+        }
+        AdmissionDecision decision = null;
+        if ("redis".equalsIgnoreCase(mode)) {
+            decision = acquireRedis(charge.key, charge.limit);
+        }
+        charge.redis = decision != null;
+        if (decision == null) {
+            decision = registry.tryAcquire(charge.key, charge.limit, System.nanoTime());
+        }
+        if (!decision.isAllowed()) {
+            rejected.get(charge.scope).increment();
+        }
+        return decision;
+    }
+
+    /**
+     * 归还已获取的许可，获取时走了哪条路径归还时也走同一条
+     */
+    private void release(Charge charge) {
+        if (charge.limit == null) {
+            return;
+        }
+        if (charge.redis) {
+            releaseRedis(charge.key, charge.limit);
+        } else {
+            registry.release(charge.key, charge.limit, System.nanoTime());
+        }
+    }
+
+    /**
+     * Redis限流，Redis未配置或调用失败时返回null由调用方退回本地限流
+     */
+    private AdmissionDecision acquireRedis(String key, RateLimit limit) {
+        StringRedisTemplate template = redisTemplate.getIfAvailable();
+        if (template == null) {
+            return null;
+        }
+        try {
+            List<?> result = template.execute(redisScript, Collections.singletonList(REDIS_KEY_PREFIX + key),
+                    String.valueOf(Math.max(1L, limit.getIntervalNanos() / 1000L)), String.valueOf(limit.getBurst()));
+            if (result == null || result.size() < 3) {
+                return null;
+            }
+            if (((Number) result.get(0)).intValue() == 1) {
+                return AdmissionDecision.allow(limit.getPermitsPerMinute(), ((Number) result.get(1)).intValue());
+            }
+            return AdmissionDecision.reject(limit.getPermitsPerMinute(), ((Number) result.get(2)).longValue());
+        } catch (RuntimeException e) {
+            long now = System.currentTimeMillis();
+            if (now - lastRedisWarn > REDIS_WARN_INTERVAL_MILLIS) {
+                lastRedisWarn = now;
+                log.warn("Redis限流不可用，退回本地限流: {}", e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    private void releaseRedis(String key, RateLimit limit) {
+        StringRedisTemplate template = redisTemplate.getIfAvailable();
+        if (template == null) {
+            return;
+        }
+        try {
+            template.execute(redisReleaseScript, Collections.singletonList(REDIS_KEY_PREFIX + key),
+                    String.valueOf(Math.max(1L, limit.getIntervalNanos() / 1000L)));
+        } catch (RuntimeException e) {
+            log.debug("Redis限流许可归还失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 一个请求需要获取的限流键
+     */
+    private static final class Charge {
+
+        private final Scope scope;
+
+        private final String key;
+
+        private final RateLimit limit;
+
+        /** 是否在Redis中获取，归还时走同一路径 */
+        private boolean redis;
+
+        private Charge(Scope scope, String key, RateLimit limit) {
+            this.scope = scope;
+            this.key = key;
+            this.limit = limit;
+        }
+    }
+}
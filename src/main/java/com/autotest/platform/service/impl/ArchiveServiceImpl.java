@@ -0,0 +1,285 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.engine.archive.ArchiveResult;
+import com.autotest.platform.engine.archive.ArchiveStore;
+import com.autotest.platform.engine.archive.ArchiveTarget;
+import com.autotest.platform.engine.archive.ChunkedArchiver;
+import com.autotest.platform.engine.archive.PartitionPlanner;
+import com.autotest.platform.engine.archive.ThrottleSettings;
+import com.autotest.platform.mapper.SysArchiveMapper;
+import com.autotest.platform.service.IArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 历史数据归档清理Service业务层处理
+ * <p>
+ * 替代按项目一次性删除的 cleanExpiredExecutions/cleanExpiredEvents：按主键分批删除，
+ * 根据每批耗时和复制延迟自适应节流。表已按月分区时先整区删除过期分区，再分批清理剩余记录。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class ArchiveServiceImpl implements IArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveServiceImpl.class);
+
+    @Autowired
+    private SysArchiveMapper sysArchiveMapper;
+
+    /** 执行记录保留天数 */
+    @Value("${autotest-platform.archive.execution-retention-days:180}")
+    private int executionRetentionDays;
+
+    /** Webhook事件保留天数 */
+    @Value("${autotest-platform.archive.event-retention-days:90}")
+    private int eventRetentionDays;
+
+    /** 删除前是否复制到 <table>_archive */
+    @Value("${autotest-platform.archive.copy-to-archive:false}")
+    private boolean copyToArchive;
+
+    /** 是否整区删除过期月份分区，并预建后续月份分区 */
+    @Value("${autotest-platform.archive.drop-partitions:false}")
+    private boolean dropPartitions;
+
+    @Value("${autotest-platform.archive.partition-months-ahead:3}")
+    private int partitionMonthsAhead;
+
+    /** 单表单次最长运行时间(分钟) */
+    @Value("${autotest-platform.archive.max-run-minutes:60}")
+    private long maxRunMinutes;
+
+    @Value("${autotest-platform.archive.initial-chunk-size:1000}")
+    private int initialChunkSize;
+
+    @Value("${autotest-platform.archive.min-chunk-size:100}")
+    private int minChunkSize;
+
+    @Value("${autotest-platform.archive.max-chunk-size:5000}")
+    private int maxChunkSize;
+
+    @Value("${autotest-platform.archive.target-chunk-millis:500}")
+    private long targetChunkMillis;
+
+    @Value("${autotest-platform.archive.sleep-ratio:1.0}")
+    private double sleepRatio;
+
+    @Value("${autotest-platform.archive.max-lag-seconds:5}")
+    private long maxLagSeconds;
+
+    @Value("${autotest-platform.archive.max-pause-millis:30000}")
+    private long maxPauseMillis;
+
+    /** 返回复制延迟秒数的SQL(如 pt-heartbeat 表查询)，为空时只按语句耗时节流 */
+    @Value("${autotest-platform.archive.lag-sql:}")
+    private String lagSql;
+
+    private ChunkedArchiver archiver;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /** 清理可能持续数小时，放在独立线程中运行，不占用共享的调度线程 */
+    private ExecutorService archiveExecutor;
+
+    @PostConstruct
+    public void init() {
+        ThrottleSettings settings = new ThrottleSettings();
+        settings.setInitialChunkSize(initialChunkSize);
+        settings.setMinChunkSize(minChunkSize);
+        settings.setMaxChunkSize(maxChunkSize);
+        settings.setTargetChunkMillis(targetChunkMillis);
+        settings.setSleepRatio(sleepRatio);
+        settings.setMaxLagSeconds(maxLagSeconds);
+        settings.setMaxPauseMillis(maxPauseMillis);
+        archiver = new ChunkedArchiver(new MapperArchiveStore(), settings, this::currentLag);
+        archiveExecutor = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "archive-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void destroy() {
+        archiver.stop();
+        archiveExecutor.shutdown();
+    }
+
+    /**
+     * 定时清理，cron 配置为 "-" 时关闭
+     */
+    @Scheduled(cron = "${autotest-platform.archive.cron:0 30 2 * * ?}")
+    public void scheduledArchive() {
+        archiveExecutor.execute(() -> {
+            for (ArchiveResult result : archiveAll()) {
+                log.info("历史数据清理完成: {}", result);
+            }
+        });
+    }
+
+    @Override
+    public ArchiveResult archive(ArchiveTarget target) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("历史数据清理正在运行，跳过{}", target);
+            return null;
+        }
+        try {
+            archiver.reset();
+            return doArchive(target);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public List<ArchiveResult> archiveAll() {
+        List<ArchiveResult> results = new ArrayList<>();
+        if (!running.compareAndSet(false, true)) {
+            log.warn("历史数据清理正在运行，跳过本次调度");
+            return results;
+        }
+        try {
+            archiver.reset();
+            for (ArchiveTarget target : ArchiveTarget.values()) {
+                if (archiver.isStopped()) {
+                    log.info("历史数据清理已停止，跳过{}及之后的表", target.getTable());
+                    break;
+                }
+                try {
+                    results.add(doArchive(target));
+                } catch (RuntimeException e) {
+                    // 单表失败不影响其他表，断点保留到下次
+                    log.error("清理{}失败", target.getTable(), e);
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+        return results;
+    }
+
+    @Override
+    public void stop() {
+        archiver.stop();
+    }
+
+    private ArchiveResult doArchive(ArchiveTarget target) {
+        long deadline = System.currentTimeMillis() + TimeUnit.MINUTES.toMillis(maxRunMinutes);
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays(target));
+        if (copyToArchive) {
+            sysArchiveMapper.createArchiveTable(target.getTable());
+            for (String child : target.getChildTables()) {
+                sysArchiveMapper.createArchiveTable(child);
+            }
+        }
+        int dropped = dropPartitions && target.isPartitioned() ? maintainPartitions(target, cutoff, deadline) : 0;
+        ArchiveResult result = archiver.run(target, cutoff, copyToArchive,
+                Math.max(0L, deadline - System.currentTimeMillis()));
+        result.setDroppedPartitions(dropped);
+        return result;
+    }
+
+    /**
+     * 整区删除早于截止月份的分区并预建后续分区，表未分区时不做任何事。
+     * 删除分区前先分批清理其子表记录；整区删除不区分状态，复制到归档表时不删分区。
+     */
+    private int maintainPartitions(ArchiveTarget target, LocalDateTime cutoff, long deadline) {
+        List<String> partitions = sysArchiveMapper.selectPartitionNames(target.getTable());
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+        int dropped = 0;
+        if (!copyToArchive) {
+            for (String partition : PartitionPlanner.expiredPartitions(partitions, YearMonth.from(cutoff))) {
+                ArchiveResult children = archiver.purgeChildren(target, partition,
+                        Math.max(0L, deadline - System.currentTimeMillis()));
+                if (!children.isCompleted()) {
+                    // 子表未清理完，下次从断点继续后再删除分区
+                    break;
+                }
+                sysArchiveMapper.dropPartition(target.getTable(), partition);
+                log.info("删除过期分区 {}.{}，子表记录{}行", target.getTable(), partition, children.getChildRows());
+                dropped++;
+            }
+        }
+        for (YearMonth month : PartitionPlanner.missingMonths(partitions, YearMonth.now(), partitionMonthsAhead)) {
+            sysArchiveMapper.splitFuturePartition(target.getTable(), PartitionPlanner.partitionName(month),
+                    PartitionPlanner.upperBound(month));
+        }
+        return dropped;
+    }
+
+    private int retentionDays(ArchiveTarget target) {
+        return target == ArchiveTarget.WEBHOOK_EVENT ? eventRetentionDays : executionRetentionDays;
+    }
+
+    /**
+     * 查询复制延迟，未配置或查询失败时返回null
+     */
+    private Long currentLag() {
+        if (lagSql == null || lagSql.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return sysArchiveMapper.selectLagSeconds(lagSql);
+        } catch (RuntimeException e) {
+            log.warn("查询复制延迟失败: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private class MapperArchiveStore implements ArchiveStore {
+
+        @Override
+        public List<Long> selectExpiredIds(ArchiveTarget target, LocalDateTime cutoff, long afterId, int limit) {
+            return sysArchiveMapper.selectExpiredIds(target, cutoff, afterId, limit);
+        }
+
+        @Override
+        public List<Long> selectPartitionIds(ArchiveTarget target, String partitionName, long afterId, int limit) {
+            return sysArchiveMapper.selectPartitionIds(target, partitionName, afterId, limit);
+        }
+
+        @Override
+        public int copyRows(String table, String column, List<Long> ids) {
+            return sysArchiveMapper.copyRows(table, column, ids);
+        }
+
+        @Override
+        public int deleteRows(String table, String column, List<Long> ids) {
+            return sysArchiveMapper.deleteRows(table, column, ids);
+        }
+
+        @Override
+        public Long loadCheckpoint(String taskKey) {
+            return sysArchiveMapper.selectCheckpoint(taskKey);
+        }
+
+        @Override
+        public void saveCheckpoint(String taskKey, long lastId, long processedRows) {
+            sysArchiveMapper.upsertCheckpoint(taskKey, lastId, processedRows);
+        }
+
+        @Override
+        public void clearCheckpoint(String taskKey) {
+            sysArchiveMapper.deleteCheckpoint(taskKey);
+        }
+    }
+}
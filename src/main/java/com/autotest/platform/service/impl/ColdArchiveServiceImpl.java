@@ -0,0 +1,364 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.engine.archive.ArchiveTarget;
+import com.autotest.platform.engine.coldstore.ColdArchiveStore;
+import com.autotest.platform.engine.coldstore.ColdColumn;
+import com.autotest.platform.engine.coldstore.ColdPredicate;
+import com.autotest.platform.engine.coldstore.ColdTable;
+import com.autotest.platform.engine.coldstore.ColumnarWriter;
+import com.autotest.platform.engine.coldstore.RowVisitor;
+import com.autotest.platform.mapper.ColdArchiveMapper;
+import com.autotest.platform.mapper.SysArchiveMapper;
+import com.autotest.platform.service.IColdArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 冷存储Service业务层处理
+ * <p>
+ * 超过 cold-after-days 的已结束执行(连同执行用例)和Webhook事件按项目、月份导出为列式文件，
+ * 文件发布后再分批从数据库删除；执行报告不导出，随执行一起删除。
+ * 导出前先读取分区内已有的主键，上次导出后未来得及删除的记录只删除不重复导出。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class ColdArchiveServiceImpl implements IColdArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ColdArchiveServiceImpl.class);
+
+    private static final List<String> EXECUTION_COLUMNS = Arrays.asList("execution_id", "execution_code",
+            "execution_name", "project_id", "execution_type", "environment_id", "total_cases", "success_cases",
+            "failed_cases", "skipped_cases", "status", "actual_start_time", "actual_end_time", "create_time");
+
+    private static final List<String> EVENT_COLUMNS = Arrays.asList("event_id", "event_type", "event_source",
+            "repository_url", "branch", "commit_sha", "author", "tag", "status", "processing_time",
+            "error_message", "triggered_execution_id", "project_id", "create_time");
+
+    @Autowired
+    private ColdArchiveMapper coldArchiveMapper;
+
+    @Autowired
+    private SysArchiveMapper sysArchiveMapper;
+
+    @Value("${autotest-platform.cold-archive.path:${autotest.profile:.}/cold-archive}")
+    private String archivePath;
+
+    /** 超过该天数的记录导出到冷存储 */
+    @Value("${autotest-platform.cold-archive.cold-after-days:90}")
+    private int coldAfterDays;
+
+    @Value("${autotest-platform.cold-archive.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${autotest-platform.cold-archive.row-group-size:4096}")
+    private int rowGroupSize;
+
+    private ColdArchiveStore store;
+
+    private final AtomicBoolean exporting = new AtomicBoolean();
+
+    @PostConstruct
+    public void init() {
+        store = new ColdArchiveStore(Paths.get(archivePath), rowGroupSize);
+    }
+
+    /**
+     * 定时导出，cron 配置为 "-" 时关闭
+     */
+    @Scheduled(cron = "${autotest-platform.cold-archive.cron:0 0 2 * * ?}")
+    public void scheduledExport() {
+        long rows = exportColdData();
+        if (rows > 0) {
+            log.info("冷存储导出完成，共{}行", rows);
+        }
+    }
+
+    @Override
+    public long exportColdData() {
+        if (!exporting.compareAndSet(false, true)) {
+            log.warn("冷存储导出正在运行，跳过本次调度");
+            return 0;
+        }
+        try {
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(coldAfterDays);
+            return exportTable(ColdTable.TEST_EXECUTION, ArchiveTarget.TEST_EXECUTION, cutoff)
+                    + exportTable(ColdTable.WEBHOOK_EVENT, ArchiveTarget.WEBHOOK_EVENT, cutoff);
+        } catch (IOException e) {
+            throw new UncheckedIOException("冷存储导出失败", e);
+        } finally {
+            exporting.set(false);
+        }
+    }
+
+    @Override
+    public List<Map<String, Object>> selectArchivedExecutions(Long projectId, int limit) {
+        return latest(ColdTable.TEST_EXECUTION, projectId, EXECUTION_COLUMNS, limit);
+    }
+
+    @Override
+    public List<Map<String, Object>> selectArchivedEvents(Long projectId, int limit) {
+        return latest(ColdTable.WEBHOOK_EVENT, projectId, EVENT_COLUMNS, limit);
+    }
+
+    @Override
+    public List<Map<String, Object>> selectExecutionTrend(Long projectId, YearMonth from, YearMonth to) {
+        Map<YearMonth, long[]> months = new TreeMap<>();
+        scan(ColdTable.TEST_EXECUTION, projectId, from, to, false,
+                Arrays.asList("create_time", "total_cases", "success_cases", "failed_cases"),
+                Collections.emptyList(), row -> {
+                    long[] sums = months.computeIfAbsent(YearMonth.from((LocalDateTime) row[0]), k -> new long[4]);
+                    sums[0]++;
+                    sums[1] += row[1] == null ? 0 : (Long) row[1];
+                    sums[2] += row[2] == null ? 0 : (Long) row[2];
+                    sums[3] += row[3] == null ? 0 : (Long) row[3];
+                    return true;
+                });
+        List<Map<String, Object>> trend = new ArrayList<>(months.size());
+        for (Map.Entry<YearMonth, long[]> entry : months.entrySet()) {
+            long[] sums = entry.getValue();
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("month", entry.getKey().toString());
+            item.put("executionCount", sums[0]);
+            item.put("totalCases", sums[1]);
+            item.put("passedCases", sums[2]);
+            item.put("failedCases", sums[3]);
+            item.put("passRate", sums[1] == 0 ? 0.0 : Math.round(sums[2] * 10000.0 / sums[1]) / 100.0);
+            trend.add(item);
+        }
+        return trend;
+    }
+
+    @Override
+    public List<Map<String, Object>> selectTopFailedCases(Long projectId, YearMonth from, YearMonth to, int limit) {
+        Map<Long, Long> failures = new HashMap<>();
+        scan(ColdTable.TEST_EXECUTION_CASE, projectId, from, to, false, Collections.singletonList("case_id"),
+                Collections.singletonList(ColdPredicate.in("status", Arrays.asList("FAILED", "TIMEOUT"))),
+                row -> {
+                    failures.merge((Long) row[0], 1L, Long::sum);
+                    return true;
+                });
+        List<Map.Entry<Long, Long>> sorted = new ArrayList<>(failures.entrySet());
+        sorted.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        List<Map<String, Object>> top = new ArrayList<>();
+        for (Map.Entry<Long, Long> entry : sorted.subList(0, Math.min(limit, sorted.size()))) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("caseId", entry.getKey());
+            item.put("failedCount", entry.getValue());
+            top.add(item);
+        }
+        return top;
+    }
+
+    /**
+     * 恢复执行到数据库：写回执行及执行用例并打上恢复标记，冷却期内导出和清理都会跳过该执行。
+     * 数据库事务提交后再从冷存储移除，移除失败时只会多留一份冷数据，不会丢失记录。
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean restoreArchivedExecution(Long executionId) {
+        List<Object[]> executions = new ArrayList<>();
+        scan(ColdTable.TEST_EXECUTION, null, null, null, true, null,
+                Collections.singletonList(ColdPredicate.eq("execution_id", executionId)), row -> {
+                    executions.add(row);
+                    return false;
+                });
+        if (executions.isEmpty()) {
+            return false;
+        }
+        Object[] execution = executions.get(0);
+        List<String> names = ColdTable.TEST_EXECUTION.getColumnNames();
+        long projectId = (Long) execution[names.indexOf("project_id")];
+        YearMonth month = YearMonth.from((LocalDateTime) execution[names.indexOf("create_time")]);
+        List<Object[]> cases = new ArrayList<>();
+        scan(ColdTable.TEST_EXECUTION_CASE, projectId, month, month, false, null,
+                Collections.singletonList(ColdPredicate.eq("execution_id", executionId)), cases::add);
+        coldArchiveMapper.insertRow(ColdTable.TEST_EXECUTION, Arrays.asList(execution));
+        for (Object[] row : cases) {
+            coldArchiveMapper.insertRow(ColdTable.TEST_EXECUTION_CASE, Arrays.asList(row));
+        }
+        coldArchiveMapper.markExecutionRestored(executionId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                removeRestored(executionId, projectId, month);
+            }
+        });
+        log.info("执行{}已从冷存储恢复，执行用例{}条", executionId, cases.size());
+        return true;
+    }
+
+    private void removeRestored(Long executionId, long projectId, YearMonth month) {
+        try {
+            Set<Long> ids = Collections.singleton(executionId);
+            store.remove(ColdTable.TEST_EXECUTION_CASE, projectId, month, "execution_id", ids);
+            store.remove(ColdTable.TEST_EXECUTION, projectId, month, "execution_id", ids);
+        } catch (IOException e) {
+            // 数据库已恢复，冷存储中的副本在下次导出时按主键去重，不会重复写入
+            log.error("从冷存储移除已恢复的执行{}失败", executionId, e);
+        }
+    }
+
+    private long exportTable(ColdTable table, ArchiveTarget target, LocalDateTime cutoff) throws IOException {
+        long exported = 0;
+        for (Map<String, Object> partition : coldArchiveMapper.selectColdPartitions(table, cutoff,
+                target.getFinishedStatuses())) {
+            long projectId = ((Number) partition.get("project_id")).longValue();
+            YearMonth month = YearMonth.parse((String) partition.get("month"));
+            exported += exportPartition(table, target, projectId, month, cutoff);
+        }
+        return exported;
+    }
+
+    /**
+     * 导出一个项目一个月的数据：先发布文件，再分批删除数据库记录
+     */
+    private long exportPartition(ColdTable table, ArchiveTarget target, long projectId, YearMonth month,
+                                 LocalDateTime cutoff) throws IOException {
+        boolean withCases = table == ColdTable.TEST_EXECUTION;
+        Set<Long> existing = store.ids(table, projectId, month);
+        Set<Long> existingCases = withCases ? store.ids(ColdTable.TEST_EXECUTION_CASE, projectId, month)
+                : Collections.emptySet();
+        List<Long> exportedIds = new ArrayList<>();
+        ColumnarWriter writer = null;
+        ColumnarWriter caseWriter = null;
+        try {
+            long afterId = 0;
+            while (true) {
+                List<Map<String, Object>> rows = coldArchiveMapper.selectColdRows(table, projectId,
+                        month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay(), cutoff,
+                        target.getFinishedStatuses(), afterId, batchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                List<Long> fresh = new ArrayList<>(rows.size());
+                for (Map<String, Object> row : rows) {
+                    long id = ((Number) row.get(table.getIdColumn())).longValue();
+                    afterId = id;
+                    exportedIds.add(id);
+                    if (!existing.contains(id)) {
+                        writer = writer == null ? store.openWriter(table, projectId, month) : writer;
+                        writer.write(toRow(table, row));
+                        fresh.add(id);
+                    }
+                }
+                if (withCases && !fresh.isEmpty()) {
+                    for (Map<String, Object> row : coldArchiveMapper.selectRowsByColumn(
+                            ColdTable.TEST_EXECUTION_CASE, "execution_id", fresh)) {
+                        if (!existingCases.contains(((Number) row.get("execution_case_id")).longValue())) {
+                            caseWriter = caseWriter == null
+                                    ? store.openWriter(ColdTable.TEST_EXECUTION_CASE, projectId, month) : caseWriter;
+                            caseWriter.write(toRow(ColdTable.TEST_EXECUTION_CASE, row));
+                        }
+                    }
+                }
+            }
+            // 先发布子表文件，主表文件存在即表示子表已完整导出
+            if (caseWriter != null) {
+                caseWriter.close();
+            }
+            if (writer != null) {
+                writer.close();
+            }
+        } catch (IOException | RuntimeException e) {
+            if (caseWriter != null) {
+                caseWriter.abort();
+            }
+            if (writer != null) {
+                writer.abort();
+            }
+            throw e;
+        }
+        deleteExported(target, exportedIds);
+        if (!exportedIds.isEmpty()) {
+            log.info("{} 项目{} {}导出{}行到冷存储", table.getTable(), projectId, month, exportedIds.size());
+        }
+        return exportedIds.size();
+    }
+
+    private void deleteExported(ArchiveTarget target, List<Long> ids) {
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + batchSize));
+            for (String child : target.getChildTables()) {
+                sysArchiveMapper.deleteRows(child, target.getIdColumn(), chunk);
+            }
+            sysArchiveMapper.deleteRows(target.getTable(), target.getIdColumn(), chunk);
+        }
+    }
+
+    /**
+     * 从最近的月份开始逐月读取，月内按主键倒序，够 limit 条即停止
+     */
+    private List<Map<String, Object>> latest(ColdTable table, Long projectId, List<String> columns, int limit) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        if (projectId == null || limit <= 0) {
+            return rows;
+        }
+        List<YearMonth> months;
+        try {
+            months = store.months(table, projectId);
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取冷存储失败: " + table.getTable(), e);
+        }
+        List<String> projection = new ArrayList<>(columns);
+        projection.add(table.getIdColumn());
+        for (int m = months.size() - 1; m >= 0 && rows.size() < limit; m--) {
+            List<Object[]> monthRows = new ArrayList<>();
+            scan(table, projectId, months.get(m), months.get(m), true, projection, Collections.emptyList(),
+                    monthRows::add);
+            monthRows.sort((a, b) -> Long.compare((Long) b[columns.size()], (Long) a[columns.size()]));
+            for (int r = 0; r < monthRows.size() && rows.size() < limit; r++) {
+                Map<String, Object> item = new LinkedHashMap<>();
+                for (int i = 0; i < columns.size(); i++) {
+                    item.put(columns.get(i), monthRows.get(r)[i]);
+                }
+                rows.add(item);
+            }
+        }
+        return rows;
+    }
+
+    private void scan(ColdTable table, Long projectId, YearMonth from, YearMonth to, boolean newestFirst,
+                      List<String> projection, List<ColdPredicate> predicates,
+                      RowVisitor visitor) {
+        try {
+            store.scan(table, projectId, from, to, newestFirst, projection, predicates, visitor);
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取冷存储失败: " + table.getTable(), e);
+        }
+    }
+
+    private static Object[] toRow(ColdTable table, Map<String, Object> source) {
+        List<ColdColumn> columns = table.getColumns();
+        Object[] row = new Object[columns.size()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = source.get(columns.get(i).getName());
+        }
+        return row;
+    }
+}
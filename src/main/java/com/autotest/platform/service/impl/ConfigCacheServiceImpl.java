@@ -0,0 +1,123 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.engine.configcache.ConfigRow;
+import com.autotest.platform.engine.configcache.ConfigType;
+import com.autotest.platform.engine.configcache.VersionedConfigCache;
+import com.autotest.platform.mapper.ConfigCacheMapper;
+import com.autotest.platform.service.IConfigCacheService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * 配置字段缓存Service业务层处理
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class ConfigCacheServiceImpl implements IConfigCacheService {
+
+    @Autowired
+    private ConfigCacheMapper configCacheMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${autotest-platform.config-cache.max-entries:20000}")
+    private int maxEntries;
+
+    @Value("${autotest-platform.config-cache.max-weight:16000000}")
+    private long maxWeight;
+
+    @Value("${autotest-platform.config-cache.verify-millis:5000}")
+    private long verifyMillis;
+
+    private VersionedConfigCache cache;
+
+    private final VersionedConfigCache.ConfigSource source = new MapperConfigSource();
+
+    @PostConstruct
+    public void init() {
+        cache = new VersionedConfigCache(maxEntries, maxWeight, verifyMillis);
+        FunctionCounter.builder("autotest.config.cache.requests", cache, VersionedConfigCache::getHits)
+                .description("配置缓存命中次数").tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("autotest.config.cache.requests", cache, VersionedConfigCache::getParses)
+                .description("配置解析次数").tag("result", "parse").register(meterRegistry);
+        FunctionCounter.builder("autotest.config.cache.verifications", cache, VersionedConfigCache::getVerifications)
+                .description("配置版本校验次数").register(meterRegistry);
+        FunctionCounter.builder("autotest.config.cache.evictions", cache, VersionedConfigCache::getEvictions)
+                .description("配置缓存淘汰次数").register(meterRegistry);
+        Gauge.builder("autotest.config.cache.size", cache, VersionedConfigCache::size)
+                .description("配置缓存条目数").register(meterRegistry);
+        Gauge.builder("autotest.config.cache.weight", cache, VersionedConfigCache::getWeight)
+                .description("配置缓存文本字符数").register(meterRegistry);
+    }
+
+    @Override
+    public <T> T getConfig(ConfigType<T> type, Long id) {
+        return cache.get(type, id, source, System.currentTimeMillis());
+    }
+
+    @Override
+    public <T> T getConfig(ConfigType<T> type, Long id, Date updateTime, String text) {
+        if (updateTime == null) {
+            return type.parse(text);
+        }
+        return cache.get(type, id, updateTime.getTime(), text);
+    }
+
+    @Override
+    public void invalidate(ConfigType<?> type, Long id) {
+        cache.invalidate(type, id);
+    }
+
+    @Override
+    public void invalidateRow(String table, Long id) {
+        cache.invalidateRow(table, id);
+    }
+
+    private static long toMillis(Object value) {
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+        return 0L;
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+
+    /**
+     * 从业务表读取配置字段
+     */
+    private class MapperConfigSource implements VersionedConfigCache.ConfigSource {
+
+        @Override
+        public ConfigRow version(ConfigType<?> type, Long id) {
+            Map<String, Object> row = configCacheMapper.selectConfigVersion(type.getTable(), type.getIdColumn(),
+                    type.getColumn(), id);
+            return row == null ? null : new ConfigRow(null, toMillis(row.get("version")), toLong(row.get("checksum")));
+        }
+
+        @Override
+        public ConfigRow load(ConfigType<?> type, Long id) {
+            Map<String, Object> row = configCacheMapper.selectConfig(type.getTable(), type.getIdColumn(),
+                    type.getColumn(), id);
+            return row == null ? null : new ConfigRow((String) row.get("text"), toMillis(row.get("version")),
+                    toLong(row.get("checksum")));
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.domain.testcase.DataSource;
+import com.autotest.platform.engine.datasource.DataRow;
+import com.autotest.platform.engine.datasource.DataSchema;
+import com.autotest.platform.engine.datasource.MappedCsvFile;
+import com.autotest.platform.engine.datasource.RowRange;
+import com.autotest.platform.mapper.DataSourceMapper;
+import com.autotest.platform.service.IDataParameterService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 数据驱动参数Service业务层处理
+ * <p>
+ * 每个数据源文件在本节点只映射和建索引一次，文件大小或修改时间变化时重新打开。
+ * 目前只支持CSV文件，Excel数据需先另存为CSV。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class DataParameterServiceImpl implements IDataParameterService {
+
+    private static final Logger log = LoggerFactory.getLogger(DataParameterServiceImpl.class);
+
+    @Autowired
+    private DataSourceMapper dataSourceMapper;
+
+    /** 相对路径的根目录 */
+    @Value("${autotest.profile:}")
+    private String profilePath;
+
+    private final Map<Long, OpenedFile> files = new ConcurrentHashMap<>();
+
+    @Override
+    public long countRows(Long dataId) {
+        return open(dataId).rowCount();
+    }
+
+    @Override
+    public List<RowRange> splitRows(Long dataId, int workerCount) {
+        return RowRange.split(open(dataId).rowCount(), workerCount);
+    }
+
+    @Override
+    public Iterator<DataRow> iterateRows(Long dataId, RowRange range, long resumeRow) {
+        return open(dataId).iterator(range, resumeRow);
+    }
+
+    @Override
+    public Map<String, Object> getRow(Long dataId, long rowIndex) {
+        return open(dataId).row(rowIndex).toMap();
+    }
+
+    @Override
+    public void release(Long dataId) {
+        OpenedFile opened = files.remove(dataId);
+        if (opened != null) {
+            closeQuietly(opened.file);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        for (Long dataId : files.keySet()) {
+            release(dataId);
+        }
+    }
+
+    /**
+     * 已映射且文件未变化时只做一次 stat，不查库
+     */
+    private MappedCsvFile open(Long dataId) {
+        OpenedFile current = files.get(dataId);
+        if (current != null && current.isFresh()) {
+            return current.file;
+        }
+        DataSource dataSource = dataSourceMapper.selectDataSourceByDataId(dataId);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("数据源" + dataId + "不存在");
+        }
+        if (!DataSource.TYPE_FILE.equals(dataSource.getDataType())) {
+            throw new IllegalArgumentException("数据源" + dataId + "不是文件类型: " + dataSource.getDataType());
+        }
+        Path path = resolvePath(dataSource);
+        String name = path.getFileName().toString().toLowerCase();
+        if (!name.endsWith(".csv") && !name.endsWith(".txt") && !name.endsWith(".tsv")) {
+            throw new IllegalArgumentException("数据文件" + name + "不是CSV格式，Excel请另存为CSV后上传");
+        }
+        OpenedFile opened = files.compute(dataId, (k, existing) -> {
+            if (existing != null && existing.isFresh() && existing.file.getPath().equals(path)) {
+                return existing;
+            }
+            if (existing != null) {
+                closeQuietly(existing.file);
+            }
+            long[] stat = stat(path);
+            return new OpenedFile(openFile(path, dataSource), stat[0], stat[1]);
+        });
+        syncRecordCount(dataSource, opened.file.rowCount());
+        return opened.file;
+    }
+
+    private static long[] stat(Path path) {
+        try {
+            return new long[]{Files.size(path), Files.getLastModifiedTime(path).toMillis()};
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取数据文件失败: " + path, e);
+        }
+    }
+
+    private MappedCsvFile openFile(Path path, DataSource dataSource) {
+        long start = System.currentTimeMillis();
+        try {
+            MappedCsvFile file = MappedCsvFile.open(path, DataSchema.parse(dataSource.getDataSchema()));
+            log.info("数据源{}映射完成: {}行，耗时{}ms", dataSource.getDataId(), file.rowCount(),
+                    System.currentTimeMillis() - start);
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException("映射数据文件失败: " + path, e);
+        }
+    }
+
+    /**
+     * 索引得到的行数与记录不符时回写 record_count
+     */
+    private void syncRecordCount(DataSource dataSource, long rowCount) {
+        if (dataSource.getRecordCount() != null && dataSource.getRecordCount() == rowCount) {
+            return;
+        }
+        DataSource update = new DataSource();
+        update.setDataId(dataSource.getDataId());
+        update.setRecordCount((int) Math.min(Integer.MAX_VALUE, rowCount));
+        update.setUpdateTime(LocalDateTime.now());
+        dataSourceMapper.updateDataSource(update);
+    }
+
+    private Path resolvePath(DataSource dataSource) {
+        if (dataSource.getFilePath() == null || dataSource.getFilePath().isEmpty()) {
+            throw new IllegalArgumentException("数据源" + dataSource.getDataId() + "未配置文件路径");
+        }
+        Path path = Paths.get(dataSource.getFilePath());
+        if (!path.isAbsolute() && profilePath != null && !profilePath.isEmpty()) {
+            path = Paths.get(profilePath).resolve(path);
+        }
+        if (Files.isDirectory(path) && dataSource.getFileName() != null) {
+            path = path.resolve(dataSource.getFileName());
+        }
+        return path;
+    }
+
+    private static void closeQuietly(MappedCsvFile file) {
+        try {
+            file.close();
+        } catch (IOException e) {
+            log.warn("关闭数据文件失败: {}", file.getPath(), e);
+        }
+    }
+
+    private static final class OpenedFile {
+
+        private final MappedCsvFile file;
+
+        private final long length;
+
+        private final long modified;
+
+        private OpenedFile(MappedCsvFile file, long length, long modified) {
+            this.file = file;
+            this.length = length;
+            this.modified = modified;
+        }
+
+        private boolean isFresh() {
+            try {
+                return Files.size(file.getPath()) == length
+                        && Files.getLastModifiedTime(file.getPath()).toMillis() == modified;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.domain.testcase.DataSource;
+import com.autotest.platform.mapper.DataSourceMapper;
+import com.autotest.platform.service.IDataParameterService;
+import com.autotest.platform.service.IDataSourceService;
+import com.autotest.platform.service.IDbPoolService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 测试数据源Service业务层处理
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class DataSourceServiceImpl implements IDataSourceService {
+
+    @Autowired
+    private DataSourceMapper dataSourceMapper;
+
+    @Autowired
+    private IDbPoolService dbPoolService;
+
+    @Autowired
+    private IDataParameterService dataParameterService;
+
+    @Override
+    public DataSource selectDataSourceByDataId(Long dataId) {
+        return dataSourceMapper.selectDataSourceByDataId(dataId);
+    }
+
+    @Override
+    public List<DataSource> selectDataSourceList(DataSource dataSource) {
+        return dataSourceMapper.selectDataSourceList(dataSource);
+    }
+
+    @Override
+    public int insertDataSource(DataSource dataSource) {
+        if (dataSourceMapper.checkDataSourceNameExists(dataSource.getDataName(), dataSource.getProjectId()) > 0) {
+            throw new IllegalArgumentException("数据源名称已存在: " + dataSource.getDataName());
+        }
+        dataSource.setCreateTime(LocalDateTime.now());
+        return dataSourceMapper.insertDataSource(dataSource);
+    }
+
+    @Override
+    public int updateDataSource(DataSource dataSource) {
+        DataSource existing = dataSourceMapper.selectDataSourceByDataId(dataSource.getDataId());
+        dataSource.setUpdateTime(LocalDateTime.now());
+        int rows = dataSourceMapper.updateDataSource(dataSource);
+        if (existing != null && rows > 0) {
+            String dbConfig = dataSource.getDbConfig() != null ? dataSource.getDbConfig() : existing.getDbConfig();
+            String dataType = dataSource.getDataType() != null ? dataSource.getDataType() : existing.getDataType();
+            // 类型改为非数据库时关闭连接池，连接配置变化时下次使用重建
+            dbPoolService.refreshDataSource(dataSource.getDataId(),
+                    DataSource.TYPE_DATABASE.equals(dataType) ? dbConfig : null);
+            if (changed(dataSource.getDataSchema(), existing.getDataSchema())
+                    || changed(dataSource.getFilePath(), existing.getFilePath())
+                    || changed(dataSource.getFileName(), existing.getFileName())
+                    || changed(dataSource.getDataType(), existing.getDataType())) {
+                dataParameterService.release(dataSource.getDataId());
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    public int deleteDataSourceByDataIds(Long[] dataIds) {
+        int rows = dataSourceMapper.deleteDataSourceByDataIds(dataIds);
+        for (Long dataId : dataIds) {
+            releaseResources(dataId);
+        }
+        return rows;
+    }
+
+    @Override
+    public int deleteDataSourceByDataId(Long dataId) {
+        int rows = dataSourceMapper.deleteDataSourceByDataId(dataId);
+        releaseResources(dataId);
+        return rows;
+    }
+
+    private void releaseResources(Long dataId) {
+        dbPoolService.refreshDataSource(dataId, null);
+        dataParameterService.release(dataId);
+    }
+
+    /**
+     * 未传入的字段视为未修改
+     */
+    private static boolean changed(String value, String previous) {
+        return value != null && !Objects.equals(value, previous);
+    }
+}
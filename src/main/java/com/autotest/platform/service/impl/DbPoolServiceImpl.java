@@ -0,0 +1,241 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.domain.testcase.DataSource;
+import com.autotest.platform.engine.dbpool.DbConnectionConfig;
+import com.autotest.platform.engine.dbpool.DbPoolRegistry;
+import com.autotest.platform.engine.dbpool.PoolMetrics;
+import com.autotest.platform.engine.dbpool.PoolSettings;
+import com.autotest.platform.mapper.DataSourceMapper;
+import com.autotest.platform.mapper.TestEnvironmentMapper;
+import com.autotest.platform.service.IDbPoolService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 目标库连接池Service业务层处理
+ * <p>
+ * 数据源连接池键为 {@code ds:{dataId}}，环境连接池键为 {@code env:{envId}}。
+ * 各连接池指标以 {@code pool} 标签发布为 autotest.db.pool.* 指标。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class DbPoolServiceImpl implements IDbPoolService {
+
+    private static final Logger log = LoggerFactory.getLogger(DbPoolServiceImpl.class);
+
+    @Autowired
+    private DataSourceMapper dataSourceMapper;
+
+    @Autowired
+    private TestEnvironmentMapper testEnvironmentMapper;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Value("${autotest-platform.db-pool.initial-size:0}")
+    private int initialSize;
+
+    @Value("${autotest-platform.db-pool.min-idle:0}")
+    private int minIdle;
+
+    @Value("${autotest-platform.db-pool.max-active:8}")
+    private int maxActive;
+
+    @Value("${autotest-platform.db-pool.max-wait-millis:10000}")
+    private long maxWaitMillis;
+
+    @Value("${autotest-platform.db-pool.idle-close-millis:600000}")
+    private long idleCloseMillis;
+
+    @Value("${autotest-platform.db-pool.validation-query:}")
+    private String validationQuery;
+
+    private DbPoolRegistry registry;
+
+    private final List<PoolGauge> gauges = new ArrayList<>();
+
+    @PostConstruct
+    public void init() {
+        PoolSettings settings = new PoolSettings();
+        settings.setInitialSize(initialSize);
+        settings.setMinIdle(minIdle);
+        settings.setMaxActive(maxActive);
+        settings.setMaxWaitMillis(maxWaitMillis);
+        settings.setIdleCloseMillis(idleCloseMillis);
+        settings.setValidationQuery(validationQuery);
+        registry = new DbPoolRegistry(settings);
+        MeterRegistry meters = meterRegistry.getIfAvailable();
+        if (meters != null) {
+            gauges.add(new PoolGauge(meters, "autotest.db.pool.active", "借出中的连接数", PoolMetrics::getActiveCount));
+            gauges.add(new PoolGauge(meters, "autotest.db.pool.idle", "池中空闲连接数", PoolMetrics::getIdleCount));
+            gauges.add(new PoolGauge(meters, "autotest.db.pool.max", "最大连接数", PoolMetrics::getMaxActive));
+            gauges.add(new PoolGauge(meters, "autotest.db.pool.waiting", "等待获取连接的线程数",
+                    PoolMetrics::getWaitThreadCount));
+            gauges.add(new PoolGauge(meters, "autotest.db.pool.errors", "累计建连失败次数",
+                    PoolMetrics::getErrorCount));
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        registry.close();
+    }
+
+    @Override
+    public Connection getDataSourceConnection(Long dataId) throws SQLException {
+        return registry.getConnection(dataSourceKey(dataId), () -> loadDataSourceConfig(dataId));
+    }
+
+    @Override
+    public Connection getEnvironmentConnection(Long envId) throws SQLException {
+        return registry.getConnection(environmentKey(envId), () -> loadEnvironmentConfig(envId));
+    }
+
+    @Override
+    public javax.sql.DataSource getDataSourcePool(Long dataId) {
+        return registry.getDataSource(dataSourceKey(dataId), () -> loadDataSourceConfig(dataId));
+    }
+
+    @Override
+    public javax.sql.DataSource getEnvironmentPool(Long envId) {
+        return registry.getDataSource(environmentKey(envId), () -> loadEnvironmentConfig(envId));
+    }
+
+    @Override
+    public void refreshDataSource(Long dataId, String dbConfig) {
+        if (registry.refresh(dataSourceKey(dataId), parseQuietly(dbConfig))) {
+            log.info("数据源{}连接配置变化，已关闭旧连接池", dataId);
+        }
+    }
+
+    @Override
+    public void refreshEnvironment(Long envId, String dbConfig) {
+        if (registry.refresh(environmentKey(envId), parseQuietly(dbConfig))) {
+            log.info("环境{}连接配置变化，已关闭旧连接池", envId);
+        }
+    }
+
+    @Override
+    public List<PoolMetrics> selectPoolMetrics() {
+        return registry.metrics();
+    }
+
+    /**
+     * 定期关闭长时间未使用的连接池，释放目标库连接
+     */
+    @Scheduled(fixedDelayString = "${autotest-platform.db-pool.evict-interval-millis:60000}")
+    public void evictIdlePools() {
+        int closed = registry.evictIdle();
+        if (closed > 0) {
+            log.info("关闭空闲目标库连接池{}个，剩余{}个", closed, registry.size());
+        }
+        refreshEnvironmentPools();
+    }
+
+    /**
+     * 定期发布各连接池指标，已关闭的连接池随之移除
+     */
+    @Scheduled(fixedDelayString = "${autotest-platform.db-pool.metrics-interval-millis:15000}")
+    public void publishPoolMetrics() {
+        if (gauges.isEmpty()) {
+            return;
+        }
+        List<PoolMetrics> metrics = registry.metrics();
+        for (PoolGauge gauge : gauges) {
+            gauge.publish(metrics);
+        }
+    }
+
+    /**
+     * 环境连接配置由外部维护，本服务没有写入口，按周期回读已建连接池的配置，变化时关闭旧连接池
+     */
+    private void refreshEnvironmentPools() {
+        for (PoolMetrics metrics : registry.metrics()) {
+            String key = metrics.getKey();
+            if (!key.startsWith("env:")) {
+                continue;
+            }
+            Long envId = Long.valueOf(key.substring("env:".length()));
+            try {
+                refreshEnvironment(envId, testEnvironmentMapper.selectDbConfigByEnvId(envId));
+            } catch (RuntimeException e) {
+                log.warn("回读环境{}连接配置失败: {}", envId, e.getMessage());
+            }
+        }
+    }
+
+    private DbConnectionConfig loadDataSourceConfig(Long dataId) {
+        DataSource dataSource = dataSourceMapper.selectDataSourceByDataId(dataId);
+        if (dataSource == null) {
+            throw new IllegalArgumentException("数据源" + dataId + "不存在");
+        }
+        if (!DataSource.TYPE_DATABASE.equals(dataSource.getDataType())) {
+            throw new IllegalArgumentException("数据源" + dataId + "不是数据库类型: " + dataSource.getDataType());
+        }
+        return DbConnectionConfig.parse(dataSource.getDbConfig());
+    }
+
+    private DbConnectionConfig loadEnvironmentConfig(Long envId) {
+        return DbConnectionConfig.parse(testEnvironmentMapper.selectDbConfigByEnvId(envId));
+    }
+
+    /**
+     * 新配置无法解析时返回null，直接关闭旧连接池，下次使用时再报告配置错误
+     */
+    private static DbConnectionConfig parseQuietly(String dbConfig) {
+        try {
+            return dbConfig == null || dbConfig.trim().isEmpty() ? null : DbConnectionConfig.parse(dbConfig);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String dataSourceKey(Long dataId) {
+        return "ds:" + dataId;
+    }
+
+    private static String environmentKey(Long envId) {
+        return "env:" + envId;
+    }
+
+    /**
+     * 按连接池键打标签的一组指标
+     */
+    private static final class PoolGauge {
+
+        private final MultiGauge gauge;
+
+        private final ToDoubleFunction<PoolMetrics> value;
+
+        PoolGauge(MeterRegistry meters, String name, String description, ToDoubleFunction<PoolMetrics> value) {
+            this.gauge = MultiGauge.builder(name).description(description).register(meters);
+            this.value = value;
+        }
+
+        void publish(List<PoolMetrics> metrics) {
+            List<MultiGauge.Row<?>> rows = new ArrayList<>(metrics.size());
+            for (PoolMetrics item : metrics) {
+                rows.add(MultiGauge.Row.of(Tags.of("pool", item.getKey()), value.applyAsDouble(item)));
+            }
+            gauge.register(rows, true);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.engine.diff.CaseDiff;
+import com.autotest.platform.engine.diff.DiffCategory;
+import com.autotest.platform.engine.diff.ExecutionDiff;
+import com.autotest.platform.engine.diff.ExecutionDiffer;
+import com.autotest.platform.engine.status.ExecutionStatus;
+import com.autotest.platform.mapper.ExecutionDiffMapper;
+import com.autotest.platform.service.IExecutionDiffService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 执行对比Service业务层处理
+ * <p>
+ * 两次执行都已结束时结果不会再变化，按执行对缓存对比结果；任一执行未结束时每次重新对比。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class ExecutionDiffServiceImpl implements IExecutionDiffService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionDiffServiceImpl.class);
+
+    /** 单条SQL查询的用例标题数 */
+    private static final int TITLE_BATCH_SIZE = 1000;
+
+    @Autowired
+    private ExecutionDiffMapper executionDiffMapper;
+
+    @Value("${autotest-platform.execution.diff.page-size:5000}")
+    private int pageSize;
+
+    @Value("${autotest-platform.execution.diff.slower-ratio:1.5}")
+    private double slowerRatio;
+
+    @Value("${autotest-platform.execution.diff.slower-min-delta-millis:1000}")
+    private long slowerMinDeltaMillis;
+
+    @Value("${autotest-platform.execution.diff.max-items:200}")
+    private int maxItems;
+
+    @Value("${autotest-platform.execution.diff.cache-size:256}")
+    private int cacheSize;
+
+    private ExecutionDiffer differ;
+
+    /** 已结束执行对的对比结果，按访问顺序淘汰，由自身锁保护 */
+    private Map<PairKey, Map<String, Object>> cache;
+
+    @PostConstruct
+    public void init() {
+        differ = new ExecutionDiffer(pageSize, slowerRatio, slowerMinDeltaMillis, maxItems);
+        int capacity = Math.max(0, cacheSize);
+        cache = Collections.synchronizedMap(new LinkedHashMap<PairKey, Map<String, Object>>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PairKey, Map<String, Object>> eldest) {
+                return size() > capacity;
+            }
+        });
+    }
+
+    /**
+     * 对比两次执行的用例结果
+     *
+     * @param baseExecutionId 基准执行ID
+     * @param targetExecutionId 目标执行ID
+     * @return 对比结果
+     */
+    @Override
+    public Map<String, Object> diff(Long baseExecutionId, Long targetExecutionId) {
+        PairKey key = new PairKey(baseExecutionId, targetExecutionId);
+        Map<String, Object> cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Map<String, Object> base = loadExecution(baseExecutionId);
+        Map<String, Object> target = loadExecution(targetExecutionId);
+        if (!Objects.equals(base.get("projectId"), target.get("projectId"))) {
+            throw new IllegalStateException("两次执行不属于同一项目");
+        }
+        long start = System.currentTimeMillis();
+        ExecutionDiff diff = differ.diff(baseExecutionId, targetExecutionId, executionDiffMapper::selectOutcomePage);
+        Map<String, Object> result = toResult(base, target, diff);
+        long elapsed = System.currentTimeMillis() - start;
+        if (elapsed > 1000) {
+            log.warn("执行对比{}->{}耗时{}ms，用例{}/{}个", base.get("executionCode"), target.get("executionCode"),
+                    elapsed, diff.getBaseCases(), diff.getTargetCases());
+        }
+        if (ExecutionStatus.isFinished((String) base.get("status"))
+                && ExecutionStatus.isFinished((String) target.get("status"))) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    private Map<String, Object> loadExecution(Long executionId) {
+        Map<String, Object> execution = executionDiffMapper.selectExecutionForDiff(executionId);
+        if (execution == null) {
+            throw new IllegalArgumentException("执行不存在: " + executionId);
+        }
+        return execution;
+    }
+
+    private Map<String, Object> toResult(Map<String, Object> base, Map<String, Object> target, ExecutionDiff diff) {
+        Map<Long, Map<String, Object>> titles = loadTitles(diff);
+        Map<String, Object> items = new LinkedHashMap<>();
+        for (DiffCategory category : DiffCategory.values()) {
+            List<Map<String, Object>> list = new ArrayList<>();
+            for (CaseDiff item : diff.items(category)) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                Map<String, Object> title = titles.get(item.getCaseId());
+                row.put("caseId", item.getCaseId());
+                row.put("caseCode", title == null ? null : title.get("caseCode"));
+                row.put("caseTitle", title == null ? null : title.get("caseTitle"));
+                row.put("baseStatus", item.getBaseStatus());
+                row.put("targetStatus", item.getTargetStatus());
+                row.put("baseDuration", item.getBaseDuration());
+                row.put("targetDuration", item.getTargetDuration());
+                list.add(Collections.unmodifiableMap(row));
+            }
+            items.put(category.name(), Collections.unmodifiableList(list));
+        }
+        Map<String, Object> counts = new LinkedHashMap<>();
+        for (DiffCategory category : DiffCategory.values()) {
+            counts.put(category.name(), diff.count(category));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("baseExecutionId", diff.getBaseExecutionId());
+        result.put("baseExecutionCode", base.get("executionCode"));
+        result.put("targetExecutionId", diff.getTargetExecutionId());
+        result.put("targetExecutionCode", target.get("executionCode"));
+        result.put("baseCases", diff.getBaseCases());
+        result.put("targetCases", diff.getTargetCases());
+        result.put("counts", Collections.unmodifiableMap(counts));
+        result.put("items", Collections.unmodifiableMap(items));
+        result.put("truncated", diff.isTruncated());
+        return Collections.unmodifiableMap(result);
+    }
+
+    private Map<Long, Map<String, Object>> loadTitles(ExecutionDiff diff) {
+        Set<Long> caseIds = new LinkedHashSet<>();
+        for (DiffCategory category : DiffCategory.values()) {
+            for (CaseDiff item : diff.items(category)) {
+                caseIds.add(item.getCaseId());
+            }
+        }
+        Map<Long, Map<String, Object>> titles = new HashMap<>();
+        List<Long> ids = new ArrayList<>(caseIds);
+        for (int from = 0; from < ids.size(); from += TITLE_BATCH_SIZE) {
+            for (Map<String, Object> row : executionDiffMapper.selectCaseTitles(
+                    ids.subList(from, Math.min(ids.size(), from + TITLE_BATCH_SIZE)))) {
+                titles.put(((Number) row.get("caseId")).longValue(), row);
+            }
+        }
+        return titles;
+    }
+
+    private static final class PairKey {
+
+        private final Long base;
+
+        private final Long target;
+
+        private PairKey(Long base, Long target) {
+            this.base = base;
+            this.target = target;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PairKey)) {
+                return false;
+            }
+            PairKey other = (PairKey) o;
+            return Objects.equals(base, other.base) && Objects.equals(target, other.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(base, target);
+        }
+    }
+}
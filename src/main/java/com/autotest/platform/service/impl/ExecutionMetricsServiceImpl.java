@@ -0,0 +1,125 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.engine.metrics.ExecutionMetrics;
+import com.autotest.platform.mapper.ExecutionMetricsMapper;
+import com.autotest.platform.service.IExecutionMetricsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 执行引擎指标Service业务层处理
+ * <p>
+ * 进程内的分发和用例执行由 {@link ExecutionMetrics} 直接记录；执行排队、调度触发延迟和Webhook触发延迟
+ * 以数据库记录为准，定时按时间窗口增量采集，窗口终点留出少量余量，等待未提交的事务落库。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class ExecutionMetricsServiceImpl implements IExecutionMetricsService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionMetricsServiceImpl.class);
+
+    @Autowired
+    private ExecutionMetricsMapper executionMetricsMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    /** 单个用例耗时直方图上限(分钟) */
+    @Value("${autotest-platform.metrics.max-case-minutes:60}")
+    private long maxCaseMinutes;
+
+    /** 采集窗口终点距当前时间的余量(秒) */
+    @Value("${autotest-platform.metrics.settle-seconds:5}")
+    private long settleSeconds;
+
+    /** 单次采集的最大记录数 */
+    @Value("${autotest-platform.metrics.batch-size:5000}")
+    private int batchSize;
+
+    /** 是否采集数据库积压和延迟，多实例部署时只需调度角色采集 */
+    @Value("${autotest-platform.metrics.collect-enabled:true}")
+    private boolean collectEnabled;
+
+    private ExecutionMetrics metrics;
+
+    private LocalDateTime lastCollectTime;
+
+    @PostConstruct
+    public void init() {
+        metrics = new ExecutionMetrics(meterRegistry, Duration.ofMinutes(maxCaseMinutes));
+        lastCollectTime = windowEnd();
+    }
+
+    @Override
+    public ExecutionMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * 定时采集，间隔应不大于 Prometheus 抓取间隔
+     */
+    @Scheduled(fixedDelayString = "${autotest-platform.metrics.collect-interval-millis:15000}")
+    @Override
+    public synchronized void collect() {
+        if (!collectEnabled) {
+            return;
+        }
+        try {
+            Map<String, Object> executions = executionMetricsMapper.selectExecutionBacklog();
+            metrics.updateExecutionBacklog(toLong(executions, "pendingCount"), toLong(executions, "oldestSeconds"));
+            Map<String, Object> schedules = executionMetricsMapper.selectScheduleBacklog();
+            metrics.updateScheduleBacklog(toLong(schedules, "overdueCount"), toLong(schedules, "maxLagSeconds"));
+            Map<String, Object> webhooks = executionMetricsMapper.selectWebhookBacklog();
+            metrics.updateWebhookBacklog(toLong(webhooks, "pendingCount"), toLong(webhooks, "oldestSeconds"));
+
+            LocalDateTime until = windowEnd();
+            if (!until.isAfter(lastCollectTime)) {
+                return;
+            }
+            List<Map<String, Object>> started = executionMetricsMapper.selectStartedExecutions(lastCollectTime, until, batchSize);
+            for (Map<String, Object> row : started) {
+                if (row.get("waitMicros") != null) {
+                    metrics.recordExecutionQueueWait(toLong(row, "waitMicros") / 1000L);
+                }
+                if (row.get("fireLagMicros") != null) {
+                    metrics.recordScheduleFireLag(toLong(row, "fireLagMicros") / 1000L);
+                }
+            }
+            List<Long> latencies = executionMetricsMapper.selectWebhookTriggerLatency(lastCollectTime, until, batchSize);
+            for (Long micros : latencies) {
+                if (micros != null) {
+                    metrics.recordWebhookTriggerLatency(micros / 1000L);
+                }
+            }
+            if (started.size() >= batchSize || latencies.size() >= batchSize) {
+                log.warn("执行指标采集窗口{}~{}超过{}条，超出部分未计入", lastCollectTime, until, batchSize);
+            }
+            lastCollectTime = until;
+        } catch (Exception e) {
+            log.warn("执行指标采集失败: {}", e.getMessage());
+        }
+    }
+
+    private LocalDateTime windowEnd() {
+        return LocalDateTime.now().minusSeconds(settleSeconds).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    private static long toLong(Map<String, Object> row, String key) {
+        Object value = row == null ? null : row.get(key);
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+}
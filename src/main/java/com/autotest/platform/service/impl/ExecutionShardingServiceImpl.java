@@ -0,0 +1,263 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.engine.metrics.ExecutionMetrics;
+import com.autotest.platform.engine.sharding.CaseDurationEstimator;
+import com.autotest.platform.engine.sharding.LptShardPlanner;
+import com.autotest.platform.engine.sharding.Shard;
+import com.autotest.platform.engine.sharding.ShardCase;
+import com.autotest.platform.engine.sharding.ShardPlan;
+import com.autotest.platform.engine.sharding.WorkStealingDispatcher;
+import com.autotest.platform.engine.sharding.WorkerSlot;
+import com.autotest.platform.mapper.TestExecutionShardMapper;
+import com.autotest.platform.service.IExecutionMetricsService;
+import com.autotest.platform.service.IExecutionShardingService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 执行用例分片Service业务层处理
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class ExecutionShardingServiceImpl implements IExecutionShardingService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionShardingServiceImpl.class);
+
+    /** 单次查询历史耗时的用例数 */
+    private static final int HISTORY_QUERY_BATCH = 500;
+
+    @Autowired
+    private TestExecutionShardMapper testExecutionShardMapper;
+
+    @Autowired
+    private IExecutionMetricsService executionMetricsService;
+
+    @Value("${autotest-platform.execution.sharding.history-size:10}")
+    private int historySize;
+
+    @Value("${autotest-platform.execution.sharding.decay:0.7}")
+    private double decay;
+
+    @Value("${autotest-platform.execution.sharding.default-duration.web-ui:120000}")
+    private long webUiDefault;
+
+    @Value("${autotest-platform.execution.sharding.default-duration.api:2000}")
+    private long apiDefault;
+
+    @Value("${autotest-platform.execution.sharding.default-duration.unit:500}")
+    private long unitDefault;
+
+    @Value("${autotest-platform.execution.sharding.default-duration.performance:300000}")
+    private long performanceDefault;
+
+    @Value("${autotest-platform.execution.sharding.default-duration.other:30000}")
+    private long otherDefault;
+
+    private final LptShardPlanner planner = new LptShardPlanner();
+
+    /** 正在分发的执行 */
+    private final Map<Long, DispatchState> dispatchers = new ConcurrentHashMap<>();
+
+    private ExecutionMetrics metrics;
+
+    @PostConstruct
+    public void init() {
+        metrics = executionMetricsService.getMetrics();
+        metrics.bindDispatchQueue(this::remainingCases);
+    }
+
+    /**
+     * 按预估耗时为执行生成分片计划，并记录各用例的计划执行节点
+     *
+     * @param executionId 执行ID
+     * @param workers 执行节点
+     * @return 分片计划
+     */
+    @Override
+    public ShardPlan planExecution(Long executionId, List<WorkerSlot> workers) {
+        List<Map<String, Object>> rows = testExecutionShardMapper.selectPendingExecutionCases(executionId);
+        CaseDurationEstimator estimator = loadEstimator(rows);
+        List<ShardCase> cases = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            Long caseId = toLong(row.get("caseId"));
+            String caseType = (String) row.get("caseType");
+            cases.add(new ShardCase(toLong(row.get("executionCaseId")), caseId, caseType, estimator.estimate(caseId, caseType)));
+        }
+        ShardPlan plan = planner.plan(cases, workers);
+        for (Shard shard : plan.getShards()) {
+            if (shard.getCases().isEmpty()) {
+                continue;
+            }
+            List<Long> executionCaseIds = new ArrayList<>(shard.getCases().size());
+            for (ShardCase shardCase : shard.getCases()) {
+                executionCaseIds.add(shardCase.getExecutionCaseId());
+            }
+            testExecutionShardMapper.updateExecutorNode(executionCaseIds, shard.getWorkerId());
+        }
+        log.info("执行{}分片完成: {}个用例，{}个节点，预估总耗时{}ms，预估完成时间{}ms", executionId, plan.getCaseCount(),
+                workers.size(), plan.getTotalEstimatedMillis(), plan.getMakespanMillis());
+        return plan;
+    }
+
+    /**
+     * 生成分片计划并开始分发
+     *
+     * @param executionId 执行ID
+     * @param workers 执行节点
+     * @return 分片计划
+     */
+    @Override
+    public ShardPlan startDispatch(Long executionId, List<WorkerSlot> workers) {
+        ShardPlan plan = planExecution(executionId, workers);
+        DispatchState previous = dispatchers.put(executionId, new DispatchState(new WorkStealingDispatcher(plan), workers));
+        if (previous != null) {
+            release(previous);
+        }
+        for (WorkerSlot worker : workers) {
+            metrics.workerAttached(worker.getWorkerId());
+        }
+        return plan;
+    }
+
+    /**
+     * 获取节点下一个要执行的用例，自身分片执行完后从其他节点窃取
+     *
+     * @param executionId 执行ID
+     * @param workerId 节点标识
+     * @return 用例，全部分发完毕时返回null
+     */
+    @Override
+    public ShardCase nextCase(Long executionId, String workerId) {
+        DispatchState state = dispatchers.get(executionId);
+        if (state == null) {
+            return null;
+        }
+        // 节点来领下一个用例，说明上一个已经结束，未回报结果时只释放节点
+        if (state.running.remove(workerId) != null) {
+            metrics.caseFinished(workerId, null, null, -1L);
+        }
+        ShardCase shardCase = state.dispatcher.next(workerId);
+        if (shardCase != null) {
+            metrics.recordDispatchWait(System.currentTimeMillis() - state.startTime);
+            metrics.caseStarted(workerId);
+            state.running.put(workerId, shardCase);
+        }
+        return shardCase;
+    }
+
+    /**
+     * 回报用例执行结果，记录用例耗时并释放节点
+     *
+     * @param executionId 执行ID
+     * @param workerId 节点标识
+     * @param status 执行结果
+     * @param durationMillis 执行耗时(毫秒)
+     */
+    @Override
+    public void reportCaseResult(Long executionId, String workerId, String status, long durationMillis) {
+        DispatchState state = dispatchers.get(executionId);
+        ShardCase shardCase = state == null ? null : state.running.remove(workerId);
+        if (shardCase != null) {
+            metrics.caseFinished(workerId, shardCase.getCaseType(), status, durationMillis);
+        }
+    }
+
+    /**
+     * 结束分发
+     *
+     * @param executionId 执行ID
+     */
+    @Override
+    public void finishDispatch(Long executionId) {
+        DispatchState state = dispatchers.remove(executionId);
+        if (state == null) {
+            return;
+        }
+        release(state);
+        if (state.dispatcher.getStolenCount() > 0) {
+            log.info("执行{}分发结束，共窃取{}个用例", executionId, state.dispatcher.getStolenCount());
+        }
+    }
+
+    private void release(DispatchState state) {
+        for (String workerId : state.running.keySet()) {
+            if (state.running.remove(workerId) != null) {
+                metrics.caseFinished(workerId, null, null, -1L);
+            }
+        }
+        for (WorkerSlot worker : state.workers) {
+            metrics.workerDetached(worker.getWorkerId());
+        }
+    }
+
+    private int remainingCases() {
+        int remaining = 0;
+        for (DispatchState state : dispatchers.values()) {
+            remaining += state.dispatcher.remainingCases();
+        }
+        return remaining;
+    }
+
+    private CaseDurationEstimator loadEstimator(List<Map<String, Object>> rows) {
+        Map<String, Long> typeDefaults = new HashMap<>();
+        typeDefaults.put("WEB_UI", webUiDefault);
+        typeDefaults.put("API", apiDefault);
+        typeDefaults.put("UNIT", unitDefault);
+        typeDefaults.put("PERFORMANCE", performanceDefault);
+        CaseDurationEstimator estimator = new CaseDurationEstimator(decay, typeDefaults, otherDefault);
+
+        Map<Long, String> caseTypes = new LinkedHashMap<>();
+        for (Map<String, Object> row : rows) {
+            caseTypes.put(toLong(row.get("caseId")), (String) row.get("caseType"));
+        }
+        List<Long> caseIds = new ArrayList<>(caseTypes.keySet());
+        for (int from = 0; from < caseIds.size(); from += HISTORY_QUERY_BATCH) {
+            List<Long> batch = caseIds.subList(from, Math.min(caseIds.size(), from + HISTORY_QUERY_BATCH));
+            Map<Long, List<Long>> history = new LinkedHashMap<>();
+            for (Map<String, Object> row : testExecutionShardMapper.selectCaseDurationHistory(batch, historySize)) {
+                history.computeIfAbsent(toLong(row.get("caseId")), k -> new ArrayList<>()).add(toLong(row.get("duration")));
+            }
+            for (Map.Entry<Long, List<Long>> entry : history.entrySet()) {
+                estimator.addHistory(entry.getKey(), caseTypes.get(entry.getKey()), entry.getValue());
+            }
+        }
+        return estimator;
+    }
+
+    private static Long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+
+    /**
+     * 一次执行的分发状态
+     */
+    private static final class DispatchState {
+
+        private final WorkStealingDispatcher dispatcher;
+
+        private final List<WorkerSlot> workers;
+
+        private final long startTime = System.currentTimeMillis();
+
+        /** 节点 -> 执行中的用例 */
+        private final Map<String, ShardCase> running = new ConcurrentHashMap<>();
+
+        private DispatchState(WorkStealingDispatcher dispatcher, List<WorkerSlot> workers) {
+            this.dispatcher = dispatcher;
+            this.workers = new ArrayList<>(workers);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.engine.status.ExecutionKind;
+import com.autotest.platform.engine.status.ExecutionStatus;
+import com.autotest.platform.engine.status.ExecutionStatusRegistry;
+import com.autotest.platform.mapper.ExecutionStatusMapper;
+import com.autotest.platform.service.IExecutionStatusService;
+import com.autotest.platform.service.IRerunService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 执行状态Service业务层处理
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class ExecutionStatusServiceImpl implements IExecutionStatusService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionStatusServiceImpl.class);
+
+    @Autowired
+    private ExecutionStatusMapper executionStatusMapper;
+
+    @Autowired
+    private IRerunService rerunService;
+
+    @Value("${autotest-platform.execution.status.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${autotest-platform.execution.status.retain-millis:600000}")
+    private long retainMillis;
+
+    @Value("${autotest-platform.execution.status.max-waiters:5000}")
+    private int maxWaiters;
+
+    @Value("${autotest-platform.execution.status.refresh-millis:5000}")
+    private long refreshMillis;
+
+    private final Map<ExecutionKind, ExecutionStatusRegistry> registries = new EnumMap<>(ExecutionKind.class);
+
+    @PostConstruct
+    public void init() {
+        for (ExecutionKind kind : ExecutionKind.values()) {
+            registries.put(kind, new ExecutionStatusRegistry(maxEntries, retainMillis, maxWaiters, refreshMillis));
+        }
+    }
+
+    /**
+     * 查询执行状态
+     *
+     * @param kind 执行类型
+     * @param executionId 执行ID
+     * @return 状态快照
+     */
+    @Override
+    public ExecutionStatus getStatus(ExecutionKind kind, Long executionId) {
+        return registries.get(kind).get(executionId, () -> load(kind, executionId));
+    }
+
+    /**
+     * 从库里回读执行状态，长轮询超时时调用，补上未经本节点的变更
+     *
+     * @param kind 执行类型
+     * @param executionId 执行ID
+     * @return 状态快照
+     */
+    @Override
+    public ExecutionStatus reloadStatus(ExecutionKind kind, Long executionId) {
+        return registries.get(kind).reload(executionId, () -> load(kind, executionId));
+    }
+
+    /**
+     * 等待执行状态变化
+     *
+     * @param kind 执行类型
+     * @param executionId 执行ID
+     * @param knownVersion 客户端已知版本
+     * @return 状态变化或无需等待时完成的Future
+     */
+    @Override
+    public CompletableFuture<ExecutionStatus> awaitChange(ExecutionKind kind, Long executionId, long knownVersion) {
+        if (getStatus(kind, executionId) == null) {
+            return null;
+        }
+        return registries.get(kind).awaitChange(executionId, knownVersion);
+    }
+
+    /**
+     * 更新测试执行状态，入库后发布到注册表
+     *
+     * @param executionId 执行ID
+     * @param status 状态
+     * @param errorMessage 错误信息
+     * @return 结果
+     */
+    @Override
+    public int updateStatus(Long executionId, String status, String errorMessage) {
+        int rows = executionStatusMapper.updateStatus(executionId, status, errorMessage);
+        if (rows > 0) {
+            registries.get(ExecutionKind.TEST).update(executionId,
+                    current -> current.withStatus(status, errorMessage, System.currentTimeMillis()));
+            if (ExecutionStatus.isFinished(status)) {
+                recordRerunOutcome(executionId);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 更新测试执行进度，入库后发布到注册表
+     *
+     * @param executionId 执行ID
+     * @param totalCases 总用例数
+     * @param passedCases 通过用例数
+     * @param failedCases 失败用例数
+     * @param skippedCases 跳过用例数
+     * @return 结果
+     */
+    @Override
+    public int updateProgress(Long executionId, int totalCases, int passedCases, int failedCases, int skippedCases) {
+        double progress = totalCases == 0 ? 0D
+                : Math.min(100D, Math.round((passedCases + failedCases + skippedCases) * 10000D / totalCases) / 100D);
+        int rows = executionStatusMapper.updateProgress(executionId, passedCases, failedCases, skippedCases, progress);
+        if (rows > 0) {
+            registries.get(ExecutionKind.TEST).update(executionId, current -> current.withProgress(
+                    totalCases, passedCases, failedCases, skippedCases, System.currentTimeMillis()));
+        }
+        return rows;
+    }
+
+    /**
+     * 更新流水线执行状态，入库后发布到注册表
+     *
+     * @param executionId 流水线执行ID
+     * @param status 状态
+     * @param errorMessage 错误信息
+     * @return 结果
+     */
+    @Override
+    public int updateExecutionStatus(Long executionId, String status, String errorMessage) {
+        int rows = executionStatusMapper.updateExecutionStatus(executionId, status, errorMessage);
+        if (rows > 0) {
+            registries.get(ExecutionKind.PIPELINE).update(executionId,
+                    current -> current.withStatus(status, errorMessage, System.currentTimeMillis()));
+        }
+        return rows;
+    }
+
+    /**
+     * 定时清理过期的终态执行
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${autotest-platform.execution.status.evict-interval-millis:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<ExecutionKind, ExecutionStatusRegistry> item : registries.entrySet()) {
+            int evicted = item.getValue().evictExpired(now);
+            if (evicted > 0) {
+                log.debug("清理{}执行状态{}条，剩余{}条，挂起请求{}个", item.getKey(), evicted,
+                        item.getValue().size(), item.getValue().getWaiting());
+            }
+        }
+    }
+
+    private ExecutionStatus load(ExecutionKind kind, Long executionId) {
+        Map<String, Object> row = kind == ExecutionKind.PIPELINE
+                ? executionStatusMapper.selectPipelineExecutionStatus(executionId)
+                : executionStatusMapper.selectExecutionStatus(executionId);
+        if (row == null) {
+            return null;
+        }
+        // 版本号以加载时间起始，登记被淘汰后重新加载也不会与客户端持有的旧版本号重复
+        return new ExecutionStatus(executionId, (String) row.get("status"), System.currentTimeMillis(), intValue(row.get("totalCases")),
+                intValue(row.get("passedCases")), intValue(row.get("failedCases")), intValue(row.get("skippedCases")),
+                toDateTime(row.get("startTime")), toDateTime(row.get("endTime")), (String) row.get("errorMessage"),
+                System.currentTimeMillis());
+    }
+
+    private static int intValue(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
+    private static LocalDateTime toDateTime(Object value) {
+        if (value instanceof LocalDateTime) {
+            return (LocalDateTime) value;
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime();
+        }
+        return null;
+    }
+
+    /**
+     * 重跑执行结束时统计不稳定用例，统计失败不影响状态更新
+     */
+    private void recordRerunOutcome(Long executionId) {
+        try {
+            rerunService.recordRerunOutcome(executionId);
+        } catch (RuntimeException e) {
+            log.warn("重跑执行{}不稳定用例统计失败: {}", executionId, e.getMessage());
+        }
+    }
+}
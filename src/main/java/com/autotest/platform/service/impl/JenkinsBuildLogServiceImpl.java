@@ -0,0 +1,170 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.domain.cicd.JenkinsBuildLogSegment;
+import com.autotest.platform.engine.jenkins.ConsoleLogIngestionConfig;
+import com.autotest.platform.engine.jenkins.ConsoleLogIngestionEngine;
+import com.autotest.platform.engine.jenkins.ConsoleLogSink;
+import com.autotest.platform.engine.jenkins.ProgressiveLogClient;
+import com.autotest.platform.mapper.JenkinsBuildLogMapper;
+import com.autotest.platform.service.IJenkinsBuildLogService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jenkins构建日志Service业务层处理
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class JenkinsBuildLogServiceImpl implements IJenkinsBuildLogService, ConsoleLogSink {
+
+    @Autowired
+    private JenkinsBuildLogMapper jenkinsBuildLogMapper;
+
+    @Value("${autotest-platform.jenkins.log-ingestion.pool-size:4}")
+    private int poolSize;
+
+    @Value("${autotest-platform.jenkins.log-ingestion.min-poll-interval:1000}")
+    private long minPollInterval;
+
+    @Value("${autotest-platform.jenkins.log-ingestion.max-poll-interval:15000}")
+    private long maxPollInterval;
+
+    @Value("${autotest-platform.jenkins.log-ingestion.max-followed-builds:500}")
+    private int maxFollowedBuilds;
+
+    @Value("${autotest-platform.jenkins.log-ingestion.segment-max-bytes:262144}")
+    private int segmentMaxBytes;
+
+    @Value("${autotest-platform.jenkins.log-ingestion.max-failures:10}")
+    private int maxFailures;
+
+    @Value("${autotest-platform.jenkins.log-ingestion.connect-timeout:5000}")
+    private int connectTimeout;
+
+    @Value("${autotest-platform.jenkins.log-ingestion.read-timeout:30000}")
+    private int readTimeout;
+
+    private ConsoleLogIngestionEngine ingestionEngine;
+
+    @PostConstruct
+    public void init() {
+        ConsoleLogIngestionConfig config = new ConsoleLogIngestionConfig();
+        config.setPoolSize(poolSize);
+        config.setMinPollInterval(minPollInterval);
+        config.setMaxPollInterval(maxPollInterval);
+        config.setMaxFollowedBuilds(maxFollowedBuilds);
+        config.setSegmentMaxBytes(segmentMaxBytes);
+        config.setMaxFailures(maxFailures);
+        ingestionEngine = new ConsoleLogIngestionEngine(new ProgressiveLogClient(connectTimeout, readTimeout), this, config);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (ingestionEngine != null) {
+            ingestionEngine.shutdown();
+        }
+    }
+
+    /**
+     * 开始增量拉取构建日志，从已保存的偏移量继续
+     *
+     * @param buildId 构建ID
+     * @return 是否开始跟踪
+     */
+    @Override
+    public boolean followBuildLog(Long buildId) {
+        Map<String, Object> progress = jenkinsBuildLogMapper.selectLogProgress(buildId);
+        if (progress == null || progress.get("buildUrl") == null || isTrue(progress.get("logComplete"))) {
+            return false;
+        }
+        return ingestionEngine.follow(buildId, (String) progress.get("buildUrl"),
+                toLong(progress.get("logOffset")), (int) toLong(progress.get("logSegmentCount")));
+    }
+
+    /**
+     * 停止拉取构建日志
+     *
+     * @param buildId 构建ID
+     */
+    @Override
+    public void stopFollowBuildLog(Long buildId) {
+        ingestionEngine.stop(buildId);
+    }
+
+    /**
+     * 恢复所有未完成构建的日志拉取
+     *
+     * @return 恢复的构建数
+     */
+    @Override
+    public int resumeFollowBuildLogs() {
+        List<Map<String, Object>> builds = jenkinsBuildLogMapper.selectFollowableBuilds(maxFollowedBuilds);
+        int resumed = 0;
+        for (Map<String, Object> build : builds) {
+            Long buildId = toLong(build.get("buildId"));
+            if (ingestionEngine.follow(buildId, (String) build.get("buildUrl"),
+                    toLong(build.get("logOffset")), (int) toLong(build.get("logSegmentCount")))) {
+                resumed++;
+            }
+        }
+        return resumed;
+    }
+
+    /**
+     * 查询构建日志
+     * <p>
+     * 分段偏移量是原始日志(含控制台注解)的位置，保存的内容已去掉注解，二者不能按字节对应，
+     * 因此只返回完整分段：起始偏移量落在分段中间时从该分段开头返回。
+     *
+     * @param buildId 构建ID
+     * @param fromOffset 起始原始日志偏移量，为空时返回完整日志
+     * @return 日志内容
+     */
+    @Override
+    public String selectBuildLog(Long buildId, Long fromOffset) {
+        long from = fromOffset == null ? 0L : fromOffset;
+        List<JenkinsBuildLogSegment> segments = jenkinsBuildLogMapper.selectLogSegments(buildId, from);
+        StringBuilder sb = new StringBuilder();
+        for (JenkinsBuildLogSegment segment : segments) {
+            String content = segment.getContent();
+            if (content != null) {
+                sb.append(content);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void append(Long buildId, int segmentNo, long startOffset, long endOffset, String content) {
+        jenkinsBuildLogMapper.insertLogSegment(new JenkinsBuildLogSegment(buildId, segmentNo, startOffset, endOffset, content));
+    }
+
+    @Override
+    public void progress(Long buildId, long offset, int segmentCount) {
+        jenkinsBuildLogMapper.updateLogProgress(buildId, offset, segmentCount, null);
+    }
+
+    @Override
+    public void complete(Long buildId, long finalOffset, int segmentCount) {
+        jenkinsBuildLogMapper.updateLogProgress(buildId, finalOffset, segmentCount, Boolean.TRUE);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+
+    private static boolean isTrue(Object value) {
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return value instanceof Number && ((Number) value).intValue() != 0;
+    }
+}
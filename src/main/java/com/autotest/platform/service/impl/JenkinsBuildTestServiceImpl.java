@@ -0,0 +1,111 @@
+package com.autotest.platform.service.impl;
+
+import com.alibaba.fastjson.JSON;
+import com.autotest.platform.domain.cicd.JenkinsBuildTest;
+import com.autotest.platform.engine.jenkins.BuildTestSink;
+import com.autotest.platform.engine.jenkins.JUnitResultIngestionConfig;
+import com.autotest.platform.engine.jenkins.JUnitResultIngestionEngine;
+import com.autotest.platform.engine.jenkins.TestResultSummary;
+import com.autotest.platform.mapper.JenkinsBuildTestMapper;
+import com.autotest.platform.service.IJenkinsBuildTestService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jenkins构建测试结果Service业务层处理
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class JenkinsBuildTestServiceImpl implements IJenkinsBuildTestService, BuildTestSink {
+
+    @Autowired
+    private JenkinsBuildTestMapper jenkinsBuildTestMapper;
+
+    @Value("${autotest-platform.jenkins.test-report.parser-threads:4}")
+    private int parserThreads;
+
+    @Value("${autotest-platform.jenkins.test-report.batch-size:500}")
+    private int batchSize;
+
+    @Value("${autotest-platform.jenkins.test-report.max-stack-trace-lines:60}")
+    private int maxStackTraceLines;
+
+    @Value("${autotest-platform.jenkins.test-report.max-stack-trace-chars:8000}")
+    private int maxStackTraceChars;
+
+    private JUnitResultIngestionEngine ingestionEngine;
+
+    @PostConstruct
+    public void init() {
+        JUnitResultIngestionConfig config = new JUnitResultIngestionConfig();
+        config.setParserThreads(parserThreads);
+        config.setBatchSize(batchSize);
+        config.setMaxStackTraceLines(maxStackTraceLines);
+        config.setMaxStackTraceChars(maxStackTraceChars);
+        ingestionEngine = new JUnitResultIngestionEngine(this, config);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (ingestionEngine != null) {
+            ingestionEngine.shutdown();
+        }
+    }
+
+    /**
+     * 导入构建的 JUnit XML 测试报告，覆盖该构建已有的测试结果；删除旧结果与写入新结果在同一事务中，
+     * 导入失败时保留原有结果
+     *
+     * @param buildId 构建ID
+     * @param reportDir 报告目录
+     * @return 测试结果汇总
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public Map<String, Object> importTestReports(Long buildId, String reportDir) {
+        Path dir = Paths.get(reportDir);
+        if (!Files.isDirectory(dir)) {
+            throw new IllegalArgumentException("测试报告目录不存在: " + reportDir);
+        }
+        jenkinsBuildTestMapper.deleteBuildTestByBuildId(buildId);
+        TestResultSummary summary;
+        try {
+            summary = ingestionEngine.ingestDirectory(buildId, dir);
+        } catch (IOException e) {
+            throw new IllegalStateException("读取测试报告目录失败: " + reportDir, e);
+        }
+        Map<String, Object> result = summary.toMap();
+        jenkinsBuildTestMapper.updateBuildTestResults(buildId, JSON.toJSONString(result));
+        return result;
+    }
+
+    /**
+     * 查询构建测试结果列表
+     *
+     * @param buildId 构建ID
+     * @param testStatus 测试状态
+     * @return 测试结果集合
+     */
+    @Override
+    public List<JenkinsBuildTest> selectBuildTestList(Long buildId, String testStatus) {
+        return jenkinsBuildTestMapper.selectBuildTestList(buildId, testStatus);
+    }
+
+    @Override
+    public void writeBatch(Long buildId, List<JenkinsBuildTest> batch) {
+        jenkinsBuildTestMapper.batchInsertBuildTest(batch);
+    }
+}
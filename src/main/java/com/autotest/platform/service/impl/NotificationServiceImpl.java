@@ -0,0 +1,179 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.engine.notification.DingTalkSender;
+import com.autotest.platform.engine.notification.Notification;
+import com.autotest.platform.engine.notification.NotificationChannel;
+import com.autotest.platform.engine.notification.NotificationDispatcher;
+import com.autotest.platform.engine.notification.NotificationSender;
+import com.autotest.platform.engine.notification.NotificationSettings;
+import com.autotest.platform.engine.notification.SmtpSender;
+import com.autotest.platform.service.INotificationService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 通知Service业务层处理
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class NotificationServiceImpl implements INotificationService {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${autotest-platform.notification.dingtalk.enabled:false}")
+    private boolean dingtalkEnabled;
+
+    @Value("${autotest-platform.notification.dingtalk.webhook-url:}")
+    private String dingtalkWebhookUrl;
+
+    @Value("${autotest-platform.notification.dingtalk.secret:}")
+    private String dingtalkSecret;
+
+    @Value("${autotest-platform.notification.email.enabled:false}")
+    private boolean emailEnabled;
+
+    @Value("${autotest-platform.notification.email.smtp-host:}")
+    private String smtpHost;
+
+    @Value("${autotest-platform.notification.email.smtp-port:465}")
+    private int smtpPort;
+
+    @Value("${autotest-platform.notification.email.ssl:true}")
+    private boolean smtpSsl;
+
+    @Value("${autotest-platform.notification.email.username:}")
+    private String smtpUsername;
+
+    @Value("${autotest-platform.notification.email.password:}")
+    private String smtpPassword;
+
+    @Value("${autotest-platform.notification.email.from:}")
+    private String smtpFrom;
+
+    @Value("${autotest-platform.notification.dispatcher.window-millis:60000}")
+    private long windowMillis;
+
+    @Value("${autotest-platform.notification.dispatcher.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${autotest-platform.notification.dispatcher.max-per-digest:50}")
+    private int maxPerDigest;
+
+    @Value("${autotest-platform.notification.dispatcher.sender-threads:2}")
+    private int senderThreads;
+
+    @Value("${autotest-platform.notification.dispatcher.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${autotest-platform.notification.dispatcher.retry-base-millis:2000}")
+    private long retryBaseMillis;
+
+    @Value("${autotest-platform.notification.dispatcher.retry-max-millis:300000}")
+    private long retryMaxMillis;
+
+    @Value("${autotest-platform.notification.dispatcher.email-per-minute:30}")
+    private int emailPerMinute;
+
+    @Value("${autotest-platform.notification.dispatcher.dingtalk-per-minute:20}")
+    private int dingtalkPerMinute;
+
+    @Value("${autotest-platform.notification.dispatcher.connect-timeout:5000}")
+    private int connectTimeout;
+
+    @Value("${autotest-platform.notification.dispatcher.read-timeout:10000}")
+    private int readTimeout;
+
+    @Value("${autotest-platform.notification.dispatcher.shutdown-flush-millis:5000}")
+    private long shutdownFlushMillis;
+
+    private NotificationDispatcher dispatcher;
+
+    @PostConstruct
+    public void init() {
+        NotificationSettings settings = new NotificationSettings();
+        settings.setWindowMillis(windowMillis);
+        settings.setQueueCapacity(queueCapacity);
+        settings.setMaxPerDigest(maxPerDigest);
+        settings.setSenderThreads(senderThreads);
+        settings.setMaxAttempts(maxAttempts);
+        settings.setRetryBaseMillis(retryBaseMillis);
+        settings.setRetryMaxMillis(retryMaxMillis);
+        settings.setEmailPerMinute(emailPerMinute);
+        settings.setDingtalkPerMinute(dingtalkPerMinute);
+        Map<NotificationChannel, NotificationSender> senders = new EnumMap<>(NotificationChannel.class);
+        // 未配置发件人时邮件必然发送失败，不启用邮件渠道
+        if (emailEnabled && !smtpHost.isEmpty() && !(smtpFrom.isEmpty() && smtpUsername.isEmpty())) {
+            senders.put(NotificationChannel.EMAIL, new SmtpSender(smtpHost, smtpPort, smtpSsl, smtpUsername,
+                    smtpPassword, smtpFrom, connectTimeout, readTimeout));
+        }
+        if (dingtalkEnabled && !dingtalkWebhookUrl.isEmpty()) {
+            senders.put(NotificationChannel.DINGTALK, new DingTalkSender(dingtalkSecret, connectTimeout, readTimeout));
+        }
+        dispatcher = new NotificationDispatcher(settings, senders);
+        FunctionCounter.builder("autotest.notification.submitted", dispatcher, NotificationDispatcher::getSubmitted)
+                .description("提交通知数").register(meterRegistry);
+        FunctionCounter.builder("autotest.notification.coalesced", dispatcher, NotificationDispatcher::getCoalesced)
+                .description("被合并的通知数").register(meterRegistry);
+        FunctionCounter.builder("autotest.notification.dropped", dispatcher, NotificationDispatcher::getDropped)
+                .description("待发送已满被丢弃的通知数").register(meterRegistry);
+        FunctionCounter.builder("autotest.notification.sent", dispatcher, NotificationDispatcher::getSent)
+                .description("发送成功的合并通知数").register(meterRegistry);
+        FunctionCounter.builder("autotest.notification.retries", dispatcher, NotificationDispatcher::getRetries)
+                .description("发送重试次数").register(meterRegistry);
+        FunctionCounter.builder("autotest.notification.failures", dispatcher, NotificationDispatcher::getFailures)
+                .description("重试耗尽放弃的合并通知数").register(meterRegistry);
+        Gauge.builder("autotest.notification.pending", dispatcher, NotificationDispatcher::getPending)
+                .description("待发送通知数").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        dispatcher.flush(shutdownFlushMillis);
+        dispatcher.close();
+    }
+
+    /**
+     * 异步发送通知
+     *
+     * @param projectId 项目ID
+     * @param subject 标题
+     * @param content 正文
+     * @param emails 邮件接收人
+     * @return 是否全部被接收
+     */
+    @Override
+    public boolean notify(Long projectId, String subject, String content, Collection<String> emails) {
+        boolean accepted = true;
+        if (dingtalkEnabled && !dingtalkWebhookUrl.isEmpty()) {
+            accepted = dispatcher.submit(new Notification(NotificationChannel.DINGTALK, dingtalkWebhookUrl, projectId,
+                    subject, content));
+        }
+        if (emails != null) {
+            for (String email : emails) {
+                if (email != null && !email.trim().isEmpty()) {
+                    accepted &= dispatcher.submit(new Notification(NotificationChannel.EMAIL, email.trim(), projectId,
+                            subject, content));
+                }
+            }
+        }
+        return accepted;
+    }
+
+    @Override
+    public boolean flush(long timeoutMillis) {
+        return dispatcher.flush(timeoutMillis);
+    }
+}
@@ -0,0 +1,206 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.engine.admission.AdmissionDecision;
+import com.autotest.platform.engine.admission.ExecutionLane;
+import com.autotest.platform.engine.rerun.FailedCase;
+import com.autotest.platform.engine.rerun.FlakeSignal;
+import com.autotest.platform.engine.rerun.RerunPlan;
+import com.autotest.platform.engine.rerun.RerunPlanner;
+import com.autotest.platform.engine.rerun.RerunResult;
+import com.autotest.platform.engine.status.ExecutionStatus;
+import com.autotest.platform.mapper.RerunMapper;
+import com.autotest.platform.service.IAdmissionService;
+import com.autotest.platform.service.IRerunService;
+import com.autotest.platform.service.ISequenceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 失败用例重跑Service业务层处理
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class RerunServiceImpl implements IRerunService {
+
+    private static final Logger log = LoggerFactory.getLogger(RerunServiceImpl.class);
+
+    /** 单条SQL写入的不稳定统计数 */
+    private static final int FLAKE_BATCH_SIZE = 500;
+
+    @Autowired
+    private RerunMapper rerunMapper;
+
+    @Autowired
+    private ISequenceService sequenceService;
+
+    @Autowired
+    private IAdmissionService admissionService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${autotest-platform.execution.retry-count:2}")
+    private int retryCount;
+
+    @Value("${autotest-platform.execution.rerun.flake-decay:0.7}")
+    private double flakeDecay;
+
+    @Value("${autotest-platform.execution.rerun.flake-min-score:0.2}")
+    private double flakeMinScore;
+
+    private RerunPlanner planner;
+
+    /** 在独立事务中清理未能排队的重跑执行 */
+    private TransactionTemplate discardTemplate;
+
+    @PostConstruct
+    public void init() {
+        planner = new RerunPlanner(retryCount);
+        discardTemplate = new TransactionTemplate(transactionManager);
+        discardTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 只重跑上次执行中失败的用例
+     * <p>
+     * 锁定被重跑执行后检查是否已有进行中的重跑，重跑记录提交后才进入排队，执行节点取到时一定能读到记录。
+     *
+     * @param executionId 被重跑的执行ID
+     * @param operator 操作人
+     * @return 重跑结果，排队结果在事务提交后确定
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public RerunResult rerunFailed(Long executionId, String operator) {
+        if (rerunMapper.lockExecution(executionId) == null) {
+            throw new IllegalArgumentException("执行不存在: " + executionId);
+        }
+        Map<String, Object> source = rerunMapper.selectExecutionForRerun(executionId);
+        if (!ExecutionStatus.isFinished((String) source.get("status"))) {
+            throw new IllegalStateException("执行尚未结束，不能重跑: " + source.get("executionCode"));
+        }
+        if (rerunMapper.countActiveReruns(executionId) > 0) {
+            throw new IllegalStateException("执行已有进行中的重跑: " + source.get("executionCode"));
+        }
+        List<FailedCase> failed = new ArrayList<>();
+        for (Map<String, Object> row : rerunMapper.selectFailedCases(executionId)) {
+            Object retry = row.get("retryCount");
+            failed.add(new FailedCase(longValue(row.get("caseId")), retry instanceof Number ? ((Number) retry).intValue() : 0));
+        }
+        String sourceConfig = (String) source.get("executionConfig");
+        RerunPlan plan = planner.plan(executionId, sourceConfig, failed);
+        if (plan.isEmpty()) {
+            return new RerunResult(null, null, plan, AdmissionDecision.UNLIMITED);
+        }
+
+        String executionCode = sequenceService.nextExecutionCode();
+        Map<String, Object> execution = new HashMap<>();
+        execution.put("executionCode", executionCode);
+        execution.put("projectId", source.get("projectId"));
+        execution.put("executionName", source.get("executionName") + " (重跑#" + plan.getAttempt() + ")");
+        execution.put("environmentId", source.get("environmentId"));
+        execution.put("executionConfig", planner.buildConfig(sourceConfig, plan));
+        execution.put("totalCases", plan.getCases().size());
+        execution.put("createBy", operator);
+        execution.put("remark", "重跑 " + source.get("executionCode") + " 的失败用例");
+        rerunMapper.insertRerunExecution(execution);
+        Long rerunId = longValue(execution.get("executionId"));
+        rerunMapper.batchInsertRerunCases(rerunId, plan.getCases(), operator);
+
+        RerunResult result = new RerunResult(rerunId, executionCode, plan, AdmissionDecision.UNLIMITED);
+        Long tenantId = longValue(source.get("tenantId"));
+        Object sourceCode = source.get("executionCode");
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                AdmissionDecision decision = admissionService.submitExecution(tenantId, rerunId,
+                        plan.getCases().size(), ExecutionLane.RETRY);
+                result.setDecision(decision);
+                if (!decision.isAllowed()) {
+                    discardRerun(rerunId);
+                    return;
+                }
+                log.info("执行{}失败用例重跑: 新执行{}，用例{}个，第{}次重跑，{}个用例已达重跑上限", sourceCode,
+                        executionCode, plan.getCases().size(), plan.getAttempt(), plan.getExhaustedCaseIds().size());
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 未能排队的执行不保留，避免留下永远不会运行的PENDING记录
+     */
+    private void discardRerun(Long rerunId) {
+        discardTemplate.execute(status -> {
+            rerunMapper.deleteRerunCases(rerunId);
+            return rerunMapper.deleteRerunExecution(rerunId);
+        });
+    }
+
+    /**
+     * 重跑执行结束后统计用例不稳定信号
+     * <p>
+     * 领取标记与统计写入在同一事务中，写入失败时领取一并回滚，下次状态回调可重新统计。
+     *
+     * @param executionId 执行ID
+     * @return 重跑通过的用例数
+     */
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public int recordRerunOutcome(Long executionId) {
+        if (rerunMapper.claimFlakeRecording(executionId) == 0) {
+            return 0;
+        }
+        Map<String, Object> execution = rerunMapper.selectExecutionForRerun(executionId);
+        Long projectId = longValue(execution.get("projectId"));
+        List<Map<String, Object>> signals = new ArrayList<>();
+        int passed = 0;
+        for (Map<String, Object> row : rerunMapper.selectRerunCaseResults(executionId)) {
+            FlakeSignal signal = FlakeSignal.of((String) row.get("status"));
+            if (signal == FlakeSignal.NONE) {
+                continue;
+            }
+            Map<String, Object> item = new HashMap<>();
+            item.put("caseId", row.get("caseId"));
+            item.put("passed", signal == FlakeSignal.PASS_ON_RETRY ? 1 : 0);
+            signals.add(item);
+            if (signal == FlakeSignal.PASS_ON_RETRY) {
+                passed++;
+            }
+        }
+        for (int from = 0; from < signals.size(); from += FLAKE_BATCH_SIZE) {
+            rerunMapper.upsertFlakeStats(projectId, signals.subList(from, Math.min(signals.size(), from + FLAKE_BATCH_SIZE)),
+                    flakeDecay);
+        }
+        log.debug("重跑执行{}统计完成: 重跑通过{}个，仍失败{}个", execution.get("executionCode"), passed,
+                signals.size() - passed);
+        return passed;
+    }
+
+    @Override
+    public List<Map<String, Object>> selectFlakyCases(Long projectId, Double minScore, int limit) {
+        return rerunMapper.selectFlakyCases(projectId, minScore != null ? minScore : flakeMinScore,
+                Math.max(1, Math.min(limit, 500)));
+    }
+
+    private static Long longValue(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+}
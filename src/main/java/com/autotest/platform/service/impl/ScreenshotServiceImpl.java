@@ -0,0 +1,109 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.engine.screenshot.ScreenshotRef;
+import com.autotest.platform.engine.screenshot.ScreenshotSettings;
+import com.autotest.platform.engine.screenshot.ScreenshotStore;
+import com.autotest.platform.service.IScreenshotService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 截图存储Service业务层处理
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class ScreenshotServiceImpl implements IScreenshotService {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${autotest-platform.file.screenshot-path}")
+    private String screenshotPath;
+
+    @Value("${autotest-platform.screenshot.encoder-threads:2}")
+    private int encoderThreads;
+
+    @Value("${autotest-platform.screenshot.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${autotest-platform.screenshot.offer-timeout-millis:200}")
+    private long offerTimeoutMillis;
+
+    @Value("${autotest-platform.screenshot.format:jpg}")
+    private String format;
+
+    @Value("${autotest-platform.screenshot.quality:0.8}")
+    private float quality;
+
+    @Value("${autotest-platform.screenshot.thumbnail-max-width:640}")
+    private int thumbnailMaxWidth;
+
+    @Value("${autotest-platform.screenshot.known-hashes:100000}")
+    private int knownHashes;
+
+    private ScreenshotStore store;
+
+    @PostConstruct
+    public void init() {
+        ScreenshotSettings settings = new ScreenshotSettings();
+        settings.setEncoderThreads(encoderThreads);
+        settings.setQueueCapacity(queueCapacity);
+        settings.setOfferTimeoutMillis(offerTimeoutMillis);
+        settings.setFormat(format);
+        settings.setQuality(quality);
+        settings.setThumbnailMaxWidth(thumbnailMaxWidth);
+        settings.setKnownHashes(knownHashes);
+        store = new ScreenshotStore(Paths.get(screenshotPath), settings);
+        FunctionCounter.builder("autotest.screenshot.captured", store, ScreenshotStore::getCaptured)
+                .description("提交截图数").register(meterRegistry);
+        FunctionCounter.builder("autotest.screenshot.deduplicated", store, ScreenshotStore::getDeduplicated)
+                .description("重复截图数").register(meterRegistry);
+        FunctionCounter.builder("autotest.screenshot.inline", store, ScreenshotStore::getInline)
+                .description("编码队列满时在提交线程写入的截图数").register(meterRegistry);
+        FunctionCounter.builder("autotest.screenshot.failures", store, ScreenshotStore::getFailures)
+                .description("写入失败截图数").register(meterRegistry);
+        FunctionCounter.builder("autotest.screenshot.bytes", store, ScreenshotStore::getBytesIn)
+                .description("截图原图字节数").tag("stage", "in").register(meterRegistry);
+        FunctionCounter.builder("autotest.screenshot.bytes", store, ScreenshotStore::getBytesWritten)
+                .description("截图写盘字节数").tag("stage", "written").register(meterRegistry);
+        Gauge.builder("autotest.screenshot.pending", store, ScreenshotStore::getPending)
+                .description("等待编码写入的截图数").register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        store.close();
+    }
+
+    @Override
+    public ScreenshotRef capture(byte[] png) {
+        return store.submit(png);
+    }
+
+    @Override
+    public Path getScreenshot(String hash) {
+        return store.resolve(hash);
+    }
+
+    @Override
+    public Path getThumbnail(String hash, int width) throws IOException {
+        return store.thumbnail(hash, width);
+    }
+
+    @Override
+    public boolean flush(long timeoutMillis) {
+        return store.flush(timeoutMillis);
+    }
+}
@@ -0,0 +1,172 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.engine.sequence.SequenceAllocator;
+import com.autotest.platform.mapper.SysSequenceMapper;
+import com.autotest.platform.mapper.TestCaseMapper;
+import com.autotest.platform.service.ISequenceService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 业务编码序列Service业务层处理
+ * <p>
+ * 号段保存在 sys_sequence 中，通过比较并推进 next_value 预留，替代插入时对 test_case 的 max 扫描。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class SequenceServiceImpl implements ISequenceService {
+
+    private static final Logger log = LoggerFactory.getLogger(SequenceServiceImpl.class);
+
+    /** 号段预留最大重试次数 */
+    private static final int MAX_RESERVE_ATTEMPTS = 32;
+
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    @Autowired
+    private SysSequenceMapper sysSequenceMapper;
+
+    @Autowired
+    private TestCaseMapper testCaseMapper;
+
+    @Value("${autotest-platform.sequence.block-size:50}")
+    private int blockSize;
+
+    private SequenceAllocator allocator;
+
+    /** 本节点已确认存在的序列键 */
+    private final Set<String> initializedKeys = ConcurrentHashMap.newKeySet();
+
+    private final Map<Long, String> projectCodes = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        allocator = new SequenceAllocator(this::reserve, blockSize);
+    }
+
+    /**
+     * 生成用例编码
+     *
+     * @param projectId 项目ID
+     * @return 用例编码
+     */
+    @Override
+    public String nextCaseCode(Long projectId) {
+        return nextCaseCodes(projectId, 1).get(0);
+    }
+
+    /**
+     * 批量生成用例编码，所有编码一次从号段中取出
+     *
+     * @param projectId 项目ID
+     * @param count 数量
+     * @return 用例编码集合
+     */
+    @Override
+    public List<String> nextCaseCodes(Long projectId, int count) {
+        String projectCode = projectCodes.computeIfAbsent(projectId, testCaseMapper::selectProjectCode);
+        if (projectCode == null) {
+            throw new IllegalArgumentException("项目" + projectId + "不存在");
+        }
+        String key = "case:" + projectId;
+        ensureSequence(key, () -> nextAfter(testCaseMapper.selectMaxCaseCodeNumber(projectId)));
+        List<String> codes = new ArrayList<>(count);
+        for (long value : allocator.next(key, count)) {
+            codes.add(projectCode + "-CASE" + pad(value));
+        }
+        return codes;
+    }
+
+    /**
+     * 生成执行编号
+     *
+     * @return 执行编号
+     */
+    @Override
+    public String nextExecutionCode() {
+        String key = "execution";
+        ensureSequence(key, () -> nextAfter(sysSequenceMapper.selectMaxExecutionCodeNumber()));
+        return "EXEC-" + LocalDate.now().format(DAY_FORMAT) + "-" + pad(allocator.next(key));
+    }
+
+    /**
+     * 生成报告编号
+     *
+     * @param reportType 报告类型
+     * @return 报告编号
+     */
+    @Override
+    public String nextReportCode(String reportType) {
+        String type = reportType == null || reportType.isEmpty() ? "SUMMARY" : reportType.toUpperCase();
+        String key = "report:" + type;
+        String abbr = "EXECUTION".equals(type) ? "EXEC" : type;
+        ensureSequence(key, () -> nextAfter(sysSequenceMapper.selectMaxReportCodeNumber(abbr)));
+        return "RPT-" + abbr + "-" + LocalDate.now().format(DAY_FORMAT) + "-" + pad(allocator.next(key));
+    }
+
+    /**
+     * 项目编码变更或项目删除后清除本节点缓存的项目编码
+     *
+     * @param projectId 项目ID
+     */
+    @Override
+    public void evictProjectCode(Long projectId) {
+        projectCodes.remove(projectId);
+    }
+
+    /**
+     * 序列不存在时按初始值创建，初始值只在整个集群首次使用该序列时计算一次
+     */
+    private void ensureSequence(String key, LongSupplier initialValue) {
+        if (initializedKeys.contains(key)) {
+            return;
+        }
+        if (sysSequenceMapper.selectNextValue(key) == null) {
+            long value = initialValue.getAsLong();
+            sysSequenceMapper.insertSequenceIfAbsent(key, value);
+            log.info("初始化序列{}，起始值{}", key, value);
+        }
+        initializedKeys.add(key);
+    }
+
+    /**
+     * 通过比较并推进 next_value 预留号段，并发节点失败后重读重试，不持有行锁
+     */
+    private long reserve(String key, int size) {
+        for (int attempt = 0; attempt < MAX_RESERVE_ATTEMPTS; attempt++) {
+            Long current = sysSequenceMapper.selectNextValue(key);
+            if (current == null) {
+                sysSequenceMapper.insertSequenceIfAbsent(key, 1);
+                continue;
+            }
+            if (sysSequenceMapper.compareAndSetNextValue(key, current, current + size) == 1) {
+                log.debug("序列{}预留号段[{}, {})", key, current, current + size);
+                return current;
+            }
+        }
+        throw new IllegalStateException("序列" + key + "预留号段失败，竞争过于激烈");
+    }
+
+    private static long nextAfter(Long max) {
+        return max == null ? 1 : max + 1;
+    }
+
+    private static String pad(long value) {
+        return String.format("%03d", value);
+    }
+}
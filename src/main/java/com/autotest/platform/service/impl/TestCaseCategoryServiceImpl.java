@@ -0,0 +1,239 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.domain.testcase.TestCaseCategory;
+import com.autotest.platform.engine.category.CategoryNode;
+import com.autotest.platform.engine.category.CategoryTree;
+import com.autotest.platform.engine.category.CategoryTreeCache;
+import com.autotest.platform.mapper.TestCaseCategoryMapper;
+import com.autotest.platform.service.ITestCaseCategoryService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 测试用例分类Service业务层处理
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class TestCaseCategoryServiceImpl implements ITestCaseCategoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(TestCaseCategoryServiceImpl.class);
+
+    @Autowired
+    private TestCaseCategoryMapper testCaseCategoryMapper;
+
+    @Value("${autotest-platform.category.tree-cache-ttl-seconds:300}")
+    private long treeCacheTtlSeconds;
+
+    private CategoryTreeCache treeCache;
+
+    @PostConstruct
+    public void init() {
+        treeCache = new CategoryTreeCache(this::loadTree, treeCacheTtlSeconds * 1000L);
+    }
+
+    /**
+     * 查询测试用例分类
+     *
+     * @param categoryId 测试用例分类主键
+     * @return 测试用例分类
+     */
+    @Override
+    public TestCaseCategory selectTestCaseCategoryByCategoryId(Long categoryId) {
+        return testCaseCategoryMapper.selectTestCaseCategoryByCategoryId(categoryId);
+    }
+
+    /**
+     * 查询测试用例分类列表
+     *
+     * @param testCaseCategory 测试用例分类
+     * @return 测试用例分类集合
+     */
+    @Override
+    public List<TestCaseCategory> selectTestCaseCategoryList(TestCaseCategory testCaseCategory) {
+        return testCaseCategoryMapper.selectTestCaseCategoryList(testCaseCategory);
+    }
+
+    /**
+     * 查询项目分类树
+     *
+     * @param projectId 项目ID
+     * @return 根节点集合
+     */
+    @Override
+    public List<CategoryNode> selectCategoryTree(Long projectId) {
+        return treeCache.get(projectId).copyRoots();
+    }
+
+    /**
+     * 查询子分类
+     *
+     * @param projectId 项目ID
+     * @param parentId 父分类ID，0表示根
+     * @return 子分类集合
+     */
+    @Override
+    public List<CategoryNode> selectCategoriesByParentId(Long projectId, Long parentId) {
+        return treeCache.get(projectId).copyChildren(parentId);
+    }
+
+    /**
+     * 查询分类及其所有子分类ID
+     *
+     * @param projectId 项目ID
+     * @param categoryId 分类ID
+     * @return 分类ID集合
+     */
+    @Override
+    public List<Long> selectSubtreeCategoryIds(Long projectId, Long categoryId) {
+        return treeCache.get(projectId).getSubtreeCategoryIds(categoryId);
+    }
+
+    /**
+     * 是否存在子分类
+     *
+     * @param projectId 项目ID
+     * @param categoryId 分类ID
+     * @return 结果
+     */
+    @Override
+    public boolean hasChildren(Long projectId, Long categoryId) {
+        return treeCache.get(projectId).hasChildren(categoryId);
+    }
+
+    /**
+     * 是否存在用例
+     *
+     * @param projectId 项目ID
+     * @param categoryId 分类ID
+     * @return 结果
+     */
+    @Override
+    public boolean hasTestCases(Long projectId, Long categoryId) {
+        return treeCache.get(projectId).hasTestCases(categoryId);
+    }
+
+    /**
+     * 校验同级分类名称是否唯一
+     *
+     * @param testCaseCategory 测试用例分类
+     * @return 结果
+     */
+    @Override
+    public boolean checkCategoryNameUnique(TestCaseCategory testCaseCategory) {
+        Long parentId = testCaseCategory.getParentId() == null ? 0L : testCaseCategory.getParentId();
+        for (CategoryNode node : selectCategoriesByParentId(testCaseCategory.getProjectId(), parentId)) {
+            if (node.getCategoryName() != null && node.getCategoryName().equals(testCaseCategory.getCategoryName())
+                    && !node.getCategoryId().equals(testCaseCategory.getCategoryId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 新增测试用例分类
+     *
+     * @param testCaseCategory 测试用例分类
+     * @return 结果
+     */
+    @Override
+    public int insertTestCaseCategory(TestCaseCategory testCaseCategory) {
+        testCaseCategory.setAncestors(buildAncestors(testCaseCategory.getParentId()));
+        testCaseCategory.setCreateTime(LocalDateTime.now());
+        int rows = testCaseCategoryMapper.insertTestCaseCategory(testCaseCategory);
+        treeCache.invalidate(testCaseCategory.getProjectId());
+        return rows;
+    }
+
+    /**
+     * 修改测试用例分类
+     *
+     * @param testCaseCategory 测试用例分类
+     * @return 结果
+     */
+    @Override
+    public int updateTestCaseCategory(TestCaseCategory testCaseCategory) {
+        TestCaseCategory old = testCaseCategoryMapper.selectTestCaseCategoryByCategoryId(testCaseCategory.getCategoryId());
+        if (testCaseCategory.getParentId() != null && old != null
+                && !testCaseCategory.getParentId().equals(old.getParentId())) {
+            testCaseCategory.setAncestors(buildAncestors(testCaseCategory.getParentId()));
+        }
+        testCaseCategory.setUpdateTime(LocalDateTime.now());
+        int rows = testCaseCategoryMapper.updateTestCaseCategory(testCaseCategory);
+        if (old != null) {
+            treeCache.invalidate(old.getProjectId());
+        }
+        if (testCaseCategory.getProjectId() != null) {
+            treeCache.invalidate(testCaseCategory.getProjectId());
+        }
+        return rows;
+    }
+
+    /**
+     * 删除测试用例分类信息
+     *
+     * @param categoryId 测试用例分类主键
+     * @return 结果
+     */
+    @Override
+    public int deleteTestCaseCategoryByCategoryId(Long categoryId) {
+        TestCaseCategory old = testCaseCategoryMapper.selectTestCaseCategoryByCategoryId(categoryId);
+        int rows = testCaseCategoryMapper.deleteTestCaseCategoryByCategoryId(categoryId);
+        if (old != null) {
+            treeCache.invalidate(old.getProjectId());
+        }
+        return rows;
+    }
+
+    /**
+     * 修正分类用例数缓存
+     *
+     * @param projectId 项目ID
+     * @param categoryId 分类ID
+     * @param delta 变化量
+     */
+    @Override
+    public void adjustCaseCount(Long projectId, Long categoryId, int delta) {
+        treeCache.adjustCaseCount(projectId, categoryId, delta);
+    }
+
+    /**
+     * 一次查询分类、一次聚合用例数构建分类树，替代逐行子查询计数
+     */
+    private CategoryTree loadTree(Long projectId) {
+        Map<Long, Integer> caseCounts = new HashMap<>();
+        for (Map<String, Object> row : testCaseCategoryMapper.selectCaseCountsByProjectId(projectId)) {
+            caseCounts.put(((Number) row.get("categoryId")).longValue(), ((Number) row.get("caseCount")).intValue());
+        }
+        List<TestCaseCategory> categories = testCaseCategoryMapper.selectCategoryNodesByProjectId(projectId);
+        List<CategoryNode> nodes = new ArrayList<>(categories.size());
+        for (TestCaseCategory category : categories) {
+            Integer count = caseCounts.get(category.getCategoryId());
+            nodes.add(new CategoryNode(category.getCategoryId(), category.getParentId(), category.getCategoryName(),
+                    category.getOrderNum(), category.getLeader(), count == null ? 0 : count));
+        }
+        CategoryTree tree = CategoryTree.build(projectId, nodes);
+        log.debug("项目{}分类树加载完成: 分类{}个", projectId, tree.size());
+        return tree;
+    }
+
+    private String buildAncestors(Long parentId) {
+        if (parentId == null || parentId == 0L) {
+            return "0";
+        }
+        TestCaseCategory parent = testCaseCategoryMapper.selectTestCaseCategoryByCategoryId(parentId);
+        return parent == null ? "0" : parent.getAncestors() + "," + parentId;
+    }
+}
@@ -0,0 +1,442 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.domain.project.TestProject;
+import com.autotest.platform.domain.testcase.TestCase;
+import com.autotest.platform.engine.search.CaseDocument;
+import com.autotest.platform.engine.search.CaseSearchHits;
+import com.autotest.platform.engine.search.CaseSearchIndex;
+import com.autotest.platform.engine.search.CaseSearchQuery;
+import com.autotest.platform.engine.search.ProjectSearchIndex;
+import com.autotest.platform.mapper.TestCaseMapper;
+import com.autotest.platform.mapper.TestProjectMapper;
+import com.autotest.platform.service.ISequenceService;
+import com.autotest.platform.service.ITestCaseCategoryService;
+import com.autotest.platform.service.ITestCaseService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 测试用例Service业务层处理
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class TestCaseServiceImpl implements ITestCaseService {
+
+    private static final Logger log = LoggerFactory.getLogger(TestCaseServiceImpl.class);
+
+    @Autowired
+    private TestCaseMapper testCaseMapper;
+
+    @Autowired
+    private TestProjectMapper testProjectMapper;
+
+    @Autowired
+    private ITestCaseCategoryService testCaseCategoryService;
+
+    @Autowired
+    private ISequenceService sequenceService;
+
+    @Value("${autotest-platform.search.case-index.enabled:true}")
+    private boolean indexEnabled;
+
+    @Value("${autotest-platform.search.case-index.snapshot-path:}")
+    private String snapshotPath;
+
+    @Value("${autotest-platform.search.case-index.max-results:1000}")
+    private int maxResults;
+
+    @Value("${autotest-platform.search.case-index.build-batch-size:2000}")
+    private int buildBatchSize;
+
+    @Value("${autotest-platform.search.case-index.catch-up-interval-seconds:30}")
+    private long catchUpIntervalSeconds;
+
+    private CaseSearchIndex searchIndex;
+
+    /** 项目最近一次增量追赶时间 */
+    private final Map<Long, Long> lastCatchUp = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        searchIndex = new CaseSearchIndex(snapshotPath == null || snapshotPath.trim().isEmpty()
+                ? null : Paths.get(snapshotPath.trim()));
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (indexEnabled) {
+            searchIndex.saveAll();
+        }
+    }
+
+    /**
+     * 查询测试用例
+     *
+     * @param caseId 测试用例主键
+     * @return 测试用例
+     */
+    @Override
+    public TestCase selectTestCaseByCaseId(Long caseId) {
+        return testCaseMapper.selectTestCaseByCaseId(caseId);
+    }
+
+    /**
+     * 查询测试用例列表
+     * <p>
+     * 指定项目且带有标题、编码或标签条件时，先由检索索引得到候选用例ID，再按ID回表，
+     * 避免 like '%…%' 全表扫描；索引关闭或未指定项目时仍走原SQL。
+     *
+     * @param testCase 测试用例
+     * @return 测试用例集合
+     */
+    @Override
+    public List<TestCase> selectTestCaseList(TestCase testCase) {
+        boolean textFilter = notEmpty(testCase.getCaseTitle()) || notEmpty(testCase.getCaseCode())
+                || notEmpty(testCase.getTags());
+        if (!indexEnabled || testCase.getProjectId() == null || !textFilter) {
+            return testCaseMapper.selectTestCaseList(testCase);
+        }
+        StringBuilder keyword = new StringBuilder();
+        if (notEmpty(testCase.getCaseTitle())) {
+            keyword.append(testCase.getCaseTitle()).append(' ');
+        }
+        if (notEmpty(testCase.getCaseCode())) {
+            keyword.append(testCase.getCaseCode());
+        }
+        CaseSearchQuery query = new CaseSearchQuery();
+        query.setProjectId(testCase.getProjectId());
+        query.setKeyword(keyword.toString().trim());
+        query.setPrefix(true);
+        if (notEmpty(testCase.getTags())) {
+            List<String> tags = new ArrayList<>();
+            for (String tag : testCase.getTags().split("[,，]")) {
+                if (!tag.trim().isEmpty()) {
+                    tags.add(tag.trim());
+                }
+            }
+            query.setTags(tags);
+        }
+        // 先取全部命中再按分类、优先级等条件回表过滤，过滤后才截断到上限，避免上限内的命中被过滤光
+        query.setLimit(Integer.MAX_VALUE);
+        CaseSearchHits hits = projectIndex(testCase.getProjectId()).search(query);
+        warnIfTruncated(testCase.getProjectId(), query, hits);
+        List<Long> caseIds = hits.getCaseIds();
+        List<TestCase> result = new ArrayList<>();
+        for (int from = 0; from < caseIds.size() && result.size() < maxResults; from += buildBatchSize) {
+            List<Long> batch = caseIds.subList(from, Math.min(caseIds.size(), from + buildBatchSize));
+            for (TestCase matched : hydrate(batch, testCase)) {
+                if (result.size() >= maxResults) {
+                    break;
+                }
+                result.add(matched);
+            }
+        }
+        if (result.size() >= maxResults && hits.getTotal() > maxResults) {
+            log.warn("项目{}用例检索命中{}条，超过上限{}，仅返回前{}条", testCase.getProjectId(), hits.getTotal(),
+                    maxResults, maxResults);
+        }
+        return result;
+    }
+
+    /**
+     * 检索测试用例
+     *
+     * @param query 检索条件
+     * @return 测试用例集合，按用例ID倒序
+     */
+    @Override
+    public List<TestCase> searchTestCases(CaseSearchQuery query) {
+        if (query.getProjectId() == null) {
+            return Collections.emptyList();
+        }
+        if (query.getTenantId() != null) {
+            TestProject project = testProjectMapper.selectById(query.getProjectId());
+            if (project == null || !Objects.equals(project.getTenantId(), query.getTenantId())) {
+                return Collections.emptyList();
+            }
+        }
+        query.setLimit(Math.min(Math.max(query.getLimit(), 0), maxResults));
+        if (!indexEnabled) {
+            TestCase filter = new TestCase();
+            filter.setProjectId(query.getProjectId());
+            filter.setCaseTitle(query.getKeyword());
+            List<TestCase> list = testCaseMapper.selectTestCaseList(filter);
+            int from = Math.min(Math.max(query.getOffset(), 0), list.size());
+            return list.subList(from, Math.min(list.size(), from + query.getLimit()));
+        }
+        CaseSearchHits hits = projectIndex(query.getProjectId()).search(query);
+        warnIfTruncated(query.getProjectId(), query, hits);
+        return hydrate(hits.getCaseIds(), null);
+    }
+
+    /**
+     * 新增测试用例
+     *
+     * @param testCase 测试用例
+     * @return 结果
+     */
+    @Override
+    public int insertTestCase(TestCase testCase) {
+        if (!notEmpty(testCase.getCaseCode())) {
+            testCase.setCaseCode(sequenceService.nextCaseCode(testCase.getProjectId()));
+        }
+        if (testCase.getCreateTime() == null) {
+            testCase.setCreateTime(LocalDateTime.now());
+        }
+        // 新增即写入更新时间，增量追赶只按 (update_time, case_id) 走索引
+        testCase.setUpdateTime(testCase.getCreateTime());
+        int rows = testCaseMapper.insertTestCase(testCase);
+        if (rows > 0) {
+            indexCase(testCase.getProjectId(), testCase);
+            testCaseCategoryService.adjustCaseCount(testCase.getProjectId(), testCase.getCategoryId(), 1);
+        }
+        return rows;
+    }
+
+    /**
+     * 批量新增测试用例，缺少编码的用例按项目一次性分配编码
+     *
+     * @param testCases 测试用例集合
+     * @return 结果
+     */
+    @Override
+    public int insertTestCases(List<TestCase> testCases) {
+        Map<Long, List<TestCase>> uncoded = new HashMap<>();
+        for (TestCase testCase : testCases) {
+            if (!notEmpty(testCase.getCaseCode())) {
+                uncoded.computeIfAbsent(testCase.getProjectId(), k -> new ArrayList<>()).add(testCase);
+            }
+        }
+        for (Map.Entry<Long, List<TestCase>> entry : uncoded.entrySet()) {
+            List<String> codes = sequenceService.nextCaseCodes(entry.getKey(), entry.getValue().size());
+            for (int i = 0; i < codes.size(); i++) {
+                entry.getValue().get(i).setCaseCode(codes.get(i));
+            }
+        }
+        int rows = 0;
+        for (TestCase testCase : testCases) {
+            rows += insertTestCase(testCase);
+        }
+        return rows;
+    }
+
+    /**
+     * 修改测试用例
+     *
+     * @param testCase 测试用例
+     * @return 结果
+     */
+    @Override
+    public int updateTestCase(TestCase testCase) {
+        TestCase old = testCase.getCategoryId() != null || testCase.getProjectId() != null
+                ? testCaseMapper.selectTestCaseByCaseId(testCase.getCaseId()) : null;
+        testCase.setUpdateTime(LocalDateTime.now());
+        int rows = testCaseMapper.updateTestCase(testCase);
+        if (rows > 0) {
+            // 更新可能只带部分字段，回读完整记录后再写索引
+            TestCase current = testCaseMapper.selectTestCaseByCaseId(testCase.getCaseId());
+            if (current != null) {
+                indexCase(current.getProjectId(), current);
+                if (old != null && (!Objects.equals(old.getCategoryId(), current.getCategoryId())
+                        || !Objects.equals(old.getProjectId(), current.getProjectId()))) {
+                    testCaseCategoryService.adjustCaseCount(old.getProjectId(), old.getCategoryId(), -1);
+                    testCaseCategoryService.adjustCaseCount(current.getProjectId(), current.getCategoryId(), 1);
+                }
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * 批量删除测试用例
+     *
+     * @param caseIds 需要删除的测试用例主键集合
+     * @return 结果
+     */
+    @Override
+    public int deleteTestCaseByCaseIds(Long[] caseIds) {
+        List<TestCase> deleted = testCaseMapper.selectTestCaseListByCaseIds(Arrays.asList(caseIds), null);
+        int rows = testCaseMapper.deleteTestCaseByCaseIds(caseIds);
+        for (Long caseId : caseIds) {
+            unindexCase(caseId);
+        }
+        for (TestCase testCase : deleted) {
+            testCaseCategoryService.adjustCaseCount(testCase.getProjectId(), testCase.getCategoryId(), -1);
+        }
+        return rows;
+    }
+
+    /**
+     * 删除测试用例信息
+     *
+     * @param caseId 测试用例主键
+     * @return 结果
+     */
+    @Override
+    public int deleteTestCaseByCaseId(Long caseId) {
+        TestCase deleted = testCaseMapper.selectTestCaseByCaseId(caseId);
+        int rows = testCaseMapper.deleteTestCaseByCaseId(caseId);
+        unindexCase(caseId);
+        if (rows > 0 && deleted != null) {
+            testCaseCategoryService.adjustCaseCount(deleted.getProjectId(), deleted.getCategoryId(), -1);
+        }
+        return rows;
+    }
+
+    /**
+     * 重建项目检索索引
+     *
+     * @param projectId 项目ID
+     */
+    @Override
+    public void rebuildSearchIndex(Long projectId) {
+        ProjectSearchIndex index = new ProjectSearchIndex(projectId);
+        catchUp(index);
+        searchIndex.put(index);
+        lastCatchUp.put(projectId, System.currentTimeMillis());
+        log.info("项目{}用例检索索引重建完成: 用例{}个，词项{}个", projectId, index.size(), index.termCount());
+    }
+
+    /**
+     * 获取项目索引：内存中没有时先加载快照，快照不存在则全量构建；之后按间隔从水位线增量追赶
+     */
+    private ProjectSearchIndex projectIndex(Long projectId) {
+        ProjectSearchIndex index = searchIndex.get(projectId);
+        if (index == null) {
+            synchronized (this) {
+                index = searchIndex.get(projectId);
+                if (index == null) {
+                    index = searchIndex.loadSnapshot(projectId);
+                    if (index == null) {
+                        index = new ProjectSearchIndex(projectId);
+                    }
+                    catchUp(index);
+                    searchIndex.put(index);
+                    lastCatchUp.put(projectId, System.currentTimeMillis());
+                    log.info("项目{}用例检索索引就绪: 用例{}个，词项{}个", projectId, index.size(), index.termCount());
+                    return index;
+                }
+            }
+        }
+        long now = System.currentTimeMillis();
+        Long last = lastCatchUp.get(projectId);
+        if (last == null || now - last > catchUpIntervalSeconds * 1000L) {
+            lastCatchUp.put(projectId, now);
+            catchUp(index);
+        }
+        return index;
+    }
+
+    /**
+     * 从水位线开始按(更新时间, 用例ID)分页拉取变更，补齐其他节点写入或直接改库的数据
+     */
+    private void catchUp(ProjectSearchIndex index) {
+        Date since = index.getWatermark() > 0 ? new Date(index.getWatermark()) : null;
+        Long afterCaseId = 0L;
+        while (true) {
+            List<Map<String, Object>> rows = testCaseMapper.selectCaseSearchDocuments(index.getProjectId(), since,
+                    afterCaseId, buildBatchSize);
+            for (Map<String, Object> row : rows) {
+                Long caseId = ((Number) row.get("caseId")).longValue();
+                if ("0".equals(String.valueOf(row.get("delFlag")))) {
+                    index.upsert(CaseDocument.of(caseId, (String) row.get("caseTitle"), (String) row.get("caseCode"),
+                            (String) row.get("tags"), (String) row.get("preconditions"), (String) row.get("testSteps")));
+                } else {
+                    index.remove(caseId);
+                }
+                long changed = toMillis(row.get("changedTime"));
+                index.advanceWatermark(changed);
+                since = new Date(changed);
+                afterCaseId = caseId;
+            }
+            if (rows.size() < buildBatchSize) {
+                break;
+            }
+        }
+    }
+
+    private void indexCase(Long projectId, TestCase testCase) {
+        if (!indexEnabled || projectId == null || testCase.getCaseId() == null) {
+            return;
+        }
+        ProjectSearchIndex index = searchIndex.get(projectId);
+        // 索引尚未加载时无需处理，首次检索加载时会从数据库追赶
+        if (index != null) {
+            index.upsert(CaseDocument.of(testCase.getCaseId(), testCase.getCaseTitle(), testCase.getCaseCode(),
+                    testCase.getTags(), testCase.getPreconditions(), testCase.getTestSteps()));
+        }
+    }
+
+    private void unindexCase(Long caseId) {
+        if (!indexEnabled) {
+            return;
+        }
+        for (ProjectSearchIndex index : searchIndex.all()) {
+            if (index.contains(caseId)) {
+                index.remove(caseId);
+            }
+        }
+    }
+
+    /**
+     * 按ID一次回表，并保持索引返回的顺序
+     */
+    private List<TestCase> hydrate(List<Long> caseIds, TestCase filter) {
+        if (caseIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, TestCase> byId = new HashMap<>(caseIds.size() * 2);
+        for (TestCase testCase : testCaseMapper.selectTestCaseListByCaseIds(caseIds, filter)) {
+            byId.put(testCase.getCaseId(), testCase);
+        }
+        List<TestCase> result = new ArrayList<>(byId.size());
+        for (Long caseId : caseIds) {
+            TestCase testCase = byId.get(caseId);
+            if (testCase != null) {
+                result.add(testCase);
+            }
+        }
+        return result;
+    }
+
+    private static void warnIfTruncated(Long projectId, CaseSearchQuery query, CaseSearchHits hits) {
+        if (hits.isTruncated()) {
+            log.warn("项目{}检索词[{}]前缀展开超过上限被截断，结果可能不完整，请输入更长的关键字", projectId,
+                    query.getKeyword());
+        }
+    }
+
+    private static long toMillis(Object value) {
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+        return 0L;
+    }
+
+    private static boolean notEmpty(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,183 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.domain.testcase.TestCaseVersion;
+import com.autotest.platform.engine.version.VersionChainCodec;
+import com.autotest.platform.engine.version.VersionDiff;
+import com.autotest.platform.mapper.TestCaseVersionMapper;
+import com.autotest.platform.service.ITestCaseVersionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 测试用例版本Service业务层处理
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class TestCaseVersionServiceImpl implements ITestCaseVersionService {
+
+    private static final Logger log = LoggerFactory.getLogger(TestCaseVersionServiceImpl.class);
+
+    @Autowired
+    private TestCaseVersionMapper testCaseVersionMapper;
+
+    @Value("${autotest-platform.case-version.snapshot-interval:10}")
+    private int snapshotInterval;
+
+    @Value("${autotest-platform.case-version.max-delta-ratio:0.5}")
+    private double maxDeltaRatio;
+
+    @Value("${autotest-platform.case-version.max-edit-distance:2000}")
+    private int maxEditDistance;
+
+    private VersionChainCodec codec;
+
+    @PostConstruct
+    public void init() {
+        codec = new VersionChainCodec(snapshotInterval, maxDeltaRatio, maxEditDistance);
+    }
+
+    /**
+     * 查询用例指定版本，只读取该版本所在差异链的前半段
+     *
+     * @param caseId 用例ID
+     * @param versionNumber 版本号
+     * @return 测试用例版本
+     */
+    @Override
+    public TestCaseVersion selectVersion(Long caseId, Integer versionNumber) {
+        Integer snapshotVersion = testCaseVersionMapper.selectSnapshotVersion(caseId, versionNumber);
+        if (snapshotVersion == null) {
+            return null;
+        }
+        List<TestCaseVersion> versions = codec.materialize(
+                testCaseVersionMapper.selectVersionRange(caseId, snapshotVersion, versionNumber));
+        return versions.isEmpty() ? null : versions.get(versions.size() - 1);
+    }
+
+    /**
+     * 查询用例最新版本
+     *
+     * @param caseId 用例ID
+     * @return 测试用例版本
+     */
+    @Override
+    public TestCaseVersion selectLatestVersion(Long caseId) {
+        TestCaseVersion latest = testCaseVersionMapper.selectLatestVersionByCaseId(caseId);
+        if (latest == null || !latest.isDelta()) {
+            return latest;
+        }
+        return selectVersion(caseId, latest.getVersionNumber());
+    }
+
+    /**
+     * 查询用例全部版本，一次读取后按顺序逐条还原
+     *
+     * @param caseId 用例ID
+     * @return 测试用例版本集合
+     */
+    @Override
+    public List<TestCaseVersion> selectVersionsByCaseId(Long caseId) {
+        List<TestCaseVersion> rows = new ArrayList<>(testCaseVersionMapper.selectVersionsByCaseId(caseId));
+        Collections.reverse(rows);
+        List<TestCaseVersion> versions = codec.materialize(rows);
+        Collections.reverse(versions);
+        return versions;
+    }
+
+    /**
+     * 对比两个版本，相邻版本直接使用存储的差异
+     *
+     * @param caseId 用例ID
+     * @param fromVersion 起始版本号
+     * @param toVersion 目标版本号
+     * @return 版本差异
+     */
+    @Override
+    public VersionDiff diffVersions(Long caseId, Integer fromVersion, Integer toVersion) {
+        Integer fromSnapshot = testCaseVersionMapper.selectSnapshotVersion(caseId, fromVersion);
+        Integer toSnapshot = testCaseVersionMapper.selectSnapshotVersion(caseId, toVersion);
+        if (fromSnapshot == null || toSnapshot == null) {
+            throw new IllegalArgumentException("用例" + caseId + "的版本" + fromVersion + "或" + toVersion + "不存在");
+        }
+        int low = Math.min(fromVersion, toVersion);
+        int high = Math.max(fromVersion, toVersion);
+        int lowSnapshot = Math.min(fromSnapshot, toSnapshot);
+        int highSnapshot = Math.max(fromSnapshot, toSnapshot);
+        List<TestCaseVersion> rows;
+        if (lowSnapshot == highSnapshot || high - low == 1) {
+            rows = testCaseVersionMapper.selectVersionRange(caseId, lowSnapshot, high);
+        } else {
+            // 跨越多条差异链时分别还原两端，不读取中间的历史
+            rows = new ArrayList<>(testCaseVersionMapper.selectVersionRange(caseId, lowSnapshot, low));
+            rows.addAll(testCaseVersionMapper.selectVersionRange(caseId, highSnapshot, high));
+        }
+        return codec.diff(rows, fromVersion, toVersion);
+    }
+
+    /**
+     * 新增用例版本
+     *
+     * @param testCaseVersion 测试用例版本
+     * @return 结果
+     */
+    @Override
+    public int insertTestCaseVersion(TestCaseVersion testCaseVersion) {
+        TestCaseVersion previous = selectLatestVersion(testCaseVersion.getCaseId());
+        testCaseVersion.setVersionNumber(previous == null ? 1 : previous.getVersionNumber() + 1);
+        if (testCaseVersion.getCreateTime() == null) {
+            testCaseVersion.setCreateTime(LocalDateTime.now());
+        }
+        TestCaseVersion stored = codec.encode(previous, testCaseVersion);
+        int rows = testCaseVersionMapper.insertTestCaseVersion(stored);
+        testCaseVersion.setVersionId(stored.getVersionId());
+        testCaseVersion.setStorageType(stored.getStorageType());
+        testCaseVersion.setSnapshotVersion(stored.getSnapshotVersion());
+        return rows;
+    }
+
+    /**
+     * 删除用例全部版本
+     *
+     * @param caseId 用例ID
+     * @return 结果
+     */
+    @Override
+    public int deleteVersionsByCaseId(Long caseId) {
+        return testCaseVersionMapper.deleteVersionsByCaseId(caseId);
+    }
+
+    /**
+     * 清理旧版本：定位最早需保留版本所在链的快照，删除该快照之前的所有链，
+     * 单条按 (case_id, snapshot_version) 索引的范围删除，替代 not in 子查询
+     *
+     * @param caseId 用例ID
+     * @param keepCount 保留版本数
+     * @return 删除行数
+     */
+    @Override
+    public int cleanOldVersions(Long caseId, int keepCount) {
+        TestCaseVersion latest = testCaseVersionMapper.selectLatestVersionByCaseId(caseId);
+        if (latest == null || keepCount <= 0 || latest.getVersionNumber() <= keepCount) {
+            return 0;
+        }
+        Integer snapshotVersion = testCaseVersionMapper.selectSnapshotVersion(caseId,
+                latest.getVersionNumber() - keepCount + 1);
+        if (snapshotVersion == null) {
+            return 0;
+        }
+        int rows = testCaseVersionMapper.deleteChainsBeforeSnapshot(caseId, snapshotVersion);
+        log.debug("用例{}清理版本{}条，保留快照{}之后的版本", caseId, rows, snapshotVersion);
+        return rows;
+    }
+}
@@ -0,0 +1,204 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.engine.impact.ChangedFileExtractor;
+import com.autotest.platform.engine.impact.ImpactIndex;
+import com.autotest.platform.engine.impact.ImpactSelection;
+import com.autotest.platform.engine.impact.ImpactSelectionConfig;
+import com.autotest.platform.engine.impact.SourceKeys;
+import com.autotest.platform.engine.impact.TestImpactSelector;
+import com.autotest.platform.mapper.TestImpactMapper;
+import com.autotest.platform.service.ITestImpactService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 测试影响分析Service业务层处理
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class TestImpactServiceImpl implements ITestImpactService {
+
+    private static final Logger log = LoggerFactory.getLogger(TestImpactServiceImpl.class);
+
+    @Autowired
+    private TestImpactMapper testImpactMapper;
+
+    @Value("${autotest-platform.impact.safety-sample-ratio:0.05}")
+    private double safetySampleRatio;
+
+    @Value("${autotest-platform.impact.min-safety-sample:5}")
+    private int minSafetySample;
+
+    @Value("${autotest-platform.impact.min-failure-hits:2}")
+    private int minFailureHits;
+
+    @Value("${autotest-platform.impact.max-key-fanout-ratio:0.3}")
+    private double maxKeyFanoutRatio;
+
+    @Value("${autotest-platform.impact.max-changed-files:200}")
+    private int maxChangedFiles;
+
+    @Value("${autotest-platform.impact.max-unmapped-ratio:0.5}")
+    private double maxUnmappedRatio;
+
+    @Value("${autotest-platform.impact.max-learn-failed-cases:50}")
+    private int maxLearnFailedCases;
+
+    @Value("${autotest-platform.impact.full-run-patterns:pom.xml,build.gradle,settings.gradle,package.json}")
+    private String fullRunPatterns;
+
+    @Value("${autotest-platform.impact.ignore-patterns:*.md,*.txt,docs/,LICENSE}")
+    private String ignorePatterns;
+
+    @Value("${autotest-platform.impact.always-run-tags:smoke}")
+    private String alwaysRunTags;
+
+    @Value("${autotest-platform.impact.index-ttl-seconds:600}")
+    private long indexTtlSeconds;
+
+    private ImpactSelectionConfig selectionConfig;
+
+    private TestImpactSelector selector;
+
+    /** 项目影响索引缓存 */
+    private final Map<Long, ImpactIndex> indexCache = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        selectionConfig = new ImpactSelectionConfig();
+        selectionConfig.setSafetySampleRatio(safetySampleRatio);
+        selectionConfig.setMinSafetySample(minSafetySample);
+        selectionConfig.setMinFailureHits(minFailureHits);
+        selectionConfig.setMaxKeyFanoutRatio(maxKeyFanoutRatio);
+        selectionConfig.setMaxChangedFiles(maxChangedFiles);
+        selectionConfig.setMaxUnmappedRatio(maxUnmappedRatio);
+        selectionConfig.setFullRunPatterns(splitList(fullRunPatterns));
+        selectionConfig.setIgnorePatterns(splitList(ignorePatterns));
+        selectionConfig.setAlwaysRunTags(splitList(alwaysRunTags));
+        selector = new TestImpactSelector(selectionConfig);
+    }
+
+    /**
+     * 根据Webhook推送负载选择需要执行的用例
+     *
+     * @param projectId 项目ID
+     * @param commitSha 提交SHA
+     * @param payload 事件负载(JSON格式)
+     * @return 选择结果
+     */
+    @Override
+    public ImpactSelection selectImpactedCases(Long projectId, String commitSha, String payload) {
+        return selectImpactedCases(projectId, commitSha, ChangedFileExtractor.extract(payload));
+    }
+
+    /**
+     * 根据变更文件选择需要执行的用例
+     *
+     * @param projectId 项目ID
+     * @param commitSha 提交SHA
+     * @param changedFiles 变更文件
+     * @return 选择结果
+     */
+    @Override
+    public ImpactSelection selectImpactedCases(Long projectId, String commitSha, Collection<String> changedFiles) {
+        ImpactSelection selection = selector.select(getIndex(projectId), changedFiles, commitSha);
+        log.info("项目{}提交{}影响分析: {}，选择{}/{}个用例", projectId, commitSha, selection.getReason(),
+                selection.getSelectedCaseIds().size(), selection.getTotalCases());
+        return selection;
+    }
+
+    /**
+     * 根据Webhook事件触发的执行结果学习变更文件与失败用例的关联
+     *
+     * @param eventId Webhook事件ID
+     * @return 更新的映射数
+     */
+    @Override
+    public int learnFromWebhookEvent(Long eventId) {
+        Map<String, Object> event = testImpactMapper.selectLearningEvent(eventId);
+        if (event == null || event.get("projectId") == null || event.get("triggeredExecutionId") == null) {
+            return 0;
+        }
+        Long projectId = ((Number) event.get("projectId")).longValue();
+        Long executionId = ((Number) event.get("triggeredExecutionId")).longValue();
+        List<Long> failedCaseIds = testImpactMapper.selectFailedCaseIds(executionId);
+        // 大面积失败通常是环境问题，不作为变更关联依据
+        if (failedCaseIds.isEmpty() || failedCaseIds.size() > maxLearnFailedCases) {
+            return 0;
+        }
+        Set<String> changedFiles = ChangedFileExtractor.extract((String) event.get("payload"));
+        if (changedFiles.isEmpty() || changedFiles.size() > maxChangedFiles) {
+            return 0;
+        }
+        Set<String> sourceKeys = new LinkedHashSet<>();
+        for (String file : changedFiles) {
+            sourceKeys.addAll(SourceKeys.forLearning(file));
+        }
+        testImpactMapper.upsertFailureMappings(projectId, new ArrayList<>(sourceKeys), failedCaseIds, eventId);
+        indexCache.remove(projectId);
+        return sourceKeys.size() * failedCaseIds.size();
+    }
+
+    /**
+     * 使项目影响索引失效，下次选择时重建
+     *
+     * @param projectId 项目ID
+     */
+    @Override
+    public void refreshIndex(Long projectId) {
+        indexCache.remove(projectId);
+    }
+
+    private ImpactIndex getIndex(Long projectId) {
+        ImpactIndex index = indexCache.get(projectId);
+        if (index == null || System.currentTimeMillis() - index.getBuildTime() > indexTtlSeconds * 1000L) {
+            index = buildIndex(projectId);
+            indexCache.put(projectId, index);
+        }
+        return index;
+    }
+
+    private ImpactIndex buildIndex(Long projectId) {
+        ImpactIndex index = new ImpactIndex();
+        Set<String> alwaysRun = new HashSet<>();
+        for (String tag : selectionConfig.getAlwaysRunTags()) {
+            alwaysRun.add(tag.toLowerCase(Locale.ROOT));
+        }
+        for (Map<String, Object> row : testImpactMapper.selectCaseTags(projectId)) {
+            index.addCase(((Number) row.get("caseId")).longValue(), (String) row.get("tags"), alwaysRun);
+        }
+        for (Map<String, Object> row : testImpactMapper.selectFailureMappings(projectId, minFailureHits)) {
+            index.addFailureMapping((String) row.get("sourceKey"), ((Number) row.get("caseId")).longValue(),
+                    ((Number) row.get("hitCount")).intValue(), minFailureHits);
+        }
+        index.pruneNoisyFailureMappings(maxKeyFanoutRatio);
+        log.debug("项目{}影响索引重建完成: 用例{}个，标签键{}个，失败关联键{}个", projectId,
+                index.getAllCaseIds().size(), index.getTagKeyCount(), index.getFailureKeyCount());
+        return index;
+    }
+
+    private static List<String> splitList(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        return Arrays.stream(value.split(",")).map(String::trim).filter(s -> !s.isEmpty()).collect(Collectors.toList());
+    }
+}
@@ -2,6 +2,7 @@ package com.autotest.platform.service.impl;
 
 import com.autotest.platform.domain.project.TestProject;
 import com.autotest.platform.mapper.TestProjectMapper;
+import com.autotest.platform.service.ISequenceService;
 import com.autotest.platform.service.ITestProjectService;
 import com.baomidou.mybatisplus.core.conditions.query.QueryWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
@@ -22,6 +23,9 @@ public class TestProjectServiceImpl extends ServiceImpl<TestProjectMapper, TestP
     @Autowired
     private TestProjectMapper testProjectMapper;
 
+    @Autowired
+    private ISequenceService sequenceService;
+
     /**
      * 查询测试项目
      *
@@ -75,7 +79,9 @@ public class TestProjectServiceImpl extends ServiceImpl<TestProjectMapper, TestP
      */
     @Override
     public int updateTestProject(TestProject testProject) {
-        return testProjectMapper.updateById(testProject);
+        int rows = testProjectMapper.updateById(testProject);
+        sequenceService.evictProjectCode(testProject.getProjectId());
+        return rows;
     }
 
     /**
@@ -88,7 +94,11 @@ public class TestProjectServiceImpl extends ServiceImpl<TestProjectMapper, TestP
     public int deleteTestProjectByProjectIds(Long[] projectIds) {
         QueryWrapper<TestProject> queryWrapper = new QueryWrapper<>();
         queryWrapper.in("project_id", projectIds);
-        return testProjectMapper.delete(queryWrapper);
+        int rows = testProjectMapper.delete(queryWrapper);
+        for (Long projectId : projectIds) {
+            sequenceService.evictProjectCode(projectId);
+        }
+        return rows;
     }
 
     /**
@@ -99,6 +109,8 @@ public class TestProjectServiceImpl extends ServiceImpl<TestProjectMapper, TestP
      */
     @Override
     public int deleteTestProjectByProjectId(Long projectId) {
-        return testProjectMapper.deleteById(projectId);
+        int rows = testProjectMapper.deleteById(projectId);
+        sequenceService.evictProjectCode(projectId);
+        return rows;
     }
 }
\ No newline at end of file
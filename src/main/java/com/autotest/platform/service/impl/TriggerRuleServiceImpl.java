@@ -0,0 +1,135 @@
+package com.autotest.platform.service.impl;
+
+import com.autotest.platform.engine.trigger.TriggerEvent;
+import com.autotest.platform.engine.trigger.TriggerMatcher;
+import com.autotest.platform.engine.trigger.TriggerRule;
+import com.autotest.platform.engine.trigger.TriggeredPipeline;
+import com.autotest.platform.mapper.TriggerRuleMapper;
+import com.autotest.platform.service.ITriggerRuleService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Webhook触发规则Service业务层处理
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Service
+public class TriggerRuleServiceImpl implements ITriggerRuleService {
+
+    private static final Logger log = LoggerFactory.getLogger(TriggerRuleServiceImpl.class);
+
+    private static final String WEBHOOK = "WEBHOOK";
+
+    @Autowired
+    private TriggerRuleMapper triggerRuleMapper;
+
+    private final TriggerMatcher matcher = new TriggerMatcher();
+
+    /** 规则是否已成功加载过，启动时加载失败则在首次解析或下次定时重载时重试 */
+    private volatile boolean loaded;
+
+    @PostConstruct
+    public void init() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("启动时加载触发规则失败，将在首次使用或定时重载时重试: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 解析事件需要触发的流水线
+     *
+     * @param event 事件
+     * @return 待触发流水线
+     */
+    @Override
+    public List<TriggeredPipeline> resolve(TriggerEvent event) {
+        if (!loaded) {
+            synchronized (matcher) {
+                if (!loaded) {
+                    reload();
+                }
+            }
+        }
+        return matcher.resolve(event, this::selectTriggerablePipelineIds);
+    }
+
+    /**
+     * 新增或更新触发配置，入库后增量刷新该项目的规则
+     *
+     * @param projectId 项目ID
+     * @param triggerType 触发类型
+     * @param configName 配置名称
+     * @param configJson 配置JSON
+     * @param enabled 是否启用
+     * @return 结果
+     */
+    @Override
+    public int updateTriggerConfig(Long projectId, String triggerType, String configName, String configJson,
+                                   boolean enabled) {
+        if (WEBHOOK.equals(triggerType)) {
+            // 先编译校验，非法配置不入库
+            TriggerRule.parse(0L, projectId, configName, configJson);
+        }
+        int rows = triggerRuleMapper.upsertTriggerConfig(projectId, triggerType, configName, configJson,
+                enabled ? 1 : 0);
+        if (rows > 0 && WEBHOOK.equals(triggerType)) {
+            matcher.replaceProject(projectId, compile(triggerRuleMapper.selectTriggerConfigsByProject(projectId, WEBHOOK)));
+        }
+        return rows;
+    }
+
+    /**
+     * 全量重新加载规则，定时执行以兜底其他节点的配置修改
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${autotest-platform.trigger.reload-interval-millis:300000}",
+            initialDelayString = "${autotest-platform.trigger.reload-interval-millis:300000}")
+    public void reload() {
+        long start = System.currentTimeMillis();
+        matcher.replaceAll(compile(triggerRuleMapper.selectEnabledTriggerConfigs()));
+        loaded = true;
+        log.debug("加载触发规则{}条，索引桶{}个，耗时{}ms", matcher.size(), matcher.bucketCount(),
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * 查询项目当前可触发的流水线，走 project_id 索引
+     */
+    private List<Long> selectTriggerablePipelineIds(Long projectId) {
+        List<Long> pipelineIds = new ArrayList<>();
+        for (Map<String, Object> row : triggerRuleMapper.selectTriggerablePipelineIdsByProject(projectId)) {
+            pipelineIds.add(longValue(row.get("pipelineId")));
+        }
+        return pipelineIds;
+    }
+
+    private List<TriggerRule> compile(List<Map<String, Object>> rows) {
+        List<TriggerRule> rules = new ArrayList<>(rows.size());
+        for (Map<String, Object> row : rows) {
+            Long configId = longValue(row.get("configId"));
+            try {
+                rules.add(TriggerRule.parse(configId, longValue(row.get("projectId")), (String) row.get("configName"),
+                        (String) row.get("configJson")));
+            } catch (RuntimeException e) {
+                log.warn("触发配置{}编译失败，已跳过: {}", configId, e.getMessage());
+            }
+        }
+        return rules;
+    }
+
+    private static Long longValue(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : null;
+    }
+}
@@ -0,0 +1,314 @@
+package com.autotest.platform.capacity;
+
+import com.alibaba.druid.pool.DruidDataSource;
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.serializer.SerializerFeature;
+import com.autotest.platform.engine.profiler.StatementProfiler;
+import com.autotest.platform.engine.profiler.StatementStats;
+import com.autotest.platform.engine.sharding.ShardCase;
+import com.autotest.platform.engine.sharding.WorkerSlot;
+import com.autotest.platform.engine.workload.LoadRunner;
+import com.autotest.platform.engine.workload.LoadScenario;
+import com.autotest.platform.engine.workload.ScenarioResult;
+import com.autotest.platform.engine.workload.SyntheticDataGenerator;
+import com.autotest.platform.engine.workload.WorkloadSpec;
+import com.autotest.platform.service.IExecutionShardingService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 容量测试套件
+ * <p>
+ * 以内嵌H2(MySQL模式)启动完整应用，Redis自动配置排除(平台代码未使用Redis)，定时任务关闭。
+ * 先按规模写入合成数据，再依次回放Webhook风暴、并发执行、看板轮询和报告生成，输出各场景的吞吐量、
+ * 耗时百分位和SQL语句数到 target/capacity/capacity-report.json。
+ * 类名不以Test结尾，不随 mvn test 执行，通过 scripts/run-capacity.sh 或
+ * {@code mvn test -Dtest=CapacitySuite -Dcapacity.projects=50} 运行，规模和时长见 {@code capacity.*} 系统属性。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+@Tag("capacity")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:capacity;MODE=MySQL;DATABASE_TO_UPPER=FALSE;CASE_INSENSITIVE_IDENTIFIERS=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.druid.validationQuery=SELECT 1",
+        "spring.datasource.druid.maxActive=100",
+        "spring.datasource.druid.minIdle=10",
+        "spring.datasource.druid.filter.wall.enabled=false",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:capacity/schema.sql",
+        "spring.autoconfigure.exclude=org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.data.redis.RedisReactiveAutoConfiguration,"
+                + "org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration",
+        "management.health.redis.enabled=false",
+        "logging.level.com.autotest=info",
+        "logging.level.org.mybatis=warn",
+        "autotest-platform.archive.cron=-",
+        "autotest-platform.cold-archive.cron=-",
+        "autotest-platform.profiler.sample-rate=0.01"
+})
+class CapacitySuite {
+
+    /** 状态查询延迟目标(毫秒)，见执行引擎规格 */
+    private static final double STATUS_LATENCY_TARGET_MILLIS = 1000;
+
+    /** 报告生成目标(毫秒) */
+    private static final double REPORT_TARGET_MILLIS = 30000;
+
+    /** 失败率目标 */
+    private static final double ERROR_RATE_TARGET = 0.01;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private IExecutionShardingService executionShardingService;
+
+    @Autowired
+    private StatementProfiler statementProfiler;
+
+    private final RestTemplate restTemplate = new RestTemplate();
+
+    private final LoadRunner runner = new LoadRunner();
+
+    private final List<ScenarioResult> results = new ArrayList<>();
+
+    private final Map<String, List<Map<String, Object>>> topStatements = new LinkedHashMap<>();
+
+    @Test
+    void runCapacitySuite() throws Exception {
+        // Given
+        WorkloadSpec spec = new WorkloadSpec();
+        spec.setProjects(intProperty("capacity.projects", 20));
+        spec.setCategoriesPerProject(intProperty("capacity.categories", 30));
+        spec.setCasesPerProject(intProperty("capacity.cases", 500));
+        spec.setSchedulesPerProject(intProperty("capacity.schedules", 5));
+        long durationMillis = longProperty("capacity.duration-seconds", 30) * 1000L;
+        LocalDateTime now = LocalDateTime.now();
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(spec, now);
+
+        long seedStart = System.currentTimeMillis();
+        Map<String, Long> seeded = generator.seed((table, columns, rows) -> jdbcTemplate.batchUpdate(
+                "insert into " + table + " (" + String.join(",", columns) + ") values ("
+                        + String.join(",", Collections.nCopies(columns.length, "?")) + ")", rows));
+        System.out.println("合成数据写入完成: " + seeded + "，耗时" + (System.currentTimeMillis() - seedStart) + "ms");
+
+        // When
+        webhookStorm(generator, durationMillis);
+        concurrentExecutions(spec, durationMillis);
+        dashboardPolling(spec, durationMillis);
+        reportGeneration();
+
+        // Then
+        writeReport(spec, seeded);
+        for (ScenarioResult result : results) {
+            System.out.println(result);
+        }
+        if (Boolean.getBoolean("capacity.enforce")) {
+            for (ScenarioResult result : results) {
+                assertTrue(result.getErrorRate() < ERROR_RATE_TARGET, result.getScenario() + " 失败率超标");
+            }
+            assertTrue(result("dashboard-polling").getP99Millis() < STATUS_LATENCY_TARGET_MILLIS, "状态查询p99超过1秒");
+            assertTrue(result("report-generation").getP99Millis() < REPORT_TARGET_MILLIS, "报告生成超过30秒");
+        }
+        System.out.println("✅ Capacity suite finished");
+    }
+
+    /**
+     * Webhook风暴：按固定速率到达，每个事件入库后创建执行并回写触发结果
+     */
+    private void webhookStorm(SyntheticDataGenerator generator, long durationMillis) throws InterruptedException {
+        AtomicLong eventIds = new AtomicLong(1_000_000L);
+        String insertEvent = "insert into webhook_event (" + String.join(",", SyntheticDataGenerator.WEBHOOK_COLUMNS)
+                + ") values (" + String.join(",", Collections.nCopies(SyntheticDataGenerator.WEBHOOK_COLUMNS.length, "?")) + ")";
+        LoadScenario scenario = LoadScenario.openLoop("webhook-storm", doubleProperty("capacity.webhook-rate", 200),
+                intProperty("capacity.webhook-threads", 32), durationMillis, (worker, sequence) -> {
+                    long eventId = eventIds.incrementAndGet();
+                    Object[] event = generator.webhookEvent(eventId, LocalDateTime.now());
+                    jdbcTemplate.update(insertEvent, event);
+                    jdbcTemplate.update("insert into test_execution (execution_id, execution_code, project_id,"
+                                    + " execution_name, execution_type, status, create_time) values (?, ?, ?, ?, 'CICD', 'PENDING', ?)",
+                            eventId, "EX" + eventId, event[10], "webhook-" + eventId, LocalDateTime.now());
+                    jdbcTemplate.update("update webhook_event set status = 'COMPLETED', triggered_execution_id = ?,"
+                            + " update_time = ? where event_id = ?", eventId, LocalDateTime.now(), eventId);
+                });
+        run(scenario);
+    }
+
+    /**
+     * 并发执行：一次执行按节点分片，各执行线程领取用例、回写状态并回报结果
+     */
+    private void concurrentExecutions(WorkloadSpec spec, long durationMillis) throws InterruptedException {
+        int workers = intProperty("capacity.workers", 200);
+        int nodes = intProperty("capacity.nodes", 10);
+        int cases = intProperty("capacity.execution-cases", 5000);
+        long caseMillis = longProperty("capacity.case-millis", 20);
+        long executionId = 1L;
+        jdbcTemplate.update("insert into test_execution (execution_id, execution_code, project_id, execution_name,"
+                + " execution_type, status, create_time) values (?, 'CAPACITY', 1, 'capacity', 'BATCH', 'RUNNING', ?)",
+                executionId, LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(cases);
+        long totalCases = (long) spec.getProjects() * spec.getCasesPerProject();
+        for (int i = 0; i < cases; i++) {
+            rows.add(new Object[]{executionId, 1 + (i % Math.max(1, totalCases))});
+        }
+        jdbcTemplate.batchUpdate("insert into test_execution_case (execution_id, case_id, status) values (?, ?, 'PENDING')", rows);
+
+        List<WorkerSlot> slots = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            slots.add(new WorkerSlot("node-" + (i % nodes) + "#" + i));
+        }
+        executionShardingService.startDispatch(executionId, slots);
+        LoadScenario scenario = LoadScenario.closedLoop("concurrent-executions", workers, durationMillis, (worker, sequence) -> {
+            String workerId = slots.get(worker).getWorkerId();
+            ShardCase shardCase = executionShardingService.nextCase(executionId, workerId);
+            if (shardCase == null) {
+                return;
+            }
+            long start = System.currentTimeMillis();
+            jdbcTemplate.update("update test_execution_case set status = 'RUNNING', start_time = ? where execution_case_id = ?",
+                    LocalDateTime.now(), shardCase.getExecutionCaseId());
+            Thread.sleep(caseMillis);
+            long duration = System.currentTimeMillis() - start;
+            jdbcTemplate.update("update test_execution_case set status = 'SUCCESS', end_time = ?, duration = ?"
+                    + " where execution_case_id = ?", LocalDateTime.now(), duration, shardCase.getExecutionCaseId());
+            executionShardingService.reportCaseResult(executionId, workerId, "SUCCESS", duration);
+        }).maxOperations(cases);
+        try {
+            run(scenario);
+        } finally {
+            executionShardingService.finishDispatch(executionId);
+        }
+    }
+
+    /**
+     * 看板轮询：项目列表走HTTP接口，执行进度按状态聚合
+     */
+    private void dashboardPolling(WorkloadSpec spec, long durationMillis) throws InterruptedException {
+        String baseUrl = "http://localhost:" + port;
+        LoadScenario scenario = LoadScenario.closedLoop("dashboard-polling", intProperty("capacity.pollers", 50),
+                durationMillis, (worker, sequence) -> {
+                    if (sequence % 2 == 0) {
+                        restTemplate.getForObject(baseUrl + "/api/projects?tenantId=" + (sequence % spec.getTenants() + 1),
+                                String.class);
+                    } else {
+                        jdbcTemplate.queryForList("select status, count(*) as total from test_execution_case"
+                                + " where execution_id = ? group by status", 1L);
+                    }
+                }).warmup(Math.min(5000L, durationMillis / 5));
+        run(scenario);
+    }
+
+    /**
+     * 报告生成：整次执行的汇总、按用例类型分组和最慢用例
+     */
+    private void reportGeneration() throws InterruptedException {
+        LoadScenario scenario = LoadScenario.closedLoop("report-generation", 1, 600_000L, (worker, sequence) -> {
+            jdbcTemplate.queryForList("select status, count(*) as total, avg(duration) as avgDuration,"
+                    + " max(duration) as maxDuration from test_execution_case where execution_id = ? group by status", 1L);
+            jdbcTemplate.queryForList("select tc.case_type, count(*) as total, sum(case when ec.status = 'SUCCESS'"
+                    + " then 1 else 0 end) as passed from test_execution_case ec join test_case tc on tc.case_id = ec.case_id"
+                    + " where ec.execution_id = ? group by tc.case_type", 1L);
+            jdbcTemplate.queryForList("select ec.case_id, tc.case_title, ec.duration from test_execution_case ec"
+                    + " join test_case tc on tc.case_id = ec.case_id where ec.execution_id = ?"
+                    + " order by ec.duration desc limit 20", 1L);
+        }).maxOperations(intProperty("capacity.reports", 5));
+        run(scenario);
+    }
+
+    private void run(LoadScenario scenario) throws InterruptedException {
+        statementProfiler.reset();
+        ScenarioResult result = runner.run(scenario, statementCounter());
+        results.add(result);
+        List<Map<String, Object>> top = new ArrayList<>();
+        for (StatementStats stats : statementProfiler.topStatements("calls", 10)) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("statementId", stats.getStatementId());
+            item.put("calls", stats.getCalls());
+            item.put("p99Millis", stats.getP99Millis());
+            top.add(item);
+        }
+        topStatements.put(scenario.getName(), top);
+        System.out.println(result);
+    }
+
+    /**
+     * 连接池累计执行的语句数，包含MyBatis和JdbcTemplate
+     */
+    private LongSupplier statementCounter() {
+        DruidDataSource druid;
+        try {
+            druid = dataSource.unwrap(DruidDataSource.class);
+        } catch (SQLException e) {
+            return null;
+        }
+        return druid::getExecuteCount;
+    }
+
+    private void writeReport(WorkloadSpec spec, Map<String, Long> seeded) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("time", LocalDateTime.now().toString());
+        report.put("spec", spec);
+        report.put("seeded", seeded);
+        report.put("results", results);
+        report.put("topStatements", topStatements);
+        Path path = Paths.get("target", "capacity", "capacity-report.json");
+        Files.createDirectories(path.getParent());
+        Files.write(path, JSON.toJSONString(report, SerializerFeature.PrettyFormat).getBytes(StandardCharsets.UTF_8));
+        System.out.println("容量报告已输出到 " + path.toAbsolutePath());
+    }
+
+    private ScenarioResult result(String scenario) {
+        for (ScenarioResult result : results) {
+            if (result.getScenario().equals(scenario)) {
+                return result;
+            }
+        }
+        throw new IllegalStateException("场景未运行: " + scenario);
+    }
+
+    private static int intProperty(String key, int defaultValue) {
+        return Integer.getInteger(key, defaultValue);
+    }
+
+    private static long longProperty(String key, long defaultValue) {
+        return Long.getLong(key, defaultValue);
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
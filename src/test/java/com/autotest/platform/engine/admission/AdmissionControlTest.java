@@ -0,0 +1,180 @@
+package com.autotest.platform.engine.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 准入控制测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class AdmissionControlTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void testBurstThenRefill() {
+        // Given
+        RateLimiterRegistry registry = new RateLimiterRegistry(1);
+        RateLimit limit = RateLimit.perMinute(60);
+        long now = 123L * SECOND;
+
+        // When
+        int allowed = 0;
+        AdmissionDecision last = null;
+        for (int i = 0; i < 100; i++) {
+            last = registry.tryAcquire("tenant:1", limit, now);
+            if (last.isAllowed()) {
+                allowed++;
+            }
+        }
+        AdmissionDecision afterOneSecond = registry.tryAcquire("tenant:1", limit, now + SECOND);
+        AdmissionDecision otherTenant = registry.tryAcquire("tenant:2", limit, now);
+
+        // Then
+        assertEquals(60, allowed);
+        assertFalse(last.isAllowed());
+        assertEquals(60, last.getLimit());
+        assertEquals(0, last.getRemaining());
+        assertEquals(1000L, last.getRetryAfterMillis());
+        assertEquals(1L, last.getRetryAfterSeconds());
+        assertTrue(afterOneSecond.isAllowed());
+        assertTrue(otherTenant.isAllowed());
+        assertEquals(59, otherTenant.getRemaining());
+        assertTrue(registry.tryAcquire("any", null, now).isAllowed());
+
+        assertEquals(0, registry.evictIdle(now + SECOND / 2));
+        assertEquals(2, registry.evictIdle(now + 61 * SECOND));
+
+        System.out.println("✅ Burst then refill test passed");
+    }
+
+    @Test
+    void testReleaseReturnsPermit() {
+        // Given
+        RateLimiterRegistry registry = new RateLimiterRegistry(4);
+        RateLimit limit = RateLimit.perMinute(8);
+        long now = 7L * SECOND;
+        for (int i = 0; i < 8; i++) {
+            assertTrue(registry.tryAcquire("key:ci", limit, now).isAllowed());
+        }
+
+        // When
+        registry.release("key:ci", limit, now);
+        AdmissionDecision afterRelease = registry.tryAcquire("key:ci", limit, now);
+        AdmissionDecision exhausted = registry.tryAcquire("key:ci", limit, now);
+        registry.release("key:ci", RateLimit.perMinute(100), now);
+        registry.release("key:missing", limit, now);
+
+        // Then
+        assertTrue(afterRelease.isAllowed());
+        assertFalse(exhausted.isAllowed());
+        assertFalse(registry.tryAcquire("key:ci", limit, now).isAllowed());
+        assertEquals(1, registry.size());
+
+        System.out.println("✅ Release returns permit test passed");
+    }
+
+    @Test
+    void testStripedBucketKeepsTotalLimit() throws Exception {
+        // Given
+        RateLimiterRegistry registry = new RateLimiterRegistry(8);
+        RateLimit limit = RateLimit.perMinute(1000);
+        long now = -5L * SECOND;
+        AtomicInteger allowed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 16; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 200; i++) {
+                    if (registry.tryAcquire("key:ci", limit, now).isAllowed()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertEquals(1000, allowed.get());
+        assertEquals(8, new StripedTokenBucket(limit, 8).getStripeCount());
+        assertEquals(3, new StripedTokenBucket(RateLimit.perMinute(3), 8).getStripeCount());
+
+        System.out.println("✅ Striped bucket keeps total limit test passed");
+    }
+
+    @Test
+    void testLimitChangeReplacesBucket() {
+        // Given
+        RateLimiterRegistry registry = new RateLimiterRegistry(1);
+        long now = SECOND;
+        assertTrue(registry.tryAcquire("tenant:1", RateLimit.perMinute(1), now).isAllowed());
+        assertFalse(registry.tryAcquire("tenant:1", RateLimit.perMinute(1), now).isAllowed());
+
+        // When
+        AdmissionDecision upgraded = registry.tryAcquire("tenant:1", RateLimit.perMinute(500), now);
+
+        // Then
+        assertTrue(upgraded.isAllowed());
+        assertEquals(500, upgraded.getLimit());
+        assertEquals(1, registry.size());
+
+        System.out.println("✅ Limit change replaces bucket test passed");
+    }
+
+    @Test
+    void testWeightedFairQueue() {
+        // Given
+        FairExecutionQueue<String> queue = new FairExecutionQueue<>(100);
+        for (int i = 0; i < 50; i++) {
+            assertTrue(queue.offer(1L, 1, 1, "a" + i));
+        }
+
+        // When
+        queue.offer(2L, 1, 1, "b0");
+        queue.offer(2L, 1, 1, "b1");
+        queue.offer(3L, 2, 1, "c0");
+        queue.offer(3L, 2, 1, "c1");
+        List<String> first = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            first.add(queue.poll());
+        }
+
+        // Then: 权重2的租户c每个完成标签推进0.5，与a、b交替出队，a的积压不阻塞后来者
+        assertEquals("[c0, a0, b0, c1, a1, b1]", first.toString());
+        assertEquals(48, queue.size(1L));
+        assertEquals(0, queue.size(2L));
+        assertEquals(1, queue.getTenantCount());
+
+        FairExecutionQueue<String> bounded = new FairExecutionQueue<>(2);
+        assertTrue(bounded.offer(1L, 1, 1, "x"));
+        assertTrue(bounded.offer(1L, 1, 1, "y"));
+        assertFalse(bounded.offer(1L, 1, 1, "z"));
+        assertTrue(bounded.offer(2L, 1, 1, "w"));
+        assertEquals("x", bounded.poll());
+        assertEquals("w", bounded.poll());
+        assertEquals("y", bounded.poll());
+        assertNull(bounded.poll());
+
+        System.out.println("✅ Weighted fair queue test passed");
+    }
+}
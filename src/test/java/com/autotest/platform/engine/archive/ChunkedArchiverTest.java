@@ -0,0 +1,298 @@
+package com.autotest.platform.engine.archive;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 分批归档清理测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class ChunkedArchiverTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+    @Test
+    void testPurgesInPrimaryKeyChunksChildrenFirst() {
+        // Given
+        InMemoryStore store = new InMemoryStore(25);
+        ChunkedArchiver archiver = new ChunkedArchiver(store, fixedChunk(10), () -> null);
+
+        // When
+        ArchiveResult result = archiver.run(ArchiveTarget.WEBHOOK_EVENT, CUTOFF, false, 60000L);
+
+        // Then
+        assertTrue(result.isCompleted());
+        assertEquals(3, result.getChunks());
+        assertEquals(25, result.getRows());
+        assertEquals(25, result.getChildRows());
+        assertTrue(store.rows.isEmpty());
+        assertEquals("webhook_event_history", store.operations.get(0));
+        assertEquals("webhook_event", store.operations.get(1));
+        assertNull(store.checkpoints.get("WEBHOOK_EVENT"));
+
+        System.out.println("✅ Chunked purge test passed");
+    }
+
+    @Test
+    void testResumesFromCheckpointAfterStop() {
+        // Given
+        InMemoryStore store = new InMemoryStore(30);
+        ThrottleSettings settings = fixedChunk(10);
+        settings.setSleepRatio(1.0);
+        AtomicInteger pauses = new AtomicInteger();
+        ChunkedArchiver archiver = new ChunkedArchiver(store, settings, () -> null) {
+            @Override
+            protected boolean pause(long millis) {
+                // 第一次批间休眠时模拟人工停止
+                if (pauses.getAndIncrement() == 0) {
+                    stop();
+                }
+                return true;
+            }
+        };
+        store.delayMillis = 2;
+
+        // When
+        ArchiveResult first = archiver.run(ArchiveTarget.WEBHOOK_EVENT, CUTOFF, false, 60000L);
+        Long checkpoint = store.checkpoints.get("WEBHOOK_EVENT");
+        store.delayMillis = 0;
+        ArchiveResult stillStopped = archiver.run(ArchiveTarget.WEBHOOK_EVENT, CUTOFF, false, 60000L);
+        archiver.reset();
+        ArchiveResult second = archiver.run(ArchiveTarget.WEBHOOK_EVENT, CUTOFF, false, 60000L);
+
+        // Then
+        assertFalse(first.isCompleted());
+        assertEquals(10, first.getRows());
+        assertEquals(Long.valueOf(10), checkpoint);
+        assertEquals(0, stillStopped.getRows());
+        assertFalse(stillStopped.isCompleted());
+        assertTrue(second.isCompleted());
+        assertEquals(20, second.getRows());
+        assertEquals(10L, (long) store.selectedAfter.get(1));
+        assertTrue(store.rows.isEmpty());
+
+        System.out.println("✅ Checkpoint resume test passed");
+    }
+
+    @Test
+    void testCopyBeforeDeleteIsIdempotent() {
+        // Given
+        InMemoryStore store = new InMemoryStore(5);
+        store.archived.add(3L);
+        ChunkedArchiver archiver = new ChunkedArchiver(store, fixedChunk(10), () -> null);
+
+        // When
+        ArchiveResult result = archiver.run(ArchiveTarget.WEBHOOK_EVENT, CUTOFF, true, 60000L);
+
+        // Then
+        assertEquals(5, result.getRows());
+        assertEquals(5 + 4, result.getArchivedRows());
+        assertEquals(5, store.archived.size());
+
+        System.out.println("✅ Copy before delete test passed");
+    }
+
+    @Test
+    void testPurgeChildrenKeepsParentRows() {
+        // Given
+        InMemoryStore store = new InMemoryStore(12);
+        ChunkedArchiver archiver = new ChunkedArchiver(store, fixedChunk(5), () -> null);
+
+        // When
+        ArchiveResult result = archiver.purgeChildren(ArchiveTarget.TEST_EXECUTION, "p202501", 60000L);
+
+        // Then
+        assertTrue(result.isCompleted());
+        assertEquals(0, result.getRows());
+        assertEquals(24, result.getChildRows());
+        assertEquals(12, store.rows.size());
+        assertFalse(store.operations.contains("test_execution"));
+
+        System.out.println("✅ Partition child purge test passed");
+    }
+
+    @Test
+    void testThrottleAdaptsToStatementTimeAndLag() {
+        // Given
+        ThrottleSettings settings = new ThrottleSettings();
+        settings.setInitialChunkSize(1000);
+        settings.setMinChunkSize(100);
+        settings.setMaxChunkSize(1600);
+        settings.setTargetChunkMillis(500);
+        settings.setSleepRatio(0.5);
+        settings.setMaxLagSeconds(5);
+        settings.setMaxPauseMillis(10000);
+        AdaptiveThrottle throttle = new AdaptiveThrottle(settings);
+
+        // When
+        long fastSleep = throttle.afterChunk(100, 0L);
+        int grown = throttle.chunkSize();
+        throttle.afterChunk(100, null);
+        throttle.afterChunk(100, null);
+        int capped = throttle.chunkSize();
+        long slowSleep = throttle.afterChunk(800, null);
+        int halved = throttle.chunkSize();
+        long lagSleep = throttle.afterChunk(300, 8L);
+        int lagged = throttle.chunkSize();
+        long longLag = throttle.afterChunk(300, 600L);
+
+        // Then
+        assertEquals(50, fastSleep);
+        assertEquals(1250, grown);
+        assertEquals(1600, capped);
+        assertEquals(400, slowSleep);
+        assertEquals(800, halved);
+        assertEquals(150 + 3000, lagSleep);
+        assertEquals(400, lagged);
+        assertEquals(10000, longLag);
+        assertEquals(200, throttle.chunkSize());
+
+        System.out.println("✅ Adaptive throttle test passed");
+    }
+
+    @Test
+    void testPartitionPlanning() {
+        // Given
+        List<String> partitions = Arrays.asList("p202510", "p202511", "p202512", "p202601", "p_future");
+
+        // When
+        List<String> expired = PartitionPlanner.expiredPartitions(partitions, YearMonth.of(2025, 12));
+        List<YearMonth> missing = PartitionPlanner.missingMonths(partitions, YearMonth.of(2026, 1), 3);
+        List<YearMonth> unpartitioned = PartitionPlanner.missingMonths(Arrays.asList("p0", "p1"),
+                YearMonth.of(2026, 1), 3);
+
+        // Then
+        assertEquals(Arrays.asList("p202510", "p202511"), expired);
+        assertEquals(Arrays.asList(YearMonth.of(2026, 2), YearMonth.of(2026, 3)), missing);
+        assertTrue(unpartitioned.isEmpty());
+        assertEquals("p202602", PartitionPlanner.partitionName(YearMonth.of(2026, 2)));
+        assertEquals(202601, PartitionPlanner.upperBound(YearMonth.of(2025, 12)));
+        assertNull(PartitionPlanner.monthOf("p202613"));
+        assertNull(PartitionPlanner.monthOf("p202601; drop table x"));
+
+        System.out.println("✅ Partition planning test passed");
+    }
+
+    private static ThrottleSettings fixedChunk(int size) {
+        ThrottleSettings settings = new ThrottleSettings();
+        settings.setInitialChunkSize(size);
+        settings.setMinChunkSize(size);
+        settings.setMaxChunkSize(size);
+        settings.setSleepRatio(0);
+        return settings;
+    }
+
+    /**
+     * 主表主键 1..n，每个子表每条主表记录一行
+     */
+    private static class InMemoryStore implements ArchiveStore {
+
+        private final TreeSet<Long> rows = new TreeSet<>();
+
+        private final Map<String, List<Long>> childRows = new HashMap<>();
+
+        private final TreeSet<Long> archived = new TreeSet<>();
+
+        private final Map<String, Long> checkpoints = new HashMap<>();
+
+        private final List<String> operations = new ArrayList<>();
+
+        private final List<Long> selectedAfter = new ArrayList<>();
+
+        private long delayMillis;
+
+        private InMemoryStore(int count) {
+            for (long id = 1; id <= count; id++) {
+                rows.add(id);
+            }
+        }
+
+        @Override
+        public List<Long> selectExpiredIds(ArchiveTarget target, LocalDateTime cutoff, long afterId, int limit) {
+            return select(afterId, limit);
+        }
+
+        @Override
+        public List<Long> selectPartitionIds(ArchiveTarget target, String partitionName, long afterId, int limit) {
+            return select(afterId, limit);
+        }
+
+        @Override
+        public int copyRows(String table, String column, List<Long> ids) {
+            int copied = 0;
+            for (Long id : ids) {
+                if (table.endsWith("_history") || archived.add(id)) {
+                    copied++;
+                }
+            }
+            return copied;
+        }
+
+        @Override
+        public int deleteRows(String table, String column, List<Long> ids) {
+            operations.add(table);
+            if (!table.equals("webhook_event") && !table.equals("test_execution")) {
+                childRows.computeIfAbsent(table, k -> new ArrayList<>()).addAll(ids);
+                return ids.size();
+            }
+            int deleted = 0;
+            for (Long id : ids) {
+                if (rows.remove(id)) {
+                    deleted++;
+                }
+            }
+            return deleted;
+        }
+
+        @Override
+        public Long loadCheckpoint(String taskKey) {
+            return checkpoints.get(taskKey);
+        }
+
+        @Override
+        public void saveCheckpoint(String taskKey, long lastId, long processedRows) {
+            checkpoints.put(taskKey, lastId);
+        }
+
+        @Override
+        public void clearCheckpoint(String taskKey) {
+            checkpoints.remove(taskKey);
+        }
+
+        private List<Long> select(long afterId, int limit) {
+            selectedAfter.add(afterId);
+            sleepQuietly();
+            List<Long> ids = new ArrayList<>();
+            for (Long id : rows.tailSet(afterId, false)) {
+                if (ids.size() == limit) {
+                    break;
+                }
+                ids.add(id);
+            }
+            return ids;
+        }
+
+        private void sleepQuietly() {
+            if (delayMillis > 0) {
+                try {
+                    Thread.sleep(delayMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
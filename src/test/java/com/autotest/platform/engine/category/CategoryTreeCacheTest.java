@@ -0,0 +1,182 @@
+package com.autotest.platform.engine.category;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 分类树缓存测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class CategoryTreeCacheTest {
+
+    @Test
+    void testSubtreeCountsAndOrdering() {
+        // Given
+        List<CategoryNode> nodes = Arrays.asList(
+                new CategoryNode(1L, 0L, "登录", 2, null, 1),
+                new CategoryNode(2L, 0L, "订单", 1, null, 0),
+                new CategoryNode(3L, 2L, "下单", 1, null, 4),
+                new CategoryNode(4L, 3L, "优惠券", 1, null, 2),
+                new CategoryNode(5L, 2L, "退款", 2, null, 3),
+                new CategoryNode(6L, 99L, "孤儿", 1, null, 5));
+
+        // When
+        CategoryTree tree = CategoryTree.build(1L, nodes);
+
+        // Then
+        assertEquals(Arrays.asList(2L, 6L, 1L), ids(tree.getRoots()));
+        assertEquals(9, tree.get(2L).getSubtreeCaseCount());
+        assertEquals(6, tree.get(3L).getSubtreeCaseCount());
+        assertEquals(3, tree.get(4L).getLevel());
+        assertEquals(Arrays.asList(3L, 5L), ids(tree.getChildren(2L)));
+        assertTrue(tree.hasChildren(2L));
+        assertFalse(tree.hasTestCases(2L));
+        assertEquals(4, tree.getSubtreeCategoryIds(2L).size());
+
+        System.out.println("✅ Subtree counts and ordering test passed");
+    }
+
+    @Test
+    void testCopiesAreDetachedFromCache() {
+        // Given
+        CategoryTree tree = CategoryTree.build(1L, Arrays.asList(
+                new CategoryNode(1L, 0L, "订单", 1, null, 1),
+                new CategoryNode(2L, 1L, "下单", 1, null, 2)));
+
+        // When
+        List<CategoryNode> copy = tree.copyRoots();
+        tree.adjustCaseCount(2L, 5);
+
+        // Then
+        assertNotSame(tree.get(1L), copy.get(0));
+        assertEquals(3, copy.get(0).getSubtreeCaseCount());
+        assertEquals(2, copy.get(0).getChildren().get(0).getCaseCount());
+        assertEquals(8, tree.copyRoots().get(0).getSubtreeCaseCount());
+        assertEquals(Collections.singletonList(2L), ids(tree.copyChildren(1L)));
+        assertThrows(UnsupportedOperationException.class, () -> copy.add(copy.get(0)));
+
+        System.out.println("✅ Copies are detached from cache test passed");
+    }
+
+    @Test
+    void testAdjustCaseCountPropagatesToAncestors() {
+        // Given
+        CategoryTreeCache cache = new CategoryTreeCache(projectId -> chain(projectId, 3), 0);
+        CategoryTree tree = cache.get(1L);
+
+        // When
+        cache.adjustCaseCount(1L, 3L, 2);
+        cache.adjustCaseCount(1L, 1L, -1);
+
+        // Then
+        assertSame(tree, cache.get(1L));
+        assertEquals(2, tree.get(3L).getCaseCount());
+        assertEquals(2, tree.get(2L).getSubtreeCaseCount());
+        assertEquals(2, tree.get(1L).getSubtreeCaseCount());
+        assertEquals(0, tree.get(1L).getCaseCount());
+
+        // 未知分类说明缓存陈旧，应丢弃
+        cache.adjustCaseCount(1L, 404L, 1);
+        assertNull(cache.getIfPresent(1L));
+
+        System.out.println("✅ Adjust case count test passed");
+    }
+
+    @Test
+    void testInvalidateDuringLoadDiscardsStaleTree() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CategoryTreeCache[] holder = new CategoryTreeCache[1];
+        holder[0] = new CategoryTreeCache(projectId -> {
+            if (loads.incrementAndGet() == 1) {
+                // 加载过程中分类被修改
+                holder[0].invalidate(projectId);
+            }
+            return chain(projectId, 2);
+        }, 0);
+
+        // When
+        holder[0].get(1L);
+        holder[0].get(1L);
+        holder[0].get(1L);
+
+        // Then
+        assertEquals(2, loads.get());
+
+        System.out.println("✅ Invalidate during load test passed");
+    }
+
+    @Test
+    void testInvalidateAllDuringFirstLoadDiscardsStaleTree() {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        CategoryTreeCache[] holder = new CategoryTreeCache[1];
+        holder[0] = new CategoryTreeCache(projectId -> {
+            if (loads.incrementAndGet() == 1) {
+                // 项目尚未写入缓存时全部失效
+                holder[0].invalidateAll();
+            }
+            return chain(projectId, 2);
+        }, 0);
+
+        // When
+        holder[0].get(1L);
+        CategoryTree cached = holder[0].getIfPresent(1L);
+        holder[0].get(1L);
+        holder[0].get(1L);
+
+        // Then
+        assertNull(cached);
+        assertEquals(2, loads.get());
+
+        System.out.println("✅ Invalidate all during load test passed");
+    }
+
+    @Test
+    void testLargeTree() {
+        // Given
+        List<CategoryNode> nodes = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            nodes.add(new CategoryNode(id, id <= 10 ? 0L : (id - 1) / 10, "分类" + id, (int) (id % 7), null, 1));
+        }
+
+        // When
+        CategoryTree tree = CategoryTree.build(1L, nodes);
+        int total = 0;
+        for (CategoryNode root : tree.getRoots()) {
+            total += root.getSubtreeCaseCount();
+        }
+
+        // Then
+        assertEquals(10, tree.getRoots().size());
+        assertEquals(5000, total);
+        assertEquals(5000, tree.size());
+
+        System.out.println("✅ Large tree test passed");
+    }
+
+    private static CategoryTree chain(Long projectId, int depth) {
+        List<CategoryNode> nodes = new ArrayList<>();
+        for (long id = 1; id <= depth; id++) {
+            nodes.add(new CategoryNode(id, id - 1, "分类" + id, 1, null, 0));
+        }
+        return CategoryTree.build(projectId, nodes);
+    }
+
+    private static List<Long> ids(List<CategoryNode> nodes) {
+        List<Long> ids = new ArrayList<>();
+        for (CategoryNode node : nodes) {
+            ids.add(node.getCategoryId());
+        }
+        return ids;
+    }
+}
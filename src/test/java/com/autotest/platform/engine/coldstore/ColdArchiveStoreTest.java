@@ -0,0 +1,168 @@
+package com.autotest.platform.engine.coldstore;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 冷存储列式文件测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class ColdArchiveStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRoundTripWithNullsAndEncodings() throws IOException {
+        // Given
+        List<ColdColumn> columns = Arrays.asList(ColdColumn.longColumn("id"), ColdColumn.stringColumn("status"),
+                ColdColumn.stringColumn("message"), ColdColumn.timeColumn("create_time"));
+        Path file = tempDir.resolve("rows.atc");
+        LocalDateTime base = LocalDateTime.of(2025, 3, 1, 8, 30, 15);
+
+        // When
+        try (ColumnarWriter writer = new ColumnarWriter(file, columns, 64)) {
+            for (int i = 0; i < 200; i++) {
+                writer.write(new Object[]{i - 50, i % 3 == 0 ? "FAILED" : "PASSED",
+                        i % 7 == 0 ? null : "错误-" + i, base.plusMinutes(i)});
+            }
+        }
+        List<Object[]> rows = new ArrayList<>();
+        try (ColumnarReader reader = ColumnarReader.open(file)) {
+            reader.scan(null, Collections.emptyList(), row -> rows.add(row));
+        }
+
+        // Then
+        assertEquals(200, rows.size());
+        assertEquals(-50L, rows.get(0)[0]);
+        assertEquals("FAILED", rows.get(0)[1]);
+        assertNull(rows.get(0)[2]);
+        assertEquals("错误-1", rows.get(1)[2]);
+        assertEquals(base.plusMinutes(199), rows.get(199)[3]);
+        assertFalse(Files.exists(tempDir.resolve("rows.atc.tmp")));
+
+        System.out.println("✅ Columnar round trip test passed");
+    }
+
+    @Test
+    void testPredicatePushdownSkipsRowGroups() throws IOException {
+        // Given
+        List<ColdColumn> columns = Arrays.asList(ColdColumn.longColumn("id"), ColdColumn.stringColumn("status"));
+        Path file = tempDir.resolve("groups.atc");
+        try (ColumnarWriter writer = new ColumnarWriter(file, columns, 100)) {
+            for (int i = 1; i <= 1000; i++) {
+                writer.write(new Object[]{(long) i, i > 900 ? "FAILED" : "PASSED"});
+            }
+        }
+
+        // When
+        List<Object[]> byId = new ArrayList<>();
+        List<Object[]> failed = new ArrayList<>();
+        int idGroups;
+        int statusGroups;
+        try (ColumnarReader reader = ColumnarReader.open(file)) {
+            reader.scan(Collections.singletonList("status"),
+                    Arrays.asList(ColdPredicate.ge("id", 250), ColdPredicate.lt("id", 260)), byId::add);
+            idGroups = reader.getLastScannedGroups();
+            reader.scan(Collections.singletonList("id"),
+                    Collections.singletonList(ColdPredicate.eq("status", "FAILED")), failed::add);
+            statusGroups = reader.getLastScannedGroups();
+        }
+
+        // Then
+        assertEquals(10, byId.size());
+        assertEquals(1, byId.get(0).length);
+        assertEquals(1, idGroups);
+        assertEquals(100, failed.size());
+        assertEquals(901L, failed.get(0)[0]);
+        assertEquals(1, statusGroups);
+
+        System.out.println("✅ Predicate pushdown test passed");
+    }
+
+    @Test
+    void testStoreScansNewestMonthFirstAndStops() throws IOException {
+        // Given
+        ColdArchiveStore store = new ColdArchiveStore(tempDir.resolve("cold"), 16);
+        writeExecutions(store, 1L, YearMonth.of(2025, 1), 1, 10);
+        writeExecutions(store, 1L, YearMonth.of(2025, 2), 11, 10);
+        writeExecutions(store, 2L, YearMonth.of(2025, 2), 21, 10);
+
+        // When
+        List<Long> latest = new ArrayList<>();
+        store.scan(ColdTable.TEST_EXECUTION, 1L, null, null, true,
+                Collections.singletonList("execution_id"), Collections.emptyList(), row -> {
+                    latest.add((Long) row[0]);
+                    return latest.size() < 5;
+                });
+        List<Long> january = new ArrayList<>();
+        store.scan(ColdTable.TEST_EXECUTION, null, YearMonth.of(2025, 1), YearMonth.of(2025, 1), false,
+                Collections.singletonList("execution_id"), Collections.emptyList(), row -> january.add((Long) row[0]));
+
+        // Then
+        assertEquals(Arrays.asList(11L, 12L, 13L, 14L, 15L), latest);
+        assertEquals(10, january.size());
+        assertEquals(Arrays.asList(1L, 2L), store.projects(ColdTable.TEST_EXECUTION));
+        assertEquals(Arrays.asList(YearMonth.of(2025, 1), YearMonth.of(2025, 2)),
+                store.months(ColdTable.TEST_EXECUTION, 1L));
+
+        System.out.println("✅ Partitioned store scan test passed");
+    }
+
+    @Test
+    void testRemoveRewritesOrDeletesParts() throws IOException {
+        // Given
+        ColdArchiveStore store = new ColdArchiveStore(tempDir.resolve("cold"), 4);
+        YearMonth month = YearMonth.of(2025, 5);
+        writeExecutions(store, 3L, month, 1, 10);
+        writeExecutions(store, 3L, month, 100, 2);
+
+        // When
+        long removed = store.remove(ColdTable.TEST_EXECUTION, 3L, month, "execution_id",
+                new HashSet<>(Arrays.asList(2L, 5L, 100L, 101L)));
+        List<Long> remaining = new ArrayList<>(store.ids(ColdTable.TEST_EXECUTION, 3L, month));
+        Collections.sort(remaining);
+        long partCount;
+        try (java.util.stream.Stream<Path> files = Files.list(tempDir.resolve("cold/test_execution/3/2025-05"))) {
+            partCount = files.count();
+        }
+
+        // Then
+        assertEquals(4, removed);
+        assertEquals(Arrays.asList(1L, 3L, 4L, 6L, 7L, 8L, 9L, 10L), remaining);
+        assertEquals(1, partCount);
+
+        System.out.println("✅ Remove and rewrite test passed");
+    }
+
+    private static void writeExecutions(ColdArchiveStore store, long projectId, YearMonth month, long firstId,
+                                        int count) throws IOException {
+        int columns = ColdTable.TEST_EXECUTION.getColumns().size();
+        List<String> names = ColdTable.TEST_EXECUTION.getColumnNames();
+        try (ColumnarWriter writer = store.openWriter(ColdTable.TEST_EXECUTION, projectId, month)) {
+            for (long id = firstId; id < firstId + count; id++) {
+                Object[] row = new Object[columns];
+                row[names.indexOf("execution_id")] = id;
+                row[names.indexOf("project_id")] = projectId;
+                row[names.indexOf("status")] = "SUCCESS";
+                row[names.indexOf("create_time")] = month.atDay(1).atStartOfDay();
+                writer.write(row);
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.autotest.platform.engine.configcache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 配置字段缓存测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class VersionedConfigCacheTest {
+
+    @Test
+    void testParseOncePerVersion() {
+        // Given
+        VersionedConfigCache cache = new VersionedConfigCache(100, 100000L, 5000L);
+        String json = "{\"stages\":[{\"name\":\"build\"}],\"notify\":{\"email\":{\"to\":\"qa@example.com\"}},\"retry\":2}";
+
+        // When
+        JsonConfig first = cache.get(ConfigType.PIPELINE_CONFIG, 1L, 100L, json);
+        JsonConfig second = cache.get(ConfigType.PIPELINE_CONFIG, 1L, 100L, json);
+        JsonConfig changed = cache.get(ConfigType.PIPELINE_CONFIG, 1L, 200L, "{\"retry\":3}");
+
+        // Then
+        assertSame(first, second);
+        assertEquals(2, cache.getParses());
+        assertEquals(1, cache.getHits());
+        assertEquals("qa@example.com", first.getString("notify.email.to"));
+        assertEquals(2, first.getIntValue("retry", 0));
+        assertEquals(1, first.getList("stages").size());
+        assertEquals(3, changed.getIntValue("retry", 0));
+        System.out.println("✅ Parse once per version test passed");
+    }
+
+    @Test
+    void testSourceVerifiesVersionAfterWindow() {
+        // Given
+        VersionedConfigCache cache = new VersionedConfigCache(100, 100000L, 1000L);
+        FakeSource source = new FakeSource();
+        source.put(ConfigType.TRIGGER_CONFIG, 7L, "{\"branches\":[\"main\"]}", 10L);
+
+        // When
+        JsonConfig loaded = cache.get(ConfigType.TRIGGER_CONFIG, 7L, source, 0L);
+        cache.get(ConfigType.TRIGGER_CONFIG, 7L, source, 500L);
+        cache.get(ConfigType.TRIGGER_CONFIG, 7L, source, 1500L);
+        int loadsBeforeChange = source.loads.get();
+        source.put(ConfigType.TRIGGER_CONFIG, 7L, "{\"branches\":[\"release\"]}", 20L);
+        JsonConfig reloaded = cache.get(ConfigType.TRIGGER_CONFIG, 7L, source, 3000L);
+
+        // Then
+        assertEquals(1, loadsBeforeChange);
+        assertEquals(2, source.versions.get());
+        assertEquals("main", loaded.getList("branches").get(0));
+        assertEquals("release", reloaded.getList("branches").get(0));
+        System.out.println("✅ Source verification test passed");
+    }
+
+    @Test
+    void testChangeWithinSameSecondIsDetected() {
+        // Given
+        VersionedConfigCache cache = new VersionedConfigCache(100, 100000L, 0L);
+        FakeSource source = new FakeSource();
+        source.put(ConfigType.PIPELINE_CONFIG, 5L, "{\"retry\":1}", 1000L);
+        JsonConfig first = cache.get(ConfigType.PIPELINE_CONFIG, 5L, source, 0L);
+
+        // When
+        source.put(ConfigType.PIPELINE_CONFIG, 5L, "{\"retry\":2}", 1000L);
+        JsonConfig changed = cache.get(ConfigType.PIPELINE_CONFIG, 5L, source, 10L);
+        JsonConfig held = cache.get(ConfigType.PIPELINE_CONFIG, 5L, 1000L, "{\"retry\":3}");
+
+        // Then
+        assertEquals(1, first.getIntValue("retry", 0));
+        assertEquals(2, changed.getIntValue("retry", 0));
+        assertEquals(3, held.getIntValue("retry", 0));
+        assertEquals(3, cache.getParses());
+        System.out.println("✅ Same second change test passed");
+    }
+
+    @Test
+    void testDeletedRowAndInvalidate() {
+        // Given
+        VersionedConfigCache cache = new VersionedConfigCache(100, 100000L, 0L);
+        FakeSource source = new FakeSource();
+        source.put(ConfigType.SCHEDULE_CASE_IDS, 3L, "[1,2,3]", 10L);
+        source.put(ConfigType.SCHEDULE_CATEGORY_IDS, 3L, "4, 5", 10L);
+        cache.get(ConfigType.SCHEDULE_CASE_IDS, 3L, source, 0L);
+        List<Long> categories = cache.get(ConfigType.SCHEDULE_CATEGORY_IDS, 3L, source, 0L);
+
+        // When
+        cache.invalidateRow("test_schedule", 3L);
+        int sizeAfterInvalidate = cache.size();
+        cache.get(ConfigType.SCHEDULE_CASE_IDS, 3L, source, 10L);
+        source.remove(ConfigType.SCHEDULE_CASE_IDS, 3L);
+        List<Long> deleted = cache.get(ConfigType.SCHEDULE_CASE_IDS, 3L, source, 20L);
+
+        // Then
+        assertEquals(Arrays.asList(4L, 5L), categories);
+        assertEquals(0, sizeAfterInvalidate);
+        assertNull(deleted);
+        assertEquals(0, cache.size());
+        assertThrows(UnsupportedOperationException.class, () -> categories.add(6L));
+        System.out.println("✅ Deleted row and invalidate test passed");
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsedByWeight() {
+        // Given
+        String text = "{\"k\":\"" + new String(new char[100]).replace('\0', 'x') + "\"}";
+        VersionedConfigCache cache = new VersionedConfigCache(100, 3 * (text.length() + 64L), 5000L);
+
+        // When
+        cache.get(ConfigType.EXECUTION_CONFIG, 1L, 1L, text);
+        cache.get(ConfigType.EXECUTION_CONFIG, 2L, 1L, text);
+        cache.get(ConfigType.EXECUTION_CONFIG, 3L, 1L, text);
+        cache.get(ConfigType.EXECUTION_CONFIG, 1L, 1L, text);
+        cache.get(ConfigType.EXECUTION_CONFIG, 4L, 1L, text);
+        long parses = cache.getParses();
+        cache.get(ConfigType.EXECUTION_CONFIG, 1L, 1L, text);
+        cache.get(ConfigType.EXECUTION_CONFIG, 2L, 1L, text);
+
+        // Then
+        assertEquals(4, parses);
+        assertEquals(5, cache.getParses());
+        assertEquals(3, cache.size());
+        assertTrue(cache.getEvictions() >= 1);
+        System.out.println("✅ LRU eviction test passed");
+    }
+
+    @Test
+    void testJsonConfigIsImmutable() {
+        // Given
+        JsonConfig config = JsonConfig.parse("{\"env\":{\"headers\":{\"token\":\"abc\"}},\"timeout\":\"30\"}");
+
+        // When
+        Map<String, Object> map = config.asMap();
+
+        // Then
+        assertEquals(30, (int) config.getInteger("timeout"));
+        assertEquals("abc", config.getConfig("env.headers").getString("token"));
+        assertNull(config.getString("env.missing.key"));
+        assertTrue(JsonConfig.parse(" ").isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> map.put("x", 1));
+        assertThrows(IllegalArgumentException.class, () -> JsonConfig.parse("[1,2]"));
+        System.out.println("✅ Immutable config test passed");
+    }
+
+    private static class FakeSource implements VersionedConfigCache.ConfigSource {
+
+        private final Map<String, ConfigRow> rows = new HashMap<>();
+
+        private final AtomicInteger loads = new AtomicInteger();
+
+        private final AtomicInteger versions = new AtomicInteger();
+
+        void put(ConfigType<?> type, Long id, String text, long version) {
+            rows.put(type.getName() + ":" + id, new ConfigRow(text, version));
+        }
+
+        void remove(ConfigType<?> type, Long id) {
+            rows.remove(type.getName() + ":" + id);
+        }
+
+        @Override
+        public ConfigRow version(ConfigType<?> type, Long id) {
+            versions.incrementAndGet();
+            ConfigRow row = rows.get(type.getName() + ":" + id);
+            return row == null ? null : new ConfigRow(null, row.getVersion(), row.getChecksum());
+        }
+
+        @Override
+        public ConfigRow load(ConfigType<?> type, Long id) {
+            loads.incrementAndGet();
+            return rows.get(type.getName() + ":" + id);
+        }
+    }
+}
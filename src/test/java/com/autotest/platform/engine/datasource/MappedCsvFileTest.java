@@ -0,0 +1,109 @@
+package com.autotest.platform.engine.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 内存映射CSV数据文件测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class MappedCsvFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testHeaderTypesAndQuotedFields() throws Exception {
+        // Given
+        Path csv = write("\uFEFFusername,age,remark\r\n"
+                + "张三,18,\"多行\n备注, 含逗号\"\r\n"
+                + "\r\n"
+                + "李四,,\"引号\"\"转义\"\r\n");
+        DataSchema schema = new DataSchema(Arrays.asList("age"), Arrays.asList(ColumnType.INT), true, ',');
+
+        // When
+        try (MappedCsvFile file = MappedCsvFile.open(csv, schema)) {
+            // Then
+            assertEquals(2, file.rowCount());
+            assertEquals(Arrays.asList("username", "age", "remark"), file.getSchema().getNames());
+            DataRow first = file.row(0);
+            assertEquals("张三", first.get("username"));
+            assertEquals(18, first.get("age"));
+            assertEquals("多行\n备注, 含逗号", first.get("remark"));
+            DataRow second = file.row(1);
+            assertNull(second.get("age"));
+            assertEquals("引号\"转义", second.toMap().get("remark"));
+            assertThrows(IndexOutOfBoundsException.class, () -> file.row(2));
+        }
+
+        System.out.println("✅ Header, types and quoted fields test passed");
+    }
+
+    @Test
+    void testSplitAndResume() throws Exception {
+        // Given
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            content.append(i).append(",value").append(i).append('\n');
+        }
+        Path csv = write(content.toString());
+        DataSchema schema = new DataSchema(Arrays.asList("id", "value"),
+                Arrays.asList(ColumnType.LONG, ColumnType.STRING), false, ',');
+
+        // When
+        try (MappedCsvFile file = MappedCsvFile.open(csv, schema)) {
+            List<RowRange> ranges = RowRange.split(file.rowCount(), 3);
+            Iterator<DataRow> resumed = file.iterator(ranges.get(1), 500);
+
+            // Then
+            assertEquals(1000, file.rowCount());
+            assertEquals(3, ranges.size());
+            assertEquals(334, ranges.get(0).size());
+            assertEquals(1000, ranges.get(2).getEndRow());
+            assertEquals(500L, resumed.next().get("id"));
+            long last = -1;
+            while (resumed.hasNext()) {
+                last = (Long) resumed.next().get(0);
+            }
+            assertEquals(ranges.get(1).getEndRow() - 1, last);
+            assertEquals("value999", file.row(999).get("value"));
+        }
+
+        System.out.println("✅ Split and resume test passed");
+    }
+
+    @Test
+    void testEmptyFile() throws Exception {
+        // Given
+        Path csv = write("");
+
+        // When
+        try (MappedCsvFile file = MappedCsvFile.open(csv,
+                new DataSchema(Collections.emptyList(), Collections.emptyList(), true, ','))) {
+            // Then
+            assertEquals(0, file.rowCount());
+            assertEquals(1, RowRange.split(file.rowCount(), 4).size());
+            assertFalse(file.iterator(RowRange.split(0, 4).get(0), 0).hasNext());
+        }
+
+        System.out.println("✅ Empty file test passed");
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = Files.createTempFile(tempDir, "data", ".csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
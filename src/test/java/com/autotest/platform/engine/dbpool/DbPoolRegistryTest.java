@@ -0,0 +1,212 @@
+package com.autotest.platform.engine.dbpool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 目标库连接池注册表测试，使用H2内存库
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class DbPoolRegistryTest {
+
+    private DbPoolRegistry registry;
+
+    @AfterEach
+    void tearDown() {
+        if (registry != null) {
+            registry.close();
+        }
+    }
+
+    @Test
+    void testLazyCreationAndReuse() throws SQLException {
+        // Given
+        registry = new DbPoolRegistry(new PoolSettings());
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<DbConnectionConfig> loader = () -> {
+            loads.incrementAndGet();
+            return h2("lazy");
+        };
+
+        // When
+        int before = registry.size();
+        try (Connection connection = registry.getConnection("ds:1", loader)) {
+            execute(connection, "create table t_user (id int primary key, name varchar(20))");
+            execute(connection, "insert into t_user values (1, 'alice')");
+        }
+        String name;
+        try (Connection connection = registry.getConnection("ds:1", loader);
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("select name from t_user where id = 1")) {
+            rs.next();
+            name = rs.getString(1);
+        }
+
+        // Then
+        assertEquals(0, before);
+        assertEquals(1, registry.size());
+        assertEquals(1, loads.get());
+        assertEquals("alice", name);
+
+        System.out.println("✅ Lazy creation and reuse test passed");
+    }
+
+    @Test
+    void testMetrics() throws SQLException {
+        // Given
+        registry = new DbPoolRegistry(new PoolSettings());
+
+        // When
+        PoolMetrics borrowed;
+        try (Connection ignored = registry.getConnection("env:1", () -> h2("metrics"))) {
+            borrowed = registry.metrics().get(0);
+        }
+        PoolMetrics returned = registry.metrics().get(0);
+
+        // Then
+        assertEquals("env:1", borrowed.getKey());
+        assertEquals(1, borrowed.getActiveCount());
+        assertEquals(0, returned.getActiveCount());
+        assertEquals(1, returned.getIdleCount());
+        assertEquals(8, returned.getMaxActive());
+        assertEquals(1, returned.getCreateCount());
+        assertTrue(returned.getBorrowCount() >= 1);
+
+        System.out.println("✅ Pool metrics test passed");
+    }
+
+    @Test
+    void testConfigOverridesPoolSize() throws SQLException {
+        // Given
+        registry = new DbPoolRegistry(new PoolSettings());
+        DbConnectionConfig config = DbConnectionConfig.parse(
+                "{\"url\":\"jdbc:h2:mem:sized;DB_CLOSE_DELAY=-1\",\"username\":\"sa\",\"password\":\"\",\"maxActive\":2}");
+
+        // When
+        try (Connection ignored = registry.getConnection("ds:2", () -> config)) {
+            // 建立物理连接
+        }
+        List<PoolMetrics> metrics = registry.metrics();
+
+        // Then
+        assertEquals(2, metrics.get(0).getMaxActive());
+
+        System.out.println("✅ Config overrides pool size test passed");
+    }
+
+    @Test
+    void testRefreshRebuildsOnlyWhenConfigChanges() throws SQLException {
+        // Given
+        registry = new DbPoolRegistry(new PoolSettings());
+        try (Connection ignored = registry.getConnection("ds:3", () -> h2("before"))) {
+            // 建立物理连接
+        }
+
+        // When
+        boolean sameClosed = registry.refresh("ds:3", h2("before"));
+        boolean changedClosed = registry.refresh("ds:3", h2("after"));
+        String url;
+        try (Connection connection = registry.getConnection("ds:3", () -> h2("after"))) {
+            url = connection.getMetaData().getURL();
+        }
+
+        // Then
+        assertFalse(sameClosed);
+        assertTrue(changedClosed);
+        assertTrue(url.contains("after"));
+        assertFalse(registry.refresh("ds:404", h2("after")));
+
+        System.out.println("✅ Refresh on config change test passed");
+    }
+
+    @Test
+    void testEvictIdleSkipsBorrowedPools() throws SQLException {
+        // Given
+        PoolSettings settings = new PoolSettings();
+        settings.setIdleCloseMillis(-1);
+        registry = new DbPoolRegistry(settings);
+        try (Connection ignored = registry.getConnection("ds:idle", () -> h2("idle"))) {
+            // 建立物理连接
+        }
+        Connection borrowed = registry.getConnection("ds:busy", () -> h2("busy"));
+
+        // When
+        int closed = registry.evictIdle();
+        int remaining = registry.size();
+        borrowed.close();
+        boolean reopened;
+        try (Connection connection = registry.getConnection("ds:idle", () -> h2("idle"))) {
+            reopened = connection.isValid(1);
+        }
+
+        // Then
+        assertEquals(1, closed);
+        assertEquals(1, remaining);
+        assertTrue(reopened);
+
+        System.out.println("✅ Idle eviction test passed");
+    }
+
+    @Test
+    void testUnreachablePoolIsRebuiltAfterRecovery() throws SQLException {
+        // Given
+        registry = new DbPoolRegistry(new PoolSettings());
+        DbConnectionConfig config = new DbConnectionConfig("jdbc:h2:mem:outage;IFEXISTS=TRUE", "sa", "", null, null,
+                null);
+
+        // When
+        assertThrows(SQLException.class, () -> registry.getConnection("ds:outage", () -> config));
+        int afterFailure = registry.size();
+        boolean recovered;
+        try (Connection keepAlive = DriverManager.getConnection("jdbc:h2:mem:outage;DB_CLOSE_DELAY=-1", "sa", "");
+             Connection connection = registry.getConnection("ds:outage", () -> config)) {
+            recovered = keepAlive.isValid(1) && connection.isValid(1);
+        }
+
+        // Then
+        assertEquals(0, afterFailure);
+        assertTrue(recovered);
+
+        System.out.println("✅ Rebuild after outage test passed");
+    }
+
+    @Test
+    void testParseBuildsUrlFromHost() {
+        // Given
+        String json = "{\"type\":\"postgresql\",\"host\":\"10.0.0.1\",\"database\":\"orders\",\"username\":\"u\"}";
+
+        // When
+        DbConnectionConfig config = DbConnectionConfig.parse(json);
+
+        // Then
+        assertEquals("jdbc:postgresql://10.0.0.1:5432/orders", config.getUrl());
+        assertEquals("u", config.getUsername());
+        assertThrows(IllegalArgumentException.class, () -> DbConnectionConfig.parse("{\"username\":\"u\"}"));
+        assertThrows(IllegalArgumentException.class, () -> DbConnectionConfig.parse(" "));
+
+        System.out.println("✅ Config parse test passed");
+    }
+
+    private static DbConnectionConfig h2(String name) {
+        return new DbConnectionConfig("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "", null, null, null);
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.autotest.platform.engine.diff;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 执行对比测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class ExecutionDifferTest {
+
+    private final Map<Long, List<CaseOutcome>> executions = new HashMap<>();
+
+    private final AtomicInteger pages = new AtomicInteger();
+
+    private final ExecutionDiffer.OutcomePager pager = (executionId, afterCaseId, limit) -> {
+        pages.incrementAndGet();
+        List<CaseOutcome> page = new ArrayList<>();
+        for (CaseOutcome outcome : executions.get(executionId)) {
+            if ((afterCaseId == null || outcome.getCaseId() > afterCaseId) && page.size() < limit) {
+                page.add(outcome);
+            }
+        }
+        return page;
+    };
+
+    @Test
+    void testClassifyAcrossPages() {
+        // Given
+        List<CaseOutcome> base = new ArrayList<>();
+        base.add(new CaseOutcome(1, "SUCCESS", 100L));
+        base.add(new CaseOutcome(2, "FAILED", 100L));
+        base.add(new CaseOutcome(3, "FAILED", 100L));
+        base.add(new CaseOutcome(4, "SUCCESS", 1000L));
+        base.add(new CaseOutcome(5, "SUCCESS", 10L));
+        base.add(new CaseOutcome(6, "SUCCESS", 100L));
+        base.add(new CaseOutcome(8, "SKIPPED", null));
+        List<CaseOutcome> target = new ArrayList<>();
+        target.add(new CaseOutcome(1, "FAILED", 100L));
+        target.add(new CaseOutcome(2, "SUCCESS", 100L));
+        target.add(new CaseOutcome(3, "TIMEOUT", 100L));
+        target.add(new CaseOutcome(4, "SUCCESS", 3000L));
+        target.add(new CaseOutcome(5, "SUCCESS", 100L));
+        target.add(new CaseOutcome(7, "SUCCESS", 100L));
+        target.add(new CaseOutcome(8, "FAILED", 100L));
+        executions.put(10L, base);
+        executions.put(11L, target);
+
+        // When
+        ExecutionDiff diff = new ExecutionDiffer(2, 1.5, 1000, 10).diff(10L, 11L, pager);
+
+        // Then
+        assertEquals(2, diff.count(DiffCategory.NEWLY_FAILING));
+        assertEquals(1L, diff.items(DiffCategory.NEWLY_FAILING).get(0).getCaseId());
+        assertEquals(8L, diff.items(DiffCategory.NEWLY_FAILING).get(1).getCaseId());
+        assertEquals(1, diff.count(DiffCategory.FIXED));
+        assertEquals(1, diff.count(DiffCategory.STILL_FAILING));
+        assertEquals(1, diff.count(DiffCategory.SLOWER));
+        assertEquals(4L, diff.items(DiffCategory.SLOWER).get(0).getCaseId());
+        assertEquals(Long.valueOf(3000L), diff.items(DiffCategory.SLOWER).get(0).getTargetDuration());
+        assertEquals(1, diff.count(DiffCategory.ADDED));
+        assertEquals(7L, diff.items(DiffCategory.ADDED).get(0).getCaseId());
+        assertEquals(1, diff.count(DiffCategory.REMOVED));
+        assertEquals(6L, diff.items(DiffCategory.REMOVED).get(0).getCaseId());
+        assertEquals(7, diff.getBaseCases());
+        assertEquals(7, diff.getTargetCases());
+        assertFalse(diff.isTruncated());
+    }
+
+    @Test
+    void testLargeExecutionKeepsItemsBounded() {
+        // Given
+        List<CaseOutcome> base = new ArrayList<>();
+        List<CaseOutcome> target = new ArrayList<>();
+        for (long caseId = 1; caseId <= 100000; caseId++) {
+            base.add(new CaseOutcome(caseId, "SUCCESS", 100L));
+            target.add(new CaseOutcome(caseId, caseId % 10 == 0 ? "FAILED" : "SUCCESS", 100L));
+        }
+        executions.put(1L, base);
+        executions.put(2L, target);
+
+        // When
+        ExecutionDiff diff = new ExecutionDiffer(50000, 1.5, 1000, 100).diff(1L, 2L, pager);
+
+        // Then
+        assertEquals(10000, diff.count(DiffCategory.NEWLY_FAILING));
+        assertEquals(100, diff.items(DiffCategory.NEWLY_FAILING).size());
+        assertTrue(diff.isTruncated());
+        assertEquals(100000, diff.getTargetCases());
+        // 每次执行两页数据加一次确认已读完的空页
+        assertEquals(6, pages.get());
+    }
+
+    @Test
+    void testAdjacentDuplicatesCollapsed() {
+        // Given
+        List<CaseOutcome> base = new ArrayList<>();
+        base.add(new CaseOutcome(1, "FAILED", 100L));
+        base.add(new CaseOutcome(1, "SUCCESS", 100L));
+        base.add(new CaseOutcome(2, "SUCCESS", 100L));
+        List<CaseOutcome> target = new ArrayList<>();
+        target.add(new CaseOutcome(1, "SUCCESS", 100L));
+        target.add(new CaseOutcome(2, "SUCCESS", 100L));
+        executions.put(1L, base);
+        executions.put(2L, target);
+
+        // When
+        ExecutionDiff diff = new ExecutionDiffer(10, 1.5, 1000, 10).diff(1L, 2L, pager);
+
+        // Then
+        assertEquals(2, diff.getBaseCases());
+        for (DiffCategory category : DiffCategory.values()) {
+            assertEquals(0, diff.count(category));
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.autotest.platform.engine.impact;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 测试影响选择器测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class TestImpactSelectorTest {
+
+    private ImpactIndex index;
+
+    private TestImpactSelector selector;
+
+    @BeforeEach
+    void setUp() {
+        ImpactSelectionConfig config = new ImpactSelectionConfig();
+        Set<String> alwaysRun = new HashSet<>(config.getAlwaysRunTags());
+        index = new ImpactIndex();
+        for (long caseId = 1; caseId <= 100; caseId++) {
+            String tags = null;
+            if (caseId <= 10) {
+                tags = "order,regression";
+            } else if (caseId <= 20) {
+                tags = "path:payment-service/src";
+            } else if (caseId == 21) {
+                tags = "smoke";
+            }
+            index.addCase(caseId, tags, alwaysRun);
+        }
+        index.addFailureMapping("path:user-service/src/main/java/com/acme/user", 30L, 3, 2);
+        index.addFailureMapping("path:user-service/src/main/java/com/acme/user", 31L, 2, 2);
+        index.addFailureMapping("path:user-service/src/main/java/com/acme/user", 32L, 1, 2);
+        for (long caseId = 40; caseId < 90; caseId++) {
+            index.addFailureMapping("path:common/src/main/java/com/acme/util", caseId, 5, 2);
+        }
+        index.pruneNoisyFailureMappings(config.getMaxKeyFanoutRatio());
+        selector = new TestImpactSelector(config);
+    }
+
+    @Test
+    void testSelectByModuleTag() {
+        // When
+        ImpactSelection selection = selector.select(index,
+                Collections.singletonList("order-service/src/main/java/com/acme/order/OrderService.java"), "abc123");
+
+        // Then
+        assertFalse(selection.isFullRun());
+        assertEquals(range(1, 10), selection.getImpactedCaseIds());
+        assertEquals(Collections.singleton(21L), selection.getAlwaysRunCaseIds());
+        assertEquals(5, selection.getSampledCaseIds().size());
+        assertTrue(selection.getSelectionRatio() < 0.2);
+        System.out.println("✅ selectByModuleTag test passed");
+    }
+
+    @Test
+    void testSelectByPathTagAndLearnedFailures() {
+        // When
+        ImpactSelection selection = selector.select(index, Arrays.asList(
+                "payment-service/src/main/java/com/acme/pay/PayService.java",
+                "user-service/src/main/java/com/acme/user/UserService.java"), "abc123");
+
+        // Then
+        Set<Long> expected = range(11, 20);
+        expected.add(30L);
+        expected.add(31L);
+        assertEquals(expected, selection.getImpactedCaseIds());
+        System.out.println("✅ selectByPathTagAndLearnedFailures test passed");
+    }
+
+    @Test
+    void testNoisyFailureKeyIsPruned() {
+        // When
+        ImpactSelection selection = selector.select(index,
+                Collections.singletonList("common/src/main/java/com/acme/util/DateUtils.java"), "abc123");
+
+        // Then
+        assertTrue(selection.isFullRun());
+        assertEquals(1, selection.getUnmappedFiles().size());
+        System.out.println("✅ noisyFailureKeyIsPruned test passed");
+    }
+
+    @Test
+    void testBuildFileTriggersFullRun() {
+        // When
+        ImpactSelection selection = selector.select(index,
+                Arrays.asList("order-service/src/main/java/com/acme/order/OrderService.java", "order-service/pom.xml"), "abc123");
+
+        // Then
+        assertTrue(selection.isFullRun());
+        assertEquals(100, selection.getSelectedCaseIds().size());
+        System.out.println("✅ buildFileTriggersFullRun test passed");
+    }
+
+    @Test
+    void testDocumentationChangeRunsOnlySample() {
+        // When
+        ImpactSelection selection = selector.select(index, Arrays.asList("README.md", "docs/api/guide.adoc"), "abc123");
+
+        // Then
+        assertFalse(selection.isFullRun());
+        assertTrue(selection.getImpactedCaseIds().isEmpty());
+        assertEquals(6, selection.getSelectedCaseIds().size());
+        System.out.println("✅ documentationChangeRunsOnlySample test passed");
+    }
+
+    @Test
+    void testSampleIsDeterministicPerCommit() {
+        // Given
+        Set<String> files = Collections.singleton("order-service/src/main/java/com/acme/order/OrderService.java");
+
+        // When
+        ImpactSelection first = selector.select(index, files, "abc123");
+        ImpactSelection again = selector.select(index, files, "abc123");
+
+        // Then
+        assertEquals(first.getSampledCaseIds(), again.getSampledCaseIds());
+        for (Long caseId : first.getSampledCaseIds()) {
+            assertFalse(first.getImpactedCaseIds().contains(caseId));
+        }
+        System.out.println("✅ sampleIsDeterministicPerCommit test passed");
+    }
+
+    @Test
+    void testExtractChangedFilesFromPushPayload() {
+        // Given
+        String payload = "{\"ref\":\"refs/heads/main\",\"commits\":["
+                + "{\"id\":\"a1\",\"added\":[\"src/A.java\"],\"modified\":[\"src/B.java\"],\"removed\":[]},"
+                + "{\"id\":\"a2\",\"added\":[],\"modified\":[\"src/B.java\",\"pom.xml\"],\"removed\":[\"src/C.java\"]}]}";
+
+        // When
+        Set<String> files = ChangedFileExtractor.extract(payload);
+
+        // Then
+        assertEquals(new HashSet<>(Arrays.asList("src/A.java", "src/B.java", "pom.xml", "src/C.java")), files);
+        assertTrue(ChangedFileExtractor.extract("not json").isEmpty());
+        System.out.println("✅ extractChangedFilesFromPushPayload test passed");
+    }
+
+    @Test
+    void testGenericSegmentsAreNotModuleKeys() {
+        // When
+        Set<String> keys = SourceKeys.forChangedFile("order-service/src/main/java/com/acme/order/OrderService.java");
+
+        // Then
+        assertTrue(keys.contains("module:order-service"));
+        assertTrue(keys.contains("module:order"));
+        assertFalse(keys.contains("module:src"));
+        assertFalse(keys.contains("module:main"));
+        assertFalse(keys.contains("module:java"));
+        assertFalse(keys.contains("module:com"));
+        assertTrue(keys.contains("path:order-service/src/main"));
+        System.out.println("✅ genericSegmentsAreNotModuleKeys test passed");
+    }
+
+    private static Set<Long> range(long from, long to) {
+        Set<Long> set = new TreeSet<>();
+        for (long i = from; i <= to; i++) {
+            set.add(i);
+        }
+        return set;
+    }
+}
@@ -0,0 +1,238 @@
+package com.autotest.platform.engine.jenkins;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 构建控制台日志增量拉取引擎测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class ConsoleLogIngestionEngineTest {
+
+    private static final String FULL_LOG = "Started by user admin\n"
+            + "[INFO] 构建开始 Building autotest-platform 1.0.0\n"
+            + "[INFO] Tests run: 22, Failures: 0, Errors: 0, Skipped: 0\n"
+            + "[INFO] 测试通过 ✅\n"
+            + "Finished: SUCCESS\n";
+
+    private HttpServer server;
+
+    private String buildUrl;
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+
+    private ConsoleLogIngestionEngine engine;
+
+    private RecordingSink sink;
+
+    /** 原始日志中的控制台注解，progressiveText 返回时去掉 */
+    private static final String NOTE = "\u001B[8mha:AAAA\u001B[0m";
+
+    private static final String RAW_LOG = FULL_LOG.replace("\n", "\n" + NOTE);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final byte[] rawBytes = RAW_LOG.getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // 模拟Jenkins progressiveText：每次请求原始日志增长7字节(会截断多字节字符)，返回内容去掉注解字节，
+        // 因此比 X-Text-Size 的增量少；全部输出后不再返回X-More-Data
+        server.createContext("/job/demo/1/logText/progressiveText", exchange -> {
+            int request = requestCount.incrementAndGet();
+            String query = exchange.getRequestURI().getQuery();
+            int start = Integer.parseInt(query.substring(query.indexOf("start=") + 6));
+            int visible = Math.min(rawBytes.length, request * 7);
+            ByteArrayOutputStream stripped = new ByteArrayOutputStream();
+            for (int i = Math.min(start, visible); i < visible; i++) {
+                if (!isNote(i)) {
+                    stripped.write(rawBytes[i]);
+                }
+            }
+            byte[] body = stripped.toByteArray();
+            exchange.getResponseHeaders().add("Content-Type", "text/plain;charset=UTF-8");
+            exchange.getResponseHeaders().add("X-Text-Size", String.valueOf(visible));
+            if (visible < rawBytes.length) {
+                exchange.getResponseHeaders().add("X-More-Data", "true");
+            }
+            exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        buildUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/job/demo/1/";
+        sink = new RecordingSink();
+        engine = new ConsoleLogIngestionEngine(new ProgressiveLogClient(2000, 2000), sink, testConfig(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void testFollowGrowingLogAppendsEachByteOnce() throws Exception {
+        // Given
+        int rawBytes = RAW_LOG.getBytes(StandardCharsets.UTF_8).length;
+
+        // When
+        assertTrue(engine.follow(1L, buildUrl, 0L, 0));
+        assertTrue(sink.completed.await(10, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(FULL_LOG, new String(sink.bytes.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(rawBytes, sink.finalOffset);
+        assertEquals(rawBytes, sink.progressOffset);
+        assertEquals(sink.segments.size(), sink.segmentCount);
+        long previousEnd = 0L;
+        for (int i = 0; i < sink.segments.size(); i++) {
+            long[] segment = sink.segments.get(i);
+            assertEquals(i, segment[0]);
+            assertTrue(segment[1] >= previousEnd);
+            assertTrue(segment[2] >= segment[1]);
+            assertTrue(segment[3] <= 16);
+            previousEnd = segment[2];
+        }
+        // 持久化的偏移量不落在多字节字符中间，重启后从该位置拉取不会丢字节
+        byte[] raw = RAW_LOG.getBytes(StandardCharsets.UTF_8);
+        for (long offset : sink.progressOffsets) {
+            assertTrue(offset == raw.length || (raw[(int) offset] & 0xC0) != 0x80);
+        }
+        assertFalse(engine.isFollowing(1L));
+        System.out.println("✅ followGrowingLogAppendsEachByteOnce test passed");
+    }
+
+    @Test
+    void testFollowResumesFromStoredOffset() throws Exception {
+        // Given
+        byte[] fullBytes = FULL_LOG.getBytes(StandardCharsets.UTF_8);
+        int storedOffset = 22;
+
+        // When
+        assertTrue(engine.follow(1L, buildUrl, storedOffset, 3));
+        assertTrue(sink.completed.await(10, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(new String(fullBytes, storedOffset, fullBytes.length - storedOffset, StandardCharsets.UTF_8),
+                new String(sink.bytes.toByteArray(), StandardCharsets.UTF_8));
+        assertEquals(3L, sink.segments.get(0)[0]);
+        // 偏移量之后先是被去掉的注解，第一个分段从注解之后开始
+        assertTrue(sink.segments.get(0)[1] >= storedOffset);
+        System.out.println("✅ followResumesFromStoredOffset test passed");
+    }
+
+    @Test
+    void testFollowRejectedWhenLimitReached() {
+        // Given
+        engine.shutdown();
+        engine = new ConsoleLogIngestionEngine(new ProgressiveLogClient(2000, 2000), sink, testConfig(1));
+
+        // When
+        boolean first = engine.follow(1L, buildUrl, 0L, 0);
+        boolean duplicate = engine.follow(1L, buildUrl, 0L, 0);
+        boolean second = engine.follow(2L, buildUrl, 0L, 0);
+
+        // Then
+        assertTrue(first);
+        assertTrue(duplicate);
+        assertFalse(second);
+        System.out.println("✅ followRejectedWhenLimitReached test passed");
+    }
+
+    @Test
+    void testUtf8Boundaries() {
+        // Given
+        byte[] data = "ab测试".getBytes(StandardCharsets.UTF_8);
+
+        // When & Then
+        assertEquals(8, ConsoleLogIngestionEngine.completeUtf8Length(data, 8));
+        assertEquals(5, ConsoleLogIngestionEngine.completeUtf8Length(data, 7));
+        assertEquals(2, ConsoleLogIngestionEngine.completeUtf8Length(data, 3));
+        assertEquals(2, ConsoleLogIngestionEngine.splitPoint(data, 0, 4));
+        assertEquals(5, ConsoleLogIngestionEngine.splitPoint(data, 2, 6));
+        System.out.println("✅ utf8Boundaries test passed");
+    }
+
+    private static boolean isNote(int rawIndex) {
+        // 注解紧跟在每个换行之后
+        byte[] raw = RAW_LOG.getBytes(StandardCharsets.UTF_8);
+        int noteLength = NOTE.getBytes(StandardCharsets.UTF_8).length;
+        for (int i = rawIndex; i >= 0 && rawIndex - i < noteLength; i--) {
+            if (i > 0 && raw[i - 1] == '\n' && rawIndex - i < noteLength) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ConsoleLogIngestionConfig testConfig(int maxFollowedBuilds) {
+        ConsoleLogIngestionConfig config = new ConsoleLogIngestionConfig();
+        config.setPoolSize(2);
+        config.setMinPollInterval(5L);
+        config.setMaxPollInterval(20L);
+        config.setMaxFollowedBuilds(maxFollowedBuilds);
+        config.setSegmentMaxBytes(16);
+        config.setMaxFailures(3);
+        return config;
+    }
+
+    /**
+     * 记录写入内容的日志接收器
+     */
+    private static class RecordingSink implements ConsoleLogSink {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        private final List<long[]> segments = Collections.synchronizedList(new ArrayList<>());
+
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        private volatile long progressOffset;
+
+        private final List<Long> progressOffsets = Collections.synchronizedList(new ArrayList<>());
+
+        private volatile long finalOffset;
+
+        private volatile int segmentCount;
+
+        @Override
+        public synchronized void append(Long buildId, int segmentNo, long startOffset, long endOffset, String content) {
+            byte[] data = content.getBytes(StandardCharsets.UTF_8);
+            bytes.write(data, 0, data.length);
+            segments.add(new long[]{segmentNo, startOffset, endOffset, data.length});
+        }
+
+        @Override
+        public void progress(Long buildId, long offset, int segmentCount) {
+            this.progressOffset = offset;
+            progressOffsets.add(offset);
+        }
+
+        @Override
+        public void complete(Long buildId, long finalOffset, int segmentCount) {
+            this.finalOffset = finalOffset;
+            this.segmentCount = segmentCount;
+            completed.countDown();
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.autotest.platform.engine.jenkins;
+
+import com.autotest.platform.domain.cicd.JenkinsBuildTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JUnit 测试报告导入引擎测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class JUnitResultIngestionEngineTest {
+
+    private static final int FILES = 4;
+
+    private static final int CASES_PER_FILE = 3000;
+
+    @TempDir
+    Path reportDir;
+
+    private final List<List<JenkinsBuildTest>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    private final List<Thread> writerThreads = Collections.synchronizedList(new ArrayList<>());
+
+    private JUnitResultIngestionEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        JUnitResultIngestionConfig config = new JUnitResultIngestionConfig();
+        config.setParserThreads(3);
+        config.setBatchSize(500);
+        config.setMaxStackTraceLines(20);
+        config.setMaxStackTraceChars(2000);
+        engine = new JUnitResultIngestionEngine((buildId, batch) -> {
+            writerThreads.add(Thread.currentThread());
+            batches.add(batch);
+        }, config);
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    void testIngestLargeReportsInBatches() throws Exception {
+        // Given
+        for (int i = 0; i < FILES; i++) {
+            writeReport(reportDir.resolve("TEST-com.demo.Suite" + i + ".xml"), i);
+        }
+
+        // When
+        TestResultSummary summary = engine.ingestDirectory(100L, reportDir);
+
+        // Then
+        List<JenkinsBuildTest> rows = new ArrayList<>();
+        for (List<JenkinsBuildTest> batch : batches) {
+            assertTrue(batch.size() <= 500);
+            rows.addAll(batch);
+        }
+        int total = FILES * CASES_PER_FILE;
+        assertEquals(total, rows.size());
+        assertEquals(total, summary.getTotal());
+        assertEquals(FILES * (CASES_PER_FILE / 10), summary.getFailed());
+        assertEquals(FILES, summary.getErrors());
+        assertEquals(FILES * (CASES_PER_FILE / 50), summary.getSkipped());
+        assertEquals(total - summary.getFailed() - summary.getErrors() - summary.getSkipped(), summary.getPassed());
+        assertEquals(FILES, summary.getSuites());
+        assertEquals(0, summary.getFailedReportFiles());
+        assertEquals(0, new BigDecimal("0.012").multiply(BigDecimal.valueOf(total))
+                .compareTo(summary.getDuration()));
+
+        long fullTraces = rows.stream().filter(r -> r.getStackTrace() != null && !r.getStackTrace().startsWith("[重复堆栈")).count();
+        long duplicateTraces = rows.stream().filter(r -> r.getStackTrace() != null && r.getStackTrace().startsWith("[重复堆栈")).count();
+        assertEquals(2, fullTraces);
+        assertEquals(summary.getFailed() + summary.getErrors() - 2, duplicateTraces);
+        for (JenkinsBuildTest row : rows) {
+            assertEquals(100L, row.getBuildId());
+            if (row.getStackTrace() != null) {
+                assertTrue(row.getStackTrace().length() <= 2100);
+            }
+        }
+        Map<String, Object> map = summary.toMap();
+        assertEquals((long) total, map.get("total"));
+        // 写入都在调用线程，可与调用方处于同一事务
+        for (Thread writer : writerThreads) {
+            assertSame(Thread.currentThread(), writer);
+        }
+        System.out.println("✅ ingestLargeReportsInBatches test passed");
+    }
+
+    @Test
+    void testCorruptReportDoesNotStopOthers() throws Exception {
+        // Given
+        writeReport(reportDir.resolve("TEST-ok.xml"), 0);
+        Files.write(reportDir.resolve("TEST-broken.xml"), ("<testsuite name=\"broken\">"
+                + "<testcase classname=\"com.demo.Broken\" name=\"first\" time=\"0.1\"/>"
+                + "<testcase classname=\"com.demo.Broken\" name=\"second\"").getBytes(StandardCharsets.UTF_8));
+
+        // When
+        TestResultSummary summary = engine.ingestDirectory(1L, reportDir);
+
+        // Then
+        assertEquals(2, summary.getReportFiles());
+        assertEquals(1, summary.getFailedReportFiles());
+        assertEquals(CASES_PER_FILE + 1, summary.getTotal());
+        System.out.println("✅ corruptReportDoesNotStopOthers test passed");
+    }
+
+    @Test
+    void testStackTraceTruncatedAndDeduplicated() {
+        // Given
+        StackTraceCompactor compactor = new StackTraceCompactor(3, 1000);
+        String trace = "java.lang.AssertionError: boom\n\tat A.a(A.java:1)\n\tat B.b(B.java:2)\n\tat C.c(C.java:3)\n\tat D.d(D.java:4)";
+
+        // When
+        String first = compactor.compact(trace, "com.demo.T.one");
+        String again = compactor.compact(trace, "com.demo.T.one");
+        String duplicate = compactor.compact(trace, "com.demo.T.two");
+
+        // Then
+        assertTrue(first.startsWith("java.lang.AssertionError: boom"));
+        assertFalse(first.contains("C.c"));
+        assertTrue(first.endsWith("已截断 2 行"));
+        assertEquals(first, again);
+        assertEquals("[重复堆栈，同 com.demo.T.one]\njava.lang.AssertionError: boom", duplicate);
+        assertNull(compactor.compact("  ", "com.demo.T.three"));
+        System.out.println("✅ stackTraceTruncatedAndDeduplicated test passed");
+    }
+
+    /**
+     * 生成报告：每10个用例1个失败(相同堆栈)，每50个用例1个跳过(与失败不重叠)，每个文件1个错误
+     */
+    private static void writeReport(Path file, int index) throws IOException {
+        StringBuilder trace = new StringBuilder("java.lang.AssertionError: expected true\n");
+        for (int i = 0; i < 200; i++) {
+            trace.append("\tat com.demo.Frame").append(i).append(".call(Frame.java:").append(i).append(")\n");
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+            writer.write("<testsuite name=\"com.demo.Suite" + index + "\" tests=\"" + CASES_PER_FILE + "\">\n");
+            writer.write("<properties><property name=\"java.version\" value=\"1.8\"/></properties>\n");
+            for (int i = 0; i < CASES_PER_FILE; i++) {
+                writer.write("<testcase classname=\"com.demo.Suite" + index + "\" name=\"case" + i + "\" time=\"0.012\">");
+                if (i == 1) {
+                    writer.write("<error message=\"NPE\" type=\"java.lang.NullPointerException\">"
+                            + "java.lang.NullPointerException\n\tat com.demo.Npe.run(Npe.java:1)</error>");
+                } else if (i % 10 == 0) {
+                    writer.write("<failure message=\"expected true\" type=\"java.lang.AssertionError\"><![CDATA["
+                            + trace + "]]></failure>");
+                } else if (i % 50 == 5) {
+                    writer.write("<skipped message=\"disabled\"/>");
+                }
+                writer.write("<system-out>noise output &lt;&gt;</system-out></testcase>\n");
+            }
+            writer.write("</testsuite>\n");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.autotest.platform.engine.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 执行引擎指标测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class ExecutionMetricsTest {
+
+    @Test
+    void testCaseDurationTaggedByCaseTypeAndStatus() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ExecutionMetrics metrics = new ExecutionMetrics(registry, Duration.ofMinutes(10));
+
+        // When
+        metrics.caseStarted("node-1");
+        metrics.caseFinished("node-1", "API", "SUCCESS", 120L);
+        metrics.caseStarted("node-1");
+        metrics.caseFinished("node-1", "API", "SUCCESS", 80L);
+        metrics.caseStarted("node-1");
+        metrics.caseFinished("node-1", "WEB_UI", "FAILED", 3000L);
+
+        // Then
+        Timer api = registry.get("autotest.case.duration").tag("case_type", "API").tag("status", "SUCCESS").timer();
+        assertEquals(2, api.count());
+        assertEquals(200.0, api.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        Timer ui = registry.get("autotest.case.duration").tag("case_type", "WEB_UI").tag("status", "FAILED").timer();
+        assertEquals(1, ui.count());
+        System.out.println("✅ Case duration tagging test passed");
+    }
+
+    @Test
+    void testActiveAndIdleWorkersPerNode() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ExecutionMetrics metrics = new ExecutionMetrics(registry, Duration.ofMinutes(10));
+        metrics.workerAttached("node-1");
+        metrics.workerAttached("node-1");
+        metrics.workerAttached("node-2");
+
+        // When
+        metrics.caseStarted("node-1");
+
+        // Then
+        assertEquals(1, metrics.activeWorkers("node-1"));
+        assertEquals(1, metrics.idleWorkers("node-1"));
+        assertEquals(1, metrics.idleWorkers("node-2"));
+        assertEquals(1.0, registry.get("autotest.executor.workers").tag("node", "node-1").tag("state", "active")
+                .gauge().value(), 0.001);
+
+        // When 未回报耗时的结束只释放节点
+        metrics.caseFinished("node-1", null, null, -1L);
+        metrics.workerDetached("node-1");
+        metrics.workerDetached("node-1");
+        metrics.workerDetached("node-1");
+
+        // Then 计数不会减到负数
+        assertEquals(0, metrics.activeWorkers("node-1"));
+        assertEquals(0, metrics.idleWorkers("node-1"));
+        assertEquals(0, registry.find("autotest.case.duration").timers().size());
+        System.out.println("✅ Worker gauge test passed");
+    }
+
+    @Test
+    void testBacklogGaugesAndLatencyTimers() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ExecutionMetrics metrics = new ExecutionMetrics(registry, Duration.ofMinutes(10));
+        AtomicInteger depth = new AtomicInteger(7);
+        metrics.bindDispatchQueue(depth::get);
+
+        // When
+        metrics.updateExecutionBacklog(3, 45);
+        metrics.updateScheduleBacklog(2, 90);
+        metrics.updateWebhookBacklog(5, 12);
+        metrics.recordScheduleFireLag(2000L);
+        metrics.recordWebhookTriggerLatency(-1000L);
+        depth.set(4);
+
+        // Then
+        assertEquals(3.0, registry.get("autotest.execution.pending").gauge().value(), 0.001);
+        assertEquals(90.0, registry.get("autotest.schedule.overdue.lag").gauge().value(), 0.001);
+        assertEquals(12.0, registry.get("autotest.webhook.pending.oldest").gauge().value(), 0.001);
+        assertEquals(4.0, registry.get("autotest.dispatch.queue.depth").gauge().value(), 0.001);
+        assertEquals(2000.0, registry.get("autotest.schedule.fire.lag").timer().totalTime(TimeUnit.MILLISECONDS), 0.001);
+        // 时钟偏差导致的负值按0记录
+        Timer webhook = registry.get("autotest.webhook.trigger.latency").timer();
+        assertEquals(1, webhook.count());
+        assertEquals(0.0, webhook.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        System.out.println("✅ Backlog gauge test passed");
+    }
+}
@@ -0,0 +1,291 @@
+package com.autotest.platform.engine.notification;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 通知分发测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class NotificationDispatcherTest {
+
+    private final List<NotificationDigest> delivered = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void testCoalescePerRecipientAndProject() {
+        // Given
+        NotificationDispatcher dispatcher = new NotificationDispatcher(settings(), senders(delivered::add));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            assertTrue(dispatcher.submit(new Notification(NotificationChannel.EMAIL, "a@example.com", 1L,
+                    "执行失败 EXE-" + i, "用例失败")));
+        }
+        dispatcher.submit(new Notification(NotificationChannel.EMAIL, "a@example.com", 2L, "执行失败", "用例失败"));
+        dispatcher.submit(new Notification(NotificationChannel.EMAIL, "b@example.com", 1L, "执行失败", "用例失败"));
+        boolean flushed = dispatcher.flush(5000L);
+        dispatcher.close();
+
+        // Then
+        assertTrue(flushed);
+        assertEquals(3, delivered.size());
+        assertEquals(3, dispatcher.getSent());
+        assertEquals(4, dispatcher.getCoalesced());
+        NotificationDigest digest = null;
+        for (NotificationDigest item : delivered) {
+            if (item.getTotal() == 5) {
+                digest = item;
+            }
+        }
+        assertNotNull(digest);
+        assertEquals("[5条通知] 执行失败 EXE-0", digest.getSubject());
+        assertTrue(digest.getContent().contains("执行失败 EXE-4"));
+        assertEquals(0, dispatcher.getPending());
+    }
+
+    @Test
+    void testQueueCapacityAndDigestLimit() {
+        // Given
+        NotificationSettings settings = settings();
+        settings.setQueueCapacity(3);
+        settings.setMaxPerDigest(2);
+        NotificationDispatcher dispatcher = new NotificationDispatcher(settings, senders(delivered::add));
+
+        // When
+        List<Boolean> accepted = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            accepted.add(dispatcher.submit(new Notification(NotificationChannel.EMAIL, "a@example.com", 1L,
+                    "异常" + i, null)));
+        }
+        dispatcher.flush(5000L);
+        dispatcher.close();
+
+        // Then
+        assertEquals(Boolean.FALSE, accepted.get(3));
+        assertEquals(1, dispatcher.getDropped());
+        assertEquals(1, delivered.size());
+        assertEquals(3, delivered.get(0).getTotal());
+        assertEquals(1, delivered.get(0).getOmitted());
+        assertTrue(delivered.get(0).getContent().endsWith("另有1条通知未展示"));
+    }
+
+    @Test
+    void testRetryWithBackoffThenGiveUp() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+        NotificationSettings settings = settings();
+        settings.setMaxAttempts(3);
+        NotificationDispatcher dispatcher = new NotificationDispatcher(settings, senders(digest -> {
+            if (calls.incrementAndGet() < 3 || digest.getRecipient().startsWith("bad")) {
+                throw new IOException("connection refused");
+            }
+            delivered.add(digest);
+        }));
+
+        // When
+        dispatcher.submit(new Notification(NotificationChannel.EMAIL, "a@example.com", 1L, "执行失败", "用例失败"));
+        boolean first = dispatcher.flush(5000L);
+        dispatcher.submit(new Notification(NotificationChannel.EMAIL, "bad@example.com", 1L, "执行失败", "用例失败"));
+        boolean second = dispatcher.flush(5000L);
+        dispatcher.close();
+
+        // Then
+        assertTrue(first);
+        assertTrue(second);
+        assertEquals(1, delivered.size());
+        assertEquals(1, dispatcher.getSent());
+        assertEquals(1, dispatcher.getFailures());
+        assertEquals(4, dispatcher.getRetries());
+        assertEquals(0, dispatcher.getPending());
+    }
+
+    @Test
+    void testSmtpSenderAgainstFakeServer() throws Exception {
+        try (ServerSocket server = new ServerSocket(0)) {
+            // Given
+            AtomicReference<List<String>> session = new AtomicReference<>();
+            Thread fake = new Thread(() -> session.set(fakeSmtpSession(server)));
+            fake.start();
+            SmtpSender sender = new SmtpSender("127.0.0.1", server.getLocalPort(), false, null, null,
+                    "bot@example.com", 2000, 2000);
+            Notification message = new Notification(NotificationChannel.EMAIL, "dev@example.com", 1L, "执行失败", "登录用例失败");
+
+            // When
+            sender.send(new NotificationDigest(NotificationChannel.EMAIL, "dev@example.com", 1L,
+                    Collections.singletonList(message), 0));
+            fake.join(5000L);
+
+            // Then
+            List<String> lines = session.get();
+            assertFalse(lines.contains("AUTH LOGIN"));
+            assertTrue(lines.contains("MAIL FROM:<bot@example.com>"));
+            assertTrue(lines.contains("RCPT TO:<dev@example.com>"));
+            String subject = "Subject: =?UTF-8?B?" + Base64.getEncoder().encodeToString("执行失败".getBytes(StandardCharsets.UTF_8)) + "?=";
+            assertTrue(lines.contains(subject));
+            assertTrue(lines.contains(Base64.getEncoder().encodeToString("登录用例失败".getBytes(StandardCharsets.UTF_8))));
+            assertEquals("QUIT", lines.get(lines.size() - 1));
+        }
+    }
+
+    @Test
+    void testRejectPlaintextAuthAndInjectedRecipient() {
+        // Given
+        NotificationDispatcher dispatcher = new NotificationDispatcher(settings(), senders(delivered::add));
+        SmtpSender plaintext = new SmtpSender("127.0.0.1", 1, false, "bot@example.com", "secret", null, 200, 200);
+        SmtpSender sender = new SmtpSender("127.0.0.1", 1, false, null, null, "bot@example.com", 200, 200);
+        String injected = "dev@example.com>\r\nRCPT TO:<evil@example.com";
+        NotificationDigest digest = new NotificationDigest(NotificationChannel.EMAIL, injected, 1L,
+                Collections.singletonList(new Notification(NotificationChannel.EMAIL, injected, 1L, "执行失败", null)), 0);
+
+        // When
+        boolean accepted = dispatcher.submit(new Notification(NotificationChannel.EMAIL, injected, 1L, "执行失败", null));
+        dispatcher.close();
+        IOException auth = assertThrows(IOException.class, () -> plaintext.send(digest));
+        IOException address = assertThrows(IOException.class, () -> sender.send(digest));
+
+        // Then
+        assertFalse(accepted);
+        assertEquals(1, dispatcher.getDropped());
+        assertTrue(auth.getMessage().contains("SSL"));
+        assertTrue(address.getMessage().contains("非法字符"));
+    }
+
+    @Test
+    void testDingTalkSenderAgainstStubWebhook() throws Exception {
+        // Given
+        AtomicReference<String> query = new AtomicReference<>();
+        AtomicReference<String> body = new AtomicReference<>();
+        AtomicReference<String> response = new AtomicReference<>("{\"errcode\":0,\"errmsg\":\"ok\"}");
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/robot/send", exchange -> {
+            query.set(exchange.getRequestURI().getQuery());
+            body.set(new String(readFully(exchange.getRequestBody()), StandardCharsets.UTF_8));
+            byte[] bytes = response.get().getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        server.start();
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/robot/send?access_token=t";
+        DingTalkSender sender = new DingTalkSender("SECabc", 2000, 2000);
+        NotificationDigest digest = new NotificationDigest(NotificationChannel.DINGTALK, url, 1L,
+                Collections.singletonList(new Notification(NotificationChannel.DINGTALK, url, 1L, "执行失败", "用例失败")), 0);
+
+        try {
+            // When
+            sender.send(digest);
+            response.set("{\"errcode\":130101,\"errmsg\":\"send too fast\"}");
+            IOException limited = assertThrows(IOException.class, () -> sender.send(digest));
+
+            // Then
+            assertTrue(query.get().startsWith("access_token=t&timestamp="));
+            assertTrue(query.get().contains("&sign="));
+            JSONObject payload = JSON.parseObject(body.get());
+            assertEquals("markdown", payload.getString("msgtype"));
+            assertEquals("执行失败", payload.getJSONObject("markdown").getString("title"));
+            assertTrue(limited.getMessage().contains("130101"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static NotificationSettings settings() {
+        NotificationSettings settings = new NotificationSettings();
+        settings.setWindowMillis(60000L);
+        settings.setRetryBaseMillis(10L);
+        settings.setRetryMaxMillis(50L);
+        settings.setEmailPerMinute(0);
+        settings.setDingtalkPerMinute(0);
+        return settings;
+    }
+
+    private static Map<NotificationChannel, NotificationSender> senders(NotificationSender sender) {
+        Map<NotificationChannel, NotificationSender> senders = new EnumMap<>(NotificationChannel.class);
+        senders.put(NotificationChannel.EMAIL, sender);
+        return senders;
+    }
+
+    /**
+     * 接收一封邮件的假SMTP服务端，返回收到的全部行
+     */
+    private static List<String> fakeSmtpSession(ServerSocket server) {
+        List<String> lines = new ArrayList<>();
+        try (Socket socket = server.accept()) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            OutputStream out = socket.getOutputStream();
+            reply(out, "220 fake.smtp ready");
+            boolean data = false;
+            int authStep = 0;
+            String line;
+            while ((line = in.readLine()) != null) {
+                lines.add(line);
+                if (data) {
+                    if (".".equals(line)) {
+                        data = false;
+                        reply(out, "250 queued");
+                    }
+                } else if (line.startsWith("EHLO")) {
+                    reply(out, "250-fake.smtp\r\n250 AUTH LOGIN");
+                } else if (line.equals("AUTH LOGIN") || authStep == 1) {
+                    authStep++;
+                    reply(out, "334 ok");
+                } else if (authStep == 2) {
+                    authStep++;
+                    reply(out, "235 authenticated");
+                } else if (line.equals("DATA")) {
+                    data = true;
+                    reply(out, "354 go ahead");
+                } else if (line.equals("QUIT")) {
+                    reply(out, "221 bye");
+                    break;
+                } else {
+                    reply(out, "250 ok");
+                }
+            }
+        } catch (IOException e) {
+            lines.add("ERROR " + e.getMessage());
+        }
+        return lines;
+    }
+
+    private static void reply(OutputStream out, String text) throws IOException {
+        out.write((text + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    private static byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int n;
+        while ((n = in.read(buffer)) != -1) {
+            out.write(buffer, 0, n);
+        }
+        return out.toByteArray();
+    }
+}
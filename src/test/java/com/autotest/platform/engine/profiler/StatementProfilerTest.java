@@ -0,0 +1,149 @@
+package com.autotest.platform.engine.profiler;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SQL语句画像测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class StatementProfilerTest {
+
+    private static final String PROJECT_LIST = "com.autotest.platform.mapper.TestProjectMapper.selectList";
+
+    private static final String CASE_BY_ID = "com.autotest.platform.mapper.TestCaseMapper.selectTestCaseByCaseId";
+
+    @Test
+    void testDetectsNPlusOneWithinSampledRequest() {
+        // Given
+        StatementProfiler profiler = new StatementProfiler(settings(1.0));
+
+        // When
+        assertTrue(profiler.beginRequest());
+        assertTrue(profiler.sampling());
+        profiler.recordSample(profiler.stats(PROJECT_LIST), 2_000_000L, false, 20, 0L, true);
+        for (int i = 0; i < 20; i++) {
+            profiler.recordSample(profiler.stats(CASE_BY_ID), 500_000L, false, 1, 0L, true);
+        }
+        profiler.endRequest("GET /testcase/list");
+
+        // Then
+        List<ProfileFinding> findings = profiler.recentFindings();
+        assertEquals(1, findings.size());
+        ProfileFinding finding = findings.get(0);
+        assertEquals(ProfileFinding.Type.N_PLUS_ONE, finding.getType());
+        assertEquals(CASE_BY_ID, finding.getStatementId());
+        assertEquals("GET /testcase/list", finding.getRequest());
+        assertEquals(20, finding.getCount());
+        assertEquals(10.0, finding.getMillis(), 0.001);
+        assertEquals(1, profiler.stats(CASE_BY_ID).getNPlusOneRequests());
+        assertEquals(0, profiler.stats(PROJECT_LIST).getNPlusOneRequests());
+        System.out.println("✅ N+1 detection test passed");
+    }
+
+    @Test
+    void testFlagsUnboundedResultOnlyWithoutLimit() {
+        // Given
+        StatementProfiler profiler = new StatementProfiler(settings(1.0));
+        StatementStats stats = profiler.stats(PROJECT_LIST);
+
+        // When
+        assertFalse(profiler.needsBoundCheck(999));
+        assertTrue(profiler.needsBoundCheck(1000));
+        profiler.recordSample(stats, 30_000_000L, false, 5000, 2_000_000L, true);
+        profiler.recordSample(stats, 30_000_000L, false, 5000, 2_000_000L, false);
+
+        // Then
+        assertEquals(1, stats.getUnboundedResults());
+        assertEquals(5000, stats.getMaxRows());
+        assertEquals(2_000_000.0, stats.getAvgLargeTextBytes(), 0.001);
+        assertEquals(ProfileFinding.Type.UNBOUNDED_RESULT, profiler.recentFindings().get(0).getType());
+        System.out.println("✅ Unbounded result test passed");
+    }
+
+    @Test
+    void testUnsampledCallsOnlyCountLatency() {
+        // Given
+        StatementProfiler profiler = new StatementProfiler(settings(0));
+
+        // When
+        assertFalse(profiler.beginRequest());
+        assertFalse(profiler.sampling());
+        for (int i = 0; i < 100; i++) {
+            profiler.record(profiler.stats(CASE_BY_ID), (i + 1) * 100_000L, i == 0);
+        }
+        profiler.endRequest("GET /testcase/list");
+
+        // Then
+        StatementStats stats = profiler.stats(CASE_BY_ID);
+        assertEquals(100, stats.getCalls());
+        assertEquals(1, stats.getErrors());
+        assertEquals(0, stats.getSampledCalls());
+        assertEquals(10.0, stats.getMaxMillis(), 0.001);
+        assertTrue(stats.getP50Millis() >= 5.0 && stats.getP50Millis() <= 8.2, "p50=" + stats.getP50Millis());
+        assertTrue(stats.getP99Millis() >= 9.9 && stats.getP99Millis() <= 16.4, "p99=" + stats.getP99Millis());
+        assertTrue(profiler.recentFindings().isEmpty());
+        System.out.println("✅ Unsampled call test passed");
+    }
+
+    @Test
+    void testUnsampledRequestDoesNotSampleCalls() {
+        // Given
+        StatementProfiler profiler = new StatementProfiler(settings(0.5));
+        boolean sampled = true;
+        for (int i = 0; i < 1000 && sampled; i++) {
+            sampled = profiler.beginRequest();
+            if (sampled) {
+                profiler.endRequest("GET /project/list");
+            }
+        }
+
+        // When
+        boolean anySampled = false;
+        for (int i = 0; i < 200; i++) {
+            anySampled |= profiler.sampling();
+        }
+        profiler.endRequest("GET /project/list");
+
+        // Then
+        assertFalse(sampled);
+        assertFalse(anySampled);
+        System.out.println("✅ Unsampled request call test passed");
+    }
+
+    @Test
+    void testTopStatementsAndReset() {
+        // Given
+        StatementProfiler profiler = new StatementProfiler(settings(1.0));
+        profiler.record(profiler.stats(PROJECT_LIST), 50_000_000L, false);
+        for (int i = 0; i < 5; i++) {
+            profiler.record(profiler.stats(CASE_BY_ID), 1_000_000L, false);
+        }
+
+        // When
+        List<StatementStats> byTime = profiler.topStatements("totalMillis", 1);
+        List<StatementStats> byCalls = profiler.topStatements("calls", 10);
+
+        // Then
+        assertEquals(1, byTime.size());
+        assertEquals(PROJECT_LIST, byTime.get(0).getStatementId());
+        assertEquals(CASE_BY_ID, byCalls.get(0).getStatementId());
+
+        profiler.reset();
+        assertTrue(profiler.topStatements(null, 10).isEmpty());
+        System.out.println("✅ Top statements test passed");
+    }
+
+    private static ProfilerSettings settings(double sampleRate) {
+        ProfilerSettings settings = new ProfilerSettings();
+        settings.setSampleRate(sampleRate);
+        settings.setNPlusOneThreshold(20);
+        settings.setUnboundedRows(1000);
+        return settings;
+    }
+}
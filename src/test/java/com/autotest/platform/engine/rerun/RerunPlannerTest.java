@@ -0,0 +1,99 @@
+package com.autotest.platform.engine.rerun;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+import com.autotest.platform.engine.admission.ExecutionLane;
+import com.autotest.platform.engine.admission.LanedExecutionQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 失败用例重跑测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class RerunPlannerTest {
+
+    @Test
+    void testPlanOnlyFailedCasesWithinRetryLimit() {
+        // Given
+        RerunPlanner planner = new RerunPlanner(2);
+        List<FailedCase> failed = Arrays.asList(new FailedCase(1L, 0), new FailedCase(2L, 1),
+                new FailedCase(1L, 1), new FailedCase(3L, 2));
+
+        // When
+        RerunPlan plan = planner.plan(100L, "{\"browser\":\"chrome\"}", failed);
+
+        // Then
+        assertEquals(2, plan.getCases().size());
+        assertEquals(Long.valueOf(1L), plan.getCases().get(0).getCaseId());
+        assertEquals(2, plan.getCases().get(0).getRetryCount());
+        assertEquals(Long.valueOf(2L), plan.getCases().get(1).getCaseId());
+        assertEquals(2, plan.getCases().get(1).getRetryCount());
+        assertEquals(Arrays.asList(3L), plan.getExhaustedCaseIds());
+        assertEquals(1, plan.getAttempt());
+        assertEquals(Long.valueOf(100L), plan.getRootExecutionId());
+    }
+
+    @Test
+    void testRerunChainKeepsRootAndConfig() {
+        // Given
+        RerunPlanner planner = new RerunPlanner(3);
+        String original = "{\"browser\":\"chrome\",\"parallel\":4}";
+
+        // When
+        RerunPlan first = planner.plan(100L, original, Arrays.asList(new FailedCase(1L, 0)));
+        String firstConfig = planner.buildConfig(original, first);
+        RerunPlan second = planner.plan(101L, firstConfig, Arrays.asList(new FailedCase(1L, 1)));
+        String secondConfig = planner.buildConfig(firstConfig, second);
+
+        // Then
+        JSONObject config = JSON.parseObject(secondConfig);
+        assertEquals("chrome", config.getString("browser"));
+        assertEquals(Integer.valueOf(4), config.getInteger("parallel"));
+        JSONObject rerun = RerunPlanner.rerunInfo(secondConfig);
+        assertEquals(Long.valueOf(101L), rerun.getLong("sourceExecutionId"));
+        assertEquals(Long.valueOf(100L), rerun.getLong("rootExecutionId"));
+        assertEquals(Integer.valueOf(2), rerun.getInteger("attempt"));
+        assertNull(RerunPlanner.rerunInfo(original));
+        assertNull(RerunPlanner.rerunInfo("not json"));
+        assertTrue(planner.plan(100L, null, new ArrayList<>()).isEmpty());
+    }
+
+    @Test
+    void testFlakeSignal() {
+        assertEquals(FlakeSignal.PASS_ON_RETRY, FlakeSignal.of("SUCCESS"));
+        assertEquals(FlakeSignal.CONSISTENT_FAILURE, FlakeSignal.of("FAILED"));
+        assertEquals(FlakeSignal.CONSISTENT_FAILURE, FlakeSignal.of("TIMEOUT"));
+        assertEquals(FlakeSignal.NONE, FlakeSignal.of("SKIPPED"));
+        assertEquals(FlakeSignal.NONE, FlakeSignal.of(null));
+    }
+
+    @Test
+    void testRetryLaneYieldsToFreshWithoutStarving() {
+        // Given
+        LanedExecutionQueue<String> queue = new LanedExecutionQueue<>(100, 2);
+        for (int i = 0; i < 3; i++) {
+            queue.offer(ExecutionLane.RETRY, 1L, 1, 1, "r" + i);
+        }
+        for (int i = 0; i < 5; i++) {
+            queue.offer(ExecutionLane.FRESH, 1L, 1, 1, "f" + i);
+        }
+
+        // When
+        List<String> order = new ArrayList<>();
+        for (String item = queue.poll(); item != null; item = queue.poll()) {
+            order.add(item);
+        }
+
+        // Then
+        assertEquals(Arrays.asList("f0", "f1", "r0", "f2", "f3", "r1", "f4", "r2"), order);
+        assertEquals(0, queue.size());
+    }
+}
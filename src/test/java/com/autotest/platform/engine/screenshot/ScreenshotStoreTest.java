@@ -0,0 +1,133 @@
+package com.autotest.platform.engine.screenshot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 截图存储测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class ScreenshotStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testCompressAndDeduplicate() throws Exception {
+        // Given
+        byte[] page = png(1280, 720, Color.BLUE);
+        byte[] other = png(1280, 720, Color.RED);
+
+        try (ScreenshotStore store = new ScreenshotStore(tempDir, new ScreenshotSettings())) {
+            // When
+            ScreenshotRef first = store.submit(page);
+            ScreenshotRef second = store.submit(page.clone());
+            ScreenshotRef third = store.submit(other);
+            assertTrue(store.flush(10000));
+            ScreenshotRef later = store.submit(page);
+
+            // Then
+            assertFalse(first.isDuplicate());
+            assertTrue(second.isDuplicate());
+            assertTrue(later.isDuplicate());
+            assertEquals(first.getPath(), second.getPath());
+            assertEquals(first.getPath(), later.getPath());
+            assertNotEquals(first.getPath(), third.getPath());
+            assertTrue(first.getPath().endsWith(".jpg"));
+            assertTrue(first.getPath().startsWith(first.getHash().substring(0, 2) + "/"));
+            assertTrue(Files.exists(tempDir.resolve(first.getPath())));
+            assertEquals(4L, store.getCaptured());
+            assertEquals(2L, store.getDeduplicated());
+            assertEquals(2L, store.getEncoded());
+            assertEquals(0, store.getPending());
+            assertTrue(store.getBytesWritten() < store.getBytesIn());
+            assertEquals(tempDir.resolve(first.getPath()), store.resolve(first.getHash()));
+        }
+
+        System.out.println("✅ Compress and deduplicate test passed");
+    }
+
+    @Test
+    void testPngFormatWritesOriginal() throws Exception {
+        // Given
+        ScreenshotSettings settings = new ScreenshotSettings();
+        settings.setFormat(ScreenshotSettings.FORMAT_PNG);
+        byte[] page = png(200, 100, Color.GREEN);
+
+        try (ScreenshotStore store = new ScreenshotStore(tempDir, settings)) {
+            // When
+            ScreenshotRef ref = store.submit(page);
+
+            // Then
+            assertTrue(ref.getWritten().isDone());
+            assertTrue(ref.getPath().endsWith(".png"));
+            assertArrayEquals(page, Files.readAllBytes(tempDir.resolve(ref.getPath())));
+            assertEquals(0L, store.getEncoded());
+        }
+
+        System.out.println("✅ PNG format writes original test passed");
+    }
+
+    @Test
+    void testLazyThumbnail() throws Exception {
+        // Given
+        try (ScreenshotStore store = new ScreenshotStore(tempDir, new ScreenshotSettings())) {
+            ScreenshotRef ref = store.submit(png(1600, 900, Color.ORANGE));
+            ref.getWritten().get();
+            Path thumbs = tempDir.resolve("thumbs");
+            assertFalse(Files.exists(thumbs));
+
+            // When
+            Path thumbnail = store.thumbnail(ref.getHash(), 4000);
+            long modified = Files.getLastModifiedTime(thumbnail).toMillis();
+            Path again = store.thumbnail(ref.getHash(), 4000);
+
+            // Then
+            BufferedImage image = ImageIO.read(thumbnail.toFile());
+            assertEquals(640, image.getWidth());
+            assertEquals(360, image.getHeight());
+            assertEquals(thumbnail, again);
+            assertEquals(modified, Files.getLastModifiedTime(again).toMillis());
+            assertNull(store.thumbnail(repeat('a'), 200));
+            assertThrows(IllegalArgumentException.class, () -> store.resolve("../etc/passwd"));
+        }
+
+        System.out.println("✅ Lazy thumbnail test passed");
+    }
+
+    private static byte[] png(int width, int height, Color color) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, width, height);
+        g.setColor(color);
+        for (int x = 0; x < width; x += 40) {
+            g.fillRect(x, (x * 7) % height, 20, height / 3);
+        }
+        g.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+
+    private static String repeat(char c) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 64; i++) {
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+}
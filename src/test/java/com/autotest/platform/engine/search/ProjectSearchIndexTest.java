@@ -0,0 +1,167 @@
+package com.autotest.platform.engine.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 用例倒排索引测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class ProjectSearchIndexTest {
+
+    private ProjectSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProjectSearchIndex(1L);
+        index.upsert(CaseDocument.of(1L, "用户登录成功", "PRJ-CASE001", "smoke,login",
+                "已注册用户", "[{\"action\":\"输入用户名密码\",\"expected\":\"进入首页\"}]"));
+        index.upsert(CaseDocument.of(2L, "用户登录失败-密码错误", "PRJ-CASE002", "login",
+                null, "[{\"action\":\"输入错误密码\"}]"));
+        index.upsert(CaseDocument.of(3L, "Order checkout with coupon", "PRJ-CASE003", "regression",
+                null, null));
+        index.upsert(CaseDocument.of(4L, "Order refund", "PRJ-CASE004", "Regression, payment",
+                null, null));
+    }
+
+    @Test
+    void testChineseKeyword() {
+        // When
+        CaseSearchHits hits = index.search(query("用户登录", false));
+
+        // Then
+        assertEquals(2, hits.getTotal());
+        assertEquals(Arrays.asList(2L, 1L), hits.getCaseIds());
+        assertEquals(Collections.singletonList(2L), index.search(query("密码错误", false)).getCaseIds());
+
+        System.out.println("✅ Chinese keyword search test passed");
+    }
+
+    @Test
+    void testPrefixAndStepSearch() {
+        // When
+        CaseSearchHits prefix = index.search(query("check", true));
+        CaseSearchHits exact = index.search(query("check", false));
+        CaseSearchHits steps = index.search(query("首页", false));
+
+        // Then
+        assertEquals(Collections.singletonList(3L), prefix.getCaseIds());
+        assertEquals(0, exact.getTotal());
+        assertEquals(Collections.singletonList(1L), steps.getCaseIds());
+        assertEquals(Collections.singletonList(4L), index.search(query("order ref*", false)).getCaseIds());
+
+        System.out.println("✅ Prefix and step search test passed");
+    }
+
+    @Test
+    void testPrefixExpansionTruncationIsReported() {
+        // Given
+        for (long caseId = 100; caseId < 2200; caseId++) {
+            index.upsert(CaseDocument.of(caseId, "zz" + caseId, null, null, null, null));
+        }
+
+        // When
+        CaseSearchHits wide = index.search(query("zz", true));
+        CaseSearchHits narrow = index.search(query("zz21", true));
+
+        // Then
+        assertTrue(wide.isTruncated());
+        assertFalse(narrow.isTruncated());
+        assertFalse(index.search(query("check", true)).isTruncated());
+
+        System.out.println("✅ Prefix expansion truncation test passed");
+    }
+
+    @Test
+    void testTagFilterAndPaging() {
+        // Given
+        CaseSearchQuery query = query(null, false);
+        query.setTags(Collections.singletonList(" REGRESSION "));
+
+        // When
+        CaseSearchHits hits = index.search(query);
+        query.setOffset(1);
+        query.setLimit(1);
+        CaseSearchHits page = index.search(query);
+
+        // Then
+        assertEquals(Arrays.asList(4L, 3L), hits.getCaseIds());
+        assertEquals(2, page.getTotal());
+        assertEquals(Collections.singletonList(3L), page.getCaseIds());
+        assertEquals(4, index.search(query(null, false)).getTotal());
+
+        System.out.println("✅ Tag filter and paging test passed");
+    }
+
+    @Test
+    void testUpdateAndRemove() {
+        // When
+        index.upsert(CaseDocument.of(3L, "Order cancel", "PRJ-CASE003", "regression", null, null));
+        index.remove(1L);
+
+        // Then
+        assertEquals(0, index.search(query("checkout", false)).getTotal());
+        assertEquals(Collections.singletonList(3L), index.search(query("cancel", false)).getCaseIds());
+        assertEquals(Collections.singletonList(2L), index.search(query("用户登录", false)).getCaseIds());
+        assertEquals(3, index.size());
+
+        System.out.println("✅ Update and remove test passed");
+    }
+
+    @Test
+    void testCompactionKeepsResults() {
+        // Given
+        for (int round = 0; round < 5; round++) {
+            for (long caseId = 100; caseId < 600; caseId++) {
+                index.upsert(CaseDocument.of(caseId, "bulk case " + round, "BULK-" + caseId, null, null, null));
+            }
+        }
+
+        // When
+        CaseSearchHits hits = index.search(query("bulk 4", false));
+
+        // Then
+        assertEquals(500, hits.getTotal());
+        assertEquals(0, index.search(query("bulk 3", false)).getTotal());
+        assertEquals(504, index.size());
+
+        System.out.println("✅ Compaction test passed");
+    }
+
+    @Test
+    void testSnapshotRoundTrip(@TempDir Path dir) throws Exception {
+        // Given
+        CaseSearchIndex registry = new CaseSearchIndex(dir);
+        index.advanceWatermark(1760000000000L);
+        registry.saveSnapshot(index);
+
+        // When
+        ProjectSearchIndex loaded = new CaseSearchIndex(dir).loadSnapshot(1L);
+
+        // Then
+        assertNotNull(loaded);
+        assertEquals(1760000000000L, loaded.getWatermark());
+        assertEquals(index.size(), loaded.size());
+        assertEquals(Arrays.asList(2L, 1L), loaded.search(query("用户登录", false)).getCaseIds());
+        assertNull(new CaseSearchIndex(dir).loadSnapshot(2L));
+
+        System.out.println("✅ Snapshot round trip test passed");
+    }
+
+    private static CaseSearchQuery query(String keyword, boolean prefix) {
+        CaseSearchQuery query = new CaseSearchQuery();
+        query.setProjectId(1L);
+        query.setKeyword(keyword);
+        query.setPrefix(prefix);
+        return query;
+    }
+}
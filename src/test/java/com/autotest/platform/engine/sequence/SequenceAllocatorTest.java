@@ -0,0 +1,118 @@
+package com.autotest.platform.engine.sequence;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 号段式序列分配器测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class SequenceAllocatorTest {
+
+    @Test
+    void testBlockReservation() {
+        // Given
+        InMemoryStore store = new InMemoryStore();
+        SequenceAllocator allocator = new SequenceAllocator(store, 10);
+
+        // When
+        long first = allocator.next("case:1");
+        for (int i = 0; i < 9; i++) {
+            allocator.next("case:1");
+        }
+        long eleventh = allocator.next("case:1");
+        long other = allocator.next("case:2");
+
+        // Then
+        assertEquals(1, first);
+        assertEquals(11, eleventh);
+        assertEquals(1, other);
+        assertEquals(3, store.reservations.get());
+
+        System.out.println("✅ Block reservation test passed");
+    }
+
+    @Test
+    void testBulkAllocationSpansBlocks() {
+        // Given
+        InMemoryStore store = new InMemoryStore();
+        SequenceAllocator allocator = new SequenceAllocator(store, 10);
+        allocator.next("case:1", 7);
+
+        // When
+        long[] values = allocator.next("case:1", 25);
+
+        // Then
+        assertEquals(25, values.length);
+        assertEquals(8, values[0]);
+        assertEquals(10, values[2]);
+        assertEquals(11, values[3]);
+        for (int i = 1; i < values.length; i++) {
+            assertTrue(values[i] > values[i - 1]);
+        }
+        assertEquals(2, store.reservations.get());
+
+        System.out.println("✅ Bulk allocation test passed");
+    }
+
+    @Test
+    void testConcurrentNodesNeverCollide() throws Exception {
+        // Given 两个节点共享同一存储
+        InMemoryStore store = new InMemoryStore();
+        SequenceAllocator nodeA = new SequenceAllocator(store, 16);
+        SequenceAllocator nodeB = new SequenceAllocator(store, 16);
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger duplicates = new AtomicInteger();
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            SequenceAllocator allocator = t % 2 == 0 ? nodeA : nodeB;
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < 2000; i++) {
+                    if (!seen.add(allocator.next("execution"))) {
+                        duplicates.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(0, duplicates.get());
+        assertEquals(16000, seen.size());
+
+        System.out.println("✅ Concurrent allocation test passed");
+    }
+
+    private static class InMemoryStore implements SequenceStore {
+
+        private final Map<String, AtomicLong> values = new ConcurrentHashMap<>();
+
+        private final AtomicInteger reservations = new AtomicInteger();
+
+        @Override
+        public long reserve(String key, int size) {
+            reservations.incrementAndGet();
+            return values.computeIfAbsent(key, k -> new AtomicLong(1)).getAndAdd(size);
+        }
+    }
+}
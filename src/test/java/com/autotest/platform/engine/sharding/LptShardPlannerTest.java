@@ -0,0 +1,161 @@
+package com.autotest.platform.engine.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 用例分片规划测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class LptShardPlannerTest {
+
+    @Test
+    void testEstimatorWeightsRecentRuns() {
+        // Given
+        Map<String, Long> defaults = new HashMap<>();
+        defaults.put("WEB_UI", 120000L);
+        CaseDurationEstimator estimator = new CaseDurationEstimator(0.5, defaults, 30000L);
+
+        // When
+        estimator.addHistory(1L, "API", Arrays.asList(1000L, 3000L));
+        estimator.addHistory(2L, "API", Arrays.asList(5000L, null, 0L));
+        estimator.addHistory(3L, "API", Collections.<Long>emptyList());
+
+        // Then
+        assertEquals(1667L, estimator.estimate(1L, "API"));
+        assertEquals(5000L, estimator.estimate(2L, "api"));
+        assertFalse(estimator.hasHistory(3L));
+        // 同类型中位数
+        assertEquals(5000L, estimator.estimate(3L, "API"));
+        // 类型默认值与全局默认值
+        assertEquals(120000L, estimator.estimate(4L, "WEB_UI"));
+        assertEquals(30000L, estimator.estimate(5L, null));
+        System.out.println("✅ estimatorWeightsRecentRuns test passed");
+    }
+
+    @Test
+    void testLptBalancesLongCases() {
+        // Given: 按ID顺序前4个为4分钟UI用例，其余为API用例
+        List<ShardCase> cases = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            cases.add(new ShardCase(id, id, "WEB_UI", 240000L));
+        }
+        for (long id = 5; id <= 100; id++) {
+            cases.add(new ShardCase(id, id, "API", 2000L + id * 10));
+        }
+        List<WorkerSlot> workers = Arrays.asList(new WorkerSlot("node-1"), new WorkerSlot("node-2"),
+                new WorkerSlot("node-3"), new WorkerSlot("node-4"));
+
+        // When
+        ShardPlan plan = new LptShardPlanner().plan(cases, workers);
+
+        // Then
+        assertEquals(100, plan.getCaseCount());
+        long lowerBound = (plan.getTotalEstimatedMillis() + workers.size() - 1) / workers.size();
+        assertTrue(plan.getMakespanMillis() <= lowerBound * 4 / 3);
+        for (Shard shard : plan.getShards()) {
+            long uiCases = shard.getCases().stream().filter(c -> "WEB_UI".equals(c.getCaseType())).count();
+            assertEquals(1, uiCases);
+            assertEquals("WEB_UI", shard.getCases().get(0).getCaseType());
+        }
+        System.out.println("✅ lptBalancesLongCases test passed");
+    }
+
+    @Test
+    void testFasterWorkerGetsMoreWork() {
+        // Given
+        List<ShardCase> cases = new ArrayList<>();
+        for (long id = 1; id <= 30; id++) {
+            cases.add(new ShardCase(id, id, "API", 1000L));
+        }
+
+        // When
+        ShardPlan plan = new LptShardPlanner().plan(cases,
+                Arrays.asList(new WorkerSlot("slow", 1.0), new WorkerSlot("fast", 2.0)));
+
+        // Then
+        assertEquals(10, plan.getShards().get(0).getCases().size());
+        assertEquals(20, plan.getShards().get(1).getCases().size());
+        System.out.println("✅ fasterWorkerGetsMoreWork test passed");
+    }
+
+    @Test
+    void testIdleWorkerStealsFromTail() {
+        // Given
+        List<ShardCase> cases = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            cases.add(new ShardCase(id, id, "API", id * 1000L));
+        }
+        ShardPlan plan = new LptShardPlanner().plan(cases, Arrays.asList(new WorkerSlot("a"), new WorkerSlot("b")));
+        WorkStealingDispatcher dispatcher = new WorkStealingDispatcher(plan);
+
+        // When: 节点a一直取用例，节点b不取
+        List<ShardCase> taken = new ArrayList<>();
+        ShardCase next;
+        while ((next = dispatcher.next("a")) != null) {
+            taken.add(next);
+        }
+
+        // Then
+        assertEquals(10, taken.size());
+        assertEquals(plan.getShards().get(1).getCases().size(), dispatcher.getStolenCount());
+        assertEquals(0, dispatcher.remainingCases());
+        assertEquals(0L, dispatcher.remainingMillis("b"));
+        ShardCase firstStolen = taken.get(plan.getShards().get(0).getCases().size());
+        List<ShardCase> shardB = plan.getShards().get(1).getCases();
+        assertEquals(shardB.get(shardB.size() - 1), firstStolen);
+        System.out.println("✅ idleWorkerStealsFromTail test passed");
+    }
+
+    @Test
+    void testConcurrentDispatchHandsOutEachCaseOnce() throws Exception {
+        // Given
+        List<ShardCase> cases = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            cases.add(new ShardCase(id, id, "API", (id % 17) * 100L));
+        }
+        List<WorkerSlot> workers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            workers.add(new WorkerSlot("node-" + i));
+        }
+        WorkStealingDispatcher dispatcher = new WorkStealingDispatcher(new LptShardPlanner().plan(cases, workers));
+        Set<Long> dispatched = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch done = new CountDownLatch(8);
+
+        // When: 只有一半节点消费，其余节点的分片全部靠窃取完成
+        for (int i = 0; i < 8; i++) {
+            final String workerId = "node-" + (i % 4);
+            pool.execute(() -> {
+                ShardCase shardCase;
+                while ((shardCase = dispatcher.next(workerId)) != null) {
+                    assertTrue(dispatched.add(shardCase.getExecutionCaseId()));
+                }
+                done.countDown();
+            });
+        }
+
+        // Then
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        pool.shutdown();
+        assertEquals(2000, dispatched.size());
+        assertTrue(dispatcher.getStolenCount() > 0);
+        System.out.println("✅ concurrentDispatchHandsOutEachCaseOnce test passed");
+    }
+}
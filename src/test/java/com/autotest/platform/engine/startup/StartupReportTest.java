@@ -0,0 +1,65 @@
+package com.autotest.platform.engine.startup;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 启动耗时报告测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class StartupReportTest {
+
+    @Test
+    void testPhaseTotals() {
+        // Given
+        List<StartupStep> steps = Arrays.asList(
+                new StartupStep(1L, null, "spring.boot.application.starting", null, 5L),
+                new StartupStep(2L, null, "spring.boot.application.environment-prepared", null, 40L),
+                new StartupStep(3L, null, "spring.context.refresh", null, 900L),
+                new StartupStep(4L, 3L, "spring.beans.instantiate", "dataSource", 300L));
+
+        // When
+        StartupReport report = new StartupReport("executor", steps, 1500L);
+        Map<String, Long> phases = report.getPhaseMillis();
+
+        // Then
+        assertEquals(3, phases.size());
+        assertEquals("spring.boot.application.starting", phases.keySet().iterator().next());
+        assertEquals(900L, (long) phases.get("spring.context.refresh"));
+        assertEquals(945L, report.getTotalMillis());
+        assertEquals(1500L, report.getReadyMillis());
+        System.out.println("✅ Phase totals test passed");
+    }
+
+    @Test
+    void testSlowestBeansUseSelfTime() {
+        // Given
+        // controller 依赖 service，service 依赖 dataSource，各自耗时包含依赖的初始化
+        List<StartupStep> steps = Arrays.asList(
+                new StartupStep(1L, null, "spring.context.refresh", null, 1000L),
+                new StartupStep(2L, 1L, "spring.beans.instantiate", "controller", 700L),
+                new StartupStep(3L, 2L, "spring.beans.instantiate", "service", 650L),
+                new StartupStep(4L, 3L, "spring.beans.instantiate", "dataSource", 600L),
+                new StartupStep(5L, 1L, "spring.beans.instantiate", "seleniumDriver", 200L));
+
+        // When
+        StartupReport report = new StartupReport("api", steps, 1200L);
+        List<StartupStep> slowest = report.slowest("spring.beans.instantiate", 2);
+
+        // Then
+        assertEquals(2, slowest.size());
+        assertEquals("dataSource", slowest.get(0).getDetail());
+        assertEquals(600L, slowest.get(0).getSelfMillis());
+        assertEquals("seleniumDriver", slowest.get(1).getDetail());
+        assertEquals(50L, steps.get(1).getSelfMillis());
+        assertEquals(100L, steps.get(0).getSelfMillis());
+        System.out.println("✅ Slowest beans test passed");
+    }
+}
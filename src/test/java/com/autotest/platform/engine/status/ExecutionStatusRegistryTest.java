@@ -0,0 +1,158 @@
+package com.autotest.platform.engine.status;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 执行状态注册表测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class ExecutionStatusRegistryTest {
+
+    @Test
+    void testLoadOnceAndReadFromMemory() {
+        // Given
+        ExecutionStatusRegistry registry = new ExecutionStatusRegistry(100, 60000L, 100, 60000L);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            registry.get(1L, () -> {
+                loads.incrementAndGet();
+                return status(1L, "RUNNING", 1L, 0L);
+            });
+        }
+        ExecutionStatus missing = registry.get(2L, () -> null);
+
+        // Then
+        assertEquals(1, loads.get());
+        assertNull(missing);
+        assertEquals(1, registry.size());
+        System.out.println("✅ Load once test passed");
+    }
+
+    @Test
+    void testParkedRequestCompletesOnChange() throws Exception {
+        // Given
+        ExecutionStatusRegistry registry = new ExecutionStatusRegistry(100, 60000L, 100, 60000L);
+        registry.get(1L, () -> status(1L, "PENDING", 1L, 0L));
+
+        // When
+        CompletableFuture<ExecutionStatus> parked = registry.awaitChange(1L, 1L);
+        CompletableFuture<ExecutionStatus> stale = registry.awaitChange(1L, 0L);
+        boolean doneBeforeChange = parked.isDone();
+        int waiting = registry.getWaiting();
+        registry.update(1L, current -> current.withStatus("RUNNING", null, 10L));
+
+        // Then
+        assertFalse(doneBeforeChange);
+        assertEquals(1, waiting);
+        assertTrue(stale.isDone());
+        ExecutionStatus changed = parked.get(1, TimeUnit.SECONDS);
+        assertEquals("RUNNING", changed.getStatus());
+        assertEquals(2L, changed.getVersion());
+        assertNotNull(changed.getStartTime());
+        assertEquals(0, registry.getWaiting());
+        System.out.println("✅ Parked request test passed");
+    }
+
+    @Test
+    void testUnchangedUpdateDoesNotWake() {
+        // Given
+        ExecutionStatusRegistry registry = new ExecutionStatusRegistry(100, 60000L, 100, 60000L);
+        registry.get(1L, () -> status(1L, "RUNNING", 5L, 0L));
+        CompletableFuture<ExecutionStatus> parked = registry.awaitChange(1L, 5L);
+
+        // When
+        ExecutionStatus same = registry.update(1L, current -> current.withStatus("RUNNING", null, 10L));
+        ExecutionStatus untracked = registry.update(9L, current -> current.withStatus("RUNNING", null, 10L));
+
+        // Then
+        assertEquals(5L, same.getVersion());
+        assertFalse(parked.isDone());
+        assertNull(untracked);
+        System.out.println("✅ Unchanged update test passed");
+    }
+
+    @Test
+    void testCancelReleasesWaiter() {
+        // Given
+        ExecutionStatusRegistry registry = new ExecutionStatusRegistry(100, 60000L, 1, 60000L);
+        registry.get(1L, () -> status(1L, "RUNNING", 1L, 0L));
+        CompletableFuture<ExecutionStatus> first = registry.awaitChange(1L, 1L);
+
+        // When
+        CompletableFuture<ExecutionStatus> overLimit = registry.awaitChange(1L, 1L);
+        first.cancel(false);
+        CompletableFuture<ExecutionStatus> afterCancel = registry.awaitChange(1L, 1L);
+
+        // Then
+        assertTrue(overLimit.isDone());
+        assertFalse(afterCancel.isDone());
+        assertEquals(1, registry.getWaiting());
+        System.out.println("✅ Cancel releases waiter test passed");
+    }
+
+    @Test
+    void testFinishedReturnsImmediatelyAndEvicts() {
+        // Given
+        ExecutionStatusRegistry registry = new ExecutionStatusRegistry(2, 1000L, 100, 60000L);
+        registry.get(1L, () -> status(1L, "COMPLETED", 3L, 0L));
+        registry.get(2L, () -> status(2L, "RUNNING", 1L, 100L));
+        registry.get(3L, () -> status(3L, "RUNNING", 1L, 200L));
+        registry.get(4L, () -> status(4L, "RUNNING", 1L, 300L));
+
+        // When
+        CompletableFuture<ExecutionStatus> finished = registry.awaitChange(1L, 3L);
+        int evicted = registry.evictExpired(5000L);
+
+        // Then
+        assertTrue(finished.isDone());
+        assertEquals(2, evicted);
+        assertNull(registry.peek(1L));
+        assertNull(registry.peek(2L));
+        assertNotNull(registry.peek(4L));
+        System.out.println("✅ Finished and eviction test passed");
+    }
+
+    @Test
+    void testStaleEntryIsReloadedAndWakesWaiters() throws Exception {
+        // Given
+        ExecutionStatusRegistry registry = new ExecutionStatusRegistry(100, 60000L, 100, 0L);
+        AtomicInteger loads = new AtomicInteger();
+        registry.get(1L, () -> status(1L, "RUNNING", 1L, 0L));
+        CompletableFuture<ExecutionStatus> parked = registry.awaitChange(1L, 1L);
+        Thread.sleep(5);
+
+        // When
+        ExecutionStatus unchanged = registry.get(1L, () -> {
+            loads.incrementAndGet();
+            return status(1L, "RUNNING", 99L, 0L);
+        });
+        boolean doneWhileUnchanged = parked.isDone();
+        ExecutionStatus reloaded = registry.reload(1L, () -> status(1L, "FAILED", 99L, 0L));
+        ExecutionStatus gone = registry.reload(1L, () -> null);
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(1L, unchanged.getVersion());
+        assertFalse(doneWhileUnchanged);
+        assertEquals("FAILED", reloaded.getStatus());
+        assertEquals(2L, reloaded.getVersion());
+        assertEquals("FAILED", parked.get(1, TimeUnit.SECONDS).getStatus());
+        assertNull(gone);
+        assertNull(registry.peek(1L));
+        System.out.println("✅ Stale reload test passed");
+    }
+
+    private static ExecutionStatus status(Long executionId, String status, long version, long updateTime) {
+        return new ExecutionStatus(executionId, status, version, 10, 0, 0, 0, null, null, null, updateTime);
+    }
+}
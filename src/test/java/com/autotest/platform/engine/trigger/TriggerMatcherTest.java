@@ -0,0 +1,172 @@
+package com.autotest.platform.engine.trigger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 触发规则匹配器测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class TriggerMatcherTest {
+
+    private static final String GITHUB_PUSH = "{\"eventType\":\"push\",\"eventSource\":\"GITHUB\","
+            + "\"branchFilter\":[\"main\",\"master\",\"develop\"],"
+            + "\"fileFilter\":{\"includes\":[\"src/**/*.java\",\"pom.xml\",\"build.gradle\"],"
+            + "\"excludes\":[\"src/test/**\",\"*.md\"]},\"autoTrigger\":true}";
+
+    private TriggerMatcher matcher;
+
+    private Map<Long, List<Long>> pipelines;
+
+    private List<Long> loadedProjects;
+
+    @BeforeEach
+    void setUp() {
+        matcher = new TriggerMatcher();
+        pipelines = new HashMap<>();
+        pipelines.put(1L, Arrays.asList(11L, 12L));
+        pipelines.put(2L, Collections.singletonList(21L));
+        loadedProjects = new ArrayList<>();
+    }
+
+    @Test
+    void testGlobalRuleWithFileFilter() {
+        // Given
+        matcher.replaceAll(Collections.singletonList(TriggerRule.parse(1L, 0L, "GitHub Push事件", GITHUB_PUSH)));
+
+        // When
+        List<TriggeredPipeline> source = resolve(push(1L, "refs/heads/main", "src/main/java/App.java"));
+        List<TriggeredPipeline> testOnly = resolve(push(1L, "main", "src/test/java/AppTest.java"));
+        List<TriggeredPipeline> docs = resolve(push(1L, "main", "docs/README.md"));
+        List<TriggeredPipeline> feature = resolve(push(1L, "feature/x", "pom.xml"));
+        List<TriggeredPipeline> otherProject = resolve(push(2L, "develop", "pom.xml"));
+
+        // Then
+        assertEquals(2, source.size());
+        assertEquals(11L, (long) source.get(0).getPipelineId());
+        assertEquals(1L, (long) source.get(0).getConfigId());
+        assertTrue(testOnly.isEmpty());
+        assertTrue(docs.isEmpty());
+        assertTrue(feature.isEmpty());
+        assertEquals(1, otherProject.size());
+        assertEquals(2L, (long) otherProject.get(0).getProjectId());
+
+        System.out.println("✅ Global rule with file filter test passed");
+    }
+
+    @Test
+    void testBranchPatterns() {
+        // Given
+        matcher.replaceAll(Arrays.asList(
+                rule(1L, 1L, "{\"eventType\":\"push\",\"branchFilter\":[\"release/*\"],\"pipelineIds\":[11]}"),
+                rule(2L, 1L, "{\"eventType\":\"push\",\"branchFilter\":[\"hotfix/**\"],\"pipelineIds\":[12]}"),
+                rule(3L, 2L, "{\"eventType\":\"push\",\"branchFilter\":[\"feat-*-v?\"]}")));
+
+        // Then
+        assertEquals(1, resolve(push(1L, "release/1.0", null)).size());
+        assertTrue(resolve(push(1L, "release/1.0/rc", null)).isEmpty());
+        assertEquals(12L, (long) resolve(push(1L, "hotfix/a/b", null)).get(0).getPipelineId());
+        assertEquals(1, resolve(push(2L, "feat-login-v2", null)).size());
+        assertTrue(resolve(push(2L, "feat-login-v10", null)).isEmpty());
+        assertTrue(resolve(push(2L, "release/1.0", null)).isEmpty());
+
+        System.out.println("✅ Branch patterns test passed");
+    }
+
+    @Test
+    void testRepositoryScopeAndAction() {
+        // Given
+        matcher.replaceAll(Arrays.asList(
+                rule(1L, 1L, "{\"repository\":\"git@github.com:acme/shop.git\",\"eventSource\":\"GITHUB\"}"),
+                rule(2L, 2L, "{\"eventSource\":\"GITLAB\",\"eventType\":\"merge_request\","
+                        + "\"actionFilter\":[\"open\",\"merge\"],\"targetBranchFilter\":[\"main\"]}")));
+
+        // When
+        TriggerEvent fromRepo = new TriggerEvent(null, "https://github.com/Acme/shop", "github", "push", "any",
+                null, null);
+        TriggerEvent opened = new TriggerEvent(2L, null, "GITLAB", "merge_request", "main", "open", null);
+        TriggerEvent closed = new TriggerEvent(2L, null, "GITLAB", "merge_request", "main", "close", null);
+
+        // Then
+        List<TriggeredPipeline> repo = resolve(fromRepo);
+        assertEquals(2, repo.size());
+        assertEquals(1L, (long) repo.get(0).getProjectId());
+        assertEquals(1, resolve(opened).size());
+        assertTrue(resolve(closed).isEmpty());
+
+        System.out.println("✅ Repository scope and action test passed");
+    }
+
+    @Test
+    void testIncrementalUpdate() {
+        // Given
+        matcher.replaceAll(Arrays.asList(
+                rule(1L, 1L, "{\"eventType\":\"push\",\"branchFilter\":[\"main\"]}"),
+                rule(2L, 2L, "{\"eventType\":\"push\",\"branchFilter\":[\"main\"]}")));
+
+        // When
+        matcher.replaceProject(1L, Collections.singletonList(
+                rule(3L, 1L, "{\"eventType\":\"push\",\"branchFilter\":[\"develop\"]}")));
+        matcher.put(rule(2L, 2L, "{\"eventType\":\"push\",\"autoTrigger\":false}"));
+
+        // Then
+        assertEquals(1, matcher.size());
+        assertTrue(resolve(push(1L, "main", null)).isEmpty());
+        assertEquals(3L, (long) resolve(push(1L, "develop", null)).get(0).getConfigId());
+        assertTrue(resolve(push(2L, "main", null)).isEmpty());
+
+        matcher.remove(3L);
+        assertEquals(0, matcher.size());
+        assertEquals(0, matcher.bucketCount());
+
+        System.out.println("✅ Incremental update test passed");
+    }
+
+    @Test
+    void testPipelinesLoadedPerEvent() {
+        // Given
+        matcher.replaceAll(Arrays.asList(
+                rule(1L, 1L, "{\"eventType\":\"push\",\"branchFilter\":[\"main\"],\"pipelineIds\":[11]}"),
+                rule(2L, 1L, "{\"eventType\":\"push\",\"branchFilter\":[\"main\"]}")));
+
+        // When
+        List<TriggeredPipeline> before = resolve(push(1L, "main", null));
+        pipelines.put(1L, Arrays.asList(13L, 11L));
+        List<TriggeredPipeline> after = resolve(push(1L, "main", null));
+
+        // Then
+        assertEquals(2, before.size());
+        assertEquals(Arrays.asList(1L, 1L), loadedProjects);
+        assertEquals(2, after.size());
+        assertEquals(13L, (long) after.get(after.size() - 1).getPipelineId());
+
+        System.out.println("✅ Pipelines loaded per event test passed");
+    }
+
+    private List<TriggeredPipeline> resolve(TriggerEvent event) {
+        return matcher.resolve(event, projectId -> {
+            loadedProjects.add(projectId);
+            return pipelines.get(projectId);
+        });
+    }
+
+    private static TriggerRule rule(Long configId, Long projectId, String json) {
+        return TriggerRule.parse(configId, projectId, "rule-" + configId, json);
+    }
+
+    private static TriggerEvent push(Long projectId, String branch, String file) {
+        return new TriggerEvent(projectId, null, "GITHUB", "push", branch, null,
+                file == null ? null : Collections.singletonList(file));
+    }
+}
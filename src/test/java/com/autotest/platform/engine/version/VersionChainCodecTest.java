@@ -0,0 +1,138 @@
+package com.autotest.platform.engine.version;
+
+import com.autotest.platform.domain.testcase.TestCaseVersion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 用例版本差异链测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class VersionChainCodecTest {
+
+    @Test
+    void testDeltaRoundTrip() {
+        // Given
+        String base = steps(50, -1);
+        String target = steps(50, 17);
+
+        // When
+        String delta = TextDelta.encode(base, target, 100);
+
+        // Then
+        assertNotNull(delta);
+        assertTrue(delta.length() < target.length() / 10);
+        assertEquals(target, TextDelta.apply(base, delta));
+        assertNull(TextDelta.encode("", target, 3));
+
+        System.out.println("✅ Delta round trip test passed");
+    }
+
+    @Test
+    void testChainSnapshotsAndMaterialize() {
+        // Given
+        VersionChainCodec codec = new VersionChainCodec(4, 0.5, 1000);
+        List<TestCaseVersion> contents = new ArrayList<>();
+        List<TestCaseVersion> rows = new ArrayList<>();
+        TestCaseVersion previous = null;
+
+        // When
+        for (int i = 1; i <= 9; i++) {
+            TestCaseVersion next = version(i, steps(40, i), "期望" + (i / 3));
+            TestCaseVersion stored = codec.encode(previous, next);
+            contents.add(next);
+            rows.add(stored);
+            previous = codec.materialize(rows).get(rows.size() - 1);
+        }
+        List<TestCaseVersion> restored = codec.materialize(rows);
+
+        // Then
+        assertEquals(TestCaseVersion.STORAGE_FULL, rows.get(0).getStorageType());
+        assertEquals(TestCaseVersion.STORAGE_DELTA, rows.get(1).getStorageType());
+        assertEquals(TestCaseVersion.STORAGE_FULL, rows.get(4).getStorageType());
+        assertEquals(TestCaseVersion.STORAGE_FULL, rows.get(8).getStorageType());
+        assertEquals(Integer.valueOf(5), rows.get(7).getSnapshotVersion());
+        for (int i = 0; i < contents.size(); i++) {
+            assertEquals(contents.get(i).getTestSteps(), restored.get(i).getTestSteps());
+            assertEquals(contents.get(i).getExpectedResult(), restored.get(i).getExpectedResult());
+        }
+
+        System.out.println("✅ Chain snapshots and materialize test passed");
+    }
+
+    @Test
+    void testLargeChangeStoresFullAndMissingBaseFails() {
+        // Given
+        VersionChainCodec codec = new VersionChainCodec(10, 0.5, 1000);
+        TestCaseVersion first = codec.encode(null, version(1, steps(20, -1), "期望"));
+        TestCaseVersion second = codec.encode(first, version(2, "{\"rewritten\":true}", "期望"));
+        TestCaseVersion third = codec.encode(first, version(2, steps(20, 3), "期望"));
+        List<TestCaseVersion> orphan = new ArrayList<>();
+        orphan.add(third);
+
+        // Then
+        assertEquals(TestCaseVersion.STORAGE_FULL, second.getStorageType());
+        assertEquals(Integer.valueOf(2), second.getSnapshotVersion());
+        assertTrue(third.isDelta());
+        assertThrows(IllegalStateException.class, () -> codec.materialize(orphan));
+
+        System.out.println("✅ Large change and missing base test passed");
+    }
+
+    @Test
+    void testDiffUsesStoredDelta() {
+        // Given
+        VersionChainCodec codec = new VersionChainCodec(10, 0.5, 1000);
+        TestCaseVersion first = codec.encode(null, version(1, steps(30, -1), null));
+        TestCaseVersion second = codec.encode(first, version(2, steps(30, 5), null));
+        List<TestCaseVersion> rows = new ArrayList<>();
+        rows.add(first);
+        rows.add(second);
+
+        // When
+        VersionDiff diff = codec.diff(rows, 1, 2);
+
+        // Then
+        assertTrue(second.isDelta());
+        assertNull(second.getExpectedResult());
+        assertTrue(diff.getExpectedResult().isEmpty());
+        StringBuilder inserted = new StringBuilder();
+        for (DeltaOp op : diff.getTestSteps()) {
+            if (op.getType() == DeltaOp.INSERT) {
+                inserted.append(op.getText());
+            }
+        }
+        assertTrue(inserted.toString().contains("修改5"));
+        assertFalse(diff.isTitleChanged());
+
+        System.out.println("✅ Diff uses stored delta test passed");
+    }
+
+    private static TestCaseVersion version(int number, String steps, String expected) {
+        TestCaseVersion version = new TestCaseVersion();
+        version.setCaseId(1L);
+        version.setVersionNumber(number);
+        version.setCaseTitle("登录用例");
+        version.setTestSteps(steps);
+        version.setExpectedResult(expected);
+        return version;
+    }
+
+    private static String steps(int count, int changed) {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(",\n");
+            }
+            sb.append("{\"step\":").append(i).append(",\"action\":\"点击按钮").append(i)
+                    .append(i == changed % count ? "修改" + changed : "").append("\"}");
+        }
+        return sb.append("]").toString();
+    }
+}
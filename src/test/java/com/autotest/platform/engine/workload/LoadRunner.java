@@ -0,0 +1,201 @@
+package com.autotest.platform.engine.workload;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 负载执行器
+ * <p>
+ * 每个虚拟用户一个线程，耗时记录在线程私有数组中，结束后合并计算精确百分位，运行期间线程间只共享操作序号。
+ * 单线程最多保留 {@link #MAX_SAMPLES_PER_WORKER} 个样本，超出后按蓄水池抽样替换。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class LoadRunner {
+
+    static final int MAX_SAMPLES_PER_WORKER = 200_000;
+
+    /**
+     * 运行场景
+     *
+     * @param scenario 场景
+     * @param statementCounter SQL语句累计数，为null时不统计
+     * @return 结果
+     */
+    public ScenarioResult run(LoadScenario scenario, LongSupplier statementCounter) throws InterruptedException {
+        if (scenario.getWarmupMillis() > 0) {
+            execute(scenario, scenario.getWarmupMillis(), 0L);
+        }
+        long statementsBefore = statementCounter == null ? 0L : statementCounter.getAsLong();
+        RunState state = execute(scenario, scenario.getDurationMillis(), scenario.getMaxOperations());
+        long statements = statementCounter == null ? -1L : statementCounter.getAsLong() - statementsBefore;
+
+        long total = 0L;
+        for (Worker worker : state.workers) {
+            total += Math.min(worker.count, MAX_SAMPLES_PER_WORKER);
+        }
+        long[] merged = new long[(int) total];
+        int offset = 0;
+        long errors = 0L;
+        long operations = 0L;
+        for (Worker worker : state.workers) {
+            int size = (int) Math.min(worker.count, MAX_SAMPLES_PER_WORKER);
+            System.arraycopy(worker.samples, 0, merged, offset, size);
+            offset += size;
+            errors += worker.errors;
+            operations += worker.count;
+        }
+        Arrays.sort(merged);
+        return new ScenarioResult(scenario.getName(), scenario.getConcurrency(), operations, errors, state.elapsedMillis,
+                percentile(merged, 0.50), percentile(merged, 0.90), percentile(merged, 0.99),
+                merged.length == 0 ? 0 : merged[merged.length - 1] / 1_000_000.0, statements, state.firstError.get());
+    }
+
+    private RunState execute(LoadScenario scenario, long durationMillis, long maxOperations) throws InterruptedException {
+        RunState state = new RunState(scenario.getConcurrency());
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        long limit = maxOperations > 0 ? maxOperations : Long.MAX_VALUE;
+        double intervalNanos = scenario.isOpenLoop() ? 1_000_000_000.0 / scenario.getRatePerSecond() : 0;
+        CountDownLatch done = new CountDownLatch(scenario.getConcurrency());
+        List<Thread> threads = new ArrayList<>(scenario.getConcurrency());
+        for (int i = 0; i < scenario.getConcurrency(); i++) {
+            Worker worker = state.workers[i];
+            int workerId = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    while (true) {
+                        long sequence = state.sequence.getAndIncrement();
+                        if (sequence >= limit) {
+                            break;
+                        }
+                        long due = scenario.isOpenLoop() ? start + (long) (sequence * intervalNanos) : System.nanoTime();
+                        if (due >= deadline) {
+                            break;
+                        }
+                        if (scenario.isOpenLoop() && !sleepUntil(due)) {
+                            break;
+                        }
+                        boolean failed = false;
+                        try {
+                            scenario.getOperation().execute(workerId, sequence);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            break;
+                        } catch (Exception e) {
+                            failed = true;
+                            state.firstError.compareAndSet(null, e.getClass().getSimpleName() + ": " + e.getMessage());
+                        }
+                        worker.record(System.nanoTime() - due, failed);
+                    }
+                } finally {
+                    done.countDown();
+                }
+            }, "load-" + scenario.getName() + "-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        // 单次操作卡死时最多再等一个场景时长
+        if (!done.await(durationMillis * 2 + 10_000L, TimeUnit.MILLISECONDS)) {
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+            done.await(5, TimeUnit.SECONDS);
+        }
+        state.elapsedMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return state;
+    }
+
+    private static boolean sleepUntil(long due) {
+        long wait = due - System.nanoTime();
+        if (wait <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))] / 1_000_000.0;
+    }
+
+    private static final class RunState {
+
+        private final Worker[] workers;
+
+        private final AtomicLong sequence = new AtomicLong();
+
+        private final AtomicReference<String> firstError = new AtomicReference<>();
+
+        private long elapsedMillis;
+
+        private RunState(int concurrency) {
+            workers = new Worker[concurrency];
+            for (int i = 0; i < concurrency; i++) {
+                workers[i] = new Worker(i);
+            }
+        }
+    }
+
+    /**
+     * 虚拟用户的样本，只被所属线程写入
+     */
+    private static final class Worker {
+
+        private long[] samples = new long[1024];
+
+        private long count;
+
+        private long errors;
+
+        private long randomState;
+
+        private Worker(int id) {
+            randomState = 0x9E3779B97F4A7C15L * (id + 1);
+        }
+
+        private void record(long nanos, boolean failed) {
+            if (failed) {
+                errors++;
+            }
+            if (count < MAX_SAMPLES_PER_WORKER) {
+                if (count == samples.length) {
+                    samples = Arrays.copyOf(samples, (int) Math.min(MAX_SAMPLES_PER_WORKER, samples.length * 2L));
+                }
+                samples[(int) count] = nanos;
+            } else {
+                long slot = Math.floorMod(nextRandom(), count + 1);
+                if (slot < MAX_SAMPLES_PER_WORKER) {
+                    samples[(int) slot] = nanos;
+                }
+            }
+            count++;
+        }
+
+        private long nextRandom() {
+            randomState ^= randomState << 13;
+            randomState ^= randomState >>> 7;
+            randomState ^= randomState << 17;
+            return randomState;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.autotest.platform.engine.workload;
+
+/**
+ * 负载场景
+ * <p>
+ * 闭环场景：固定并发数，每个虚拟用户完成一次操作后立即发起下一次，用于轮询、执行等受并发约束的负载；
+ * 开环场景：按固定速率到达，与处理快慢无关，用于Webhook风暴等突发负载，耗时从计划到达时间算起，
+ * 处理不过来时排队时间计入耗时。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class LoadScenario {
+
+    /**
+     * 单次操作
+     */
+    public interface Operation {
+
+        /**
+         * 执行一次操作，抛出异常计为失败
+         *
+         * @param worker 虚拟用户序号
+         * @param sequence 操作序号，场景内全局递增
+         */
+        void execute(int worker, long sequence) throws Exception;
+    }
+
+    private final String name;
+
+    private final int concurrency;
+
+    private final long durationMillis;
+
+    /** 到达速率(次/秒)，0 表示闭环 */
+    private final double ratePerSecond;
+
+    private final Operation operation;
+
+    /** 最多执行次数，0 表示不限，到达次数或时长任一条件即结束 */
+    private long maxOperations;
+
+    /** 预热时长(毫秒)，预热期内的操作不计入结果 */
+    private long warmupMillis;
+
+    private LoadScenario(String name, int concurrency, long durationMillis, double ratePerSecond, Operation operation) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("并发数必须大于0");
+        }
+        this.name = name;
+        this.concurrency = concurrency;
+        this.durationMillis = durationMillis;
+        this.ratePerSecond = ratePerSecond;
+        this.operation = operation;
+    }
+
+    /**
+     * 闭环场景
+     */
+    public static LoadScenario closedLoop(String name, int concurrency, long durationMillis, Operation operation) {
+        return new LoadScenario(name, concurrency, durationMillis, 0, operation);
+    }
+
+    /**
+     * 开环场景
+     *
+     * @param concurrency 处理线程数上限
+     */
+    public static LoadScenario openLoop(String name, double ratePerSecond, int concurrency, long durationMillis,
+                                        Operation operation) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("到达速率必须大于0");
+        }
+        return new LoadScenario(name, concurrency, durationMillis, ratePerSecond, operation);
+    }
+
+    public LoadScenario maxOperations(long maxOperations) {
+        this.maxOperations = maxOperations;
+        return this;
+    }
+
+    public LoadScenario warmup(long warmupMillis) {
+        this.warmupMillis = warmupMillis;
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public long getMaxOperations() {
+        return maxOperations;
+    }
+
+    public long getWarmupMillis() {
+        return warmupMillis;
+    }
+
+    public boolean isOpenLoop() {
+        return ratePerSecond > 0;
+    }
+}
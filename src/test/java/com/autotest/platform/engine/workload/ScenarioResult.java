@@ -0,0 +1,115 @@
+package com.autotest.platform.engine.workload;
+
+/**
+ * 场景运行结果
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class ScenarioResult {
+
+    private final String scenario;
+
+    private final int concurrency;
+
+    private final long operations;
+
+    private final long errors;
+
+    private final long elapsedMillis;
+
+    private final double p50Millis;
+
+    private final double p90Millis;
+
+    private final double p99Millis;
+
+    private final double maxMillis;
+
+    /** 场景期间执行的SQL语句数，未提供计数器时为 -1 */
+    private final long statements;
+
+    private final String firstError;
+
+    public ScenarioResult(String scenario, int concurrency, long operations, long errors, long elapsedMillis,
+                          double p50Millis, double p90Millis, double p99Millis, double maxMillis, long statements,
+                          String firstError) {
+        this.scenario = scenario;
+        this.concurrency = concurrency;
+        this.operations = operations;
+        this.errors = errors;
+        this.elapsedMillis = elapsedMillis;
+        this.p50Millis = p50Millis;
+        this.p90Millis = p90Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+        this.statements = statements;
+        this.firstError = firstError;
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public long getOperations() {
+        return operations;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * 吞吐量(次/秒)，含失败
+     */
+    public double getThroughput() {
+        return elapsedMillis == 0 ? 0 : operations * 1000.0 / elapsedMillis;
+    }
+
+    public double getErrorRate() {
+        return operations == 0 ? 0 : (double) errors / operations;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP90Millis() {
+        return p90Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public long getStatements() {
+        return statements;
+    }
+
+    public double getStatementsPerOperation() {
+        return operations == 0 || statements < 0 ? 0 : (double) statements / operations;
+    }
+
+    public String getFirstError() {
+        return firstError;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: ops=%d errors=%d throughput=%.1f/s p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms"
+                        + " statements=%d (%.1f/op)", scenario, operations, errors, getThroughput(), p50Millis, p90Millis,
+                p99Millis, maxMillis, statements, getStatementsPerOperation());
+    }
+}
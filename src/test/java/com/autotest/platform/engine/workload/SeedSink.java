@@ -0,0 +1,21 @@
+package com.autotest.platform.engine.workload;
+
+import java.util.List;
+
+/**
+ * 合成数据写入目标
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public interface SeedSink {
+
+    /**
+     * 批量写入
+     *
+     * @param table 表名
+     * @param columns 列名
+     * @param rows 行，值与列一一对应
+     */
+    void insert(String table, String[] columns, List<Object[]> rows);
+}
@@ -0,0 +1,218 @@
+package com.autotest.platform.engine.workload;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 合成数据生成器
+ * <p>
+ * 按 {@link WorkloadSpec} 生成项目、两级分类树、用例(含 test_steps JSON)和调度，主键从1连续分配，
+ * 相同种子生成完全相同的数据，便于不同版本间对比容量结果。用例类型按 API 60%、WEB_UI 25%、
+ * UNIT 10%、PERFORMANCE 5% 分布。
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class SyntheticDataGenerator {
+
+    public static final String[] PROJECT_COLUMNS = {"id", "project_id", "project_name", "project_desc", "status",
+            "tenant_id", "create_by", "create_time", "del_flag"};
+
+    public static final String[] CATEGORY_COLUMNS = {"category_id", "project_id", "category_name", "parent_id",
+            "ancestors", "order_num", "create_by", "create_time"};
+
+    public static final String[] CASE_COLUMNS = {"case_id", "project_id", "category_id", "case_title", "case_code",
+            "case_type", "priority", "test_steps", "status", "version", "author_id", "create_by", "create_time",
+            "del_flag"};
+
+    public static final String[] SCHEDULE_COLUMNS = {"schedule_id", "schedule_name", "project_id", "schedule_type",
+            "cron_expression", "status", "next_execute_time", "case_ids", "environment_id", "create_by", "create_time"};
+
+    public static final String[] WEBHOOK_COLUMNS = {"event_id", "event_type", "event_source", "repository_url",
+            "branch", "commit_sha", "commit_message", "author", "payload", "status", "project_id", "create_time"};
+
+    private static final String[] ACTIONS = {"open", "click", "input", "assert", "wait", "request", "sql"};
+
+    private static final String[] PRIORITIES = {"HIGH", "MEDIUM", "MEDIUM", "LOW"};
+
+    private static final String[] BRANCHES = {"main", "develop", "release/2.1", "feature/login", "feature/pay"};
+
+    private final WorkloadSpec spec;
+
+    private final LocalDateTime baseTime;
+
+    public SyntheticDataGenerator(WorkloadSpec spec, LocalDateTime baseTime) {
+        this.spec = spec;
+        this.baseTime = baseTime;
+    }
+
+    /**
+     * 生成并写入全部数据
+     *
+     * @param sink 写入目标
+     * @return 表名 -> 行数
+     */
+    public Map<String, Long> seed(SeedSink sink) {
+        Random random = new Random(spec.getSeed());
+        Batch projects = new Batch(sink, "test_project", PROJECT_COLUMNS);
+        Batch categories = new Batch(sink, "test_case_category", CATEGORY_COLUMNS);
+        Batch cases = new Batch(sink, "test_case", CASE_COLUMNS);
+        Batch schedules = new Batch(sink, "test_schedule", SCHEDULE_COLUMNS);
+
+        long categoryId = 0L;
+        long caseId = 0L;
+        long scheduleId = 0L;
+        int roots = Math.max(1, (int) Math.sqrt(spec.getCategoriesPerProject()));
+        for (long projectId = 1; projectId <= spec.getProjects(); projectId++) {
+            projects.add(new Object[]{projectId, projectId, "项目-" + projectId, "容量测试项目 " + projectId,
+                    projectId % 10 == 0 ? "1" : "0", projectId % Math.max(1, spec.getTenants()) + 1, "capacity",
+                    baseTime.minusDays(projectId), 0});
+
+            long firstCategory = categoryId + 1;
+            for (int i = 0; i < spec.getCategoriesPerProject(); i++) {
+                categoryId++;
+                long parentId = i < roots ? 0L : firstCategory + (i % roots);
+                categories.add(new Object[]{categoryId, projectId, "分类-" + projectId + "-" + i, parentId,
+                        parentId == 0 ? "0" : "0," + parentId, i, "capacity", baseTime.minusDays(projectId)});
+            }
+
+            long firstCase = caseId + 1;
+            for (int i = 0; i < spec.getCasesPerProject(); i++) {
+                caseId++;
+                long category = spec.getCategoriesPerProject() == 0 ? 0L
+                        : firstCategory + random.nextInt(spec.getCategoriesPerProject());
+                int steps = Math.max(1, spec.getStepsPerCase() / 2 + random.nextInt(spec.getStepsPerCase() + 1));
+                cases.add(new Object[]{caseId, projectId, category, "用例-" + caseId, "TC" + caseId,
+                        caseType(random), PRIORITIES[random.nextInt(PRIORITIES.length)], testSteps(random, steps),
+                        random.nextInt(10) == 0 ? "DRAFT" : "ACTIVE", 1 + random.nextInt(5), 1L, "capacity",
+                        baseTime.minusHours(caseId % 2000), 0});
+            }
+
+            for (int i = 0; i < spec.getSchedulesPerProject(); i++) {
+                scheduleId++;
+                StringBuilder caseIds = new StringBuilder();
+                int picked = Math.min(spec.getCasesPerProject(), 50);
+                for (int c = 0; c < picked; c++) {
+                    if (c > 0) {
+                        caseIds.append(',');
+                    }
+                    caseIds.append(firstCase + random.nextInt(Math.max(1, spec.getCasesPerProject())));
+                }
+                schedules.add(new Object[]{scheduleId, "调度-" + scheduleId, projectId, "CRON",
+                        "0 " + random.nextInt(60) + " " + random.nextInt(24) + " * * ?", "ENABLED",
+                        baseTime.plusMinutes(random.nextInt(24 * 60)), caseIds.toString(), 1L, "capacity", baseTime});
+            }
+        }
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("test_project", projects.finish());
+        counts.put("test_case_category", categories.finish());
+        counts.put("test_case", cases.finish());
+        counts.put("test_schedule", schedules.finish());
+        return counts;
+    }
+
+    /**
+     * 生成一条推送事件，列与 {@link #WEBHOOK_COLUMNS} 对应
+     *
+     * @param eventId 事件ID
+     * @param time 接收时间
+     * @return 行
+     */
+    public Object[] webhookEvent(long eventId, LocalDateTime time) {
+        Random random = new Random(spec.getSeed() ^ eventId);
+        long projectId = 1 + random.nextInt(Math.max(1, spec.getProjects()));
+        String branch = BRANCHES[random.nextInt(BRANCHES.length)];
+        String sha = Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong());
+        StringBuilder payload = new StringBuilder(2048).append("{\"ref\":\"refs/heads/").append(branch)
+                .append("\",\"after\":\"").append(sha).append("\",\"repository\":{\"id\":").append(projectId)
+                .append(",\"url\":\"https://git.example.com/team/project-").append(projectId).append("\"},\"commits\":[");
+        int commits = 1 + random.nextInt(5);
+        for (int i = 0; i < commits; i++) {
+            if (i > 0) {
+                payload.append(',');
+            }
+            payload.append("{\"id\":\"").append(Long.toHexString(random.nextLong())).append("\",\"message\":\"fix: 调整模块")
+                    .append(random.nextInt(100)).append("\",\"modified\":[\"src/main/java/com/example/module")
+                    .append(random.nextInt(50)).append("/Service.java\",\"src/main/resources/mapper/Module")
+                    .append(random.nextInt(50)).append("Mapper.xml\"]}");
+        }
+        payload.append("]}");
+        return new Object[]{eventId, "push", "GITLAB", "https://git.example.com/team/project-" + projectId, branch,
+                sha, "fix: 调整模块", "developer" + random.nextInt(20), payload.toString(), "PENDING", projectId, time};
+    }
+
+    private static String caseType(Random random) {
+        int value = random.nextInt(100);
+        if (value < 60) {
+            return "API";
+        }
+        if (value < 85) {
+            return "WEB_UI";
+        }
+        return value < 95 ? "UNIT" : "PERFORMANCE";
+    }
+
+    private static String testSteps(Random random, int steps) {
+        StringBuilder sb = new StringBuilder(steps * 180).append('[');
+        for (int i = 0; i < steps; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            String action = ACTIONS[random.nextInt(ACTIONS.length)];
+            sb.append("{\"stepNo\":").append(i + 1)
+                    .append(",\"action\":\"").append(action).append('"')
+                    .append(",\"locator\":\"//div[@id='node-").append(random.nextInt(10000)).append("']\"")
+                    .append(",\"value\":\"${var_").append(random.nextInt(50)).append("}\"")
+                    .append(",\"timeout\":").append(1000 + random.nextInt(9000))
+                    .append(",\"expected\":\"ok\"}");
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * 攒批写入
+     */
+    private final class Batch {
+
+        private final SeedSink sink;
+
+        private final String table;
+
+        private final String[] columns;
+
+        private final List<Object[]> rows = new ArrayList<>();
+
+        private long total;
+
+        private Batch(SeedSink sink, String table, String[] columns) {
+            this.sink = sink;
+            this.table = table;
+            this.columns = columns;
+        }
+
+        private void add(Object[] row) {
+            rows.add(row);
+            if (rows.size() >= spec.getBatchSize()) {
+                flush();
+            }
+        }
+
+        private long finish() {
+            flush();
+            return total;
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            sink.insert(table, columns, new ArrayList<>(rows));
+            total += rows.size();
+            rows.clear();
+        }
+    }
+}
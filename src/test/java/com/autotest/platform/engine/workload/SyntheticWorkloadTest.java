@@ -0,0 +1,156 @@
+package com.autotest.platform.engine.workload;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 合成负载测试
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+class SyntheticWorkloadTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2026, 10, 19, 0, 0);
+
+    @Test
+    void testSeedsRequestedVolumesWithConsistentReferences() {
+        // Given
+        WorkloadSpec spec = new WorkloadSpec();
+        spec.setProjects(3);
+        spec.setCategoriesPerProject(9);
+        spec.setCasesPerProject(40);
+        spec.setSchedulesPerProject(2);
+        spec.setBatchSize(16);
+        RecordingSink sink = new RecordingSink();
+
+        // When
+        Map<String, Long> counts = new SyntheticDataGenerator(spec, BASE_TIME).seed(sink);
+
+        // Then
+        assertEquals(3L, (long) counts.get("test_project"));
+        assertEquals(27L, (long) counts.get("test_case_category"));
+        assertEquals(120L, (long) counts.get("test_case"));
+        assertEquals(6L, (long) counts.get("test_schedule"));
+        Set<Object> categoryIds = new HashSet<>();
+        for (Object[] row : sink.rows("test_case_category")) {
+            categoryIds.add(row[0]);
+        }
+        for (Object[] row : sink.rows("test_case")) {
+            assertTrue(categoryIds.contains(row[2]));
+            assertEquals(SyntheticDataGenerator.CASE_COLUMNS.length, row.length);
+            assertTrue(((String) row[7]).startsWith("[{\"stepNo\":1"));
+        }
+        assertTrue(sink.maxBatch <= 16);
+        System.out.println("✅ Seed volume test passed");
+    }
+
+    @Test
+    void testSameSeedGeneratesSameData() {
+        // Given
+        WorkloadSpec spec = new WorkloadSpec();
+        spec.setProjects(2);
+        spec.setCasesPerProject(10);
+        RecordingSink first = new RecordingSink();
+        RecordingSink second = new RecordingSink();
+
+        // When
+        new SyntheticDataGenerator(spec, BASE_TIME).seed(first);
+        new SyntheticDataGenerator(spec, BASE_TIME).seed(second);
+        Object[] event1 = new SyntheticDataGenerator(spec, BASE_TIME).webhookEvent(7L, BASE_TIME);
+        Object[] event2 = new SyntheticDataGenerator(spec, BASE_TIME).webhookEvent(7L, BASE_TIME);
+
+        // Then
+        List<Object[]> cases1 = first.rows("test_case");
+        List<Object[]> cases2 = second.rows("test_case");
+        assertEquals(cases1.size(), cases2.size());
+        for (int i = 0; i < cases1.size(); i++) {
+            assertEquals(cases1.get(i)[7], cases2.get(i)[7]);
+            assertEquals(cases1.get(i)[5], cases2.get(i)[5]);
+        }
+        assertEquals(event1[8], event2[8]);
+        assertEquals(SyntheticDataGenerator.WEBHOOK_COLUMNS.length, event1.length);
+        System.out.println("✅ Deterministic seed test passed");
+    }
+
+    @Test
+    void testClosedLoopCountsOperationsErrorsAndStatements() throws InterruptedException {
+        // Given
+        AtomicLong statements = new AtomicLong();
+        LoadScenario scenario = LoadScenario.closedLoop("polling", 4, 5000L, (worker, sequence) -> {
+            statements.addAndGet(2);
+            if (sequence % 10 == 0) {
+                throw new IllegalStateException("boom");
+            }
+        }).maxOperations(200);
+
+        // When
+        ScenarioResult result = new LoadRunner().run(scenario, statements::get);
+
+        // Then
+        assertEquals(200, result.getOperations());
+        assertEquals(20, result.getErrors());
+        assertEquals(400, result.getStatements());
+        assertEquals(2.0, result.getStatementsPerOperation(), 0.001);
+        assertEquals("IllegalStateException: boom", result.getFirstError());
+        assertTrue(result.getP50Millis() <= result.getP99Millis());
+        System.out.println("✅ Closed loop test passed");
+    }
+
+    @Test
+    void testOpenLoopKeepsArrivalRateAndCountsQueueing() throws InterruptedException {
+        // Given 每次处理20ms，单线程只能处理50次/秒，按200次/秒到达会排队
+        LoadScenario scenario = LoadScenario.openLoop("storm", 200, 1, 500L, (worker, sequence) -> Thread.sleep(20));
+
+        // When
+        ScenarioResult result = new LoadRunner().run(scenario, null);
+
+        // Then 到达时间在时长内的操作都会被处理，排队时间计入耗时
+        assertTrue(result.getOperations() >= 20, "ops=" + result.getOperations());
+        assertTrue(result.getMaxMillis() > 100, "max=" + result.getMaxMillis());
+        assertEquals(-1, result.getStatements());
+        System.out.println("✅ Open loop test passed");
+    }
+
+    @Test
+    void testPercentileUsesNearestRank() {
+        // Given
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = (i + 1) * 1_000_000L;
+        }
+
+        // Then
+        assertEquals(50.0, LoadRunner.percentile(sorted, 0.50), 0.001);
+        assertEquals(99.0, LoadRunner.percentile(sorted, 0.99), 0.001);
+        assertEquals(0.0, LoadRunner.percentile(new long[0], 0.99), 0.001);
+        System.out.println("✅ Percentile test passed");
+    }
+
+    private static final class RecordingSink implements SeedSink {
+
+        private final Map<String, List<Object[]>> tables = new HashMap<>();
+
+        private int maxBatch;
+
+        @Override
+        public void insert(String table, String[] columns, List<Object[]> rows) {
+            maxBatch = Math.max(maxBatch, rows.size());
+            tables.computeIfAbsent(table, k -> new ArrayList<>()).addAll(rows);
+        }
+
+        private List<Object[]> rows(String table) {
+            return tables.getOrDefault(table, new ArrayList<>());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.autotest.platform.engine.workload;
+
+/**
+ * 合成数据规模
+ *
+ * @author autotest
+ * @date 2026-10-19
+ */
+public class WorkloadSpec {
+
+    /** 项目数 */
+    private int projects = 20;
+
+    /** 每个项目的分类数 */
+    private int categoriesPerProject = 30;
+
+    /** 每个项目的用例数 */
+    private int casesPerProject = 500;
+
+    /** 每个项目的调度数 */
+    private int schedulesPerProject = 5;
+
+    /** 每个用例的平均步骤数 */
+    private int stepsPerCase = 12;
+
+    /** 租户数，项目按序分配到各租户 */
+    private int tenants = 4;
+
+    /** 随机种子，相同种子生成相同数据 */
+    private long seed = 20261019L;
+
+    /** 每批写入行数 */
+    private int batchSize = 500;
+
+    public int getProjects() {
+        return projects;
+    }
+
+    public void setProjects(int projects) {
+        this.projects = projects;
+    }
+
+    public int getCategoriesPerProject() {
+        return categoriesPerProject;
+    }
+
+    public void setCategoriesPerProject(int categoriesPerProject) {
+        this.categoriesPerProject = categoriesPerProject;
+    }
+
+    public int getCasesPerProject() {
+        return casesPerProject;
+    }
+
+    public void setCasesPerProject(int casesPerProject) {
+        this.casesPerProject = casesPerProject;
+    }
+
+    public int getSchedulesPerProject() {
+        return schedulesPerProject;
+    }
+
+    public void setSchedulesPerProject(int schedulesPerProject) {
+        this.schedulesPerProject = schedulesPerProject;
+    }
+
+    public int getStepsPerCase() {
+        return stepsPerCase;
+    }
+
+    public void setStepsPerCase(int stepsPerCase) {
+        this.stepsPerCase = stepsPerCase;
+    }
+
+    public int getTenants() {
+        return tenants;
+    }
+
+    public void setTenants(int tenants) {
+        this.tenants = tenants;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+}
@@ -2,6 +2,7 @@ package com.autotest.platform.service.impl;
 
 import com.autotest.platform.domain.project.TestProject;
 import com.autotest.platform.mapper.TestProjectMapper;
+import com.autotest.platform.service.ISequenceService;
 import com.autotest.platform.service.ITestProjectService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,9 @@ class TestProjectServiceImplTest {
     @Mock
     private TestProjectMapper testProjectMapper;
 
+    @Mock
+    private ISequenceService sequenceService;
+
     @InjectMocks
     private TestProjectServiceImpl testProjectService;
 
@@ -90,6 +94,7 @@ class TestProjectServiceImplTest {
         // Then
         assertEquals(1, result);
         verify(testProjectMapper, times(1)).updateById(project);
+        verify(sequenceService, times(1)).evictProjectCode(1L);
         System.out.println("✅ updateTestProject test passed");
     }
 
@@ -105,6 +110,7 @@ class TestProjectServiceImplTest {
         // Then
         assertEquals(1, result);
         verify(testProjectMapper, times(1)).deleteById(projectId);
+        verify(sequenceService, times(1)).evictProjectCode(projectId);
         System.out.println("✅ deleteTestProjectByProjectId test passed");
     }
 
@@ -0,0 +1,160 @@
+-- ----------------------------
+-- 容量测试内嵌库表结构(H2 MySQL模式)
+-- 只保留容量场景和启动过程用到的表与列，列名与实体及Mapper一致
+-- ----------------------------
+
+DROP TABLE IF EXISTS test_project;
+CREATE TABLE test_project (
+  id bigint AUTO_INCREMENT PRIMARY KEY,
+  project_id bigint NOT NULL,
+  project_name varchar(200) NOT NULL,
+  project_desc varchar(500),
+  status char(1) DEFAULT '0',
+  tenant_id bigint,
+  create_by varchar(64) DEFAULT '',
+  create_time datetime,
+  update_by varchar(64) DEFAULT '',
+  update_time datetime,
+  del_flag int DEFAULT 0
+);
+CREATE INDEX idx_project_tenant ON test_project (tenant_id);
+
+DROP TABLE IF EXISTS test_case_category;
+CREATE TABLE test_case_category (
+  category_id bigint AUTO_INCREMENT PRIMARY KEY,
+  project_id bigint NOT NULL,
+  category_name varchar(100) NOT NULL,
+  parent_id bigint DEFAULT 0,
+  ancestors varchar(500) DEFAULT '',
+  order_num int DEFAULT 0,
+  leader varchar(20),
+  create_by varchar(64) DEFAULT '',
+  create_time datetime,
+  update_by varchar(64) DEFAULT '',
+  update_time datetime
+);
+CREATE INDEX idx_category_project ON test_case_category (project_id);
+
+DROP TABLE IF EXISTS test_case;
+CREATE TABLE test_case (
+  case_id bigint AUTO_INCREMENT PRIMARY KEY,
+  project_id bigint NOT NULL,
+  category_id bigint NOT NULL,
+  case_title varchar(200) NOT NULL,
+  case_code varchar(50) NOT NULL,
+  case_type varchar(20) NOT NULL,
+  priority varchar(10) DEFAULT 'MEDIUM',
+  preconditions text,
+  test_steps longtext,
+  expected_result text,
+  tags varchar(500),
+  status varchar(20) DEFAULT 'DRAFT',
+  version int DEFAULT 1,
+  author_id bigint NOT NULL,
+  create_by varchar(64) DEFAULT '',
+  create_time datetime,
+  update_by varchar(64) DEFAULT '',
+  update_time datetime,
+  del_flag int DEFAULT 0
+);
+CREATE INDEX idx_case_project ON test_case (project_id);
+CREATE INDEX idx_case_category ON test_case (category_id);
+
+DROP TABLE IF EXISTS test_schedule;
+CREATE TABLE test_schedule (
+  schedule_id bigint AUTO_INCREMENT PRIMARY KEY,
+  schedule_name varchar(200) NOT NULL,
+  project_id bigint NOT NULL,
+  schedule_type varchar(20) NOT NULL,
+  cron_expression varchar(100),
+  status varchar(20) DEFAULT 'ENABLED',
+  last_execute_time datetime,
+  next_execute_time datetime,
+  execute_count int DEFAULT 0,
+  case_ids text,
+  environment_id bigint,
+  create_by varchar(64) DEFAULT '',
+  create_time datetime,
+  update_by varchar(64) DEFAULT '',
+  update_time datetime
+);
+CREATE INDEX idx_schedule_status_next_time ON test_schedule (status, next_execute_time);
+
+DROP TABLE IF EXISTS test_execution;
+CREATE TABLE test_execution (
+  execution_id bigint AUTO_INCREMENT PRIMARY KEY,
+  execution_code varchar(50) NOT NULL,
+  project_id bigint NOT NULL,
+  execution_name varchar(200) NOT NULL,
+  execution_type varchar(20) NOT NULL,
+  status varchar(20) DEFAULT 'PENDING',
+  planned_start_time datetime,
+  actual_start_time datetime,
+  actual_end_time datetime,
+  total_cases int DEFAULT 0,
+  create_time datetime DEFAULT CURRENT_TIMESTAMP,
+  update_time datetime
+);
+CREATE INDEX idx_execution_status ON test_execution (status);
+CREATE INDEX idx_execution_create_time ON test_execution (create_time);
+CREATE INDEX idx_execution_actual_start ON test_execution (actual_start_time);
+
+DROP TABLE IF EXISTS test_execution_case;
+CREATE TABLE test_execution_case (
+  execution_case_id bigint AUTO_INCREMENT PRIMARY KEY,
+  execution_id bigint NOT NULL,
+  case_id bigint NOT NULL,
+  status varchar(20) DEFAULT 'PENDING',
+  start_time datetime,
+  end_time datetime,
+  duration bigint,
+  error_message text,
+  step_results longtext,
+  retry_count int DEFAULT 0,
+  executor_node varchar(100),
+  create_time datetime DEFAULT CURRENT_TIMESTAMP,
+  update_time datetime
+);
+CREATE INDEX idx_execution_case_status ON test_execution_case (execution_id, status);
+CREATE INDEX idx_execution_case_case ON test_execution_case (case_id);
+
+DROP TABLE IF EXISTS webhook_event;
+CREATE TABLE webhook_event (
+  event_id bigint AUTO_INCREMENT PRIMARY KEY,
+  event_type varchar(100) NOT NULL,
+  event_source varchar(50) NOT NULL,
+  repository_url varchar(500),
+  branch varchar(200),
+  commit_sha varchar(100),
+  commit_message text,
+  author varchar(100),
+  tag varchar(100),
+  payload longtext,
+  status varchar(20) DEFAULT 'PENDING',
+  processing_time int,
+  triggered_execution_id bigint,
+  project_id bigint,
+  create_time datetime DEFAULT CURRENT_TIMESTAMP,
+  update_time datetime
+);
+CREATE INDEX idx_event_status ON webhook_event (status);
+
+DROP TABLE IF EXISTS sys_sequence;
+CREATE TABLE sys_sequence (
+  seq_key varchar(128) PRIMARY KEY,
+  next_value bigint NOT NULL DEFAULT 1,
+  update_time datetime
+);
+
+DROP TABLE IF EXISTS trigger_config;
+CREATE TABLE trigger_config (
+  config_id bigint AUTO_INCREMENT PRIMARY KEY,
+  project_id bigint NOT NULL,
+  trigger_type varchar(50) NOT NULL,
+  config_name varchar(100) NOT NULL,
+  config_json longtext NOT NULL,
+  is_enabled tinyint NOT NULL DEFAULT 1,
+  create_time datetime DEFAULT CURRENT_TIMESTAMP,
+  update_time datetime DEFAULT CURRENT_TIMESTAMP
+);
+CREATE UNIQUE INDEX uk_trigger_config ON trigger_config (project_id, trigger_type, config_name);